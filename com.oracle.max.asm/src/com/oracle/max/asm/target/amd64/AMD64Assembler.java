@@ -356,6 +356,72 @@ public class AMD64Assembler extends AbstractAssembler {
         emitInt(0); // 32-bits offset (4 bytes)
     }
 
+    /**
+     * Emits a packed SSE instruction of the form {@code [prefix] 0F op /r} with two XMM register operands.
+     *
+     * @param prefix the mandatory prefix byte of the instruction or 0 if it has none
+     */
+    private void emitPackedOp(int prefix, int op, CiRegister dst, CiRegister src) {
+        assert dst.isFpu() && src.isFpu();
+        if (prefix != 0) {
+            emitByte(prefix);
+        }
+        int encode = prefixAndEncode(dst.encoding, src.encoding);
+        emitByte(0x0F);
+        emitByte(op);
+        emitByte(0xC0 | encode);
+    }
+
+    /**
+     * Emits a packed SSE instruction of the form {@code [prefix] 0F 38 op /r} with two XMM register operands.
+     *
+     * @param prefix the mandatory prefix byte of the instruction or 0 if it has none
+     */
+    private void emitPackedOp38(int prefix, int op, CiRegister dst, CiRegister src) {
+        assert dst.isFpu() && src.isFpu();
+        if (prefix != 0) {
+            emitByte(prefix);
+        }
+        int encode = prefixAndEncode(dst.encoding, src.encoding);
+        emitByte(0x0F);
+        emitByte(0x38);
+        emitByte(op);
+        emitByte(0xC0 | encode);
+    }
+
+    /**
+     * Emits a packed SSE instruction of the form {@code [prefix] 0F 3A op /r ib} with two XMM register operands.
+     *
+     * @param prefix the mandatory prefix byte of the instruction or 0 if it has none
+     */
+    private void emitPackedOp3A(int prefix, int op, CiRegister dst, CiRegister src, int imm8) {
+        assert dst.isFpu() && src.isFpu();
+        assert isUByte(imm8) : "invalid value";
+        if (prefix != 0) {
+            emitByte(prefix);
+        }
+        int encode = prefixAndEncode(dst.encoding, src.encoding);
+        emitByte(0x0F);
+        emitByte(0x3A);
+        emitByte(op);
+        emitByte(0xC0 | encode);
+        emitByte(imm8);
+    }
+
+    /**
+     * Emits a packed SSE2 shift of the form {@code 66 0F op /digit ib} of an XMM register by an immediate.
+     */
+    private void emitPackedShift(int op, int digit, CiRegister dst, int imm8) {
+        assert dst.isFpu();
+        assert isUByte(imm8) : "invalid value";
+        emitByte(0x66);
+        int encode = prefixAndEncode(digit, dst.encoding);
+        emitByte(0x0F);
+        emitByte(op);
+        emitByte(0xC0 | encode);
+        emitByte(imm8);
+    }
+
     public final void addsd(CiRegister dst, CiRegister src) {
         assert dst.isFpu() && src.isFpu();
         emitByte(0xF2);
@@ -392,6 +458,41 @@ public class AMD64Assembler extends AbstractAssembler {
         emitOperandHelper(dst, src);
     }
 
+    /**
+     * Requires AES-NI.
+     */
+    public final void aesdec(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0xDE, dst, src);
+    }
+
+    /**
+     * Requires AES-NI.
+     */
+    public final void aesdeclast(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0xDF, dst, src);
+    }
+
+    /**
+     * Requires AES-NI.
+     */
+    public final void aesenc(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0xDC, dst, src);
+    }
+
+    /**
+     * Requires AES-NI.
+     */
+    public final void aesenclast(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0xDD, dst, src);
+    }
+
+    /**
+     * Requires AES-NI.
+     */
+    public final void aesimc(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0xDB, dst, src);
+    }
+
     public final void andl(CiRegister dst, int imm32) {
         prefix(dst);
         emitArith(0x81, 0xE0, dst, imm32);
@@ -1579,6 +1680,64 @@ public class AMD64Assembler extends AbstractAssembler {
         emitOperandHelper(rcx, src); // 1, src
     }
 
+    public final void paddd(CiRegister dst, CiRegister src) {
+        emitPackedOp(0x66, 0xFE, dst, src);
+    }
+
+    /**
+     * Requires SSSE3.
+     */
+    public final void palignr(CiRegister dst, CiRegister src, int shift) {
+        emitPackedOp3A(0x66, 0x0F, dst, src, shift);
+    }
+
+    public final void pand(CiRegister dst, CiRegister src) {
+        emitPackedOp(0x66, 0xDB, dst, src);
+    }
+
+    /**
+     * Requires SSE4.1.
+     */
+    public final void pblendw(CiRegister dst, CiRegister src, int mask) {
+        emitPackedOp3A(0x66, 0x0E, dst, src, mask);
+    }
+
+    /**
+     * Carry-less multiplication of one quadword of {@code dst} by one quadword of {@code src}. Requires PCLMULQDQ.
+     *
+     * @param select bit 0 selects the quadword of {@code dst} and bit 4 the quadword of {@code src}
+     */
+    public final void pclmulqdq(CiRegister dst, CiRegister src, int select) {
+        emitPackedOp3A(0x66, 0x44, dst, src, select);
+    }
+
+    public final void pcmpeqb(CiRegister dst, CiRegister src) {
+        emitPackedOp(0x66, 0x74, dst, src);
+    }
+
+    public final void pcmpeqw(CiRegister dst, CiRegister src) {
+        emitPackedOp(0x66, 0x75, dst, src);
+    }
+
+    /**
+     * Moves the most significant bit of each byte in an XMM register to the low 16 bits of a general purpose register.
+     */
+    public final void pmovmskb(CiRegister dst, CiRegister src) {
+        assert !dst.isFpu() && src.isFpu();
+        emitByte(0x66);
+        int encode = prefixAndEncode(dst.encoding, src.encoding);
+        emitByte(0x0F);
+        emitByte(0xD7);
+        emitByte(0xC0 | encode);
+    }
+
+    /**
+     * Requires SSSE3.
+     */
+    public final void pshufb(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0x66, 0x00, dst, src);
+    }
+
     public final void pshufd(CiRegister dst, CiRegister src, int mode) {
         assert dst.isFpu();
         assert src.isFpu();
@@ -1630,6 +1789,20 @@ public class AMD64Assembler extends AbstractAssembler {
         emitByte(mode & 0xFF);
     }
 
+    /**
+     * Shifts the whole of {@code dst} left by {@code shift} bytes.
+     */
+    public final void pslldq(CiRegister dst, int shift) {
+        emitPackedShift(0x73, 7, dst, shift);
+    }
+
+    /**
+     * Shifts the whole of {@code dst} right by {@code shift} bytes.
+     */
+    public final void psrldq(CiRegister dst, int shift) {
+        emitPackedShift(0x73, 3, dst, shift);
+    }
+
     public final void psrlq(CiRegister dst, int shift) {
         assert dst.isFpu();
         // HMM Table D-1 says sse2 or mmx
@@ -1652,6 +1825,10 @@ public class AMD64Assembler extends AbstractAssembler {
         emitByte(0xC0 | encode);
     }
 
+    public final void punpcklqdq(CiRegister dst, CiRegister src) {
+        emitPackedOp(0x66, 0x6C, dst, src);
+    }
+
     public final void push(int imm32) {
         // in 64bits we push 64bits onto the stack but only
         // take a 32bit immediate
@@ -1812,6 +1989,59 @@ public class AMD64Assembler extends AbstractAssembler {
         emitByte(0xC0 | encode);
     }
 
+    /**
+     * Requires the SHA extensions.
+     */
+    public final void sha1msg1(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xC9, dst, src);
+    }
+
+    /**
+     * Requires the SHA extensions.
+     */
+    public final void sha1msg2(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xCA, dst, src);
+    }
+
+    /**
+     * Requires the SHA extensions.
+     */
+    public final void sha1nexte(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xC8, dst, src);
+    }
+
+    /**
+     * Requires the SHA extensions.
+     *
+     * @param function selects the round function and constant of the four rounds
+     */
+    public final void sha1rnds4(CiRegister dst, CiRegister src, int function) {
+        assert function >= 0 && function <= 3;
+        emitPackedOp3A(0, 0xCC, dst, src, function);
+    }
+
+    /**
+     * Requires the SHA extensions.
+     */
+    public final void sha256msg1(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xCC, dst, src);
+    }
+
+    /**
+     * Requires the SHA extensions.
+     */
+    public final void sha256msg2(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xCD, dst, src);
+    }
+
+    /**
+     * Performs two rounds of SHA-256 on the state in {@code dst} and {@code src}, taking the message words plus
+     * round constants from the low quadword of the implicit operand {@code xmm0}. Requires the SHA extensions.
+     */
+    public final void sha256rnds2(CiRegister dst, CiRegister src) {
+        emitPackedOp38(0, 0xCB, dst, src);
+    }
+
     public final void shll(CiRegister dst, int imm8) {
         assert isShiftCount(imm8) : "illegal shift count";
         int encode = prefixAndEncode(dst.encoding);
@@ -366,6 +366,286 @@ public class AMD64MacroAssembler extends AMD64Assembler {
         addq(AMD64.rsp, dest.spillSlotSize);
     }
 
+    /**
+     * Loads a 128-bit constant into an XMM register.
+     *
+     * @param low the low quadword of the constant
+     * @param high the high quadword of the constant
+     * @param tmp a general purpose temporary
+     * @param xtmp an XMM temporary, not used if {@code high} is zero
+     */
+    public void movdqConstant(CiRegister dst, long low, long high, CiRegister tmp, CiRegister xtmp) {
+        movq(tmp, low);
+        movdq(dst, tmp);
+        if (high != 0) {
+            movq(tmp, high);
+            movdq(xtmp, tmp);
+            punpcklqdq(dst, xtmp);
+        }
+    }
+
+    /**
+     * Emits code updating the CRC-32 of {@code java.util.zip.CRC32} (the reflected polynomial 0x04C11DB7) with a
+     * number of bytes. The bytes are folded into a 128-bit remainder 16 at a time with carry-less multiplications,
+     * which is then reduced to 32 bits with a Barrett reduction. Requires PCLMULQDQ.
+     *
+     * @param crc the CRC to be updated, which also receives the result
+     * @param buf the address of the first byte, destroyed
+     * @param len the number of bytes, a positive multiple of 16, destroyed
+     * @param tmp a general purpose temporary
+     * @param x0 an XMM temporary
+     * @param x1 an XMM temporary
+     * @param x2 an XMM temporary
+     * @param x3 an XMM temporary
+     */
+    public void crc32Update(CiRegister crc, CiRegister buf, CiRegister len, CiRegister tmp, CiRegister x0, CiRegister x1, CiRegister x2, CiRegister x3) {
+        Label foldLoop = new Label();
+        Label foldDone = new Label();
+
+        // x1 = first block ^ ~crc
+        notl(crc);
+        movdqu(x1, new CiAddress(CiKind.Long, buf.asValue()));
+        movdl(x0, crc);
+        pxor(x1, x0);
+        addq(buf, 16);
+        subl(len, 16);
+
+        // fold the remainder over each further block: x1 = x1.low * x^(128+32) ^ x1.high * x^(128-32) ^ block
+        movdqConstant(x2, 0x1751997d0L, 0xccaa009eL, tmp, x0);
+        bind(foldLoop);
+        cmpl(len, 16);
+        jcc(ConditionFlag.below, foldDone);
+        movdqu(x0, x1);
+        pclmulqdq(x1, x2, 0x00);
+        pclmulqdq(x0, x2, 0x11);
+        pxor(x1, x0);
+        movdqu(x0, new CiAddress(CiKind.Long, buf.asValue()));
+        pxor(x1, x0);
+        addq(buf, 16);
+        subl(len, 16);
+        jmp(foldLoop);
+        bind(foldDone);
+
+        // fold 128 bits to 64 bits
+        pclmulqdq(x2, x1, 0x01);
+        psrldq(x1, 8);
+        pxor(x1, x2);
+
+        // fold 64 bits to 32 bits
+        movdqConstant(x2, 0x163cd6124L, 0, tmp, null);
+        movl(tmp, 0xFFFFFFFF);
+        movdq(x3, tmp);
+        movdqu(x0, x1);
+        pand(x0, x3);
+        pclmulqdq(x0, x2, 0x00);
+        psrldq(x1, 4);
+        pxor(x1, x0);
+
+        // Barrett reduction to the 32-bit CRC in bits 32 to 63
+        movdqConstant(x2, 0x1DB710641L, 0x1F7011641L, tmp, x0);
+        movdqu(x0, x1);
+        pand(x0, x3);
+        pclmulqdq(x0, x2, 0x10);
+        pand(x0, x3);
+        pclmulqdq(x0, x2, 0x00);
+        pxor(x1, x0);
+        psrldq(x1, 4);
+        movdl(crc, x1);
+        notl(crc);
+    }
+
+    /**
+     * Loads a round key of an AES key schedule whose words are stored as big-endian {@code int}s.
+     */
+    private void loadAesKey(CiRegister dst, CiAddress src, CiRegister byteSwapMask) {
+        movdqu(dst, src);
+        pshufb(dst, byteSwapMask);
+    }
+
+    /**
+     * Emits code encrypting or decrypting a 16-byte block with AES, using the key schedule format of
+     * {@code com.sun.crypto.provider.AESCrypt}. For decryption, the schedule starts with the key of the last
+     * round, followed by the keys of the first to the second last round. Requires AES-NI and SSSE3.
+     *
+     * @param encrypt specifies if the block is encrypted or decrypted
+     * @param from the address of the input block
+     * @param to the address of the output block, which may equal {@code from}
+     * @param key the address of the first word of the key schedule
+     * @param keyLength the number of words in the key schedule (44, 52 or 60), destroyed
+     * @param block an XMM temporary
+     * @param roundKey an XMM temporary
+     * @param mask an XMM temporary
+     * @param tmp a general purpose temporary
+     */
+    public void aesCryptBlock(boolean encrypt, CiRegister from, CiRegister to, CiRegister key, CiRegister keyLength,
+                    CiRegister block, CiRegister roundKey, CiRegister mask, CiRegister tmp) {
+        Label lastRound = new Label();
+        movslq(keyLength, keyLength);
+        movdqConstant(mask, 0x0405060700010203L, 0x0c0d0e0f08090a0bL, tmp, roundKey);
+        movdqu(block, new CiAddress(CiKind.Long, from.asValue()));
+
+        int first = encrypt ? 0x00 : 0x10;
+        loadAesKey(roundKey, new CiAddress(CiKind.Long, key.asValue(), first), mask);
+        pxor(block, roundKey);
+        for (int offset = first + 0x10; offset <= first + 0xd0; offset += 0x10) {
+            if (offset == first + 0xa0) {
+                cmpl(keyLength, 44);
+                jcc(ConditionFlag.equal, lastRound);
+            } else if (offset == first + 0xc0) {
+                cmpl(keyLength, 52);
+                jcc(ConditionFlag.equal, lastRound);
+            }
+            loadAesKey(roundKey, new CiAddress(CiKind.Long, key.asValue(), offset), mask);
+            if (encrypt) {
+                aesenc(block, roundKey);
+            } else {
+                aesdec(block, roundKey);
+            }
+        }
+
+        bind(lastRound);
+        if (encrypt) {
+            loadAesKey(roundKey, new CiAddress(CiKind.Long, key.asValue(), keyLength.asValue(), CiAddress.Scale.Times4, -16), mask);
+            aesenclast(block, roundKey);
+        } else {
+            loadAesKey(roundKey, new CiAddress(CiKind.Long, key.asValue()), mask);
+            aesdeclast(block, roundKey);
+        }
+        movdqu(new CiAddress(CiKind.Long, to.asValue()), block);
+    }
+
+    /**
+     * Emits code applying the SHA-1 compression function to a 64-byte block. Requires the SHA extensions and SSSE3.
+     *
+     * @param state the address of the five words of the hash state, which is updated
+     * @param buf the address of the block
+     * @param tmp a general purpose temporary
+     * @param xmm ten XMM temporaries
+     */
+    public void sha1Compress(CiRegister state, CiRegister buf, CiRegister tmp, CiRegister... xmm) {
+        assert xmm.length == 10;
+        CiRegister abcd = xmm[0];
+        CiRegister[] e = {xmm[1], xmm[2]};
+        CiRegister[] msg = {xmm[3], xmm[4], xmm[5], xmm[6]};
+        CiRegister mask = xmm[7];
+        CiRegister abcdSave = xmm[8];
+        CiRegister eSave = xmm[9];
+
+        // the rounds expect a in the highest and e alone in the highest word
+        movdqu(abcd, new CiAddress(CiKind.Long, state.asValue()));
+        pshufd(abcd, abcd, 0x1B);
+        movl(tmp, new CiAddress(CiKind.Int, state.asValue(), 16));
+        movdl(e[0], tmp);
+        pslldq(e[0], 12);
+        movdqu(abcdSave, abcd);
+        movdqu(eSave, e[0]);
+        movdqConstant(mask, 0x08090a0b0c0d0e0fL, 0x0001020304050607L, tmp, msg[0]);
+
+        // each group of four rounds consumes one message vector and computes one of the following
+        for (int g = 0; g < 20; g++) {
+            CiRegister m = msg[g % 4];
+            CiRegister eIn = e[g % 2];
+            if (g < 4) {
+                movdqu(m, new CiAddress(CiKind.Long, buf.asValue(), g * 16));
+                pshufb(m, mask);
+            }
+            if (g == 0) {
+                paddd(eIn, m);
+            } else {
+                sha1nexte(eIn, m);
+            }
+            movdqu(e[(g + 1) % 2], abcd);
+            if (g >= 3 && g <= 18) {
+                sha1msg2(msg[(g + 1) % 4], m);
+            }
+            sha1rnds4(abcd, eIn, g / 5);
+            if (g >= 1 && g <= 16) {
+                sha1msg1(msg[(g + 3) % 4], m);
+            }
+            if (g >= 2 && g <= 17) {
+                pxor(msg[(g + 2) % 4], m);
+            }
+        }
+
+        sha1nexte(e[0], eSave);
+        paddd(abcd, abcdSave);
+        pshufd(abcd, abcd, 0x1B);
+        movdqu(new CiAddress(CiKind.Long, state.asValue()), abcd);
+        psrldq(e[0], 12);
+        movdl(tmp, e[0]);
+        movl(new CiAddress(CiKind.Int, state.asValue(), 16), tmp);
+    }
+
+    /**
+     * Emits code applying the SHA-256 compression function to a 64-byte block. Requires the SHA extensions and SSE4.1.
+     *
+     * @param state the address of the eight words of the hash state, which is updated
+     * @param buf the address of the block
+     * @param k the address of the 64 round constants
+     * @param tmp a general purpose temporary
+     * @param xmm eleven XMM temporaries, the first of which must be {@code xmm0}
+     */
+    public void sha256Compress(CiRegister state, CiRegister buf, CiRegister k, CiRegister tmp, CiRegister... xmm) {
+        assert xmm.length == 11 && xmm[0] == AMD64.xmm0 : "sha256rnds2 implicitly uses xmm0";
+        CiRegister msg = xmm[0];
+        CiRegister state0 = xmm[1];
+        CiRegister state1 = xmm[2];
+        CiRegister[] w = {xmm[3], xmm[4], xmm[5], xmm[6]};
+        CiRegister t = xmm[7];
+        CiRegister mask = xmm[8];
+        CiRegister abefSave = xmm[9];
+        CiRegister cdghSave = xmm[10];
+
+        // reorder the state words dcba, hgfe to abef, cdgh
+        movdqu(state0, new CiAddress(CiKind.Long, state.asValue()));
+        movdqu(state1, new CiAddress(CiKind.Long, state.asValue(), 16));
+        pshufd(state0, state0, 0xB1);
+        pshufd(state1, state1, 0x1B);
+        movdqu(t, state0);
+        palignr(state0, state1, 8);
+        pblendw(state1, t, 0xF0);
+        movdqu(abefSave, state0);
+        movdqu(cdghSave, state1);
+        movdqConstant(mask, 0x0405060700010203L, 0x0c0d0e0f08090a0bL, tmp, t);
+
+        // each group of four rounds consumes one message vector and computes one of the following
+        for (int g = 0; g < 16; g++) {
+            CiRegister cur = w[g % 4];
+            if (g < 4) {
+                movdqu(msg, new CiAddress(CiKind.Long, buf.asValue(), g * 16));
+                pshufb(msg, mask);
+                movdqu(cur, msg);
+            } else {
+                movdqu(msg, cur);
+            }
+            movdqu(t, new CiAddress(CiKind.Long, k.asValue(), g * 16));
+            paddd(msg, t);
+            sha256rnds2(state1, state0);
+            if (g >= 3 && g <= 14) {
+                CiRegister next = w[(g + 1) % 4];
+                movdqu(t, cur);
+                palignr(t, w[(g + 3) % 4], 4);
+                paddd(next, t);
+                sha256msg2(next, cur);
+            }
+            pshufd(msg, msg, 0x0E);
+            sha256rnds2(state0, state1);
+            if (g >= 1 && g <= 12) {
+                sha256msg1(w[(g + 3) % 4], cur);
+            }
+        }
+
+        paddd(state0, abefSave);
+        paddd(state1, cdghSave);
+        pshufd(state0, state0, 0x1B);
+        pshufd(state1, state1, 0xB1);
+        movdqu(t, state0);
+        pblendw(state0, state1, 0xF0);
+        palignr(state1, t, 8);
+        movdqu(new CiAddress(CiKind.Long, state.asValue()), state0);
+        movdqu(new CiAddress(CiKind.Long, state.asValue(), 16), state1);
+    }
+
     /**
      * Emit code to save a given set of callee save registers in the
      * {@linkplain CiCalleeSaveLayout CSA} within the frame.
@@ -23,6 +23,8 @@
 package com.sun.max.program;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.util.*;
 import java.util.zip.*;
 
@@ -181,7 +183,7 @@ public class Classpath {
         }
 
         @Override
-        public ZipFile zipFile() {
+        public synchronized ZipFile zipFile() {
             if (zipFile == null && file != null) {
                 try {
                     zipFile = new ZipFile(file);
@@ -230,6 +232,283 @@ public class Classpath {
         }
     }
 
+    /**
+     * Represents a classpath entry that is a path to an existing zip/jar archive file which is read
+     * directly from a memory mapping of the file.
+     * <p>
+     * The central directory of the archive is indexed once, in an open addressing hash table of the offsets of its
+     * records that is keyed by the hash of the entry names. Looking up an entry does not allocate and reading it only
+     * allocates the array returned to the caller: stored entries are copied from the mapping into it and deflated
+     * entries are inflated into it by an {@link Inflater} that is pooled per thread.
+     * <p>
+     * Archives that cannot be indexed this way (e.g. zip64 archives) are read with a {@link ZipFile} instead.
+     */
+    static final class MappedArchive extends Entry {
+
+        static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+        static final int LOCAL_HEADER_SIZE = 30;
+        static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+        static final int CENTRAL_HEADER_SIZE = 46;
+        static final int END_SIGNATURE = 0x06054b50;
+        static final int END_SIZE = 22;
+        static final int MAX_COMMENT_SIZE = 0xffff;
+
+        static final int STORED = 0;
+        static final int DEFLATED = 8;
+
+        private final File file;
+
+        /**
+         * The fallback used if this archive could not be mapped and indexed.
+         */
+        private final Archive archive;
+
+        private ByteBuffer mapping;
+
+        /**
+         * Open addressing hash table of the offsets of central directory records. Empty slots hold -1.
+         */
+        private int[] index;
+
+        private boolean opened;
+
+        /**
+         * The per thread inflater and input buffer used to read deflated entries.
+         */
+        private static final ThreadLocal<Inflater> inflaters = new ThreadLocal<Inflater>() {
+            @Override
+            protected Inflater initialValue() {
+                return new Inflater(true);
+            }
+        };
+        private static final ThreadLocal<byte[][]> inputBuffers = new ThreadLocal<byte[][]>() {
+            @Override
+            protected byte[][] initialValue() {
+                return new byte[1][];
+            }
+        };
+
+        public MappedArchive(File file) {
+            this.file = file;
+            this.archive = new Archive(file);
+        }
+
+        private synchronized boolean open() {
+            if (!opened) {
+                opened = true;
+                try {
+                    final RandomAccessFile raf = new RandomAccessFile(file, "r");
+                    try {
+                        final FileChannel channel = raf.getChannel();
+                        if (channel.size() <= Integer.MAX_VALUE) {
+                            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                            index = buildIndex(buffer);
+                            if (index != null) {
+                                mapping = buffer;
+                            }
+                        }
+                    } finally {
+                        raf.close();
+                    }
+                } catch (IOException e) {
+                    ProgramWarning.message("Error mapping ZIP file: " + file.getPath() + ": " + e);
+                }
+            }
+            return mapping != null;
+        }
+
+        private static int u2(ByteBuffer buffer, int offset) {
+            return buffer.getShort(offset) & 0xffff;
+        }
+
+        private static int hash(ByteBuffer buffer, int offset, int length) {
+            int h = 0;
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + buffer.get(offset + i);
+            }
+            return h;
+        }
+
+        private static int hash(byte[] name) {
+            int h = 0;
+            for (byte b : name) {
+                h = 31 * h + b;
+            }
+            return h;
+        }
+
+        /**
+         * Builds the index of the central directory of the archive in a given buffer.
+         *
+         * @return the index or {@code null} if the archive has no (supported) central directory
+         */
+        private static int[] buildIndex(ByteBuffer buffer) {
+            final int size = buffer.limit();
+            int end = -1;
+            for (int pos = size - END_SIZE; pos >= 0 && pos >= size - END_SIZE - MAX_COMMENT_SIZE; pos--) {
+                if (buffer.getInt(pos) == END_SIGNATURE) {
+                    end = pos;
+                    break;
+                }
+            }
+            if (end < 0) {
+                return null;
+            }
+            final int count = u2(buffer, end + 10);
+            final int directoryOffset = buffer.getInt(end + 16);
+            if (count == 0xffff || directoryOffset < 0 || directoryOffset >= end) {
+                // zip64 or corrupt
+                return null;
+            }
+            int capacity = 16;
+            while (capacity < count * 2) {
+                capacity <<= 1;
+            }
+            final int[] index = new int[capacity];
+            Arrays.fill(index, -1);
+            int record = directoryOffset;
+            for (int i = 0; i < count; i++) {
+                if (record + CENTRAL_HEADER_SIZE > end || buffer.getInt(record) != CENTRAL_HEADER_SIGNATURE) {
+                    return null;
+                }
+                final int nameLength = u2(buffer, record + 28);
+                final int next = record + CENTRAL_HEADER_SIZE + nameLength + u2(buffer, record + 30) + u2(buffer, record + 32);
+                if (next > end) {
+                    return null;
+                }
+                int slot = hash(buffer, record + CENTRAL_HEADER_SIZE, nameLength) & (capacity - 1);
+                while (index[slot] != -1) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                index[slot] = record;
+                record = next;
+            }
+            return index;
+        }
+
+        /**
+         * Gets the offset of the central directory record for a given entry name.
+         *
+         * @return the offset or -1 if there is no entry named {@code name}
+         */
+        private int lookup(byte[] name) {
+            final int mask = index.length - 1;
+            int slot = hash(name) & mask;
+            while (true) {
+                final int record = index[slot];
+                if (record == -1) {
+                    return -1;
+                }
+                if (u2(mapping, record + 28) == name.length && matches(record + CENTRAL_HEADER_SIZE, name)) {
+                    return record;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private boolean matches(int offset, byte[] name) {
+            for (int i = 0; i < name.length; i++) {
+                if (mapping.get(offset + i) != name[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static byte[] encode(String path) {
+            try {
+                return path.getBytes("UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw ProgramError.unexpected(e);
+            }
+        }
+
+        @Override
+        public boolean contains(String path) {
+            if (!open()) {
+                return archive.contains(path);
+            }
+            return lookup(encode(path)) != -1;
+        }
+
+        @Override
+        ClasspathFile readFile(String path) {
+            if (!open()) {
+                return archive.readFile(path);
+            }
+            final int record = lookup(encode(path));
+            if (record == -1) {
+                return null;
+            }
+            final int method = u2(mapping, record + 10);
+            final int compressedSize = mapping.getInt(record + 20);
+            final int size = mapping.getInt(record + 24);
+            final int localHeader = mapping.getInt(record + 42);
+            final int limit = mapping.limit();
+            if (compressedSize < 0 || size < 0 || localHeader < 0 || localHeader > limit - LOCAL_HEADER_SIZE ||
+                mapping.getInt(localHeader) != LOCAL_HEADER_SIGNATURE) {
+                return archive.readFile(path);
+            }
+            // The sizes are taken from the central directory record: the local header of an entry
+            // followed by a data descriptor has them set to 0.
+            final long data = (long) localHeader + LOCAL_HEADER_SIZE + u2(mapping, localHeader + 26) + u2(mapping, localHeader + 28);
+            if (data + compressedSize > limit || (method == STORED && compressedSize != size)) {
+                return archive.readFile(path);
+            }
+            final byte[] contents = new byte[size];
+            final ByteBuffer view = mapping.duplicate();
+            view.position((int) data);
+            if (method == STORED) {
+                view.get(contents);
+            } else if (method == DEFLATED) {
+                final byte[][] inputBuffer = inputBuffers.get();
+                if (inputBuffer[0] == null || inputBuffer[0].length < compressedSize + 1) {
+                    inputBuffer[0] = new byte[compressedSize + 1];
+                }
+                final byte[] input = inputBuffer[0];
+                view.get(input, 0, compressedSize);
+                // An extra zero byte is needed by the inflater in "nowrap" mode
+                input[compressedSize] = 0;
+                final Inflater inflater = inflaters.get();
+                inflater.reset();
+                inflater.setInput(input, 0, compressedSize + 1);
+                try {
+                    int offset = 0;
+                    while (offset < size && !inflater.finished()) {
+                        final int n = inflater.inflate(contents, offset, size - offset);
+                        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            break;
+                        }
+                        offset += n;
+                    }
+                    if (offset != size) {
+                        return archive.readFile(path);
+                    }
+                } catch (DataFormatException e) {
+                    return archive.readFile(path);
+                }
+            } else {
+                return archive.readFile(path);
+            }
+            return new ClasspathFile(contents, this);
+        }
+
+        @Override
+        public ZipFile zipFile() {
+            return archive.zipFile();
+        }
+
+        @Override
+        public File file() {
+            return file;
+        }
+
+        @Override
+        public boolean isArchive() {
+            return true;
+        }
+    }
+
     /**
      * Gets the ordered entries from which this classpath is composed.
      *
@@ -245,12 +524,22 @@ public class Classpath {
      * @param path a file system path denoting a classpath entry
      */
     public static Entry createEntry(String path) {
+        return createEntry(path, false);
+    }
+
+    /**
+     * Creates a classpath {@link Entry} from a given file system path.
+     *
+     * @param path a file system path denoting a classpath entry
+     * @param mapArchives specifies if a zip/jar archive is to be read from a {@linkplain MappedArchive memory mapping}
+     */
+    public static Entry createEntry(String path, boolean mapArchives) {
         final File pathFile = new File(path);
         if (pathFile.isDirectory()) {
             return new Directory(pathFile);
         } else if (path.endsWith(".zip") || path.endsWith(".jar")) {
             if (pathFile.exists() && pathFile.isFile()) {
-                return new Archive(pathFile);
+                return mapArchives ? new MappedArchive(pathFile) : new Archive(pathFile);
             }
         }
         //ProgramWarning.message("Class path entry is neither a directory nor a JAR file: " + path);
@@ -263,10 +552,20 @@ public class Classpath {
      * @param paths an array of classpath entries
      */
     public Classpath(String[] paths) {
+        this(paths, false);
+    }
+
+    /**
+     * Creates a new classpath from an array of classpath entries.
+     *
+     * @param paths an array of classpath entries
+     * @param mapArchives specifies if zip/jar archives are to be read from {@linkplain MappedArchive memory mappings}
+     */
+    public Classpath(String[] paths, boolean mapArchives) {
         final Entry[] entryArray = new Entry[paths.length];
         for (int i = 0; i < paths.length; ++i) {
             final String path = paths[i];
-            entryArray[i] = createEntry(path);
+            entryArray[i] = createEntry(path, mapArchives);
         }
         this.entries = Arrays.asList(entryArray);
     }
@@ -350,7 +649,7 @@ public class Classpath {
         if (extraPath != null) {
             value = value + File.pathSeparator + extraPath;
         }
-        return new Classpath(value.split(File.pathSeparator));
+        return new Classpath(value.split(File.pathSeparator), true);
     }
 
     /**
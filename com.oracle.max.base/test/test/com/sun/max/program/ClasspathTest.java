@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.max.program;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.zip.*;
+
+import junit.framework.*;
+
+import com.sun.max.program.*;
+
+/**
+ * Tests reading zip/jar archives from a memory mapping.
+ */
+public class ClasspathTest extends TestCase {
+
+    public ClasspathTest(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(ClasspathTest.class);
+    }
+
+    private static byte[] contents(int length, int seed) {
+        final byte[] bytes = new byte[length];
+        final Random random = new Random(seed);
+        for (int i = 0; i < length; i++) {
+            // compressible but not trivially so
+            bytes[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return bytes;
+    }
+
+    private static final byte[] STORED = contents(1000, 1);
+    private static final byte[] DEFLATED = contents(5000, 2);
+    private static final byte[] DESCRIPTOR = contents(70000, 3);
+
+    /**
+     * Writes an archive with a stored entry, a deflated entry whose sizes are in its local header and a deflated
+     * entry whose sizes are in a data descriptor following its data.
+     */
+    private static byte[] archive() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ZipOutputStream out = new ZipOutputStream(bytes);
+
+        final CRC32 crc = new CRC32();
+        ZipEntry entry = new ZipEntry("a/Stored.class");
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(STORED.length);
+        crc.update(STORED);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(STORED);
+        out.closeEntry();
+
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(DEFLATED);
+        deflater.finish();
+        final byte[] buffer = new byte[DEFLATED.length * 2];
+        int compressedSize = 0;
+        while (!deflater.finished()) {
+            compressedSize += deflater.deflate(buffer, compressedSize, buffer.length - compressedSize);
+        }
+        deflater.end();
+        crc.reset();
+        crc.update(DEFLATED);
+        entry = new ZipEntry("a/Deflated.class");
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setSize(DEFLATED.length);
+        entry.setCompressedSize(compressedSize);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(DEFLATED);
+        out.closeEntry();
+
+        out.putNextEntry(new ZipEntry("a/Descriptor.class"));
+        out.write(DESCRIPTOR);
+        out.closeEntry();
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static File write(byte[] archive) throws IOException {
+        final File file = File.createTempFile("ClasspathTest", ".jar");
+        file.deleteOnExit();
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(archive);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static int generalPurposeFlags(byte[] archive, String name) {
+        final ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        for (int pos = 0; pos + 30 < archive.length; pos++) {
+            if (buffer.getInt(pos) == 0x04034b50 && new String(archive, pos + 30, buffer.getShort(pos + 26)).equals(name)) {
+                return buffer.getShort(pos + 6);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public void test_read() throws IOException {
+        final byte[] archive = archive();
+        assertEquals(0, generalPurposeFlags(archive, "a/Deflated.class") & 8);
+        assertEquals(8, generalPurposeFlags(archive, "a/Descriptor.class") & 8);
+
+        final Classpath classpath = new Classpath(new String[] {write(archive).getPath()}, true);
+        final Classpath.Entry entry = classpath.entries().get(0);
+        final String[] names = {"a.Stored", "a.Deflated", "a.Descriptor"};
+        final byte[][] expected = {STORED, DEFLATED, DESCRIPTOR};
+        for (int i = 0; i < names.length; i++) {
+            final ClasspathFile file = classpath.readClassFile(names[i]);
+            assertNotNull(names[i], file);
+            // read from the mapping, not by the fallback reader
+            assertSame(names[i], entry, file.classpathEntry);
+            assertTrue(names[i], Arrays.equals(expected[i], file.contents));
+            assertTrue(names[i], entry.contains(names[i].replace('.', '/') + ".class"));
+        }
+        assertNull(classpath.readClassFile("a.Missing"));
+        assertFalse(entry.contains("a/Missing.class"));
+    }
+
+    /**
+     * Tests that offsets in the central directory that are out of the bounds of the archive are not followed.
+     */
+    public void test_corruptOffsets() throws IOException {
+        final byte[] archive = archive();
+        final ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        for (int pos = 0; pos + 46 < archive.length; pos++) {
+            if (buffer.getInt(pos) == 0x02014b50) {
+                final String name = new String(archive, pos + 46, buffer.getShort(pos + 28));
+                if (name.equals("a/Stored.class")) {
+                    // local header offset
+                    buffer.putInt(pos + 42, archive.length - 10);
+                } else if (name.equals("a/Deflated.class")) {
+                    // compressed size
+                    buffer.putInt(pos + 20, archive.length);
+                }
+            }
+        }
+        final Classpath classpath = new Classpath(new String[] {write(archive).getPath()}, true);
+        final Classpath.Entry entry = classpath.entries().get(0);
+        for (String name : new String[] {"a.Stored", "a.Deflated"}) {
+            final ClasspathFile file = classpath.readClassFile(name);
+            assertTrue(name, file == null || file.classpathEntry != entry);
+        }
+        final ClasspathFile file = classpath.readClassFile("a.Descriptor");
+        assertNotNull(file);
+        assertTrue(Arrays.equals(DESCRIPTOR, file.contents));
+    }
+
+    /**
+     * Tests that an archive whose central directory runs past its end is read by the fallback reader.
+     */
+    public void test_truncatedDirectory() throws IOException {
+        final byte[] archive = archive();
+        final ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        for (int pos = 0; pos + 46 < archive.length; pos++) {
+            if (buffer.getInt(pos) == 0x02014b50) {
+                // name length
+                buffer.putShort(pos + 28, (short) 0xfff0);
+                break;
+            }
+        }
+        final Classpath classpath = new Classpath(new String[] {write(archive).getPath()}, true);
+        final Classpath.Entry entry = classpath.entries().get(0);
+        final ClasspathFile file = classpath.readClassFile("a.Deflated");
+        assertTrue(file == null || file.classpathEntry != entry);
+    }
+}
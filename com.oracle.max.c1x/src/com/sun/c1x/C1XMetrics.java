@@ -40,6 +40,8 @@ public class C1XMetrics {
     public static int InlineForcedMethods;
     public static int InlineForbiddenMethods;
     public static int InlinedJsrs;
+    public static int InlinedProfiledReceivers;
+    public static int InlinedHotCallSites;
     public static int NullCheckIterations;
     public static int NullCheckEliminations;
     public static int NullChecksRedundant;
@@ -48,6 +50,8 @@ public class C1XMetrics {
     public static int DivideSpecialChecksRedundant;
     public static int StoreCheckEliminations;
     public static int BoundsChecksElminations;
+    public static int LoopInvariantsHoisted;
+    public static int LoopPredicatesInserted;
     public static int ConditionalEliminations;
     public static int BlocksMerged;
     public static int BlocksSkipped;
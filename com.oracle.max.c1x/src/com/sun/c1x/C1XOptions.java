@@ -44,6 +44,10 @@ public final class C1XOptions {
     public static int     MaximumInlineLevel                 = 9;
     public static int     MaximumRecursiveInlineLevel        = 1;
     public static int     MaximumDesiredSize                 = 8000;
+    public static int     MaximumHotInlineSize               = 100;
+    public static int     HotCallSiteCount                   = 1000;
+    public static int     MinimumProfiledCallSiteCount       = 100;
+    public static float   MinimumReceiverTypeProbability     = 0.90f;
     public static int     MaximumShortLoopSize               = 5;
 
     // intrinsification settings
@@ -70,6 +74,7 @@ public final class C1XOptions {
     public static boolean PrintCFGToFile                     = ____;
     public static boolean PrintMetrics                       = ____;
     public static boolean PrintTimers                        = ____;
+    public static boolean PrintLinearScanTimes               = ____;
     public static boolean PrintCompilation                   = ____;
     public static boolean PrintXirTemplates                  = ____;
     public static boolean PrintIRWithLIR                     = ____;
@@ -114,11 +119,15 @@ public final class C1XOptions {
     public static boolean OptFlowSensitiveNCE;
     public static boolean OptDeadCodeElimination1;
     public static boolean OptDeadCodeElimination2;
+    public static boolean OptLoopInvariantCodeMotion;
+    public static boolean OptRangeCheckElimination;
+    public static boolean OptProfileGuidedInlining;
     public static boolean OptControlFlow;
     public static boolean OptMoveElimination;
 
     // optimistic optimization settings
     public static boolean UseAssumptions                = true;
+    public static int     PerBytecodeTrapLimit          = 4;
 
     // state merging settings
     public static boolean AssumeVerifiedBytecode        = ____;
@@ -130,6 +139,11 @@ public final class C1XOptions {
 
     // Linear scan settings
     public static boolean CopyPointerStackArguments     = true;
+    /**
+     * Compilations with more LIR variables than this bail out before register allocation (0 means no limit).
+     * Maxine ignores this limit when compiling the boot image.
+     */
+    public static int     MaximumLinearScanIntervals    = 20000;
 
     // Code generator settings
     public static boolean GenLIR                        = true;
@@ -195,6 +209,9 @@ public final class C1XOptions {
         OptDeadCodeElimination1         = lll;
         OptDeadCodeElimination2         = lll;
         OptGlobalValueNumbering         = lll;
+        OptLoopInvariantCodeMotion      = lll;
+        OptRangeCheckElimination        = lll;
+        OptProfileGuidedInlining        = lll;
         OptDiamondElimination           = lll;
         OptCEElimination                = lll;
         OptBlockSkipping                = lll;
@@ -548,6 +548,14 @@ public final class Interval {
         return splitParent != this;
     }
 
+    /**
+     * Determines if this interval has been split. Only valid for a {@linkplain #isSplitParent() split parent}.
+     */
+    boolean hasSplitChildren() {
+        assert isSplitParent() : "can only be called for split parents";
+        return !splitChildren.isEmpty();
+    }
+
     /**
      * Gets the split parent for this interval.
      */
@@ -116,6 +116,29 @@ public final class LinearScan {
      */
     BitMap2D intervalInLoop;
 
+    /**
+     * The variables whose interval has been split during allocation. Only these variables can be in different
+     * locations at the two ends of a control flow edge, so resolution only needs to visit these.
+     */
+    private CiBitMap splitOperands;
+
+    /**
+     * Scratch set used by {@link #resolveCollectMappings}.
+     */
+    private CiBitMap splitAtEdge;
+
+    /**
+     * Names of the phases whose times are reported by {@link C1XOptions#PrintLinearScanTimes}.
+     */
+    private static final String[] PHASE_NAMES = {"number", "local live", "global live", "build intervals", "sort", "walk", "resolve", "assign", "optimize"};
+
+    /**
+     * The time spent in each phase of {@link #allocate()}, or {@code null} if the phases are not being timed.
+     */
+    private long[] phaseTimes;
+
+    private long phaseStart;
+
     public LinearScan(C1XCompilation compilation, IR ir, LIRGenerator gen, FrameMap frameMap) {
         this.compilation = compilation;
         this.ir = ir;
@@ -1560,9 +1583,11 @@ public final class LinearScan {
         assert moveResolver.checkEmpty();
 
         int numOperands = operands.size();
-        CiBitMap liveAtEdge = toBlock.lirBlock.liveIn;
+        CiBitMap liveAtEdge = splitAtEdge;
+        liveAtEdge.setFrom(toBlock.lirBlock.liveIn);
+        liveAtEdge.setIntersect(splitOperands);
 
-        // visit all variables for which the liveAtEdge bit is set
+        // visit all split variables for which the liveAtEdge bit is set
         for (int operandNum = liveAtEdge.nextSetBit(0); operandNum >= 0; operandNum = liveAtEdge.nextSetBit(operandNum + 1)) {
             assert operandNum < numOperands : "live information set for not exisiting interval";
             assert fromBlock.lirBlock.liveOut.get(operandNum) && toBlock.lirBlock.liveIn.get(operandNum) : "interval not live at this edge";
@@ -1621,6 +1646,12 @@ public final class LinearScan {
      * have been split.
      */
     void resolveDataFlow() {
+        computeSplitOperands();
+        if (splitOperands.cardinality() == 0) {
+            // no interval was split, so every variable is in the same location at both ends of each edge
+            return;
+        }
+
         int numBlocks = blockCount();
         MoveResolver moveResolver = new MoveResolver(this);
         CiBitMap blockCompleted = new CiBitMap(numBlocks);
@@ -1688,6 +1719,22 @@ public final class LinearScan {
         }
     }
 
+    /**
+     * Computes {@link #splitOperands}.
+     */
+    void computeSplitOperands() {
+        int liveSize = ir.startBlock.lirBlock.liveIn.size();
+        assert liveSize <= liveSetSize();
+        splitOperands = new CiBitMap(liveSize);
+        splitAtEdge = new CiBitMap(liveSize);
+        for (int operandNum = 0; operandNum < liveSize; operandNum++) {
+            Interval interval = intervals[operandNum];
+            if (interval != null && interval.hasSplitChildren()) {
+                splitOperands.set(operandNum);
+            }
+        }
+    }
+
     void resolveExceptionEntry(BlockBegin block, CiValue operand, MoveResolver moveResolver) {
         if (intervalFor(operand) == null) {
             // if a phi function is never used, no interval is created . ignore this
@@ -2247,11 +2294,20 @@ public final class LinearScan {
     }
 
     public void allocate() {
+        if (C1XOptions.MaximumLinearScanIntervals > 0 && operands.size() > C1XOptions.MaximumLinearScanIntervals) {
+            // the allocation would take longer than the compiled code is likely to gain from it
+            throw new CiBailout("too many variables for linear scan: " + operands.size());
+        }
+        if (C1XOptions.PrintLinearScanTimes) {
+            phaseTimes = new long[PHASE_NAMES.length];
+            phaseStart = System.nanoTime();
+        }
         if (C1XOptions.PrintTimers) {
             C1XTimers.LIFETIME_ANALYSIS.start();
         }
 
         numberInstructions();
+        endPhase(0);
 
         String label = "Before register allocation";
         printLir(label, true);
@@ -2260,10 +2316,14 @@ public final class LinearScan {
         }
 
         computeLocalLiveSets();
+        endPhase(1);
         computeGlobalLiveSets();
+        endPhase(2);
 
         buildIntervals();
+        endPhase(3);
         sortIntervalsBeforeAllocation();
+        endPhase(4);
 
         if (C1XOptions.PrintTimers) {
             C1XTimers.LIFETIME_ANALYSIS.stop();
@@ -2276,6 +2336,7 @@ public final class LinearScan {
         }
 
         allocateRegisters();
+        endPhase(5);
 
         if (C1XOptions.PrintTimers) {
             C1XTimers.LINEAR_SCAN.stop();
@@ -2286,6 +2347,7 @@ public final class LinearScan {
         if (compilation.hasExceptionHandlers()) {
             resolveExceptionHandlers();
         }
+        endPhase(6);
 
         if (C1XOptions.PrintTimers) {
             C1XTimers.RESOLUTION.stop();
@@ -2308,6 +2370,7 @@ public final class LinearScan {
 
         eliminateSpillMoves();
         assignLocations();
+        endPhase(7);
 
         if (C1XOptions.DetailedAsserts) {
             verifyIntervals();
@@ -2329,6 +2392,33 @@ public final class LinearScan {
         }
 
         printLir("After control flow optimization", false);
+        endPhase(8);
+
+        if (phaseTimes != null) {
+            printPhaseTimes();
+        }
+    }
+
+    private void endPhase(int phase) {
+        if (phaseTimes != null) {
+            long now = System.nanoTime();
+            phaseTimes[phase] += now - phaseStart;
+            phaseStart = now;
+        }
+    }
+
+    private void printPhaseTimes() {
+        long total = 0;
+        for (long time : phaseTimes) {
+            total += time;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("LinearScan %s: %d blocks, %d ops, %d variables, %d intervals: %d us", format("%H.%n(%p)", compilation.method),
+                        blockCount(), opIdToInstructionMap.length, liveSetSize(), intervalsSize, total / 1000));
+        for (int i = 0; i < PHASE_NAMES.length; i++) {
+            sb.append(String.format("%n    %-16s %8d us (%5.1f%%)", PHASE_NAMES[i], phaseTimes[i] / 1000, total == 0 ? 0.0 : phaseTimes[i] * 100.0 / total));
+        }
+        TTY.println(sb.toString());
     }
 
     void printIntervals(String label) {
@@ -315,6 +315,22 @@ public abstract class LIRGenerator extends ValueVisitor {
         emitXir(snippet, x, stateFor(x), null, true);
     }
 
+    @Override
+    public void visitTypeGuard(TypeGuard x) {
+        XirArgument obj = toXirArgument(x.object());
+        XirSnippet snippet = xir.genTypeCheck(site(x), obj, toXirArgument(x.hub()), x.type());
+        emitXir(snippet, x, stateFor(x), null, false);
+
+        // the guard does not create a new value
+        CiValue value = makeOperand(x.object());
+        if (value.isVariable()) {
+            x.setOperand(value);
+        } else {
+            CiValue result = createResultVariable(x);
+            lir.move(value, result);
+        }
+    }
+
     @Override
     public void visitInstanceOf(InstanceOf x) {
         XirArgument obj = toXirArgument(x.object());
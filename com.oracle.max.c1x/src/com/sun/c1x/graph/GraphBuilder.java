@@ -155,7 +155,23 @@ public final class GraphBuilder {
 
         // 5.
         C1XIntrinsic intrinsic = C1XOptions.OptIntrinsify && rootMethod.canIntrinsify() ? C1XIntrinsic.getIntrinsic(rootMethod) : null;
-        if (intrinsic != null) {
+        if (intrinsic == null && osrEntry == null && rootMethod.intrinsic() == null &&
+                        compilation.compiler.intrinsicRegistry.get(rootMethod) instanceof C1XIntrinsicImpl) {
+            // 6C.1 the root method is a JDK method with an intrinsic implementation registered by name
+            lastInstr = stdEntry;
+            boolean isStatic = Modifier.isStatic(rootMethod.accessFlags());
+            Value[] args = new Value[rootMethod.signature().argumentSlots(!isStatic)];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = curState.localAt(i);
+            }
+            boolean result = tryInlineIntrinsicId(rootMethod, args, isStatic);
+            assert result;
+            CiKind rt = returnKind(rootMethod).stackKind();
+            genReturn(rt == CiKind.Void ? null : pop(rt));
+            BlockEnd end = (BlockEnd) lastInstr;
+            stdEntry.setEnd(end);
+            end.setStateAfter(curState.immutableCopy(bci()));
+        } else if (intrinsic != null) {
             lastInstr = stdEntry;
             // 6A.1 the root method is an intrinsic; load the parameters onto the stack and try to inline it
             if (C1XOptions.OptIntrinsify && osrEntry == null) {
@@ -921,9 +937,10 @@ public final class GraphBuilder {
         if (target == null) {
             return;
         }
+        FrameState stateBefore = C1XOptions.OptProfileGuidedInlining ? curState.immutableCopy(bci()) : null;
         Value[] args = curState.popArguments(target.signature().argumentSlots(true));
         if (!tryRemoveCall(target, args, false)) {
-            genInvokeIndirect(INVOKEINTERFACE, target, args, cpi, constantPool);
+            genInvokeIndirect(INVOKEINTERFACE, target, args, cpi, constantPool, stateBefore);
         }
     }
 
@@ -932,9 +949,10 @@ public final class GraphBuilder {
         if (target == null) {
             return;
         }
+        FrameState stateBefore = C1XOptions.OptProfileGuidedInlining ? curState.immutableCopy(bci()) : null;
         Value[] args = curState.popArguments(target.signature().argumentSlots(true));
         if (!tryRemoveCall(target, args, false)) {
-            genInvokeIndirect(INVOKEVIRTUAL, target, args, cpi, constantPool);
+            genInvokeIndirect(INVOKEVIRTUAL, target, args, cpi, constantPool, stateBefore);
         }
     }
 
@@ -997,7 +1015,7 @@ public final class GraphBuilder {
         return false;
     }
 
-    private void genInvokeIndirect(int opcode, RiMethod target, Value[] args, int cpi, RiConstantPool constantPool) {
+    private void genInvokeIndirect(int opcode, RiMethod target, Value[] args, int cpi, RiConstantPool constantPool, FrameState stateBefore) {
         Value receiver = args[0];
 
         assert target.holder().kind(false) == CiKind.Object;
@@ -1056,12 +1074,81 @@ public final class GraphBuilder {
                 assert result : "Inlining must succeed";
                 return;
             }
+            // 4. speculate on the receiver type that dominates the profile of this call site
+            if (stateBefore != null && tryInlineProfiledReceiver(resolvedTarget, args, stateBefore)) {
+                return;
+            }
         }
 
         // devirtualization failed, produce an actual invokevirtual
         appendInvoke(opcode, target, args, false, cpi, constantPool);
     }
 
+    /**
+     * Inlines the implementation of a virtual or interface call for the receiver type that dominates the
+     * baseline profile of the call site. The inlined code is guarded by a {@link TypeGuard} that deoptimizes
+     * if the receiver is of any other type. A call site whose guard has already failed
+     * {@link C1XOptions#PerBytecodeTrapLimit} times is not inlined this way any more.
+     *
+     * @param stateBefore the frame state before the call, with the arguments still on the stack
+     * @return {@code true} if the call was inlined
+     */
+    private boolean tryInlineProfiledReceiver(RiResolvedMethod target, Value[] args, FrameState stateBefore) {
+        if (method().trapCount(bci()) >= C1XOptions.PerBytecodeTrapLimit) {
+            return false;
+        }
+        RiTypeProfile profile = method().typeProfile(bci());
+        if (profile == null || profile.types == null || profile.count < C1XOptions.MinimumProfiledCallSiteCount) {
+            return false;
+        }
+        RiResolvedType dominant = null;
+        for (int i = 0; i < profile.types.length; i++) {
+            if (profile.probabilities[i] >= C1XOptions.MinimumReceiverTypeProbability) {
+                dominant = profile.types[i];
+                break;
+            }
+        }
+        if (dominant == null || dominant.isInterface() || !dominant.isSubtypeOf(target.holder())) {
+            return false;
+        }
+        RiResolvedMethod impl = dominant.resolveMethodImpl(target);
+        if (impl == null || isAbstract(impl.accessFlags())) {
+            return false;
+        }
+        boolean intrinsic = compilation.compiler.intrinsicRegistry.get(impl) instanceof C1XIntrinsicImpl;
+        if (!intrinsic && !checkInliningConditions(impl)) {
+            return false;
+        }
+        if (C1XOptions.PrintAssumptions) {
+            TTY.println("Guarded inline of " + impl + " because of profiled receiver type " + dominant);
+        }
+        Value receiver = args[0];
+        if (!receiver.isNonNull()) {
+            receiver = append(new NullCheck(receiver, null));
+        }
+        Value hub = appendConstant(dominant.getEncoding(Representation.ObjectHub));
+        args[0] = append(new TypeGuard(dominant, hub, receiver, stateBefore));
+        C1XMetrics.InlinedProfiledReceivers++;
+        if (intrinsic && tryInlineIntrinsicId(impl, args, false)) {
+            return true;
+        }
+        boolean result = tryInline(impl, args);
+        assert result : "Inlining must succeed";
+        return true;
+    }
+
+    /**
+     * Determines if the call site at the current bytecode has been executed often enough by the baseline
+     * code for a larger inlining budget to be granted to its target.
+     */
+    private boolean isHotCallSite() {
+        if (!C1XOptions.OptProfileGuidedInlining) {
+            return false;
+        }
+        RiTypeProfile profile = method().typeProfile(bci());
+        return profile != null && profile.count >= C1XOptions.HotCallSiteCount;
+    }
+
     private CiKind returnKind(RiMethod target) {
         return target.signature().returnKind(false);
     }
@@ -1809,7 +1896,10 @@ public final class GraphBuilder {
             return cannotInline(target, "recursive inlining too deep");
         }
         if (target.code().length > scopeData.maxInlineSize()) {
-            return cannotInline(target, "inlinee too large for this level");
+            if (target.code().length > C1XOptions.MaximumHotInlineSize || !isHotCallSite()) {
+                return cannotInline(target, "inlinee too large for this level");
+            }
+            C1XMetrics.InlinedHotCallSites++;
         }
         if (scopeData.scope.level + 1 > C1XOptions.MaximumInlineLevel) {
             return cannotInline(target, "inlining too deep");
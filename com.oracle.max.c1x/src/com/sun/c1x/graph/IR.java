@@ -163,6 +163,11 @@ public class IR {
             new GlobalValueNumberer(this);
             observeCompilationEvent("After global value numbering");
         }
+        if (C1XOptions.OptLoopInvariantCodeMotion || C1XOptions.OptRangeCheckElimination) {
+            makeLinearScanOrder();
+            new LoopOptimizer(this);
+            observeCompilationEvent("After loop optimization");
+        }
         if (C1XOptions.OptDeadCodeElimination2) {
             new LivenessMarker(this).removeDeadCode();
             observeCompilationEvent("After dead code elimination 2");
@@ -29,19 +29,33 @@ import com.sun.cri.ci.*;
 
 /**
  * Performs a bounds check on the index variable given a length. Deoptimizes on index < 0 || index >= length.
- *
+ * A check can be restricted to a range of indexes {@code [rangeStart, rangeEnd)}, in which case it is only
+ * performed if that range is not empty.
  */
 public final class BoundsCheck extends Guard {
 
     Value index;
     Value length;
+    Value rangeStart;
+    Value rangeEnd;
 
     public BoundsCheck(Value index, Value length, FrameState stateBefore, Condition condition) {
+        this(index, length, stateBefore, condition, null, null);
+    }
+
+    /**
+     * Creates a bounds check that is only performed if {@code rangeStart < rangeEnd}.
+     */
+    public BoundsCheck(Value index, Value length, FrameState stateBefore, Condition condition, Value rangeStart, Value rangeEnd) {
         super(condition, stateBefore);
         this.index = index;
         this.length = length;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
         assert index.kind == CiKind.Int;
         assert length.kind == CiKind.Int;
+        assert (rangeStart == null) == (rangeEnd == null);
+        assert rangeStart == null || (rangeStart.kind == CiKind.Int && rangeEnd.kind == CiKind.Int);
     }
 
     public Value index() {
@@ -52,10 +66,30 @@ public final class BoundsCheck extends Guard {
         return length;
     }
 
+    /**
+     * Gets the start of the range of indexes this check is restricted to.
+     * @return {@code null} if this check is always performed
+     */
+    public Value rangeStart() {
+        return rangeStart;
+    }
+
+    /**
+     * Gets the (exclusive) end of the range of indexes this check is restricted to.
+     * @return {@code null} if this check is always performed
+     */
+    public Value rangeEnd() {
+        return rangeEnd;
+    }
+
     @Override
     public void inputValuesDo(ValueClosure closure) {
         index = closure.apply(index);
         length = closure.apply(length);
+        if (rangeStart != null) {
+            rangeStart = closure.apply(rangeStart);
+            rangeEnd = closure.apply(rangeEnd);
+        }
     }
 
     @Override
@@ -66,5 +100,8 @@ public final class BoundsCheck extends Guard {
     @Override
     public void print(LogStream out) {
         out.print("boundsCheck ").print(Util.valueString(index)).print(" ").print(Util.valueString(length));
+        if (rangeStart != null) {
+            out.print(" if ").print(Util.valueString(rangeStart)).print(" < ").print(Util.valueString(rangeEnd));
+        }
     }
 }
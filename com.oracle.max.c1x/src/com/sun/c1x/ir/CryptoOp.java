@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.ir;
+
+import static com.sun.c1x.util.Util.*;
+
+import com.oracle.max.criutils.*;
+import com.sun.c1x.lir.*;
+import com.sun.cri.ci.*;
+
+/**
+ * A checksum or cryptographic primitive that is compiled to a sequence of instructions of a dedicated instruction
+ * set extension. An array operand is given by the array and the offset in bytes of its first element of interest
+ * from its origin. The operation and its {@linkplain #input(int) inputs} are one of:
+ * <ul>
+ * <li>{@link LIROpcode#Crc32Update}: {@code crc, array, offset, count}: returns the CRC-32 {@code crc} updated with
+ * {@code count} bytes, which must be a positive multiple of 16.</li>
+ * <li>{@link LIROpcode#AesEncryptBlock}, {@link LIROpcode#AesDecryptBlock}: {@code from, fromOffset, to, toOffset,
+ * key, keyOffset, keyLength}: encrypts or decrypts a 16-byte block with a key schedule of {@code keyLength} words.</li>
+ * <li>{@link LIROpcode#Sha1Compress}: {@code state, stateOffset, block, blockOffset}: applies the SHA-1 compression
+ * function to a 64-byte block.</li>
+ * <li>{@link LIROpcode#Sha256Compress}: {@code state, stateOffset, block, blockOffset, k, kOffset}: applies the
+ * SHA-256 compression function to a 64-byte block using the round constants {@code k}.</li>
+ * </ul>
+ */
+public final class CryptoOp extends Instruction {
+
+    public final LIROpcode op;
+
+    final Value[] inputs;
+
+    /**
+     * Creates a new CryptoOp instance.
+     *
+     * @param op the operation
+     * @param inputs the inputs of the operation
+     */
+    public CryptoOp(LIROpcode op, Value... inputs) {
+        super(op == LIROpcode.Crc32Update ? CiKind.Int : CiKind.Void);
+        assert inputs.length == inputCount(op);
+        this.op = op;
+        this.inputs = inputs;
+        if (op != LIROpcode.Crc32Update) {
+            setFlag(Flag.LiveSideEffect); // ensure this instruction is not eliminated
+        }
+    }
+
+    /**
+     * Gets the number of inputs of a given operation.
+     */
+    public static int inputCount(LIROpcode op) {
+        switch (op) {
+            case Crc32Update:
+            case Sha1Compress:
+                return 4;
+            case AesEncryptBlock:
+            case AesDecryptBlock:
+                return 7;
+            case Sha256Compress:
+                return 6;
+            default:
+                throw new IllegalArgumentException(op.toString());
+        }
+    }
+
+    public int inputCount() {
+        return inputs.length;
+    }
+
+    public Value input(int index) {
+        return inputs[index];
+    }
+
+    @Override
+    public void inputValuesDo(ValueClosure closure) {
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = closure.apply(inputs[i]);
+        }
+    }
+
+    @Override
+    public void accept(ValueVisitor v) {
+        v.visitCryptoOp(this);
+    }
+
+    @Override
+    public void print(LogStream out) {
+        out.print(op.toString()).print(" [");
+        for (int i = 0; i < inputs.length; i++) {
+            if (i != 0) {
+                out.print(", ");
+            }
+            out.print(valueString(inputs[i]));
+        }
+        out.print("]");
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.ir;
+
+import com.oracle.max.criutils.*;
+import com.sun.c1x.util.*;
+import com.sun.c1x.value.*;
+import com.sun.cri.bytecode.*;
+import com.sun.cri.ci.*;
+import com.sun.cri.ri.*;
+
+/**
+ * The {@code TypeGuard} instruction speculates that a non-null object has a given exact type and
+ * deoptimizes if it does not. It is used to inline the receiver type that dominates the profile of
+ * a virtual call site. The result of this instruction is the object itself, with the guarded type
+ * as its exact type. A failing guard is recorded against the bytecode index of its state, which
+ * stops the speculation there once it has failed often enough.
+ */
+public final class TypeGuard extends StateSplit {
+
+    final RiResolvedType type;
+    Value hub;
+    Value object;
+
+    /**
+     * Creates a new TypeGuard instruction.
+     * @param type the exact type the object is expected to have
+     * @param hub the instruction producing the hub of {@code type}
+     * @param object the instruction producing the object, which must be non-null
+     * @param stateBefore the state to resume execution in if the object does not have the expected type
+     */
+    public TypeGuard(RiResolvedType type, Value hub, Value object, FrameState stateBefore) {
+        super(CiKind.Object, stateBefore);
+        assert object.isNonNull();
+        this.type = type;
+        this.hub = hub;
+        this.object = object;
+        setFlag(Flag.NonNull);
+    }
+
+    /**
+     * Gets the type the object is expected to have.
+     * @return the guarded type
+     */
+    public RiResolvedType type() {
+        return type;
+    }
+
+    /**
+     * Gets the instruction producing the hub of the guarded type.
+     * @return the instruction producing the hub
+     */
+    public Value hub() {
+        return hub;
+    }
+
+    /**
+     * Gets the instruction producing the object whose type is checked.
+     * @return the instruction producing the object
+     */
+    public Value object() {
+        return object;
+    }
+
+    @Override
+    public RiResolvedType declaredType() {
+        return type;
+    }
+
+    @Override
+    public RiResolvedType exactType() {
+        return type;
+    }
+
+    @Override
+    public void inputValuesDo(ValueClosure closure) {
+        object = closure.apply(object);
+        hub = closure.apply(hub);
+    }
+
+    @Override
+    public void accept(ValueVisitor v) {
+        v.visitTypeGuard(this);
+    }
+
+    @Override
+    public int valueNumber() {
+        return Util.hash2(Bytecodes.CHECKCAST, object, hub);
+    }
+
+    @Override
+    public boolean valueEqual(Instruction i) {
+        if (i instanceof TypeGuard) {
+            TypeGuard o = (TypeGuard) i;
+            return type == o.type && object == o.object;
+        }
+        return false;
+    }
+
+    @Override
+    public void print(LogStream out) {
+        out.print("typeGuard(").
+            print(Util.valueString(object)).
+            print(",").
+            print(Util.valueString(hub)).
+            print(") ").
+            print(CiUtil.toJavaName(type));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.ir;
+
+import static com.sun.c1x.util.Util.*;
+
+import com.oracle.max.criutils.*;
+import com.sun.c1x.lir.*;
+import com.sun.cri.ci.*;
+
+/**
+ * An operation on a range of array elements that is compiled to a loop processing 16 bytes per iteration with
+ * packed SIMD instructions. The range is given by a byte offset from the origin of the array(s) and an element count.
+ * The operation is one of:
+ * <ul>
+ * <li>{@link LIROpcode#ArrayFill}: stores a 64-bit {@linkplain #value() pattern} repeatedly into the range.</li>
+ * <li>{@link LIROpcode#ArrayMismatch}: returns the index of the first element in which the range differs between
+ * the {@linkplain #array() array} and the {@linkplain #other() other} array, or -1.</li>
+ * <li>{@link LIROpcode#ArrayIndexOfChar}: returns the index of the first {@code char} element in the range that is
+ * equal to the {@linkplain #value() value}, or -1.</li>
+ * <li>{@link LIROpcode#ArrayCopy}: copies the range of the {@linkplain #array() array} to the range of the
+ * {@linkplain #other() other} array starting at the {@linkplain #otherOffset() other offset}. The ranges may overlap
+ * unless the operation is {@linkplain #disjoint disjoint}. A copy of a constant number of elements totalling at
+ * most 32 bytes is compiled to straight-line code.</li>
+ * </ul>
+ */
+public final class VectorizedArrayOp extends Instruction {
+
+    public final LIROpcode op;
+
+    /**
+     * The base-2 logarithm of the size in bytes of an element.
+     */
+    public final int log2ElementSize;
+
+    /**
+     * Specifies if the source and destination ranges of an {@link LIROpcode#ArrayCopy} operation are known not to overlap.
+     */
+    public final boolean disjoint;
+
+    Value array;
+    Value other;
+    Value offset;
+    Value otherOffset;
+    Value count;
+    Value value;
+
+    /**
+     * Creates a new VectorizedArrayOp instance.
+     *
+     * @param op the operation
+     * @param array the array
+     * @param other the second array of an {@link LIROpcode#ArrayMismatch} operation, {@code null} otherwise
+     * @param offset the offset in bytes of the first element of the range from the origin of the array(s)
+     * @param count the number of elements in the range
+     * @param log2ElementSize the base-2 logarithm of the size in bytes of an element
+     * @param value the fill pattern or the character searched for, {@code null} for an {@link LIROpcode#ArrayMismatch} operation
+     */
+    public VectorizedArrayOp(LIROpcode op, Value array, Value other, Value offset, Value count, int log2ElementSize, Value value) {
+        super(op == LIROpcode.ArrayFill ? CiKind.Void : CiKind.Int);
+        assert op == LIROpcode.ArrayFill || op == LIROpcode.ArrayMismatch || op == LIROpcode.ArrayIndexOfChar;
+        assert (other != null) == (op == LIROpcode.ArrayMismatch) && (value != null) == (op != LIROpcode.ArrayMismatch);
+        this.op = op;
+        this.array = array;
+        this.other = other;
+        this.offset = offset;
+        this.count = count;
+        this.log2ElementSize = log2ElementSize;
+        this.value = value;
+        this.disjoint = false;
+        if (op == LIROpcode.ArrayFill) {
+            setFlag(Flag.LiveSideEffect); // ensure this instruction is not eliminated
+        }
+    }
+
+    /**
+     * Creates a new VectorizedArrayOp instance for an {@link LIROpcode#ArrayCopy} operation. An array that is
+     * {@code null} denotes the absolute address given by its offset.
+     *
+     * @param from the source array
+     * @param fromOffset the offset in bytes of the source range from the origin of {@code from}, as a {@code long}
+     * @param to the destination array
+     * @param toOffset the offset in bytes of the destination range from the origin of {@code to}, as a {@code long}
+     * @param count the number of elements to copy
+     * @param log2ElementSize the base-2 logarithm of the size in bytes of an element
+     * @param disjoint specifies if the source and destination ranges are known not to overlap
+     */
+    public VectorizedArrayOp(Value from, Value fromOffset, Value to, Value toOffset, Value count, int log2ElementSize, boolean disjoint) {
+        super(CiKind.Void);
+        this.op = LIROpcode.ArrayCopy;
+        this.array = from;
+        this.offset = fromOffset;
+        this.other = to;
+        this.otherOffset = toOffset;
+        this.count = count;
+        this.log2ElementSize = log2ElementSize;
+        this.disjoint = disjoint;
+        setFlag(Flag.LiveSideEffect); // ensure this instruction is not eliminated
+    }
+
+    public Value array() {
+        return array;
+    }
+
+    public Value other() {
+        return other;
+    }
+
+    public Value offset() {
+        return offset;
+    }
+
+    /**
+     * Gets the offset of the destination range of an {@link LIROpcode#ArrayCopy} operation, {@code null} otherwise.
+     */
+    public Value otherOffset() {
+        return otherOffset;
+    }
+
+    public Value count() {
+        return count;
+    }
+
+    public Value value() {
+        return value;
+    }
+
+    @Override
+    public void inputValuesDo(ValueClosure closure) {
+        array = closure.apply(array);
+        if (other != null) {
+            other = closure.apply(other);
+        }
+        offset = closure.apply(offset);
+        if (otherOffset != null) {
+            otherOffset = closure.apply(otherOffset);
+        }
+        count = closure.apply(count);
+        if (value != null) {
+            value = closure.apply(value);
+        }
+    }
+
+    @Override
+    public void accept(ValueVisitor v) {
+        v.visitVectorizedArrayOp(this);
+    }
+
+    @Override
+    public void print(LogStream out) {
+        out.print(op.toString()).print(" [").print(valueString(array));
+        out.print(" + ").print(valueString(offset));
+        if (otherOffset != null) {
+            out.print(", ").print(valueString(other)).print(" + ").print(valueString(otherOffset));
+        } else if (other != null) {
+            out.print(", ").print(valueString(other));
+        }
+        out.print(", ").print(valueString(count)).print(" << ").print(log2ElementSize);
+        if (value != null) {
+            out.print(", ").print(valueString(value));
+        }
+        out.print("]");
+    }
+}
@@ -508,6 +508,10 @@ public abstract class LIRAssembler {
 
     protected abstract void emitCompareAndSwap(LIRCompareAndSwap compareAndSwap);
 
+    protected abstract void emitVectorizedArrayOp(LIRVectorizedArrayOp op);
+
+    protected abstract void emitCryptoOp(LIRCryptoOp op);
+
     protected abstract void emitXir(LIRXirInstruction xirInstruction);
 
     protected abstract void emitIndirectCall(Object target, LIRDebugInfo info, CiValue callAddress);
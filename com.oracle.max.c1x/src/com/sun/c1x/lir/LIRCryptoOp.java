@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.lir;
+
+import com.sun.c1x.ir.*;
+import com.sun.cri.ci.*;
+
+/**
+ * LIR instruction used in translating {@link CryptoOp}. All input operands are destroyed.
+ * The instruction also requires one general purpose temporary register and a number of XMM
+ * temporary registers that depends on the operation.
+ */
+public class LIRCryptoOp extends LIRInstruction {
+
+    private final int inputCount;
+
+    /**
+     * Constructs a new LIRCryptoOp instruction.
+     *
+     * @param opcode one of {@link LIROpcode#Crc32Update}, {@link LIROpcode#AesEncryptBlock}, {@link LIROpcode#AesDecryptBlock},
+     *            {@link LIROpcode#Sha1Compress} or {@link LIROpcode#Sha256Compress}
+     * @param result the result operand or {@link CiValue#IllegalValue} if the operation has no result
+     * @param inputs the inputs of the operation, in the order described by {@link CryptoOp}
+     * @param temps the general purpose temporary followed by the XMM temporaries
+     */
+    public LIRCryptoOp(LIROpcode opcode, CiValue result, CiValue[] inputs, CiValue[] temps) {
+        super(opcode, result, null, false, inputs.length, temps.length, concat(inputs, temps));
+        this.inputCount = inputs.length;
+    }
+
+    private static CiValue[] concat(CiValue[] inputs, CiValue[] temps) {
+        CiValue[] operands = new CiValue[inputs.length + temps.length];
+        System.arraycopy(inputs, 0, operands, 0, inputs.length);
+        System.arraycopy(temps, 0, operands, inputs.length, temps.length);
+        return operands;
+    }
+
+    public CiValue input(int index) {
+        assert index < inputCount;
+        return operand(index);
+    }
+
+    /**
+     * Gets one of the temporaries of this instruction. Temporary 0 is a general purpose register, the others are XMM registers.
+     */
+    public CiValue temp(int index) {
+        return operand(inputCount + index);
+    }
+
+    /**
+     * Gets the number of temporaries of this instruction.
+     */
+    public int tempCount() {
+        return operands.length - inputCount;
+    }
+
+    @Override
+    public void emitCode(LIRAssembler masm) {
+        masm.emitCryptoOp(this);
+    }
+}
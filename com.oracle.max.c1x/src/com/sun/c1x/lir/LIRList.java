@@ -394,6 +394,15 @@ public final class LIRList {
         append(new LIRCompareAndSwap(LIROpcode.CasInt, addr, cmpValue, newValue));
     }
 
+    public void vectorizedArrayOp(LIROpcode opcode, CiValue result, CiValue array, CiValue other, CiValue offset, CiValue otherOffset, CiValue count,
+                    int log2ElementSize, boolean disjoint, CiValue value, CiValue... temps) {
+        append(new LIRVectorizedArrayOp(opcode, result, array, other, offset, otherOffset, count, log2ElementSize, disjoint, value, temps));
+    }
+
+    public void cryptoOp(LIROpcode opcode, CiValue result, CiValue[] inputs, CiValue[] temps) {
+        append(new LIRCryptoOp(opcode, result, inputs, temps));
+    }
+
     public void store(CiValue src, CiAddress dst, LIRDebugInfo info) {
         append(new LIROp1(LIROpcode.Move, src, dst, dst.kind, info));
     }
@@ -103,6 +103,15 @@ public enum LIROpcode {
     CasLong,
     CasObj,
     CasInt,
+    ArrayFill,
+    ArrayMismatch,
+    ArrayIndexOfChar,
+    ArrayCopy,
+    Crc32Update,
+    AesEncryptBlock,
+    AesDecryptBlock,
+    Sha1Compress,
+    Sha256Compress,
     Xir,
     // Checkstyle: on
 }
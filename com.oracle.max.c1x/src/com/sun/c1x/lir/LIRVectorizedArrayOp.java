@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.lir;
+
+import com.sun.c1x.ir.*;
+import com.sun.cri.ci.*;
+
+/**
+ * LIR instruction used in translating {@link VectorizedArrayOp}. All input operands are destroyed,
+ * except for the element count of an {@link LIROpcode#ArrayCopy} which may be a constant.
+ * The instruction also requires two general purpose and two XMM temporary registers.
+ */
+public class LIRVectorizedArrayOp extends LIRInstruction {
+
+    /**
+     * The maximum size in bytes of an {@link LIROpcode#ArrayCopy} of constant length that is emitted as straight-line code.
+     */
+    public static final int MAX_INLINE_COPY_BYTES = 32;
+
+    /**
+     * The base-2 logarithm of the size in bytes of an element.
+     */
+    public final int log2ElementSize;
+
+    /**
+     * Specifies if the ranges of an {@link LIROpcode#ArrayCopy} are known not to overlap.
+     */
+    public final boolean disjoint;
+
+    /**
+     * Constructs a new LIRVectorizedArrayOp instruction.
+     *
+     * @param opcode one of {@link LIROpcode#ArrayFill}, {@link LIROpcode#ArrayMismatch}, {@link LIROpcode#ArrayIndexOfChar}
+     *            or {@link LIROpcode#ArrayCopy}
+     * @param result the result operand or {@link CiValue#IllegalValue} for {@link LIROpcode#ArrayFill} and {@link LIROpcode#ArrayCopy}
+     * @param array the array, or the source array of a copy
+     * @param other the second array, the destination array of a copy or {@link CiValue#IllegalValue}
+     * @param offset the offset in bytes of the range from the origin of the array(s)
+     * @param otherOffset the offset in bytes of the destination range of a copy or {@link CiValue#IllegalValue}
+     * @param count the number of elements in the range
+     * @param log2ElementSize the base-2 logarithm of the size in bytes of an element
+     * @param disjoint specifies if the ranges of a copy are known not to overlap
+     * @param value the fill pattern or the character searched for, or {@link CiValue#IllegalValue}
+     * @param temps the two general purpose and two XMM temporaries
+     */
+    public LIRVectorizedArrayOp(LIROpcode opcode, CiValue result, CiValue array, CiValue other, CiValue offset, CiValue otherOffset, CiValue count,
+                    int log2ElementSize, boolean disjoint, CiValue value, CiValue... temps) {
+        super(opcode, result, null, false, 6, 4, array, other, offset, otherOffset, count, value, temps[0], temps[1], temps[2], temps[3]);
+        assert temps.length == 4;
+        this.log2ElementSize = log2ElementSize;
+        this.disjoint = disjoint;
+    }
+
+    public CiValue array() {
+        return operand(0);
+    }
+
+    public CiValue other() {
+        return operand(1);
+    }
+
+    public CiValue offset() {
+        return operand(2);
+    }
+
+    public CiValue otherOffset() {
+        return operand(3);
+    }
+
+    public CiValue count() {
+        return operand(4);
+    }
+
+    public CiValue value() {
+        return operand(5);
+    }
+
+    /**
+     * Gets one of the temporaries of this instruction. Temporaries 0 and 1 are general purpose registers, 2 and 3 are XMM registers.
+     */
+    public CiValue temp(int index) {
+        return operand(6 + index);
+    }
+
+    @Override
+    public void emitCode(LIRAssembler masm) {
+        masm.emitVectorizedArrayOp(this);
+    }
+}
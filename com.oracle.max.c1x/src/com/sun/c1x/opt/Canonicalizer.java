@@ -1516,6 +1516,14 @@ public class Canonicalizer extends DefaultValueVisitor {
         }
     }
 
+    @Override
+    public void visitTypeGuard(TypeGuard i) {
+        if (i.object().exactType() == i.type()) {
+            // the type of the object is already known
+            setCanonical(i.object());
+        }
+    }
+
     @Override
     public void visitBoundsCheck(BoundsCheck b) {
         Value index = b.index();
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.c1x.opt;
+
+import java.util.*;
+
+import com.sun.c1x.*;
+import com.sun.c1x.graph.*;
+import com.sun.c1x.ir.*;
+import com.sun.c1x.value.*;
+import com.sun.cri.bytecode.*;
+import com.sun.cri.ci.*;
+
+/**
+ * This class implements loop-invariant code motion and range check elimination for the natural
+ * loops found by {@link ComputeLinearScanOrder}. Loops are processed from the innermost outwards
+ * and only loops with a single entry edge from a block ending in a {@link Goto} (the <i>preheader</i>)
+ * are optimized.
+ *
+ * Loop-invariant code motion moves side-effect free instructions whose inputs are all defined outside
+ * a loop to the end of the loop's preheader.
+ *
+ * Range check elimination recognizes counted loops, i.e. loops whose header ends in a test {@code i < limit}
+ * where {@code i} is a phi of the header that is incremented by one on every back edge. Within the loop,
+ * {@code 0 <= i < limit} holds for every access dominated by the test, so the bounds check of an access
+ * {@code a[i]} is redundant if {@code limit} is the length of {@code a} and the initial value of {@code i}
+ * is a non-negative constant. Otherwise, if {@code a} and {@code limit} are loop invariant, the bounds
+ * check is replaced by {@linkplain BoundsCheck predicates} in the preheader that deoptimize if
+ * {@code limit > a.length} or if the initial value of {@code i} is negative. The predicates are only
+ * checked if the initial value of {@code i} is less than {@code limit}, i.e. if the loop body is entered.
+ * They are only inserted for accesses that are performed in every iteration of a loop that can only be
+ * exited through its header, so a failing predicate means that the loop will throw an
+ * {@code ArrayIndexOutOfBoundsException}, unless it throws another exception or does not terminate before
+ * reaching the offending index. Deoptimizing is correct in either case. No predicates are inserted for a
+ * loop once they have trapped {@link C1XOptions#PerBytecodeTrapLimit} times.
+ */
+public class LoopOptimizer {
+
+    /**
+     * A natural loop and its preheader.
+     */
+    private static final class Loop {
+        final BlockBegin header;
+        final BlockBegin preheader;
+        final List<BlockBegin> backEdges;
+        final CiBitMap blockMap;
+        final List<BlockBegin> blocks;
+        final HashSet<Value> values;
+        boolean singleExit;
+
+        Loop(BlockBegin header, BlockBegin preheader, List<BlockBegin> backEdges, int maxBlockId) {
+            this.header = header;
+            this.preheader = preheader;
+            this.backEdges = backEdges;
+            this.blockMap = new CiBitMap(maxBlockId);
+            this.blocks = new ArrayList<BlockBegin>();
+            this.values = new HashSet<Value>();
+        }
+
+        boolean contains(BlockBegin block) {
+            return blockMap.get(block.blockID);
+        }
+
+        /**
+         * Determines if a value is defined outside of this loop.
+         */
+        boolean isInvariant(Value value) {
+            if (value instanceof Phi) {
+                return !contains(((Phi) value).block());
+            }
+            return !values.contains(value);
+        }
+    }
+
+    final IR ir;
+
+    /**
+     * Creates a new LoopOptimizer and performs it on the IR.
+     *
+     * @param ir the IR on which to perform the loop optimizations
+     */
+    public LoopOptimizer(IR ir) {
+        this.ir = ir;
+        List<BlockBegin> headers = new ArrayList<BlockBegin>();
+        for (BlockBegin block : ir.linearScanOrder()) {
+            if (block.isLinearScanLoopHeader()) {
+                headers.add(block);
+            }
+        }
+        // process inner loops first so that their invariants can be hoisted further by enclosing loops
+        Collections.sort(headers, new Comparator<BlockBegin>() {
+            public int compare(BlockBegin o1, BlockBegin o2) {
+                return o2.loopDepth() - o1.loopDepth();
+            }
+        });
+        for (BlockBegin header : headers) {
+            Loop loop = findLoop(header);
+            if (loop != null) {
+                if (C1XOptions.OptLoopInvariantCodeMotion) {
+                    hoistInvariants(loop);
+                }
+                if (C1XOptions.OptRangeCheckElimination) {
+                    eliminateRangeChecks(loop);
+                }
+            }
+        }
+    }
+
+    private static boolean dominates(BlockBegin dominator, BlockBegin block) {
+        for (BlockBegin b = block; b != null; b = b.dominator()) {
+            if (b == dominator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the blocks of the natural loop with a given header.
+     *
+     * @return the loop or {@code null} if the loop does not have a suitable preheader or contains exception handlers
+     */
+    private Loop findLoop(BlockBegin header) {
+        if (header.isExceptionEntry()) {
+            return null;
+        }
+        BlockBegin preheader = null;
+        List<BlockBegin> backEdges = new ArrayList<BlockBegin>(2);
+        for (BlockBegin pred : header.predecessors()) {
+            if (dominates(header, pred)) {
+                backEdges.add(pred);
+            } else if (preheader == null) {
+                preheader = pred;
+            } else {
+                // more than one entry edge
+                return null;
+            }
+        }
+        if (preheader == null || backEdges.isEmpty() || !(preheader.end() instanceof Goto)) {
+            return null;
+        }
+
+        Loop loop = new Loop(header, preheader, backEdges, ir.numberOfBlocks());
+        loop.blockMap.set(header.blockID);
+        ArrayList<BlockBegin> workList = new ArrayList<BlockBegin>(backEdges);
+        while (!workList.isEmpty()) {
+            BlockBegin block = workList.remove(workList.size() - 1);
+            if (!loop.contains(block)) {
+                if (block.isExceptionEntry()) {
+                    return null;
+                }
+                loop.blockMap.set(block.blockID);
+                workList.addAll(block.predecessors());
+            }
+        }
+
+        loop.singleExit = true;
+        for (BlockBegin block : ir.linearScanOrder()) {
+            if (loop.contains(block)) {
+                loop.blocks.add(block);
+                for (Instruction instr = block.next(); instr != null; instr = instr.next()) {
+                    loop.values.add(instr);
+                }
+                if (block != header) {
+                    for (BlockBegin succ : block.end().successors()) {
+                        if (!loop.contains(succ)) {
+                            loop.singleExit = false;
+                        }
+                    }
+                }
+            }
+        }
+        return loop;
+    }
+
+    /**
+     * Inserts an instruction at the end of a loop's preheader, just before its {@link Goto}.
+     */
+    private static void appendToPreheader(Loop loop, Instruction instr, int bci) {
+        BlockEnd end = loop.preheader.end();
+        Instruction last = end.prev(loop.preheader);
+        last.setNext(instr, bci);
+        instr.resetNext(end);
+    }
+
+    private static boolean isHoistable(final Loop loop, Instruction instr) {
+        if (instr instanceof BlockEnd || instr.stateBefore() != null || instr.stateAfter() != null) {
+            return false;
+        }
+        if (instr instanceof ArithmeticOp) {
+            if (instr.canTrap()) {
+                return false;
+            }
+        } else if (!(instr instanceof Constant || instr instanceof LogicOp || instr instanceof ShiftOp ||
+                     instr instanceof NegateOp || instr instanceof Convert || instr instanceof CompareOp)) {
+            return false;
+        }
+        final boolean[] invariant = {true};
+        instr.inputValuesDo(new ValueClosure() {
+            public Value apply(Value i) {
+                if (!loop.isInvariant(i)) {
+                    invariant[0] = false;
+                }
+                return i;
+            }
+        });
+        return invariant[0];
+    }
+
+    private void hoistInvariants(Loop loop) {
+        for (BlockBegin block : loop.blocks) {
+            Instruction prev = block;
+            Instruction instr = block.next();
+            while (instr != null) {
+                Instruction next = instr.next();
+                if (isHoistable(loop, instr)) {
+                    prev.resetNext(next);
+                    appendToPreheader(loop, instr, instr.bci());
+                    loop.values.remove(instr);
+                    C1XMetrics.LoopInvariantsHoisted++;
+                } else {
+                    prev = instr;
+                }
+                instr = next;
+            }
+        }
+    }
+
+    /**
+     * Gets the initial value of an induction variable that is incremented by one on every back edge of a loop.
+     *
+     * @param body the block in the loop that all back edges must be dominated by
+     * @return the initial value of {@code phi} or {@code null} if it is not such an induction variable
+     */
+    private static Value inductionVariableInit(Loop loop, Phi phi, BlockBegin body) {
+        Value init = null;
+        BlockBegin header = loop.header;
+        for (int j = 0; j < header.numberOfPreds(); j++) {
+            BlockBegin pred = header.predAt(j);
+            Value input = phi.inputAt(j);
+            if (pred == loop.preheader) {
+                init = input;
+            } else {
+                if (!(input instanceof ArithmeticOp) || !dominates(body, pred)) {
+                    return null;
+                }
+                ArithmeticOp increment = (ArithmeticOp) input;
+                if (increment.opcode != Bytecodes.IADD) {
+                    return null;
+                }
+                Value step = increment.x() == phi ? increment.y() : increment.y() == phi ? increment.x() : null;
+                if (step == null || !step.isConstant() || step.asConstant().asInt() != 1) {
+                    return null;
+                }
+            }
+        }
+        return init;
+    }
+
+    private void eliminateRangeChecks(Loop loop) {
+        BlockBegin header = loop.header;
+        if (!(header.end() instanceof If)) {
+            return;
+        }
+        If test = (If) header.end();
+        boolean trueInLoop = loop.contains(test.trueSuccessor());
+        if (trueInLoop == loop.contains(test.falseSuccessor())) {
+            return;
+        }
+        BlockBegin body = test.successor(trueInLoop);
+        Condition cond = trueInLoop ? test.condition() : test.condition().negate();
+        Value x = test.x();
+        Value y = test.y();
+        if (cond == Condition.GT) {
+            cond = Condition.LT;
+            x = test.y();
+            y = test.x();
+        }
+        if (cond != Condition.LT || x.kind != CiKind.Int || !(x instanceof Phi) || x.isDeadPhi() || ((Phi) x).block() != header || body == header) {
+            return;
+        }
+        Phi phi = (Phi) x;
+        Value limit = y;
+        Value init = inductionVariableInit(loop, phi, body);
+        if (init == null) {
+            return;
+        }
+        boolean initNonNegative = init.isConstant() && init.asConstant().asInt() >= 0;
+
+        // predicates are not inserted once they have trapped too often in this loop
+        FrameState deoptState = preheaderState(loop);
+        boolean mayPredicate = deoptState != null && deoptState.scope().method.trapCount(deoptState.bci) < C1XOptions.PerBytecodeTrapLimit;
+
+        // the predicates are only checked if init < limit on entry to the loop
+        Value entryLimit = loop.isInvariant(limit) ? limit : null;
+
+        HashMap<Value, BoundsCheck> upperGuards = new HashMap<Value, BoundsCheck>();
+        BoundsCheck lowerGuard = null;
+
+        for (BlockBegin block : loop.blocks) {
+            if (!dominates(body, block)) {
+                continue;
+            }
+            boolean mayGuard = loop.singleExit;
+            for (BlockBegin backEdge : loop.backEdges) {
+                mayGuard &= dominates(block, backEdge);
+            }
+            for (Instruction instr = block.next(); instr != null; instr = instr.next()) {
+                if (!(instr instanceof AccessIndexed)) {
+                    continue;
+                }
+                AccessIndexed access = (AccessIndexed) instr;
+                if (!access.needsBoundsCheck() || access.index() != phi) {
+                    continue;
+                }
+                Value array = access.array();
+                boolean lengthIsLimit = limit instanceof ArrayLength && ((ArrayLength) limit).array() == array;
+                boolean canGuardLength = loop.isInvariant(limit) && loop.isInvariant(array) && array.isNonNull();
+                if (!initNonNegative || !lengthIsLimit) {
+                    if (!mayGuard || !mayPredicate || (!lengthIsLimit && !canGuardLength)) {
+                        continue;
+                    }
+                    if (entryLimit == null) {
+                        // the limit is the length of this array, loaded in the loop
+                        if (!loop.isInvariant(array) || !array.isNonNull()) {
+                            continue;
+                        }
+                        ArrayLength length = new ArrayLength(array, deoptState);
+                        appendToPreheader(loop, length, header.bci());
+                        entryLimit = length;
+                    }
+                }
+                if (!initNonNegative && lowerGuard == null) {
+                    Constant zero = Constant.forInt(0);
+                    appendToPreheader(loop, zero, header.bci());
+                    lowerGuard = new BoundsCheck(init, zero, deoptState, Condition.GE, init, entryLimit);
+                    appendToPreheader(loop, lowerGuard, header.bci());
+                    C1XMetrics.LoopPredicatesInserted++;
+                }
+                if (!lengthIsLimit && !upperGuards.containsKey(array)) {
+                    ArrayLength length = new ArrayLength(array, deoptState);
+                    appendToPreheader(loop, length, header.bci());
+                    BoundsCheck upperGuard = new BoundsCheck(limit, length, deoptState, Condition.LE, init, entryLimit);
+                    appendToPreheader(loop, upperGuard, header.bci());
+                    upperGuards.put(array, upperGuard);
+                    C1XMetrics.LoopPredicatesInserted++;
+                }
+                access.eliminateBoundsCheck();
+            }
+        }
+    }
+
+    /**
+     * Gets the state in which to deoptimize when a predicate in the preheader of a loop fails. This is the state
+     * at the entry of the loop header, with the values flowing in from the preheader.
+     */
+    private static FrameState preheaderState(Loop loop) {
+        FrameState state = loop.preheader.end().stateAfter();
+        FrameState headerState = loop.header.stateBefore();
+        if (state == null || headerState == null || state.scope() != headerState.scope() ||
+            state.stackSize() != headerState.stackSize() || state.locksSize() != headerState.locksSize()) {
+            return null;
+        }
+        return state.copy(headerState.bci, true, true, true);
+    }
+}
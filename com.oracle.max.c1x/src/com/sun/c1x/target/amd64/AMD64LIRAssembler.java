@@ -742,6 +742,332 @@ public final class AMD64LIRAssembler extends LIRAssembler {
         }
     }
 
+    @Override
+    protected void emitVectorizedArrayOp(LIRVectorizedArrayOp op) {
+        if (op.code == LIROpcode.ArrayCopy) {
+            emitArrayCopy(op);
+            return;
+        }
+        CiRegister array = op.array().asRegister();
+        CiRegister offset = op.offset().asRegister();
+        CiRegister length = op.count().asRegister();
+        CiRegister index = op.temp(0).asRegister();
+        CiRegister tmp = op.temp(1).asRegister();
+        CiRegister vec0 = op.temp(2).asRegister();
+        CiRegister vec1 = op.temp(3).asRegister();
+
+        // Convert the range to the address of its first element and its length in bytes.
+        // Each operation is a loop processing 16 bytes per iteration with unaligned moves,
+        // followed by a scalar loop over the remaining bytes or elements.
+        masm.movslq(offset, offset);
+        masm.addq(array, offset);
+        masm.movslq(length, length);
+        if (op.log2ElementSize != 0) {
+            masm.shlq(length, op.log2ElementSize);
+        }
+        masm.xorq(index, index);
+
+        CiAddress element = new CiAddress(CiKind.Byte, array.asValue(), index.asValue(), Scale.Times1, 0);
+        Label vectorLoop = new Label();
+        Label scalarLoop = new Label();
+        Label done = new Label();
+
+        switch (op.code) {
+            case ArrayFill: {
+                CiRegister pattern = op.value().asRegister();
+                masm.movdq(vec0, pattern);
+                masm.punpcklqdq(vec0, vec0);
+
+                masm.bind(vectorLoop);
+                masm.movq(tmp, length);
+                masm.subq(tmp, index);
+                masm.cmpq(tmp, 16);
+                masm.jcc(ConditionFlag.below, scalarLoop);
+                masm.movdqu(element, vec0);
+                masm.addq(index, 16);
+                masm.jmp(vectorLoop);
+
+                // at most 15 bytes remain: store 8 of them at once, then the rest one at a time
+                Label bytes = new Label();
+                masm.bind(scalarLoop);
+                masm.cmpq(tmp, 8);
+                masm.jcc(ConditionFlag.below, bytes);
+                masm.movq(element, pattern);
+                masm.addq(index, 8);
+                masm.bind(bytes);
+                masm.cmpq(index, length);
+                masm.jcc(ConditionFlag.aboveEqual, done);
+                masm.movb(element, pattern);
+                masm.shrq(pattern, 8);
+                masm.incq(index);
+                masm.jmp(bytes);
+                masm.bind(done);
+                break;
+            }
+            case ArrayMismatch:
+            case ArrayIndexOfChar: {
+                CiRegister result = op.result().asRegister();
+                Label vectorFound = new Label();
+                Label found = new Label();
+                Label notFound = new Label();
+                CiRegister other = null;
+                CiAddress otherElement = null;
+                CiRegister value = null;
+                if (op.code == LIROpcode.ArrayMismatch) {
+                    other = op.other().asRegister();
+                    masm.addq(other, offset);
+                    otherElement = new CiAddress(CiKind.Byte, other.asValue(), index.asValue(), Scale.Times1, 0);
+                } else {
+                    // broadcast the character to all 8 words of vec0
+                    value = op.value().asRegister();
+                    masm.andl(value, 0xFFFF);
+                    masm.movdl(vec0, value);
+                    masm.pshuflw(vec0, vec0, 0);
+                    masm.pshufd(vec0, vec0, 0);
+                }
+
+                masm.bind(vectorLoop);
+                masm.movq(tmp, length);
+                masm.subq(tmp, index);
+                masm.cmpq(tmp, 16);
+                masm.jcc(ConditionFlag.below, scalarLoop);
+                if (op.code == LIROpcode.ArrayMismatch) {
+                    // tmp gets a bit set for each byte that differs
+                    masm.movdqu(vec0, element);
+                    masm.movdqu(vec1, otherElement);
+                    masm.pcmpeqb(vec0, vec1);
+                    masm.pmovmskb(tmp, vec0);
+                    masm.xorl(tmp, 0xFFFF);
+                } else {
+                    // tmp gets two bits set for each matching character
+                    masm.movdqu(vec1, element);
+                    masm.pcmpeqw(vec1, vec0);
+                    masm.pmovmskb(tmp, vec1);
+                    masm.testl(tmp, tmp);
+                }
+                masm.jcc(ConditionFlag.notZero, vectorFound);
+                masm.addq(index, 16);
+                masm.jmp(vectorLoop);
+
+                masm.bind(scalarLoop);
+                masm.cmpq(index, length);
+                masm.jcc(ConditionFlag.aboveEqual, notFound);
+                if (op.code == LIROpcode.ArrayMismatch) {
+                    masm.movzxb(tmp, element);
+                    masm.movzxb(result, otherElement);
+                    masm.cmpl(tmp, result);
+                    masm.jcc(ConditionFlag.notEqual, found);
+                    masm.incq(index);
+                } else {
+                    masm.movzxl(tmp, element);
+                    masm.cmpl(tmp, value);
+                    masm.jcc(ConditionFlag.equal, found);
+                    masm.addq(index, 2);
+                }
+                masm.jmp(scalarLoop);
+
+                masm.bind(vectorFound);
+                masm.bsfq(tmp, tmp);
+                masm.addq(index, tmp);
+                masm.bind(found);
+                masm.movq(result, index);
+                if (op.log2ElementSize != 0) {
+                    masm.shrq(result, op.log2ElementSize);
+                }
+                masm.jmp(done);
+                masm.bind(notFound);
+                masm.movl(result, -1);
+                masm.bind(done);
+                break;
+            }
+            default:
+                throw Util.shouldNotReachHere();
+        }
+    }
+
+    /**
+     * Emits an {@link LIROpcode#ArrayCopy}. A copy of constant length is emitted as a sequence of loads followed by
+     * a sequence of stores, which is correct for overlapping ranges. Otherwise, unless the ranges are known to be
+     * disjoint, the copy runs backwards if the destination starts within the source range.
+     */
+    private void emitArrayCopy(LIRVectorizedArrayOp op) {
+        CiRegister src = op.array().asRegister();
+        CiRegister dst = op.other().asRegister();
+        CiRegister index = op.temp(0).asRegister();
+        CiRegister tmp = op.temp(1).asRegister();
+        CiRegister vec0 = op.temp(2).asRegister();
+        CiRegister vec1 = op.temp(3).asRegister();
+
+        // the offsets are longs, so that absolute addresses can be used with a null array
+        masm.addq(src, op.offset().asRegister());
+        masm.addq(dst, op.otherOffset().asRegister());
+
+        if (op.count().isConstant()) {
+            int length = ((CiConstant) op.count()).asInt() << op.log2ElementSize;
+            assert length >= 0 && length <= LIRVectorizedArrayOp.MAX_INLINE_COPY_BYTES;
+            CiAddress srcStart = new CiAddress(CiKind.Byte, src.asValue(), 0);
+            CiAddress dstStart = new CiAddress(CiKind.Byte, dst.asValue(), 0);
+            if (length >= 16) {
+                // two possibly overlapping 16 byte moves cover 16 to 32 bytes
+                CiAddress srcEnd = new CiAddress(CiKind.Byte, src.asValue(), length - 16);
+                CiAddress dstEnd = new CiAddress(CiKind.Byte, dst.asValue(), length - 16);
+                masm.movdqu(vec0, srcStart);
+                masm.movdqu(vec1, srcEnd);
+                masm.movdqu(dstStart, vec0);
+                masm.movdqu(dstEnd, vec1);
+            } else if (length >= 8) {
+                CiAddress srcEnd = new CiAddress(CiKind.Byte, src.asValue(), length - 8);
+                CiAddress dstEnd = new CiAddress(CiKind.Byte, dst.asValue(), length - 8);
+                masm.movq(tmp, srcStart);
+                masm.movq(index, srcEnd);
+                masm.movq(dstStart, tmp);
+                masm.movq(dstEnd, index);
+            } else if (length >= 4) {
+                CiAddress srcEnd = new CiAddress(CiKind.Byte, src.asValue(), length - 4);
+                CiAddress dstEnd = new CiAddress(CiKind.Byte, dst.asValue(), length - 4);
+                masm.movl(tmp, srcStart);
+                masm.movl(index, srcEnd);
+                masm.movl(dstStart, tmp);
+                masm.movl(dstEnd, index);
+            } else if (length >= 2) {
+                CiAddress srcEnd = new CiAddress(CiKind.Byte, src.asValue(), length - 2);
+                CiAddress dstEnd = new CiAddress(CiKind.Byte, dst.asValue(), length - 2);
+                masm.movzxl(tmp, srcStart);
+                masm.movzxl(index, srcEnd);
+                masm.movw(dstStart, tmp);
+                masm.movw(dstEnd, index);
+            } else if (length == 1) {
+                masm.movzxb(tmp, srcStart);
+                masm.movb(dstStart, tmp);
+            }
+            return;
+        }
+
+        CiRegister length = op.count().asRegister();
+        masm.movslq(length, length);
+        if (op.log2ElementSize != 0) {
+            masm.shlq(length, op.log2ElementSize);
+        }
+
+        CiAddress srcElement = new CiAddress(CiKind.Byte, src.asValue(), index.asValue(), Scale.Times1, 0);
+        CiAddress dstElement = new CiAddress(CiKind.Byte, dst.asValue(), index.asValue(), Scale.Times1, 0);
+        Label backward = new Label();
+        Label done = new Label();
+
+        if (!op.disjoint) {
+            // (dst - src) is unsigned below length iff the destination starts within the source range
+            masm.movq(tmp, dst);
+            masm.subq(tmp, src);
+            masm.cmpq(tmp, length);
+            masm.jcc(ConditionFlag.below, backward);
+        }
+
+        Label forwardLoop = new Label();
+        Label forwardTail = new Label();
+        Label forwardBytes = new Label();
+        masm.xorq(index, index);
+        masm.bind(forwardLoop);
+        masm.movq(tmp, length);
+        masm.subq(tmp, index);
+        masm.cmpq(tmp, 16);
+        masm.jcc(ConditionFlag.below, forwardTail);
+        masm.movdqu(vec0, srcElement);
+        masm.movdqu(dstElement, vec0);
+        masm.addq(index, 16);
+        masm.jmp(forwardLoop);
+
+        // at most 15 bytes remain: move 8 of them at once, then the rest one at a time
+        masm.bind(forwardTail);
+        masm.cmpq(tmp, 8);
+        masm.jcc(ConditionFlag.below, forwardBytes);
+        masm.movq(tmp, srcElement);
+        masm.movq(dstElement, tmp);
+        masm.addq(index, 8);
+        masm.bind(forwardBytes);
+        masm.cmpq(index, length);
+        masm.jcc(ConditionFlag.aboveEqual, done);
+        masm.movzxb(tmp, srcElement);
+        masm.movb(dstElement, tmp);
+        masm.incq(index);
+        masm.jmp(forwardBytes);
+
+        if (!op.disjoint) {
+            Label backwardLoop = new Label();
+            Label backwardTail = new Label();
+            Label backwardBytes = new Label();
+            masm.bind(backward);
+            masm.movq(index, length);
+            masm.bind(backwardLoop);
+            masm.cmpq(index, 16);
+            masm.jcc(ConditionFlag.below, backwardTail);
+            masm.subq(index, 16);
+            masm.movdqu(vec0, srcElement);
+            masm.movdqu(dstElement, vec0);
+            masm.jmp(backwardLoop);
+
+            masm.bind(backwardTail);
+            masm.cmpq(index, 8);
+            masm.jcc(ConditionFlag.below, backwardBytes);
+            masm.subq(index, 8);
+            masm.movq(tmp, srcElement);
+            masm.movq(dstElement, tmp);
+            masm.bind(backwardBytes);
+            masm.testq(index, index);
+            masm.jcc(ConditionFlag.zero, done);
+            masm.decq(index);
+            masm.movzxb(tmp, srcElement);
+            masm.movb(dstElement, tmp);
+            masm.jmp(backwardBytes);
+        }
+        masm.bind(done);
+    }
+
+    @Override
+    protected void emitCryptoOp(LIRCryptoOp op) {
+        CiRegister tmp = op.temp(0).asRegister();
+        CiRegister[] xmm = new CiRegister[op.tempCount() - 1];
+        for (int i = 0; i < xmm.length; i++) {
+            xmm[i] = op.temp(i + 1).asRegister();
+        }
+        switch (op.code) {
+            case Crc32Update: {
+                CiRegister crc = op.input(0).asRegister();
+                CiRegister buf = cryptoOpAddress(op.input(1), op.input(2));
+                masm.crc32Update(crc, buf, op.input(3).asRegister(), tmp, xmm[0], xmm[1], xmm[2], xmm[3]);
+                masm.movl(op.result().asRegister(), crc);
+                break;
+            }
+            case AesEncryptBlock:
+            case AesDecryptBlock: {
+                CiRegister from = cryptoOpAddress(op.input(0), op.input(1));
+                CiRegister to = cryptoOpAddress(op.input(2), op.input(3));
+                CiRegister key = cryptoOpAddress(op.input(4), op.input(5));
+                masm.aesCryptBlock(op.code == LIROpcode.AesEncryptBlock, from, to, key, op.input(6).asRegister(), xmm[0], xmm[1], xmm[2], tmp);
+                break;
+            }
+            case Sha1Compress:
+                masm.sha1Compress(cryptoOpAddress(op.input(0), op.input(1)), cryptoOpAddress(op.input(2), op.input(3)), tmp, xmm);
+                break;
+            case Sha256Compress:
+                masm.sha256Compress(cryptoOpAddress(op.input(0), op.input(1)), cryptoOpAddress(op.input(2), op.input(3)),
+                                cryptoOpAddress(op.input(4), op.input(5)), tmp, xmm);
+                break;
+            default:
+                throw Util.shouldNotReachHere();
+        }
+    }
+
+    /**
+     * Converts an array operand of a {@link LIRCryptoOp} to the address of its first element of interest.
+     */
+    private CiRegister cryptoOpAddress(CiValue array, CiValue offset) {
+        CiRegister base = array.asRegister();
+        CiRegister index = offset.asRegister();
+        masm.movslq(index, index);
+        masm.addq(base, index);
+        return base;
+    }
+
     @Override
     protected void emitConditionalMove(Condition condition, CiValue opr1, CiValue opr2, CiValue result) {
         ConditionFlag acond;
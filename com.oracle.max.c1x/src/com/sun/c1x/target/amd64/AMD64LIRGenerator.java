@@ -154,6 +154,73 @@ public class AMD64LIRGenerator extends LIRGenerator {
         }
     }
 
+    @Override
+    public void visitVectorizedArrayOp(VectorizedArrayOp x) {
+        CiValue array = loadDestroyed(x.array());
+        CiValue other = x.other() == null ? CiValue.IllegalValue : loadDestroyed(x.other());
+        CiValue offset = loadDestroyed(x.offset());
+        CiValue otherOffset = x.otherOffset() == null ? CiValue.IllegalValue : loadDestroyed(x.otherOffset());
+        CiValue count;
+        if (x.op == LIROpcode.ArrayCopy && x.count().isConstant() && x.count().asConstant().asInt() >= 0 &&
+                        ((long) x.count().asConstant().asInt() << x.log2ElementSize) <= LIRVectorizedArrayOp.MAX_INLINE_COPY_BYTES) {
+            // a small copy of constant length is emitted as straight-line code
+            count = x.count().asConstant();
+        } else {
+            count = loadDestroyed(x.count());
+        }
+        CiValue value = x.value() == null ? CiValue.IllegalValue : loadDestroyed(x.value());
+        CiValue result = x.kind.isVoid() ? CiValue.IllegalValue : createResultVariable(x);
+        lir.vectorizedArrayOp(x.op, result, array, other, offset, otherOffset, count, x.log2ElementSize, x.disjoint, value,
+                        newVariable(CiKind.Long), newVariable(CiKind.Long), newVariable(CiKind.Double), newVariable(CiKind.Double));
+    }
+
+    @Override
+    public void visitCryptoOp(CryptoOp x) {
+        CiValue[] inputs = new CiValue[x.inputCount()];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = loadDestroyed(x.input(i));
+        }
+        int xmmTemps;
+        switch (x.op) {
+            case Crc32Update:
+                xmmTemps = 4;
+                break;
+            case AesEncryptBlock:
+            case AesDecryptBlock:
+                xmmTemps = 3;
+                break;
+            case Sha1Compress:
+                xmmTemps = 10;
+                break;
+            case Sha256Compress:
+                xmmTemps = 11;
+                break;
+            default:
+                throw Util.shouldNotReachHere();
+        }
+        CiValue[] temps = new CiValue[1 + xmmTemps];
+        temps[0] = newVariable(CiKind.Long);
+        for (int i = 1; i < temps.length; i++) {
+            temps[i] = newVariable(CiKind.Double);
+        }
+        if (x.op == LIROpcode.Sha256Compress) {
+            // sha256rnds2 implicitly uses xmm0
+            temps[1] = AMD64.xmm0.asValue(CiKind.Double);
+        }
+        CiValue result = x.kind.isVoid() ? CiValue.IllegalValue : createResultVariable(x);
+        lir.cryptoOp(x.op, result, inputs, temps);
+    }
+
+    /**
+     * Loads a value into a fresh variable that can be modified by the instruction using it.
+     */
+    private CiValue loadDestroyed(Value x) {
+        LIRItem item = new LIRItem(x, this);
+        item.setDestroysRegister();
+        item.loadItem();
+        return item.result();
+    }
+
     public boolean livesLonger(Value x, Value y) {
         BlockBegin bx = x.block();
         BlockBegin by = y.block();
@@ -691,7 +758,19 @@ public class AMD64LIRGenerator extends LIRGenerator {
         } else {
             right = load(y);
         }
+        Label skip = null;
+        if (boundsCheck.rangeStart() != null) {
+            // all operands are loaded before the branch so that none of them is only defined when the check is performed
+            CiValue start = load(boundsCheck.rangeStart());
+            CiValue end = boundsCheck.rangeEnd().isConstant() ? makeOperand(boundsCheck.rangeEnd()) : load(boundsCheck.rangeEnd());
+            skip = new Label();
+            lir.cmp(Condition.GE, start, end);
+            lir.branch(Condition.GE, skip);
+        }
         lir.cmp(boundsCheck.condition.negate(), left, right);
         emitGuard(boundsCheck);
+        if (skip != null) {
+            lir.branchDestination(skip);
+        }
     }
 }
@@ -175,6 +175,12 @@ public interface RiResolvedMethod extends RiMethod {
      */
     RiTypeProfile typeProfile(int bci);
 
+    /**
+     * Returns how often optimized code has deoptimized at the given byte code index because a speculation it made there failed.
+     * @return The number of traps, or -1 if this information isn't available.
+     */
+    int trapCount(int bci);
+
     /**
      * Returns an estimate of how often the branch at the given byte code was taken.
      * @return The estimated probability, with 0.0 meaning never and 1.0 meaning always, or -1 if this information isn't available.
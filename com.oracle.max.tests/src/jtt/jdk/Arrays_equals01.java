@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.util.*;
+
+/*
+ * Tests the substitutions for Arrays.equals on integral arrays when the arrays differ in a given element.
+ * @Harness: java
+ * @Runs: -1 = true; 0 = false; 1 = false; 7 = false; 8 = false; 15 = false; 16 = false; 31 = false; 32 = false; 34 = false
+ */
+public class Arrays_equals01 {
+
+    public static boolean test(int mismatch) {
+        final int length = 35;
+        byte[] b1 = new byte[length];
+        byte[] b2 = new byte[length];
+        short[] s1 = new short[length];
+        short[] s2 = new short[length];
+        char[] c1 = new char[length];
+        char[] c2 = new char[length];
+        int[] n1 = new int[length];
+        int[] n2 = new int[length];
+        long[] l1 = new long[length];
+        long[] l2 = new long[length];
+        for (int i = 0; i < length; i++) {
+            b1[i] = b2[i] = (byte) i;
+            s1[i] = s2[i] = (short) (i * 1000);
+            c1[i] = c2[i] = (char) ('a' + i);
+            n1[i] = n2[i] = i * 100000;
+            l1[i] = l2[i] = i * 10000000000L;
+        }
+        if (mismatch >= 0) {
+            b2[mismatch] ^= 0x40;
+            s2[mismatch] ^= 0x4000;
+            c2[mismatch] ^= 0x4000;
+            n2[mismatch] ^= 0x40000000;
+            l2[mismatch] ^= 0x4000000000000000L;
+        }
+        boolean result = Arrays.equals(b1, b2);
+        if (Arrays.equals(s1, s2) != result || Arrays.equals(c1, c2) != result || Arrays.equals(n1, n2) != result || Arrays.equals(l1, l2) != result) {
+            throw new Error("inconsistent results");
+        }
+        if (Arrays.equals(b1, new byte[length - 1]) || Arrays.equals(b1, null) || !Arrays.equals((byte[]) null, null)) {
+            throw new Error("wrong result for arrays of different length or null arrays");
+        }
+        return result;
+    }
+}
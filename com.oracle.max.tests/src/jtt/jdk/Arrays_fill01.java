@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.util.*;
+
+/*
+ * Tests the substitutions for Arrays.fill on whole primitive arrays of various lengths.
+ * @Harness: java
+ * @Runs: 0 = true; 1 = true; 7 = true; 8 = true; 15 = true; 16 = true; 17 = true; 33 = true; 100 = true
+ */
+public class Arrays_fill01 {
+
+    public static boolean test(int length) {
+        byte[] b = new byte[length];
+        Arrays.fill(b, (byte) -7);
+        for (int i = 0; i < length; i++) {
+            if (b[i] != -7) {
+                return false;
+            }
+        }
+        short[] s = new short[length];
+        Arrays.fill(s, (short) 0x1234);
+        for (int i = 0; i < length; i++) {
+            if (s[i] != 0x1234) {
+                return false;
+            }
+        }
+        char[] c = new char[length];
+        Arrays.fill(c, '\uabcd');
+        for (int i = 0; i < length; i++) {
+            if (c[i] != '\uabcd') {
+                return false;
+            }
+        }
+        int[] n = new int[length];
+        Arrays.fill(n, 0x89abcdef);
+        for (int i = 0; i < length; i++) {
+            if (n[i] != 0x89abcdef) {
+                return false;
+            }
+        }
+        float[] f = new float[length];
+        Arrays.fill(f, -1.5f);
+        for (int i = 0; i < length; i++) {
+            if (f[i] != -1.5f) {
+                return false;
+            }
+        }
+        long[] l = new long[length];
+        Arrays.fill(l, 0x0123456789abcdefL);
+        for (int i = 0; i < length; i++) {
+            if (l[i] != 0x0123456789abcdefL) {
+                return false;
+            }
+        }
+        double[] d = new double[length];
+        Arrays.fill(d, Math.PI);
+        for (int i = 0; i < length; i++) {
+            if (d[i] != Math.PI) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.util.*;
+
+/*
+ * Tests the substitutions for Arrays.fill on a range of a primitive array, including the
+ * elements just outside the range.
+ * @Harness: java
+ * @Runs: (0, 0) = 0; (0, 40) = 40; (1, 2) = 1; (3, 20) = 17; (5, 38) = 33; (39, 40) = 1;
+ * @Runs: (5, 4) = !java.lang.IllegalArgumentException; (-1, 4) = !java.lang.ArrayIndexOutOfBoundsException;
+ * @Runs: (0, 41) = !java.lang.ArrayIndexOutOfBoundsException
+ */
+public class Arrays_fill02 {
+
+    public static int test(int from, int to) {
+        final int length = 40;
+        byte[] b = new byte[length];
+        short[] s = new short[length];
+        char[] c = new char[length];
+        int[] n = new int[length];
+        float[] f = new float[length];
+        long[] l = new long[length];
+        double[] d = new double[length];
+        Arrays.fill(b, from, to, (byte) 0x5a);
+        Arrays.fill(s, from, to, (short) -2);
+        Arrays.fill(c, from, to, 'x');
+        Arrays.fill(n, from, to, -3);
+        Arrays.fill(f, from, to, 2.5f);
+        Arrays.fill(l, from, to, -4L);
+        Arrays.fill(d, from, to, 0.125d);
+        int filled = 0;
+        for (int i = 0; i < length; i++) {
+            boolean inRange = i >= from && i < to;
+            if ((b[i] == 0x5a) != inRange || (s[i] == -2) != inRange || (c[i] == 'x') != inRange || (n[i] == -3) != inRange ||
+                (f[i] == 2.5f) != inRange || (l[i] == -4L) != inRange || (d[i] == 0.125d) != inRange) {
+                return -1 - i;
+            }
+            if (inRange) {
+                filled++;
+            }
+        }
+        return filled;
+    }
+}
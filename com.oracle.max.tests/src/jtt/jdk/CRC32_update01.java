@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.util.zip.*;
+
+/*
+ * Tests java.util.zip.CRC32 with the check value of the CRC-32 catalogue and against a bitwise implementation for lengths around
+ * the threshold and the 16-byte granularity of the carry-less multiplication intrinsic.
+ * @Harness: java
+ * @Runs: (0, 0) = true; (0, 15) = true; (1, 16) = true; (3, 63) = true; (0, 64) = true; (5, 65) = true;
+ * @Runs: (7, 128) = true; (1, 1000) = true; (13, 4097) = true
+ */
+public class CRC32_update01 {
+
+    public static boolean test(int offset, int length) {
+        if (length == 0) {
+            final CRC32 crc32 = new CRC32();
+            crc32.update("123456789".getBytes());
+            return crc32.getValue() == 0xCBF43926L;
+        }
+        final byte[] buf = new byte[offset + length + 3];
+        for (int i = 0; i < buf.length; i++) {
+            buf[i] = (byte) (i * 31 + 7);
+        }
+        final CRC32 crc32 = new CRC32();
+        crc32.update(buf, offset, length);
+        final long whole = crc32.getValue();
+        crc32.reset();
+        final int half = length / 2;
+        crc32.update(buf, offset, half);
+        crc32.update(buf, offset + half, length - half);
+        return whole == crc32.getValue() && whole == reference(buf, offset, length);
+    }
+
+    private static long reference(byte[] buf, int offset, int length) {
+        int c = ~0;
+        for (int i = offset; i < offset + length; i++) {
+            c ^= buf[i] & 0xFF;
+            for (int k = 0; k < 8; k++) {
+                c = (c >>> 1) ^ (0xEDB88320 & -(c & 1));
+            }
+        }
+        return ~c & 0xFFFFFFFFL;
+    }
+}
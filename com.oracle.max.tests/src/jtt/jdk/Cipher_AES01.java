@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import javax.crypto.*;
+import javax.crypto.spec.*;
+
+/*
+ * Tests AES block encryption and decryption with the known answers of FIPS 197, appendix C.
+ * @Harness: java
+ * @Runs: 16 = "69c4e0d86a7b0430d8cdb78070b4c55a"; 24 = "dda97ca4864cdfe06eaf70a0ec0d7191";
+ * @Runs: 32 = "8ea2b7ca516745bfeafc49904b496089"
+ */
+public class Cipher_AES01 {
+
+    public static String test(int keyLength) throws Exception {
+        final byte[] key = new byte[keyLength];
+        for (int i = 0; i < keyLength; i++) {
+            key[i] = (byte) i;
+        }
+        final byte[] plain = new byte[16];
+        for (int i = 0; i < 16; i++) {
+            plain[i] = (byte) (i * 0x11);
+        }
+        final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        final SecretKeySpec spec = new SecretKeySpec(key, "AES");
+        cipher.init(Cipher.ENCRYPT_MODE, spec);
+        // encrypt three copies of the block at an odd offset to exercise the block offsets
+        final byte[] in = new byte[3 + 48];
+        for (int i = 0; i < 3; i++) {
+            System.arraycopy(plain, 0, in, 3 + i * 16, 16);
+        }
+        final byte[] out = new byte[5 + 48];
+        cipher.doFinal(in, 3, 48, out, 5);
+        for (int i = 1; i < 3; i++) {
+            for (int j = 0; j < 16; j++) {
+                if (out[5 + i * 16 + j] != out[5 + j]) {
+                    return "blocks differ";
+                }
+            }
+        }
+        cipher.init(Cipher.DECRYPT_MODE, spec);
+        final byte[] decrypted = cipher.doFinal(out, 5, 16);
+        if (!java.util.Arrays.equals(decrypted, plain)) {
+            return "decryption failed";
+        }
+        return MessageDigest_SHA01.toHex(java.util.Arrays.copyOfRange(out, 5, 21));
+    }
+}
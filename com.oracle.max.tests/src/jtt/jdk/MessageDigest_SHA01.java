@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.security.*;
+
+/*
+ * Tests the SHA-1 and SHA-256 message digests with the known answers of FIPS 180-2.
+ * @Harness: java
+ * @Runs: (0, 0) = "a9993e364706816aba3e25717850c26c9cd0d89d";
+ * @Runs: (0, 1) = "84983e441c3bd26ebaae4aa1f95129e5e54670f1";
+ * @Runs: (0, 2) = "34aa973cd4c4daa4f61eeb2bdbad27316534016f";
+ * @Runs: (1, 0) = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+ * @Runs: (1, 1) = "248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1";
+ * @Runs: (1, 2) = "cdc76e5c9914fb9281a1c7e284d73e67f1809a48a497200e046d39ccc7112cd0"
+ */
+public class MessageDigest_SHA01 {
+
+    public static String test(int algorithm, int message) throws NoSuchAlgorithmException {
+        final MessageDigest md = MessageDigest.getInstance(algorithm == 0 ? "SHA-1" : "SHA-256");
+        if (message == 0) {
+            md.update("abc".getBytes());
+        } else if (message == 1) {
+            md.update("abcdbcdecdefdefgefghfghighijhijkijkljklmklmnlmnomnopnopq".getBytes());
+        } else {
+            final byte[] a = new byte[1000];
+            java.util.Arrays.fill(a, (byte) 'a');
+            for (int i = 0; i < 1000; i++) {
+                md.update(a);
+            }
+        }
+        return toHex(md.digest());
+    }
+
+    static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
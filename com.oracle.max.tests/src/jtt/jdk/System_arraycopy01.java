@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+/*
+ * Tests System.arraycopy of primitive arrays within the same array, with the destination
+ * before and after the source, for lengths around the size of a word.
+ * @Harness: java
+ * @Runs: (0, 1, 0) = true; (0, 1, 1) = true; (1, 0, 7) = true; (0, 1, 7) = true; (3, 0, 8) = true; (0, 3, 8) = true;
+ * @Runs: (2, 9, 17) = true; (9, 2, 17) = true; (0, 32, 32) = true; (5, 5, 20) = true; (1, 2, 61) = true; (2, 1, 61) = true
+ */
+public class System_arraycopy01 {
+
+    public static boolean test(int from, int to, int length) {
+        final int size = 64;
+        byte[] b = new byte[size];
+        short[] s = new short[size];
+        char[] c = new char[size];
+        int[] n = new int[size];
+        long[] l = new long[size];
+        double[] d = new double[size];
+        for (int i = 0; i < size; i++) {
+            b[i] = (byte) i;
+            s[i] = (short) (i * 1001);
+            c[i] = (char) (i * 1003);
+            n[i] = i * 100003;
+            l[i] = i * 10000000019L;
+            d[i] = i * 1.5d;
+        }
+        System.arraycopy(b, from, b, to, length);
+        System.arraycopy(s, from, s, to, length);
+        System.arraycopy(c, from, c, to, length);
+        System.arraycopy(n, from, n, to, length);
+        System.arraycopy(l, from, l, to, length);
+        System.arraycopy(d, from, d, to, length);
+        for (int i = 0; i < size; i++) {
+            final int j = i >= to && i < to + length ? i - to + from : i;
+            if (b[i] != (byte) j || s[i] != (short) (j * 1001) || c[i] != (char) (j * 1003) || n[i] != j * 100003 || l[i] != j * 10000000019L || d[i] != j * 1.5d) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
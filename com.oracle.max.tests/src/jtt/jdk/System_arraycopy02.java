@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+/*
+ * Tests System.arraycopy of references within the same array and between arrays whose component types
+ * require a store check for some elements.
+ * @Harness: java
+ * @Runs: 0 = 0; 1 = 0; 2 = 0; 3 = 2; 4 = !java.lang.ArrayStoreException
+ */
+public class System_arraycopy02 {
+
+    public static int test(int arg) {
+        final Object[] objects = new Object[20];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = i % 3 == 0 ? (Object) Integer.valueOf(i) : String.valueOf(i);
+        }
+        if (arg == 0) {
+            // overlapping, destination after source
+            System.arraycopy(objects, 1, objects, 4, 15);
+            return check(objects, 4, 1, 15);
+        }
+        if (arg == 1) {
+            // overlapping, destination before source
+            System.arraycopy(objects, 4, objects, 1, 15);
+            return check(objects, 1, 4, 15);
+        }
+        if (arg == 2) {
+            // no store checks needed
+            final Object[] copy = new Object[20];
+            System.arraycopy(objects, 0, copy, 0, 20);
+            for (int i = 0; i < copy.length; i++) {
+                if (copy[i] != objects[i]) {
+                    return -1;
+                }
+            }
+            return 0;
+        }
+        // the elements are copied up to the first one that fails the store check
+        final String[] strings = new String[20];
+        try {
+            System.arraycopy(objects, arg == 3 ? 1 : 0, strings, 0, 8);
+        } catch (ArrayStoreException e) {
+            int copied = 0;
+            while (copied < strings.length && strings[copied] != null) {
+                copied++;
+            }
+            if (arg == 3) {
+                return copied;
+            }
+            throw e;
+        }
+        return -1;
+    }
+
+    private static int check(Object[] objects, int to, int from, int length) {
+        for (int i = 0; i < objects.length; i++) {
+            final int j = i >= to && i < to + length ? i - to + from : i;
+            final Object expected = j % 3 == 0 ? (Object) Integer.valueOf(j) : String.valueOf(j);
+            if (!expected.equals(objects[i])) {
+                return -1 - i;
+            }
+        }
+        return 0;
+    }
+}
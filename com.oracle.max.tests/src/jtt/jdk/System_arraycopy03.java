@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+/*
+ * Tests that references copied by System.arraycopy into an array that has survived garbage collections
+ * are still visited by subsequent collections.
+ * @Harness: java
+ * @Runs: 0 = true; 100 = true; 1000 = true
+ */
+public class System_arraycopy03 {
+
+    private static Object[] old;
+
+    public static boolean test(int length) {
+        old = new Object[1000];
+        System.gc();
+        System.gc();
+        final Object[] young = new Object[length];
+        for (int i = 0; i < length; i++) {
+            young[i] = new int[] {i};
+        }
+        System.arraycopy(young, 0, old, 0, length);
+        for (int i = 0; i < length; i++) {
+            young[i] = null;
+        }
+        System.gc();
+        // allocate to reuse the space of any object that the collection failed to keep alive
+        for (int i = 0; i < length; i++) {
+            young[i] = new int[] {-1};
+        }
+        for (int i = 0; i < length; i++) {
+            if (((int[]) old[i])[0] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
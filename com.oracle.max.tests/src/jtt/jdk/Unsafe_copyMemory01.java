@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.jdk;
+
+import java.lang.reflect.*;
+
+import sun.misc.*;
+
+/*
+ * Tests Unsafe.copyMemory between native memory and arrays, including overlapping ranges.
+ * @Harness: java
+ * @Runs: (0, 8, 0) = true; (0, 8, 5) = true; (8, 0, 5) = true; (1, 2, 37) = true; (2, 1, 37) = true; (0, 64, 64) = true
+ */
+public class Unsafe_copyMemory01 {
+
+    public static boolean test(int from, int to, int length) throws Exception {
+        final Unsafe unsafe = getUnsafe();
+        final int size = 128;
+        final long memory = unsafe.allocateMemory(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                unsafe.putByte(memory + i, (byte) i);
+            }
+            unsafe.copyMemory(memory + from, memory + to, length);
+            for (int i = 0; i < size; i++) {
+                final int j = i >= to && i < to + length ? i - to + from : i;
+                if (unsafe.getByte(memory + i) != (byte) j) {
+                    return false;
+                }
+            }
+            // from native memory to an array and back
+            final byte[] array = new byte[size];
+            final long base = unsafe.arrayBaseOffset(byte[].class);
+            unsafe.copyMemory(null, memory, array, base, size);
+            unsafe.copyMemory(array, base + from, array, base + to, length);
+            unsafe.copyMemory(array, base, null, memory, size);
+            for (int i = 0; i < size; i++) {
+                final int j = i >= to && i < to + length ? i - to + from : i;
+                final int k = j >= to && j < to + length ? j - to + from : j;
+                if (array[i] != (byte) k || unsafe.getByte(memory + i) != (byte) k) {
+                    return false;
+                }
+            }
+        } finally {
+            unsafe.freeMemory(memory);
+        }
+        return true;
+    }
+
+    private static Unsafe getUnsafe() throws NoSuchFieldException, IllegalAccessException {
+        final Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        return (Unsafe) unsafeField.get(null);
+    }
+}
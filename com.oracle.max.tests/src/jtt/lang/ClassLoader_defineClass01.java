@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.lang;
+
+import java.io.*;
+
+/*
+ * Tests that a class defined by an application class loader is verified, even if the
+ * VM has a snapshot of the application classes of a training run.
+ * @Harness: java
+ * @Runs: 0 = 1; 1 = !java.lang.VerifyError
+ */
+public final class ClassLoader_defineClass01 {
+
+    private ClassLoader_defineClass01() {
+    }
+
+    static final class Loader extends ClassLoader {
+        Loader() {
+            super(ClassLoader_defineClass01.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] classfile) {
+            return defineClass(name, classfile, 0, classfile.length);
+        }
+    }
+
+    public static int test(int arg) throws Exception {
+        final String name = "jtt.lang.ClassLoader_defineClass01_" + arg;
+        final byte[] classfile = classfile(name.replace('.', '/'), arg != 0);
+        final Class<?> c = new Loader().define(name, classfile);
+        Class.forName(name, true, c.getClassLoader());
+        return (Integer) c.getMethod("m").invoke(null);
+    }
+
+    /**
+     * Assembles a class with a single method {@code public static int m()} that returns 1, or that
+     * returns a string constant as an int if {@code invalid} is true.
+     */
+    static byte[] classfile(String name, boolean invalid) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(49);
+        out.writeShort(10);
+        out.writeByte(1);
+        out.writeUTF(name);
+        out.writeByte(7);
+        out.writeShort(1);
+        out.writeByte(1);
+        out.writeUTF("java/lang/Object");
+        out.writeByte(7);
+        out.writeShort(3);
+        out.writeByte(1);
+        out.writeUTF("m");
+        out.writeByte(1);
+        out.writeUTF("()I");
+        out.writeByte(1);
+        out.writeUTF("Code");
+        out.writeByte(1);
+        out.writeUTF("x");
+        out.writeByte(8);
+        out.writeShort(8);
+        out.writeShort(0x21);
+        out.writeShort(2);
+        out.writeShort(4);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(1);
+        out.writeShort(0x09);
+        out.writeShort(5);
+        out.writeShort(6);
+        out.writeShort(1);
+        final byte[] code = invalid ? new byte[] {0x12, 9, (byte) 0xac} : new byte[] {0x04, (byte) 0xac};
+        out.writeShort(7);
+        out.writeInt(12 + code.length);
+        out.writeShort(1);
+        out.writeShort(0);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.lang;
+
+/*
+ * Tests that a class that fails verification raises the error each time it is initialized, even if
+ * the VM tried to verify it ahead of its initialization on another thread.
+ * @Harness: java
+ * @Runs: 1 = 1; 3 = 3
+ */
+public final class ClassLoader_defineClass02 {
+
+    private ClassLoader_defineClass02() {
+    }
+
+    public static int test(int attempts) throws Exception {
+        final String name = "jtt.lang.ClassLoader_defineClass02_" + attempts;
+        final byte[] classfile = ClassLoader_defineClass01.classfile(name.replace('.', '/'), true);
+        final ClassLoader_defineClass01.Loader loader = new ClassLoader_defineClass01.Loader();
+        loader.define(name, classfile);
+        int errors = 0;
+        for (int i = 0; i < attempts; i++) {
+            try {
+                Class.forName(name, true, loader);
+            } catch (VerifyError e) {
+                errors++;
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.lang;
+
+/*
+ * Tests the substitution for the inner loop of String.indexOf(String) with the target at various positions
+ * of a long string, and for substrings that do not start at the beginning of their character array.
+ * @Harness: java
+ * @Runs: 0 = 0; 1 = 1; 15 = 15; 16 = 16; 17 = 17; 40 = 40; 76 = 76; 77 = -1; -1 = -1
+ */
+public class String_indexOf01 {
+
+    public static int test(int position) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 80; i++) {
+            sb.append('a');
+        }
+        if (position >= 0 && position <= 76) {
+            sb.replace(position, position + 4, "abcd");
+            sb.setCharAt(position, 'x');
+        }
+        final String s = sb.toString();
+        final int result = s.indexOf("xbcd");
+        // a substring shares the character array of the string at a non-zero offset
+        final String sub = s.substring(3);
+        final int subResult = sub.indexOf("xbcd");
+        if (subResult != (result >= 3 ? result - 3 : -1)) {
+            throw new Error("wrong result for substring: " + subResult);
+        }
+        if (s.indexOf("xbcd", result + 1) != -1 || s.indexOf("") != 0 || s.indexOf("", 100) != 80) {
+            throw new Error("wrong result for fromIndex");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.lang;
+
+/*
+ * Tests that a string interned before the class containing an equal string literal is loaded
+ * is identical to the literal.
+ * @Harness: java
+ * @Runs: 0 = true; 1 = true
+ */
+public class String_intern04 {
+
+    static class Literal0 {
+        static String value() {
+            return "String_intern04_literal0";
+        }
+    }
+
+    static class Literal1 {
+        static String value() {
+            return "String_intern04_literal1";
+        }
+    }
+
+    public static boolean test(int i) {
+        final String interned = new StringBuilder("String_intern04_literal").append(i).toString().intern();
+        // Checkstyle: stop
+        return interned == (i == 0 ? Literal0.value() : Literal1.value());
+        // Checkstyle: resume
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.lang;
+
+/*
+ * Tests that threads interning equal strings concurrently all get the same string.
+ * @Harness: java
+ * @Runs: 2 = true; 4 = true
+ */
+public class String_intern05 {
+
+    private static final int STRINGS = 1000;
+
+    public static boolean test(int threadCount) throws InterruptedException {
+        final String[][] interned = new String[threadCount][STRINGS];
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final String[] strings = interned[i];
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < STRINGS; j++) {
+                        strings[j] = ("String_intern05_" + j).intern();
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int j = 0; j < STRINGS; j++) {
+            if (!interned[0][j].equals("String_intern05_" + j)) {
+                return false;
+            }
+            for (int i = 1; i < threadCount; i++) {
+                if (interned[i][j] != interned[0][j]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
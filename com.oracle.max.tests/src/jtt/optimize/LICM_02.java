@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests that the length of a possibly null array is not moved out of a loop that is never entered.
+ * @Harness: java
+ * @Runs: 0 = 0; 1 = 3; 4 = 12; -1 = !java.lang.NullPointerException
+ */
+public class LICM_02 {
+    private static final int[] ARRAY = {1, 2, 3};
+
+    public static int test(int n) {
+        int[] array = n <= 0 ? null : ARRAY;
+        int sum = 0;
+        for (int i = 0; i < n || n < 0; i++) {
+            sum += array.length;
+        }
+        return sum;
+    }
+}
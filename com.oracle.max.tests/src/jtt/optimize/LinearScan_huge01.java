@@ -0,0 +1,5046 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests a method that is large enough for the optimizing compiler to bail out of register allocation
+ * at runtime. Calling it often must neither fail nor keep triggering recompilation.
+ * @Harness: java
+ * @Runs: 1 = -1057067146; 10000 = -1889199636
+ */
+public class LinearScan_huge01 {
+
+    public static int test(int iterations) {
+        int result = 0;
+        for (int i = 0; i < iterations; i++) {
+            result += huge(i);
+        }
+        return result;
+    }
+
+    private static int huge(int a) {
+        int x = a;
+        int y = a + 1;
+        x = (x ^ (x >>> 1)) * 1 + y;
+        y = y + (x & 0) - 0;
+        x = (x ^ (x >>> 2)) * 31153 + y;
+        y = y + (x & 7919) - 1;
+        x = (x ^ (x >>> 3)) * 29539 + y;
+        y = y + (x & 15838) - 2;
+        x = (x ^ (x >>> 4)) * 27923 + y;
+        y = y + (x & 23757) - 3;
+        x = (x ^ (x >>> 5)) * 26309 + y;
+        y = y + (x & 31676) - 4;
+        x = (x ^ (x >>> 6)) * 24693 + y;
+        y = y + (x & 39595) - 5;
+        x = (x ^ (x >>> 7)) * 23079 + y;
+        y = y + (x & 47514) - 6;
+        x = (x ^ (x >>> 8)) * 21463 + y;
+        y = y + (x & 55433) - 7;
+        x = (x ^ (x >>> 9)) * 19849 + y;
+        y = y + (x & 63352) - 8;
+        x = (x ^ (x >>> 10)) * 18233 + y;
+        y = y + (x & 5735) - 9;
+        x = (x ^ (x >>> 11)) * 16619 + y;
+        y = y + (x & 13654) - 10;
+        x = (x ^ (x >>> 12)) * 15003 + y;
+        y = y + (x & 21573) - 11;
+        x = (x ^ (x >>> 13)) * 13389 + y;
+        y = y + (x & 29492) - 12;
+        x = (x ^ (x >>> 1)) * 11773 + y;
+        y = y + (x & 37411) - 13;
+        x = (x ^ (x >>> 2)) * 10159 + y;
+        y = y + (x & 45330) - 14;
+        x = (x ^ (x >>> 3)) * 8543 + y;
+        y = y + (x & 53249) - 15;
+        x = (x ^ (x >>> 4)) * 6929 + y;
+        y = y + (x & 61168) - 16;
+        x = (x ^ (x >>> 5)) * 5313 + y;
+        y = y + (x & 3551) - 17;
+        x = (x ^ (x >>> 6)) * 3699 + y;
+        y = y + (x & 11470) - 18;
+        x = (x ^ (x >>> 7)) * 2083 + y;
+        y = y + (x & 19389) - 19;
+        x = (x ^ (x >>> 8)) * 469 + y;
+        y = y + (x & 27308) - 20;
+        x = (x ^ (x >>> 9)) * 31621 + y;
+        y = y + (x & 35227) - 21;
+        x = (x ^ (x >>> 10)) * 30007 + y;
+        y = y + (x & 43146) - 22;
+        x = (x ^ (x >>> 11)) * 28391 + y;
+        y = y + (x & 51065) - 23;
+        x = (x ^ (x >>> 12)) * 26777 + y;
+        y = y + (x & 58984) - 24;
+        x = (x ^ (x >>> 13)) * 25161 + y;
+        y = y + (x & 1367) - 25;
+        x = (x ^ (x >>> 1)) * 23547 + y;
+        y = y + (x & 9286) - 26;
+        x = (x ^ (x >>> 2)) * 21931 + y;
+        y = y + (x & 17205) - 27;
+        x = (x ^ (x >>> 3)) * 20317 + y;
+        y = y + (x & 25124) - 28;
+        x = (x ^ (x >>> 4)) * 18701 + y;
+        y = y + (x & 33043) - 29;
+        x = (x ^ (x >>> 5)) * 17087 + y;
+        y = y + (x & 40962) - 30;
+        x = (x ^ (x >>> 6)) * 15471 + y;
+        y = y + (x & 48881) - 31;
+        x = (x ^ (x >>> 7)) * 13857 + y;
+        y = y + (x & 56800) - 32;
+        x = (x ^ (x >>> 8)) * 12241 + y;
+        y = y + (x & 64719) - 33;
+        x = (x ^ (x >>> 9)) * 10627 + y;
+        y = y + (x & 7102) - 34;
+        x = (x ^ (x >>> 10)) * 9011 + y;
+        y = y + (x & 15021) - 35;
+        x = (x ^ (x >>> 11)) * 7397 + y;
+        y = y + (x & 22940) - 36;
+        x = (x ^ (x >>> 12)) * 5781 + y;
+        y = y + (x & 30859) - 37;
+        x = (x ^ (x >>> 13)) * 4167 + y;
+        y = y + (x & 38778) - 38;
+        x = (x ^ (x >>> 1)) * 2551 + y;
+        y = y + (x & 46697) - 39;
+        x = (x ^ (x >>> 2)) * 937 + y;
+        y = y + (x & 54616) - 40;
+        x = (x ^ (x >>> 3)) * 32089 + y;
+        y = y + (x & 62535) - 41;
+        x = (x ^ (x >>> 4)) * 30475 + y;
+        y = y + (x & 4918) - 42;
+        x = (x ^ (x >>> 5)) * 28859 + y;
+        y = y + (x & 12837) - 43;
+        x = (x ^ (x >>> 6)) * 27245 + y;
+        y = y + (x & 20756) - 44;
+        x = (x ^ (x >>> 7)) * 25629 + y;
+        y = y + (x & 28675) - 45;
+        x = (x ^ (x >>> 8)) * 24015 + y;
+        y = y + (x & 36594) - 46;
+        x = (x ^ (x >>> 9)) * 22399 + y;
+        y = y + (x & 44513) - 47;
+        x = (x ^ (x >>> 10)) * 20785 + y;
+        y = y + (x & 52432) - 48;
+        x = (x ^ (x >>> 11)) * 19169 + y;
+        y = y + (x & 60351) - 49;
+        x = (x ^ (x >>> 12)) * 17555 + y;
+        y = y + (x & 2734) - 50;
+        x = (x ^ (x >>> 13)) * 15939 + y;
+        y = y + (x & 10653) - 51;
+        x = (x ^ (x >>> 1)) * 14325 + y;
+        y = y + (x & 18572) - 52;
+        x = (x ^ (x >>> 2)) * 12709 + y;
+        y = y + (x & 26491) - 53;
+        x = (x ^ (x >>> 3)) * 11095 + y;
+        y = y + (x & 34410) - 54;
+        x = (x ^ (x >>> 4)) * 9479 + y;
+        y = y + (x & 42329) - 55;
+        x = (x ^ (x >>> 5)) * 7865 + y;
+        y = y + (x & 50248) - 56;
+        x = (x ^ (x >>> 6)) * 6249 + y;
+        y = y + (x & 58167) - 57;
+        x = (x ^ (x >>> 7)) * 4635 + y;
+        y = y + (x & 550) - 58;
+        x = (x ^ (x >>> 8)) * 3019 + y;
+        y = y + (x & 8469) - 59;
+        x = (x ^ (x >>> 9)) * 1405 + y;
+        y = y + (x & 16388) - 60;
+        x = (x ^ (x >>> 10)) * 32557 + y;
+        y = y + (x & 24307) - 61;
+        x = (x ^ (x >>> 11)) * 30943 + y;
+        y = y + (x & 32226) - 62;
+        x = (x ^ (x >>> 12)) * 29327 + y;
+        y = y + (x & 40145) - 63;
+        x = (x ^ (x >>> 13)) * 27713 + y;
+        y = y + (x & 48064) - 64;
+        x = (x ^ (x >>> 1)) * 26097 + y;
+        y = y + (x & 55983) - 65;
+        x = (x ^ (x >>> 2)) * 24483 + y;
+        y = y + (x & 63902) - 66;
+        x = (x ^ (x >>> 3)) * 22867 + y;
+        y = y + (x & 6285) - 67;
+        x = (x ^ (x >>> 4)) * 21253 + y;
+        y = y + (x & 14204) - 68;
+        x = (x ^ (x >>> 5)) * 19637 + y;
+        y = y + (x & 22123) - 69;
+        x = (x ^ (x >>> 6)) * 18023 + y;
+        y = y + (x & 30042) - 70;
+        x = (x ^ (x >>> 7)) * 16407 + y;
+        y = y + (x & 37961) - 71;
+        x = (x ^ (x >>> 8)) * 14793 + y;
+        y = y + (x & 45880) - 72;
+        x = (x ^ (x >>> 9)) * 13177 + y;
+        y = y + (x & 53799) - 73;
+        x = (x ^ (x >>> 10)) * 11563 + y;
+        y = y + (x & 61718) - 74;
+        x = (x ^ (x >>> 11)) * 9947 + y;
+        y = y + (x & 4101) - 75;
+        x = (x ^ (x >>> 12)) * 8333 + y;
+        y = y + (x & 12020) - 76;
+        x = (x ^ (x >>> 13)) * 6717 + y;
+        y = y + (x & 19939) - 77;
+        x = (x ^ (x >>> 1)) * 5103 + y;
+        y = y + (x & 27858) - 78;
+        x = (x ^ (x >>> 2)) * 3487 + y;
+        y = y + (x & 35777) - 79;
+        x = (x ^ (x >>> 3)) * 1873 + y;
+        y = y + (x & 43696) - 80;
+        x = (x ^ (x >>> 4)) * 257 + y;
+        y = y + (x & 51615) - 81;
+        x = (x ^ (x >>> 5)) * 31411 + y;
+        y = y + (x & 59534) - 82;
+        x = (x ^ (x >>> 6)) * 29795 + y;
+        y = y + (x & 1917) - 83;
+        x = (x ^ (x >>> 7)) * 28181 + y;
+        y = y + (x & 9836) - 84;
+        x = (x ^ (x >>> 8)) * 26565 + y;
+        y = y + (x & 17755) - 85;
+        x = (x ^ (x >>> 9)) * 24951 + y;
+        y = y + (x & 25674) - 86;
+        x = (x ^ (x >>> 10)) * 23335 + y;
+        y = y + (x & 33593) - 87;
+        x = (x ^ (x >>> 11)) * 21721 + y;
+        y = y + (x & 41512) - 88;
+        x = (x ^ (x >>> 12)) * 20105 + y;
+        y = y + (x & 49431) - 89;
+        x = (x ^ (x >>> 13)) * 18491 + y;
+        y = y + (x & 57350) - 90;
+        x = (x ^ (x >>> 1)) * 16875 + y;
+        y = y + (x & 65269) - 91;
+        x = (x ^ (x >>> 2)) * 15261 + y;
+        y = y + (x & 7652) - 92;
+        x = (x ^ (x >>> 3)) * 13645 + y;
+        y = y + (x & 15571) - 93;
+        x = (x ^ (x >>> 4)) * 12031 + y;
+        y = y + (x & 23490) - 94;
+        x = (x ^ (x >>> 5)) * 10415 + y;
+        y = y + (x & 31409) - 95;
+        x = (x ^ (x >>> 6)) * 8801 + y;
+        y = y + (x & 39328) - 96;
+        x = (x ^ (x >>> 7)) * 7185 + y;
+        y = y + (x & 47247) - 97;
+        x = (x ^ (x >>> 8)) * 5571 + y;
+        y = y + (x & 55166) - 98;
+        x = (x ^ (x >>> 9)) * 3955 + y;
+        y = y + (x & 63085) - 99;
+        x = (x ^ (x >>> 10)) * 2341 + y;
+        y = y + (x & 5468) - 100;
+        x = (x ^ (x >>> 11)) * 725 + y;
+        y = y + (x & 13387) - 101;
+        x = (x ^ (x >>> 12)) * 31879 + y;
+        y = y + (x & 21306) - 102;
+        x = (x ^ (x >>> 13)) * 30263 + y;
+        y = y + (x & 29225) - 103;
+        x = (x ^ (x >>> 1)) * 28649 + y;
+        y = y + (x & 37144) - 104;
+        x = (x ^ (x >>> 2)) * 27033 + y;
+        y = y + (x & 45063) - 105;
+        x = (x ^ (x >>> 3)) * 25419 + y;
+        y = y + (x & 52982) - 106;
+        x = (x ^ (x >>> 4)) * 23803 + y;
+        y = y + (x & 60901) - 107;
+        x = (x ^ (x >>> 5)) * 22189 + y;
+        y = y + (x & 3284) - 108;
+        x = (x ^ (x >>> 6)) * 20573 + y;
+        y = y + (x & 11203) - 109;
+        x = (x ^ (x >>> 7)) * 18959 + y;
+        y = y + (x & 19122) - 110;
+        x = (x ^ (x >>> 8)) * 17343 + y;
+        y = y + (x & 27041) - 111;
+        x = (x ^ (x >>> 9)) * 15729 + y;
+        y = y + (x & 34960) - 112;
+        x = (x ^ (x >>> 10)) * 14113 + y;
+        y = y + (x & 42879) - 113;
+        x = (x ^ (x >>> 11)) * 12499 + y;
+        y = y + (x & 50798) - 114;
+        x = (x ^ (x >>> 12)) * 10883 + y;
+        y = y + (x & 58717) - 115;
+        x = (x ^ (x >>> 13)) * 9269 + y;
+        y = y + (x & 1100) - 116;
+        x = (x ^ (x >>> 1)) * 7653 + y;
+        y = y + (x & 9019) - 117;
+        x = (x ^ (x >>> 2)) * 6039 + y;
+        y = y + (x & 16938) - 118;
+        x = (x ^ (x >>> 3)) * 4423 + y;
+        y = y + (x & 24857) - 119;
+        x = (x ^ (x >>> 4)) * 2809 + y;
+        y = y + (x & 32776) - 120;
+        x = (x ^ (x >>> 5)) * 1193 + y;
+        y = y + (x & 40695) - 121;
+        x = (x ^ (x >>> 6)) * 32347 + y;
+        y = y + (x & 48614) - 122;
+        x = (x ^ (x >>> 7)) * 30731 + y;
+        y = y + (x & 56533) - 123;
+        x = (x ^ (x >>> 8)) * 29117 + y;
+        y = y + (x & 64452) - 124;
+        x = (x ^ (x >>> 9)) * 27501 + y;
+        y = y + (x & 6835) - 125;
+        x = (x ^ (x >>> 10)) * 25887 + y;
+        y = y + (x & 14754) - 126;
+        x = (x ^ (x >>> 11)) * 24271 + y;
+        y = y + (x & 22673) - 127;
+        x = (x ^ (x >>> 12)) * 22657 + y;
+        y = y + (x & 30592) - 128;
+        x = (x ^ (x >>> 13)) * 21041 + y;
+        y = y + (x & 38511) - 129;
+        x = (x ^ (x >>> 1)) * 19427 + y;
+        y = y + (x & 46430) - 130;
+        x = (x ^ (x >>> 2)) * 17811 + y;
+        y = y + (x & 54349) - 131;
+        x = (x ^ (x >>> 3)) * 16197 + y;
+        y = y + (x & 62268) - 132;
+        x = (x ^ (x >>> 4)) * 14581 + y;
+        y = y + (x & 4651) - 133;
+        x = (x ^ (x >>> 5)) * 12967 + y;
+        y = y + (x & 12570) - 134;
+        x = (x ^ (x >>> 6)) * 11351 + y;
+        y = y + (x & 20489) - 135;
+        x = (x ^ (x >>> 7)) * 9737 + y;
+        y = y + (x & 28408) - 136;
+        x = (x ^ (x >>> 8)) * 8121 + y;
+        y = y + (x & 36327) - 137;
+        x = (x ^ (x >>> 9)) * 6507 + y;
+        y = y + (x & 44246) - 138;
+        x = (x ^ (x >>> 10)) * 4891 + y;
+        y = y + (x & 52165) - 139;
+        x = (x ^ (x >>> 11)) * 3277 + y;
+        y = y + (x & 60084) - 140;
+        x = (x ^ (x >>> 12)) * 1661 + y;
+        y = y + (x & 2467) - 141;
+        x = (x ^ (x >>> 13)) * 47 + y;
+        y = y + (x & 10386) - 142;
+        x = (x ^ (x >>> 1)) * 31199 + y;
+        y = y + (x & 18305) - 143;
+        x = (x ^ (x >>> 2)) * 29585 + y;
+        y = y + (x & 26224) - 144;
+        x = (x ^ (x >>> 3)) * 27969 + y;
+        y = y + (x & 34143) - 145;
+        x = (x ^ (x >>> 4)) * 26355 + y;
+        y = y + (x & 42062) - 146;
+        x = (x ^ (x >>> 5)) * 24739 + y;
+        y = y + (x & 49981) - 147;
+        x = (x ^ (x >>> 6)) * 23125 + y;
+        y = y + (x & 57900) - 148;
+        x = (x ^ (x >>> 7)) * 21509 + y;
+        y = y + (x & 283) - 149;
+        x = (x ^ (x >>> 8)) * 19895 + y;
+        y = y + (x & 8202) - 150;
+        x = (x ^ (x >>> 9)) * 18279 + y;
+        y = y + (x & 16121) - 151;
+        x = (x ^ (x >>> 10)) * 16665 + y;
+        y = y + (x & 24040) - 152;
+        x = (x ^ (x >>> 11)) * 15049 + y;
+        y = y + (x & 31959) - 153;
+        x = (x ^ (x >>> 12)) * 13435 + y;
+        y = y + (x & 39878) - 154;
+        x = (x ^ (x >>> 13)) * 11819 + y;
+        y = y + (x & 47797) - 155;
+        x = (x ^ (x >>> 1)) * 10205 + y;
+        y = y + (x & 55716) - 156;
+        x = (x ^ (x >>> 2)) * 8589 + y;
+        y = y + (x & 63635) - 157;
+        x = (x ^ (x >>> 3)) * 6975 + y;
+        y = y + (x & 6018) - 158;
+        x = (x ^ (x >>> 4)) * 5359 + y;
+        y = y + (x & 13937) - 159;
+        x = (x ^ (x >>> 5)) * 3745 + y;
+        y = y + (x & 21856) - 160;
+        x = (x ^ (x >>> 6)) * 2129 + y;
+        y = y + (x & 29775) - 161;
+        x = (x ^ (x >>> 7)) * 515 + y;
+        y = y + (x & 37694) - 162;
+        x = (x ^ (x >>> 8)) * 31667 + y;
+        y = y + (x & 45613) - 163;
+        x = (x ^ (x >>> 9)) * 30053 + y;
+        y = y + (x & 53532) - 164;
+        x = (x ^ (x >>> 10)) * 28437 + y;
+        y = y + (x & 61451) - 165;
+        x = (x ^ (x >>> 11)) * 26823 + y;
+        y = y + (x & 3834) - 166;
+        x = (x ^ (x >>> 12)) * 25207 + y;
+        y = y + (x & 11753) - 167;
+        x = (x ^ (x >>> 13)) * 23593 + y;
+        y = y + (x & 19672) - 168;
+        x = (x ^ (x >>> 1)) * 21977 + y;
+        y = y + (x & 27591) - 169;
+        x = (x ^ (x >>> 2)) * 20363 + y;
+        y = y + (x & 35510) - 170;
+        x = (x ^ (x >>> 3)) * 18747 + y;
+        y = y + (x & 43429) - 171;
+        x = (x ^ (x >>> 4)) * 17133 + y;
+        y = y + (x & 51348) - 172;
+        x = (x ^ (x >>> 5)) * 15517 + y;
+        y = y + (x & 59267) - 173;
+        x = (x ^ (x >>> 6)) * 13903 + y;
+        y = y + (x & 1650) - 174;
+        x = (x ^ (x >>> 7)) * 12287 + y;
+        y = y + (x & 9569) - 175;
+        x = (x ^ (x >>> 8)) * 10673 + y;
+        y = y + (x & 17488) - 176;
+        x = (x ^ (x >>> 9)) * 9057 + y;
+        y = y + (x & 25407) - 177;
+        x = (x ^ (x >>> 10)) * 7443 + y;
+        y = y + (x & 33326) - 178;
+        x = (x ^ (x >>> 11)) * 5827 + y;
+        y = y + (x & 41245) - 179;
+        x = (x ^ (x >>> 12)) * 4213 + y;
+        y = y + (x & 49164) - 180;
+        x = (x ^ (x >>> 13)) * 2597 + y;
+        y = y + (x & 57083) - 181;
+        x = (x ^ (x >>> 1)) * 983 + y;
+        y = y + (x & 65002) - 182;
+        x = (x ^ (x >>> 2)) * 32135 + y;
+        y = y + (x & 7385) - 183;
+        x = (x ^ (x >>> 3)) * 30521 + y;
+        y = y + (x & 15304) - 184;
+        x = (x ^ (x >>> 4)) * 28905 + y;
+        y = y + (x & 23223) - 185;
+        x = (x ^ (x >>> 5)) * 27291 + y;
+        y = y + (x & 31142) - 186;
+        x = (x ^ (x >>> 6)) * 25675 + y;
+        y = y + (x & 39061) - 187;
+        x = (x ^ (x >>> 7)) * 24061 + y;
+        y = y + (x & 46980) - 188;
+        x = (x ^ (x >>> 8)) * 22445 + y;
+        y = y + (x & 54899) - 189;
+        x = (x ^ (x >>> 9)) * 20831 + y;
+        y = y + (x & 62818) - 190;
+        x = (x ^ (x >>> 10)) * 19215 + y;
+        y = y + (x & 5201) - 191;
+        x = (x ^ (x >>> 11)) * 17601 + y;
+        y = y + (x & 13120) - 192;
+        x = (x ^ (x >>> 12)) * 15985 + y;
+        y = y + (x & 21039) - 193;
+        x = (x ^ (x >>> 13)) * 14371 + y;
+        y = y + (x & 28958) - 194;
+        x = (x ^ (x >>> 1)) * 12755 + y;
+        y = y + (x & 36877) - 195;
+        x = (x ^ (x >>> 2)) * 11141 + y;
+        y = y + (x & 44796) - 196;
+        x = (x ^ (x >>> 3)) * 9525 + y;
+        y = y + (x & 52715) - 197;
+        x = (x ^ (x >>> 4)) * 7911 + y;
+        y = y + (x & 60634) - 198;
+        x = (x ^ (x >>> 5)) * 6295 + y;
+        y = y + (x & 3017) - 199;
+        x = (x ^ (x >>> 6)) * 4681 + y;
+        y = y + (x & 10936) - 200;
+        x = (x ^ (x >>> 7)) * 3065 + y;
+        y = y + (x & 18855) - 201;
+        x = (x ^ (x >>> 8)) * 1451 + y;
+        y = y + (x & 26774) - 202;
+        x = (x ^ (x >>> 9)) * 32603 + y;
+        y = y + (x & 34693) - 203;
+        x = (x ^ (x >>> 10)) * 30989 + y;
+        y = y + (x & 42612) - 204;
+        x = (x ^ (x >>> 11)) * 29373 + y;
+        y = y + (x & 50531) - 205;
+        x = (x ^ (x >>> 12)) * 27759 + y;
+        y = y + (x & 58450) - 206;
+        x = (x ^ (x >>> 13)) * 26143 + y;
+        y = y + (x & 833) - 207;
+        x = (x ^ (x >>> 1)) * 24529 + y;
+        y = y + (x & 8752) - 208;
+        x = (x ^ (x >>> 2)) * 22913 + y;
+        y = y + (x & 16671) - 209;
+        x = (x ^ (x >>> 3)) * 21299 + y;
+        y = y + (x & 24590) - 210;
+        x = (x ^ (x >>> 4)) * 19683 + y;
+        y = y + (x & 32509) - 211;
+        x = (x ^ (x >>> 5)) * 18069 + y;
+        y = y + (x & 40428) - 212;
+        x = (x ^ (x >>> 6)) * 16453 + y;
+        y = y + (x & 48347) - 213;
+        x = (x ^ (x >>> 7)) * 14839 + y;
+        y = y + (x & 56266) - 214;
+        x = (x ^ (x >>> 8)) * 13223 + y;
+        y = y + (x & 64185) - 215;
+        x = (x ^ (x >>> 9)) * 11609 + y;
+        y = y + (x & 6568) - 216;
+        x = (x ^ (x >>> 10)) * 9993 + y;
+        y = y + (x & 14487) - 217;
+        x = (x ^ (x >>> 11)) * 8379 + y;
+        y = y + (x & 22406) - 218;
+        x = (x ^ (x >>> 12)) * 6763 + y;
+        y = y + (x & 30325) - 219;
+        x = (x ^ (x >>> 13)) * 5149 + y;
+        y = y + (x & 38244) - 220;
+        x = (x ^ (x >>> 1)) * 3533 + y;
+        y = y + (x & 46163) - 221;
+        x = (x ^ (x >>> 2)) * 1919 + y;
+        y = y + (x & 54082) - 222;
+        x = (x ^ (x >>> 3)) * 303 + y;
+        y = y + (x & 62001) - 223;
+        x = (x ^ (x >>> 4)) * 31457 + y;
+        y = y + (x & 4384) - 224;
+        x = (x ^ (x >>> 5)) * 29841 + y;
+        y = y + (x & 12303) - 225;
+        x = (x ^ (x >>> 6)) * 28227 + y;
+        y = y + (x & 20222) - 226;
+        x = (x ^ (x >>> 7)) * 26611 + y;
+        y = y + (x & 28141) - 227;
+        x = (x ^ (x >>> 8)) * 24997 + y;
+        y = y + (x & 36060) - 228;
+        x = (x ^ (x >>> 9)) * 23381 + y;
+        y = y + (x & 43979) - 229;
+        x = (x ^ (x >>> 10)) * 21767 + y;
+        y = y + (x & 51898) - 230;
+        x = (x ^ (x >>> 11)) * 20151 + y;
+        y = y + (x & 59817) - 231;
+        x = (x ^ (x >>> 12)) * 18537 + y;
+        y = y + (x & 2200) - 232;
+        x = (x ^ (x >>> 13)) * 16921 + y;
+        y = y + (x & 10119) - 233;
+        x = (x ^ (x >>> 1)) * 15307 + y;
+        y = y + (x & 18038) - 234;
+        x = (x ^ (x >>> 2)) * 13691 + y;
+        y = y + (x & 25957) - 235;
+        x = (x ^ (x >>> 3)) * 12077 + y;
+        y = y + (x & 33876) - 236;
+        x = (x ^ (x >>> 4)) * 10461 + y;
+        y = y + (x & 41795) - 237;
+        x = (x ^ (x >>> 5)) * 8847 + y;
+        y = y + (x & 49714) - 238;
+        x = (x ^ (x >>> 6)) * 7231 + y;
+        y = y + (x & 57633) - 239;
+        x = (x ^ (x >>> 7)) * 5617 + y;
+        y = y + (x & 16) - 240;
+        x = (x ^ (x >>> 8)) * 4001 + y;
+        y = y + (x & 7935) - 241;
+        x = (x ^ (x >>> 9)) * 2387 + y;
+        y = y + (x & 15854) - 242;
+        x = (x ^ (x >>> 10)) * 771 + y;
+        y = y + (x & 23773) - 243;
+        x = (x ^ (x >>> 11)) * 31925 + y;
+        y = y + (x & 31692) - 244;
+        x = (x ^ (x >>> 12)) * 30309 + y;
+        y = y + (x & 39611) - 245;
+        x = (x ^ (x >>> 13)) * 28695 + y;
+        y = y + (x & 47530) - 246;
+        x = (x ^ (x >>> 1)) * 27079 + y;
+        y = y + (x & 55449) - 247;
+        x = (x ^ (x >>> 2)) * 25465 + y;
+        y = y + (x & 63368) - 248;
+        x = (x ^ (x >>> 3)) * 23849 + y;
+        y = y + (x & 5751) - 249;
+        x = (x ^ (x >>> 4)) * 22235 + y;
+        y = y + (x & 13670) - 250;
+        x = (x ^ (x >>> 5)) * 20619 + y;
+        y = y + (x & 21589) - 251;
+        x = (x ^ (x >>> 6)) * 19005 + y;
+        y = y + (x & 29508) - 252;
+        x = (x ^ (x >>> 7)) * 17389 + y;
+        y = y + (x & 37427) - 253;
+        x = (x ^ (x >>> 8)) * 15775 + y;
+        y = y + (x & 45346) - 254;
+        x = (x ^ (x >>> 9)) * 14159 + y;
+        y = y + (x & 53265) - 255;
+        x = (x ^ (x >>> 10)) * 12545 + y;
+        y = y + (x & 61184) - 256;
+        x = (x ^ (x >>> 11)) * 10929 + y;
+        y = y + (x & 3567) - 257;
+        x = (x ^ (x >>> 12)) * 9315 + y;
+        y = y + (x & 11486) - 258;
+        x = (x ^ (x >>> 13)) * 7699 + y;
+        y = y + (x & 19405) - 259;
+        x = (x ^ (x >>> 1)) * 6085 + y;
+        y = y + (x & 27324) - 260;
+        x = (x ^ (x >>> 2)) * 4469 + y;
+        y = y + (x & 35243) - 261;
+        x = (x ^ (x >>> 3)) * 2855 + y;
+        y = y + (x & 43162) - 262;
+        x = (x ^ (x >>> 4)) * 1239 + y;
+        y = y + (x & 51081) - 263;
+        x = (x ^ (x >>> 5)) * 32393 + y;
+        y = y + (x & 59000) - 264;
+        x = (x ^ (x >>> 6)) * 30777 + y;
+        y = y + (x & 1383) - 265;
+        x = (x ^ (x >>> 7)) * 29163 + y;
+        y = y + (x & 9302) - 266;
+        x = (x ^ (x >>> 8)) * 27547 + y;
+        y = y + (x & 17221) - 267;
+        x = (x ^ (x >>> 9)) * 25933 + y;
+        y = y + (x & 25140) - 268;
+        x = (x ^ (x >>> 10)) * 24317 + y;
+        y = y + (x & 33059) - 269;
+        x = (x ^ (x >>> 11)) * 22703 + y;
+        y = y + (x & 40978) - 270;
+        x = (x ^ (x >>> 12)) * 21087 + y;
+        y = y + (x & 48897) - 271;
+        x = (x ^ (x >>> 13)) * 19473 + y;
+        y = y + (x & 56816) - 272;
+        x = (x ^ (x >>> 1)) * 17857 + y;
+        y = y + (x & 64735) - 273;
+        x = (x ^ (x >>> 2)) * 16243 + y;
+        y = y + (x & 7118) - 274;
+        x = (x ^ (x >>> 3)) * 14627 + y;
+        y = y + (x & 15037) - 275;
+        x = (x ^ (x >>> 4)) * 13013 + y;
+        y = y + (x & 22956) - 276;
+        x = (x ^ (x >>> 5)) * 11397 + y;
+        y = y + (x & 30875) - 277;
+        x = (x ^ (x >>> 6)) * 9783 + y;
+        y = y + (x & 38794) - 278;
+        x = (x ^ (x >>> 7)) * 8167 + y;
+        y = y + (x & 46713) - 279;
+        x = (x ^ (x >>> 8)) * 6553 + y;
+        y = y + (x & 54632) - 280;
+        x = (x ^ (x >>> 9)) * 4937 + y;
+        y = y + (x & 62551) - 281;
+        x = (x ^ (x >>> 10)) * 3323 + y;
+        y = y + (x & 4934) - 282;
+        x = (x ^ (x >>> 11)) * 1707 + y;
+        y = y + (x & 12853) - 283;
+        x = (x ^ (x >>> 12)) * 93 + y;
+        y = y + (x & 20772) - 284;
+        x = (x ^ (x >>> 13)) * 31245 + y;
+        y = y + (x & 28691) - 285;
+        x = (x ^ (x >>> 1)) * 29631 + y;
+        y = y + (x & 36610) - 286;
+        x = (x ^ (x >>> 2)) * 28015 + y;
+        y = y + (x & 44529) - 287;
+        x = (x ^ (x >>> 3)) * 26401 + y;
+        y = y + (x & 52448) - 288;
+        x = (x ^ (x >>> 4)) * 24785 + y;
+        y = y + (x & 60367) - 289;
+        x = (x ^ (x >>> 5)) * 23171 + y;
+        y = y + (x & 2750) - 290;
+        x = (x ^ (x >>> 6)) * 21555 + y;
+        y = y + (x & 10669) - 291;
+        x = (x ^ (x >>> 7)) * 19941 + y;
+        y = y + (x & 18588) - 292;
+        x = (x ^ (x >>> 8)) * 18325 + y;
+        y = y + (x & 26507) - 293;
+        x = (x ^ (x >>> 9)) * 16711 + y;
+        y = y + (x & 34426) - 294;
+        x = (x ^ (x >>> 10)) * 15095 + y;
+        y = y + (x & 42345) - 295;
+        x = (x ^ (x >>> 11)) * 13481 + y;
+        y = y + (x & 50264) - 296;
+        x = (x ^ (x >>> 12)) * 11865 + y;
+        y = y + (x & 58183) - 297;
+        x = (x ^ (x >>> 13)) * 10251 + y;
+        y = y + (x & 566) - 298;
+        x = (x ^ (x >>> 1)) * 8635 + y;
+        y = y + (x & 8485) - 299;
+        x = (x ^ (x >>> 2)) * 7021 + y;
+        y = y + (x & 16404) - 300;
+        x = (x ^ (x >>> 3)) * 5405 + y;
+        y = y + (x & 24323) - 301;
+        x = (x ^ (x >>> 4)) * 3791 + y;
+        y = y + (x & 32242) - 302;
+        x = (x ^ (x >>> 5)) * 2175 + y;
+        y = y + (x & 40161) - 303;
+        x = (x ^ (x >>> 6)) * 561 + y;
+        y = y + (x & 48080) - 304;
+        x = (x ^ (x >>> 7)) * 31713 + y;
+        y = y + (x & 55999) - 305;
+        x = (x ^ (x >>> 8)) * 30099 + y;
+        y = y + (x & 63918) - 306;
+        x = (x ^ (x >>> 9)) * 28483 + y;
+        y = y + (x & 6301) - 307;
+        x = (x ^ (x >>> 10)) * 26869 + y;
+        y = y + (x & 14220) - 308;
+        x = (x ^ (x >>> 11)) * 25253 + y;
+        y = y + (x & 22139) - 309;
+        x = (x ^ (x >>> 12)) * 23639 + y;
+        y = y + (x & 30058) - 310;
+        x = (x ^ (x >>> 13)) * 22023 + y;
+        y = y + (x & 37977) - 311;
+        x = (x ^ (x >>> 1)) * 20409 + y;
+        y = y + (x & 45896) - 312;
+        x = (x ^ (x >>> 2)) * 18793 + y;
+        y = y + (x & 53815) - 313;
+        x = (x ^ (x >>> 3)) * 17179 + y;
+        y = y + (x & 61734) - 314;
+        x = (x ^ (x >>> 4)) * 15563 + y;
+        y = y + (x & 4117) - 315;
+        x = (x ^ (x >>> 5)) * 13949 + y;
+        y = y + (x & 12036) - 316;
+        x = (x ^ (x >>> 6)) * 12333 + y;
+        y = y + (x & 19955) - 317;
+        x = (x ^ (x >>> 7)) * 10719 + y;
+        y = y + (x & 27874) - 318;
+        x = (x ^ (x >>> 8)) * 9103 + y;
+        y = y + (x & 35793) - 319;
+        x = (x ^ (x >>> 9)) * 7489 + y;
+        y = y + (x & 43712) - 320;
+        x = (x ^ (x >>> 10)) * 5873 + y;
+        y = y + (x & 51631) - 321;
+        x = (x ^ (x >>> 11)) * 4259 + y;
+        y = y + (x & 59550) - 322;
+        x = (x ^ (x >>> 12)) * 2643 + y;
+        y = y + (x & 1933) - 323;
+        x = (x ^ (x >>> 13)) * 1029 + y;
+        y = y + (x & 9852) - 324;
+        x = (x ^ (x >>> 1)) * 32181 + y;
+        y = y + (x & 17771) - 325;
+        x = (x ^ (x >>> 2)) * 30567 + y;
+        y = y + (x & 25690) - 326;
+        x = (x ^ (x >>> 3)) * 28951 + y;
+        y = y + (x & 33609) - 327;
+        x = (x ^ (x >>> 4)) * 27337 + y;
+        y = y + (x & 41528) - 328;
+        x = (x ^ (x >>> 5)) * 25721 + y;
+        y = y + (x & 49447) - 329;
+        x = (x ^ (x >>> 6)) * 24107 + y;
+        y = y + (x & 57366) - 330;
+        x = (x ^ (x >>> 7)) * 22491 + y;
+        y = y + (x & 65285) - 331;
+        x = (x ^ (x >>> 8)) * 20877 + y;
+        y = y + (x & 7668) - 332;
+        x = (x ^ (x >>> 9)) * 19261 + y;
+        y = y + (x & 15587) - 333;
+        x = (x ^ (x >>> 10)) * 17647 + y;
+        y = y + (x & 23506) - 334;
+        x = (x ^ (x >>> 11)) * 16031 + y;
+        y = y + (x & 31425) - 335;
+        x = (x ^ (x >>> 12)) * 14417 + y;
+        y = y + (x & 39344) - 336;
+        x = (x ^ (x >>> 13)) * 12801 + y;
+        y = y + (x & 47263) - 337;
+        x = (x ^ (x >>> 1)) * 11187 + y;
+        y = y + (x & 55182) - 338;
+        x = (x ^ (x >>> 2)) * 9571 + y;
+        y = y + (x & 63101) - 339;
+        x = (x ^ (x >>> 3)) * 7957 + y;
+        y = y + (x & 5484) - 340;
+        x = (x ^ (x >>> 4)) * 6341 + y;
+        y = y + (x & 13403) - 341;
+        x = (x ^ (x >>> 5)) * 4727 + y;
+        y = y + (x & 21322) - 342;
+        x = (x ^ (x >>> 6)) * 3111 + y;
+        y = y + (x & 29241) - 343;
+        x = (x ^ (x >>> 7)) * 1497 + y;
+        y = y + (x & 37160) - 344;
+        x = (x ^ (x >>> 8)) * 32649 + y;
+        y = y + (x & 45079) - 345;
+        x = (x ^ (x >>> 9)) * 31035 + y;
+        y = y + (x & 52998) - 346;
+        x = (x ^ (x >>> 10)) * 29419 + y;
+        y = y + (x & 60917) - 347;
+        x = (x ^ (x >>> 11)) * 27805 + y;
+        y = y + (x & 3300) - 348;
+        x = (x ^ (x >>> 12)) * 26189 + y;
+        y = y + (x & 11219) - 349;
+        x = (x ^ (x >>> 13)) * 24575 + y;
+        y = y + (x & 19138) - 350;
+        x = (x ^ (x >>> 1)) * 22959 + y;
+        y = y + (x & 27057) - 351;
+        x = (x ^ (x >>> 2)) * 21345 + y;
+        y = y + (x & 34976) - 352;
+        x = (x ^ (x >>> 3)) * 19729 + y;
+        y = y + (x & 42895) - 353;
+        x = (x ^ (x >>> 4)) * 18115 + y;
+        y = y + (x & 50814) - 354;
+        x = (x ^ (x >>> 5)) * 16499 + y;
+        y = y + (x & 58733) - 355;
+        x = (x ^ (x >>> 6)) * 14885 + y;
+        y = y + (x & 1116) - 356;
+        x = (x ^ (x >>> 7)) * 13269 + y;
+        y = y + (x & 9035) - 357;
+        x = (x ^ (x >>> 8)) * 11655 + y;
+        y = y + (x & 16954) - 358;
+        x = (x ^ (x >>> 9)) * 10039 + y;
+        y = y + (x & 24873) - 359;
+        x = (x ^ (x >>> 10)) * 8425 + y;
+        y = y + (x & 32792) - 360;
+        x = (x ^ (x >>> 11)) * 6809 + y;
+        y = y + (x & 40711) - 361;
+        x = (x ^ (x >>> 12)) * 5195 + y;
+        y = y + (x & 48630) - 362;
+        x = (x ^ (x >>> 13)) * 3579 + y;
+        y = y + (x & 56549) - 363;
+        x = (x ^ (x >>> 1)) * 1965 + y;
+        y = y + (x & 64468) - 364;
+        x = (x ^ (x >>> 2)) * 349 + y;
+        y = y + (x & 6851) - 365;
+        x = (x ^ (x >>> 3)) * 31503 + y;
+        y = y + (x & 14770) - 366;
+        x = (x ^ (x >>> 4)) * 29887 + y;
+        y = y + (x & 22689) - 367;
+        x = (x ^ (x >>> 5)) * 28273 + y;
+        y = y + (x & 30608) - 368;
+        x = (x ^ (x >>> 6)) * 26657 + y;
+        y = y + (x & 38527) - 369;
+        x = (x ^ (x >>> 7)) * 25043 + y;
+        y = y + (x & 46446) - 370;
+        x = (x ^ (x >>> 8)) * 23427 + y;
+        y = y + (x & 54365) - 371;
+        x = (x ^ (x >>> 9)) * 21813 + y;
+        y = y + (x & 62284) - 372;
+        x = (x ^ (x >>> 10)) * 20197 + y;
+        y = y + (x & 4667) - 373;
+        x = (x ^ (x >>> 11)) * 18583 + y;
+        y = y + (x & 12586) - 374;
+        x = (x ^ (x >>> 12)) * 16967 + y;
+        y = y + (x & 20505) - 375;
+        x = (x ^ (x >>> 13)) * 15353 + y;
+        y = y + (x & 28424) - 376;
+        x = (x ^ (x >>> 1)) * 13737 + y;
+        y = y + (x & 36343) - 377;
+        x = (x ^ (x >>> 2)) * 12123 + y;
+        y = y + (x & 44262) - 378;
+        x = (x ^ (x >>> 3)) * 10507 + y;
+        y = y + (x & 52181) - 379;
+        x = (x ^ (x >>> 4)) * 8893 + y;
+        y = y + (x & 60100) - 380;
+        x = (x ^ (x >>> 5)) * 7277 + y;
+        y = y + (x & 2483) - 381;
+        x = (x ^ (x >>> 6)) * 5663 + y;
+        y = y + (x & 10402) - 382;
+        x = (x ^ (x >>> 7)) * 4047 + y;
+        y = y + (x & 18321) - 383;
+        x = (x ^ (x >>> 8)) * 2433 + y;
+        y = y + (x & 26240) - 384;
+        x = (x ^ (x >>> 9)) * 817 + y;
+        y = y + (x & 34159) - 385;
+        x = (x ^ (x >>> 10)) * 31971 + y;
+        y = y + (x & 42078) - 386;
+        x = (x ^ (x >>> 11)) * 30355 + y;
+        y = y + (x & 49997) - 387;
+        x = (x ^ (x >>> 12)) * 28741 + y;
+        y = y + (x & 57916) - 388;
+        x = (x ^ (x >>> 13)) * 27125 + y;
+        y = y + (x & 299) - 389;
+        x = (x ^ (x >>> 1)) * 25511 + y;
+        y = y + (x & 8218) - 390;
+        x = (x ^ (x >>> 2)) * 23895 + y;
+        y = y + (x & 16137) - 391;
+        x = (x ^ (x >>> 3)) * 22281 + y;
+        y = y + (x & 24056) - 392;
+        x = (x ^ (x >>> 4)) * 20665 + y;
+        y = y + (x & 31975) - 393;
+        x = (x ^ (x >>> 5)) * 19051 + y;
+        y = y + (x & 39894) - 394;
+        x = (x ^ (x >>> 6)) * 17435 + y;
+        y = y + (x & 47813) - 395;
+        x = (x ^ (x >>> 7)) * 15821 + y;
+        y = y + (x & 55732) - 396;
+        x = (x ^ (x >>> 8)) * 14205 + y;
+        y = y + (x & 63651) - 397;
+        x = (x ^ (x >>> 9)) * 12591 + y;
+        y = y + (x & 6034) - 398;
+        x = (x ^ (x >>> 10)) * 10975 + y;
+        y = y + (x & 13953) - 399;
+        x = (x ^ (x >>> 11)) * 9361 + y;
+        y = y + (x & 21872) - 400;
+        x = (x ^ (x >>> 12)) * 7745 + y;
+        y = y + (x & 29791) - 401;
+        x = (x ^ (x >>> 13)) * 6131 + y;
+        y = y + (x & 37710) - 402;
+        x = (x ^ (x >>> 1)) * 4515 + y;
+        y = y + (x & 45629) - 403;
+        x = (x ^ (x >>> 2)) * 2901 + y;
+        y = y + (x & 53548) - 404;
+        x = (x ^ (x >>> 3)) * 1285 + y;
+        y = y + (x & 61467) - 405;
+        x = (x ^ (x >>> 4)) * 32439 + y;
+        y = y + (x & 3850) - 406;
+        x = (x ^ (x >>> 5)) * 30823 + y;
+        y = y + (x & 11769) - 407;
+        x = (x ^ (x >>> 6)) * 29209 + y;
+        y = y + (x & 19688) - 408;
+        x = (x ^ (x >>> 7)) * 27593 + y;
+        y = y + (x & 27607) - 409;
+        x = (x ^ (x >>> 8)) * 25979 + y;
+        y = y + (x & 35526) - 410;
+        x = (x ^ (x >>> 9)) * 24363 + y;
+        y = y + (x & 43445) - 411;
+        x = (x ^ (x >>> 10)) * 22749 + y;
+        y = y + (x & 51364) - 412;
+        x = (x ^ (x >>> 11)) * 21133 + y;
+        y = y + (x & 59283) - 413;
+        x = (x ^ (x >>> 12)) * 19519 + y;
+        y = y + (x & 1666) - 414;
+        x = (x ^ (x >>> 13)) * 17903 + y;
+        y = y + (x & 9585) - 415;
+        x = (x ^ (x >>> 1)) * 16289 + y;
+        y = y + (x & 17504) - 416;
+        x = (x ^ (x >>> 2)) * 14673 + y;
+        y = y + (x & 25423) - 417;
+        x = (x ^ (x >>> 3)) * 13059 + y;
+        y = y + (x & 33342) - 418;
+        x = (x ^ (x >>> 4)) * 11443 + y;
+        y = y + (x & 41261) - 419;
+        x = (x ^ (x >>> 5)) * 9829 + y;
+        y = y + (x & 49180) - 420;
+        x = (x ^ (x >>> 6)) * 8213 + y;
+        y = y + (x & 57099) - 421;
+        x = (x ^ (x >>> 7)) * 6599 + y;
+        y = y + (x & 65018) - 422;
+        x = (x ^ (x >>> 8)) * 4983 + y;
+        y = y + (x & 7401) - 423;
+        x = (x ^ (x >>> 9)) * 3369 + y;
+        y = y + (x & 15320) - 424;
+        x = (x ^ (x >>> 10)) * 1753 + y;
+        y = y + (x & 23239) - 425;
+        x = (x ^ (x >>> 11)) * 139 + y;
+        y = y + (x & 31158) - 426;
+        x = (x ^ (x >>> 12)) * 31291 + y;
+        y = y + (x & 39077) - 427;
+        x = (x ^ (x >>> 13)) * 29677 + y;
+        y = y + (x & 46996) - 428;
+        x = (x ^ (x >>> 1)) * 28061 + y;
+        y = y + (x & 54915) - 429;
+        x = (x ^ (x >>> 2)) * 26447 + y;
+        y = y + (x & 62834) - 430;
+        x = (x ^ (x >>> 3)) * 24831 + y;
+        y = y + (x & 5217) - 431;
+        x = (x ^ (x >>> 4)) * 23217 + y;
+        y = y + (x & 13136) - 432;
+        x = (x ^ (x >>> 5)) * 21601 + y;
+        y = y + (x & 21055) - 433;
+        x = (x ^ (x >>> 6)) * 19987 + y;
+        y = y + (x & 28974) - 434;
+        x = (x ^ (x >>> 7)) * 18371 + y;
+        y = y + (x & 36893) - 435;
+        x = (x ^ (x >>> 8)) * 16757 + y;
+        y = y + (x & 44812) - 436;
+        x = (x ^ (x >>> 9)) * 15141 + y;
+        y = y + (x & 52731) - 437;
+        x = (x ^ (x >>> 10)) * 13527 + y;
+        y = y + (x & 60650) - 438;
+        x = (x ^ (x >>> 11)) * 11911 + y;
+        y = y + (x & 3033) - 439;
+        x = (x ^ (x >>> 12)) * 10297 + y;
+        y = y + (x & 10952) - 440;
+        x = (x ^ (x >>> 13)) * 8681 + y;
+        y = y + (x & 18871) - 441;
+        x = (x ^ (x >>> 1)) * 7067 + y;
+        y = y + (x & 26790) - 442;
+        x = (x ^ (x >>> 2)) * 5451 + y;
+        y = y + (x & 34709) - 443;
+        x = (x ^ (x >>> 3)) * 3837 + y;
+        y = y + (x & 42628) - 444;
+        x = (x ^ (x >>> 4)) * 2221 + y;
+        y = y + (x & 50547) - 445;
+        x = (x ^ (x >>> 5)) * 607 + y;
+        y = y + (x & 58466) - 446;
+        x = (x ^ (x >>> 6)) * 31759 + y;
+        y = y + (x & 849) - 447;
+        x = (x ^ (x >>> 7)) * 30145 + y;
+        y = y + (x & 8768) - 448;
+        x = (x ^ (x >>> 8)) * 28529 + y;
+        y = y + (x & 16687) - 449;
+        x = (x ^ (x >>> 9)) * 26915 + y;
+        y = y + (x & 24606) - 450;
+        x = (x ^ (x >>> 10)) * 25299 + y;
+        y = y + (x & 32525) - 451;
+        x = (x ^ (x >>> 11)) * 23685 + y;
+        y = y + (x & 40444) - 452;
+        x = (x ^ (x >>> 12)) * 22069 + y;
+        y = y + (x & 48363) - 453;
+        x = (x ^ (x >>> 13)) * 20455 + y;
+        y = y + (x & 56282) - 454;
+        x = (x ^ (x >>> 1)) * 18839 + y;
+        y = y + (x & 64201) - 455;
+        x = (x ^ (x >>> 2)) * 17225 + y;
+        y = y + (x & 6584) - 456;
+        x = (x ^ (x >>> 3)) * 15609 + y;
+        y = y + (x & 14503) - 457;
+        x = (x ^ (x >>> 4)) * 13995 + y;
+        y = y + (x & 22422) - 458;
+        x = (x ^ (x >>> 5)) * 12379 + y;
+        y = y + (x & 30341) - 459;
+        x = (x ^ (x >>> 6)) * 10765 + y;
+        y = y + (x & 38260) - 460;
+        x = (x ^ (x >>> 7)) * 9149 + y;
+        y = y + (x & 46179) - 461;
+        x = (x ^ (x >>> 8)) * 7535 + y;
+        y = y + (x & 54098) - 462;
+        x = (x ^ (x >>> 9)) * 5919 + y;
+        y = y + (x & 62017) - 463;
+        x = (x ^ (x >>> 10)) * 4305 + y;
+        y = y + (x & 4400) - 464;
+        x = (x ^ (x >>> 11)) * 2689 + y;
+        y = y + (x & 12319) - 465;
+        x = (x ^ (x >>> 12)) * 1075 + y;
+        y = y + (x & 20238) - 466;
+        x = (x ^ (x >>> 13)) * 32227 + y;
+        y = y + (x & 28157) - 467;
+        x = (x ^ (x >>> 1)) * 30613 + y;
+        y = y + (x & 36076) - 468;
+        x = (x ^ (x >>> 2)) * 28997 + y;
+        y = y + (x & 43995) - 469;
+        x = (x ^ (x >>> 3)) * 27383 + y;
+        y = y + (x & 51914) - 470;
+        x = (x ^ (x >>> 4)) * 25767 + y;
+        y = y + (x & 59833) - 471;
+        x = (x ^ (x >>> 5)) * 24153 + y;
+        y = y + (x & 2216) - 472;
+        x = (x ^ (x >>> 6)) * 22537 + y;
+        y = y + (x & 10135) - 473;
+        x = (x ^ (x >>> 7)) * 20923 + y;
+        y = y + (x & 18054) - 474;
+        x = (x ^ (x >>> 8)) * 19307 + y;
+        y = y + (x & 25973) - 475;
+        x = (x ^ (x >>> 9)) * 17693 + y;
+        y = y + (x & 33892) - 476;
+        x = (x ^ (x >>> 10)) * 16077 + y;
+        y = y + (x & 41811) - 477;
+        x = (x ^ (x >>> 11)) * 14463 + y;
+        y = y + (x & 49730) - 478;
+        x = (x ^ (x >>> 12)) * 12847 + y;
+        y = y + (x & 57649) - 479;
+        x = (x ^ (x >>> 13)) * 11233 + y;
+        y = y + (x & 32) - 480;
+        x = (x ^ (x >>> 1)) * 9617 + y;
+        y = y + (x & 7951) - 481;
+        x = (x ^ (x >>> 2)) * 8003 + y;
+        y = y + (x & 15870) - 482;
+        x = (x ^ (x >>> 3)) * 6387 + y;
+        y = y + (x & 23789) - 483;
+        x = (x ^ (x >>> 4)) * 4773 + y;
+        y = y + (x & 31708) - 484;
+        x = (x ^ (x >>> 5)) * 3157 + y;
+        y = y + (x & 39627) - 485;
+        x = (x ^ (x >>> 6)) * 1543 + y;
+        y = y + (x & 47546) - 486;
+        x = (x ^ (x >>> 7)) * 32695 + y;
+        y = y + (x & 55465) - 487;
+        x = (x ^ (x >>> 8)) * 31081 + y;
+        y = y + (x & 63384) - 488;
+        x = (x ^ (x >>> 9)) * 29465 + y;
+        y = y + (x & 5767) - 489;
+        x = (x ^ (x >>> 10)) * 27851 + y;
+        y = y + (x & 13686) - 490;
+        x = (x ^ (x >>> 11)) * 26235 + y;
+        y = y + (x & 21605) - 491;
+        x = (x ^ (x >>> 12)) * 24621 + y;
+        y = y + (x & 29524) - 492;
+        x = (x ^ (x >>> 13)) * 23005 + y;
+        y = y + (x & 37443) - 493;
+        x = (x ^ (x >>> 1)) * 21391 + y;
+        y = y + (x & 45362) - 494;
+        x = (x ^ (x >>> 2)) * 19775 + y;
+        y = y + (x & 53281) - 495;
+        x = (x ^ (x >>> 3)) * 18161 + y;
+        y = y + (x & 61200) - 496;
+        x = (x ^ (x >>> 4)) * 16545 + y;
+        y = y + (x & 3583) - 497;
+        x = (x ^ (x >>> 5)) * 14931 + y;
+        y = y + (x & 11502) - 498;
+        x = (x ^ (x >>> 6)) * 13315 + y;
+        y = y + (x & 19421) - 499;
+        x = (x ^ (x >>> 7)) * 11701 + y;
+        y = y + (x & 27340) - 500;
+        x = (x ^ (x >>> 8)) * 10085 + y;
+        y = y + (x & 35259) - 501;
+        x = (x ^ (x >>> 9)) * 8471 + y;
+        y = y + (x & 43178) - 502;
+        x = (x ^ (x >>> 10)) * 6855 + y;
+        y = y + (x & 51097) - 503;
+        x = (x ^ (x >>> 11)) * 5241 + y;
+        y = y + (x & 59016) - 504;
+        x = (x ^ (x >>> 12)) * 3625 + y;
+        y = y + (x & 1399) - 505;
+        x = (x ^ (x >>> 13)) * 2011 + y;
+        y = y + (x & 9318) - 506;
+        x = (x ^ (x >>> 1)) * 395 + y;
+        y = y + (x & 17237) - 507;
+        x = (x ^ (x >>> 2)) * 31549 + y;
+        y = y + (x & 25156) - 508;
+        x = (x ^ (x >>> 3)) * 29933 + y;
+        y = y + (x & 33075) - 509;
+        x = (x ^ (x >>> 4)) * 28319 + y;
+        y = y + (x & 40994) - 510;
+        x = (x ^ (x >>> 5)) * 26703 + y;
+        y = y + (x & 48913) - 511;
+        x = (x ^ (x >>> 6)) * 25089 + y;
+        y = y + (x & 56832) - 512;
+        x = (x ^ (x >>> 7)) * 23473 + y;
+        y = y + (x & 64751) - 513;
+        x = (x ^ (x >>> 8)) * 21859 + y;
+        y = y + (x & 7134) - 514;
+        x = (x ^ (x >>> 9)) * 20243 + y;
+        y = y + (x & 15053) - 515;
+        x = (x ^ (x >>> 10)) * 18629 + y;
+        y = y + (x & 22972) - 516;
+        x = (x ^ (x >>> 11)) * 17013 + y;
+        y = y + (x & 30891) - 517;
+        x = (x ^ (x >>> 12)) * 15399 + y;
+        y = y + (x & 38810) - 518;
+        x = (x ^ (x >>> 13)) * 13783 + y;
+        y = y + (x & 46729) - 519;
+        x = (x ^ (x >>> 1)) * 12169 + y;
+        y = y + (x & 54648) - 520;
+        x = (x ^ (x >>> 2)) * 10553 + y;
+        y = y + (x & 62567) - 521;
+        x = (x ^ (x >>> 3)) * 8939 + y;
+        y = y + (x & 4950) - 522;
+        x = (x ^ (x >>> 4)) * 7323 + y;
+        y = y + (x & 12869) - 523;
+        x = (x ^ (x >>> 5)) * 5709 + y;
+        y = y + (x & 20788) - 524;
+        x = (x ^ (x >>> 6)) * 4093 + y;
+        y = y + (x & 28707) - 525;
+        x = (x ^ (x >>> 7)) * 2479 + y;
+        y = y + (x & 36626) - 526;
+        x = (x ^ (x >>> 8)) * 863 + y;
+        y = y + (x & 44545) - 527;
+        x = (x ^ (x >>> 9)) * 32017 + y;
+        y = y + (x & 52464) - 528;
+        x = (x ^ (x >>> 10)) * 30401 + y;
+        y = y + (x & 60383) - 529;
+        x = (x ^ (x >>> 11)) * 28787 + y;
+        y = y + (x & 2766) - 530;
+        x = (x ^ (x >>> 12)) * 27171 + y;
+        y = y + (x & 10685) - 531;
+        x = (x ^ (x >>> 13)) * 25557 + y;
+        y = y + (x & 18604) - 532;
+        x = (x ^ (x >>> 1)) * 23941 + y;
+        y = y + (x & 26523) - 533;
+        x = (x ^ (x >>> 2)) * 22327 + y;
+        y = y + (x & 34442) - 534;
+        x = (x ^ (x >>> 3)) * 20711 + y;
+        y = y + (x & 42361) - 535;
+        x = (x ^ (x >>> 4)) * 19097 + y;
+        y = y + (x & 50280) - 536;
+        x = (x ^ (x >>> 5)) * 17481 + y;
+        y = y + (x & 58199) - 537;
+        x = (x ^ (x >>> 6)) * 15867 + y;
+        y = y + (x & 582) - 538;
+        x = (x ^ (x >>> 7)) * 14251 + y;
+        y = y + (x & 8501) - 539;
+        x = (x ^ (x >>> 8)) * 12637 + y;
+        y = y + (x & 16420) - 540;
+        x = (x ^ (x >>> 9)) * 11021 + y;
+        y = y + (x & 24339) - 541;
+        x = (x ^ (x >>> 10)) * 9407 + y;
+        y = y + (x & 32258) - 542;
+        x = (x ^ (x >>> 11)) * 7791 + y;
+        y = y + (x & 40177) - 543;
+        x = (x ^ (x >>> 12)) * 6177 + y;
+        y = y + (x & 48096) - 544;
+        x = (x ^ (x >>> 13)) * 4561 + y;
+        y = y + (x & 56015) - 545;
+        x = (x ^ (x >>> 1)) * 2947 + y;
+        y = y + (x & 63934) - 546;
+        x = (x ^ (x >>> 2)) * 1331 + y;
+        y = y + (x & 6317) - 547;
+        x = (x ^ (x >>> 3)) * 32485 + y;
+        y = y + (x & 14236) - 548;
+        x = (x ^ (x >>> 4)) * 30869 + y;
+        y = y + (x & 22155) - 549;
+        x = (x ^ (x >>> 5)) * 29255 + y;
+        y = y + (x & 30074) - 550;
+        x = (x ^ (x >>> 6)) * 27639 + y;
+        y = y + (x & 37993) - 551;
+        x = (x ^ (x >>> 7)) * 26025 + y;
+        y = y + (x & 45912) - 552;
+        x = (x ^ (x >>> 8)) * 24409 + y;
+        y = y + (x & 53831) - 553;
+        x = (x ^ (x >>> 9)) * 22795 + y;
+        y = y + (x & 61750) - 554;
+        x = (x ^ (x >>> 10)) * 21179 + y;
+        y = y + (x & 4133) - 555;
+        x = (x ^ (x >>> 11)) * 19565 + y;
+        y = y + (x & 12052) - 556;
+        x = (x ^ (x >>> 12)) * 17949 + y;
+        y = y + (x & 19971) - 557;
+        x = (x ^ (x >>> 13)) * 16335 + y;
+        y = y + (x & 27890) - 558;
+        x = (x ^ (x >>> 1)) * 14719 + y;
+        y = y + (x & 35809) - 559;
+        x = (x ^ (x >>> 2)) * 13105 + y;
+        y = y + (x & 43728) - 560;
+        x = (x ^ (x >>> 3)) * 11489 + y;
+        y = y + (x & 51647) - 561;
+        x = (x ^ (x >>> 4)) * 9875 + y;
+        y = y + (x & 59566) - 562;
+        x = (x ^ (x >>> 5)) * 8259 + y;
+        y = y + (x & 1949) - 563;
+        x = (x ^ (x >>> 6)) * 6645 + y;
+        y = y + (x & 9868) - 564;
+        x = (x ^ (x >>> 7)) * 5029 + y;
+        y = y + (x & 17787) - 565;
+        x = (x ^ (x >>> 8)) * 3415 + y;
+        y = y + (x & 25706) - 566;
+        x = (x ^ (x >>> 9)) * 1799 + y;
+        y = y + (x & 33625) - 567;
+        x = (x ^ (x >>> 10)) * 185 + y;
+        y = y + (x & 41544) - 568;
+        x = (x ^ (x >>> 11)) * 31337 + y;
+        y = y + (x & 49463) - 569;
+        x = (x ^ (x >>> 12)) * 29723 + y;
+        y = y + (x & 57382) - 570;
+        x = (x ^ (x >>> 13)) * 28107 + y;
+        y = y + (x & 65301) - 571;
+        x = (x ^ (x >>> 1)) * 26493 + y;
+        y = y + (x & 7684) - 572;
+        x = (x ^ (x >>> 2)) * 24877 + y;
+        y = y + (x & 15603) - 573;
+        x = (x ^ (x >>> 3)) * 23263 + y;
+        y = y + (x & 23522) - 574;
+        x = (x ^ (x >>> 4)) * 21647 + y;
+        y = y + (x & 31441) - 575;
+        x = (x ^ (x >>> 5)) * 20033 + y;
+        y = y + (x & 39360) - 576;
+        x = (x ^ (x >>> 6)) * 18417 + y;
+        y = y + (x & 47279) - 577;
+        x = (x ^ (x >>> 7)) * 16803 + y;
+        y = y + (x & 55198) - 578;
+        x = (x ^ (x >>> 8)) * 15187 + y;
+        y = y + (x & 63117) - 579;
+        x = (x ^ (x >>> 9)) * 13573 + y;
+        y = y + (x & 5500) - 580;
+        x = (x ^ (x >>> 10)) * 11957 + y;
+        y = y + (x & 13419) - 581;
+        x = (x ^ (x >>> 11)) * 10343 + y;
+        y = y + (x & 21338) - 582;
+        x = (x ^ (x >>> 12)) * 8727 + y;
+        y = y + (x & 29257) - 583;
+        x = (x ^ (x >>> 13)) * 7113 + y;
+        y = y + (x & 37176) - 584;
+        x = (x ^ (x >>> 1)) * 5497 + y;
+        y = y + (x & 45095) - 585;
+        x = (x ^ (x >>> 2)) * 3883 + y;
+        y = y + (x & 53014) - 586;
+        x = (x ^ (x >>> 3)) * 2267 + y;
+        y = y + (x & 60933) - 587;
+        x = (x ^ (x >>> 4)) * 653 + y;
+        y = y + (x & 3316) - 588;
+        x = (x ^ (x >>> 5)) * 31805 + y;
+        y = y + (x & 11235) - 589;
+        x = (x ^ (x >>> 6)) * 30191 + y;
+        y = y + (x & 19154) - 590;
+        x = (x ^ (x >>> 7)) * 28575 + y;
+        y = y + (x & 27073) - 591;
+        x = (x ^ (x >>> 8)) * 26961 + y;
+        y = y + (x & 34992) - 592;
+        x = (x ^ (x >>> 9)) * 25345 + y;
+        y = y + (x & 42911) - 593;
+        x = (x ^ (x >>> 10)) * 23731 + y;
+        y = y + (x & 50830) - 594;
+        x = (x ^ (x >>> 11)) * 22115 + y;
+        y = y + (x & 58749) - 595;
+        x = (x ^ (x >>> 12)) * 20501 + y;
+        y = y + (x & 1132) - 596;
+        x = (x ^ (x >>> 13)) * 18885 + y;
+        y = y + (x & 9051) - 597;
+        x = (x ^ (x >>> 1)) * 17271 + y;
+        y = y + (x & 16970) - 598;
+        x = (x ^ (x >>> 2)) * 15655 + y;
+        y = y + (x & 24889) - 599;
+        x = (x ^ (x >>> 3)) * 14041 + y;
+        y = y + (x & 32808) - 600;
+        x = (x ^ (x >>> 4)) * 12425 + y;
+        y = y + (x & 40727) - 601;
+        x = (x ^ (x >>> 5)) * 10811 + y;
+        y = y + (x & 48646) - 602;
+        x = (x ^ (x >>> 6)) * 9195 + y;
+        y = y + (x & 56565) - 603;
+        x = (x ^ (x >>> 7)) * 7581 + y;
+        y = y + (x & 64484) - 604;
+        x = (x ^ (x >>> 8)) * 5965 + y;
+        y = y + (x & 6867) - 605;
+        x = (x ^ (x >>> 9)) * 4351 + y;
+        y = y + (x & 14786) - 606;
+        x = (x ^ (x >>> 10)) * 2735 + y;
+        y = y + (x & 22705) - 607;
+        x = (x ^ (x >>> 11)) * 1121 + y;
+        y = y + (x & 30624) - 608;
+        x = (x ^ (x >>> 12)) * 32273 + y;
+        y = y + (x & 38543) - 609;
+        x = (x ^ (x >>> 13)) * 30659 + y;
+        y = y + (x & 46462) - 610;
+        x = (x ^ (x >>> 1)) * 29043 + y;
+        y = y + (x & 54381) - 611;
+        x = (x ^ (x >>> 2)) * 27429 + y;
+        y = y + (x & 62300) - 612;
+        x = (x ^ (x >>> 3)) * 25813 + y;
+        y = y + (x & 4683) - 613;
+        x = (x ^ (x >>> 4)) * 24199 + y;
+        y = y + (x & 12602) - 614;
+        x = (x ^ (x >>> 5)) * 22583 + y;
+        y = y + (x & 20521) - 615;
+        x = (x ^ (x >>> 6)) * 20969 + y;
+        y = y + (x & 28440) - 616;
+        x = (x ^ (x >>> 7)) * 19353 + y;
+        y = y + (x & 36359) - 617;
+        x = (x ^ (x >>> 8)) * 17739 + y;
+        y = y + (x & 44278) - 618;
+        x = (x ^ (x >>> 9)) * 16123 + y;
+        y = y + (x & 52197) - 619;
+        x = (x ^ (x >>> 10)) * 14509 + y;
+        y = y + (x & 60116) - 620;
+        x = (x ^ (x >>> 11)) * 12893 + y;
+        y = y + (x & 2499) - 621;
+        x = (x ^ (x >>> 12)) * 11279 + y;
+        y = y + (x & 10418) - 622;
+        x = (x ^ (x >>> 13)) * 9663 + y;
+        y = y + (x & 18337) - 623;
+        x = (x ^ (x >>> 1)) * 8049 + y;
+        y = y + (x & 26256) - 624;
+        x = (x ^ (x >>> 2)) * 6433 + y;
+        y = y + (x & 34175) - 625;
+        x = (x ^ (x >>> 3)) * 4819 + y;
+        y = y + (x & 42094) - 626;
+        x = (x ^ (x >>> 4)) * 3203 + y;
+        y = y + (x & 50013) - 627;
+        x = (x ^ (x >>> 5)) * 1589 + y;
+        y = y + (x & 57932) - 628;
+        x = (x ^ (x >>> 6)) * 32741 + y;
+        y = y + (x & 315) - 629;
+        x = (x ^ (x >>> 7)) * 31127 + y;
+        y = y + (x & 8234) - 630;
+        x = (x ^ (x >>> 8)) * 29511 + y;
+        y = y + (x & 16153) - 631;
+        x = (x ^ (x >>> 9)) * 27897 + y;
+        y = y + (x & 24072) - 632;
+        x = (x ^ (x >>> 10)) * 26281 + y;
+        y = y + (x & 31991) - 633;
+        x = (x ^ (x >>> 11)) * 24667 + y;
+        y = y + (x & 39910) - 634;
+        x = (x ^ (x >>> 12)) * 23051 + y;
+        y = y + (x & 47829) - 635;
+        x = (x ^ (x >>> 13)) * 21437 + y;
+        y = y + (x & 55748) - 636;
+        x = (x ^ (x >>> 1)) * 19821 + y;
+        y = y + (x & 63667) - 637;
+        x = (x ^ (x >>> 2)) * 18207 + y;
+        y = y + (x & 6050) - 638;
+        x = (x ^ (x >>> 3)) * 16591 + y;
+        y = y + (x & 13969) - 639;
+        x = (x ^ (x >>> 4)) * 14977 + y;
+        y = y + (x & 21888) - 640;
+        x = (x ^ (x >>> 5)) * 13361 + y;
+        y = y + (x & 29807) - 641;
+        x = (x ^ (x >>> 6)) * 11747 + y;
+        y = y + (x & 37726) - 642;
+        x = (x ^ (x >>> 7)) * 10131 + y;
+        y = y + (x & 45645) - 643;
+        x = (x ^ (x >>> 8)) * 8517 + y;
+        y = y + (x & 53564) - 644;
+        x = (x ^ (x >>> 9)) * 6901 + y;
+        y = y + (x & 61483) - 645;
+        x = (x ^ (x >>> 10)) * 5287 + y;
+        y = y + (x & 3866) - 646;
+        x = (x ^ (x >>> 11)) * 3671 + y;
+        y = y + (x & 11785) - 647;
+        x = (x ^ (x >>> 12)) * 2057 + y;
+        y = y + (x & 19704) - 648;
+        x = (x ^ (x >>> 13)) * 441 + y;
+        y = y + (x & 27623) - 649;
+        x = (x ^ (x >>> 1)) * 31595 + y;
+        y = y + (x & 35542) - 650;
+        x = (x ^ (x >>> 2)) * 29979 + y;
+        y = y + (x & 43461) - 651;
+        x = (x ^ (x >>> 3)) * 28365 + y;
+        y = y + (x & 51380) - 652;
+        x = (x ^ (x >>> 4)) * 26749 + y;
+        y = y + (x & 59299) - 653;
+        x = (x ^ (x >>> 5)) * 25135 + y;
+        y = y + (x & 1682) - 654;
+        x = (x ^ (x >>> 6)) * 23519 + y;
+        y = y + (x & 9601) - 655;
+        x = (x ^ (x >>> 7)) * 21905 + y;
+        y = y + (x & 17520) - 656;
+        x = (x ^ (x >>> 8)) * 20289 + y;
+        y = y + (x & 25439) - 657;
+        x = (x ^ (x >>> 9)) * 18675 + y;
+        y = y + (x & 33358) - 658;
+        x = (x ^ (x >>> 10)) * 17059 + y;
+        y = y + (x & 41277) - 659;
+        x = (x ^ (x >>> 11)) * 15445 + y;
+        y = y + (x & 49196) - 660;
+        x = (x ^ (x >>> 12)) * 13829 + y;
+        y = y + (x & 57115) - 661;
+        x = (x ^ (x >>> 13)) * 12215 + y;
+        y = y + (x & 65034) - 662;
+        x = (x ^ (x >>> 1)) * 10599 + y;
+        y = y + (x & 7417) - 663;
+        x = (x ^ (x >>> 2)) * 8985 + y;
+        y = y + (x & 15336) - 664;
+        x = (x ^ (x >>> 3)) * 7369 + y;
+        y = y + (x & 23255) - 665;
+        x = (x ^ (x >>> 4)) * 5755 + y;
+        y = y + (x & 31174) - 666;
+        x = (x ^ (x >>> 5)) * 4139 + y;
+        y = y + (x & 39093) - 667;
+        x = (x ^ (x >>> 6)) * 2525 + y;
+        y = y + (x & 47012) - 668;
+        x = (x ^ (x >>> 7)) * 909 + y;
+        y = y + (x & 54931) - 669;
+        x = (x ^ (x >>> 8)) * 32063 + y;
+        y = y + (x & 62850) - 670;
+        x = (x ^ (x >>> 9)) * 30447 + y;
+        y = y + (x & 5233) - 671;
+        x = (x ^ (x >>> 10)) * 28833 + y;
+        y = y + (x & 13152) - 672;
+        x = (x ^ (x >>> 11)) * 27217 + y;
+        y = y + (x & 21071) - 673;
+        x = (x ^ (x >>> 12)) * 25603 + y;
+        y = y + (x & 28990) - 674;
+        x = (x ^ (x >>> 13)) * 23987 + y;
+        y = y + (x & 36909) - 675;
+        x = (x ^ (x >>> 1)) * 22373 + y;
+        y = y + (x & 44828) - 676;
+        x = (x ^ (x >>> 2)) * 20757 + y;
+        y = y + (x & 52747) - 677;
+        x = (x ^ (x >>> 3)) * 19143 + y;
+        y = y + (x & 60666) - 678;
+        x = (x ^ (x >>> 4)) * 17527 + y;
+        y = y + (x & 3049) - 679;
+        x = (x ^ (x >>> 5)) * 15913 + y;
+        y = y + (x & 10968) - 680;
+        x = (x ^ (x >>> 6)) * 14297 + y;
+        y = y + (x & 18887) - 681;
+        x = (x ^ (x >>> 7)) * 12683 + y;
+        y = y + (x & 26806) - 682;
+        x = (x ^ (x >>> 8)) * 11067 + y;
+        y = y + (x & 34725) - 683;
+        x = (x ^ (x >>> 9)) * 9453 + y;
+        y = y + (x & 42644) - 684;
+        x = (x ^ (x >>> 10)) * 7837 + y;
+        y = y + (x & 50563) - 685;
+        x = (x ^ (x >>> 11)) * 6223 + y;
+        y = y + (x & 58482) - 686;
+        x = (x ^ (x >>> 12)) * 4607 + y;
+        y = y + (x & 865) - 687;
+        x = (x ^ (x >>> 13)) * 2993 + y;
+        y = y + (x & 8784) - 688;
+        x = (x ^ (x >>> 1)) * 1377 + y;
+        y = y + (x & 16703) - 689;
+        x = (x ^ (x >>> 2)) * 32531 + y;
+        y = y + (x & 24622) - 690;
+        x = (x ^ (x >>> 3)) * 30915 + y;
+        y = y + (x & 32541) - 691;
+        x = (x ^ (x >>> 4)) * 29301 + y;
+        y = y + (x & 40460) - 692;
+        x = (x ^ (x >>> 5)) * 27685 + y;
+        y = y + (x & 48379) - 693;
+        x = (x ^ (x >>> 6)) * 26071 + y;
+        y = y + (x & 56298) - 694;
+        x = (x ^ (x >>> 7)) * 24455 + y;
+        y = y + (x & 64217) - 695;
+        x = (x ^ (x >>> 8)) * 22841 + y;
+        y = y + (x & 6600) - 696;
+        x = (x ^ (x >>> 9)) * 21225 + y;
+        y = y + (x & 14519) - 697;
+        x = (x ^ (x >>> 10)) * 19611 + y;
+        y = y + (x & 22438) - 698;
+        x = (x ^ (x >>> 11)) * 17995 + y;
+        y = y + (x & 30357) - 699;
+        x = (x ^ (x >>> 12)) * 16381 + y;
+        y = y + (x & 38276) - 700;
+        x = (x ^ (x >>> 13)) * 14765 + y;
+        y = y + (x & 46195) - 701;
+        x = (x ^ (x >>> 1)) * 13151 + y;
+        y = y + (x & 54114) - 702;
+        x = (x ^ (x >>> 2)) * 11535 + y;
+        y = y + (x & 62033) - 703;
+        x = (x ^ (x >>> 3)) * 9921 + y;
+        y = y + (x & 4416) - 704;
+        x = (x ^ (x >>> 4)) * 8305 + y;
+        y = y + (x & 12335) - 705;
+        x = (x ^ (x >>> 5)) * 6691 + y;
+        y = y + (x & 20254) - 706;
+        x = (x ^ (x >>> 6)) * 5075 + y;
+        y = y + (x & 28173) - 707;
+        x = (x ^ (x >>> 7)) * 3461 + y;
+        y = y + (x & 36092) - 708;
+        x = (x ^ (x >>> 8)) * 1845 + y;
+        y = y + (x & 44011) - 709;
+        x = (x ^ (x >>> 9)) * 231 + y;
+        y = y + (x & 51930) - 710;
+        x = (x ^ (x >>> 10)) * 31383 + y;
+        y = y + (x & 59849) - 711;
+        x = (x ^ (x >>> 11)) * 29769 + y;
+        y = y + (x & 2232) - 712;
+        x = (x ^ (x >>> 12)) * 28153 + y;
+        y = y + (x & 10151) - 713;
+        x = (x ^ (x >>> 13)) * 26539 + y;
+        y = y + (x & 18070) - 714;
+        x = (x ^ (x >>> 1)) * 24923 + y;
+        y = y + (x & 25989) - 715;
+        x = (x ^ (x >>> 2)) * 23309 + y;
+        y = y + (x & 33908) - 716;
+        x = (x ^ (x >>> 3)) * 21693 + y;
+        y = y + (x & 41827) - 717;
+        x = (x ^ (x >>> 4)) * 20079 + y;
+        y = y + (x & 49746) - 718;
+        x = (x ^ (x >>> 5)) * 18463 + y;
+        y = y + (x & 57665) - 719;
+        x = (x ^ (x >>> 6)) * 16849 + y;
+        y = y + (x & 48) - 720;
+        x = (x ^ (x >>> 7)) * 15233 + y;
+        y = y + (x & 7967) - 721;
+        x = (x ^ (x >>> 8)) * 13619 + y;
+        y = y + (x & 15886) - 722;
+        x = (x ^ (x >>> 9)) * 12003 + y;
+        y = y + (x & 23805) - 723;
+        x = (x ^ (x >>> 10)) * 10389 + y;
+        y = y + (x & 31724) - 724;
+        x = (x ^ (x >>> 11)) * 8773 + y;
+        y = y + (x & 39643) - 725;
+        x = (x ^ (x >>> 12)) * 7159 + y;
+        y = y + (x & 47562) - 726;
+        x = (x ^ (x >>> 13)) * 5543 + y;
+        y = y + (x & 55481) - 727;
+        x = (x ^ (x >>> 1)) * 3929 + y;
+        y = y + (x & 63400) - 728;
+        x = (x ^ (x >>> 2)) * 2313 + y;
+        y = y + (x & 5783) - 729;
+        x = (x ^ (x >>> 3)) * 699 + y;
+        y = y + (x & 13702) - 730;
+        x = (x ^ (x >>> 4)) * 31851 + y;
+        y = y + (x & 21621) - 731;
+        x = (x ^ (x >>> 5)) * 30237 + y;
+        y = y + (x & 29540) - 732;
+        x = (x ^ (x >>> 6)) * 28621 + y;
+        y = y + (x & 37459) - 733;
+        x = (x ^ (x >>> 7)) * 27007 + y;
+        y = y + (x & 45378) - 734;
+        x = (x ^ (x >>> 8)) * 25391 + y;
+        y = y + (x & 53297) - 735;
+        x = (x ^ (x >>> 9)) * 23777 + y;
+        y = y + (x & 61216) - 736;
+        x = (x ^ (x >>> 10)) * 22161 + y;
+        y = y + (x & 3599) - 737;
+        x = (x ^ (x >>> 11)) * 20547 + y;
+        y = y + (x & 11518) - 738;
+        x = (x ^ (x >>> 12)) * 18931 + y;
+        y = y + (x & 19437) - 739;
+        x = (x ^ (x >>> 13)) * 17317 + y;
+        y = y + (x & 27356) - 740;
+        x = (x ^ (x >>> 1)) * 15701 + y;
+        y = y + (x & 35275) - 741;
+        x = (x ^ (x >>> 2)) * 14087 + y;
+        y = y + (x & 43194) - 742;
+        x = (x ^ (x >>> 3)) * 12471 + y;
+        y = y + (x & 51113) - 743;
+        x = (x ^ (x >>> 4)) * 10857 + y;
+        y = y + (x & 59032) - 744;
+        x = (x ^ (x >>> 5)) * 9241 + y;
+        y = y + (x & 1415) - 745;
+        x = (x ^ (x >>> 6)) * 7627 + y;
+        y = y + (x & 9334) - 746;
+        x = (x ^ (x >>> 7)) * 6011 + y;
+        y = y + (x & 17253) - 747;
+        x = (x ^ (x >>> 8)) * 4397 + y;
+        y = y + (x & 25172) - 748;
+        x = (x ^ (x >>> 9)) * 2781 + y;
+        y = y + (x & 33091) - 749;
+        x = (x ^ (x >>> 10)) * 1167 + y;
+        y = y + (x & 41010) - 750;
+        x = (x ^ (x >>> 11)) * 32319 + y;
+        y = y + (x & 48929) - 751;
+        x = (x ^ (x >>> 12)) * 30705 + y;
+        y = y + (x & 56848) - 752;
+        x = (x ^ (x >>> 13)) * 29089 + y;
+        y = y + (x & 64767) - 753;
+        x = (x ^ (x >>> 1)) * 27475 + y;
+        y = y + (x & 7150) - 754;
+        x = (x ^ (x >>> 2)) * 25859 + y;
+        y = y + (x & 15069) - 755;
+        x = (x ^ (x >>> 3)) * 24245 + y;
+        y = y + (x & 22988) - 756;
+        x = (x ^ (x >>> 4)) * 22629 + y;
+        y = y + (x & 30907) - 757;
+        x = (x ^ (x >>> 5)) * 21015 + y;
+        y = y + (x & 38826) - 758;
+        x = (x ^ (x >>> 6)) * 19399 + y;
+        y = y + (x & 46745) - 759;
+        x = (x ^ (x >>> 7)) * 17785 + y;
+        y = y + (x & 54664) - 760;
+        x = (x ^ (x >>> 8)) * 16169 + y;
+        y = y + (x & 62583) - 761;
+        x = (x ^ (x >>> 9)) * 14555 + y;
+        y = y + (x & 4966) - 762;
+        x = (x ^ (x >>> 10)) * 12939 + y;
+        y = y + (x & 12885) - 763;
+        x = (x ^ (x >>> 11)) * 11325 + y;
+        y = y + (x & 20804) - 764;
+        x = (x ^ (x >>> 12)) * 9709 + y;
+        y = y + (x & 28723) - 765;
+        x = (x ^ (x >>> 13)) * 8095 + y;
+        y = y + (x & 36642) - 766;
+        x = (x ^ (x >>> 1)) * 6479 + y;
+        y = y + (x & 44561) - 767;
+        x = (x ^ (x >>> 2)) * 4865 + y;
+        y = y + (x & 52480) - 768;
+        x = (x ^ (x >>> 3)) * 3249 + y;
+        y = y + (x & 60399) - 769;
+        x = (x ^ (x >>> 4)) * 1635 + y;
+        y = y + (x & 2782) - 770;
+        x = (x ^ (x >>> 5)) * 19 + y;
+        y = y + (x & 10701) - 771;
+        x = (x ^ (x >>> 6)) * 31173 + y;
+        y = y + (x & 18620) - 772;
+        x = (x ^ (x >>> 7)) * 29557 + y;
+        y = y + (x & 26539) - 773;
+        x = (x ^ (x >>> 8)) * 27943 + y;
+        y = y + (x & 34458) - 774;
+        x = (x ^ (x >>> 9)) * 26327 + y;
+        y = y + (x & 42377) - 775;
+        x = (x ^ (x >>> 10)) * 24713 + y;
+        y = y + (x & 50296) - 776;
+        x = (x ^ (x >>> 11)) * 23097 + y;
+        y = y + (x & 58215) - 777;
+        x = (x ^ (x >>> 12)) * 21483 + y;
+        y = y + (x & 598) - 778;
+        x = (x ^ (x >>> 13)) * 19867 + y;
+        y = y + (x & 8517) - 779;
+        x = (x ^ (x >>> 1)) * 18253 + y;
+        y = y + (x & 16436) - 780;
+        x = (x ^ (x >>> 2)) * 16637 + y;
+        y = y + (x & 24355) - 781;
+        x = (x ^ (x >>> 3)) * 15023 + y;
+        y = y + (x & 32274) - 782;
+        x = (x ^ (x >>> 4)) * 13407 + y;
+        y = y + (x & 40193) - 783;
+        x = (x ^ (x >>> 5)) * 11793 + y;
+        y = y + (x & 48112) - 784;
+        x = (x ^ (x >>> 6)) * 10177 + y;
+        y = y + (x & 56031) - 785;
+        x = (x ^ (x >>> 7)) * 8563 + y;
+        y = y + (x & 63950) - 786;
+        x = (x ^ (x >>> 8)) * 6947 + y;
+        y = y + (x & 6333) - 787;
+        x = (x ^ (x >>> 9)) * 5333 + y;
+        y = y + (x & 14252) - 788;
+        x = (x ^ (x >>> 10)) * 3717 + y;
+        y = y + (x & 22171) - 789;
+        x = (x ^ (x >>> 11)) * 2103 + y;
+        y = y + (x & 30090) - 790;
+        x = (x ^ (x >>> 12)) * 487 + y;
+        y = y + (x & 38009) - 791;
+        x = (x ^ (x >>> 13)) * 31641 + y;
+        y = y + (x & 45928) - 792;
+        x = (x ^ (x >>> 1)) * 30025 + y;
+        y = y + (x & 53847) - 793;
+        x = (x ^ (x >>> 2)) * 28411 + y;
+        y = y + (x & 61766) - 794;
+        x = (x ^ (x >>> 3)) * 26795 + y;
+        y = y + (x & 4149) - 795;
+        x = (x ^ (x >>> 4)) * 25181 + y;
+        y = y + (x & 12068) - 796;
+        x = (x ^ (x >>> 5)) * 23565 + y;
+        y = y + (x & 19987) - 797;
+        x = (x ^ (x >>> 6)) * 21951 + y;
+        y = y + (x & 27906) - 798;
+        x = (x ^ (x >>> 7)) * 20335 + y;
+        y = y + (x & 35825) - 799;
+        x = (x ^ (x >>> 8)) * 18721 + y;
+        y = y + (x & 43744) - 800;
+        x = (x ^ (x >>> 9)) * 17105 + y;
+        y = y + (x & 51663) - 801;
+        x = (x ^ (x >>> 10)) * 15491 + y;
+        y = y + (x & 59582) - 802;
+        x = (x ^ (x >>> 11)) * 13875 + y;
+        y = y + (x & 1965) - 803;
+        x = (x ^ (x >>> 12)) * 12261 + y;
+        y = y + (x & 9884) - 804;
+        x = (x ^ (x >>> 13)) * 10645 + y;
+        y = y + (x & 17803) - 805;
+        x = (x ^ (x >>> 1)) * 9031 + y;
+        y = y + (x & 25722) - 806;
+        x = (x ^ (x >>> 2)) * 7415 + y;
+        y = y + (x & 33641) - 807;
+        x = (x ^ (x >>> 3)) * 5801 + y;
+        y = y + (x & 41560) - 808;
+        x = (x ^ (x >>> 4)) * 4185 + y;
+        y = y + (x & 49479) - 809;
+        x = (x ^ (x >>> 5)) * 2571 + y;
+        y = y + (x & 57398) - 810;
+        x = (x ^ (x >>> 6)) * 955 + y;
+        y = y + (x & 65317) - 811;
+        x = (x ^ (x >>> 7)) * 32109 + y;
+        y = y + (x & 7700) - 812;
+        x = (x ^ (x >>> 8)) * 30493 + y;
+        y = y + (x & 15619) - 813;
+        x = (x ^ (x >>> 9)) * 28879 + y;
+        y = y + (x & 23538) - 814;
+        x = (x ^ (x >>> 10)) * 27263 + y;
+        y = y + (x & 31457) - 815;
+        x = (x ^ (x >>> 11)) * 25649 + y;
+        y = y + (x & 39376) - 816;
+        x = (x ^ (x >>> 12)) * 24033 + y;
+        y = y + (x & 47295) - 817;
+        x = (x ^ (x >>> 13)) * 22419 + y;
+        y = y + (x & 55214) - 818;
+        x = (x ^ (x >>> 1)) * 20803 + y;
+        y = y + (x & 63133) - 819;
+        x = (x ^ (x >>> 2)) * 19189 + y;
+        y = y + (x & 5516) - 820;
+        x = (x ^ (x >>> 3)) * 17573 + y;
+        y = y + (x & 13435) - 821;
+        x = (x ^ (x >>> 4)) * 15959 + y;
+        y = y + (x & 21354) - 822;
+        x = (x ^ (x >>> 5)) * 14343 + y;
+        y = y + (x & 29273) - 823;
+        x = (x ^ (x >>> 6)) * 12729 + y;
+        y = y + (x & 37192) - 824;
+        x = (x ^ (x >>> 7)) * 11113 + y;
+        y = y + (x & 45111) - 825;
+        x = (x ^ (x >>> 8)) * 9499 + y;
+        y = y + (x & 53030) - 826;
+        x = (x ^ (x >>> 9)) * 7883 + y;
+        y = y + (x & 60949) - 827;
+        x = (x ^ (x >>> 10)) * 6269 + y;
+        y = y + (x & 3332) - 828;
+        x = (x ^ (x >>> 11)) * 4653 + y;
+        y = y + (x & 11251) - 829;
+        x = (x ^ (x >>> 12)) * 3039 + y;
+        y = y + (x & 19170) - 830;
+        x = (x ^ (x >>> 13)) * 1423 + y;
+        y = y + (x & 27089) - 831;
+        x = (x ^ (x >>> 1)) * 32577 + y;
+        y = y + (x & 35008) - 832;
+        x = (x ^ (x >>> 2)) * 30961 + y;
+        y = y + (x & 42927) - 833;
+        x = (x ^ (x >>> 3)) * 29347 + y;
+        y = y + (x & 50846) - 834;
+        x = (x ^ (x >>> 4)) * 27731 + y;
+        y = y + (x & 58765) - 835;
+        x = (x ^ (x >>> 5)) * 26117 + y;
+        y = y + (x & 1148) - 836;
+        x = (x ^ (x >>> 6)) * 24501 + y;
+        y = y + (x & 9067) - 837;
+        x = (x ^ (x >>> 7)) * 22887 + y;
+        y = y + (x & 16986) - 838;
+        x = (x ^ (x >>> 8)) * 21271 + y;
+        y = y + (x & 24905) - 839;
+        x = (x ^ (x >>> 9)) * 19657 + y;
+        y = y + (x & 32824) - 840;
+        x = (x ^ (x >>> 10)) * 18041 + y;
+        y = y + (x & 40743) - 841;
+        x = (x ^ (x >>> 11)) * 16427 + y;
+        y = y + (x & 48662) - 842;
+        x = (x ^ (x >>> 12)) * 14811 + y;
+        y = y + (x & 56581) - 843;
+        x = (x ^ (x >>> 13)) * 13197 + y;
+        y = y + (x & 64500) - 844;
+        x = (x ^ (x >>> 1)) * 11581 + y;
+        y = y + (x & 6883) - 845;
+        x = (x ^ (x >>> 2)) * 9967 + y;
+        y = y + (x & 14802) - 846;
+        x = (x ^ (x >>> 3)) * 8351 + y;
+        y = y + (x & 22721) - 847;
+        x = (x ^ (x >>> 4)) * 6737 + y;
+        y = y + (x & 30640) - 848;
+        x = (x ^ (x >>> 5)) * 5121 + y;
+        y = y + (x & 38559) - 849;
+        x = (x ^ (x >>> 6)) * 3507 + y;
+        y = y + (x & 46478) - 850;
+        x = (x ^ (x >>> 7)) * 1891 + y;
+        y = y + (x & 54397) - 851;
+        x = (x ^ (x >>> 8)) * 277 + y;
+        y = y + (x & 62316) - 852;
+        x = (x ^ (x >>> 9)) * 31429 + y;
+        y = y + (x & 4699) - 853;
+        x = (x ^ (x >>> 10)) * 29815 + y;
+        y = y + (x & 12618) - 854;
+        x = (x ^ (x >>> 11)) * 28199 + y;
+        y = y + (x & 20537) - 855;
+        x = (x ^ (x >>> 12)) * 26585 + y;
+        y = y + (x & 28456) - 856;
+        x = (x ^ (x >>> 13)) * 24969 + y;
+        y = y + (x & 36375) - 857;
+        x = (x ^ (x >>> 1)) * 23355 + y;
+        y = y + (x & 44294) - 858;
+        x = (x ^ (x >>> 2)) * 21739 + y;
+        y = y + (x & 52213) - 859;
+        x = (x ^ (x >>> 3)) * 20125 + y;
+        y = y + (x & 60132) - 860;
+        x = (x ^ (x >>> 4)) * 18509 + y;
+        y = y + (x & 2515) - 861;
+        x = (x ^ (x >>> 5)) * 16895 + y;
+        y = y + (x & 10434) - 862;
+        x = (x ^ (x >>> 6)) * 15279 + y;
+        y = y + (x & 18353) - 863;
+        x = (x ^ (x >>> 7)) * 13665 + y;
+        y = y + (x & 26272) - 864;
+        x = (x ^ (x >>> 8)) * 12049 + y;
+        y = y + (x & 34191) - 865;
+        x = (x ^ (x >>> 9)) * 10435 + y;
+        y = y + (x & 42110) - 866;
+        x = (x ^ (x >>> 10)) * 8819 + y;
+        y = y + (x & 50029) - 867;
+        x = (x ^ (x >>> 11)) * 7205 + y;
+        y = y + (x & 57948) - 868;
+        x = (x ^ (x >>> 12)) * 5589 + y;
+        y = y + (x & 331) - 869;
+        x = (x ^ (x >>> 13)) * 3975 + y;
+        y = y + (x & 8250) - 870;
+        x = (x ^ (x >>> 1)) * 2359 + y;
+        y = y + (x & 16169) - 871;
+        x = (x ^ (x >>> 2)) * 745 + y;
+        y = y + (x & 24088) - 872;
+        x = (x ^ (x >>> 3)) * 31897 + y;
+        y = y + (x & 32007) - 873;
+        x = (x ^ (x >>> 4)) * 30283 + y;
+        y = y + (x & 39926) - 874;
+        x = (x ^ (x >>> 5)) * 28667 + y;
+        y = y + (x & 47845) - 875;
+        x = (x ^ (x >>> 6)) * 27053 + y;
+        y = y + (x & 55764) - 876;
+        x = (x ^ (x >>> 7)) * 25437 + y;
+        y = y + (x & 63683) - 877;
+        x = (x ^ (x >>> 8)) * 23823 + y;
+        y = y + (x & 6066) - 878;
+        x = (x ^ (x >>> 9)) * 22207 + y;
+        y = y + (x & 13985) - 879;
+        x = (x ^ (x >>> 10)) * 20593 + y;
+        y = y + (x & 21904) - 880;
+        x = (x ^ (x >>> 11)) * 18977 + y;
+        y = y + (x & 29823) - 881;
+        x = (x ^ (x >>> 12)) * 17363 + y;
+        y = y + (x & 37742) - 882;
+        x = (x ^ (x >>> 13)) * 15747 + y;
+        y = y + (x & 45661) - 883;
+        x = (x ^ (x >>> 1)) * 14133 + y;
+        y = y + (x & 53580) - 884;
+        x = (x ^ (x >>> 2)) * 12517 + y;
+        y = y + (x & 61499) - 885;
+        x = (x ^ (x >>> 3)) * 10903 + y;
+        y = y + (x & 3882) - 886;
+        x = (x ^ (x >>> 4)) * 9287 + y;
+        y = y + (x & 11801) - 887;
+        x = (x ^ (x >>> 5)) * 7673 + y;
+        y = y + (x & 19720) - 888;
+        x = (x ^ (x >>> 6)) * 6057 + y;
+        y = y + (x & 27639) - 889;
+        x = (x ^ (x >>> 7)) * 4443 + y;
+        y = y + (x & 35558) - 890;
+        x = (x ^ (x >>> 8)) * 2827 + y;
+        y = y + (x & 43477) - 891;
+        x = (x ^ (x >>> 9)) * 1213 + y;
+        y = y + (x & 51396) - 892;
+        x = (x ^ (x >>> 10)) * 32365 + y;
+        y = y + (x & 59315) - 893;
+        x = (x ^ (x >>> 11)) * 30751 + y;
+        y = y + (x & 1698) - 894;
+        x = (x ^ (x >>> 12)) * 29135 + y;
+        y = y + (x & 9617) - 895;
+        x = (x ^ (x >>> 13)) * 27521 + y;
+        y = y + (x & 17536) - 896;
+        x = (x ^ (x >>> 1)) * 25905 + y;
+        y = y + (x & 25455) - 897;
+        x = (x ^ (x >>> 2)) * 24291 + y;
+        y = y + (x & 33374) - 898;
+        x = (x ^ (x >>> 3)) * 22675 + y;
+        y = y + (x & 41293) - 899;
+        x = (x ^ (x >>> 4)) * 21061 + y;
+        y = y + (x & 49212) - 900;
+        x = (x ^ (x >>> 5)) * 19445 + y;
+        y = y + (x & 57131) - 901;
+        x = (x ^ (x >>> 6)) * 17831 + y;
+        y = y + (x & 65050) - 902;
+        x = (x ^ (x >>> 7)) * 16215 + y;
+        y = y + (x & 7433) - 903;
+        x = (x ^ (x >>> 8)) * 14601 + y;
+        y = y + (x & 15352) - 904;
+        x = (x ^ (x >>> 9)) * 12985 + y;
+        y = y + (x & 23271) - 905;
+        x = (x ^ (x >>> 10)) * 11371 + y;
+        y = y + (x & 31190) - 906;
+        x = (x ^ (x >>> 11)) * 9755 + y;
+        y = y + (x & 39109) - 907;
+        x = (x ^ (x >>> 12)) * 8141 + y;
+        y = y + (x & 47028) - 908;
+        x = (x ^ (x >>> 13)) * 6525 + y;
+        y = y + (x & 54947) - 909;
+        x = (x ^ (x >>> 1)) * 4911 + y;
+        y = y + (x & 62866) - 910;
+        x = (x ^ (x >>> 2)) * 3295 + y;
+        y = y + (x & 5249) - 911;
+        x = (x ^ (x >>> 3)) * 1681 + y;
+        y = y + (x & 13168) - 912;
+        x = (x ^ (x >>> 4)) * 65 + y;
+        y = y + (x & 21087) - 913;
+        x = (x ^ (x >>> 5)) * 31219 + y;
+        y = y + (x & 29006) - 914;
+        x = (x ^ (x >>> 6)) * 29603 + y;
+        y = y + (x & 36925) - 915;
+        x = (x ^ (x >>> 7)) * 27989 + y;
+        y = y + (x & 44844) - 916;
+        x = (x ^ (x >>> 8)) * 26373 + y;
+        y = y + (x & 52763) - 917;
+        x = (x ^ (x >>> 9)) * 24759 + y;
+        y = y + (x & 60682) - 918;
+        x = (x ^ (x >>> 10)) * 23143 + y;
+        y = y + (x & 3065) - 919;
+        x = (x ^ (x >>> 11)) * 21529 + y;
+        y = y + (x & 10984) - 920;
+        x = (x ^ (x >>> 12)) * 19913 + y;
+        y = y + (x & 18903) - 921;
+        x = (x ^ (x >>> 13)) * 18299 + y;
+        y = y + (x & 26822) - 922;
+        x = (x ^ (x >>> 1)) * 16683 + y;
+        y = y + (x & 34741) - 923;
+        x = (x ^ (x >>> 2)) * 15069 + y;
+        y = y + (x & 42660) - 924;
+        x = (x ^ (x >>> 3)) * 13453 + y;
+        y = y + (x & 50579) - 925;
+        x = (x ^ (x >>> 4)) * 11839 + y;
+        y = y + (x & 58498) - 926;
+        x = (x ^ (x >>> 5)) * 10223 + y;
+        y = y + (x & 881) - 927;
+        x = (x ^ (x >>> 6)) * 8609 + y;
+        y = y + (x & 8800) - 928;
+        x = (x ^ (x >>> 7)) * 6993 + y;
+        y = y + (x & 16719) - 929;
+        x = (x ^ (x >>> 8)) * 5379 + y;
+        y = y + (x & 24638) - 930;
+        x = (x ^ (x >>> 9)) * 3763 + y;
+        y = y + (x & 32557) - 931;
+        x = (x ^ (x >>> 10)) * 2149 + y;
+        y = y + (x & 40476) - 932;
+        x = (x ^ (x >>> 11)) * 533 + y;
+        y = y + (x & 48395) - 933;
+        x = (x ^ (x >>> 12)) * 31687 + y;
+        y = y + (x & 56314) - 934;
+        x = (x ^ (x >>> 13)) * 30071 + y;
+        y = y + (x & 64233) - 935;
+        x = (x ^ (x >>> 1)) * 28457 + y;
+        y = y + (x & 6616) - 936;
+        x = (x ^ (x >>> 2)) * 26841 + y;
+        y = y + (x & 14535) - 937;
+        x = (x ^ (x >>> 3)) * 25227 + y;
+        y = y + (x & 22454) - 938;
+        x = (x ^ (x >>> 4)) * 23611 + y;
+        y = y + (x & 30373) - 939;
+        x = (x ^ (x >>> 5)) * 21997 + y;
+        y = y + (x & 38292) - 940;
+        x = (x ^ (x >>> 6)) * 20381 + y;
+        y = y + (x & 46211) - 941;
+        x = (x ^ (x >>> 7)) * 18767 + y;
+        y = y + (x & 54130) - 942;
+        x = (x ^ (x >>> 8)) * 17151 + y;
+        y = y + (x & 62049) - 943;
+        x = (x ^ (x >>> 9)) * 15537 + y;
+        y = y + (x & 4432) - 944;
+        x = (x ^ (x >>> 10)) * 13921 + y;
+        y = y + (x & 12351) - 945;
+        x = (x ^ (x >>> 11)) * 12307 + y;
+        y = y + (x & 20270) - 946;
+        x = (x ^ (x >>> 12)) * 10691 + y;
+        y = y + (x & 28189) - 947;
+        x = (x ^ (x >>> 13)) * 9077 + y;
+        y = y + (x & 36108) - 948;
+        x = (x ^ (x >>> 1)) * 7461 + y;
+        y = y + (x & 44027) - 949;
+        x = (x ^ (x >>> 2)) * 5847 + y;
+        y = y + (x & 51946) - 950;
+        x = (x ^ (x >>> 3)) * 4231 + y;
+        y = y + (x & 59865) - 951;
+        x = (x ^ (x >>> 4)) * 2617 + y;
+        y = y + (x & 2248) - 952;
+        x = (x ^ (x >>> 5)) * 1001 + y;
+        y = y + (x & 10167) - 953;
+        x = (x ^ (x >>> 6)) * 32155 + y;
+        y = y + (x & 18086) - 954;
+        x = (x ^ (x >>> 7)) * 30539 + y;
+        y = y + (x & 26005) - 955;
+        x = (x ^ (x >>> 8)) * 28925 + y;
+        y = y + (x & 33924) - 956;
+        x = (x ^ (x >>> 9)) * 27309 + y;
+        y = y + (x & 41843) - 957;
+        x = (x ^ (x >>> 10)) * 25695 + y;
+        y = y + (x & 49762) - 958;
+        x = (x ^ (x >>> 11)) * 24079 + y;
+        y = y + (x & 57681) - 959;
+        x = (x ^ (x >>> 12)) * 22465 + y;
+        y = y + (x & 64) - 960;
+        x = (x ^ (x >>> 13)) * 20849 + y;
+        y = y + (x & 7983) - 961;
+        x = (x ^ (x >>> 1)) * 19235 + y;
+        y = y + (x & 15902) - 962;
+        x = (x ^ (x >>> 2)) * 17619 + y;
+        y = y + (x & 23821) - 963;
+        x = (x ^ (x >>> 3)) * 16005 + y;
+        y = y + (x & 31740) - 964;
+        x = (x ^ (x >>> 4)) * 14389 + y;
+        y = y + (x & 39659) - 965;
+        x = (x ^ (x >>> 5)) * 12775 + y;
+        y = y + (x & 47578) - 966;
+        x = (x ^ (x >>> 6)) * 11159 + y;
+        y = y + (x & 55497) - 967;
+        x = (x ^ (x >>> 7)) * 9545 + y;
+        y = y + (x & 63416) - 968;
+        x = (x ^ (x >>> 8)) * 7929 + y;
+        y = y + (x & 5799) - 969;
+        x = (x ^ (x >>> 9)) * 6315 + y;
+        y = y + (x & 13718) - 970;
+        x = (x ^ (x >>> 10)) * 4699 + y;
+        y = y + (x & 21637) - 971;
+        x = (x ^ (x >>> 11)) * 3085 + y;
+        y = y + (x & 29556) - 972;
+        x = (x ^ (x >>> 12)) * 1469 + y;
+        y = y + (x & 37475) - 973;
+        x = (x ^ (x >>> 13)) * 32623 + y;
+        y = y + (x & 45394) - 974;
+        x = (x ^ (x >>> 1)) * 31007 + y;
+        y = y + (x & 53313) - 975;
+        x = (x ^ (x >>> 2)) * 29393 + y;
+        y = y + (x & 61232) - 976;
+        x = (x ^ (x >>> 3)) * 27777 + y;
+        y = y + (x & 3615) - 977;
+        x = (x ^ (x >>> 4)) * 26163 + y;
+        y = y + (x & 11534) - 978;
+        x = (x ^ (x >>> 5)) * 24547 + y;
+        y = y + (x & 19453) - 979;
+        x = (x ^ (x >>> 6)) * 22933 + y;
+        y = y + (x & 27372) - 980;
+        x = (x ^ (x >>> 7)) * 21317 + y;
+        y = y + (x & 35291) - 981;
+        x = (x ^ (x >>> 8)) * 19703 + y;
+        y = y + (x & 43210) - 982;
+        x = (x ^ (x >>> 9)) * 18087 + y;
+        y = y + (x & 51129) - 983;
+        x = (x ^ (x >>> 10)) * 16473 + y;
+        y = y + (x & 59048) - 984;
+        x = (x ^ (x >>> 11)) * 14857 + y;
+        y = y + (x & 1431) - 985;
+        x = (x ^ (x >>> 12)) * 13243 + y;
+        y = y + (x & 9350) - 986;
+        x = (x ^ (x >>> 13)) * 11627 + y;
+        y = y + (x & 17269) - 987;
+        x = (x ^ (x >>> 1)) * 10013 + y;
+        y = y + (x & 25188) - 988;
+        x = (x ^ (x >>> 2)) * 8397 + y;
+        y = y + (x & 33107) - 989;
+        x = (x ^ (x >>> 3)) * 6783 + y;
+        y = y + (x & 41026) - 990;
+        x = (x ^ (x >>> 4)) * 5167 + y;
+        y = y + (x & 48945) - 991;
+        x = (x ^ (x >>> 5)) * 3553 + y;
+        y = y + (x & 56864) - 992;
+        x = (x ^ (x >>> 6)) * 1937 + y;
+        y = y + (x & 64783) - 993;
+        x = (x ^ (x >>> 7)) * 323 + y;
+        y = y + (x & 7166) - 994;
+        x = (x ^ (x >>> 8)) * 31475 + y;
+        y = y + (x & 15085) - 995;
+        x = (x ^ (x >>> 9)) * 29861 + y;
+        y = y + (x & 23004) - 996;
+        x = (x ^ (x >>> 10)) * 28245 + y;
+        y = y + (x & 30923) - 997;
+        x = (x ^ (x >>> 11)) * 26631 + y;
+        y = y + (x & 38842) - 998;
+        x = (x ^ (x >>> 12)) * 25015 + y;
+        y = y + (x & 46761) - 999;
+        x = (x ^ (x >>> 13)) * 23401 + y;
+        y = y + (x & 54680) - 1000;
+        x = (x ^ (x >>> 1)) * 21785 + y;
+        y = y + (x & 62599) - 1001;
+        x = (x ^ (x >>> 2)) * 20171 + y;
+        y = y + (x & 4982) - 1002;
+        x = (x ^ (x >>> 3)) * 18555 + y;
+        y = y + (x & 12901) - 1003;
+        x = (x ^ (x >>> 4)) * 16941 + y;
+        y = y + (x & 20820) - 1004;
+        x = (x ^ (x >>> 5)) * 15325 + y;
+        y = y + (x & 28739) - 1005;
+        x = (x ^ (x >>> 6)) * 13711 + y;
+        y = y + (x & 36658) - 1006;
+        x = (x ^ (x >>> 7)) * 12095 + y;
+        y = y + (x & 44577) - 1007;
+        x = (x ^ (x >>> 8)) * 10481 + y;
+        y = y + (x & 52496) - 1008;
+        x = (x ^ (x >>> 9)) * 8865 + y;
+        y = y + (x & 60415) - 1009;
+        x = (x ^ (x >>> 10)) * 7251 + y;
+        y = y + (x & 2798) - 1010;
+        x = (x ^ (x >>> 11)) * 5635 + y;
+        y = y + (x & 10717) - 1011;
+        x = (x ^ (x >>> 12)) * 4021 + y;
+        y = y + (x & 18636) - 1012;
+        x = (x ^ (x >>> 13)) * 2405 + y;
+        y = y + (x & 26555) - 1013;
+        x = (x ^ (x >>> 1)) * 791 + y;
+        y = y + (x & 34474) - 1014;
+        x = (x ^ (x >>> 2)) * 31943 + y;
+        y = y + (x & 42393) - 1015;
+        x = (x ^ (x >>> 3)) * 30329 + y;
+        y = y + (x & 50312) - 1016;
+        x = (x ^ (x >>> 4)) * 28713 + y;
+        y = y + (x & 58231) - 1017;
+        x = (x ^ (x >>> 5)) * 27099 + y;
+        y = y + (x & 614) - 1018;
+        x = (x ^ (x >>> 6)) * 25483 + y;
+        y = y + (x & 8533) - 1019;
+        x = (x ^ (x >>> 7)) * 23869 + y;
+        y = y + (x & 16452) - 1020;
+        x = (x ^ (x >>> 8)) * 22253 + y;
+        y = y + (x & 24371) - 1021;
+        x = (x ^ (x >>> 9)) * 20639 + y;
+        y = y + (x & 32290) - 1022;
+        x = (x ^ (x >>> 10)) * 19023 + y;
+        y = y + (x & 40209) - 1023;
+        x = (x ^ (x >>> 11)) * 17409 + y;
+        y = y + (x & 48128) - 1024;
+        x = (x ^ (x >>> 12)) * 15793 + y;
+        y = y + (x & 56047) - 1025;
+        x = (x ^ (x >>> 13)) * 14179 + y;
+        y = y + (x & 63966) - 1026;
+        x = (x ^ (x >>> 1)) * 12563 + y;
+        y = y + (x & 6349) - 1027;
+        x = (x ^ (x >>> 2)) * 10949 + y;
+        y = y + (x & 14268) - 1028;
+        x = (x ^ (x >>> 3)) * 9333 + y;
+        y = y + (x & 22187) - 1029;
+        x = (x ^ (x >>> 4)) * 7719 + y;
+        y = y + (x & 30106) - 1030;
+        x = (x ^ (x >>> 5)) * 6103 + y;
+        y = y + (x & 38025) - 1031;
+        x = (x ^ (x >>> 6)) * 4489 + y;
+        y = y + (x & 45944) - 1032;
+        x = (x ^ (x >>> 7)) * 2873 + y;
+        y = y + (x & 53863) - 1033;
+        x = (x ^ (x >>> 8)) * 1259 + y;
+        y = y + (x & 61782) - 1034;
+        x = (x ^ (x >>> 9)) * 32411 + y;
+        y = y + (x & 4165) - 1035;
+        x = (x ^ (x >>> 10)) * 30797 + y;
+        y = y + (x & 12084) - 1036;
+        x = (x ^ (x >>> 11)) * 29181 + y;
+        y = y + (x & 20003) - 1037;
+        x = (x ^ (x >>> 12)) * 27567 + y;
+        y = y + (x & 27922) - 1038;
+        x = (x ^ (x >>> 13)) * 25951 + y;
+        y = y + (x & 35841) - 1039;
+        x = (x ^ (x >>> 1)) * 24337 + y;
+        y = y + (x & 43760) - 1040;
+        x = (x ^ (x >>> 2)) * 22721 + y;
+        y = y + (x & 51679) - 1041;
+        x = (x ^ (x >>> 3)) * 21107 + y;
+        y = y + (x & 59598) - 1042;
+        x = (x ^ (x >>> 4)) * 19491 + y;
+        y = y + (x & 1981) - 1043;
+        x = (x ^ (x >>> 5)) * 17877 + y;
+        y = y + (x & 9900) - 1044;
+        x = (x ^ (x >>> 6)) * 16261 + y;
+        y = y + (x & 17819) - 1045;
+        x = (x ^ (x >>> 7)) * 14647 + y;
+        y = y + (x & 25738) - 1046;
+        x = (x ^ (x >>> 8)) * 13031 + y;
+        y = y + (x & 33657) - 1047;
+        x = (x ^ (x >>> 9)) * 11417 + y;
+        y = y + (x & 41576) - 1048;
+        x = (x ^ (x >>> 10)) * 9801 + y;
+        y = y + (x & 49495) - 1049;
+        x = (x ^ (x >>> 11)) * 8187 + y;
+        y = y + (x & 57414) - 1050;
+        x = (x ^ (x >>> 12)) * 6571 + y;
+        y = y + (x & 65333) - 1051;
+        x = (x ^ (x >>> 13)) * 4957 + y;
+        y = y + (x & 7716) - 1052;
+        x = (x ^ (x >>> 1)) * 3341 + y;
+        y = y + (x & 15635) - 1053;
+        x = (x ^ (x >>> 2)) * 1727 + y;
+        y = y + (x & 23554) - 1054;
+        x = (x ^ (x >>> 3)) * 111 + y;
+        y = y + (x & 31473) - 1055;
+        x = (x ^ (x >>> 4)) * 31265 + y;
+        y = y + (x & 39392) - 1056;
+        x = (x ^ (x >>> 5)) * 29649 + y;
+        y = y + (x & 47311) - 1057;
+        x = (x ^ (x >>> 6)) * 28035 + y;
+        y = y + (x & 55230) - 1058;
+        x = (x ^ (x >>> 7)) * 26419 + y;
+        y = y + (x & 63149) - 1059;
+        x = (x ^ (x >>> 8)) * 24805 + y;
+        y = y + (x & 5532) - 1060;
+        x = (x ^ (x >>> 9)) * 23189 + y;
+        y = y + (x & 13451) - 1061;
+        x = (x ^ (x >>> 10)) * 21575 + y;
+        y = y + (x & 21370) - 1062;
+        x = (x ^ (x >>> 11)) * 19959 + y;
+        y = y + (x & 29289) - 1063;
+        x = (x ^ (x >>> 12)) * 18345 + y;
+        y = y + (x & 37208) - 1064;
+        x = (x ^ (x >>> 13)) * 16729 + y;
+        y = y + (x & 45127) - 1065;
+        x = (x ^ (x >>> 1)) * 15115 + y;
+        y = y + (x & 53046) - 1066;
+        x = (x ^ (x >>> 2)) * 13499 + y;
+        y = y + (x & 60965) - 1067;
+        x = (x ^ (x >>> 3)) * 11885 + y;
+        y = y + (x & 3348) - 1068;
+        x = (x ^ (x >>> 4)) * 10269 + y;
+        y = y + (x & 11267) - 1069;
+        x = (x ^ (x >>> 5)) * 8655 + y;
+        y = y + (x & 19186) - 1070;
+        x = (x ^ (x >>> 6)) * 7039 + y;
+        y = y + (x & 27105) - 1071;
+        x = (x ^ (x >>> 7)) * 5425 + y;
+        y = y + (x & 35024) - 1072;
+        x = (x ^ (x >>> 8)) * 3809 + y;
+        y = y + (x & 42943) - 1073;
+        x = (x ^ (x >>> 9)) * 2195 + y;
+        y = y + (x & 50862) - 1074;
+        x = (x ^ (x >>> 10)) * 579 + y;
+        y = y + (x & 58781) - 1075;
+        x = (x ^ (x >>> 11)) * 31733 + y;
+        y = y + (x & 1164) - 1076;
+        x = (x ^ (x >>> 12)) * 30117 + y;
+        y = y + (x & 9083) - 1077;
+        x = (x ^ (x >>> 13)) * 28503 + y;
+        y = y + (x & 17002) - 1078;
+        x = (x ^ (x >>> 1)) * 26887 + y;
+        y = y + (x & 24921) - 1079;
+        x = (x ^ (x >>> 2)) * 25273 + y;
+        y = y + (x & 32840) - 1080;
+        x = (x ^ (x >>> 3)) * 23657 + y;
+        y = y + (x & 40759) - 1081;
+        x = (x ^ (x >>> 4)) * 22043 + y;
+        y = y + (x & 48678) - 1082;
+        x = (x ^ (x >>> 5)) * 20427 + y;
+        y = y + (x & 56597) - 1083;
+        x = (x ^ (x >>> 6)) * 18813 + y;
+        y = y + (x & 64516) - 1084;
+        x = (x ^ (x >>> 7)) * 17197 + y;
+        y = y + (x & 6899) - 1085;
+        x = (x ^ (x >>> 8)) * 15583 + y;
+        y = y + (x & 14818) - 1086;
+        x = (x ^ (x >>> 9)) * 13967 + y;
+        y = y + (x & 22737) - 1087;
+        x = (x ^ (x >>> 10)) * 12353 + y;
+        y = y + (x & 30656) - 1088;
+        x = (x ^ (x >>> 11)) * 10737 + y;
+        y = y + (x & 38575) - 1089;
+        x = (x ^ (x >>> 12)) * 9123 + y;
+        y = y + (x & 46494) - 1090;
+        x = (x ^ (x >>> 13)) * 7507 + y;
+        y = y + (x & 54413) - 1091;
+        x = (x ^ (x >>> 1)) * 5893 + y;
+        y = y + (x & 62332) - 1092;
+        x = (x ^ (x >>> 2)) * 4277 + y;
+        y = y + (x & 4715) - 1093;
+        x = (x ^ (x >>> 3)) * 2663 + y;
+        y = y + (x & 12634) - 1094;
+        x = (x ^ (x >>> 4)) * 1047 + y;
+        y = y + (x & 20553) - 1095;
+        x = (x ^ (x >>> 5)) * 32201 + y;
+        y = y + (x & 28472) - 1096;
+        x = (x ^ (x >>> 6)) * 30585 + y;
+        y = y + (x & 36391) - 1097;
+        x = (x ^ (x >>> 7)) * 28971 + y;
+        y = y + (x & 44310) - 1098;
+        x = (x ^ (x >>> 8)) * 27355 + y;
+        y = y + (x & 52229) - 1099;
+        x = (x ^ (x >>> 9)) * 25741 + y;
+        y = y + (x & 60148) - 1100;
+        x = (x ^ (x >>> 10)) * 24125 + y;
+        y = y + (x & 2531) - 1101;
+        x = (x ^ (x >>> 11)) * 22511 + y;
+        y = y + (x & 10450) - 1102;
+        x = (x ^ (x >>> 12)) * 20895 + y;
+        y = y + (x & 18369) - 1103;
+        x = (x ^ (x >>> 13)) * 19281 + y;
+        y = y + (x & 26288) - 1104;
+        x = (x ^ (x >>> 1)) * 17665 + y;
+        y = y + (x & 34207) - 1105;
+        x = (x ^ (x >>> 2)) * 16051 + y;
+        y = y + (x & 42126) - 1106;
+        x = (x ^ (x >>> 3)) * 14435 + y;
+        y = y + (x & 50045) - 1107;
+        x = (x ^ (x >>> 4)) * 12821 + y;
+        y = y + (x & 57964) - 1108;
+        x = (x ^ (x >>> 5)) * 11205 + y;
+        y = y + (x & 347) - 1109;
+        x = (x ^ (x >>> 6)) * 9591 + y;
+        y = y + (x & 8266) - 1110;
+        x = (x ^ (x >>> 7)) * 7975 + y;
+        y = y + (x & 16185) - 1111;
+        x = (x ^ (x >>> 8)) * 6361 + y;
+        y = y + (x & 24104) - 1112;
+        x = (x ^ (x >>> 9)) * 4745 + y;
+        y = y + (x & 32023) - 1113;
+        x = (x ^ (x >>> 10)) * 3131 + y;
+        y = y + (x & 39942) - 1114;
+        x = (x ^ (x >>> 11)) * 1515 + y;
+        y = y + (x & 47861) - 1115;
+        x = (x ^ (x >>> 12)) * 32669 + y;
+        y = y + (x & 55780) - 1116;
+        x = (x ^ (x >>> 13)) * 31053 + y;
+        y = y + (x & 63699) - 1117;
+        x = (x ^ (x >>> 1)) * 29439 + y;
+        y = y + (x & 6082) - 1118;
+        x = (x ^ (x >>> 2)) * 27823 + y;
+        y = y + (x & 14001) - 1119;
+        x = (x ^ (x >>> 3)) * 26209 + y;
+        y = y + (x & 21920) - 1120;
+        x = (x ^ (x >>> 4)) * 24593 + y;
+        y = y + (x & 29839) - 1121;
+        x = (x ^ (x >>> 5)) * 22979 + y;
+        y = y + (x & 37758) - 1122;
+        x = (x ^ (x >>> 6)) * 21363 + y;
+        y = y + (x & 45677) - 1123;
+        x = (x ^ (x >>> 7)) * 19749 + y;
+        y = y + (x & 53596) - 1124;
+        x = (x ^ (x >>> 8)) * 18133 + y;
+        y = y + (x & 61515) - 1125;
+        x = (x ^ (x >>> 9)) * 16519 + y;
+        y = y + (x & 3898) - 1126;
+        x = (x ^ (x >>> 10)) * 14903 + y;
+        y = y + (x & 11817) - 1127;
+        x = (x ^ (x >>> 11)) * 13289 + y;
+        y = y + (x & 19736) - 1128;
+        x = (x ^ (x >>> 12)) * 11673 + y;
+        y = y + (x & 27655) - 1129;
+        x = (x ^ (x >>> 13)) * 10059 + y;
+        y = y + (x & 35574) - 1130;
+        x = (x ^ (x >>> 1)) * 8443 + y;
+        y = y + (x & 43493) - 1131;
+        x = (x ^ (x >>> 2)) * 6829 + y;
+        y = y + (x & 51412) - 1132;
+        x = (x ^ (x >>> 3)) * 5213 + y;
+        y = y + (x & 59331) - 1133;
+        x = (x ^ (x >>> 4)) * 3599 + y;
+        y = y + (x & 1714) - 1134;
+        x = (x ^ (x >>> 5)) * 1983 + y;
+        y = y + (x & 9633) - 1135;
+        x = (x ^ (x >>> 6)) * 369 + y;
+        y = y + (x & 17552) - 1136;
+        x = (x ^ (x >>> 7)) * 31521 + y;
+        y = y + (x & 25471) - 1137;
+        x = (x ^ (x >>> 8)) * 29907 + y;
+        y = y + (x & 33390) - 1138;
+        x = (x ^ (x >>> 9)) * 28291 + y;
+        y = y + (x & 41309) - 1139;
+        x = (x ^ (x >>> 10)) * 26677 + y;
+        y = y + (x & 49228) - 1140;
+        x = (x ^ (x >>> 11)) * 25061 + y;
+        y = y + (x & 57147) - 1141;
+        x = (x ^ (x >>> 12)) * 23447 + y;
+        y = y + (x & 65066) - 1142;
+        x = (x ^ (x >>> 13)) * 21831 + y;
+        y = y + (x & 7449) - 1143;
+        x = (x ^ (x >>> 1)) * 20217 + y;
+        y = y + (x & 15368) - 1144;
+        x = (x ^ (x >>> 2)) * 18601 + y;
+        y = y + (x & 23287) - 1145;
+        x = (x ^ (x >>> 3)) * 16987 + y;
+        y = y + (x & 31206) - 1146;
+        x = (x ^ (x >>> 4)) * 15371 + y;
+        y = y + (x & 39125) - 1147;
+        x = (x ^ (x >>> 5)) * 13757 + y;
+        y = y + (x & 47044) - 1148;
+        x = (x ^ (x >>> 6)) * 12141 + y;
+        y = y + (x & 54963) - 1149;
+        x = (x ^ (x >>> 7)) * 10527 + y;
+        y = y + (x & 62882) - 1150;
+        x = (x ^ (x >>> 8)) * 8911 + y;
+        y = y + (x & 5265) - 1151;
+        x = (x ^ (x >>> 9)) * 7297 + y;
+        y = y + (x & 13184) - 1152;
+        x = (x ^ (x >>> 10)) * 5681 + y;
+        y = y + (x & 21103) - 1153;
+        x = (x ^ (x >>> 11)) * 4067 + y;
+        y = y + (x & 29022) - 1154;
+        x = (x ^ (x >>> 12)) * 2451 + y;
+        y = y + (x & 36941) - 1155;
+        x = (x ^ (x >>> 13)) * 837 + y;
+        y = y + (x & 44860) - 1156;
+        x = (x ^ (x >>> 1)) * 31989 + y;
+        y = y + (x & 52779) - 1157;
+        x = (x ^ (x >>> 2)) * 30375 + y;
+        y = y + (x & 60698) - 1158;
+        x = (x ^ (x >>> 3)) * 28759 + y;
+        y = y + (x & 3081) - 1159;
+        x = (x ^ (x >>> 4)) * 27145 + y;
+        y = y + (x & 11000) - 1160;
+        x = (x ^ (x >>> 5)) * 25529 + y;
+        y = y + (x & 18919) - 1161;
+        x = (x ^ (x >>> 6)) * 23915 + y;
+        y = y + (x & 26838) - 1162;
+        x = (x ^ (x >>> 7)) * 22299 + y;
+        y = y + (x & 34757) - 1163;
+        x = (x ^ (x >>> 8)) * 20685 + y;
+        y = y + (x & 42676) - 1164;
+        x = (x ^ (x >>> 9)) * 19069 + y;
+        y = y + (x & 50595) - 1165;
+        x = (x ^ (x >>> 10)) * 17455 + y;
+        y = y + (x & 58514) - 1166;
+        x = (x ^ (x >>> 11)) * 15839 + y;
+        y = y + (x & 897) - 1167;
+        x = (x ^ (x >>> 12)) * 14225 + y;
+        y = y + (x & 8816) - 1168;
+        x = (x ^ (x >>> 13)) * 12609 + y;
+        y = y + (x & 16735) - 1169;
+        x = (x ^ (x >>> 1)) * 10995 + y;
+        y = y + (x & 24654) - 1170;
+        x = (x ^ (x >>> 2)) * 9379 + y;
+        y = y + (x & 32573) - 1171;
+        x = (x ^ (x >>> 3)) * 7765 + y;
+        y = y + (x & 40492) - 1172;
+        x = (x ^ (x >>> 4)) * 6149 + y;
+        y = y + (x & 48411) - 1173;
+        x = (x ^ (x >>> 5)) * 4535 + y;
+        y = y + (x & 56330) - 1174;
+        x = (x ^ (x >>> 6)) * 2919 + y;
+        y = y + (x & 64249) - 1175;
+        x = (x ^ (x >>> 7)) * 1305 + y;
+        y = y + (x & 6632) - 1176;
+        x = (x ^ (x >>> 8)) * 32457 + y;
+        y = y + (x & 14551) - 1177;
+        x = (x ^ (x >>> 9)) * 30843 + y;
+        y = y + (x & 22470) - 1178;
+        x = (x ^ (x >>> 10)) * 29227 + y;
+        y = y + (x & 30389) - 1179;
+        x = (x ^ (x >>> 11)) * 27613 + y;
+        y = y + (x & 38308) - 1180;
+        x = (x ^ (x >>> 12)) * 25997 + y;
+        y = y + (x & 46227) - 1181;
+        x = (x ^ (x >>> 13)) * 24383 + y;
+        y = y + (x & 54146) - 1182;
+        x = (x ^ (x >>> 1)) * 22767 + y;
+        y = y + (x & 62065) - 1183;
+        x = (x ^ (x >>> 2)) * 21153 + y;
+        y = y + (x & 4448) - 1184;
+        x = (x ^ (x >>> 3)) * 19537 + y;
+        y = y + (x & 12367) - 1185;
+        x = (x ^ (x >>> 4)) * 17923 + y;
+        y = y + (x & 20286) - 1186;
+        x = (x ^ (x >>> 5)) * 16307 + y;
+        y = y + (x & 28205) - 1187;
+        x = (x ^ (x >>> 6)) * 14693 + y;
+        y = y + (x & 36124) - 1188;
+        x = (x ^ (x >>> 7)) * 13077 + y;
+        y = y + (x & 44043) - 1189;
+        x = (x ^ (x >>> 8)) * 11463 + y;
+        y = y + (x & 51962) - 1190;
+        x = (x ^ (x >>> 9)) * 9847 + y;
+        y = y + (x & 59881) - 1191;
+        x = (x ^ (x >>> 10)) * 8233 + y;
+        y = y + (x & 2264) - 1192;
+        x = (x ^ (x >>> 11)) * 6617 + y;
+        y = y + (x & 10183) - 1193;
+        x = (x ^ (x >>> 12)) * 5003 + y;
+        y = y + (x & 18102) - 1194;
+        x = (x ^ (x >>> 13)) * 3387 + y;
+        y = y + (x & 26021) - 1195;
+        x = (x ^ (x >>> 1)) * 1773 + y;
+        y = y + (x & 33940) - 1196;
+        x = (x ^ (x >>> 2)) * 157 + y;
+        y = y + (x & 41859) - 1197;
+        x = (x ^ (x >>> 3)) * 31311 + y;
+        y = y + (x & 49778) - 1198;
+        x = (x ^ (x >>> 4)) * 29695 + y;
+        y = y + (x & 57697) - 1199;
+        x = (x ^ (x >>> 5)) * 28081 + y;
+        y = y + (x & 80) - 1200;
+        x = (x ^ (x >>> 6)) * 26465 + y;
+        y = y + (x & 7999) - 1201;
+        x = (x ^ (x >>> 7)) * 24851 + y;
+        y = y + (x & 15918) - 1202;
+        x = (x ^ (x >>> 8)) * 23235 + y;
+        y = y + (x & 23837) - 1203;
+        x = (x ^ (x >>> 9)) * 21621 + y;
+        y = y + (x & 31756) - 1204;
+        x = (x ^ (x >>> 10)) * 20005 + y;
+        y = y + (x & 39675) - 1205;
+        x = (x ^ (x >>> 11)) * 18391 + y;
+        y = y + (x & 47594) - 1206;
+        x = (x ^ (x >>> 12)) * 16775 + y;
+        y = y + (x & 55513) - 1207;
+        x = (x ^ (x >>> 13)) * 15161 + y;
+        y = y + (x & 63432) - 1208;
+        x = (x ^ (x >>> 1)) * 13545 + y;
+        y = y + (x & 5815) - 1209;
+        x = (x ^ (x >>> 2)) * 11931 + y;
+        y = y + (x & 13734) - 1210;
+        x = (x ^ (x >>> 3)) * 10315 + y;
+        y = y + (x & 21653) - 1211;
+        x = (x ^ (x >>> 4)) * 8701 + y;
+        y = y + (x & 29572) - 1212;
+        x = (x ^ (x >>> 5)) * 7085 + y;
+        y = y + (x & 37491) - 1213;
+        x = (x ^ (x >>> 6)) * 5471 + y;
+        y = y + (x & 45410) - 1214;
+        x = (x ^ (x >>> 7)) * 3855 + y;
+        y = y + (x & 53329) - 1215;
+        x = (x ^ (x >>> 8)) * 2241 + y;
+        y = y + (x & 61248) - 1216;
+        x = (x ^ (x >>> 9)) * 625 + y;
+        y = y + (x & 3631) - 1217;
+        x = (x ^ (x >>> 10)) * 31779 + y;
+        y = y + (x & 11550) - 1218;
+        x = (x ^ (x >>> 11)) * 30163 + y;
+        y = y + (x & 19469) - 1219;
+        x = (x ^ (x >>> 12)) * 28549 + y;
+        y = y + (x & 27388) - 1220;
+        x = (x ^ (x >>> 13)) * 26933 + y;
+        y = y + (x & 35307) - 1221;
+        x = (x ^ (x >>> 1)) * 25319 + y;
+        y = y + (x & 43226) - 1222;
+        x = (x ^ (x >>> 2)) * 23703 + y;
+        y = y + (x & 51145) - 1223;
+        x = (x ^ (x >>> 3)) * 22089 + y;
+        y = y + (x & 59064) - 1224;
+        x = (x ^ (x >>> 4)) * 20473 + y;
+        y = y + (x & 1447) - 1225;
+        x = (x ^ (x >>> 5)) * 18859 + y;
+        y = y + (x & 9366) - 1226;
+        x = (x ^ (x >>> 6)) * 17243 + y;
+        y = y + (x & 17285) - 1227;
+        x = (x ^ (x >>> 7)) * 15629 + y;
+        y = y + (x & 25204) - 1228;
+        x = (x ^ (x >>> 8)) * 14013 + y;
+        y = y + (x & 33123) - 1229;
+        x = (x ^ (x >>> 9)) * 12399 + y;
+        y = y + (x & 41042) - 1230;
+        x = (x ^ (x >>> 10)) * 10783 + y;
+        y = y + (x & 48961) - 1231;
+        x = (x ^ (x >>> 11)) * 9169 + y;
+        y = y + (x & 56880) - 1232;
+        x = (x ^ (x >>> 12)) * 7553 + y;
+        y = y + (x & 64799) - 1233;
+        x = (x ^ (x >>> 13)) * 5939 + y;
+        y = y + (x & 7182) - 1234;
+        x = (x ^ (x >>> 1)) * 4323 + y;
+        y = y + (x & 15101) - 1235;
+        x = (x ^ (x >>> 2)) * 2709 + y;
+        y = y + (x & 23020) - 1236;
+        x = (x ^ (x >>> 3)) * 1093 + y;
+        y = y + (x & 30939) - 1237;
+        x = (x ^ (x >>> 4)) * 32247 + y;
+        y = y + (x & 38858) - 1238;
+        x = (x ^ (x >>> 5)) * 30631 + y;
+        y = y + (x & 46777) - 1239;
+        x = (x ^ (x >>> 6)) * 29017 + y;
+        y = y + (x & 54696) - 1240;
+        x = (x ^ (x >>> 7)) * 27401 + y;
+        y = y + (x & 62615) - 1241;
+        x = (x ^ (x >>> 8)) * 25787 + y;
+        y = y + (x & 4998) - 1242;
+        x = (x ^ (x >>> 9)) * 24171 + y;
+        y = y + (x & 12917) - 1243;
+        x = (x ^ (x >>> 10)) * 22557 + y;
+        y = y + (x & 20836) - 1244;
+        x = (x ^ (x >>> 11)) * 20941 + y;
+        y = y + (x & 28755) - 1245;
+        x = (x ^ (x >>> 12)) * 19327 + y;
+        y = y + (x & 36674) - 1246;
+        x = (x ^ (x >>> 13)) * 17711 + y;
+        y = y + (x & 44593) - 1247;
+        x = (x ^ (x >>> 1)) * 16097 + y;
+        y = y + (x & 52512) - 1248;
+        x = (x ^ (x >>> 2)) * 14481 + y;
+        y = y + (x & 60431) - 1249;
+        x = (x ^ (x >>> 3)) * 12867 + y;
+        y = y + (x & 2814) - 1250;
+        x = (x ^ (x >>> 4)) * 11251 + y;
+        y = y + (x & 10733) - 1251;
+        x = (x ^ (x >>> 5)) * 9637 + y;
+        y = y + (x & 18652) - 1252;
+        x = (x ^ (x >>> 6)) * 8021 + y;
+        y = y + (x & 26571) - 1253;
+        x = (x ^ (x >>> 7)) * 6407 + y;
+        y = y + (x & 34490) - 1254;
+        x = (x ^ (x >>> 8)) * 4791 + y;
+        y = y + (x & 42409) - 1255;
+        x = (x ^ (x >>> 9)) * 3177 + y;
+        y = y + (x & 50328) - 1256;
+        x = (x ^ (x >>> 10)) * 1561 + y;
+        y = y + (x & 58247) - 1257;
+        x = (x ^ (x >>> 11)) * 32715 + y;
+        y = y + (x & 630) - 1258;
+        x = (x ^ (x >>> 12)) * 31099 + y;
+        y = y + (x & 8549) - 1259;
+        x = (x ^ (x >>> 13)) * 29485 + y;
+        y = y + (x & 16468) - 1260;
+        x = (x ^ (x >>> 1)) * 27869 + y;
+        y = y + (x & 24387) - 1261;
+        x = (x ^ (x >>> 2)) * 26255 + y;
+        y = y + (x & 32306) - 1262;
+        x = (x ^ (x >>> 3)) * 24639 + y;
+        y = y + (x & 40225) - 1263;
+        x = (x ^ (x >>> 4)) * 23025 + y;
+        y = y + (x & 48144) - 1264;
+        x = (x ^ (x >>> 5)) * 21409 + y;
+        y = y + (x & 56063) - 1265;
+        x = (x ^ (x >>> 6)) * 19795 + y;
+        y = y + (x & 63982) - 1266;
+        x = (x ^ (x >>> 7)) * 18179 + y;
+        y = y + (x & 6365) - 1267;
+        x = (x ^ (x >>> 8)) * 16565 + y;
+        y = y + (x & 14284) - 1268;
+        x = (x ^ (x >>> 9)) * 14949 + y;
+        y = y + (x & 22203) - 1269;
+        x = (x ^ (x >>> 10)) * 13335 + y;
+        y = y + (x & 30122) - 1270;
+        x = (x ^ (x >>> 11)) * 11719 + y;
+        y = y + (x & 38041) - 1271;
+        x = (x ^ (x >>> 12)) * 10105 + y;
+        y = y + (x & 45960) - 1272;
+        x = (x ^ (x >>> 13)) * 8489 + y;
+        y = y + (x & 53879) - 1273;
+        x = (x ^ (x >>> 1)) * 6875 + y;
+        y = y + (x & 61798) - 1274;
+        x = (x ^ (x >>> 2)) * 5259 + y;
+        y = y + (x & 4181) - 1275;
+        x = (x ^ (x >>> 3)) * 3645 + y;
+        y = y + (x & 12100) - 1276;
+        x = (x ^ (x >>> 4)) * 2029 + y;
+        y = y + (x & 20019) - 1277;
+        x = (x ^ (x >>> 5)) * 415 + y;
+        y = y + (x & 27938) - 1278;
+        x = (x ^ (x >>> 6)) * 31567 + y;
+        y = y + (x & 35857) - 1279;
+        x = (x ^ (x >>> 7)) * 29953 + y;
+        y = y + (x & 43776) - 1280;
+        x = (x ^ (x >>> 8)) * 28337 + y;
+        y = y + (x & 51695) - 1281;
+        x = (x ^ (x >>> 9)) * 26723 + y;
+        y = y + (x & 59614) - 1282;
+        x = (x ^ (x >>> 10)) * 25107 + y;
+        y = y + (x & 1997) - 1283;
+        x = (x ^ (x >>> 11)) * 23493 + y;
+        y = y + (x & 9916) - 1284;
+        x = (x ^ (x >>> 12)) * 21877 + y;
+        y = y + (x & 17835) - 1285;
+        x = (x ^ (x >>> 13)) * 20263 + y;
+        y = y + (x & 25754) - 1286;
+        x = (x ^ (x >>> 1)) * 18647 + y;
+        y = y + (x & 33673) - 1287;
+        x = (x ^ (x >>> 2)) * 17033 + y;
+        y = y + (x & 41592) - 1288;
+        x = (x ^ (x >>> 3)) * 15417 + y;
+        y = y + (x & 49511) - 1289;
+        x = (x ^ (x >>> 4)) * 13803 + y;
+        y = y + (x & 57430) - 1290;
+        x = (x ^ (x >>> 5)) * 12187 + y;
+        y = y + (x & 65349) - 1291;
+        x = (x ^ (x >>> 6)) * 10573 + y;
+        y = y + (x & 7732) - 1292;
+        x = (x ^ (x >>> 7)) * 8957 + y;
+        y = y + (x & 15651) - 1293;
+        x = (x ^ (x >>> 8)) * 7343 + y;
+        y = y + (x & 23570) - 1294;
+        x = (x ^ (x >>> 9)) * 5727 + y;
+        y = y + (x & 31489) - 1295;
+        x = (x ^ (x >>> 10)) * 4113 + y;
+        y = y + (x & 39408) - 1296;
+        x = (x ^ (x >>> 11)) * 2497 + y;
+        y = y + (x & 47327) - 1297;
+        x = (x ^ (x >>> 12)) * 883 + y;
+        y = y + (x & 55246) - 1298;
+        x = (x ^ (x >>> 13)) * 32035 + y;
+        y = y + (x & 63165) - 1299;
+        x = (x ^ (x >>> 1)) * 30421 + y;
+        y = y + (x & 5548) - 1300;
+        x = (x ^ (x >>> 2)) * 28805 + y;
+        y = y + (x & 13467) - 1301;
+        x = (x ^ (x >>> 3)) * 27191 + y;
+        y = y + (x & 21386) - 1302;
+        x = (x ^ (x >>> 4)) * 25575 + y;
+        y = y + (x & 29305) - 1303;
+        x = (x ^ (x >>> 5)) * 23961 + y;
+        y = y + (x & 37224) - 1304;
+        x = (x ^ (x >>> 6)) * 22345 + y;
+        y = y + (x & 45143) - 1305;
+        x = (x ^ (x >>> 7)) * 20731 + y;
+        y = y + (x & 53062) - 1306;
+        x = (x ^ (x >>> 8)) * 19115 + y;
+        y = y + (x & 60981) - 1307;
+        x = (x ^ (x >>> 9)) * 17501 + y;
+        y = y + (x & 3364) - 1308;
+        x = (x ^ (x >>> 10)) * 15885 + y;
+        y = y + (x & 11283) - 1309;
+        x = (x ^ (x >>> 11)) * 14271 + y;
+        y = y + (x & 19202) - 1310;
+        x = (x ^ (x >>> 12)) * 12655 + y;
+        y = y + (x & 27121) - 1311;
+        x = (x ^ (x >>> 13)) * 11041 + y;
+        y = y + (x & 35040) - 1312;
+        x = (x ^ (x >>> 1)) * 9425 + y;
+        y = y + (x & 42959) - 1313;
+        x = (x ^ (x >>> 2)) * 7811 + y;
+        y = y + (x & 50878) - 1314;
+        x = (x ^ (x >>> 3)) * 6195 + y;
+        y = y + (x & 58797) - 1315;
+        x = (x ^ (x >>> 4)) * 4581 + y;
+        y = y + (x & 1180) - 1316;
+        x = (x ^ (x >>> 5)) * 2965 + y;
+        y = y + (x & 9099) - 1317;
+        x = (x ^ (x >>> 6)) * 1351 + y;
+        y = y + (x & 17018) - 1318;
+        x = (x ^ (x >>> 7)) * 32503 + y;
+        y = y + (x & 24937) - 1319;
+        x = (x ^ (x >>> 8)) * 30889 + y;
+        y = y + (x & 32856) - 1320;
+        x = (x ^ (x >>> 9)) * 29273 + y;
+        y = y + (x & 40775) - 1321;
+        x = (x ^ (x >>> 10)) * 27659 + y;
+        y = y + (x & 48694) - 1322;
+        x = (x ^ (x >>> 11)) * 26043 + y;
+        y = y + (x & 56613) - 1323;
+        x = (x ^ (x >>> 12)) * 24429 + y;
+        y = y + (x & 64532) - 1324;
+        x = (x ^ (x >>> 13)) * 22813 + y;
+        y = y + (x & 6915) - 1325;
+        x = (x ^ (x >>> 1)) * 21199 + y;
+        y = y + (x & 14834) - 1326;
+        x = (x ^ (x >>> 2)) * 19583 + y;
+        y = y + (x & 22753) - 1327;
+        x = (x ^ (x >>> 3)) * 17969 + y;
+        y = y + (x & 30672) - 1328;
+        x = (x ^ (x >>> 4)) * 16353 + y;
+        y = y + (x & 38591) - 1329;
+        x = (x ^ (x >>> 5)) * 14739 + y;
+        y = y + (x & 46510) - 1330;
+        x = (x ^ (x >>> 6)) * 13123 + y;
+        y = y + (x & 54429) - 1331;
+        x = (x ^ (x >>> 7)) * 11509 + y;
+        y = y + (x & 62348) - 1332;
+        x = (x ^ (x >>> 8)) * 9893 + y;
+        y = y + (x & 4731) - 1333;
+        x = (x ^ (x >>> 9)) * 8279 + y;
+        y = y + (x & 12650) - 1334;
+        x = (x ^ (x >>> 10)) * 6663 + y;
+        y = y + (x & 20569) - 1335;
+        x = (x ^ (x >>> 11)) * 5049 + y;
+        y = y + (x & 28488) - 1336;
+        x = (x ^ (x >>> 12)) * 3433 + y;
+        y = y + (x & 36407) - 1337;
+        x = (x ^ (x >>> 13)) * 1819 + y;
+        y = y + (x & 44326) - 1338;
+        x = (x ^ (x >>> 1)) * 203 + y;
+        y = y + (x & 52245) - 1339;
+        x = (x ^ (x >>> 2)) * 31357 + y;
+        y = y + (x & 60164) - 1340;
+        x = (x ^ (x >>> 3)) * 29741 + y;
+        y = y + (x & 2547) - 1341;
+        x = (x ^ (x >>> 4)) * 28127 + y;
+        y = y + (x & 10466) - 1342;
+        x = (x ^ (x >>> 5)) * 26511 + y;
+        y = y + (x & 18385) - 1343;
+        x = (x ^ (x >>> 6)) * 24897 + y;
+        y = y + (x & 26304) - 1344;
+        x = (x ^ (x >>> 7)) * 23281 + y;
+        y = y + (x & 34223) - 1345;
+        x = (x ^ (x >>> 8)) * 21667 + y;
+        y = y + (x & 42142) - 1346;
+        x = (x ^ (x >>> 9)) * 20051 + y;
+        y = y + (x & 50061) - 1347;
+        x = (x ^ (x >>> 10)) * 18437 + y;
+        y = y + (x & 57980) - 1348;
+        x = (x ^ (x >>> 11)) * 16821 + y;
+        y = y + (x & 363) - 1349;
+        x = (x ^ (x >>> 12)) * 15207 + y;
+        y = y + (x & 8282) - 1350;
+        x = (x ^ (x >>> 13)) * 13591 + y;
+        y = y + (x & 16201) - 1351;
+        x = (x ^ (x >>> 1)) * 11977 + y;
+        y = y + (x & 24120) - 1352;
+        x = (x ^ (x >>> 2)) * 10361 + y;
+        y = y + (x & 32039) - 1353;
+        x = (x ^ (x >>> 3)) * 8747 + y;
+        y = y + (x & 39958) - 1354;
+        x = (x ^ (x >>> 4)) * 7131 + y;
+        y = y + (x & 47877) - 1355;
+        x = (x ^ (x >>> 5)) * 5517 + y;
+        y = y + (x & 55796) - 1356;
+        x = (x ^ (x >>> 6)) * 3901 + y;
+        y = y + (x & 63715) - 1357;
+        x = (x ^ (x >>> 7)) * 2287 + y;
+        y = y + (x & 6098) - 1358;
+        x = (x ^ (x >>> 8)) * 671 + y;
+        y = y + (x & 14017) - 1359;
+        x = (x ^ (x >>> 9)) * 31825 + y;
+        y = y + (x & 21936) - 1360;
+        x = (x ^ (x >>> 10)) * 30209 + y;
+        y = y + (x & 29855) - 1361;
+        x = (x ^ (x >>> 11)) * 28595 + y;
+        y = y + (x & 37774) - 1362;
+        x = (x ^ (x >>> 12)) * 26979 + y;
+        y = y + (x & 45693) - 1363;
+        x = (x ^ (x >>> 13)) * 25365 + y;
+        y = y + (x & 53612) - 1364;
+        x = (x ^ (x >>> 1)) * 23749 + y;
+        y = y + (x & 61531) - 1365;
+        x = (x ^ (x >>> 2)) * 22135 + y;
+        y = y + (x & 3914) - 1366;
+        x = (x ^ (x >>> 3)) * 20519 + y;
+        y = y + (x & 11833) - 1367;
+        x = (x ^ (x >>> 4)) * 18905 + y;
+        y = y + (x & 19752) - 1368;
+        x = (x ^ (x >>> 5)) * 17289 + y;
+        y = y + (x & 27671) - 1369;
+        x = (x ^ (x >>> 6)) * 15675 + y;
+        y = y + (x & 35590) - 1370;
+        x = (x ^ (x >>> 7)) * 14059 + y;
+        y = y + (x & 43509) - 1371;
+        x = (x ^ (x >>> 8)) * 12445 + y;
+        y = y + (x & 51428) - 1372;
+        x = (x ^ (x >>> 9)) * 10829 + y;
+        y = y + (x & 59347) - 1373;
+        x = (x ^ (x >>> 10)) * 9215 + y;
+        y = y + (x & 1730) - 1374;
+        x = (x ^ (x >>> 11)) * 7599 + y;
+        y = y + (x & 9649) - 1375;
+        x = (x ^ (x >>> 12)) * 5985 + y;
+        y = y + (x & 17568) - 1376;
+        x = (x ^ (x >>> 13)) * 4369 + y;
+        y = y + (x & 25487) - 1377;
+        x = (x ^ (x >>> 1)) * 2755 + y;
+        y = y + (x & 33406) - 1378;
+        x = (x ^ (x >>> 2)) * 1139 + y;
+        y = y + (x & 41325) - 1379;
+        x = (x ^ (x >>> 3)) * 32293 + y;
+        y = y + (x & 49244) - 1380;
+        x = (x ^ (x >>> 4)) * 30677 + y;
+        y = y + (x & 57163) - 1381;
+        x = (x ^ (x >>> 5)) * 29063 + y;
+        y = y + (x & 65082) - 1382;
+        x = (x ^ (x >>> 6)) * 27447 + y;
+        y = y + (x & 7465) - 1383;
+        x = (x ^ (x >>> 7)) * 25833 + y;
+        y = y + (x & 15384) - 1384;
+        x = (x ^ (x >>> 8)) * 24217 + y;
+        y = y + (x & 23303) - 1385;
+        x = (x ^ (x >>> 9)) * 22603 + y;
+        y = y + (x & 31222) - 1386;
+        x = (x ^ (x >>> 10)) * 20987 + y;
+        y = y + (x & 39141) - 1387;
+        x = (x ^ (x >>> 11)) * 19373 + y;
+        y = y + (x & 47060) - 1388;
+        x = (x ^ (x >>> 12)) * 17757 + y;
+        y = y + (x & 54979) - 1389;
+        x = (x ^ (x >>> 13)) * 16143 + y;
+        y = y + (x & 62898) - 1390;
+        x = (x ^ (x >>> 1)) * 14527 + y;
+        y = y + (x & 5281) - 1391;
+        x = (x ^ (x >>> 2)) * 12913 + y;
+        y = y + (x & 13200) - 1392;
+        x = (x ^ (x >>> 3)) * 11297 + y;
+        y = y + (x & 21119) - 1393;
+        x = (x ^ (x >>> 4)) * 9683 + y;
+        y = y + (x & 29038) - 1394;
+        x = (x ^ (x >>> 5)) * 8067 + y;
+        y = y + (x & 36957) - 1395;
+        x = (x ^ (x >>> 6)) * 6453 + y;
+        y = y + (x & 44876) - 1396;
+        x = (x ^ (x >>> 7)) * 4837 + y;
+        y = y + (x & 52795) - 1397;
+        x = (x ^ (x >>> 8)) * 3223 + y;
+        y = y + (x & 60714) - 1398;
+        x = (x ^ (x >>> 9)) * 1607 + y;
+        y = y + (x & 3097) - 1399;
+        x = (x ^ (x >>> 10)) * 32761 + y;
+        y = y + (x & 11016) - 1400;
+        x = (x ^ (x >>> 11)) * 31145 + y;
+        y = y + (x & 18935) - 1401;
+        x = (x ^ (x >>> 12)) * 29531 + y;
+        y = y + (x & 26854) - 1402;
+        x = (x ^ (x >>> 13)) * 27915 + y;
+        y = y + (x & 34773) - 1403;
+        x = (x ^ (x >>> 1)) * 26301 + y;
+        y = y + (x & 42692) - 1404;
+        x = (x ^ (x >>> 2)) * 24685 + y;
+        y = y + (x & 50611) - 1405;
+        x = (x ^ (x >>> 3)) * 23071 + y;
+        y = y + (x & 58530) - 1406;
+        x = (x ^ (x >>> 4)) * 21455 + y;
+        y = y + (x & 913) - 1407;
+        x = (x ^ (x >>> 5)) * 19841 + y;
+        y = y + (x & 8832) - 1408;
+        x = (x ^ (x >>> 6)) * 18225 + y;
+        y = y + (x & 16751) - 1409;
+        x = (x ^ (x >>> 7)) * 16611 + y;
+        y = y + (x & 24670) - 1410;
+        x = (x ^ (x >>> 8)) * 14995 + y;
+        y = y + (x & 32589) - 1411;
+        x = (x ^ (x >>> 9)) * 13381 + y;
+        y = y + (x & 40508) - 1412;
+        x = (x ^ (x >>> 10)) * 11765 + y;
+        y = y + (x & 48427) - 1413;
+        x = (x ^ (x >>> 11)) * 10151 + y;
+        y = y + (x & 56346) - 1414;
+        x = (x ^ (x >>> 12)) * 8535 + y;
+        y = y + (x & 64265) - 1415;
+        x = (x ^ (x >>> 13)) * 6921 + y;
+        y = y + (x & 6648) - 1416;
+        x = (x ^ (x >>> 1)) * 5305 + y;
+        y = y + (x & 14567) - 1417;
+        x = (x ^ (x >>> 2)) * 3691 + y;
+        y = y + (x & 22486) - 1418;
+        x = (x ^ (x >>> 3)) * 2075 + y;
+        y = y + (x & 30405) - 1419;
+        x = (x ^ (x >>> 4)) * 461 + y;
+        y = y + (x & 38324) - 1420;
+        x = (x ^ (x >>> 5)) * 31613 + y;
+        y = y + (x & 46243) - 1421;
+        x = (x ^ (x >>> 6)) * 29999 + y;
+        y = y + (x & 54162) - 1422;
+        x = (x ^ (x >>> 7)) * 28383 + y;
+        y = y + (x & 62081) - 1423;
+        x = (x ^ (x >>> 8)) * 26769 + y;
+        y = y + (x & 4464) - 1424;
+        x = (x ^ (x >>> 9)) * 25153 + y;
+        y = y + (x & 12383) - 1425;
+        x = (x ^ (x >>> 10)) * 23539 + y;
+        y = y + (x & 20302) - 1426;
+        x = (x ^ (x >>> 11)) * 21923 + y;
+        y = y + (x & 28221) - 1427;
+        x = (x ^ (x >>> 12)) * 20309 + y;
+        y = y + (x & 36140) - 1428;
+        x = (x ^ (x >>> 13)) * 18693 + y;
+        y = y + (x & 44059) - 1429;
+        x = (x ^ (x >>> 1)) * 17079 + y;
+        y = y + (x & 51978) - 1430;
+        x = (x ^ (x >>> 2)) * 15463 + y;
+        y = y + (x & 59897) - 1431;
+        x = (x ^ (x >>> 3)) * 13849 + y;
+        y = y + (x & 2280) - 1432;
+        x = (x ^ (x >>> 4)) * 12233 + y;
+        y = y + (x & 10199) - 1433;
+        x = (x ^ (x >>> 5)) * 10619 + y;
+        y = y + (x & 18118) - 1434;
+        x = (x ^ (x >>> 6)) * 9003 + y;
+        y = y + (x & 26037) - 1435;
+        x = (x ^ (x >>> 7)) * 7389 + y;
+        y = y + (x & 33956) - 1436;
+        x = (x ^ (x >>> 8)) * 5773 + y;
+        y = y + (x & 41875) - 1437;
+        x = (x ^ (x >>> 9)) * 4159 + y;
+        y = y + (x & 49794) - 1438;
+        x = (x ^ (x >>> 10)) * 2543 + y;
+        y = y + (x & 57713) - 1439;
+        x = (x ^ (x >>> 11)) * 929 + y;
+        y = y + (x & 96) - 1440;
+        x = (x ^ (x >>> 12)) * 32081 + y;
+        y = y + (x & 8015) - 1441;
+        x = (x ^ (x >>> 13)) * 30467 + y;
+        y = y + (x & 15934) - 1442;
+        x = (x ^ (x >>> 1)) * 28851 + y;
+        y = y + (x & 23853) - 1443;
+        x = (x ^ (x >>> 2)) * 27237 + y;
+        y = y + (x & 31772) - 1444;
+        x = (x ^ (x >>> 3)) * 25621 + y;
+        y = y + (x & 39691) - 1445;
+        x = (x ^ (x >>> 4)) * 24007 + y;
+        y = y + (x & 47610) - 1446;
+        x = (x ^ (x >>> 5)) * 22391 + y;
+        y = y + (x & 55529) - 1447;
+        x = (x ^ (x >>> 6)) * 20777 + y;
+        y = y + (x & 63448) - 1448;
+        x = (x ^ (x >>> 7)) * 19161 + y;
+        y = y + (x & 5831) - 1449;
+        x = (x ^ (x >>> 8)) * 17547 + y;
+        y = y + (x & 13750) - 1450;
+        x = (x ^ (x >>> 9)) * 15931 + y;
+        y = y + (x & 21669) - 1451;
+        x = (x ^ (x >>> 10)) * 14317 + y;
+        y = y + (x & 29588) - 1452;
+        x = (x ^ (x >>> 11)) * 12701 + y;
+        y = y + (x & 37507) - 1453;
+        x = (x ^ (x >>> 12)) * 11087 + y;
+        y = y + (x & 45426) - 1454;
+        x = (x ^ (x >>> 13)) * 9471 + y;
+        y = y + (x & 53345) - 1455;
+        x = (x ^ (x >>> 1)) * 7857 + y;
+        y = y + (x & 61264) - 1456;
+        x = (x ^ (x >>> 2)) * 6241 + y;
+        y = y + (x & 3647) - 1457;
+        x = (x ^ (x >>> 3)) * 4627 + y;
+        y = y + (x & 11566) - 1458;
+        x = (x ^ (x >>> 4)) * 3011 + y;
+        y = y + (x & 19485) - 1459;
+        x = (x ^ (x >>> 5)) * 1397 + y;
+        y = y + (x & 27404) - 1460;
+        x = (x ^ (x >>> 6)) * 32549 + y;
+        y = y + (x & 35323) - 1461;
+        x = (x ^ (x >>> 7)) * 30935 + y;
+        y = y + (x & 43242) - 1462;
+        x = (x ^ (x >>> 8)) * 29319 + y;
+        y = y + (x & 51161) - 1463;
+        x = (x ^ (x >>> 9)) * 27705 + y;
+        y = y + (x & 59080) - 1464;
+        x = (x ^ (x >>> 10)) * 26089 + y;
+        y = y + (x & 1463) - 1465;
+        x = (x ^ (x >>> 11)) * 24475 + y;
+        y = y + (x & 9382) - 1466;
+        x = (x ^ (x >>> 12)) * 22859 + y;
+        y = y + (x & 17301) - 1467;
+        x = (x ^ (x >>> 13)) * 21245 + y;
+        y = y + (x & 25220) - 1468;
+        x = (x ^ (x >>> 1)) * 19629 + y;
+        y = y + (x & 33139) - 1469;
+        x = (x ^ (x >>> 2)) * 18015 + y;
+        y = y + (x & 41058) - 1470;
+        x = (x ^ (x >>> 3)) * 16399 + y;
+        y = y + (x & 48977) - 1471;
+        x = (x ^ (x >>> 4)) * 14785 + y;
+        y = y + (x & 56896) - 1472;
+        x = (x ^ (x >>> 5)) * 13169 + y;
+        y = y + (x & 64815) - 1473;
+        x = (x ^ (x >>> 6)) * 11555 + y;
+        y = y + (x & 7198) - 1474;
+        x = (x ^ (x >>> 7)) * 9939 + y;
+        y = y + (x & 15117) - 1475;
+        x = (x ^ (x >>> 8)) * 8325 + y;
+        y = y + (x & 23036) - 1476;
+        x = (x ^ (x >>> 9)) * 6709 + y;
+        y = y + (x & 30955) - 1477;
+        x = (x ^ (x >>> 10)) * 5095 + y;
+        y = y + (x & 38874) - 1478;
+        x = (x ^ (x >>> 11)) * 3479 + y;
+        y = y + (x & 46793) - 1479;
+        x = (x ^ (x >>> 12)) * 1865 + y;
+        y = y + (x & 54712) - 1480;
+        x = (x ^ (x >>> 13)) * 249 + y;
+        y = y + (x & 62631) - 1481;
+        x = (x ^ (x >>> 1)) * 31403 + y;
+        y = y + (x & 5014) - 1482;
+        x = (x ^ (x >>> 2)) * 29787 + y;
+        y = y + (x & 12933) - 1483;
+        x = (x ^ (x >>> 3)) * 28173 + y;
+        y = y + (x & 20852) - 1484;
+        x = (x ^ (x >>> 4)) * 26557 + y;
+        y = y + (x & 28771) - 1485;
+        x = (x ^ (x >>> 5)) * 24943 + y;
+        y = y + (x & 36690) - 1486;
+        x = (x ^ (x >>> 6)) * 23327 + y;
+        y = y + (x & 44609) - 1487;
+        x = (x ^ (x >>> 7)) * 21713 + y;
+        y = y + (x & 52528) - 1488;
+        x = (x ^ (x >>> 8)) * 20097 + y;
+        y = y + (x & 60447) - 1489;
+        x = (x ^ (x >>> 9)) * 18483 + y;
+        y = y + (x & 2830) - 1490;
+        x = (x ^ (x >>> 10)) * 16867 + y;
+        y = y + (x & 10749) - 1491;
+        x = (x ^ (x >>> 11)) * 15253 + y;
+        y = y + (x & 18668) - 1492;
+        x = (x ^ (x >>> 12)) * 13637 + y;
+        y = y + (x & 26587) - 1493;
+        x = (x ^ (x >>> 13)) * 12023 + y;
+        y = y + (x & 34506) - 1494;
+        x = (x ^ (x >>> 1)) * 10407 + y;
+        y = y + (x & 42425) - 1495;
+        x = (x ^ (x >>> 2)) * 8793 + y;
+        y = y + (x & 50344) - 1496;
+        x = (x ^ (x >>> 3)) * 7177 + y;
+        y = y + (x & 58263) - 1497;
+        x = (x ^ (x >>> 4)) * 5563 + y;
+        y = y + (x & 646) - 1498;
+        x = (x ^ (x >>> 5)) * 3947 + y;
+        y = y + (x & 8565) - 1499;
+        x = (x ^ (x >>> 6)) * 2333 + y;
+        y = y + (x & 16484) - 1500;
+        x = (x ^ (x >>> 7)) * 717 + y;
+        y = y + (x & 24403) - 1501;
+        x = (x ^ (x >>> 8)) * 31871 + y;
+        y = y + (x & 32322) - 1502;
+        x = (x ^ (x >>> 9)) * 30255 + y;
+        y = y + (x & 40241) - 1503;
+        x = (x ^ (x >>> 10)) * 28641 + y;
+        y = y + (x & 48160) - 1504;
+        x = (x ^ (x >>> 11)) * 27025 + y;
+        y = y + (x & 56079) - 1505;
+        x = (x ^ (x >>> 12)) * 25411 + y;
+        y = y + (x & 63998) - 1506;
+        x = (x ^ (x >>> 13)) * 23795 + y;
+        y = y + (x & 6381) - 1507;
+        x = (x ^ (x >>> 1)) * 22181 + y;
+        y = y + (x & 14300) - 1508;
+        x = (x ^ (x >>> 2)) * 20565 + y;
+        y = y + (x & 22219) - 1509;
+        x = (x ^ (x >>> 3)) * 18951 + y;
+        y = y + (x & 30138) - 1510;
+        x = (x ^ (x >>> 4)) * 17335 + y;
+        y = y + (x & 38057) - 1511;
+        x = (x ^ (x >>> 5)) * 15721 + y;
+        y = y + (x & 45976) - 1512;
+        x = (x ^ (x >>> 6)) * 14105 + y;
+        y = y + (x & 53895) - 1513;
+        x = (x ^ (x >>> 7)) * 12491 + y;
+        y = y + (x & 61814) - 1514;
+        x = (x ^ (x >>> 8)) * 10875 + y;
+        y = y + (x & 4197) - 1515;
+        x = (x ^ (x >>> 9)) * 9261 + y;
+        y = y + (x & 12116) - 1516;
+        x = (x ^ (x >>> 10)) * 7645 + y;
+        y = y + (x & 20035) - 1517;
+        x = (x ^ (x >>> 11)) * 6031 + y;
+        y = y + (x & 27954) - 1518;
+        x = (x ^ (x >>> 12)) * 4415 + y;
+        y = y + (x & 35873) - 1519;
+        x = (x ^ (x >>> 13)) * 2801 + y;
+        y = y + (x & 43792) - 1520;
+        x = (x ^ (x >>> 1)) * 1185 + y;
+        y = y + (x & 51711) - 1521;
+        x = (x ^ (x >>> 2)) * 32339 + y;
+        y = y + (x & 59630) - 1522;
+        x = (x ^ (x >>> 3)) * 30723 + y;
+        y = y + (x & 2013) - 1523;
+        x = (x ^ (x >>> 4)) * 29109 + y;
+        y = y + (x & 9932) - 1524;
+        x = (x ^ (x >>> 5)) * 27493 + y;
+        y = y + (x & 17851) - 1525;
+        x = (x ^ (x >>> 6)) * 25879 + y;
+        y = y + (x & 25770) - 1526;
+        x = (x ^ (x >>> 7)) * 24263 + y;
+        y = y + (x & 33689) - 1527;
+        x = (x ^ (x >>> 8)) * 22649 + y;
+        y = y + (x & 41608) - 1528;
+        x = (x ^ (x >>> 9)) * 21033 + y;
+        y = y + (x & 49527) - 1529;
+        x = (x ^ (x >>> 10)) * 19419 + y;
+        y = y + (x & 57446) - 1530;
+        x = (x ^ (x >>> 11)) * 17803 + y;
+        y = y + (x & 65365) - 1531;
+        x = (x ^ (x >>> 12)) * 16189 + y;
+        y = y + (x & 7748) - 1532;
+        x = (x ^ (x >>> 13)) * 14573 + y;
+        y = y + (x & 15667) - 1533;
+        x = (x ^ (x >>> 1)) * 12959 + y;
+        y = y + (x & 23586) - 1534;
+        x = (x ^ (x >>> 2)) * 11343 + y;
+        y = y + (x & 31505) - 1535;
+        x = (x ^ (x >>> 3)) * 9729 + y;
+        y = y + (x & 39424) - 1536;
+        x = (x ^ (x >>> 4)) * 8113 + y;
+        y = y + (x & 47343) - 1537;
+        x = (x ^ (x >>> 5)) * 6499 + y;
+        y = y + (x & 55262) - 1538;
+        x = (x ^ (x >>> 6)) * 4883 + y;
+        y = y + (x & 63181) - 1539;
+        x = (x ^ (x >>> 7)) * 3269 + y;
+        y = y + (x & 5564) - 1540;
+        x = (x ^ (x >>> 8)) * 1653 + y;
+        y = y + (x & 13483) - 1541;
+        x = (x ^ (x >>> 9)) * 39 + y;
+        y = y + (x & 21402) - 1542;
+        x = (x ^ (x >>> 10)) * 31191 + y;
+        y = y + (x & 29321) - 1543;
+        x = (x ^ (x >>> 11)) * 29577 + y;
+        y = y + (x & 37240) - 1544;
+        x = (x ^ (x >>> 12)) * 27961 + y;
+        y = y + (x & 45159) - 1545;
+        x = (x ^ (x >>> 13)) * 26347 + y;
+        y = y + (x & 53078) - 1546;
+        x = (x ^ (x >>> 1)) * 24731 + y;
+        y = y + (x & 60997) - 1547;
+        x = (x ^ (x >>> 2)) * 23117 + y;
+        y = y + (x & 3380) - 1548;
+        x = (x ^ (x >>> 3)) * 21501 + y;
+        y = y + (x & 11299) - 1549;
+        x = (x ^ (x >>> 4)) * 19887 + y;
+        y = y + (x & 19218) - 1550;
+        x = (x ^ (x >>> 5)) * 18271 + y;
+        y = y + (x & 27137) - 1551;
+        x = (x ^ (x >>> 6)) * 16657 + y;
+        y = y + (x & 35056) - 1552;
+        x = (x ^ (x >>> 7)) * 15041 + y;
+        y = y + (x & 42975) - 1553;
+        x = (x ^ (x >>> 8)) * 13427 + y;
+        y = y + (x & 50894) - 1554;
+        x = (x ^ (x >>> 9)) * 11811 + y;
+        y = y + (x & 58813) - 1555;
+        x = (x ^ (x >>> 10)) * 10197 + y;
+        y = y + (x & 1196) - 1556;
+        x = (x ^ (x >>> 11)) * 8581 + y;
+        y = y + (x & 9115) - 1557;
+        x = (x ^ (x >>> 12)) * 6967 + y;
+        y = y + (x & 17034) - 1558;
+        x = (x ^ (x >>> 13)) * 5351 + y;
+        y = y + (x & 24953) - 1559;
+        x = (x ^ (x >>> 1)) * 3737 + y;
+        y = y + (x & 32872) - 1560;
+        x = (x ^ (x >>> 2)) * 2121 + y;
+        y = y + (x & 40791) - 1561;
+        x = (x ^ (x >>> 3)) * 507 + y;
+        y = y + (x & 48710) - 1562;
+        x = (x ^ (x >>> 4)) * 31659 + y;
+        y = y + (x & 56629) - 1563;
+        x = (x ^ (x >>> 5)) * 30045 + y;
+        y = y + (x & 64548) - 1564;
+        x = (x ^ (x >>> 6)) * 28429 + y;
+        y = y + (x & 6931) - 1565;
+        x = (x ^ (x >>> 7)) * 26815 + y;
+        y = y + (x & 14850) - 1566;
+        x = (x ^ (x >>> 8)) * 25199 + y;
+        y = y + (x & 22769) - 1567;
+        x = (x ^ (x >>> 9)) * 23585 + y;
+        y = y + (x & 30688) - 1568;
+        x = (x ^ (x >>> 10)) * 21969 + y;
+        y = y + (x & 38607) - 1569;
+        x = (x ^ (x >>> 11)) * 20355 + y;
+        y = y + (x & 46526) - 1570;
+        x = (x ^ (x >>> 12)) * 18739 + y;
+        y = y + (x & 54445) - 1571;
+        x = (x ^ (x >>> 13)) * 17125 + y;
+        y = y + (x & 62364) - 1572;
+        x = (x ^ (x >>> 1)) * 15509 + y;
+        y = y + (x & 4747) - 1573;
+        x = (x ^ (x >>> 2)) * 13895 + y;
+        y = y + (x & 12666) - 1574;
+        x = (x ^ (x >>> 3)) * 12279 + y;
+        y = y + (x & 20585) - 1575;
+        x = (x ^ (x >>> 4)) * 10665 + y;
+        y = y + (x & 28504) - 1576;
+        x = (x ^ (x >>> 5)) * 9049 + y;
+        y = y + (x & 36423) - 1577;
+        x = (x ^ (x >>> 6)) * 7435 + y;
+        y = y + (x & 44342) - 1578;
+        x = (x ^ (x >>> 7)) * 5819 + y;
+        y = y + (x & 52261) - 1579;
+        x = (x ^ (x >>> 8)) * 4205 + y;
+        y = y + (x & 60180) - 1580;
+        x = (x ^ (x >>> 9)) * 2589 + y;
+        y = y + (x & 2563) - 1581;
+        x = (x ^ (x >>> 10)) * 975 + y;
+        y = y + (x & 10482) - 1582;
+        x = (x ^ (x >>> 11)) * 32127 + y;
+        y = y + (x & 18401) - 1583;
+        x = (x ^ (x >>> 12)) * 30513 + y;
+        y = y + (x & 26320) - 1584;
+        x = (x ^ (x >>> 13)) * 28897 + y;
+        y = y + (x & 34239) - 1585;
+        x = (x ^ (x >>> 1)) * 27283 + y;
+        y = y + (x & 42158) - 1586;
+        x = (x ^ (x >>> 2)) * 25667 + y;
+        y = y + (x & 50077) - 1587;
+        x = (x ^ (x >>> 3)) * 24053 + y;
+        y = y + (x & 57996) - 1588;
+        x = (x ^ (x >>> 4)) * 22437 + y;
+        y = y + (x & 379) - 1589;
+        x = (x ^ (x >>> 5)) * 20823 + y;
+        y = y + (x & 8298) - 1590;
+        x = (x ^ (x >>> 6)) * 19207 + y;
+        y = y + (x & 16217) - 1591;
+        x = (x ^ (x >>> 7)) * 17593 + y;
+        y = y + (x & 24136) - 1592;
+        x = (x ^ (x >>> 8)) * 15977 + y;
+        y = y + (x & 32055) - 1593;
+        x = (x ^ (x >>> 9)) * 14363 + y;
+        y = y + (x & 39974) - 1594;
+        x = (x ^ (x >>> 10)) * 12747 + y;
+        y = y + (x & 47893) - 1595;
+        x = (x ^ (x >>> 11)) * 11133 + y;
+        y = y + (x & 55812) - 1596;
+        x = (x ^ (x >>> 12)) * 9517 + y;
+        y = y + (x & 63731) - 1597;
+        x = (x ^ (x >>> 13)) * 7903 + y;
+        y = y + (x & 6114) - 1598;
+        x = (x ^ (x >>> 1)) * 6287 + y;
+        y = y + (x & 14033) - 1599;
+        x = (x ^ (x >>> 2)) * 4673 + y;
+        y = y + (x & 21952) - 1600;
+        x = (x ^ (x >>> 3)) * 3057 + y;
+        y = y + (x & 29871) - 1601;
+        x = (x ^ (x >>> 4)) * 1443 + y;
+        y = y + (x & 37790) - 1602;
+        x = (x ^ (x >>> 5)) * 32595 + y;
+        y = y + (x & 45709) - 1603;
+        x = (x ^ (x >>> 6)) * 30981 + y;
+        y = y + (x & 53628) - 1604;
+        x = (x ^ (x >>> 7)) * 29365 + y;
+        y = y + (x & 61547) - 1605;
+        x = (x ^ (x >>> 8)) * 27751 + y;
+        y = y + (x & 3930) - 1606;
+        x = (x ^ (x >>> 9)) * 26135 + y;
+        y = y + (x & 11849) - 1607;
+        x = (x ^ (x >>> 10)) * 24521 + y;
+        y = y + (x & 19768) - 1608;
+        x = (x ^ (x >>> 11)) * 22905 + y;
+        y = y + (x & 27687) - 1609;
+        x = (x ^ (x >>> 12)) * 21291 + y;
+        y = y + (x & 35606) - 1610;
+        x = (x ^ (x >>> 13)) * 19675 + y;
+        y = y + (x & 43525) - 1611;
+        x = (x ^ (x >>> 1)) * 18061 + y;
+        y = y + (x & 51444) - 1612;
+        x = (x ^ (x >>> 2)) * 16445 + y;
+        y = y + (x & 59363) - 1613;
+        x = (x ^ (x >>> 3)) * 14831 + y;
+        y = y + (x & 1746) - 1614;
+        x = (x ^ (x >>> 4)) * 13215 + y;
+        y = y + (x & 9665) - 1615;
+        x = (x ^ (x >>> 5)) * 11601 + y;
+        y = y + (x & 17584) - 1616;
+        x = (x ^ (x >>> 6)) * 9985 + y;
+        y = y + (x & 25503) - 1617;
+        x = (x ^ (x >>> 7)) * 8371 + y;
+        y = y + (x & 33422) - 1618;
+        x = (x ^ (x >>> 8)) * 6755 + y;
+        y = y + (x & 41341) - 1619;
+        x = (x ^ (x >>> 9)) * 5141 + y;
+        y = y + (x & 49260) - 1620;
+        x = (x ^ (x >>> 10)) * 3525 + y;
+        y = y + (x & 57179) - 1621;
+        x = (x ^ (x >>> 11)) * 1911 + y;
+        y = y + (x & 65098) - 1622;
+        x = (x ^ (x >>> 12)) * 295 + y;
+        y = y + (x & 7481) - 1623;
+        x = (x ^ (x >>> 13)) * 31449 + y;
+        y = y + (x & 15400) - 1624;
+        x = (x ^ (x >>> 1)) * 29833 + y;
+        y = y + (x & 23319) - 1625;
+        x = (x ^ (x >>> 2)) * 28219 + y;
+        y = y + (x & 31238) - 1626;
+        x = (x ^ (x >>> 3)) * 26603 + y;
+        y = y + (x & 39157) - 1627;
+        x = (x ^ (x >>> 4)) * 24989 + y;
+        y = y + (x & 47076) - 1628;
+        x = (x ^ (x >>> 5)) * 23373 + y;
+        y = y + (x & 54995) - 1629;
+        x = (x ^ (x >>> 6)) * 21759 + y;
+        y = y + (x & 62914) - 1630;
+        x = (x ^ (x >>> 7)) * 20143 + y;
+        y = y + (x & 5297) - 1631;
+        x = (x ^ (x >>> 8)) * 18529 + y;
+        y = y + (x & 13216) - 1632;
+        x = (x ^ (x >>> 9)) * 16913 + y;
+        y = y + (x & 21135) - 1633;
+        x = (x ^ (x >>> 10)) * 15299 + y;
+        y = y + (x & 29054) - 1634;
+        x = (x ^ (x >>> 11)) * 13683 + y;
+        y = y + (x & 36973) - 1635;
+        x = (x ^ (x >>> 12)) * 12069 + y;
+        y = y + (x & 44892) - 1636;
+        x = (x ^ (x >>> 13)) * 10453 + y;
+        y = y + (x & 52811) - 1637;
+        x = (x ^ (x >>> 1)) * 8839 + y;
+        y = y + (x & 60730) - 1638;
+        x = (x ^ (x >>> 2)) * 7223 + y;
+        y = y + (x & 3113) - 1639;
+        x = (x ^ (x >>> 3)) * 5609 + y;
+        y = y + (x & 11032) - 1640;
+        x = (x ^ (x >>> 4)) * 3993 + y;
+        y = y + (x & 18951) - 1641;
+        x = (x ^ (x >>> 5)) * 2379 + y;
+        y = y + (x & 26870) - 1642;
+        x = (x ^ (x >>> 6)) * 763 + y;
+        y = y + (x & 34789) - 1643;
+        x = (x ^ (x >>> 7)) * 31917 + y;
+        y = y + (x & 42708) - 1644;
+        x = (x ^ (x >>> 8)) * 30301 + y;
+        y = y + (x & 50627) - 1645;
+        x = (x ^ (x >>> 9)) * 28687 + y;
+        y = y + (x & 58546) - 1646;
+        x = (x ^ (x >>> 10)) * 27071 + y;
+        y = y + (x & 929) - 1647;
+        x = (x ^ (x >>> 11)) * 25457 + y;
+        y = y + (x & 8848) - 1648;
+        x = (x ^ (x >>> 12)) * 23841 + y;
+        y = y + (x & 16767) - 1649;
+        x = (x ^ (x >>> 13)) * 22227 + y;
+        y = y + (x & 24686) - 1650;
+        x = (x ^ (x >>> 1)) * 20611 + y;
+        y = y + (x & 32605) - 1651;
+        x = (x ^ (x >>> 2)) * 18997 + y;
+        y = y + (x & 40524) - 1652;
+        x = (x ^ (x >>> 3)) * 17381 + y;
+        y = y + (x & 48443) - 1653;
+        x = (x ^ (x >>> 4)) * 15767 + y;
+        y = y + (x & 56362) - 1654;
+        x = (x ^ (x >>> 5)) * 14151 + y;
+        y = y + (x & 64281) - 1655;
+        x = (x ^ (x >>> 6)) * 12537 + y;
+        y = y + (x & 6664) - 1656;
+        x = (x ^ (x >>> 7)) * 10921 + y;
+        y = y + (x & 14583) - 1657;
+        x = (x ^ (x >>> 8)) * 9307 + y;
+        y = y + (x & 22502) - 1658;
+        x = (x ^ (x >>> 9)) * 7691 + y;
+        y = y + (x & 30421) - 1659;
+        x = (x ^ (x >>> 10)) * 6077 + y;
+        y = y + (x & 38340) - 1660;
+        x = (x ^ (x >>> 11)) * 4461 + y;
+        y = y + (x & 46259) - 1661;
+        x = (x ^ (x >>> 12)) * 2847 + y;
+        y = y + (x & 54178) - 1662;
+        x = (x ^ (x >>> 13)) * 1231 + y;
+        y = y + (x & 62097) - 1663;
+        x = (x ^ (x >>> 1)) * 32385 + y;
+        y = y + (x & 4480) - 1664;
+        x = (x ^ (x >>> 2)) * 30769 + y;
+        y = y + (x & 12399) - 1665;
+        x = (x ^ (x >>> 3)) * 29155 + y;
+        y = y + (x & 20318) - 1666;
+        x = (x ^ (x >>> 4)) * 27539 + y;
+        y = y + (x & 28237) - 1667;
+        x = (x ^ (x >>> 5)) * 25925 + y;
+        y = y + (x & 36156) - 1668;
+        x = (x ^ (x >>> 6)) * 24309 + y;
+        y = y + (x & 44075) - 1669;
+        x = (x ^ (x >>> 7)) * 22695 + y;
+        y = y + (x & 51994) - 1670;
+        x = (x ^ (x >>> 8)) * 21079 + y;
+        y = y + (x & 59913) - 1671;
+        x = (x ^ (x >>> 9)) * 19465 + y;
+        y = y + (x & 2296) - 1672;
+        x = (x ^ (x >>> 10)) * 17849 + y;
+        y = y + (x & 10215) - 1673;
+        x = (x ^ (x >>> 11)) * 16235 + y;
+        y = y + (x & 18134) - 1674;
+        x = (x ^ (x >>> 12)) * 14619 + y;
+        y = y + (x & 26053) - 1675;
+        x = (x ^ (x >>> 13)) * 13005 + y;
+        y = y + (x & 33972) - 1676;
+        x = (x ^ (x >>> 1)) * 11389 + y;
+        y = y + (x & 41891) - 1677;
+        x = (x ^ (x >>> 2)) * 9775 + y;
+        y = y + (x & 49810) - 1678;
+        x = (x ^ (x >>> 3)) * 8159 + y;
+        y = y + (x & 57729) - 1679;
+        x = (x ^ (x >>> 4)) * 6545 + y;
+        y = y + (x & 112) - 1680;
+        x = (x ^ (x >>> 5)) * 4929 + y;
+        y = y + (x & 8031) - 1681;
+        x = (x ^ (x >>> 6)) * 3315 + y;
+        y = y + (x & 15950) - 1682;
+        x = (x ^ (x >>> 7)) * 1699 + y;
+        y = y + (x & 23869) - 1683;
+        x = (x ^ (x >>> 8)) * 85 + y;
+        y = y + (x & 31788) - 1684;
+        x = (x ^ (x >>> 9)) * 31237 + y;
+        y = y + (x & 39707) - 1685;
+        x = (x ^ (x >>> 10)) * 29623 + y;
+        y = y + (x & 47626) - 1686;
+        x = (x ^ (x >>> 11)) * 28007 + y;
+        y = y + (x & 55545) - 1687;
+        x = (x ^ (x >>> 12)) * 26393 + y;
+        y = y + (x & 63464) - 1688;
+        x = (x ^ (x >>> 13)) * 24777 + y;
+        y = y + (x & 5847) - 1689;
+        x = (x ^ (x >>> 1)) * 23163 + y;
+        y = y + (x & 13766) - 1690;
+        x = (x ^ (x >>> 2)) * 21547 + y;
+        y = y + (x & 21685) - 1691;
+        x = (x ^ (x >>> 3)) * 19933 + y;
+        y = y + (x & 29604) - 1692;
+        x = (x ^ (x >>> 4)) * 18317 + y;
+        y = y + (x & 37523) - 1693;
+        x = (x ^ (x >>> 5)) * 16703 + y;
+        y = y + (x & 45442) - 1694;
+        x = (x ^ (x >>> 6)) * 15087 + y;
+        y = y + (x & 53361) - 1695;
+        x = (x ^ (x >>> 7)) * 13473 + y;
+        y = y + (x & 61280) - 1696;
+        x = (x ^ (x >>> 8)) * 11857 + y;
+        y = y + (x & 3663) - 1697;
+        x = (x ^ (x >>> 9)) * 10243 + y;
+        y = y + (x & 11582) - 1698;
+        x = (x ^ (x >>> 10)) * 8627 + y;
+        y = y + (x & 19501) - 1699;
+        x = (x ^ (x >>> 11)) * 7013 + y;
+        y = y + (x & 27420) - 1700;
+        x = (x ^ (x >>> 12)) * 5397 + y;
+        y = y + (x & 35339) - 1701;
+        x = (x ^ (x >>> 13)) * 3783 + y;
+        y = y + (x & 43258) - 1702;
+        x = (x ^ (x >>> 1)) * 2167 + y;
+        y = y + (x & 51177) - 1703;
+        x = (x ^ (x >>> 2)) * 553 + y;
+        y = y + (x & 59096) - 1704;
+        x = (x ^ (x >>> 3)) * 31705 + y;
+        y = y + (x & 1479) - 1705;
+        x = (x ^ (x >>> 4)) * 30091 + y;
+        y = y + (x & 9398) - 1706;
+        x = (x ^ (x >>> 5)) * 28475 + y;
+        y = y + (x & 17317) - 1707;
+        x = (x ^ (x >>> 6)) * 26861 + y;
+        y = y + (x & 25236) - 1708;
+        x = (x ^ (x >>> 7)) * 25245 + y;
+        y = y + (x & 33155) - 1709;
+        x = (x ^ (x >>> 8)) * 23631 + y;
+        y = y + (x & 41074) - 1710;
+        x = (x ^ (x >>> 9)) * 22015 + y;
+        y = y + (x & 48993) - 1711;
+        x = (x ^ (x >>> 10)) * 20401 + y;
+        y = y + (x & 56912) - 1712;
+        x = (x ^ (x >>> 11)) * 18785 + y;
+        y = y + (x & 64831) - 1713;
+        x = (x ^ (x >>> 12)) * 17171 + y;
+        y = y + (x & 7214) - 1714;
+        x = (x ^ (x >>> 13)) * 15555 + y;
+        y = y + (x & 15133) - 1715;
+        x = (x ^ (x >>> 1)) * 13941 + y;
+        y = y + (x & 23052) - 1716;
+        x = (x ^ (x >>> 2)) * 12325 + y;
+        y = y + (x & 30971) - 1717;
+        x = (x ^ (x >>> 3)) * 10711 + y;
+        y = y + (x & 38890) - 1718;
+        x = (x ^ (x >>> 4)) * 9095 + y;
+        y = y + (x & 46809) - 1719;
+        x = (x ^ (x >>> 5)) * 7481 + y;
+        y = y + (x & 54728) - 1720;
+        x = (x ^ (x >>> 6)) * 5865 + y;
+        y = y + (x & 62647) - 1721;
+        x = (x ^ (x >>> 7)) * 4251 + y;
+        y = y + (x & 5030) - 1722;
+        x = (x ^ (x >>> 8)) * 2635 + y;
+        y = y + (x & 12949) - 1723;
+        x = (x ^ (x >>> 9)) * 1021 + y;
+        y = y + (x & 20868) - 1724;
+        x = (x ^ (x >>> 10)) * 32173 + y;
+        y = y + (x & 28787) - 1725;
+        x = (x ^ (x >>> 11)) * 30559 + y;
+        y = y + (x & 36706) - 1726;
+        x = (x ^ (x >>> 12)) * 28943 + y;
+        y = y + (x & 44625) - 1727;
+        x = (x ^ (x >>> 13)) * 27329 + y;
+        y = y + (x & 52544) - 1728;
+        x = (x ^ (x >>> 1)) * 25713 + y;
+        y = y + (x & 60463) - 1729;
+        x = (x ^ (x >>> 2)) * 24099 + y;
+        y = y + (x & 2846) - 1730;
+        x = (x ^ (x >>> 3)) * 22483 + y;
+        y = y + (x & 10765) - 1731;
+        x = (x ^ (x >>> 4)) * 20869 + y;
+        y = y + (x & 18684) - 1732;
+        x = (x ^ (x >>> 5)) * 19253 + y;
+        y = y + (x & 26603) - 1733;
+        x = (x ^ (x >>> 6)) * 17639 + y;
+        y = y + (x & 34522) - 1734;
+        x = (x ^ (x >>> 7)) * 16023 + y;
+        y = y + (x & 42441) - 1735;
+        x = (x ^ (x >>> 8)) * 14409 + y;
+        y = y + (x & 50360) - 1736;
+        x = (x ^ (x >>> 9)) * 12793 + y;
+        y = y + (x & 58279) - 1737;
+        x = (x ^ (x >>> 10)) * 11179 + y;
+        y = y + (x & 662) - 1738;
+        x = (x ^ (x >>> 11)) * 9563 + y;
+        y = y + (x & 8581) - 1739;
+        x = (x ^ (x >>> 12)) * 7949 + y;
+        y = y + (x & 16500) - 1740;
+        x = (x ^ (x >>> 13)) * 6333 + y;
+        y = y + (x & 24419) - 1741;
+        x = (x ^ (x >>> 1)) * 4719 + y;
+        y = y + (x & 32338) - 1742;
+        x = (x ^ (x >>> 2)) * 3103 + y;
+        y = y + (x & 40257) - 1743;
+        x = (x ^ (x >>> 3)) * 1489 + y;
+        y = y + (x & 48176) - 1744;
+        x = (x ^ (x >>> 4)) * 32641 + y;
+        y = y + (x & 56095) - 1745;
+        x = (x ^ (x >>> 5)) * 31027 + y;
+        y = y + (x & 64014) - 1746;
+        x = (x ^ (x >>> 6)) * 29411 + y;
+        y = y + (x & 6397) - 1747;
+        x = (x ^ (x >>> 7)) * 27797 + y;
+        y = y + (x & 14316) - 1748;
+        x = (x ^ (x >>> 8)) * 26181 + y;
+        y = y + (x & 22235) - 1749;
+        x = (x ^ (x >>> 9)) * 24567 + y;
+        y = y + (x & 30154) - 1750;
+        x = (x ^ (x >>> 10)) * 22951 + y;
+        y = y + (x & 38073) - 1751;
+        x = (x ^ (x >>> 11)) * 21337 + y;
+        y = y + (x & 45992) - 1752;
+        x = (x ^ (x >>> 12)) * 19721 + y;
+        y = y + (x & 53911) - 1753;
+        x = (x ^ (x >>> 13)) * 18107 + y;
+        y = y + (x & 61830) - 1754;
+        x = (x ^ (x >>> 1)) * 16491 + y;
+        y = y + (x & 4213) - 1755;
+        x = (x ^ (x >>> 2)) * 14877 + y;
+        y = y + (x & 12132) - 1756;
+        x = (x ^ (x >>> 3)) * 13261 + y;
+        y = y + (x & 20051) - 1757;
+        x = (x ^ (x >>> 4)) * 11647 + y;
+        y = y + (x & 27970) - 1758;
+        x = (x ^ (x >>> 5)) * 10031 + y;
+        y = y + (x & 35889) - 1759;
+        x = (x ^ (x >>> 6)) * 8417 + y;
+        y = y + (x & 43808) - 1760;
+        x = (x ^ (x >>> 7)) * 6801 + y;
+        y = y + (x & 51727) - 1761;
+        x = (x ^ (x >>> 8)) * 5187 + y;
+        y = y + (x & 59646) - 1762;
+        x = (x ^ (x >>> 9)) * 3571 + y;
+        y = y + (x & 2029) - 1763;
+        x = (x ^ (x >>> 10)) * 1957 + y;
+        y = y + (x & 9948) - 1764;
+        x = (x ^ (x >>> 11)) * 341 + y;
+        y = y + (x & 17867) - 1765;
+        x = (x ^ (x >>> 12)) * 31495 + y;
+        y = y + (x & 25786) - 1766;
+        x = (x ^ (x >>> 13)) * 29879 + y;
+        y = y + (x & 33705) - 1767;
+        x = (x ^ (x >>> 1)) * 28265 + y;
+        y = y + (x & 41624) - 1768;
+        x = (x ^ (x >>> 2)) * 26649 + y;
+        y = y + (x & 49543) - 1769;
+        x = (x ^ (x >>> 3)) * 25035 + y;
+        y = y + (x & 57462) - 1770;
+        x = (x ^ (x >>> 4)) * 23419 + y;
+        y = y + (x & 65381) - 1771;
+        x = (x ^ (x >>> 5)) * 21805 + y;
+        y = y + (x & 7764) - 1772;
+        x = (x ^ (x >>> 6)) * 20189 + y;
+        y = y + (x & 15683) - 1773;
+        x = (x ^ (x >>> 7)) * 18575 + y;
+        y = y + (x & 23602) - 1774;
+        x = (x ^ (x >>> 8)) * 16959 + y;
+        y = y + (x & 31521) - 1775;
+        x = (x ^ (x >>> 9)) * 15345 + y;
+        y = y + (x & 39440) - 1776;
+        x = (x ^ (x >>> 10)) * 13729 + y;
+        y = y + (x & 47359) - 1777;
+        x = (x ^ (x >>> 11)) * 12115 + y;
+        y = y + (x & 55278) - 1778;
+        x = (x ^ (x >>> 12)) * 10499 + y;
+        y = y + (x & 63197) - 1779;
+        x = (x ^ (x >>> 13)) * 8885 + y;
+        y = y + (x & 5580) - 1780;
+        x = (x ^ (x >>> 1)) * 7269 + y;
+        y = y + (x & 13499) - 1781;
+        x = (x ^ (x >>> 2)) * 5655 + y;
+        y = y + (x & 21418) - 1782;
+        x = (x ^ (x >>> 3)) * 4039 + y;
+        y = y + (x & 29337) - 1783;
+        x = (x ^ (x >>> 4)) * 2425 + y;
+        y = y + (x & 37256) - 1784;
+        x = (x ^ (x >>> 5)) * 809 + y;
+        y = y + (x & 45175) - 1785;
+        x = (x ^ (x >>> 6)) * 31963 + y;
+        y = y + (x & 53094) - 1786;
+        x = (x ^ (x >>> 7)) * 30347 + y;
+        y = y + (x & 61013) - 1787;
+        x = (x ^ (x >>> 8)) * 28733 + y;
+        y = y + (x & 3396) - 1788;
+        x = (x ^ (x >>> 9)) * 27117 + y;
+        y = y + (x & 11315) - 1789;
+        x = (x ^ (x >>> 10)) * 25503 + y;
+        y = y + (x & 19234) - 1790;
+        x = (x ^ (x >>> 11)) * 23887 + y;
+        y = y + (x & 27153) - 1791;
+        x = (x ^ (x >>> 12)) * 22273 + y;
+        y = y + (x & 35072) - 1792;
+        x = (x ^ (x >>> 13)) * 20657 + y;
+        y = y + (x & 42991) - 1793;
+        x = (x ^ (x >>> 1)) * 19043 + y;
+        y = y + (x & 50910) - 1794;
+        x = (x ^ (x >>> 2)) * 17427 + y;
+        y = y + (x & 58829) - 1795;
+        x = (x ^ (x >>> 3)) * 15813 + y;
+        y = y + (x & 1212) - 1796;
+        x = (x ^ (x >>> 4)) * 14197 + y;
+        y = y + (x & 9131) - 1797;
+        x = (x ^ (x >>> 5)) * 12583 + y;
+        y = y + (x & 17050) - 1798;
+        x = (x ^ (x >>> 6)) * 10967 + y;
+        y = y + (x & 24969) - 1799;
+        x = (x ^ (x >>> 7)) * 9353 + y;
+        y = y + (x & 32888) - 1800;
+        x = (x ^ (x >>> 8)) * 7737 + y;
+        y = y + (x & 40807) - 1801;
+        x = (x ^ (x >>> 9)) * 6123 + y;
+        y = y + (x & 48726) - 1802;
+        x = (x ^ (x >>> 10)) * 4507 + y;
+        y = y + (x & 56645) - 1803;
+        x = (x ^ (x >>> 11)) * 2893 + y;
+        y = y + (x & 64564) - 1804;
+        x = (x ^ (x >>> 12)) * 1277 + y;
+        y = y + (x & 6947) - 1805;
+        x = (x ^ (x >>> 13)) * 32431 + y;
+        y = y + (x & 14866) - 1806;
+        x = (x ^ (x >>> 1)) * 30815 + y;
+        y = y + (x & 22785) - 1807;
+        x = (x ^ (x >>> 2)) * 29201 + y;
+        y = y + (x & 30704) - 1808;
+        x = (x ^ (x >>> 3)) * 27585 + y;
+        y = y + (x & 38623) - 1809;
+        x = (x ^ (x >>> 4)) * 25971 + y;
+        y = y + (x & 46542) - 1810;
+        x = (x ^ (x >>> 5)) * 24355 + y;
+        y = y + (x & 54461) - 1811;
+        x = (x ^ (x >>> 6)) * 22741 + y;
+        y = y + (x & 62380) - 1812;
+        x = (x ^ (x >>> 7)) * 21125 + y;
+        y = y + (x & 4763) - 1813;
+        x = (x ^ (x >>> 8)) * 19511 + y;
+        y = y + (x & 12682) - 1814;
+        x = (x ^ (x >>> 9)) * 17895 + y;
+        y = y + (x & 20601) - 1815;
+        x = (x ^ (x >>> 10)) * 16281 + y;
+        y = y + (x & 28520) - 1816;
+        x = (x ^ (x >>> 11)) * 14665 + y;
+        y = y + (x & 36439) - 1817;
+        x = (x ^ (x >>> 12)) * 13051 + y;
+        y = y + (x & 44358) - 1818;
+        x = (x ^ (x >>> 13)) * 11435 + y;
+        y = y + (x & 52277) - 1819;
+        x = (x ^ (x >>> 1)) * 9821 + y;
+        y = y + (x & 60196) - 1820;
+        x = (x ^ (x >>> 2)) * 8205 + y;
+        y = y + (x & 2579) - 1821;
+        x = (x ^ (x >>> 3)) * 6591 + y;
+        y = y + (x & 10498) - 1822;
+        x = (x ^ (x >>> 4)) * 4975 + y;
+        y = y + (x & 18417) - 1823;
+        x = (x ^ (x >>> 5)) * 3361 + y;
+        y = y + (x & 26336) - 1824;
+        x = (x ^ (x >>> 6)) * 1745 + y;
+        y = y + (x & 34255) - 1825;
+        x = (x ^ (x >>> 7)) * 131 + y;
+        y = y + (x & 42174) - 1826;
+        x = (x ^ (x >>> 8)) * 31283 + y;
+        y = y + (x & 50093) - 1827;
+        x = (x ^ (x >>> 9)) * 29669 + y;
+        y = y + (x & 58012) - 1828;
+        x = (x ^ (x >>> 10)) * 28053 + y;
+        y = y + (x & 395) - 1829;
+        x = (x ^ (x >>> 11)) * 26439 + y;
+        y = y + (x & 8314) - 1830;
+        x = (x ^ (x >>> 12)) * 24823 + y;
+        y = y + (x & 16233) - 1831;
+        x = (x ^ (x >>> 13)) * 23209 + y;
+        y = y + (x & 24152) - 1832;
+        x = (x ^ (x >>> 1)) * 21593 + y;
+        y = y + (x & 32071) - 1833;
+        x = (x ^ (x >>> 2)) * 19979 + y;
+        y = y + (x & 39990) - 1834;
+        x = (x ^ (x >>> 3)) * 18363 + y;
+        y = y + (x & 47909) - 1835;
+        x = (x ^ (x >>> 4)) * 16749 + y;
+        y = y + (x & 55828) - 1836;
+        x = (x ^ (x >>> 5)) * 15133 + y;
+        y = y + (x & 63747) - 1837;
+        x = (x ^ (x >>> 6)) * 13519 + y;
+        y = y + (x & 6130) - 1838;
+        x = (x ^ (x >>> 7)) * 11903 + y;
+        y = y + (x & 14049) - 1839;
+        x = (x ^ (x >>> 8)) * 10289 + y;
+        y = y + (x & 21968) - 1840;
+        x = (x ^ (x >>> 9)) * 8673 + y;
+        y = y + (x & 29887) - 1841;
+        x = (x ^ (x >>> 10)) * 7059 + y;
+        y = y + (x & 37806) - 1842;
+        x = (x ^ (x >>> 11)) * 5443 + y;
+        y = y + (x & 45725) - 1843;
+        x = (x ^ (x >>> 12)) * 3829 + y;
+        y = y + (x & 53644) - 1844;
+        x = (x ^ (x >>> 13)) * 2213 + y;
+        y = y + (x & 61563) - 1845;
+        x = (x ^ (x >>> 1)) * 599 + y;
+        y = y + (x & 3946) - 1846;
+        x = (x ^ (x >>> 2)) * 31751 + y;
+        y = y + (x & 11865) - 1847;
+        x = (x ^ (x >>> 3)) * 30137 + y;
+        y = y + (x & 19784) - 1848;
+        x = (x ^ (x >>> 4)) * 28521 + y;
+        y = y + (x & 27703) - 1849;
+        x = (x ^ (x >>> 5)) * 26907 + y;
+        y = y + (x & 35622) - 1850;
+        x = (x ^ (x >>> 6)) * 25291 + y;
+        y = y + (x & 43541) - 1851;
+        x = (x ^ (x >>> 7)) * 23677 + y;
+        y = y + (x & 51460) - 1852;
+        x = (x ^ (x >>> 8)) * 22061 + y;
+        y = y + (x & 59379) - 1853;
+        x = (x ^ (x >>> 9)) * 20447 + y;
+        y = y + (x & 1762) - 1854;
+        x = (x ^ (x >>> 10)) * 18831 + y;
+        y = y + (x & 9681) - 1855;
+        x = (x ^ (x >>> 11)) * 17217 + y;
+        y = y + (x & 17600) - 1856;
+        x = (x ^ (x >>> 12)) * 15601 + y;
+        y = y + (x & 25519) - 1857;
+        x = (x ^ (x >>> 13)) * 13987 + y;
+        y = y + (x & 33438) - 1858;
+        x = (x ^ (x >>> 1)) * 12371 + y;
+        y = y + (x & 41357) - 1859;
+        x = (x ^ (x >>> 2)) * 10757 + y;
+        y = y + (x & 49276) - 1860;
+        x = (x ^ (x >>> 3)) * 9141 + y;
+        y = y + (x & 57195) - 1861;
+        x = (x ^ (x >>> 4)) * 7527 + y;
+        y = y + (x & 65114) - 1862;
+        x = (x ^ (x >>> 5)) * 5911 + y;
+        y = y + (x & 7497) - 1863;
+        x = (x ^ (x >>> 6)) * 4297 + y;
+        y = y + (x & 15416) - 1864;
+        x = (x ^ (x >>> 7)) * 2681 + y;
+        y = y + (x & 23335) - 1865;
+        x = (x ^ (x >>> 8)) * 1067 + y;
+        y = y + (x & 31254) - 1866;
+        x = (x ^ (x >>> 9)) * 32219 + y;
+        y = y + (x & 39173) - 1867;
+        x = (x ^ (x >>> 10)) * 30605 + y;
+        y = y + (x & 47092) - 1868;
+        x = (x ^ (x >>> 11)) * 28989 + y;
+        y = y + (x & 55011) - 1869;
+        x = (x ^ (x >>> 12)) * 27375 + y;
+        y = y + (x & 62930) - 1870;
+        x = (x ^ (x >>> 13)) * 25759 + y;
+        y = y + (x & 5313) - 1871;
+        x = (x ^ (x >>> 1)) * 24145 + y;
+        y = y + (x & 13232) - 1872;
+        x = (x ^ (x >>> 2)) * 22529 + y;
+        y = y + (x & 21151) - 1873;
+        x = (x ^ (x >>> 3)) * 20915 + y;
+        y = y + (x & 29070) - 1874;
+        x = (x ^ (x >>> 4)) * 19299 + y;
+        y = y + (x & 36989) - 1875;
+        x = (x ^ (x >>> 5)) * 17685 + y;
+        y = y + (x & 44908) - 1876;
+        x = (x ^ (x >>> 6)) * 16069 + y;
+        y = y + (x & 52827) - 1877;
+        x = (x ^ (x >>> 7)) * 14455 + y;
+        y = y + (x & 60746) - 1878;
+        x = (x ^ (x >>> 8)) * 12839 + y;
+        y = y + (x & 3129) - 1879;
+        x = (x ^ (x >>> 9)) * 11225 + y;
+        y = y + (x & 11048) - 1880;
+        x = (x ^ (x >>> 10)) * 9609 + y;
+        y = y + (x & 18967) - 1881;
+        x = (x ^ (x >>> 11)) * 7995 + y;
+        y = y + (x & 26886) - 1882;
+        x = (x ^ (x >>> 12)) * 6379 + y;
+        y = y + (x & 34805) - 1883;
+        x = (x ^ (x >>> 13)) * 4765 + y;
+        y = y + (x & 42724) - 1884;
+        x = (x ^ (x >>> 1)) * 3149 + y;
+        y = y + (x & 50643) - 1885;
+        x = (x ^ (x >>> 2)) * 1535 + y;
+        y = y + (x & 58562) - 1886;
+        x = (x ^ (x >>> 3)) * 32687 + y;
+        y = y + (x & 945) - 1887;
+        x = (x ^ (x >>> 4)) * 31073 + y;
+        y = y + (x & 8864) - 1888;
+        x = (x ^ (x >>> 5)) * 29457 + y;
+        y = y + (x & 16783) - 1889;
+        x = (x ^ (x >>> 6)) * 27843 + y;
+        y = y + (x & 24702) - 1890;
+        x = (x ^ (x >>> 7)) * 26227 + y;
+        y = y + (x & 32621) - 1891;
+        x = (x ^ (x >>> 8)) * 24613 + y;
+        y = y + (x & 40540) - 1892;
+        x = (x ^ (x >>> 9)) * 22997 + y;
+        y = y + (x & 48459) - 1893;
+        x = (x ^ (x >>> 10)) * 21383 + y;
+        y = y + (x & 56378) - 1894;
+        x = (x ^ (x >>> 11)) * 19767 + y;
+        y = y + (x & 64297) - 1895;
+        x = (x ^ (x >>> 12)) * 18153 + y;
+        y = y + (x & 6680) - 1896;
+        x = (x ^ (x >>> 13)) * 16537 + y;
+        y = y + (x & 14599) - 1897;
+        x = (x ^ (x >>> 1)) * 14923 + y;
+        y = y + (x & 22518) - 1898;
+        x = (x ^ (x >>> 2)) * 13307 + y;
+        y = y + (x & 30437) - 1899;
+        x = (x ^ (x >>> 3)) * 11693 + y;
+        y = y + (x & 38356) - 1900;
+        x = (x ^ (x >>> 4)) * 10077 + y;
+        y = y + (x & 46275) - 1901;
+        x = (x ^ (x >>> 5)) * 8463 + y;
+        y = y + (x & 54194) - 1902;
+        x = (x ^ (x >>> 6)) * 6847 + y;
+        y = y + (x & 62113) - 1903;
+        x = (x ^ (x >>> 7)) * 5233 + y;
+        y = y + (x & 4496) - 1904;
+        x = (x ^ (x >>> 8)) * 3617 + y;
+        y = y + (x & 12415) - 1905;
+        x = (x ^ (x >>> 9)) * 2003 + y;
+        y = y + (x & 20334) - 1906;
+        x = (x ^ (x >>> 10)) * 387 + y;
+        y = y + (x & 28253) - 1907;
+        x = (x ^ (x >>> 11)) * 31541 + y;
+        y = y + (x & 36172) - 1908;
+        x = (x ^ (x >>> 12)) * 29925 + y;
+        y = y + (x & 44091) - 1909;
+        x = (x ^ (x >>> 13)) * 28311 + y;
+        y = y + (x & 52010) - 1910;
+        x = (x ^ (x >>> 1)) * 26695 + y;
+        y = y + (x & 59929) - 1911;
+        x = (x ^ (x >>> 2)) * 25081 + y;
+        y = y + (x & 2312) - 1912;
+        x = (x ^ (x >>> 3)) * 23465 + y;
+        y = y + (x & 10231) - 1913;
+        x = (x ^ (x >>> 4)) * 21851 + y;
+        y = y + (x & 18150) - 1914;
+        x = (x ^ (x >>> 5)) * 20235 + y;
+        y = y + (x & 26069) - 1915;
+        x = (x ^ (x >>> 6)) * 18621 + y;
+        y = y + (x & 33988) - 1916;
+        x = (x ^ (x >>> 7)) * 17005 + y;
+        y = y + (x & 41907) - 1917;
+        x = (x ^ (x >>> 8)) * 15391 + y;
+        y = y + (x & 49826) - 1918;
+        x = (x ^ (x >>> 9)) * 13775 + y;
+        y = y + (x & 57745) - 1919;
+        x = (x ^ (x >>> 10)) * 12161 + y;
+        y = y + (x & 128) - 1920;
+        x = (x ^ (x >>> 11)) * 10545 + y;
+        y = y + (x & 8047) - 1921;
+        x = (x ^ (x >>> 12)) * 8931 + y;
+        y = y + (x & 15966) - 1922;
+        x = (x ^ (x >>> 13)) * 7315 + y;
+        y = y + (x & 23885) - 1923;
+        x = (x ^ (x >>> 1)) * 5701 + y;
+        y = y + (x & 31804) - 1924;
+        x = (x ^ (x >>> 2)) * 4085 + y;
+        y = y + (x & 39723) - 1925;
+        x = (x ^ (x >>> 3)) * 2471 + y;
+        y = y + (x & 47642) - 1926;
+        x = (x ^ (x >>> 4)) * 855 + y;
+        y = y + (x & 55561) - 1927;
+        x = (x ^ (x >>> 5)) * 32009 + y;
+        y = y + (x & 63480) - 1928;
+        x = (x ^ (x >>> 6)) * 30393 + y;
+        y = y + (x & 5863) - 1929;
+        x = (x ^ (x >>> 7)) * 28779 + y;
+        y = y + (x & 13782) - 1930;
+        x = (x ^ (x >>> 8)) * 27163 + y;
+        y = y + (x & 21701) - 1931;
+        x = (x ^ (x >>> 9)) * 25549 + y;
+        y = y + (x & 29620) - 1932;
+        x = (x ^ (x >>> 10)) * 23933 + y;
+        y = y + (x & 37539) - 1933;
+        x = (x ^ (x >>> 11)) * 22319 + y;
+        y = y + (x & 45458) - 1934;
+        x = (x ^ (x >>> 12)) * 20703 + y;
+        y = y + (x & 53377) - 1935;
+        x = (x ^ (x >>> 13)) * 19089 + y;
+        y = y + (x & 61296) - 1936;
+        x = (x ^ (x >>> 1)) * 17473 + y;
+        y = y + (x & 3679) - 1937;
+        x = (x ^ (x >>> 2)) * 15859 + y;
+        y = y + (x & 11598) - 1938;
+        x = (x ^ (x >>> 3)) * 14243 + y;
+        y = y + (x & 19517) - 1939;
+        x = (x ^ (x >>> 4)) * 12629 + y;
+        y = y + (x & 27436) - 1940;
+        x = (x ^ (x >>> 5)) * 11013 + y;
+        y = y + (x & 35355) - 1941;
+        x = (x ^ (x >>> 6)) * 9399 + y;
+        y = y + (x & 43274) - 1942;
+        x = (x ^ (x >>> 7)) * 7783 + y;
+        y = y + (x & 51193) - 1943;
+        x = (x ^ (x >>> 8)) * 6169 + y;
+        y = y + (x & 59112) - 1944;
+        x = (x ^ (x >>> 9)) * 4553 + y;
+        y = y + (x & 1495) - 1945;
+        x = (x ^ (x >>> 10)) * 2939 + y;
+        y = y + (x & 9414) - 1946;
+        x = (x ^ (x >>> 11)) * 1323 + y;
+        y = y + (x & 17333) - 1947;
+        x = (x ^ (x >>> 12)) * 32477 + y;
+        y = y + (x & 25252) - 1948;
+        x = (x ^ (x >>> 13)) * 30861 + y;
+        y = y + (x & 33171) - 1949;
+        x = (x ^ (x >>> 1)) * 29247 + y;
+        y = y + (x & 41090) - 1950;
+        x = (x ^ (x >>> 2)) * 27631 + y;
+        y = y + (x & 49009) - 1951;
+        x = (x ^ (x >>> 3)) * 26017 + y;
+        y = y + (x & 56928) - 1952;
+        x = (x ^ (x >>> 4)) * 24401 + y;
+        y = y + (x & 64847) - 1953;
+        x = (x ^ (x >>> 5)) * 22787 + y;
+        y = y + (x & 7230) - 1954;
+        x = (x ^ (x >>> 6)) * 21171 + y;
+        y = y + (x & 15149) - 1955;
+        x = (x ^ (x >>> 7)) * 19557 + y;
+        y = y + (x & 23068) - 1956;
+        x = (x ^ (x >>> 8)) * 17941 + y;
+        y = y + (x & 30987) - 1957;
+        x = (x ^ (x >>> 9)) * 16327 + y;
+        y = y + (x & 38906) - 1958;
+        x = (x ^ (x >>> 10)) * 14711 + y;
+        y = y + (x & 46825) - 1959;
+        x = (x ^ (x >>> 11)) * 13097 + y;
+        y = y + (x & 54744) - 1960;
+        x = (x ^ (x >>> 12)) * 11481 + y;
+        y = y + (x & 62663) - 1961;
+        x = (x ^ (x >>> 13)) * 9867 + y;
+        y = y + (x & 5046) - 1962;
+        x = (x ^ (x >>> 1)) * 8251 + y;
+        y = y + (x & 12965) - 1963;
+        x = (x ^ (x >>> 2)) * 6637 + y;
+        y = y + (x & 20884) - 1964;
+        x = (x ^ (x >>> 3)) * 5021 + y;
+        y = y + (x & 28803) - 1965;
+        x = (x ^ (x >>> 4)) * 3407 + y;
+        y = y + (x & 36722) - 1966;
+        x = (x ^ (x >>> 5)) * 1791 + y;
+        y = y + (x & 44641) - 1967;
+        x = (x ^ (x >>> 6)) * 177 + y;
+        y = y + (x & 52560) - 1968;
+        x = (x ^ (x >>> 7)) * 31329 + y;
+        y = y + (x & 60479) - 1969;
+        x = (x ^ (x >>> 8)) * 29715 + y;
+        y = y + (x & 2862) - 1970;
+        x = (x ^ (x >>> 9)) * 28099 + y;
+        y = y + (x & 10781) - 1971;
+        x = (x ^ (x >>> 10)) * 26485 + y;
+        y = y + (x & 18700) - 1972;
+        x = (x ^ (x >>> 11)) * 24869 + y;
+        y = y + (x & 26619) - 1973;
+        x = (x ^ (x >>> 12)) * 23255 + y;
+        y = y + (x & 34538) - 1974;
+        x = (x ^ (x >>> 13)) * 21639 + y;
+        y = y + (x & 42457) - 1975;
+        x = (x ^ (x >>> 1)) * 20025 + y;
+        y = y + (x & 50376) - 1976;
+        x = (x ^ (x >>> 2)) * 18409 + y;
+        y = y + (x & 58295) - 1977;
+        x = (x ^ (x >>> 3)) * 16795 + y;
+        y = y + (x & 678) - 1978;
+        x = (x ^ (x >>> 4)) * 15179 + y;
+        y = y + (x & 8597) - 1979;
+        x = (x ^ (x >>> 5)) * 13565 + y;
+        y = y + (x & 16516) - 1980;
+        x = (x ^ (x >>> 6)) * 11949 + y;
+        y = y + (x & 24435) - 1981;
+        x = (x ^ (x >>> 7)) * 10335 + y;
+        y = y + (x & 32354) - 1982;
+        x = (x ^ (x >>> 8)) * 8719 + y;
+        y = y + (x & 40273) - 1983;
+        x = (x ^ (x >>> 9)) * 7105 + y;
+        y = y + (x & 48192) - 1984;
+        x = (x ^ (x >>> 10)) * 5489 + y;
+        y = y + (x & 56111) - 1985;
+        x = (x ^ (x >>> 11)) * 3875 + y;
+        y = y + (x & 64030) - 1986;
+        x = (x ^ (x >>> 12)) * 2259 + y;
+        y = y + (x & 6413) - 1987;
+        x = (x ^ (x >>> 13)) * 645 + y;
+        y = y + (x & 14332) - 1988;
+        x = (x ^ (x >>> 1)) * 31797 + y;
+        y = y + (x & 22251) - 1989;
+        x = (x ^ (x >>> 2)) * 30183 + y;
+        y = y + (x & 30170) - 1990;
+        x = (x ^ (x >>> 3)) * 28567 + y;
+        y = y + (x & 38089) - 1991;
+        x = (x ^ (x >>> 4)) * 26953 + y;
+        y = y + (x & 46008) - 1992;
+        x = (x ^ (x >>> 5)) * 25337 + y;
+        y = y + (x & 53927) - 1993;
+        x = (x ^ (x >>> 6)) * 23723 + y;
+        y = y + (x & 61846) - 1994;
+        x = (x ^ (x >>> 7)) * 22107 + y;
+        y = y + (x & 4229) - 1995;
+        x = (x ^ (x >>> 8)) * 20493 + y;
+        y = y + (x & 12148) - 1996;
+        x = (x ^ (x >>> 9)) * 18877 + y;
+        y = y + (x & 20067) - 1997;
+        x = (x ^ (x >>> 10)) * 17263 + y;
+        y = y + (x & 27986) - 1998;
+        x = (x ^ (x >>> 11)) * 15647 + y;
+        y = y + (x & 35905) - 1999;
+        x = (x ^ (x >>> 12)) * 14033 + y;
+        y = y + (x & 43824) - 2000;
+        x = (x ^ (x >>> 13)) * 12417 + y;
+        y = y + (x & 51743) - 2001;
+        x = (x ^ (x >>> 1)) * 10803 + y;
+        y = y + (x & 59662) - 2002;
+        x = (x ^ (x >>> 2)) * 9187 + y;
+        y = y + (x & 2045) - 2003;
+        x = (x ^ (x >>> 3)) * 7573 + y;
+        y = y + (x & 9964) - 2004;
+        x = (x ^ (x >>> 4)) * 5957 + y;
+        y = y + (x & 17883) - 2005;
+        x = (x ^ (x >>> 5)) * 4343 + y;
+        y = y + (x & 25802) - 2006;
+        x = (x ^ (x >>> 6)) * 2727 + y;
+        y = y + (x & 33721) - 2007;
+        x = (x ^ (x >>> 7)) * 1113 + y;
+        y = y + (x & 41640) - 2008;
+        x = (x ^ (x >>> 8)) * 32265 + y;
+        y = y + (x & 49559) - 2009;
+        x = (x ^ (x >>> 9)) * 30651 + y;
+        y = y + (x & 57478) - 2010;
+        x = (x ^ (x >>> 10)) * 29035 + y;
+        y = y + (x & 65397) - 2011;
+        x = (x ^ (x >>> 11)) * 27421 + y;
+        y = y + (x & 7780) - 2012;
+        x = (x ^ (x >>> 12)) * 25805 + y;
+        y = y + (x & 15699) - 2013;
+        x = (x ^ (x >>> 13)) * 24191 + y;
+        y = y + (x & 23618) - 2014;
+        x = (x ^ (x >>> 1)) * 22575 + y;
+        y = y + (x & 31537) - 2015;
+        x = (x ^ (x >>> 2)) * 20961 + y;
+        y = y + (x & 39456) - 2016;
+        x = (x ^ (x >>> 3)) * 19345 + y;
+        y = y + (x & 47375) - 2017;
+        x = (x ^ (x >>> 4)) * 17731 + y;
+        y = y + (x & 55294) - 2018;
+        x = (x ^ (x >>> 5)) * 16115 + y;
+        y = y + (x & 63213) - 2019;
+        x = (x ^ (x >>> 6)) * 14501 + y;
+        y = y + (x & 5596) - 2020;
+        x = (x ^ (x >>> 7)) * 12885 + y;
+        y = y + (x & 13515) - 2021;
+        x = (x ^ (x >>> 8)) * 11271 + y;
+        y = y + (x & 21434) - 2022;
+        x = (x ^ (x >>> 9)) * 9655 + y;
+        y = y + (x & 29353) - 2023;
+        x = (x ^ (x >>> 10)) * 8041 + y;
+        y = y + (x & 37272) - 2024;
+        x = (x ^ (x >>> 11)) * 6425 + y;
+        y = y + (x & 45191) - 2025;
+        x = (x ^ (x >>> 12)) * 4811 + y;
+        y = y + (x & 53110) - 2026;
+        x = (x ^ (x >>> 13)) * 3195 + y;
+        y = y + (x & 61029) - 2027;
+        x = (x ^ (x >>> 1)) * 1581 + y;
+        y = y + (x & 3412) - 2028;
+        x = (x ^ (x >>> 2)) * 32733 + y;
+        y = y + (x & 11331) - 2029;
+        x = (x ^ (x >>> 3)) * 31119 + y;
+        y = y + (x & 19250) - 2030;
+        x = (x ^ (x >>> 4)) * 29503 + y;
+        y = y + (x & 27169) - 2031;
+        x = (x ^ (x >>> 5)) * 27889 + y;
+        y = y + (x & 35088) - 2032;
+        x = (x ^ (x >>> 6)) * 26273 + y;
+        y = y + (x & 43007) - 2033;
+        x = (x ^ (x >>> 7)) * 24659 + y;
+        y = y + (x & 50926) - 2034;
+        x = (x ^ (x >>> 8)) * 23043 + y;
+        y = y + (x & 58845) - 2035;
+        x = (x ^ (x >>> 9)) * 21429 + y;
+        y = y + (x & 1228) - 2036;
+        x = (x ^ (x >>> 10)) * 19813 + y;
+        y = y + (x & 9147) - 2037;
+        x = (x ^ (x >>> 11)) * 18199 + y;
+        y = y + (x & 17066) - 2038;
+        x = (x ^ (x >>> 12)) * 16583 + y;
+        y = y + (x & 24985) - 2039;
+        x = (x ^ (x >>> 13)) * 14969 + y;
+        y = y + (x & 32904) - 2040;
+        x = (x ^ (x >>> 1)) * 13353 + y;
+        y = y + (x & 40823) - 2041;
+        x = (x ^ (x >>> 2)) * 11739 + y;
+        y = y + (x & 48742) - 2042;
+        x = (x ^ (x >>> 3)) * 10123 + y;
+        y = y + (x & 56661) - 2043;
+        x = (x ^ (x >>> 4)) * 8509 + y;
+        y = y + (x & 64580) - 2044;
+        x = (x ^ (x >>> 5)) * 6893 + y;
+        y = y + (x & 6963) - 2045;
+        x = (x ^ (x >>> 6)) * 5279 + y;
+        y = y + (x & 14882) - 2046;
+        x = (x ^ (x >>> 7)) * 3663 + y;
+        y = y + (x & 22801) - 2047;
+        x = (x ^ (x >>> 8)) * 2049 + y;
+        y = y + (x & 30720) - 2048;
+        x = (x ^ (x >>> 9)) * 433 + y;
+        y = y + (x & 38639) - 2049;
+        x = (x ^ (x >>> 10)) * 31587 + y;
+        y = y + (x & 46558) - 2050;
+        x = (x ^ (x >>> 11)) * 29971 + y;
+        y = y + (x & 54477) - 2051;
+        x = (x ^ (x >>> 12)) * 28357 + y;
+        y = y + (x & 62396) - 2052;
+        x = (x ^ (x >>> 13)) * 26741 + y;
+        y = y + (x & 4779) - 2053;
+        x = (x ^ (x >>> 1)) * 25127 + y;
+        y = y + (x & 12698) - 2054;
+        x = (x ^ (x >>> 2)) * 23511 + y;
+        y = y + (x & 20617) - 2055;
+        x = (x ^ (x >>> 3)) * 21897 + y;
+        y = y + (x & 28536) - 2056;
+        x = (x ^ (x >>> 4)) * 20281 + y;
+        y = y + (x & 36455) - 2057;
+        x = (x ^ (x >>> 5)) * 18667 + y;
+        y = y + (x & 44374) - 2058;
+        x = (x ^ (x >>> 6)) * 17051 + y;
+        y = y + (x & 52293) - 2059;
+        x = (x ^ (x >>> 7)) * 15437 + y;
+        y = y + (x & 60212) - 2060;
+        x = (x ^ (x >>> 8)) * 13821 + y;
+        y = y + (x & 2595) - 2061;
+        x = (x ^ (x >>> 9)) * 12207 + y;
+        y = y + (x & 10514) - 2062;
+        x = (x ^ (x >>> 10)) * 10591 + y;
+        y = y + (x & 18433) - 2063;
+        x = (x ^ (x >>> 11)) * 8977 + y;
+        y = y + (x & 26352) - 2064;
+        x = (x ^ (x >>> 12)) * 7361 + y;
+        y = y + (x & 34271) - 2065;
+        x = (x ^ (x >>> 13)) * 5747 + y;
+        y = y + (x & 42190) - 2066;
+        x = (x ^ (x >>> 1)) * 4131 + y;
+        y = y + (x & 50109) - 2067;
+        x = (x ^ (x >>> 2)) * 2517 + y;
+        y = y + (x & 58028) - 2068;
+        x = (x ^ (x >>> 3)) * 901 + y;
+        y = y + (x & 411) - 2069;
+        x = (x ^ (x >>> 4)) * 32055 + y;
+        y = y + (x & 8330) - 2070;
+        x = (x ^ (x >>> 5)) * 30439 + y;
+        y = y + (x & 16249) - 2071;
+        x = (x ^ (x >>> 6)) * 28825 + y;
+        y = y + (x & 24168) - 2072;
+        x = (x ^ (x >>> 7)) * 27209 + y;
+        y = y + (x & 32087) - 2073;
+        x = (x ^ (x >>> 8)) * 25595 + y;
+        y = y + (x & 40006) - 2074;
+        x = (x ^ (x >>> 9)) * 23979 + y;
+        y = y + (x & 47925) - 2075;
+        x = (x ^ (x >>> 10)) * 22365 + y;
+        y = y + (x & 55844) - 2076;
+        x = (x ^ (x >>> 11)) * 20749 + y;
+        y = y + (x & 63763) - 2077;
+        x = (x ^ (x >>> 12)) * 19135 + y;
+        y = y + (x & 6146) - 2078;
+        x = (x ^ (x >>> 13)) * 17519 + y;
+        y = y + (x & 14065) - 2079;
+        x = (x ^ (x >>> 1)) * 15905 + y;
+        y = y + (x & 21984) - 2080;
+        x = (x ^ (x >>> 2)) * 14289 + y;
+        y = y + (x & 29903) - 2081;
+        x = (x ^ (x >>> 3)) * 12675 + y;
+        y = y + (x & 37822) - 2082;
+        x = (x ^ (x >>> 4)) * 11059 + y;
+        y = y + (x & 45741) - 2083;
+        x = (x ^ (x >>> 5)) * 9445 + y;
+        y = y + (x & 53660) - 2084;
+        x = (x ^ (x >>> 6)) * 7829 + y;
+        y = y + (x & 61579) - 2085;
+        x = (x ^ (x >>> 7)) * 6215 + y;
+        y = y + (x & 3962) - 2086;
+        x = (x ^ (x >>> 8)) * 4599 + y;
+        y = y + (x & 11881) - 2087;
+        x = (x ^ (x >>> 9)) * 2985 + y;
+        y = y + (x & 19800) - 2088;
+        x = (x ^ (x >>> 10)) * 1369 + y;
+        y = y + (x & 27719) - 2089;
+        x = (x ^ (x >>> 11)) * 32523 + y;
+        y = y + (x & 35638) - 2090;
+        x = (x ^ (x >>> 12)) * 30907 + y;
+        y = y + (x & 43557) - 2091;
+        x = (x ^ (x >>> 13)) * 29293 + y;
+        y = y + (x & 51476) - 2092;
+        x = (x ^ (x >>> 1)) * 27677 + y;
+        y = y + (x & 59395) - 2093;
+        x = (x ^ (x >>> 2)) * 26063 + y;
+        y = y + (x & 1778) - 2094;
+        x = (x ^ (x >>> 3)) * 24447 + y;
+        y = y + (x & 9697) - 2095;
+        x = (x ^ (x >>> 4)) * 22833 + y;
+        y = y + (x & 17616) - 2096;
+        x = (x ^ (x >>> 5)) * 21217 + y;
+        y = y + (x & 25535) - 2097;
+        x = (x ^ (x >>> 6)) * 19603 + y;
+        y = y + (x & 33454) - 2098;
+        x = (x ^ (x >>> 7)) * 17987 + y;
+        y = y + (x & 41373) - 2099;
+        x = (x ^ (x >>> 8)) * 16373 + y;
+        y = y + (x & 49292) - 2100;
+        x = (x ^ (x >>> 9)) * 14757 + y;
+        y = y + (x & 57211) - 2101;
+        x = (x ^ (x >>> 10)) * 13143 + y;
+        y = y + (x & 65130) - 2102;
+        x = (x ^ (x >>> 11)) * 11527 + y;
+        y = y + (x & 7513) - 2103;
+        x = (x ^ (x >>> 12)) * 9913 + y;
+        y = y + (x & 15432) - 2104;
+        x = (x ^ (x >>> 13)) * 8297 + y;
+        y = y + (x & 23351) - 2105;
+        x = (x ^ (x >>> 1)) * 6683 + y;
+        y = y + (x & 31270) - 2106;
+        x = (x ^ (x >>> 2)) * 5067 + y;
+        y = y + (x & 39189) - 2107;
+        x = (x ^ (x >>> 3)) * 3453 + y;
+        y = y + (x & 47108) - 2108;
+        x = (x ^ (x >>> 4)) * 1837 + y;
+        y = y + (x & 55027) - 2109;
+        x = (x ^ (x >>> 5)) * 223 + y;
+        y = y + (x & 62946) - 2110;
+        x = (x ^ (x >>> 6)) * 31375 + y;
+        y = y + (x & 5329) - 2111;
+        x = (x ^ (x >>> 7)) * 29761 + y;
+        y = y + (x & 13248) - 2112;
+        x = (x ^ (x >>> 8)) * 28145 + y;
+        y = y + (x & 21167) - 2113;
+        x = (x ^ (x >>> 9)) * 26531 + y;
+        y = y + (x & 29086) - 2114;
+        x = (x ^ (x >>> 10)) * 24915 + y;
+        y = y + (x & 37005) - 2115;
+        x = (x ^ (x >>> 11)) * 23301 + y;
+        y = y + (x & 44924) - 2116;
+        x = (x ^ (x >>> 12)) * 21685 + y;
+        y = y + (x & 52843) - 2117;
+        x = (x ^ (x >>> 13)) * 20071 + y;
+        y = y + (x & 60762) - 2118;
+        x = (x ^ (x >>> 1)) * 18455 + y;
+        y = y + (x & 3145) - 2119;
+        x = (x ^ (x >>> 2)) * 16841 + y;
+        y = y + (x & 11064) - 2120;
+        x = (x ^ (x >>> 3)) * 15225 + y;
+        y = y + (x & 18983) - 2121;
+        x = (x ^ (x >>> 4)) * 13611 + y;
+        y = y + (x & 26902) - 2122;
+        x = (x ^ (x >>> 5)) * 11995 + y;
+        y = y + (x & 34821) - 2123;
+        x = (x ^ (x >>> 6)) * 10381 + y;
+        y = y + (x & 42740) - 2124;
+        x = (x ^ (x >>> 7)) * 8765 + y;
+        y = y + (x & 50659) - 2125;
+        x = (x ^ (x >>> 8)) * 7151 + y;
+        y = y + (x & 58578) - 2126;
+        x = (x ^ (x >>> 9)) * 5535 + y;
+        y = y + (x & 961) - 2127;
+        x = (x ^ (x >>> 10)) * 3921 + y;
+        y = y + (x & 8880) - 2128;
+        x = (x ^ (x >>> 11)) * 2305 + y;
+        y = y + (x & 16799) - 2129;
+        x = (x ^ (x >>> 12)) * 691 + y;
+        y = y + (x & 24718) - 2130;
+        x = (x ^ (x >>> 13)) * 31843 + y;
+        y = y + (x & 32637) - 2131;
+        x = (x ^ (x >>> 1)) * 30229 + y;
+        y = y + (x & 40556) - 2132;
+        x = (x ^ (x >>> 2)) * 28613 + y;
+        y = y + (x & 48475) - 2133;
+        x = (x ^ (x >>> 3)) * 26999 + y;
+        y = y + (x & 56394) - 2134;
+        x = (x ^ (x >>> 4)) * 25383 + y;
+        y = y + (x & 64313) - 2135;
+        x = (x ^ (x >>> 5)) * 23769 + y;
+        y = y + (x & 6696) - 2136;
+        x = (x ^ (x >>> 6)) * 22153 + y;
+        y = y + (x & 14615) - 2137;
+        x = (x ^ (x >>> 7)) * 20539 + y;
+        y = y + (x & 22534) - 2138;
+        x = (x ^ (x >>> 8)) * 18923 + y;
+        y = y + (x & 30453) - 2139;
+        x = (x ^ (x >>> 9)) * 17309 + y;
+        y = y + (x & 38372) - 2140;
+        x = (x ^ (x >>> 10)) * 15693 + y;
+        y = y + (x & 46291) - 2141;
+        x = (x ^ (x >>> 11)) * 14079 + y;
+        y = y + (x & 54210) - 2142;
+        x = (x ^ (x >>> 12)) * 12463 + y;
+        y = y + (x & 62129) - 2143;
+        x = (x ^ (x >>> 13)) * 10849 + y;
+        y = y + (x & 4512) - 2144;
+        x = (x ^ (x >>> 1)) * 9233 + y;
+        y = y + (x & 12431) - 2145;
+        x = (x ^ (x >>> 2)) * 7619 + y;
+        y = y + (x & 20350) - 2146;
+        x = (x ^ (x >>> 3)) * 6003 + y;
+        y = y + (x & 28269) - 2147;
+        x = (x ^ (x >>> 4)) * 4389 + y;
+        y = y + (x & 36188) - 2148;
+        x = (x ^ (x >>> 5)) * 2773 + y;
+        y = y + (x & 44107) - 2149;
+        x = (x ^ (x >>> 6)) * 1159 + y;
+        y = y + (x & 52026) - 2150;
+        x = (x ^ (x >>> 7)) * 32311 + y;
+        y = y + (x & 59945) - 2151;
+        x = (x ^ (x >>> 8)) * 30697 + y;
+        y = y + (x & 2328) - 2152;
+        x = (x ^ (x >>> 9)) * 29081 + y;
+        y = y + (x & 10247) - 2153;
+        x = (x ^ (x >>> 10)) * 27467 + y;
+        y = y + (x & 18166) - 2154;
+        x = (x ^ (x >>> 11)) * 25851 + y;
+        y = y + (x & 26085) - 2155;
+        x = (x ^ (x >>> 12)) * 24237 + y;
+        y = y + (x & 34004) - 2156;
+        x = (x ^ (x >>> 13)) * 22621 + y;
+        y = y + (x & 41923) - 2157;
+        x = (x ^ (x >>> 1)) * 21007 + y;
+        y = y + (x & 49842) - 2158;
+        x = (x ^ (x >>> 2)) * 19391 + y;
+        y = y + (x & 57761) - 2159;
+        x = (x ^ (x >>> 3)) * 17777 + y;
+        y = y + (x & 144) - 2160;
+        x = (x ^ (x >>> 4)) * 16161 + y;
+        y = y + (x & 8063) - 2161;
+        x = (x ^ (x >>> 5)) * 14547 + y;
+        y = y + (x & 15982) - 2162;
+        x = (x ^ (x >>> 6)) * 12931 + y;
+        y = y + (x & 23901) - 2163;
+        x = (x ^ (x >>> 7)) * 11317 + y;
+        y = y + (x & 31820) - 2164;
+        x = (x ^ (x >>> 8)) * 9701 + y;
+        y = y + (x & 39739) - 2165;
+        x = (x ^ (x >>> 9)) * 8087 + y;
+        y = y + (x & 47658) - 2166;
+        x = (x ^ (x >>> 10)) * 6471 + y;
+        y = y + (x & 55577) - 2167;
+        x = (x ^ (x >>> 11)) * 4857 + y;
+        y = y + (x & 63496) - 2168;
+        x = (x ^ (x >>> 12)) * 3241 + y;
+        y = y + (x & 5879) - 2169;
+        x = (x ^ (x >>> 13)) * 1627 + y;
+        y = y + (x & 13798) - 2170;
+        x = (x ^ (x >>> 1)) * 11 + y;
+        y = y + (x & 21717) - 2171;
+        x = (x ^ (x >>> 2)) * 31165 + y;
+        y = y + (x & 29636) - 2172;
+        x = (x ^ (x >>> 3)) * 29549 + y;
+        y = y + (x & 37555) - 2173;
+        x = (x ^ (x >>> 4)) * 27935 + y;
+        y = y + (x & 45474) - 2174;
+        x = (x ^ (x >>> 5)) * 26319 + y;
+        y = y + (x & 53393) - 2175;
+        x = (x ^ (x >>> 6)) * 24705 + y;
+        y = y + (x & 61312) - 2176;
+        x = (x ^ (x >>> 7)) * 23089 + y;
+        y = y + (x & 3695) - 2177;
+        x = (x ^ (x >>> 8)) * 21475 + y;
+        y = y + (x & 11614) - 2178;
+        x = (x ^ (x >>> 9)) * 19859 + y;
+        y = y + (x & 19533) - 2179;
+        x = (x ^ (x >>> 10)) * 18245 + y;
+        y = y + (x & 27452) - 2180;
+        x = (x ^ (x >>> 11)) * 16629 + y;
+        y = y + (x & 35371) - 2181;
+        x = (x ^ (x >>> 12)) * 15015 + y;
+        y = y + (x & 43290) - 2182;
+        x = (x ^ (x >>> 13)) * 13399 + y;
+        y = y + (x & 51209) - 2183;
+        x = (x ^ (x >>> 1)) * 11785 + y;
+        y = y + (x & 59128) - 2184;
+        x = (x ^ (x >>> 2)) * 10169 + y;
+        y = y + (x & 1511) - 2185;
+        x = (x ^ (x >>> 3)) * 8555 + y;
+        y = y + (x & 9430) - 2186;
+        x = (x ^ (x >>> 4)) * 6939 + y;
+        y = y + (x & 17349) - 2187;
+        x = (x ^ (x >>> 5)) * 5325 + y;
+        y = y + (x & 25268) - 2188;
+        x = (x ^ (x >>> 6)) * 3709 + y;
+        y = y + (x & 33187) - 2189;
+        x = (x ^ (x >>> 7)) * 2095 + y;
+        y = y + (x & 41106) - 2190;
+        x = (x ^ (x >>> 8)) * 479 + y;
+        y = y + (x & 49025) - 2191;
+        x = (x ^ (x >>> 9)) * 31633 + y;
+        y = y + (x & 56944) - 2192;
+        x = (x ^ (x >>> 10)) * 30017 + y;
+        y = y + (x & 64863) - 2193;
+        x = (x ^ (x >>> 11)) * 28403 + y;
+        y = y + (x & 7246) - 2194;
+        x = (x ^ (x >>> 12)) * 26787 + y;
+        y = y + (x & 15165) - 2195;
+        x = (x ^ (x >>> 13)) * 25173 + y;
+        y = y + (x & 23084) - 2196;
+        x = (x ^ (x >>> 1)) * 23557 + y;
+        y = y + (x & 31003) - 2197;
+        x = (x ^ (x >>> 2)) * 21943 + y;
+        y = y + (x & 38922) - 2198;
+        x = (x ^ (x >>> 3)) * 20327 + y;
+        y = y + (x & 46841) - 2199;
+        x = (x ^ (x >>> 4)) * 18713 + y;
+        y = y + (x & 54760) - 2200;
+        x = (x ^ (x >>> 5)) * 17097 + y;
+        y = y + (x & 62679) - 2201;
+        x = (x ^ (x >>> 6)) * 15483 + y;
+        y = y + (x & 5062) - 2202;
+        x = (x ^ (x >>> 7)) * 13867 + y;
+        y = y + (x & 12981) - 2203;
+        x = (x ^ (x >>> 8)) * 12253 + y;
+        y = y + (x & 20900) - 2204;
+        x = (x ^ (x >>> 9)) * 10637 + y;
+        y = y + (x & 28819) - 2205;
+        x = (x ^ (x >>> 10)) * 9023 + y;
+        y = y + (x & 36738) - 2206;
+        x = (x ^ (x >>> 11)) * 7407 + y;
+        y = y + (x & 44657) - 2207;
+        x = (x ^ (x >>> 12)) * 5793 + y;
+        y = y + (x & 52576) - 2208;
+        x = (x ^ (x >>> 13)) * 4177 + y;
+        y = y + (x & 60495) - 2209;
+        x = (x ^ (x >>> 1)) * 2563 + y;
+        y = y + (x & 2878) - 2210;
+        x = (x ^ (x >>> 2)) * 947 + y;
+        y = y + (x & 10797) - 2211;
+        x = (x ^ (x >>> 3)) * 32101 + y;
+        y = y + (x & 18716) - 2212;
+        x = (x ^ (x >>> 4)) * 30485 + y;
+        y = y + (x & 26635) - 2213;
+        x = (x ^ (x >>> 5)) * 28871 + y;
+        y = y + (x & 34554) - 2214;
+        x = (x ^ (x >>> 6)) * 27255 + y;
+        y = y + (x & 42473) - 2215;
+        x = (x ^ (x >>> 7)) * 25641 + y;
+        y = y + (x & 50392) - 2216;
+        x = (x ^ (x >>> 8)) * 24025 + y;
+        y = y + (x & 58311) - 2217;
+        x = (x ^ (x >>> 9)) * 22411 + y;
+        y = y + (x & 694) - 2218;
+        x = (x ^ (x >>> 10)) * 20795 + y;
+        y = y + (x & 8613) - 2219;
+        x = (x ^ (x >>> 11)) * 19181 + y;
+        y = y + (x & 16532) - 2220;
+        x = (x ^ (x >>> 12)) * 17565 + y;
+        y = y + (x & 24451) - 2221;
+        x = (x ^ (x >>> 13)) * 15951 + y;
+        y = y + (x & 32370) - 2222;
+        x = (x ^ (x >>> 1)) * 14335 + y;
+        y = y + (x & 40289) - 2223;
+        x = (x ^ (x >>> 2)) * 12721 + y;
+        y = y + (x & 48208) - 2224;
+        x = (x ^ (x >>> 3)) * 11105 + y;
+        y = y + (x & 56127) - 2225;
+        x = (x ^ (x >>> 4)) * 9491 + y;
+        y = y + (x & 64046) - 2226;
+        x = (x ^ (x >>> 5)) * 7875 + y;
+        y = y + (x & 6429) - 2227;
+        x = (x ^ (x >>> 6)) * 6261 + y;
+        y = y + (x & 14348) - 2228;
+        x = (x ^ (x >>> 7)) * 4645 + y;
+        y = y + (x & 22267) - 2229;
+        x = (x ^ (x >>> 8)) * 3031 + y;
+        y = y + (x & 30186) - 2230;
+        x = (x ^ (x >>> 9)) * 1415 + y;
+        y = y + (x & 38105) - 2231;
+        x = (x ^ (x >>> 10)) * 32569 + y;
+        y = y + (x & 46024) - 2232;
+        x = (x ^ (x >>> 11)) * 30953 + y;
+        y = y + (x & 53943) - 2233;
+        x = (x ^ (x >>> 12)) * 29339 + y;
+        y = y + (x & 61862) - 2234;
+        x = (x ^ (x >>> 13)) * 27723 + y;
+        y = y + (x & 4245) - 2235;
+        x = (x ^ (x >>> 1)) * 26109 + y;
+        y = y + (x & 12164) - 2236;
+        x = (x ^ (x >>> 2)) * 24493 + y;
+        y = y + (x & 20083) - 2237;
+        x = (x ^ (x >>> 3)) * 22879 + y;
+        y = y + (x & 28002) - 2238;
+        x = (x ^ (x >>> 4)) * 21263 + y;
+        y = y + (x & 35921) - 2239;
+        x = (x ^ (x >>> 5)) * 19649 + y;
+        y = y + (x & 43840) - 2240;
+        x = (x ^ (x >>> 6)) * 18033 + y;
+        y = y + (x & 51759) - 2241;
+        x = (x ^ (x >>> 7)) * 16419 + y;
+        y = y + (x & 59678) - 2242;
+        x = (x ^ (x >>> 8)) * 14803 + y;
+        y = y + (x & 2061) - 2243;
+        x = (x ^ (x >>> 9)) * 13189 + y;
+        y = y + (x & 9980) - 2244;
+        x = (x ^ (x >>> 10)) * 11573 + y;
+        y = y + (x & 17899) - 2245;
+        x = (x ^ (x >>> 11)) * 9959 + y;
+        y = y + (x & 25818) - 2246;
+        x = (x ^ (x >>> 12)) * 8343 + y;
+        y = y + (x & 33737) - 2247;
+        x = (x ^ (x >>> 13)) * 6729 + y;
+        y = y + (x & 41656) - 2248;
+        x = (x ^ (x >>> 1)) * 5113 + y;
+        y = y + (x & 49575) - 2249;
+        x = (x ^ (x >>> 2)) * 3499 + y;
+        y = y + (x & 57494) - 2250;
+        x = (x ^ (x >>> 3)) * 1883 + y;
+        y = y + (x & 65413) - 2251;
+        x = (x ^ (x >>> 4)) * 269 + y;
+        y = y + (x & 7796) - 2252;
+        x = (x ^ (x >>> 5)) * 31421 + y;
+        y = y + (x & 15715) - 2253;
+        x = (x ^ (x >>> 6)) * 29807 + y;
+        y = y + (x & 23634) - 2254;
+        x = (x ^ (x >>> 7)) * 28191 + y;
+        y = y + (x & 31553) - 2255;
+        x = (x ^ (x >>> 8)) * 26577 + y;
+        y = y + (x & 39472) - 2256;
+        x = (x ^ (x >>> 9)) * 24961 + y;
+        y = y + (x & 47391) - 2257;
+        x = (x ^ (x >>> 10)) * 23347 + y;
+        y = y + (x & 55310) - 2258;
+        x = (x ^ (x >>> 11)) * 21731 + y;
+        y = y + (x & 63229) - 2259;
+        x = (x ^ (x >>> 12)) * 20117 + y;
+        y = y + (x & 5612) - 2260;
+        x = (x ^ (x >>> 13)) * 18501 + y;
+        y = y + (x & 13531) - 2261;
+        x = (x ^ (x >>> 1)) * 16887 + y;
+        y = y + (x & 21450) - 2262;
+        x = (x ^ (x >>> 2)) * 15271 + y;
+        y = y + (x & 29369) - 2263;
+        x = (x ^ (x >>> 3)) * 13657 + y;
+        y = y + (x & 37288) - 2264;
+        x = (x ^ (x >>> 4)) * 12041 + y;
+        y = y + (x & 45207) - 2265;
+        x = (x ^ (x >>> 5)) * 10427 + y;
+        y = y + (x & 53126) - 2266;
+        x = (x ^ (x >>> 6)) * 8811 + y;
+        y = y + (x & 61045) - 2267;
+        x = (x ^ (x >>> 7)) * 7197 + y;
+        y = y + (x & 3428) - 2268;
+        x = (x ^ (x >>> 8)) * 5581 + y;
+        y = y + (x & 11347) - 2269;
+        x = (x ^ (x >>> 9)) * 3967 + y;
+        y = y + (x & 19266) - 2270;
+        x = (x ^ (x >>> 10)) * 2351 + y;
+        y = y + (x & 27185) - 2271;
+        x = (x ^ (x >>> 11)) * 737 + y;
+        y = y + (x & 35104) - 2272;
+        x = (x ^ (x >>> 12)) * 31889 + y;
+        y = y + (x & 43023) - 2273;
+        x = (x ^ (x >>> 13)) * 30275 + y;
+        y = y + (x & 50942) - 2274;
+        x = (x ^ (x >>> 1)) * 28659 + y;
+        y = y + (x & 58861) - 2275;
+        x = (x ^ (x >>> 2)) * 27045 + y;
+        y = y + (x & 1244) - 2276;
+        x = (x ^ (x >>> 3)) * 25429 + y;
+        y = y + (x & 9163) - 2277;
+        x = (x ^ (x >>> 4)) * 23815 + y;
+        y = y + (x & 17082) - 2278;
+        x = (x ^ (x >>> 5)) * 22199 + y;
+        y = y + (x & 25001) - 2279;
+        x = (x ^ (x >>> 6)) * 20585 + y;
+        y = y + (x & 32920) - 2280;
+        x = (x ^ (x >>> 7)) * 18969 + y;
+        y = y + (x & 40839) - 2281;
+        x = (x ^ (x >>> 8)) * 17355 + y;
+        y = y + (x & 48758) - 2282;
+        x = (x ^ (x >>> 9)) * 15739 + y;
+        y = y + (x & 56677) - 2283;
+        x = (x ^ (x >>> 10)) * 14125 + y;
+        y = y + (x & 64596) - 2284;
+        x = (x ^ (x >>> 11)) * 12509 + y;
+        y = y + (x & 6979) - 2285;
+        x = (x ^ (x >>> 12)) * 10895 + y;
+        y = y + (x & 14898) - 2286;
+        x = (x ^ (x >>> 13)) * 9279 + y;
+        y = y + (x & 22817) - 2287;
+        x = (x ^ (x >>> 1)) * 7665 + y;
+        y = y + (x & 30736) - 2288;
+        x = (x ^ (x >>> 2)) * 6049 + y;
+        y = y + (x & 38655) - 2289;
+        x = (x ^ (x >>> 3)) * 4435 + y;
+        y = y + (x & 46574) - 2290;
+        x = (x ^ (x >>> 4)) * 2819 + y;
+        y = y + (x & 54493) - 2291;
+        x = (x ^ (x >>> 5)) * 1205 + y;
+        y = y + (x & 62412) - 2292;
+        x = (x ^ (x >>> 6)) * 32357 + y;
+        y = y + (x & 4795) - 2293;
+        x = (x ^ (x >>> 7)) * 30743 + y;
+        y = y + (x & 12714) - 2294;
+        x = (x ^ (x >>> 8)) * 29127 + y;
+        y = y + (x & 20633) - 2295;
+        x = (x ^ (x >>> 9)) * 27513 + y;
+        y = y + (x & 28552) - 2296;
+        x = (x ^ (x >>> 10)) * 25897 + y;
+        y = y + (x & 36471) - 2297;
+        x = (x ^ (x >>> 11)) * 24283 + y;
+        y = y + (x & 44390) - 2298;
+        x = (x ^ (x >>> 12)) * 22667 + y;
+        y = y + (x & 52309) - 2299;
+        x = (x ^ (x >>> 13)) * 21053 + y;
+        y = y + (x & 60228) - 2300;
+        x = (x ^ (x >>> 1)) * 19437 + y;
+        y = y + (x & 2611) - 2301;
+        x = (x ^ (x >>> 2)) * 17823 + y;
+        y = y + (x & 10530) - 2302;
+        x = (x ^ (x >>> 3)) * 16207 + y;
+        y = y + (x & 18449) - 2303;
+        x = (x ^ (x >>> 4)) * 14593 + y;
+        y = y + (x & 26368) - 2304;
+        x = (x ^ (x >>> 5)) * 12977 + y;
+        y = y + (x & 34287) - 2305;
+        x = (x ^ (x >>> 6)) * 11363 + y;
+        y = y + (x & 42206) - 2306;
+        x = (x ^ (x >>> 7)) * 9747 + y;
+        y = y + (x & 50125) - 2307;
+        x = (x ^ (x >>> 8)) * 8133 + y;
+        y = y + (x & 58044) - 2308;
+        x = (x ^ (x >>> 9)) * 6517 + y;
+        y = y + (x & 427) - 2309;
+        x = (x ^ (x >>> 10)) * 4903 + y;
+        y = y + (x & 8346) - 2310;
+        x = (x ^ (x >>> 11)) * 3287 + y;
+        y = y + (x & 16265) - 2311;
+        x = (x ^ (x >>> 12)) * 1673 + y;
+        y = y + (x & 24184) - 2312;
+        x = (x ^ (x >>> 13)) * 57 + y;
+        y = y + (x & 32103) - 2313;
+        x = (x ^ (x >>> 1)) * 31211 + y;
+        y = y + (x & 40022) - 2314;
+        x = (x ^ (x >>> 2)) * 29595 + y;
+        y = y + (x & 47941) - 2315;
+        x = (x ^ (x >>> 3)) * 27981 + y;
+        y = y + (x & 55860) - 2316;
+        x = (x ^ (x >>> 4)) * 26365 + y;
+        y = y + (x & 63779) - 2317;
+        x = (x ^ (x >>> 5)) * 24751 + y;
+        y = y + (x & 6162) - 2318;
+        x = (x ^ (x >>> 6)) * 23135 + y;
+        y = y + (x & 14081) - 2319;
+        x = (x ^ (x >>> 7)) * 21521 + y;
+        y = y + (x & 22000) - 2320;
+        x = (x ^ (x >>> 8)) * 19905 + y;
+        y = y + (x & 29919) - 2321;
+        x = (x ^ (x >>> 9)) * 18291 + y;
+        y = y + (x & 37838) - 2322;
+        x = (x ^ (x >>> 10)) * 16675 + y;
+        y = y + (x & 45757) - 2323;
+        x = (x ^ (x >>> 11)) * 15061 + y;
+        y = y + (x & 53676) - 2324;
+        x = (x ^ (x >>> 12)) * 13445 + y;
+        y = y + (x & 61595) - 2325;
+        x = (x ^ (x >>> 13)) * 11831 + y;
+        y = y + (x & 3978) - 2326;
+        x = (x ^ (x >>> 1)) * 10215 + y;
+        y = y + (x & 11897) - 2327;
+        x = (x ^ (x >>> 2)) * 8601 + y;
+        y = y + (x & 19816) - 2328;
+        x = (x ^ (x >>> 3)) * 6985 + y;
+        y = y + (x & 27735) - 2329;
+        x = (x ^ (x >>> 4)) * 5371 + y;
+        y = y + (x & 35654) - 2330;
+        x = (x ^ (x >>> 5)) * 3755 + y;
+        y = y + (x & 43573) - 2331;
+        x = (x ^ (x >>> 6)) * 2141 + y;
+        y = y + (x & 51492) - 2332;
+        x = (x ^ (x >>> 7)) * 525 + y;
+        y = y + (x & 59411) - 2333;
+        x = (x ^ (x >>> 8)) * 31679 + y;
+        y = y + (x & 1794) - 2334;
+        x = (x ^ (x >>> 9)) * 30063 + y;
+        y = y + (x & 9713) - 2335;
+        x = (x ^ (x >>> 10)) * 28449 + y;
+        y = y + (x & 17632) - 2336;
+        x = (x ^ (x >>> 11)) * 26833 + y;
+        y = y + (x & 25551) - 2337;
+        x = (x ^ (x >>> 12)) * 25219 + y;
+        y = y + (x & 33470) - 2338;
+        x = (x ^ (x >>> 13)) * 23603 + y;
+        y = y + (x & 41389) - 2339;
+        x = (x ^ (x >>> 1)) * 21989 + y;
+        y = y + (x & 49308) - 2340;
+        x = (x ^ (x >>> 2)) * 20373 + y;
+        y = y + (x & 57227) - 2341;
+        x = (x ^ (x >>> 3)) * 18759 + y;
+        y = y + (x & 65146) - 2342;
+        x = (x ^ (x >>> 4)) * 17143 + y;
+        y = y + (x & 7529) - 2343;
+        x = (x ^ (x >>> 5)) * 15529 + y;
+        y = y + (x & 15448) - 2344;
+        x = (x ^ (x >>> 6)) * 13913 + y;
+        y = y + (x & 23367) - 2345;
+        x = (x ^ (x >>> 7)) * 12299 + y;
+        y = y + (x & 31286) - 2346;
+        x = (x ^ (x >>> 8)) * 10683 + y;
+        y = y + (x & 39205) - 2347;
+        x = (x ^ (x >>> 9)) * 9069 + y;
+        y = y + (x & 47124) - 2348;
+        x = (x ^ (x >>> 10)) * 7453 + y;
+        y = y + (x & 55043) - 2349;
+        x = (x ^ (x >>> 11)) * 5839 + y;
+        y = y + (x & 62962) - 2350;
+        x = (x ^ (x >>> 12)) * 4223 + y;
+        y = y + (x & 5345) - 2351;
+        x = (x ^ (x >>> 13)) * 2609 + y;
+        y = y + (x & 13264) - 2352;
+        x = (x ^ (x >>> 1)) * 993 + y;
+        y = y + (x & 21183) - 2353;
+        x = (x ^ (x >>> 2)) * 32147 + y;
+        y = y + (x & 29102) - 2354;
+        x = (x ^ (x >>> 3)) * 30531 + y;
+        y = y + (x & 37021) - 2355;
+        x = (x ^ (x >>> 4)) * 28917 + y;
+        y = y + (x & 44940) - 2356;
+        x = (x ^ (x >>> 5)) * 27301 + y;
+        y = y + (x & 52859) - 2357;
+        x = (x ^ (x >>> 6)) * 25687 + y;
+        y = y + (x & 60778) - 2358;
+        x = (x ^ (x >>> 7)) * 24071 + y;
+        y = y + (x & 3161) - 2359;
+        x = (x ^ (x >>> 8)) * 22457 + y;
+        y = y + (x & 11080) - 2360;
+        x = (x ^ (x >>> 9)) * 20841 + y;
+        y = y + (x & 18999) - 2361;
+        x = (x ^ (x >>> 10)) * 19227 + y;
+        y = y + (x & 26918) - 2362;
+        x = (x ^ (x >>> 11)) * 17611 + y;
+        y = y + (x & 34837) - 2363;
+        x = (x ^ (x >>> 12)) * 15997 + y;
+        y = y + (x & 42756) - 2364;
+        x = (x ^ (x >>> 13)) * 14381 + y;
+        y = y + (x & 50675) - 2365;
+        x = (x ^ (x >>> 1)) * 12767 + y;
+        y = y + (x & 58594) - 2366;
+        x = (x ^ (x >>> 2)) * 11151 + y;
+        y = y + (x & 977) - 2367;
+        x = (x ^ (x >>> 3)) * 9537 + y;
+        y = y + (x & 8896) - 2368;
+        x = (x ^ (x >>> 4)) * 7921 + y;
+        y = y + (x & 16815) - 2369;
+        x = (x ^ (x >>> 5)) * 6307 + y;
+        y = y + (x & 24734) - 2370;
+        x = (x ^ (x >>> 6)) * 4691 + y;
+        y = y + (x & 32653) - 2371;
+        x = (x ^ (x >>> 7)) * 3077 + y;
+        y = y + (x & 40572) - 2372;
+        x = (x ^ (x >>> 8)) * 1461 + y;
+        y = y + (x & 48491) - 2373;
+        x = (x ^ (x >>> 9)) * 32615 + y;
+        y = y + (x & 56410) - 2374;
+        x = (x ^ (x >>> 10)) * 30999 + y;
+        y = y + (x & 64329) - 2375;
+        x = (x ^ (x >>> 11)) * 29385 + y;
+        y = y + (x & 6712) - 2376;
+        x = (x ^ (x >>> 12)) * 27769 + y;
+        y = y + (x & 14631) - 2377;
+        x = (x ^ (x >>> 13)) * 26155 + y;
+        y = y + (x & 22550) - 2378;
+        x = (x ^ (x >>> 1)) * 24539 + y;
+        y = y + (x & 30469) - 2379;
+        x = (x ^ (x >>> 2)) * 22925 + y;
+        y = y + (x & 38388) - 2380;
+        x = (x ^ (x >>> 3)) * 21309 + y;
+        y = y + (x & 46307) - 2381;
+        x = (x ^ (x >>> 4)) * 19695 + y;
+        y = y + (x & 54226) - 2382;
+        x = (x ^ (x >>> 5)) * 18079 + y;
+        y = y + (x & 62145) - 2383;
+        x = (x ^ (x >>> 6)) * 16465 + y;
+        y = y + (x & 4528) - 2384;
+        x = (x ^ (x >>> 7)) * 14849 + y;
+        y = y + (x & 12447) - 2385;
+        x = (x ^ (x >>> 8)) * 13235 + y;
+        y = y + (x & 20366) - 2386;
+        x = (x ^ (x >>> 9)) * 11619 + y;
+        y = y + (x & 28285) - 2387;
+        x = (x ^ (x >>> 10)) * 10005 + y;
+        y = y + (x & 36204) - 2388;
+        x = (x ^ (x >>> 11)) * 8389 + y;
+        y = y + (x & 44123) - 2389;
+        x = (x ^ (x >>> 12)) * 6775 + y;
+        y = y + (x & 52042) - 2390;
+        x = (x ^ (x >>> 13)) * 5159 + y;
+        y = y + (x & 59961) - 2391;
+        x = (x ^ (x >>> 1)) * 3545 + y;
+        y = y + (x & 2344) - 2392;
+        x = (x ^ (x >>> 2)) * 1929 + y;
+        y = y + (x & 10263) - 2393;
+        x = (x ^ (x >>> 3)) * 315 + y;
+        y = y + (x & 18182) - 2394;
+        x = (x ^ (x >>> 4)) * 31467 + y;
+        y = y + (x & 26101) - 2395;
+        x = (x ^ (x >>> 5)) * 29853 + y;
+        y = y + (x & 34020) - 2396;
+        x = (x ^ (x >>> 6)) * 28237 + y;
+        y = y + (x & 41939) - 2397;
+        x = (x ^ (x >>> 7)) * 26623 + y;
+        y = y + (x & 49858) - 2398;
+        x = (x ^ (x >>> 8)) * 25007 + y;
+        y = y + (x & 57777) - 2399;
+        x = (x ^ (x >>> 9)) * 23393 + y;
+        y = y + (x & 160) - 2400;
+        x = (x ^ (x >>> 10)) * 21777 + y;
+        y = y + (x & 8079) - 2401;
+        x = (x ^ (x >>> 11)) * 20163 + y;
+        y = y + (x & 15998) - 2402;
+        x = (x ^ (x >>> 12)) * 18547 + y;
+        y = y + (x & 23917) - 2403;
+        x = (x ^ (x >>> 13)) * 16933 + y;
+        y = y + (x & 31836) - 2404;
+        x = (x ^ (x >>> 1)) * 15317 + y;
+        y = y + (x & 39755) - 2405;
+        x = (x ^ (x >>> 2)) * 13703 + y;
+        y = y + (x & 47674) - 2406;
+        x = (x ^ (x >>> 3)) * 12087 + y;
+        y = y + (x & 55593) - 2407;
+        x = (x ^ (x >>> 4)) * 10473 + y;
+        y = y + (x & 63512) - 2408;
+        x = (x ^ (x >>> 5)) * 8857 + y;
+        y = y + (x & 5895) - 2409;
+        x = (x ^ (x >>> 6)) * 7243 + y;
+        y = y + (x & 13814) - 2410;
+        x = (x ^ (x >>> 7)) * 5627 + y;
+        y = y + (x & 21733) - 2411;
+        x = (x ^ (x >>> 8)) * 4013 + y;
+        y = y + (x & 29652) - 2412;
+        x = (x ^ (x >>> 9)) * 2397 + y;
+        y = y + (x & 37571) - 2413;
+        x = (x ^ (x >>> 10)) * 783 + y;
+        y = y + (x & 45490) - 2414;
+        x = (x ^ (x >>> 11)) * 31935 + y;
+        y = y + (x & 53409) - 2415;
+        x = (x ^ (x >>> 12)) * 30321 + y;
+        y = y + (x & 61328) - 2416;
+        x = (x ^ (x >>> 13)) * 28705 + y;
+        y = y + (x & 3711) - 2417;
+        x = (x ^ (x >>> 1)) * 27091 + y;
+        y = y + (x & 11630) - 2418;
+        x = (x ^ (x >>> 2)) * 25475 + y;
+        y = y + (x & 19549) - 2419;
+        x = (x ^ (x >>> 3)) * 23861 + y;
+        y = y + (x & 27468) - 2420;
+        x = (x ^ (x >>> 4)) * 22245 + y;
+        y = y + (x & 35387) - 2421;
+        x = (x ^ (x >>> 5)) * 20631 + y;
+        y = y + (x & 43306) - 2422;
+        x = (x ^ (x >>> 6)) * 19015 + y;
+        y = y + (x & 51225) - 2423;
+        x = (x ^ (x >>> 7)) * 17401 + y;
+        y = y + (x & 59144) - 2424;
+        x = (x ^ (x >>> 8)) * 15785 + y;
+        y = y + (x & 1527) - 2425;
+        x = (x ^ (x >>> 9)) * 14171 + y;
+        y = y + (x & 9446) - 2426;
+        x = (x ^ (x >>> 10)) * 12555 + y;
+        y = y + (x & 17365) - 2427;
+        x = (x ^ (x >>> 11)) * 10941 + y;
+        y = y + (x & 25284) - 2428;
+        x = (x ^ (x >>> 12)) * 9325 + y;
+        y = y + (x & 33203) - 2429;
+        x = (x ^ (x >>> 13)) * 7711 + y;
+        y = y + (x & 41122) - 2430;
+        x = (x ^ (x >>> 1)) * 6095 + y;
+        y = y + (x & 49041) - 2431;
+        x = (x ^ (x >>> 2)) * 4481 + y;
+        y = y + (x & 56960) - 2432;
+        x = (x ^ (x >>> 3)) * 2865 + y;
+        y = y + (x & 64879) - 2433;
+        x = (x ^ (x >>> 4)) * 1251 + y;
+        y = y + (x & 7262) - 2434;
+        x = (x ^ (x >>> 5)) * 32403 + y;
+        y = y + (x & 15181) - 2435;
+        x = (x ^ (x >>> 6)) * 30789 + y;
+        y = y + (x & 23100) - 2436;
+        x = (x ^ (x >>> 7)) * 29173 + y;
+        y = y + (x & 31019) - 2437;
+        x = (x ^ (x >>> 8)) * 27559 + y;
+        y = y + (x & 38938) - 2438;
+        x = (x ^ (x >>> 9)) * 25943 + y;
+        y = y + (x & 46857) - 2439;
+        x = (x ^ (x >>> 10)) * 24329 + y;
+        y = y + (x & 54776) - 2440;
+        x = (x ^ (x >>> 11)) * 22713 + y;
+        y = y + (x & 62695) - 2441;
+        x = (x ^ (x >>> 12)) * 21099 + y;
+        y = y + (x & 5078) - 2442;
+        x = (x ^ (x >>> 13)) * 19483 + y;
+        y = y + (x & 12997) - 2443;
+        x = (x ^ (x >>> 1)) * 17869 + y;
+        y = y + (x & 20916) - 2444;
+        x = (x ^ (x >>> 2)) * 16253 + y;
+        y = y + (x & 28835) - 2445;
+        x = (x ^ (x >>> 3)) * 14639 + y;
+        y = y + (x & 36754) - 2446;
+        x = (x ^ (x >>> 4)) * 13023 + y;
+        y = y + (x & 44673) - 2447;
+        x = (x ^ (x >>> 5)) * 11409 + y;
+        y = y + (x & 52592) - 2448;
+        x = (x ^ (x >>> 6)) * 9793 + y;
+        y = y + (x & 60511) - 2449;
+        x = (x ^ (x >>> 7)) * 8179 + y;
+        y = y + (x & 2894) - 2450;
+        x = (x ^ (x >>> 8)) * 6563 + y;
+        y = y + (x & 10813) - 2451;
+        x = (x ^ (x >>> 9)) * 4949 + y;
+        y = y + (x & 18732) - 2452;
+        x = (x ^ (x >>> 10)) * 3333 + y;
+        y = y + (x & 26651) - 2453;
+        x = (x ^ (x >>> 11)) * 1719 + y;
+        y = y + (x & 34570) - 2454;
+        x = (x ^ (x >>> 12)) * 103 + y;
+        y = y + (x & 42489) - 2455;
+        x = (x ^ (x >>> 13)) * 31257 + y;
+        y = y + (x & 50408) - 2456;
+        x = (x ^ (x >>> 1)) * 29641 + y;
+        y = y + (x & 58327) - 2457;
+        x = (x ^ (x >>> 2)) * 28027 + y;
+        y = y + (x & 710) - 2458;
+        x = (x ^ (x >>> 3)) * 26411 + y;
+        y = y + (x & 8629) - 2459;
+        x = (x ^ (x >>> 4)) * 24797 + y;
+        y = y + (x & 16548) - 2460;
+        x = (x ^ (x >>> 5)) * 23181 + y;
+        y = y + (x & 24467) - 2461;
+        x = (x ^ (x >>> 6)) * 21567 + y;
+        y = y + (x & 32386) - 2462;
+        x = (x ^ (x >>> 7)) * 19951 + y;
+        y = y + (x & 40305) - 2463;
+        x = (x ^ (x >>> 8)) * 18337 + y;
+        y = y + (x & 48224) - 2464;
+        x = (x ^ (x >>> 9)) * 16721 + y;
+        y = y + (x & 56143) - 2465;
+        x = (x ^ (x >>> 10)) * 15107 + y;
+        y = y + (x & 64062) - 2466;
+        x = (x ^ (x >>> 11)) * 13491 + y;
+        y = y + (x & 6445) - 2467;
+        x = (x ^ (x >>> 12)) * 11877 + y;
+        y = y + (x & 14364) - 2468;
+        x = (x ^ (x >>> 13)) * 10261 + y;
+        y = y + (x & 22283) - 2469;
+        x = (x ^ (x >>> 1)) * 8647 + y;
+        y = y + (x & 30202) - 2470;
+        x = (x ^ (x >>> 2)) * 7031 + y;
+        y = y + (x & 38121) - 2471;
+        x = (x ^ (x >>> 3)) * 5417 + y;
+        y = y + (x & 46040) - 2472;
+        x = (x ^ (x >>> 4)) * 3801 + y;
+        y = y + (x & 53959) - 2473;
+        x = (x ^ (x >>> 5)) * 2187 + y;
+        y = y + (x & 61878) - 2474;
+        x = (x ^ (x >>> 6)) * 571 + y;
+        y = y + (x & 4261) - 2475;
+        x = (x ^ (x >>> 7)) * 31725 + y;
+        y = y + (x & 12180) - 2476;
+        x = (x ^ (x >>> 8)) * 30109 + y;
+        y = y + (x & 20099) - 2477;
+        x = (x ^ (x >>> 9)) * 28495 + y;
+        y = y + (x & 28018) - 2478;
+        x = (x ^ (x >>> 10)) * 26879 + y;
+        y = y + (x & 35937) - 2479;
+        x = (x ^ (x >>> 11)) * 25265 + y;
+        y = y + (x & 43856) - 2480;
+        x = (x ^ (x >>> 12)) * 23649 + y;
+        y = y + (x & 51775) - 2481;
+        x = (x ^ (x >>> 13)) * 22035 + y;
+        y = y + (x & 59694) - 2482;
+        x = (x ^ (x >>> 1)) * 20419 + y;
+        y = y + (x & 2077) - 2483;
+        x = (x ^ (x >>> 2)) * 18805 + y;
+        y = y + (x & 9996) - 2484;
+        x = (x ^ (x >>> 3)) * 17189 + y;
+        y = y + (x & 17915) - 2485;
+        x = (x ^ (x >>> 4)) * 15575 + y;
+        y = y + (x & 25834) - 2486;
+        x = (x ^ (x >>> 5)) * 13959 + y;
+        y = y + (x & 33753) - 2487;
+        x = (x ^ (x >>> 6)) * 12345 + y;
+        y = y + (x & 41672) - 2488;
+        x = (x ^ (x >>> 7)) * 10729 + y;
+        y = y + (x & 49591) - 2489;
+        x = (x ^ (x >>> 8)) * 9115 + y;
+        y = y + (x & 57510) - 2490;
+        x = (x ^ (x >>> 9)) * 7499 + y;
+        y = y + (x & 65429) - 2491;
+        x = (x ^ (x >>> 10)) * 5885 + y;
+        y = y + (x & 7812) - 2492;
+        x = (x ^ (x >>> 11)) * 4269 + y;
+        y = y + (x & 15731) - 2493;
+        x = (x ^ (x >>> 12)) * 2655 + y;
+        y = y + (x & 23650) - 2494;
+        x = (x ^ (x >>> 13)) * 1039 + y;
+        y = y + (x & 31569) - 2495;
+        x = (x ^ (x >>> 1)) * 32193 + y;
+        y = y + (x & 39488) - 2496;
+        x = (x ^ (x >>> 2)) * 30577 + y;
+        y = y + (x & 47407) - 2497;
+        x = (x ^ (x >>> 3)) * 28963 + y;
+        y = y + (x & 55326) - 2498;
+        x = (x ^ (x >>> 4)) * 27347 + y;
+        y = y + (x & 63245) - 2499;
+        return x + y;
+    }
+}
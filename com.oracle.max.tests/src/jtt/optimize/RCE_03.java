@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests a counted loop with a variable start index, which may be negative.
+ * @Harness: java
+ * @Runs: 0 = 45; 5 = 35; 9 = 9; 10 = 0; -1 = !java.lang.ArrayIndexOutOfBoundsException
+ */
+public class RCE_03 {
+    private static final int[] ARRAY = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    public static int test(int start) {
+        final int[] array = ARRAY;
+        int sum = 0;
+        for (int i = start; i < array.length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests counted loops that are not entered although their limit exceeds the array length or their start index is negative.
+ * @Harness: java
+ * @Runs: (20, 15) = 0; (11, 11) = 0; (-5, -5) = 0; (-3, -7) = 0; (0, 10) = 45; (5, 20) = !java.lang.ArrayIndexOutOfBoundsException; (-1, 3) = !java.lang.ArrayIndexOutOfBoundsException
+ */
+public class RCE_05 {
+    private static final int[] ARRAY = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    public static int test(int start, int limit) {
+        final int[] array = ARRAY;
+        int sum = 0;
+        for (int i = start; i < limit; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests int values passed from one bytecode instruction to the next without a store to the operand stack,
+ * including values consumed by local stores, by branches and at merge points.
+ * @Harness: java
+ * @Runs: 0 = 7; 1 = -5; 2 = 139; 10 = 4658; -5 = 21
+ */
+public class TOS_01 {
+
+    public static int test(int a) {
+        int b = a * 3 + 1;
+        int c = -b;
+        int d = (c ^ 5) - (a << 2);
+        if (a > 1) {
+            d = d * d + (a > 5 ? b : c);
+        } else {
+            d += a == 0 ? 13 : b;
+        }
+        int e = d;
+        e += d >>> 31;
+        return e + (int) (char) (short) a % 7;
+    }
+}
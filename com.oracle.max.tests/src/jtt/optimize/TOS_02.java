@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests long, float and double values passed from one bytecode instruction to the next without a store to the
+ * operand stack.
+ * @Harness: java
+ * @Runs: 0 = 0.5d; 1 = 78.75d; 3 = -58.375d; -2 = 97.0d
+ */
+public class TOS_02 {
+
+    public static double test(int a) {
+        long l = a * 1000000007L;
+        l = (l >> 3) + (l << 1);
+        float f = (float) l / 8;
+        double d = f + 1.5;
+        d = d - (long) d + (l & 0xFF);
+        if (d > 100) {
+            d = -d / 4;
+        }
+        return d + (float) (a * 0.25);
+    }
+}
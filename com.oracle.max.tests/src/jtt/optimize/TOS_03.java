@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests that an exception thrown by an instruction consuming a value passed from the previous instruction
+ * leaves the operand stack and locals consistent.
+ * @Harness: java
+ * @Runs: 0 = -1; 1 = -9; 2 = -2; 3 = 8
+ */
+public class TOS_03 {
+
+    static final int[] array = {10, 20};
+
+    public static int test(int a) {
+        int result = a + 9;
+        try {
+            result = array[a - 1] / (a - 2) + 1;
+            return result;
+        } catch (ArithmeticException e) {
+            return -result + 9;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return -result + (a * 4 + 8);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.optimize;
+
+/*
+ * Tests a virtual call site whose profile is dominated by one receiver type until another type shows up,
+ * which happens more often than a guarded inline of the dominating type is allowed to fail.
+ * @Harness: java
+ * @Runs: 0 = 0; 1 = 20002; 10 = 200020
+ */
+public class TypeGuard_01 {
+
+    static class A {
+        int value() {
+            return 1;
+        }
+    }
+
+    static class B extends A {
+        @Override
+        int value() {
+            return 2;
+        }
+    }
+
+    public static int test(int phases) {
+        final A a = new A();
+        final A b = new B();
+        int sum = 0;
+        for (int p = 0; p < phases; p++) {
+            for (int i = 0; i < 20000; i++) {
+                sum += call(a);
+            }
+            sum += call(b);
+        }
+        return sum;
+    }
+
+    private static int call(A receiver) {
+        return receiver.value();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.reflect;
+
+import java.lang.reflect.*;
+
+/*
+ * Tests that threads invoking a method and a constructor through distinct but equal reflection objects
+ * concurrently all get the right results.
+ * @Harness: java
+ * @Runs: 1 = true; 4 = true
+ */
+public class Invoke_shared01 {
+
+    private final int value;
+
+    public Invoke_shared01(int value) {
+        this.value = value;
+    }
+
+    public int add(int x) {
+        return value + x;
+    }
+
+    private static final int INVOCATIONS = 200;
+
+    public static boolean test(int threadCount) throws Exception {
+        final boolean[] results = new boolean[threadCount];
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int id = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < INVOCATIONS; i++) {
+                            final Constructor<Invoke_shared01> c = Invoke_shared01.class.getConstructor(int.class);
+                            final Method m = Invoke_shared01.class.getMethod("add", int.class);
+                            final Object receiver = c.newInstance(id);
+                            if ((Integer) m.invoke(receiver, i) != id + i) {
+                                return;
+                            }
+                        }
+                        results[id] = true;
+                    } catch (Exception e) {
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (boolean result : results) {
+            if (!result) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
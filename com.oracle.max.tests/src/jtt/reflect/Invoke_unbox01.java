@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.reflect;
+
+import java.lang.reflect.*;
+
+/*
+ * Tests the unboxing of the primitive arguments of a reflective invocation, with arguments boxed in the
+ * exact box class of the parameter, arguments that need a widening conversion and invalid arguments.
+ * @Harness: java
+ * @Runs: 0 = 1234567L; 1 = 1234567L; 2 = 1234567L; 3 = !java.lang.IllegalArgumentException;
+ * @Runs: 4 = !java.lang.IllegalArgumentException; 5 = !java.lang.IllegalArgumentException
+ */
+public class Invoke_unbox01 {
+
+    public static long combine(byte b, char c, short s, int i, long l, float f, double d, boolean z) {
+        return b + c + s + i + l + (long) f + (long) d + (z ? 1 : 0);
+    }
+
+    private static final Object[] EXACT = {(byte) 1, (char) 2, (short) 3, 4, 1234500L, 50f, 6.5d, true};
+    private static final Object[] WIDENED = {(byte) 1, (char) 2, (byte) 3, (short) 4, 1234500, 50L, 6f, true};
+
+    public static long test(int arg) throws Exception {
+        final Method m = Invoke_unbox01.class.getMethod("combine", byte.class, char.class, short.class, int.class, long.class, float.class, double.class, boolean.class);
+        Object[] args;
+        switch (arg) {
+            case 0:
+                args = EXACT;
+                break;
+            case 1:
+                args = WIDENED;
+                break;
+            case 2:
+                // invoke enough times for the accessor to be shared and compiled
+                long result = 0;
+                for (int i = 0; i < 100; i++) {
+                    result = (Long) m.invoke(null, i % 2 == 0 ? EXACT : WIDENED);
+                }
+                return result;
+            case 3:
+                // narrowing
+                args = EXACT.clone();
+                args[0] = 1;
+                break;
+            case 4:
+                args = EXACT.clone();
+                args[3] = null;
+                break;
+            default:
+                args = EXACT.clone();
+                args[7] = 1;
+                break;
+        }
+        return (Long) m.invoke(null, args);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+/*
+ * Tests mutual exclusion on a contended monitor whose critical sections alternate between short ones,
+ * for which contending threads spin, and ones in which the owner sleeps, for which they block.
+ * @Harness: java
+ * @Runs: 1 = true; 2 = true; 4 = true
+ */
+package jtt.threads;
+
+public final class Monitor_contended02 extends Thread {
+
+    static final int ITERATIONS = 2000;
+
+    static final Object lock = new Object();
+    static int counter;
+
+    private Monitor_contended02() {
+    }
+
+    public static boolean test(int threads) throws InterruptedException {
+        counter = 0;
+        final Thread[] contenders = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            contenders[i] = new Monitor_contended02();
+            contenders[i].start();
+        }
+        for (Thread thread : contenders) {
+            thread.join();
+        }
+        return counter == threads * ITERATIONS;
+    }
+
+    @Override
+    public void run() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            synchronized (lock) {
+                final int value = counter;
+                if (i % 500 == 0) {
+                    // the owner is not runnable while it sleeps, so contending threads should not spin
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                counter = value + 1;
+            }
+        }
+    }
+}
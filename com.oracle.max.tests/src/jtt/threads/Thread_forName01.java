@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.threads;
+
+/*
+ * Tests that threads loading the same classes concurrently all get the same classes.
+ * @Harness: java
+ * @Runs: 2 = true; 4 = true
+ */
+public final class Thread_forName01 {
+
+    private static final String[] NAMES = {
+        "java.util.concurrent.ConcurrentSkipListMap",
+        "java.util.concurrent.ConcurrentSkipListSet",
+        "java.util.concurrent.LinkedTransferQueue",
+        "java.util.concurrent.Exchanger",
+        "java.util.concurrent.Phaser",
+        "java.util.zip.Adler32",
+        "java.util.zip.GZIPOutputStream",
+        "java.text.DecimalFormat",
+        "java.text.SimpleDateFormat",
+        "java.util.logging.Logger"
+    };
+
+    private Thread_forName01() {
+    }
+
+    public static boolean test(int threadCount) throws InterruptedException {
+        final Class<?>[][] classes = new Class<?>[threadCount][NAMES.length];
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final Class<?>[] loaded = classes[i];
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < NAMES.length; j++) {
+                        try {
+                            loaded[j] = Class.forName(NAMES[j]);
+                        } catch (ClassNotFoundException e) {
+                            return;
+                        }
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int j = 0; j < NAMES.length; j++) {
+            if (classes[0][j] == null || !classes[0][j].getName().equals(NAMES[j])) {
+                return false;
+            }
+            for (int i = 1; i < threadCount; i++) {
+                if (classes[i][j] != classes[0][j]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
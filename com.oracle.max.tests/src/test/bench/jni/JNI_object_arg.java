@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+/*
+ * @Harness: java
+ * @Runs: 0 = true
+ */
+package test.bench.jni;
+
+import test.bench.util.*;
+
+/**
+ * Measures the per-call overhead of a native method that takes and returns an object, which
+ * requires a JNI handle frame and the unwrapping of the returned handle.
+ */
+public class JNI_object_arg extends RunBench {
+
+    protected JNI_object_arg() {
+        super(new Bench());
+    }
+
+    public static boolean test(int i) {
+        return new JNI_object_arg().runBench();
+    }
+
+    private static native Object id(Object object);
+
+    static class Bench extends MicroBenchmark {
+        private final Object object = new Object();
+
+        @Override
+        public long run() {
+            id(object);
+            return defaultResult;
+        }
+    }
+
+    public static void main(String[] args) {
+        RunBench.runTest(JNI_object_arg.class, args);
+    }
+}
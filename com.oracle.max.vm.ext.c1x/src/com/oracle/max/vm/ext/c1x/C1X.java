@@ -87,6 +87,13 @@ public class C1X extends RuntimeCompiler.DefaultNameAdapter implements RuntimeCo
     @HOSTED_ONLY
     public static boolean optionsRegistered;
 
+    /**
+     * The value of {@link C1XOptions#MaximumLinearScanIntervals} for the runtime, which is restored before the image
+     * is serialized.
+     */
+    @HOSTED_ONLY
+    private static int maximumLinearScanIntervals;
+
     private static final int DEFAULT_OPT_LEVEL = Integer.getInteger("max.c1x.optlevel", 3);
 
     public static final VMIntOption optLevelOption = VMOptions.register(new VMIntOption("-C1X:OptLevel=", DEFAULT_OPT_LEVEL,
@@ -178,11 +185,22 @@ public class C1X extends RuntimeCompiler.DefaultNameAdapter implements RuntimeCo
             compiler = new C1XCompiler(runtime, target, xirGenerator, vm().registerConfigs.compilerStub);
             compiler.addCompilationObserver(new WordTypeRewriterObserver());
             MaxineIntrinsicImplementations.initialize(compiler.intrinsicRegistry);
+
+            // A bailout is fatal when compiling the boot image, so the allocator cost is only bounded at runtime
+            if (C1XOptions.MaximumLinearScanIntervals != 0) {
+                maximumLinearScanIntervals = C1XOptions.MaximumLinearScanIntervals;
+                C1XOptions.MaximumLinearScanIntervals = 0;
+            }
+        }
+
+        if (isHosted() && phase == Phase.SERIALIZING_IMAGE) {
+            C1XOptions.MaximumLinearScanIntervals = maximumLinearScanIntervals;
         }
 
         if (phase == Phase.STARTING) {
             // Speculative opts are ok provided the compilation broker can handle deopt
             C1XOptions.UseAssumptions = vm().compilationBroker.isDeoptSupported() && Deoptimization.UseDeopt;
+            MaxineIntrinsicImplementations.initializeRuntime(compiler.intrinsicRegistry);
         } else if (phase == Phase.TERMINATING) {
             if (C1XOptions.PrintMetrics) {
                 C1XMetrics.print();
@@ -22,9 +22,12 @@
  */
 package com.oracle.max.vm.ext.c1x;
 
+import static com.sun.max.platform.Platform.*;
 import static com.sun.max.vm.intrinsics.MaxineIntrinsicIDs.*;
+import static com.sun.max.vm.layout.Layout.*;
 
 import com.oracle.max.cri.intrinsics.*;
+import com.sun.c1x.*;
 import com.sun.c1x.graph.*;
 import com.sun.c1x.intrinsics.*;
 import com.sun.c1x.ir.*;
@@ -35,7 +38,11 @@ import com.sun.c1x.value.*;
 import com.sun.cri.bytecode.*;
 import com.sun.cri.ci.*;
 import com.sun.cri.ri.*;
+import com.sun.max.lang.*;
+import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.actor.member.*;
 import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.runtime.amd64.*;
 
 public class MaxineIntrinsicImplementations {
 
@@ -250,6 +257,137 @@ public class MaxineIntrinsicImplementations {
         }
     }
 
+    public static class VectorizedArrayIntrinsic implements C1XIntrinsicImpl {
+        public final LIROpcode opcode;
+
+        public VectorizedArrayIntrinsic(LIROpcode opcode) {
+            this.opcode = opcode;
+        }
+
+        @Override
+        public Value createHIR(GraphBuilder b, RiMethod target, Value[] args, boolean isStatic, FrameState stateBefore) {
+            switch (opcode) {
+                case ArrayFill:
+                    assert args.length == 6;
+                    b.append(new VectorizedArrayOp(opcode, args[0], null, args[1], args[2], intConstant(args[3]), args[4]));
+                    return null;
+                case ArrayMismatch:
+                    assert args.length == 5;
+                    return b.append(new VectorizedArrayOp(opcode, args[0], args[1], args[2], args[3], intConstant(args[4]), null));
+                case ArrayCopy:
+                    // the long offsets are each followed by an empty slot
+                    assert args.length == 9;
+                    boolean disjoint = args[8].isConstant() && args[8].asConstant().asInt() != 0;
+                    b.append(new VectorizedArrayOp(args[0], args[1], args[3], args[4], args[6], intConstant(args[7]), disjoint));
+                    return null;
+                default:
+                    assert opcode == LIROpcode.ArrayIndexOfChar && args.length == 4;
+                    return b.append(new VectorizedArrayOp(opcode, args[0], null, args[1], args[2], 1, args[3]));
+            }
+        }
+    }
+
+    /**
+     * Computes the offset in bytes of the element at a given index of a byte array from the array's origin.
+     */
+    static Value byteArrayOffset(GraphBuilder b, Value index) {
+        Value base = b.append(Constant.forInt(byteArrayLayout().getElementOffsetFromOrigin(0).toInt()));
+        return b.append(new ArithmeticOp(Bytecodes.IADD, CiKind.Int, index, base, false, null));
+    }
+
+    public static class CryptoIntrinsic implements C1XIntrinsicImpl {
+        public final LIROpcode opcode;
+
+        public CryptoIntrinsic(LIROpcode opcode) {
+            this.opcode = opcode;
+        }
+
+        @Override
+        public Value createHIR(GraphBuilder b, RiMethod target, Value[] args, boolean isStatic, FrameState stateBefore) {
+            assert opcode == LIROpcode.Crc32Update && args.length == 4;
+            return b.append(new CryptoOp(opcode, args[0], args[1], byteArrayOffset(b, args[2]), args[3]));
+        }
+    }
+
+    /**
+     * Appends the checks that the block of {@code blockSize} bytes at {@code offset} lies within {@code array}.
+     */
+    static void checkBlock(GraphBuilder b, Value array, Value offset, int blockSize, FrameState stateBefore) {
+        Value zero = b.append(Constant.forInt(0));
+        Value length = b.append(new ArrayLength(array, stateBefore));
+        Value limit = b.append(new ArithmeticOp(Bytecodes.ISUB, CiKind.Int, length, b.append(Constant.forInt(blockSize)), false, null));
+        b.append(new BoundsCheck(offset, limit, stateBefore, Condition.LE));
+        b.append(new BoundsCheck(offset, zero, stateBefore, Condition.GE));
+    }
+
+    /**
+     * Finds a field of the holder of {@code target} that is needed by an intrinsic registered by name.
+     */
+    static FieldActor findField(RiMethod target, String name, boolean isStatic) {
+        ClassActor holder = ((MethodActor) target).holder();
+        FieldActor field = isStatic ? holder.findLocalStaticFieldActor(name) : holder.findLocalInstanceFieldActor(name);
+        if (field == null || !field.descriptor().toString().equals("[I")) {
+            throw new CiBailout("cannot find the field " + name + " of " + target);
+        }
+        return field;
+    }
+
+    /**
+     * Replaces {@code sun.security.provider.SHA.implCompress(byte[], int)} and
+     * {@code sun.security.provider.SHA2.implCompress(byte[], int)} with a {@link CryptoOp} on the hash {@code state}
+     * of the receiver. The bounds of the block are checked as the original code would.
+     */
+    public static class SHACompressIntrinsic implements C1XIntrinsicImpl {
+        public final boolean sha256;
+
+        public SHACompressIntrinsic(boolean sha256) {
+            this.sha256 = sha256;
+        }
+
+        @Override
+        public Value createHIR(GraphBuilder b, RiMethod target, Value[] args, boolean isStatic, FrameState stateBefore) {
+            assert !isStatic && args.length == 3;
+            Value state = b.append(new LoadField(args[0], findField(target, "state", false), false, stateBefore, true));
+            checkBlock(b, args[1], args[2], 64, stateBefore);
+            Value intBase = b.append(Constant.forInt(intArrayLayout().getElementOffsetFromOrigin(0).toInt()));
+            if (sha256) {
+                ClassActor holder = ((MethodActor) target).holder();
+                Value statics = b.append(new Constant(holder.getEncoding(RiType.Representation.StaticFields)));
+                Value k = b.append(new LoadField(statics, findField(target, "ROUND_CONSTS", true), true, null, true));
+                b.append(new CryptoOp(LIROpcode.Sha256Compress, state, intBase, args[1], byteArrayOffset(b, args[2]), k, intBase));
+            } else {
+                b.append(new CryptoOp(LIROpcode.Sha1Compress, state, intBase, args[1], byteArrayOffset(b, args[2])));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Replaces {@code com.sun.crypto.provider.AESCrypt.encryptBlock(byte[], int, byte[], int)} and
+     * {@code decryptBlock(byte[], int, byte[], int)} with a {@link CryptoOp} on the expanded key {@code K} of the
+     * receiver. The bounds of both blocks are checked as the original code would.
+     */
+    public static class AESCryptIntrinsic implements C1XIntrinsicImpl {
+        public final boolean encrypt;
+
+        public AESCryptIntrinsic(boolean encrypt) {
+            this.encrypt = encrypt;
+        }
+
+        @Override
+        public Value createHIR(GraphBuilder b, RiMethod target, Value[] args, boolean isStatic, FrameState stateBefore) {
+            assert !isStatic && args.length == 5;
+            Value key = b.append(new LoadField(args[0], findField(target, "K", false), false, stateBefore, true));
+            Value keyLength = b.append(new ArrayLength(key, stateBefore));
+            for (int i = 1; i <= 3; i += 2) {
+                checkBlock(b, args[i], args[i + 1], 16, stateBefore);
+            }
+            Value keyOffset = b.append(Constant.forInt(intArrayLayout().getElementOffsetFromOrigin(0).toInt()));
+            LIROpcode opcode = encrypt ? LIROpcode.AesEncryptBlock : LIROpcode.AesDecryptBlock;
+            b.append(new CryptoOp(opcode, args[1], byteArrayOffset(b, args[2]), args[3], byteArrayOffset(b, args[4]), key, keyOffset, keyLength));
+            return null;
+        }
+    }
 
     public static void initialize(IntrinsicImpl.Registry registry) {
         registry.add(LSB, new BitIntrinsic(LIROpcode.Lsb));
@@ -277,5 +415,27 @@ public class MaxineIntrinsicImplementations {
         registry.add(ALLOCA, new AllocaIntrinsic());
 
         registry.add(CMP_BYTECODE, new CompareBytecodeIntrinsic());
+
+        registry.add(ARRAY_FILL, new VectorizedArrayIntrinsic(LIROpcode.ArrayFill));
+        registry.add(ARRAY_MISMATCH, new VectorizedArrayIntrinsic(LIROpcode.ArrayMismatch));
+        registry.add(ARRAY_INDEX_OF_CHAR, new VectorizedArrayIntrinsic(LIROpcode.ArrayIndexOfChar));
+        registry.add(ARRAY_COPY, new VectorizedArrayIntrinsic(LIROpcode.ArrayCopy));
+
+        registry.add(CRC32_UPDATE, new CryptoIntrinsic(LIROpcode.Crc32Update));
+    }
+
+    /**
+     * Registers the intrinsics for JDK methods that are not part of the boot image and whose implementation
+     * depends on the instruction set extensions of the processor the VM is running on.
+     */
+    public static void initializeRuntime(IntrinsicImpl.Registry registry) {
+        if (platform().isa == ISA.AMD64 && AMD64CPUFeatures.useAES()) {
+            registry.add("com.sun.crypto.provider.AESCrypt", "encryptBlock", "([BI[BI)V", new AESCryptIntrinsic(true));
+            registry.add("com.sun.crypto.provider.AESCrypt", "decryptBlock", "([BI[BI)V", new AESCryptIntrinsic(false));
+        }
+        if (platform().isa == ISA.AMD64 && AMD64CPUFeatures.useSHA()) {
+            registry.add("sun.security.provider.SHA", "implCompress", "([BI)V", new SHACompressIntrinsic(false));
+            registry.add("sun.security.provider.SHA2", "implCompress", "([BI)V", new SHACompressIntrinsic(true));
+        }
     }
 }
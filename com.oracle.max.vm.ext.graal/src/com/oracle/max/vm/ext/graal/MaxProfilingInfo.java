@@ -25,6 +25,8 @@ package com.oracle.max.vm.ext.graal;
 import java.util.*;
 import com.oracle.graal.api.meta.*;
 import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.actor.member.ClassMethodActor;
+import com.sun.max.vm.profile.MethodInstrumentation;
 import com.sun.max.vm.profile.MethodProfile;
 
 public class MaxProfilingInfo implements ProfilingInfo {
@@ -90,8 +92,20 @@ public class MaxProfilingInfo implements ProfilingInfo {
 
     @Override
     public JavaMethodProfile getMethodProfile(int bci) {
-        // TODO: implement when method profile information is utilized in Graal
-        return null;
+        ClassMethodActor caller = (ClassMethodActor) method.riResolvedMethod();
+        MethodInstrumentation.ReceiverMethodProfile receiverMethodProfile = MethodInstrumentation.computeReceiverMethodProfile(caller, methodProfile, bci);
+        if (receiverMethodProfile == null) {
+            return null;
+        }
+        double totalCount = receiverMethodProfile.total;
+        double notRecordedProbability = 1.0;
+        JavaMethodProfile.ProfiledMethod[] profiledMethods = new JavaMethodProfile.ProfiledMethod[receiverMethodProfile.methods.length];
+        for (int i = 0; i < profiledMethods.length; i++) {
+            double probability = receiverMethodProfile.counts[i] / totalCount;
+            profiledMethods[i] = new JavaMethodProfile.ProfiledMethod(MaxResolvedJavaMethod.get(receiverMethodProfile.methods[i]), probability);
+            notRecordedProbability -= probability;
+        }
+        return new JavaMethodProfile(Math.max(notRecordedProbability, 0.0), profiledMethods);
     }
 
     @Override
@@ -176,12 +176,7 @@ public class MaxResolvedJavaMethod extends MaxJavaMethod implements ResolvedJava
         if (isProfilingInfoIgnored()) {
             return null;
         }
-        ClassMethodActor cma = (ClassMethodActor) riResolvedMethod();
-        TargetMethod tm = Compilations.currentTargetMethod(cma.compiledState, RuntimeCompiler.Nature.BASELINE);
-        if (tm == null || tm.profile() == null || tm.profile().rawData() == null) {
-            return null;
-        }
-        return tm.profile();
+        return ((ClassMethodActor) riResolvedMethod()).baselineProfile();
     }
 
     @Override
@@ -40,6 +40,7 @@ import com.oracle.graal.phases.tiers.HighTierContext;
 import com.oracle.max.vm.ext.graal.*;
 import com.oracle.max.vm.ext.graal.nodes.MaxInfopointNode;
 import com.sun.max.annotate.*;
+import com.sun.max.vm.VMOptions;
 import com.sun.max.vm.hosted.*;
 import com.sun.max.vm.runtime.FatalError;
 
@@ -49,17 +50,36 @@ import java.util.List;
 
 /**
  * This is a Maxine customization for tuning the inlining policy.
- * Since Maxine currently does not support runtime generated probabilities,
- * we use the {@code min(relevance, probability)} in {@link Policy#computeMaximumSize}.
+ * Since probabilities are only derived from runtime profiles for methods that were
+ * compiled by the baseline compiler first, we use the {@code min(relevance, probability)}
+ * in {@link Policy#computeMaximumSize}.
  *
  * We also dial down the {@link GraalOptions#MaximumInliningSize} value here, rather than
- * change the actual option.
+ * change the actual option. Call sites that the profile of the method being compiled shows
+ * to be hot get a budget that is {@link #GraalHotInvokeInliningBonus} times larger.
  */
 public class MaxInliningPhase extends InliningPhase {
 
     @RESET
     private static int maxInliningSize;
 
+    /**
+     * Minimum number of executions of a call site per invocation of the method being compiled for it to be considered hot.
+     */
+    private static float GraalHotInvokeProbability = 1.0f;
+
+    /**
+     * Factor by which the inlining budget is increased for hot call sites.
+     */
+    private static float GraalHotInvokeInliningBonus = 2.0f;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "GraalHotInvokeProbability", MaxInliningPhase.class,
+            "Minimum profiled number of executions of a call site per invocation of the compiled method for it to be considered hot.");
+        VMOptions.addFieldOption("-XX:", "GraalHotInvokeInliningBonus", MaxInliningPhase.class,
+            "Factor by which the inlining budget of hot call sites is increased.");
+    }
+
     /**
      * Indicates whether auxiliary infopoints were constructed.
      */
@@ -99,6 +119,12 @@ public class MaxInliningPhase extends InliningPhase {
 
     private static final ProbTL probTL = new ProbTL();
 
+    private static class HotTL extends ThreadLocal<Boolean> {
+
+    }
+
+    private static final HotTL hotTL = new HotTL();
+
     static class Policy extends GreedyInliningPolicy {
 
         public Policy() {
@@ -113,14 +139,26 @@ public class MaxInliningPhase extends InliningPhase {
         protected double computeMaximumSize(double relevance, int configuredMaximum) {
             // recover inliningBonus (some loss of precision due to the original conversion to int is inevitable)
             double inliningBonus = (double) configuredMaximum / (double) MaximumInliningSize.getValue();
+            if (hotTL.get() == Boolean.TRUE) {
+                inliningBonus *= GraalHotInvokeInliningBonus;
+            }
             return super.computeMaximumSize(Math.min(relevance, probTL.get()), (int) (getMaxInliningSize() * inliningBonus));
         }
 
         @Override
         public boolean isWorthInlining(Replacements replacements, InlineInfo info, int inliningDepth, double probability, double relevance, boolean fullyProcessed) {
             probTL.set(probability);
+            hotTL.set(probability >= GraalHotInvokeProbability && isProfiled(info.invoke()));
             return super.isWorthInlining(replacements, info, inliningDepth, probability, relevance, fullyProcessed);
         }
+
+        /**
+         * Determines if the probabilities of the graph containing a given invoke are based on a runtime profile.
+         */
+        private static boolean isProfiled(Invoke invoke) {
+            MaxResolvedJavaMethod rootMethod = (MaxResolvedJavaMethod) invoke.asNode().graph().method();
+            return rootMethod.getBaselineMethodProfilingInfo() != null;
+        }
     }
 
     public MaxInliningPhase() {
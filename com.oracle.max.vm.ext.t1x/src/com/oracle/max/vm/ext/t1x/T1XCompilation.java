@@ -303,6 +303,49 @@ public abstract class T1XCompilation {
      */
     private boolean isDeopt;
 
+    /**
+     * The register whose primitive value is stored to the top of the operand stack by the last code emitted,
+     * or {@code null} if the last code emitted was not such a store. See {@link T1XOptions#CacheTopOfStack}.
+     */
+    private CiRegister tosReg;
+
+    /**
+     * The kind of the value in {@link #tosReg}.
+     */
+    private Kind tosKind;
+
+    /**
+     * The code position of the store of {@link #tosReg} to the top of the operand stack.
+     */
+    private int tosStorePos;
+
+    /**
+     * The code position one past the store of {@link #tosReg} to the top of the operand stack.
+     */
+    private int tosStoreEnd;
+
+    /**
+     * The BCI of the instruction following the one that pushed {@link #tosReg}.
+     */
+    private int tosNextBCI = -1;
+
+    /**
+     * The targets of all the branches in the method, including backward branches. This is only computed
+     * if {@link T1XOptions#CacheTopOfStack} is enabled.
+     */
+    private boolean[] branchTargetBCIs;
+
+    /**
+     * The instructions whose top of stack operand was {@linkplain #forwardTopOfStack(Kind, CiRegister) forwarded}
+     * in a register from the preceding instruction.
+     */
+    private final ArrayList<ForwardedOperand> forwardedOperands = new ArrayList<ForwardedOperand>();
+
+    /**
+     * See {@link T1XTargetMethod#reexecuteEntries}.
+     */
+    int[] reexecuteEntries;
+
     /**
      * Creates a compilation object.
      */
@@ -334,6 +377,10 @@ public abstract class T1XCompilation {
 
         startBlock(0);
 
+        if (T1XOptions.CacheTopOfStack) {
+            branchTargetBCIs = branchTargets(code);
+        }
+
         initFrame(method, codeAttribute);
 
         initHandlers(method, code);
@@ -351,6 +398,32 @@ public abstract class T1XCompilation {
         }
     }
 
+    /**
+     * Marks the targets of all the branches in a given bytecode array. Unlike {@link #blockBCIs}, which only
+     * denotes a block start once a branch to it has been translated, this includes the targets of backward branches.
+     */
+    private static boolean[] branchTargets(byte[] code) {
+        boolean[] targets = new boolean[code.length];
+        BytecodeStream s = new BytecodeStream(code);
+        while (s.currentBCI() < s.endBCI()) {
+            int opcode = s.currentBC();
+            if (opcode == Bytecodes.GOTO_W || opcode == Bytecodes.JSR_W) {
+                targets[s.readFarBranchDest()] = true;
+            } else if (Bytecodes.isBranch(opcode)) {
+                targets[s.readBranchDest()] = true;
+            } else if (opcode == Bytecodes.TABLESWITCH || opcode == Bytecodes.LOOKUPSWITCH) {
+                int bci = s.currentBCI();
+                BytecodeSwitch bs = opcode == Bytecodes.TABLESWITCH ? new BytecodeTableSwitch(s, bci) : new BytecodeLookupSwitch(s, bci);
+                targets[bs.defaultTarget()] = true;
+                for (int i = 0; i < bs.numberOfCases(); i++) {
+                    targets[bs.targetAt(i)] = true;
+                }
+            }
+            s.next();
+        }
+        return targets;
+    }
+
     void initHandlers(ClassMethodActor method, byte[] code) {
         handlers = codeAttribute.exceptionHandlers();
         if (handlers.length != 0) {
@@ -381,6 +454,12 @@ public abstract class T1XCompilation {
         stream = null;
         handlerBCIs = null;
         handlers = null;
+        branchTargetBCIs = null;
+        tosReg = null;
+        tosKind = null;
+        tosNextBCI = -1;
+        forwardedOperands.clear();
+        reexecuteEntries = null;
         syncHandlerStartPos = -1;
         syncHandlerEndPos = -1;
         syncRefMapStartPos = -1;
@@ -494,6 +573,29 @@ public abstract class T1XCompilation {
         if (epiloguePos != buf.position()) {
             bciToPos[endBCI] = epiloguePos;
         }
+
+        emitReexecuteEntries();
+    }
+
+    /**
+     * Emits the out-of-line code from which an instruction whose top of stack operand was
+     * {@linkplain #forwardTopOfStack(Kind, CiRegister) forwarded} in a register is re-executed after
+     * deoptimization. This code loads the operand from the stack and then jumps to the code following the
+     * register move that replaced the load.
+     */
+    void emitReexecuteEntries() {
+        int n = forwardedOperands.size();
+        if (n == 0) {
+            return;
+        }
+        reexecuteEntries = new int[n * 2];
+        for (int i = 0; i < n; i++) {
+            ForwardedOperand f = forwardedOperands.get(i);
+            reexecuteEntries[i * 2] = f.bci;
+            reexecuteEntries[i * 2 + 1] = buf.position();
+            peek(f.kind, f.reg, 0);
+            jump(f.resumePos);
+        }
     }
 
     /**
@@ -566,35 +668,144 @@ public abstract class T1XCompilation {
         initializedArgs = 0;
         Sig sig = template.sig;
         if (sig.stackArgs != 0) {
+            int forwarded = -1;
+            if (tosReg != null) {
+                for (int i = 0; i < sig.in.length; i++) {
+                    Arg a = sig.in[i];
+                    if (a.slot == 0) {
+                        if (forwardTopOfStack(a.kind, a.reg)) {
+                            forwarded = i;
+                        }
+                        break;
+                    }
+                }
+            }
             for (int i = 0; i < sig.in.length; i++) {
                 Arg a = sig.in[i];
                 if (a.isStack()) {
                     initializedArgs |= 1 << i;
-                    switch (a.kind.asEnum) {
-                        case INT:
-                            peekInt(a.reg, a.slot);
-                            break;
-                        case FLOAT:
-                            peekFloat(a.reg, a.slot);
-                            break;
-                        case LONG:
-                            peekLong(a.reg, a.slot);
-                            break;
-                        case DOUBLE:
-                            peekDouble(a.reg, a.slot);
-                            break;
-                        case WORD:
-                            peekWord(a.reg, a.slot);
-                            break;
-                        case REFERENCE:
-                            peekObject(a.reg, a.slot);
-                            break;
-                        default:
-                            assert false;
+                    if (i != forwarded) {
+                        peek(a.kind, a.reg, a.slot);
                     }
                 }
             }
         }
+        tosReg = null;
+    }
+
+    /**
+     * Emits code to copy the value of a given kind in the {@code i}'th {@linkplain Slot slot} to register {@code dst}.
+     */
+    protected void peek(Kind kind, CiRegister dst, int i) {
+        switch (kind.asEnum) {
+            case INT:
+                peekInt(dst, i);
+                break;
+            case FLOAT:
+                peekFloat(dst, i);
+                break;
+            case LONG:
+                peekLong(dst, i);
+                break;
+            case DOUBLE:
+                peekDouble(dst, i);
+                break;
+            case WORD:
+                peekWord(dst, i);
+                break;
+            case REFERENCE:
+                peekObject(dst, i);
+                break;
+            default:
+                assert false : kind;
+        }
+    }
+
+    /**
+     * Records that the code just emitted from {@code storePos} stores the primitive value in {@code reg} to the top of
+     * the operand stack so that the store can be elided if the next instruction immediately loads the value again.
+     */
+    private void recordTopOfStack(Kind kind, CiRegister reg, int storePos) {
+        if (T1XOptions.CacheTopOfStack) {
+            tosReg = reg;
+            tosKind = kind;
+            tosStorePos = storePos;
+            tosStoreEnd = buf.position();
+            tosNextBCI = stream.nextBCI();
+        }
+    }
+
+    /**
+     * Loads the value on the top of the operand stack into {@code dst} directly from the register it was pushed
+     * from if possible. This is the case if the value was pushed by the code emitted immediately before for
+     * the preceding instruction and the current instruction can only be reached from that instruction. The
+     * store of the value is then removed and replaced with a register move. The value on the stack is never
+     * read since it is popped by the current instruction, and it is a primitive so reference maps are unaffected.
+     * Re-executing the current instruction after deoptimization starts at an {@linkplain #emitReexecuteEntries()
+     * out-of-line entry} that loads the value from the stack.
+     *
+     * @param kind the kind of the value expected on the top of the stack
+     * @param dst the register into which the value is to be loaded
+     * @return {@code true} if the code to load the value into {@code dst} was emitted, {@code false} if the caller
+     *         must load it from the stack
+     */
+    protected boolean forwardTopOfStack(Kind kind, CiRegister dst) {
+        CiRegister src = tosReg;
+        tosReg = null;
+        if (src == null || kind != tosKind || src.isCpu() != dst.isCpu()) {
+            return false;
+        }
+        int bci = stream.currentBCI();
+        int pos = buf.position();
+        if (bci != tosNextBCI || pos != tosStoreEnd || bciToPos[bci] != pos || blockBCIs[bci] || branchTargetBCIs[bci] ||
+                        (handlerBCIs != null && handlerBCIs[bci])) {
+            return false;
+        }
+        buf.setPosition(tosStorePos);
+        bciToPos[bci] = tosStorePos;
+        if (src != dst) {
+            switch (kind.asEnum) {
+                case INT:
+                    assignIntReg(dst, src);
+                    break;
+                case LONG:
+                    assignLongReg(dst, src);
+                    break;
+                case FLOAT:
+                    assignFloatReg(dst, src);
+                    break;
+                case DOUBLE:
+                    assignDoubleReg(dst, src);
+                    break;
+                default:
+                    assert false : kind;
+            }
+        }
+        forwardedOperands.add(new ForwardedOperand(bci, kind, dst, buf.position()));
+        T1XMetrics.TopOfStackStoresElided++;
+        return true;
+    }
+
+    /**
+     * An instruction whose top of stack operand was {@linkplain T1XCompilation#forwardTopOfStack(Kind, CiRegister)
+     * forwarded} in a register.
+     */
+    static final class ForwardedOperand {
+        final int bci;
+        final Kind kind;
+        final CiRegister reg;
+
+        /**
+         * The code position following the register move that replaced the load of the operand from the stack.
+         */
+        final int resumePos;
+
+        ForwardedOperand(int bci, Kind kind, CiRegister reg, int resumePos) {
+            this.bci = bci;
+            this.kind = kind;
+            this.reg = reg;
+            this.resumePos = resumePos;
+        }
     }
 
     /**
@@ -622,18 +833,23 @@ public abstract class T1XCompilation {
         // Push the result of the template (if any)
         if (sig.out.isStack()) {
             Arg out = sig.out;
+            int storePos = buf.position();
             switch (out.kind.asEnum) {
                 case INT:
                     pokeInt(out.reg, out.slot);
+                    recordTopOfStack(Kind.INT, out.reg, storePos);
                     break;
                 case FLOAT:
                     pokeFloat(out.reg, out.slot);
+                    recordTopOfStack(Kind.FLOAT, out.reg, storePos);
                     break;
                 case LONG:
                     pokeLong(out.reg, out.slot);
+                    recordTopOfStack(Kind.LONG, out.reg, storePos);
                     break;
                 case DOUBLE:
                     pokeDouble(out.reg, out.slot);
+                    recordTopOfStack(Kind.DOUBLE, out.reg, storePos);
                     break;
                 case WORD:
                     pokeWord(out.reg, out.slot);
@@ -776,6 +992,11 @@ public abstract class T1XCompilation {
      */
     protected abstract void branch(int opcode, int targetBCI, int bci);
 
+    /**
+     * Emits an unconditional jump to the already emitted code at position {@code targetPos}.
+     */
+    protected abstract void jump(int targetPos);
+
     /**
      * Gets the kind used to select an INVOKE... bytecode template.
      */
@@ -811,6 +1032,26 @@ public abstract class T1XCompilation {
      */
     protected abstract void assignWordReg(CiRegister dst, CiRegister src);
 
+    /**
+     * Emits code to assign the int value in {@code src} to {@code dst}.
+     */
+    protected abstract void assignIntReg(CiRegister dst, CiRegister src);
+
+    /**
+     * Emits code to assign the long value in {@code src} to {@code dst}.
+     */
+    protected abstract void assignLongReg(CiRegister dst, CiRegister src);
+
+    /**
+     * Emits code to assign the float value in {@code src} to {@code dst}.
+     */
+    protected abstract void assignFloatReg(CiRegister dst, CiRegister src);
+
+    /**
+     * Emits code to assign the double value in {@code src} to {@code dst}.
+     */
+    protected abstract void assignDoubleReg(CiRegister dst, CiRegister src);
+
     /**
      * Emits code to assign {@code value} to {@code dst}.
      */
@@ -1389,34 +1630,45 @@ public abstract class T1XCompilation {
     protected void do_iconst(int value) {
         assignInt(scratch, value);
         incStack(1);
+        int storePos = buf.position();
         pokeInt(scratch, 0);
+        recordTopOfStack(Kind.INT, scratch, storePos);
     }
 
     protected void do_dconst(double value) {
         assignLong(scratch, Double.doubleToRawLongBits(value));
         incStack(2);
+        int storePos = buf.position();
         pokeLong(scratch, 0);
+        recordTopOfStack(Kind.LONG, scratch, storePos);
     }
 
     protected void do_fconst(float value) {
         assignInt(scratch, Float.floatToRawIntBits(value));
         incStack(1);
+        int storePos = buf.position();
         pokeInt(scratch, 0);
+        recordTopOfStack(Kind.INT, scratch, storePos);
     }
 
     protected void do_lconst(long value) {
         assignLong(scratch, value);
         incStack(2);
+        int storePos = buf.position();
         pokeLong(scratch, 0);
+        recordTopOfStack(Kind.LONG, scratch, storePos);
     }
 
     protected void do_load(int index, Kind kind) {
+        int storePos;
         switch(kind.asEnum) {
             case INT:
             case FLOAT:
                 loadInt(scratch, index);
                 incStack(1);
+                storePos = buf.position();
                 pokeInt(scratch, 0);
+                recordTopOfStack(Kind.INT, scratch, storePos);
                 break;
             case REFERENCE:
                 loadWord(scratch, index);
@@ -1427,7 +1679,9 @@ public abstract class T1XCompilation {
             case DOUBLE:
                 loadLong(scratch, index);
                 incStack(2);
+                storePos = buf.position();
                 pokeLong(scratch, 0);
+                recordTopOfStack(Kind.LONG, scratch, storePos);
                 break;
             default:
                 throw new InternalError("Unexpected kind: " + kind);
@@ -1438,7 +1692,9 @@ public abstract class T1XCompilation {
         switch(kind.asEnum) {
             case INT:
             case FLOAT:
-                peekInt(scratch, 0);
+                if (!forwardTopOfStack(Kind.INT, scratch)) {
+                    peekInt(scratch, 0);
+                }
                 decStack(1);
                 storeInt(scratch, index);
                 break;
@@ -1449,7 +1705,9 @@ public abstract class T1XCompilation {
                 break;
             case LONG:
             case DOUBLE:
-                peekLong(scratch, 0);
+                if (!forwardTopOfStack(Kind.LONG, scratch)) {
+                    peekLong(scratch, 0);
+                }
                 decStack(2);
                 storeLong(scratch, index);
                 break;
@@ -1713,7 +1971,7 @@ public abstract class T1XCompilation {
     protected void assignInvokeTemplatesProfileInstrumentationParameters() {
         if (methodProfileBuilder != null) {
             int bci = stream.currentBCI();
-            int mpoIndex = methodProfileBuilder.addTypeProfile(bci, MethodInstrumentation.DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
+            int mpoIndex = methodProfileBuilder.addReceiverProfile(bci, MethodInstrumentation.DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
             assignObject(2, "mpo", methodProfileBuilder.methodProfileObject());
             assignInt(3, "mpoIndex", mpoIndex);
         }
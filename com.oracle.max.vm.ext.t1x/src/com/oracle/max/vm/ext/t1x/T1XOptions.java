@@ -40,6 +40,8 @@ public final class T1XOptions {
 
     public static boolean TraceMethods                       = ____;
 
+    public static boolean CacheTopOfStack                    = ____;
+
     /**
      * See {@link Filter#Filter(String, Object)}.
      */
@@ -77,6 +79,12 @@ public final class T1XOptions {
                 "Generate ref maps for methods compiled by T1X at compile time " +
                 "instead of lazily during a GC.");
 
+        map.put("CacheTopOfStack",
+                "Pass a primitive value pushed by one bytecode instruction in a register to the next " +
+                "instruction if it immediately pops it, instead of storing it to the operand stack. Off by " +
+                "default as the re-execution entries it adds for deoptimization are only covered by the " +
+                "jtt-c1xt1xtos tester configuration so far.");
+
         map.put("TraceMethods",
                 "Trace calls to T1X compiled methods.");
         map.put("PrintJsrRetRewrites",
@@ -159,6 +159,15 @@ public class T1XTargetMethod extends TargetMethod {
      */
     public final int[] bciToPos;
 
+    /**
+     * Pairs of BCIs and code positions for the bytecode instructions whose operand on the top of the stack is
+     * {@linkplain T1XOptions#CacheTopOfStack passed in a register} by the preceding instruction. The code at
+     * {@link #bciToPos} for such an instruction can only be entered from the preceding instruction so
+     * re-executing it after deoptimization starts at the recorded position instead, where the operand is
+     * loaded from the stack. This is {@code null} if there are no such instructions.
+     */
+    private final int[] reexecuteEntries;
+
     public final CiExceptionHandler[] handlers;
 
     /**
@@ -186,6 +195,7 @@ public class T1XTargetMethod extends TargetMethod {
 
         codeAttribute = comp.codeAttribute;
         bciToPos = comp.bciToPos;
+        reexecuteEntries = comp.reexecuteEntries;
         frame = comp.frame;
         frameRefMapOffset = frame.frameReferenceMapOffset();
         setFrameSize(frame.frameSize());
@@ -1141,7 +1151,7 @@ public class T1XTargetMethod extends TargetMethod {
         if (exception == null) {
             RiMethod callee = classMethodActor.codeAttribute().calleeAt(bci);
             if (reexecute) {
-                int curPos = bciToPos[bci];
+                int curPos = reexecutePos(bci);
                 ip = codeAt(curPos);
             } else {
                 ip = findTemplateCallReturnAddress(info, bci, callee);
@@ -1156,6 +1166,20 @@ public class T1XTargetMethod extends TargetMethod {
         return ip;
     }
 
+    /**
+     * Gets the position of the code from which the bytecode instruction at {@code bci} is re-executed.
+     */
+    private int reexecutePos(int bci) {
+        if (reexecuteEntries != null) {
+            for (int i = 0; i < reexecuteEntries.length && reexecuteEntries[i] <= bci; i += 2) {
+                if (reexecuteEntries[i] == bci) {
+                    return reexecuteEntries[i + 1];
+                }
+            }
+        }
+        return bciToPos[bci];
+    }
+
     /**
      * Finds the address of the instruction after a template call.
      *
@@ -126,7 +126,7 @@ public class T1XTemplateSource {
     @INLINE
     public static Address selectVirtualMethodInstrumented(Object receiver, int vTableIndex, MethodProfile mpo, int mpoIndex) {
         Address entryPoint = selectVirtualMethod(receiver, vTableIndex);
-        MethodInstrumentation.recordType(mpo, receiver, mpoIndex, MethodInstrumentation.DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
+        MethodInstrumentation.recordCallSite(mpo, receiver, entryPoint, mpoIndex);
         return entryPoint;
     }
 
@@ -165,6 +165,26 @@ public class AMD64T1XCompilation extends T1XCompilation {
         asm.movq(dst, src);
     }
 
+    @Override
+    protected void assignIntReg(CiRegister dst, CiRegister src) {
+        asm.movl(dst, src);
+    }
+
+    @Override
+    protected void assignLongReg(CiRegister dst, CiRegister src) {
+        asm.movq(dst, src);
+    }
+
+    @Override
+    protected void assignFloatReg(CiRegister dst, CiRegister src) {
+        asm.movflt(dst, src);
+    }
+
+    @Override
+    protected void assignDoubleReg(CiRegister dst, CiRegister src) {
+        asm.movdbl(dst, src);
+    }
+
     @Override
     protected void assignLong(CiRegister dst, long value) {
         asm.movq(dst, value);
@@ -710,6 +730,11 @@ public class AMD64T1XCompilation extends T1XCompilation {
         }
     }
 
+    @Override
+    protected void jump(int targetPos) {
+        asm.jmp(targetPos, false);
+    }
+
     @Override
     protected void branch(int opcode, int targetBCI, int bci) {
         ConditionFlag cc;
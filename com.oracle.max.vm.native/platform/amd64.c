@@ -22,6 +22,7 @@
  */
 #include "isa.h"
 #include "log.h"
+#include "jni.h"
 
 void isa_canonicalizeTeleIntegerRegisters(isa_OsTeleIntegerRegisters os, isa_CanonicalIntegerRegisters c) {
 
@@ -148,3 +149,26 @@ void isa_printCanonicalStateRegisters(isa_CanonicalStateRegisters canonicalState
     log_println("rip   = %p [%ld]", canonicalStateRegisters->rip,canonicalStateRegisters->rip);
     log_println("flags = %p [%ld]", canonicalStateRegisters->flags, canonicalStateRegisters->flags);
 }
+
+static void cpuid(jint leaf, jint subleaf, jint *eax, jint *ebx, jint *ecx, jint *edx) {
+    __asm__ __volatile__ ("cpuid"
+                          : "=a" (*eax), "=b" (*ebx), "=c" (*ecx), "=d" (*edx)
+                          : "a" (leaf), "c" (subleaf));
+}
+
+/**
+ * Gets the instruction set extensions supported by the processor, as reported by the CPUID instruction.
+ *
+ * @return the feature flags of leaf 1 in ECX in the low 32 bits and the extended feature flags of
+ *         leaf 7 in EBX in the high 32 bits (zero if leaf 7 is not supported)
+ */
+jlong native_cpuFeatures(void) {
+    jint maxLeaf, eax, ebx, ecx, edx;
+    jint features, extendedFeatures = 0;
+    cpuid(0, 0, &maxLeaf, &ebx, &ecx, &edx);
+    cpuid(1, 0, &eax, &ebx, &features, &edx);
+    if (maxLeaf >= 7) {
+        cpuid(7, 0, &eax, &extendedFeatures, &ecx, &edx);
+    }
+    return ((jlong) extendedFeatures << 32) | ((jlong) features & 0xffffffffL);
+}
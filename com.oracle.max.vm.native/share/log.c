@@ -25,6 +25,11 @@
 #include <stdio.h>
 #include <string.h>
 #include <dlfcn.h>
+#if !os_MAXVE
+#include <errno.h>
+#include <fcntl.h>
+#include <unistd.h>
+#endif
 
 #include "log.h"
 #include "jni.h"
@@ -101,6 +106,40 @@ void log_flush() {
 #endif
 }
 
+int log_file_open(const char *path) {
+#if !os_MAXVE
+    return open(path, O_WRONLY | O_CREAT | O_TRUNC, 0644);
+#else
+    return -1;
+#endif
+}
+
+int log_file_write(int fd, Address buffer, int length) {
+#if !os_MAXVE
+    const char *p = (const char *) buffer;
+    while (length > 0) {
+        ssize_t n = write(fd, p, (size_t) length);
+        if (n < 0) {
+            if (errno == EINTR) {
+                continue;
+            }
+            return -1;
+        }
+        p += n;
+        length -= (int) n;
+    }
+    return 0;
+#else
+    return -1;
+#endif
+}
+
+void log_file_close(int fd) {
+#if !os_MAXVE
+    close(fd);
+#endif
+}
+
 void log_print_vformat(const char *format, va_list ap) {
 #if !os_MAXVE
     FILE* out = fileStream == NULL ? stdout : fileStream;
@@ -55,6 +55,13 @@ extern void log_print_float(float f);
 extern void log_print_double(double d);
 extern void log_flush(void);
 
+/**
+ * Raw file output for binary logs that must be written without taking any lock, e.g. on a crash.
+ */
+extern int log_file_open(const char *path);
+extern int log_file_write(int fd, Address buffer, int length);
+extern void log_file_close(int fd);
+
 #if os_WINDOWS
 #define NEWLINE_STRING "\r\n"
 #else
@@ -100,6 +100,29 @@ Address virtualMemory_allocatePrivateAnon(Address address, Size size, jboolean r
   return check_mmap_result(result);
 }
 
+/* Same as virtualMemory_allocatePrivateAnon except that the address parameter is only a hint.
+ * If the space at the specified address is not free, it is allocated elsewhere instead of
+ * replacing the existing mappings.
+ */
+Address virtualMemory_allocatePrivateAnonNear(Address address, Size size, jboolean reserveSwap, jboolean protNone, int type) {
+  int flags = MAP_PRIVATE | MAP_ANON;
+  int prot = protNone == JNI_TRUE ? PROT_NONE : PROT;
+  if (reserveSwap == JNI_FALSE) {
+     flags |= MAP_NORESERVE;
+  }
+
+  void * result = mmap((void*) address, (size_t) size, prot, flags, -1, 0);
+
+#if log_LOADER
+	log_println("virtualMemory_allocatePrivateAnonNear(address=%p, size=%p, swap=%s, prot=%s) allocated at %p",
+					address, size,
+					reserveSwap==JNI_TRUE ? "true" : "false",
+					protNone==JNI_TRUE ? "none" : "all",
+					result);
+#endif
+  return check_mmap_result(result);
+}
+
 
 Address virtualMemory_mapFile(Size size, jint fd, Size offset) {
 	return check_mmap_result(mmap(0, (size_t) size, PROT, MAP_PRIVATE, fd, (off_t) offset));
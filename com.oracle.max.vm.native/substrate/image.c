@@ -45,7 +45,7 @@
 /*
  * Image format version checked against com.sun.max.vm.hosted.BootImage.BOOT_IMAGE_FORMAT_VERSION
  */
-#define IMAGE_FORMAT_VERSION                    2
+#define IMAGE_FORMAT_VERSION                    3
 #define DEFAULT_RELOCATION_SCHEME        0
 
 #if os_MAXVE
@@ -297,6 +297,18 @@ static void checkTrailer(int fd) {
     }
 }
 
+/**
+ * Gets the address at which the heap and code were linked by the boot image generator.
+ * If they are mapped at this address, the pointers in them need not be relocated.
+ */
+static Address linkedHeapAddress(void) {
+#if word_64_BITS
+    return (((Address) (Unsigned4) theHeader->linkedHeapAddressHigh) << 32) | (Address) (Unsigned4) theHeader->linkedHeapAddressLow;
+#else
+    return (Address) (Unsigned4) theHeader->linkedHeapAddressLow;
+#endif
+}
+
 static void mapHeapAndCode(int fd) {
     int heapOffsetInImage = virtualMemory_pageAlign(sizeof(struct image_Header) + theHeader->stringDataSize + theHeader->relocationDataSize);
     int heapAndCodeSize = theHeader->heapSize + theHeader->codeSize;
@@ -308,6 +320,7 @@ static void mapHeapAndCode(int fd) {
     theHeap = (Address) &maxvm_image_start + heapOffsetInImage;
 #elif os_SOLARIS || os_DARWIN || os_LINUX
     Address reservedVirtualSpace = (Address) 0;
+    Address linkedHeap = linkedHeapAddress();
     size_t virtualSpaceSize = 1024L * theHeader->reservedVirtualSpaceSize;
     c_ASSERT(virtualMemory_pageAlign((Size) virtualSpaceSize) == (Size) virtualSpaceSize);
     if (virtualSpaceSize != 0) {
@@ -316,7 +329,13 @@ static void mapHeapAndCode(int fd) {
         // The address returned might subsequently be used to memory map various regions, including the
         // boot heap region, automatically splitting this mapping.
         // In any case,  the VM (mostly the heap scheme) is responsible for releasing unused reserved space.
-        reservedVirtualSpace = virtualMemory_allocatePrivateAnon((Address) 0, virtualSpaceSize, JNI_FALSE, JNI_FALSE, HEAP_VM);
+        // If the heap and code are linked at some address, try to reserve the space such that the boot heap region
+        // lands at that address so that it need not be relocated.
+        Address hint = (Address) 0;
+        if (linkedHeap != 0) {
+            hint = theHeader->bootRegionMappingConstraint == 2 ? linkedHeap - (virtualSpaceSize - heapAndCodeSize) : linkedHeap;
+        }
+        reservedVirtualSpace = virtualMemory_allocatePrivateAnonNear(hint, virtualSpaceSize, JNI_FALSE, JNI_FALSE, HEAP_VM);
         if (reservedVirtualSpace == ALLOC_FAILED) {
             log_exit(4, "could not reserve requested virtual space");
         }
@@ -329,7 +348,7 @@ static void mapHeapAndCode(int fd) {
         theHeap = reservedVirtualSpace + virtualSpaceSize - heapAndCodeSize;
     } else {
         // Map the boot heap region anywhere outside of the reserved space.
-        theHeap = virtualMemory_allocatePrivateAnon((Address) 0, heapAndCodeSize, JNI_FALSE, JNI_FALSE, HEAP_VM);
+        theHeap = virtualMemory_allocatePrivateAnonNear(linkedHeap, heapAndCodeSize, JNI_FALSE, JNI_FALSE, HEAP_VM);
         if (theHeap == ALLOC_FAILED) {
             log_exit(4, "could not reserve virtual space for boot image");
         }
@@ -358,9 +377,18 @@ static void mapHeapAndCode(int fd) {
 static void relocate(int fd) {
     off_t wantedFileOffset;
     Byte *relocationData;
+    Address linkedHeap = linkedHeapAddress();
 #if log_LOADER
     log_println("image.relocate");
 #endif
+    if (theHeap == linkedHeap) {
+        // The heap and code are mapped where they were linked. Not touching them keeps
+        // their pages shared with the page cache (and thus with other VM processes).
+#if log_LOADER
+        log_println("image.relocate: not required, heap and code are mapped at their link address %p", linkedHeap);
+#endif
+        return;
+    }
 #if !MEMORY_IMAGE
     off_t actualFileOffset;
     int n;
@@ -388,7 +416,7 @@ static void relocate(int fd) {
 #if log_LOADER
     log_println("image.relocate [relocation map: %d bytes]", theHeader->relocationDataSize);
 #endif
-    relocation_apply((void *) theHeap, theHeap, relocationData, theHeader->relocationDataSize, word_BIG_ENDIAN, theHeader->wordSize);
+    relocation_apply((void *) theHeap, theHeap - linkedHeap, relocationData, theHeader->relocationDataSize, word_BIG_ENDIAN, theHeader->wordSize);
 
 #if !MEMORY_IMAGE
     free(relocationData);
@@ -53,6 +53,8 @@
     f(reservedVirtualSpaceSize) /* Amount of contiguous virtual space to reserve at boot image load-time  */ \
     f(reservedVirtualSpaceFieldOffset) /* offset where to store the address of the reserved contiguous virtual space, if any*/ \
     f(bootRegionMappingConstraint) \
+    f(linkedHeapAddressLow) /* Low 32 bits of the address the heap and code are linked at (0 if they are not linked)  */ \
+    f(linkedHeapAddressHigh) /* High 32 bits of the address the heap and code are linked at  */ \
     f(tlaListHeadOffset) /* See the comment for the 'tlaListHead' field in the VmThreadMap class.  */ \
     f(exitCodeOffset) \
     f(tlaSize) /* The size of a TLA.  */ \
@@ -53,6 +53,21 @@ Java_test_bench_threads_JNI_1invocations_nativework(JNIEnv *env, jclass cls, jlo
     return sum;
 }
 
+JNIEXPORT void JNICALL
+Java_test_bench_jni_JNI_1nop_nop(JNIEnv *env, jclass c) {
+}
+
+JNIEXPORT jobject JNICALL
+Java_test_bench_jni_JNI_1object_1arg_id(JNIEnv *env, jclass c, jobject o) {
+    return o;
+}
+
+JNIEXPORT void JNICALL
+Java_test_bench_jni_JNI_1global_1ref_newDeleteGlobalRef(JNIEnv *env, jclass c, jobject o) {
+    jobject ref = (*env)->NewGlobalRef(env, o);
+    (*env)->DeleteGlobalRef(env, ref);
+}
+
 JNIEXPORT void JNICALL
 Java_jtt_jni_JNI_1Nop_nop(JNIEnv *env, jclass c) {
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.max;
+
+import java.util.*;
+
+import com.sun.max.memory.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.code.*;
+import com.sun.max.vm.code.CodeManager.Lifespan;
+import com.sun.max.vm.compiler.*;
+import com.sun.max.vm.compiler.target.*;
+import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.stack.*;
+
+/*
+ * Tests that a method allocated from a free chunk of a swept code region is indexed, and that lookups
+ * on either side of it and in the rest of the chunk are not disturbed.
+ * @Harness: java
+ * @Runs: 0 = true
+ */
+public class CodeRegion_sweep01 {
+
+    private static final int METHOD_SIZE = 2 * CodeRegion.FIND_INDEX_ALIGN;
+    private static final int METHODS = 4;
+
+    /**
+     * A target method that only occupies space in a region.
+     */
+    private static final class Method extends TargetMethod {
+        Method(ClassMethodActor classMethodActor, Address start, int size) {
+            super(classMethodActor, CallEntryPoint.OPTIMIZED_ENTRY_POINT);
+            setStart(start);
+            setSize(Size.fromInt(size));
+        }
+
+        @Override
+        public Lifespan lifespan() {
+            return Lifespan.LONG;
+        }
+
+        @Override
+        public void gatherCalls(Set<MethodActor> directCalls, Set<MethodActor> virtualCalls, Set<MethodActor> interfaceCalls, Set<MethodActor> inlinedMethods) {
+        }
+
+        @Override
+        public CodePointer patchCallSite(int callOffset, CodePointer callEntryPoint) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public CodePointer fixupCallSite(int callOffset, CodePointer callEntryPoint) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public boolean isPatchableCallSite(CodePointer callSite) {
+            return false;
+        }
+
+        @Override
+        public void prepareReferenceMap(StackFrameCursor current, StackFrameCursor callee, FrameReferenceMapVisitor preparer) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public void catchException(StackFrameCursor current, StackFrameCursor callee, StackUnwindingContext context) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public CodePointer throwAddressToCatchAddress(CodePointer throwAddress, Throwable throwable) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public boolean acceptStackFrameVisitor(StackFrameCursor current, StackFrameVisitor visitor) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public void advance(StackFrameCursor current) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public Pointer returnAddressPointer(StackFrameCursor frame) {
+            throw FatalError.unimplemented();
+        }
+
+        @Override
+        public VMFrameLayout frameLayout() {
+            throw FatalError.unimplemented();
+        }
+    }
+
+    private static boolean found(FreeListCodeRegion region, TargetMethod expected, Address address) {
+        return region.find(address) == expected;
+    }
+
+    public static boolean test(int arg) throws NoSuchMethodException {
+        final ClassMethodActor classMethodActor = ClassMethodActor.fromJava(CodeRegion_sweep01.class.getDeclaredMethod("test", int.class));
+        final int size = METHODS * METHOD_SIZE;
+        final Pointer memory = Memory.allocate(Size.fromInt(size + CodeRegion.FIND_INDEX_ALIGN));
+        try {
+            final FreeListCodeRegion region = new FreeListCodeRegion("Test code region");
+            region.bind(memory.alignUp(CodeRegion.FIND_INDEX_ALIGN), Size.fromInt(size));
+            final TargetMethod[] methods = new TargetMethod[METHODS];
+            for (int i = 0; i < METHODS; i++) {
+                methods[i] = new Method(classMethodActor, region.allocate(Size.fromInt(METHOD_SIZE), false), METHOD_SIZE);
+                region.add(methods[i]);
+            }
+            // the region is full, so the next method is taken from the chunk freed by the sweep
+            methods[1].wipe();
+            final int[] removed = new int[1];
+            new VmOperation("SweepTestCodeRegion", null, VmOperation.Mode.Safepoint) {
+                @Override
+                protected void doIt() {
+                    removed[0] = region.sweep();
+                }
+            }.submit();
+            if (removed[0] != 1 || region.freeListChunks() != 1) {
+                return false;
+            }
+            final int reusedSize = METHOD_SIZE / 2;
+            final Pointer reusedStart = region.allocate(Size.fromInt(reusedSize), false);
+            if (!reusedStart.equals(methods[1].start())) {
+                return false;
+            }
+            final TargetMethod reused = new Method(classMethodActor, reusedStart, reusedSize);
+            region.add(reused);
+            return found(region, methods[0], methods[0].start())
+                && found(region, methods[0], methods[0].end().minus(1))
+                && found(region, reused, reused.start())
+                && found(region, reused, reused.end().minus(1))
+                && found(region, null, reused.end())
+                && found(region, methods[2], methods[2].start())
+                && found(region, methods[2], methods[2].start().plus(CodeRegion.FIND_INDEX_ALIGN))
+                && found(region, methods[3], methods[3].end().minus(1))
+                && region.freeListChunks() == 1;
+        } finally {
+            Memory.deallocate(memory);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.max;
+
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.heap.*;
+import com.sun.max.vm.reference.*;
+
+/*
+ * Tests that a pinned array is not moved by a GC requested by another thread while it is pinned, and
+ * that pinning an array that was promoted does not prevent the pinning thread from requesting a GC.
+ * @Harness: java
+ * @Runs: 0 = true; 1 = true
+ */
+public class Heap_pin01 {
+
+    private static Pointer origin(Object object) {
+        return Reference.fromJava(object).toOrigin();
+    }
+
+    public static boolean test(int arg) throws InterruptedException {
+        final int[] array = new int[100];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        if (arg == 1) {
+            // promote the array
+            System.gc();
+        }
+        final Thread collector = new Thread() {
+            @Override
+            public void run() {
+                System.gc();
+            }
+        };
+        boolean unmoved = true;
+        if (!Heap.useDirectPointer(array)) {
+            return true;
+        }
+        try {
+            final Pointer origin = origin(array);
+            if (arg == 1) {
+                System.gc();
+            } else {
+                // the collector waits until the array is unpinned
+                collector.start();
+                Thread.sleep(100);
+            }
+            unmoved = origin(array).equals(origin);
+        } finally {
+            Heap.releasedDirectPointer(array);
+        }
+        if (arg != 1) {
+            collector.join();
+        }
+        System.gc();
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] != i) {
+                return false;
+            }
+        }
+        return unmoved;
+    }
+}
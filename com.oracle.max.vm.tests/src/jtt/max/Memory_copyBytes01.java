@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package jtt.max;
+
+import com.sun.max.memory.*;
+import com.sun.max.vm.layout.*;
+
+/*
+ * Tests that a copy of bytes split into chunks handles overlapping ranges in both directions.
+ * @Harness: java
+ * @Runs: (0, 10, 50, 8) = true; (10, 0, 50, 8) = true; (3, 4, 57, 5) = true; (4, 3, 57, 5) = true;
+ * @Runs: (0, 1, 60, 1) = true; (1, 0, 60, 1) = true; (0, 20, 40, 64) = true; (0, 32, 32, 7) = true
+ */
+public class Memory_copyBytes01 {
+
+    public static boolean test(int from, int to, int length, int chunkSize) {
+        final byte[] array = new byte[64];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) i;
+        }
+        final long base = Layout.byteArrayLayout().getElementOffsetFromOrigin(0).toLong();
+        Memory.copyBytes(array, base + from, array, base + to, length, chunkSize);
+        for (int i = 0; i < array.length; i++) {
+            final int j = i >= to && i < to + length ? i - to + from : i;
+            if (array[i] != (byte) j) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
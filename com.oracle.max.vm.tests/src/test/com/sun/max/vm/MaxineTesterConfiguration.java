@@ -273,6 +273,7 @@ public class MaxineTesterConfiguration {
         imageConfig("c1xgraal-boot", opt_c1xgraal, "--XX:+GraalForBoot");
         imageConfig("jtt-t1xc1x", opt_c1x, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests", testCallerT1X);
         imageConfig("jtt-c1xt1x", opt_c1x, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests", testCalleeT1X, "--XX:+FailOverCompilation");
+        imageConfig("jtt-c1xt1xtos", opt_c1x, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests", testCalleeT1X, "--T1X:+CacheTopOfStack", "--XX:+FailOverCompilation");
         imageConfig("jtt-t1xt1x", opt_c1x, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests", joinCompileCommands(testCallerT1X, testCalleeT1X), "--XX:+FailOverCompilation");
         imageConfig("jtt-c1xc1x", opt_c1x, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests");
         imageConfig("jtt-c1xgraal", opt_c1xgraal, "-run=test.com.sun.max.vm.jtrun.all", "-native-tests", joinCompileCommands(testCallerT1X, testCalleeGraal));
@@ -450,9 +451,9 @@ public class MaxineTesterConfiguration {
     public static String defaultJavaTesterConfigs() {
         final Platform platform = Platform.platform();
         if (platform.cpu == CPU.SPARCV9) {
-            return "jtt-c1xc1x,jtt-c1xt1x,jtt-t1xc1x,jtt-t1xt1x";
+            return "jtt-c1xc1x,jtt-c1xt1x,jtt-c1xt1xtos,jtt-t1xc1x,jtt-t1xt1x";
         }
-        return "jtt-c1xc1x,jtt-t1xc1x,jtt-c1xt1x,jtt-t1xt1x,jtt-c1xgraal";
+        return "jtt-c1xc1x,jtt-t1xc1x,jtt-c1xt1x,jtt-c1xt1xtos,jtt-t1xt1x,jtt-c1xgraal";
     }
 
     public static List<String> defaultVMOutputImageConfigs() {
@@ -372,9 +372,18 @@ public class JTConfig {
         jtt.jasm.Invokevirtual_private00.class,
         jtt.jasm.Invokevirtual_private01.class,
         jtt.jasm.Loop00.class,
+        jtt.jdk.Arrays_equals01.class,
+        jtt.jdk.Arrays_fill01.class,
+        jtt.jdk.Arrays_fill02.class,
+        jtt.jdk.CRC32_update01.class,
+        jtt.jdk.Cipher_AES01.class,
         jtt.jdk.Class_getName.class,
         jtt.jdk.EnumMap01.class,
         jtt.jdk.EnumMap02.class,
+        jtt.jdk.MessageDigest_SHA01.class,
+        jtt.jdk.System_arraycopy01.class,
+        jtt.jdk.System_arraycopy02.class,
+        jtt.jdk.System_arraycopy03.class,
         jtt.jdk.System_currentTimeMillis01.class,
         jtt.jdk.System_currentTimeMillis02.class,
         jtt.jdk.System_nanoTime01.class,
@@ -382,6 +391,8 @@ public class JTConfig {
         jtt.jdk.System_setOut.class,
         jtt.jdk.Thread_setName.class,
         jtt.jdk.UnsafeAccess01.class,
+        jtt.jdk.Unsafe_copyMemory01.class,
+        jtt.jdk.Unsafe_copyMemory02.class,
         jtt.jni.JNI_FieldBoolean.class,
         jtt.jni.JNI_IdentityBoolean.class,
         jtt.jni.JNI_IdentityByte.class,
@@ -404,6 +415,8 @@ public class JTConfig {
         jtt.jvmni.JVM_IsNaN01.class,
         jtt.lang.Boxed_TYPE_01.class,
         jtt.lang.Bridge_method01.class,
+        jtt.lang.ClassLoader_defineClass01.class,
+        jtt.lang.ClassLoader_defineClass02.class,
         jtt.lang.ClassLoader_loadClass01.class,
         jtt.lang.Class_Literal01.class,
         jtt.lang.Class_asSubclass01.class,
@@ -490,9 +503,13 @@ public class JTConfig {
         jtt.lang.Object_wait03.class,
         jtt.lang.ProcessEnvironment_init.class,
         jtt.lang.StringCoding_Scale.class,
+        jtt.lang.String_indexOf01.class,
         jtt.lang.String_intern01.class,
         jtt.lang.String_intern02.class,
         jtt.lang.String_intern03.class,
+        jtt.lang.String_intern04.class,
+        jtt.lang.String_intern05.class,
+        jtt.lang.String_intern06.class,
         jtt.lang.String_valueOf01.class,
         jtt.lang.System_identityHashCode01.class,
         jtt.loop.DegeneratedLoop.class,
@@ -590,7 +607,11 @@ public class JTConfig {
         jtt.optimize.Fold_Math01.class,
         jtt.optimize.Inline01.class,
         jtt.optimize.Inline02.class,
+        jtt.optimize.LICM_01.class,
+        jtt.optimize.LICM_02.class,
+        jtt.optimize.LICM_03.class,
         jtt.optimize.LLE_01.class,
+        jtt.optimize.LinearScan_huge01.class,
         jtt.optimize.List_reorder_bug.class,
         jtt.optimize.NCE_01.class,
         jtt.optimize.NCE_02.class,
@@ -613,6 +634,11 @@ public class JTConfig {
         jtt.optimize.Phi01.class,
         jtt.optimize.Phi02.class,
         jtt.optimize.Phi03.class,
+        jtt.optimize.RCE_01.class,
+        jtt.optimize.RCE_02.class,
+        jtt.optimize.RCE_03.class,
+        jtt.optimize.RCE_04.class,
+        jtt.optimize.RCE_05.class,
         jtt.optimize.Reduce_Convert01.class,
         jtt.optimize.Reduce_Double01.class,
         jtt.optimize.Reduce_Float01.class,
@@ -630,7 +656,11 @@ public class JTConfig {
         jtt.optimize.Reduce_LongShift02.class,
         jtt.optimize.Switch01.class,
         jtt.optimize.Switch02.class,
+        jtt.optimize.TOS_01.class,
+        jtt.optimize.TOS_02.class,
+        jtt.optimize.TOS_03.class,
         jtt.optimize.TypeCastElem.class,
+        jtt.optimize.TypeGuard_01.class,
         jtt.optimize.VN_Cast01.class,
         jtt.optimize.VN_Cast02.class,
         jtt.optimize.VN_Convert01.class,
@@ -703,11 +733,14 @@ public class JTConfig {
         jtt.reflect.Invoke_main01.class,
         jtt.reflect.Invoke_main02.class,
         jtt.reflect.Invoke_main03.class,
+        jtt.reflect.Invoke_shared01.class,
+        jtt.reflect.Invoke_unbox01.class,
         jtt.reflect.Invoke_virtual01.class,
         jtt.reflect.Method_getParameterTypes01.class,
         jtt.reflect.Method_getReturnType01.class,
         jtt.reflect.Reflection_getCallerClass01.class,
         jtt.threads.Monitor_contended01.class,
+        jtt.threads.Monitor_contended02.class,
         jtt.threads.Monitor_notowner01.class,
         jtt.threads.Monitorenter01.class,
         jtt.threads.Monitorenter02.class,
@@ -719,6 +752,7 @@ public class JTConfig {
         jtt.threads.ThreadLocal02.class,
         jtt.threads.ThreadLocal03.class,
         jtt.threads.Thread_currentThread01.class,
+        jtt.threads.Thread_forName01.class,
         jtt.threads.Thread_getState01.class,
         jtt.threads.Thread_getState02.class,
         jtt.threads.Thread_holdsLock01.class,
@@ -762,9 +796,11 @@ public class JTConfig {
         jtt.exbytecode.EBC_uwlteq_01.class,
         jtt.max.CodePointer01.class,
         jtt.max.CodePointer02.class,
+        jtt.max.CodeRegion_sweep01.class,
         jtt.max.Fold01.class,
         jtt.max.Fold02.class,
         jtt.max.Fold03.class,
+        jtt.max.Heap_pin01.class,
         jtt.max.Hub_Subtype01.class,
         jtt.max.Hub_Subtype02.class,
         jtt.max.ImmortalHeap_allocation.class,
@@ -773,6 +809,7 @@ public class JTConfig {
         jtt.max.Inline01.class,
         jtt.max.Invoke_except01.class,
         jtt.max.LeastSignificantBit.class,
+        jtt.max.Memory_copyBytes01.class,
         jtt.max.MostSignificantBit.class,
         jtt.max.Prototyping01.class,
         jtt.max.Unsigned_idiv01.class,
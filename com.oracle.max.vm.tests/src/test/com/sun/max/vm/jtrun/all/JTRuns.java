@@ -419,413 +419,450 @@ public class JTRuns {
             case 337: jtt_jasm_Invokevirtual_private00(); break;
             case 338: jtt_jasm_Invokevirtual_private01(); break;
             case 339: jtt_jasm_Loop00(); break;
-            case 340: jtt_jdk_Class_getName(); break;
-            case 341: jtt_jdk_EnumMap01(); break;
-            case 342: jtt_jdk_EnumMap02(); break;
-            case 343: jtt_jdk_System_currentTimeMillis01(); break;
-            case 344: jtt_jdk_System_currentTimeMillis02(); break;
-            case 345: jtt_jdk_System_nanoTime01(); break;
-            case 346: jtt_jdk_System_nanoTime02(); break;
-            case 347: jtt_jdk_System_setOut(); break;
-            case 348: jtt_jdk_Thread_setName(); break;
-            case 349: jtt_jdk_UnsafeAccess01(); break;
-            case 350: jtt_jni_JNI_FieldBoolean(); break;
-            case 351: jtt_jni_JNI_IdentityBoolean(); break;
-            case 352: jtt_jni_JNI_IdentityByte(); break;
-            case 353: jtt_jni_JNI_IdentityChar(); break;
-            case 354: jtt_jni_JNI_IdentityFloat(); break;
-            case 355: jtt_jni_JNI_IdentityInt(); break;
-            case 356: jtt_jni_JNI_IdentityLong(); break;
-            case 357: jtt_jni_JNI_IdentityObject(); break;
-            case 358: jtt_jni_JNI_IdentityShort(); break;
-            case 359: jtt_jni_JNI_ManyObjectParameters(); break;
-            case 360: jtt_jni_JNI_ManyParameters(); break;
-            case 361: jtt_jni_JNI_Nop(); break;
-            case 362: jtt_jni_JNI_OverflowArguments(); break;
-            case 363: jtt_jvmni_JVM_ArrayCopy01(); break;
-            case 364: jtt_jvmni_JVM_GetClassContext01(); break;
-            case 365: jtt_jvmni_JVM_GetClassContext02(); break;
-            case 366: jtt_jvmni_JVM_GetFreeMemory01(); break;
-            case 367: jtt_jvmni_JVM_GetMaxMemory01(); break;
-            case 368: jtt_jvmni_JVM_GetTotalMemory01(); break;
-            case 369: jtt_jvmni_JVM_IsNaN01(); break;
-            case 370: jtt_lang_Boxed_TYPE_01(); break;
-            case 371: jtt_lang_Bridge_method01(); break;
-            case 372: jtt_lang_ClassLoader_loadClass01(); break;
-            case 373: jtt_lang_Class_Literal01(); break;
-            case 374: jtt_lang_Class_asSubclass01(); break;
-            case 375: jtt_lang_Class_cast01(); break;
-            case 376: jtt_lang_Class_cast02(); break;
-            case 377: jtt_lang_Class_forName01(); break;
-            case 378: jtt_lang_Class_forName02(); break;
-            case 379: jtt_lang_Class_forName03(); break;
-            case 380: jtt_lang_Class_forName04(); break;
-            case 381: jtt_lang_Class_forName05(); break;
-            case 382: jtt_lang_Class_getComponentType01(); break;
-            case 383: jtt_lang_Class_getInterfaces01(); break;
-            case 384: jtt_lang_Class_getName01(); break;
-            case 385: jtt_lang_Class_getName02(); break;
-            case 386: jtt_lang_Class_getSimpleName01(); break;
-            case 387: jtt_lang_Class_getSimpleName02(); break;
-            case 388: jtt_lang_Class_getSuperClass01(); break;
-            case 389: jtt_lang_Class_isArray01(); break;
-            case 390: jtt_lang_Class_isAssignableFrom01(); break;
-            case 391: jtt_lang_Class_isAssignableFrom02(); break;
-            case 392: jtt_lang_Class_isAssignableFrom03(); break;
-            case 393: jtt_lang_Class_isInstance01(); break;
-            case 394: jtt_lang_Class_isInstance02(); break;
-            case 395: jtt_lang_Class_isInstance03(); break;
-            case 396: jtt_lang_Class_isInstance04(); break;
-            case 397: jtt_lang_Class_isInstance05(); break;
-            case 398: jtt_lang_Class_isInstance06(); break;
-            case 399: jtt_lang_Class_isInterface01(); break;
-            case 400: jtt_lang_Class_isPrimitive01(); break;
-            case 401: jtt_lang_Double_01(); break;
-            case 402: jtt_lang_Double_toString(); break;
-            case 403: jtt_lang_Float_01(); break;
-            case 404: jtt_lang_Float_02(); break;
-            case 405: jtt_lang_Float_03(); break;
-            case 406: jtt_lang_Int_greater01(); break;
-            case 407: jtt_lang_Int_greater02(); break;
-            case 408: jtt_lang_Int_greater03(); break;
-            case 409: jtt_lang_Int_greaterEqual01(); break;
-            case 410: jtt_lang_Int_greaterEqual02(); break;
-            case 411: jtt_lang_Int_greaterEqual03(); break;
-            case 412: jtt_lang_Int_less01(); break;
-            case 413: jtt_lang_Int_less02(); break;
-            case 414: jtt_lang_Int_less03(); break;
-            case 415: jtt_lang_Int_lessEqual01(); break;
-            case 416: jtt_lang_Int_lessEqual02(); break;
-            case 417: jtt_lang_Int_lessEqual03(); break;
-            case 418: jtt_lang_JDK_ClassLoaders01(); break;
-            case 419: jtt_lang_JDK_ClassLoaders02(); break;
-            case 420: jtt_lang_Long_greater01(); break;
-            case 421: jtt_lang_Long_greater02(); break;
-            case 422: jtt_lang_Long_greater03(); break;
-            case 423: jtt_lang_Long_greaterEqual01(); break;
-            case 424: jtt_lang_Long_greaterEqual02(); break;
-            case 425: jtt_lang_Long_greaterEqual03(); break;
-            case 426: jtt_lang_Long_less01(); break;
-            case 427: jtt_lang_Long_less02(); break;
-            case 428: jtt_lang_Long_less03(); break;
-            case 429: jtt_lang_Long_lessEqual01(); break;
-            case 430: jtt_lang_Long_lessEqual02(); break;
-            case 431: jtt_lang_Long_lessEqual03(); break;
-            case 432: jtt_lang_Long_reverseBytes01(); break;
-            case 433: jtt_lang_Long_reverseBytes02(); break;
-            case 434: jtt_lang_Math_abs(); break;
-            case 435: jtt_lang_Math_cos(); break;
-            case 436: jtt_lang_Math_log(); break;
-            case 437: jtt_lang_Math_log10(); break;
-            case 438: jtt_lang_Math_pow(); break;
-            case 439: jtt_lang_Math_sin(); break;
-            case 440: jtt_lang_Math_sqrt(); break;
-            case 441: jtt_lang_Math_tan(); break;
-            case 442: jtt_lang_Object_clone01(); break;
-            case 443: jtt_lang_Object_clone02(); break;
-            case 444: jtt_lang_Object_equals01(); break;
-            case 445: jtt_lang_Object_getClass01(); break;
-            case 446: jtt_lang_Object_hashCode01(); break;
-            case 447: jtt_lang_Object_notify01(); break;
-            case 448: jtt_lang_Object_notify02(); break;
-            case 449: jtt_lang_Object_notifyAll01(); break;
-            case 450: jtt_lang_Object_notifyAll02(); break;
-            case 451: jtt_lang_Object_toString01(); break;
-            case 452: jtt_lang_Object_toString02(); break;
-            case 453: jtt_lang_Object_wait01(); break;
-            case 454: jtt_lang_Object_wait02(); break;
-            case 455: jtt_lang_Object_wait03(); break;
-            case 456: jtt_lang_ProcessEnvironment_init(); break;
-            case 457: jtt_lang_StringCoding_Scale(); break;
-            case 458: jtt_lang_String_intern01(); break;
-            case 459: jtt_lang_String_intern02(); break;
-            case 460: jtt_lang_String_intern03(); break;
-            case 461: jtt_lang_String_valueOf01(); break;
-            case 462: jtt_lang_System_identityHashCode01(); break;
-            case 463: jtt_loop_DegeneratedLoop(); break;
-            case 464: jtt_loop_Loop01(); break;
-            case 465: jtt_loop_Loop02(); break;
-            case 466: jtt_loop_Loop03(); break;
-            case 467: jtt_loop_Loop04(); break;
-            case 468: jtt_loop_Loop05(); break;
-            case 469: jtt_loop_Loop06(); break;
-            case 470: jtt_loop_Loop07(); break;
-            case 471: jtt_loop_Loop08(); break;
-            case 472: jtt_loop_Loop09(); break;
-            case 473: jtt_loop_Loop11(); break;
-            case 474: jtt_loop_Loop12(); break;
-            case 475: jtt_loop_Loop13(); break;
-            case 476: jtt_loop_Loop14(); break;
-            case 477: jtt_loop_LoopInline(); break;
-            case 478: jtt_loop_LoopNewInstance(); break;
-            case 479: jtt_loop_LoopPhi(); break;
-            case 480: jtt_loop_LoopSwitch01(); break;
-            case 481: jtt_micro_ArrayCompare01(); break;
-            case 482: jtt_micro_ArrayCompare02(); break;
-            case 483: jtt_micro_BC_invokevirtual2(); break;
-            case 484: jtt_micro_BigByteParams01(); break;
-            case 485: jtt_micro_BigDoubleParams02(); break;
-            case 486: jtt_micro_BigFloatParams01(); break;
-            case 487: jtt_micro_BigFloatParams02(); break;
-            case 488: jtt_micro_BigIntParams01(); break;
-            case 489: jtt_micro_BigIntParams02(); break;
-            case 490: jtt_micro_BigInterfaceParams01(); break;
-            case 491: jtt_micro_BigLongParams02(); break;
-            case 492: jtt_micro_BigMixedParams01(); break;
-            case 493: jtt_micro_BigMixedParams02(); break;
-            case 494: jtt_micro_BigMixedParams03(); break;
-            case 495: jtt_micro_BigObjectParams01(); break;
-            case 496: jtt_micro_BigObjectParams02(); break;
-            case 497: jtt_micro_BigParamsAlignment(); break;
-            case 498: jtt_micro_BigShortParams01(); break;
-            case 499: jtt_micro_BigVirtualParams01(); break;
-            case 500: jtt_micro_Bubblesort(); break;
-            case 501: jtt_micro_Fibonacci(); break;
-            case 502: jtt_micro_InvokeVirtual_01(); break;
-            case 503: jtt_micro_InvokeVirtual_02(); break;
-            case 504: jtt_micro_Matrix01(); break;
-            case 505: jtt_micro_ReferenceMap01(); break;
-            case 506: jtt_micro_StrangeFrames(); break;
-            case 507: jtt_micro_String_format01(); break;
-            case 508: jtt_micro_String_format02(); break;
-            case 509: jtt_micro_VarArgs_String01(); break;
-            case 510: jtt_micro_VarArgs_boolean01(); break;
-            case 511: jtt_micro_VarArgs_byte01(); break;
-            case 512: jtt_micro_VarArgs_char01(); break;
-            case 513: jtt_micro_VarArgs_double01(); break;
-            case 514: jtt_micro_VarArgs_float01(); break;
-            case 515: jtt_micro_VarArgs_int01(); break;
-            case 516: jtt_micro_VarArgs_long01(); break;
-            case 517: jtt_micro_VarArgs_short01(); break;
-            case 518: jtt_optimize_ABCE_01(); break;
-            case 519: jtt_optimize_ABCE_02(); break;
-            case 520: jtt_optimize_ABCE_03(); break;
-            case 521: jtt_optimize_ArrayCopy01(); break;
-            case 522: jtt_optimize_ArrayLength01(); break;
-            case 523: jtt_optimize_BC_idiv_16(); break;
-            case 524: jtt_optimize_BC_idiv_4(); break;
-            case 525: jtt_optimize_BC_imul_16(); break;
-            case 526: jtt_optimize_BC_imul_4(); break;
-            case 527: jtt_optimize_BC_ldiv_16(); break;
-            case 528: jtt_optimize_BC_ldiv_4(); break;
-            case 529: jtt_optimize_BC_lmul_16(); break;
-            case 530: jtt_optimize_BC_lmul_4(); break;
-            case 531: jtt_optimize_BC_lshr_C16(); break;
-            case 532: jtt_optimize_BC_lshr_C24(); break;
-            case 533: jtt_optimize_BC_lshr_C32(); break;
-            case 534: jtt_optimize_BlockSkip01(); break;
-            case 535: jtt_optimize_Cmov01(); break;
-            case 536: jtt_optimize_Cmov02(); break;
-            case 537: jtt_optimize_Conditional01(); break;
-            case 538: jtt_optimize_DeadCode01(); break;
-            case 539: jtt_optimize_DeadCode02(); break;
-            case 540: jtt_optimize_Fold_Cast01(); break;
-            case 541: jtt_optimize_Fold_Convert01(); break;
-            case 542: jtt_optimize_Fold_Convert02(); break;
-            case 543: jtt_optimize_Fold_Convert03(); break;
-            case 544: jtt_optimize_Fold_Convert04(); break;
-            case 545: jtt_optimize_Fold_Double01(); break;
-            case 546: jtt_optimize_Fold_Double02(); break;
-            case 547: jtt_optimize_Fold_Double03(); break;
-            case 548: jtt_optimize_Fold_Float01(); break;
-            case 549: jtt_optimize_Fold_Float02(); break;
-            case 550: jtt_optimize_Fold_InstanceOf01(); break;
-            case 551: jtt_optimize_Fold_Int01(); break;
-            case 552: jtt_optimize_Fold_Int02(); break;
-            case 553: jtt_optimize_Fold_Long01(); break;
-            case 554: jtt_optimize_Fold_Long02(); break;
-            case 555: jtt_optimize_Fold_Math01(); break;
-            case 556: jtt_optimize_Inline01(); break;
-            case 557: jtt_optimize_Inline02(); break;
-            case 558: jtt_optimize_LLE_01(); break;
-            case 559: jtt_optimize_List_reorder_bug(); break;
-            case 560: jtt_optimize_NCE_01(); break;
-            case 561: jtt_optimize_NCE_02(); break;
-            case 562: jtt_optimize_NCE_03(); break;
-            case 563: jtt_optimize_NCE_04(); break;
-            case 564: jtt_optimize_NCE_FlowSensitive01(); break;
-            case 565: jtt_optimize_NCE_FlowSensitive02(); break;
-            case 566: jtt_optimize_NCE_FlowSensitive03(); break;
-            case 567: jtt_optimize_NCE_FlowSensitive04(); break;
-            case 568: jtt_optimize_NCE_FlowSensitive05(); break;
-            case 569: jtt_optimize_Narrow_byte01(); break;
-            case 570: jtt_optimize_Narrow_byte02(); break;
-            case 571: jtt_optimize_Narrow_byte03(); break;
-            case 572: jtt_optimize_Narrow_char01(); break;
-            case 573: jtt_optimize_Narrow_char02(); break;
-            case 574: jtt_optimize_Narrow_char03(); break;
-            case 575: jtt_optimize_Narrow_short01(); break;
-            case 576: jtt_optimize_Narrow_short02(); break;
-            case 577: jtt_optimize_Narrow_short03(); break;
-            case 578: jtt_optimize_Phi01(); break;
-            case 579: jtt_optimize_Phi02(); break;
-            case 580: jtt_optimize_Phi03(); break;
-            case 581: jtt_optimize_Reduce_Convert01(); break;
-            case 582: jtt_optimize_Reduce_Double01(); break;
-            case 583: jtt_optimize_Reduce_Float01(); break;
-            case 584: jtt_optimize_Reduce_Int01(); break;
-            case 585: jtt_optimize_Reduce_Int02(); break;
-            case 586: jtt_optimize_Reduce_Int03(); break;
-            case 587: jtt_optimize_Reduce_Int04(); break;
-            case 588: jtt_optimize_Reduce_IntShift01(); break;
-            case 589: jtt_optimize_Reduce_IntShift02(); break;
-            case 590: jtt_optimize_Reduce_Long01(); break;
-            case 591: jtt_optimize_Reduce_Long02(); break;
-            case 592: jtt_optimize_Reduce_Long03(); break;
-            case 593: jtt_optimize_Reduce_Long04(); break;
-            case 594: jtt_optimize_Reduce_LongShift01(); break;
-            case 595: jtt_optimize_Reduce_LongShift02(); break;
-            case 596: jtt_optimize_Switch01(); break;
-            case 597: jtt_optimize_Switch02(); break;
-            case 598: jtt_optimize_TypeCastElem(); break;
-            case 599: jtt_optimize_VN_Cast01(); break;
-            case 600: jtt_optimize_VN_Cast02(); break;
-            case 601: jtt_optimize_VN_Convert01(); break;
-            case 602: jtt_optimize_VN_Convert02(); break;
-            case 603: jtt_optimize_VN_Double01(); break;
-            case 604: jtt_optimize_VN_Double02(); break;
-            case 605: jtt_optimize_VN_Field01(); break;
-            case 606: jtt_optimize_VN_Field02(); break;
-            case 607: jtt_optimize_VN_Float01(); break;
-            case 608: jtt_optimize_VN_Float02(); break;
-            case 609: jtt_optimize_VN_InstanceOf01(); break;
-            case 610: jtt_optimize_VN_InstanceOf02(); break;
-            case 611: jtt_optimize_VN_InstanceOf03(); break;
-            case 612: jtt_optimize_VN_Int01(); break;
-            case 613: jtt_optimize_VN_Int02(); break;
-            case 614: jtt_optimize_VN_Int03(); break;
-            case 615: jtt_optimize_VN_Long01(); break;
-            case 616: jtt_optimize_VN_Long02(); break;
-            case 617: jtt_optimize_VN_Long03(); break;
-            case 618: jtt_optimize_VN_Loop01(); break;
-            case 619: jtt_reflect_Array_get01(); break;
-            case 620: jtt_reflect_Array_get02(); break;
-            case 621: jtt_reflect_Array_get03(); break;
-            case 622: jtt_reflect_Array_getBoolean01(); break;
-            case 623: jtt_reflect_Array_getByte01(); break;
-            case 624: jtt_reflect_Array_getChar01(); break;
-            case 625: jtt_reflect_Array_getDouble01(); break;
-            case 626: jtt_reflect_Array_getFloat01(); break;
-            case 627: jtt_reflect_Array_getInt01(); break;
-            case 628: jtt_reflect_Array_getLength01(); break;
-            case 629: jtt_reflect_Array_getLong01(); break;
-            case 630: jtt_reflect_Array_getShort01(); break;
-            case 631: jtt_reflect_Array_newInstance01(); break;
-            case 632: jtt_reflect_Array_newInstance02(); break;
-            case 633: jtt_reflect_Array_newInstance03(); break;
-            case 634: jtt_reflect_Array_newInstance04(); break;
-            case 635: jtt_reflect_Array_newInstance05(); break;
-            case 636: jtt_reflect_Array_newInstance06(); break;
-            case 637: jtt_reflect_Array_set01(); break;
-            case 638: jtt_reflect_Array_set02(); break;
-            case 639: jtt_reflect_Array_set03(); break;
-            case 640: jtt_reflect_Array_setBoolean01(); break;
-            case 641: jtt_reflect_Array_setByte01(); break;
-            case 642: jtt_reflect_Array_setChar01(); break;
-            case 643: jtt_reflect_Array_setDouble01(); break;
-            case 644: jtt_reflect_Array_setFloat01(); break;
-            case 645: jtt_reflect_Array_setInt01(); break;
-            case 646: jtt_reflect_Array_setLong01(); break;
-            case 647: jtt_reflect_Array_setShort01(); break;
-            case 648: jtt_reflect_Class_getDeclaredField01(); break;
-            case 649: jtt_reflect_Class_getDeclaredMethod01(); break;
-            case 650: jtt_reflect_Class_getField01(); break;
-            case 651: jtt_reflect_Class_getField02(); break;
-            case 652: jtt_reflect_Class_getMethod01(); break;
-            case 653: jtt_reflect_Class_getMethod02(); break;
-            case 654: jtt_reflect_Class_newInstance01(); break;
-            case 655: jtt_reflect_Class_newInstance02(); break;
-            case 656: jtt_reflect_Class_newInstance03(); break;
-            case 657: jtt_reflect_Class_newInstance06(); break;
-            case 658: jtt_reflect_Class_newInstance07(); break;
-            case 659: jtt_reflect_Field_get01(); break;
-            case 660: jtt_reflect_Field_get02(); break;
-            case 661: jtt_reflect_Field_get03(); break;
-            case 662: jtt_reflect_Field_get04(); break;
-            case 663: jtt_reflect_Field_getType01(); break;
-            case 664: jtt_reflect_Field_set01(); break;
-            case 665: jtt_reflect_Field_set02(); break;
-            case 666: jtt_reflect_Field_set03(); break;
-            case 667: jtt_reflect_Invoke_except01(); break;
-            case 668: jtt_reflect_Invoke_main01(); break;
-            case 669: jtt_reflect_Invoke_main02(); break;
-            case 670: jtt_reflect_Invoke_main03(); break;
-            case 671: jtt_reflect_Invoke_virtual01(); break;
-            case 672: jtt_reflect_Method_getParameterTypes01(); break;
-            case 673: jtt_reflect_Method_getReturnType01(); break;
-            case 674: jtt_reflect_Reflection_getCallerClass01(); break;
-            case 675: jtt_threads_Monitor_contended01(); break;
-            case 676: jtt_threads_Monitor_notowner01(); break;
-            case 677: jtt_threads_Monitorenter01(); break;
-            case 678: jtt_threads_Monitorenter02(); break;
-            case 679: jtt_threads_Object_wait01(); break;
-            case 680: jtt_threads_Object_wait02(); break;
-            case 681: jtt_threads_Object_wait03(); break;
-            case 682: jtt_threads_Object_wait04(); break;
-            case 683: jtt_threads_ThreadLocal01(); break;
-            case 684: jtt_threads_ThreadLocal02(); break;
-            case 685: jtt_threads_ThreadLocal03(); break;
-            case 686: jtt_threads_Thread_currentThread01(); break;
-            case 687: jtt_threads_Thread_getState01(); break;
-            case 688: jtt_threads_Thread_getState02(); break;
-            case 689: jtt_threads_Thread_holdsLock01(); break;
-            case 690: jtt_threads_Thread_isAlive01(); break;
-            case 691: jtt_threads_Thread_isInterrupted01(); break;
-            case 692: jtt_threads_Thread_isInterrupted02(); break;
-            case 693: jtt_threads_Thread_isInterrupted03(); break;
-            case 694: jtt_threads_Thread_isInterrupted04(); break;
-            case 695: jtt_threads_Thread_isInterrupted05(); break;
-            case 696: jtt_threads_Thread_join01(); break;
-            case 697: jtt_threads_Thread_join02(); break;
-            case 698: jtt_threads_Thread_join03(); break;
-            case 699: jtt_threads_Thread_new01(); break;
-            case 700: jtt_threads_Thread_new02(); break;
-            case 701: jtt_threads_Thread_setPriority01(); break;
-            case 702: jtt_threads_Thread_sleep01(); break;
-            case 703: jtt_threads_Thread_yield01(); break;
-            case 704: jtt_exbytecode_EBC_movd2l_01(); break;
-            case 705: jtt_exbytecode_EBC_movd2l_02(); break;
-            case 706: jtt_exbytecode_EBC_movd2l_03(); break;
-            case 707: jtt_exbytecode_EBC_movd2l_04(); break;
-            case 708: jtt_exbytecode_EBC_movf2i_01(); break;
-            case 709: jtt_exbytecode_EBC_movf2i_02(); break;
-            case 710: jtt_exbytecode_EBC_movf2i_03(); break;
-            case 711: jtt_exbytecode_EBC_movf2i_04(); break;
-            case 712: jtt_exbytecode_EBC_movi2f_01(); break;
-            case 713: jtt_exbytecode_EBC_movi2f_02(); break;
-            case 714: jtt_exbytecode_EBC_movi2f_03(); break;
-            case 715: jtt_exbytecode_EBC_movi2f_04(); break;
-            case 716: jtt_exbytecode_EBC_movl2d_01(); break;
-            case 717: jtt_exbytecode_EBC_movl2d_02(); break;
-            case 718: jtt_exbytecode_EBC_movl2d_03(); break;
-            case 719: jtt_exbytecode_EBC_movl2d_04(); break;
-            case 720: jtt_exbytecode_EBC_ucmp_ae_01(); break;
-            case 721: jtt_exbytecode_EBC_ucmp_at_01(); break;
-            case 722: jtt_exbytecode_EBC_ucmp_be_01(); break;
-            case 723: jtt_exbytecode_EBC_ucmp_bt_01(); break;
-            case 724: jtt_exbytecode_EBC_uwgt_01(); break;
-            case 725: jtt_exbytecode_EBC_uwgteq_01(); break;
-            case 726: jtt_exbytecode_EBC_uwlt_01(); break;
-            case 727: jtt_exbytecode_EBC_uwlteq_01(); break;
-            case 728: jtt_max_CodePointer01(); break;
-            case 729: jtt_max_CodePointer02(); break;
-            case 730: jtt_max_Fold01(); break;
-            case 731: jtt_max_Fold02(); break;
-            case 732: jtt_max_Fold03(); break;
-            case 733: jtt_max_Hub_Subtype01(); break;
-            case 734: jtt_max_Hub_Subtype02(); break;
-            case 735: jtt_max_ImmortalHeap_allocation(); break;
-            case 736: jtt_max_ImmortalHeap_gc(); break;
-            case 737: jtt_max_ImmortalHeap_switching(); break;
-            case 738: jtt_max_Inline01(); break;
-            case 739: jtt_max_Invoke_except01(); break;
-            case 740: jtt_max_LeastSignificantBit(); break;
-            case 741: jtt_max_MostSignificantBit(); break;
-            case 742: jtt_max_Prototyping01(); break;
-            case 743: jtt_max_Unsigned_idiv01(); break;
-            case 744: jtt_max_Unsigned_irem01(); break;
-            case 745: jtt_max_Unsigned_ldiv01(); break;
-            case 746: jtt_max_Unsigned_lrem01(); break;
+            case 340: jtt_jdk_Arrays_equals01(); break;
+            case 341: jtt_jdk_Arrays_fill01(); break;
+            case 342: jtt_jdk_Arrays_fill02(); break;
+            case 343: jtt_jdk_CRC32_update01(); break;
+            case 344: jtt_jdk_Cipher_AES01(); break;
+            case 345: jtt_jdk_Class_getName(); break;
+            case 346: jtt_jdk_EnumMap01(); break;
+            case 347: jtt_jdk_EnumMap02(); break;
+            case 348: jtt_jdk_MessageDigest_SHA01(); break;
+            case 349: jtt_jdk_System_arraycopy01(); break;
+            case 350: jtt_jdk_System_arraycopy02(); break;
+            case 351: jtt_jdk_System_arraycopy03(); break;
+            case 352: jtt_jdk_System_currentTimeMillis01(); break;
+            case 353: jtt_jdk_System_currentTimeMillis02(); break;
+            case 354: jtt_jdk_System_nanoTime01(); break;
+            case 355: jtt_jdk_System_nanoTime02(); break;
+            case 356: jtt_jdk_System_setOut(); break;
+            case 357: jtt_jdk_Thread_setName(); break;
+            case 358: jtt_jdk_UnsafeAccess01(); break;
+            case 359: jtt_jdk_Unsafe_copyMemory01(); break;
+            case 360: jtt_jdk_Unsafe_copyMemory02(); break;
+            case 361: jtt_jni_JNI_FieldBoolean(); break;
+            case 362: jtt_jni_JNI_IdentityBoolean(); break;
+            case 363: jtt_jni_JNI_IdentityByte(); break;
+            case 364: jtt_jni_JNI_IdentityChar(); break;
+            case 365: jtt_jni_JNI_IdentityFloat(); break;
+            case 366: jtt_jni_JNI_IdentityInt(); break;
+            case 367: jtt_jni_JNI_IdentityLong(); break;
+            case 368: jtt_jni_JNI_IdentityObject(); break;
+            case 369: jtt_jni_JNI_IdentityShort(); break;
+            case 370: jtt_jni_JNI_ManyObjectParameters(); break;
+            case 371: jtt_jni_JNI_ManyParameters(); break;
+            case 372: jtt_jni_JNI_Nop(); break;
+            case 373: jtt_jni_JNI_OverflowArguments(); break;
+            case 374: jtt_jvmni_JVM_ArrayCopy01(); break;
+            case 375: jtt_jvmni_JVM_GetClassContext01(); break;
+            case 376: jtt_jvmni_JVM_GetClassContext02(); break;
+            case 377: jtt_jvmni_JVM_GetFreeMemory01(); break;
+            case 378: jtt_jvmni_JVM_GetMaxMemory01(); break;
+            case 379: jtt_jvmni_JVM_GetTotalMemory01(); break;
+            case 380: jtt_jvmni_JVM_IsNaN01(); break;
+            case 381: jtt_lang_Boxed_TYPE_01(); break;
+            case 382: jtt_lang_Bridge_method01(); break;
+            case 383: jtt_lang_ClassLoader_defineClass01(); break;
+            case 384: jtt_lang_ClassLoader_defineClass02(); break;
+            case 385: jtt_lang_ClassLoader_loadClass01(); break;
+            case 386: jtt_lang_Class_Literal01(); break;
+            case 387: jtt_lang_Class_asSubclass01(); break;
+            case 388: jtt_lang_Class_cast01(); break;
+            case 389: jtt_lang_Class_cast02(); break;
+            case 390: jtt_lang_Class_forName01(); break;
+            case 391: jtt_lang_Class_forName02(); break;
+            case 392: jtt_lang_Class_forName03(); break;
+            case 393: jtt_lang_Class_forName04(); break;
+            case 394: jtt_lang_Class_forName05(); break;
+            case 395: jtt_lang_Class_getComponentType01(); break;
+            case 396: jtt_lang_Class_getInterfaces01(); break;
+            case 397: jtt_lang_Class_getName01(); break;
+            case 398: jtt_lang_Class_getName02(); break;
+            case 399: jtt_lang_Class_getSimpleName01(); break;
+            case 400: jtt_lang_Class_getSimpleName02(); break;
+            case 401: jtt_lang_Class_getSuperClass01(); break;
+            case 402: jtt_lang_Class_isArray01(); break;
+            case 403: jtt_lang_Class_isAssignableFrom01(); break;
+            case 404: jtt_lang_Class_isAssignableFrom02(); break;
+            case 405: jtt_lang_Class_isAssignableFrom03(); break;
+            case 406: jtt_lang_Class_isInstance01(); break;
+            case 407: jtt_lang_Class_isInstance02(); break;
+            case 408: jtt_lang_Class_isInstance03(); break;
+            case 409: jtt_lang_Class_isInstance04(); break;
+            case 410: jtt_lang_Class_isInstance05(); break;
+            case 411: jtt_lang_Class_isInstance06(); break;
+            case 412: jtt_lang_Class_isInterface01(); break;
+            case 413: jtt_lang_Class_isPrimitive01(); break;
+            case 414: jtt_lang_Double_01(); break;
+            case 415: jtt_lang_Double_toString(); break;
+            case 416: jtt_lang_Float_01(); break;
+            case 417: jtt_lang_Float_02(); break;
+            case 418: jtt_lang_Float_03(); break;
+            case 419: jtt_lang_Int_greater01(); break;
+            case 420: jtt_lang_Int_greater02(); break;
+            case 421: jtt_lang_Int_greater03(); break;
+            case 422: jtt_lang_Int_greaterEqual01(); break;
+            case 423: jtt_lang_Int_greaterEqual02(); break;
+            case 424: jtt_lang_Int_greaterEqual03(); break;
+            case 425: jtt_lang_Int_less01(); break;
+            case 426: jtt_lang_Int_less02(); break;
+            case 427: jtt_lang_Int_less03(); break;
+            case 428: jtt_lang_Int_lessEqual01(); break;
+            case 429: jtt_lang_Int_lessEqual02(); break;
+            case 430: jtt_lang_Int_lessEqual03(); break;
+            case 431: jtt_lang_JDK_ClassLoaders01(); break;
+            case 432: jtt_lang_JDK_ClassLoaders02(); break;
+            case 433: jtt_lang_Long_greater01(); break;
+            case 434: jtt_lang_Long_greater02(); break;
+            case 435: jtt_lang_Long_greater03(); break;
+            case 436: jtt_lang_Long_greaterEqual01(); break;
+            case 437: jtt_lang_Long_greaterEqual02(); break;
+            case 438: jtt_lang_Long_greaterEqual03(); break;
+            case 439: jtt_lang_Long_less01(); break;
+            case 440: jtt_lang_Long_less02(); break;
+            case 441: jtt_lang_Long_less03(); break;
+            case 442: jtt_lang_Long_lessEqual01(); break;
+            case 443: jtt_lang_Long_lessEqual02(); break;
+            case 444: jtt_lang_Long_lessEqual03(); break;
+            case 445: jtt_lang_Long_reverseBytes01(); break;
+            case 446: jtt_lang_Long_reverseBytes02(); break;
+            case 447: jtt_lang_Math_abs(); break;
+            case 448: jtt_lang_Math_cos(); break;
+            case 449: jtt_lang_Math_log(); break;
+            case 450: jtt_lang_Math_log10(); break;
+            case 451: jtt_lang_Math_pow(); break;
+            case 452: jtt_lang_Math_sin(); break;
+            case 453: jtt_lang_Math_sqrt(); break;
+            case 454: jtt_lang_Math_tan(); break;
+            case 455: jtt_lang_Object_clone01(); break;
+            case 456: jtt_lang_Object_clone02(); break;
+            case 457: jtt_lang_Object_equals01(); break;
+            case 458: jtt_lang_Object_getClass01(); break;
+            case 459: jtt_lang_Object_hashCode01(); break;
+            case 460: jtt_lang_Object_notify01(); break;
+            case 461: jtt_lang_Object_notify02(); break;
+            case 462: jtt_lang_Object_notifyAll01(); break;
+            case 463: jtt_lang_Object_notifyAll02(); break;
+            case 464: jtt_lang_Object_toString01(); break;
+            case 465: jtt_lang_Object_toString02(); break;
+            case 466: jtt_lang_Object_wait01(); break;
+            case 467: jtt_lang_Object_wait02(); break;
+            case 468: jtt_lang_Object_wait03(); break;
+            case 469: jtt_lang_ProcessEnvironment_init(); break;
+            case 470: jtt_lang_StringCoding_Scale(); break;
+            case 471: jtt_lang_String_indexOf01(); break;
+            case 472: jtt_lang_String_intern01(); break;
+            case 473: jtt_lang_String_intern02(); break;
+            case 474: jtt_lang_String_intern03(); break;
+            case 475: jtt_lang_String_intern04(); break;
+            case 476: jtt_lang_String_intern05(); break;
+            case 477: jtt_lang_String_intern06(); break;
+            case 478: jtt_lang_String_valueOf01(); break;
+            case 479: jtt_lang_System_identityHashCode01(); break;
+            case 480: jtt_loop_DegeneratedLoop(); break;
+            case 481: jtt_loop_Loop01(); break;
+            case 482: jtt_loop_Loop02(); break;
+            case 483: jtt_loop_Loop03(); break;
+            case 484: jtt_loop_Loop04(); break;
+            case 485: jtt_loop_Loop05(); break;
+            case 486: jtt_loop_Loop06(); break;
+            case 487: jtt_loop_Loop07(); break;
+            case 488: jtt_loop_Loop08(); break;
+            case 489: jtt_loop_Loop09(); break;
+            case 490: jtt_loop_Loop11(); break;
+            case 491: jtt_loop_Loop12(); break;
+            case 492: jtt_loop_Loop13(); break;
+            case 493: jtt_loop_Loop14(); break;
+            case 494: jtt_loop_LoopInline(); break;
+            case 495: jtt_loop_LoopNewInstance(); break;
+            case 496: jtt_loop_LoopPhi(); break;
+            case 497: jtt_loop_LoopSwitch01(); break;
+            case 498: jtt_micro_ArrayCompare01(); break;
+            case 499: jtt_micro_ArrayCompare02(); break;
+            case 500: jtt_micro_BC_invokevirtual2(); break;
+            case 501: jtt_micro_BigByteParams01(); break;
+            case 502: jtt_micro_BigDoubleParams02(); break;
+            case 503: jtt_micro_BigFloatParams01(); break;
+            case 504: jtt_micro_BigFloatParams02(); break;
+            case 505: jtt_micro_BigIntParams01(); break;
+            case 506: jtt_micro_BigIntParams02(); break;
+            case 507: jtt_micro_BigInterfaceParams01(); break;
+            case 508: jtt_micro_BigLongParams02(); break;
+            case 509: jtt_micro_BigMixedParams01(); break;
+            case 510: jtt_micro_BigMixedParams02(); break;
+            case 511: jtt_micro_BigMixedParams03(); break;
+            case 512: jtt_micro_BigObjectParams01(); break;
+            case 513: jtt_micro_BigObjectParams02(); break;
+            case 514: jtt_micro_BigParamsAlignment(); break;
+            case 515: jtt_micro_BigShortParams01(); break;
+            case 516: jtt_micro_BigVirtualParams01(); break;
+            case 517: jtt_micro_Bubblesort(); break;
+            case 518: jtt_micro_Fibonacci(); break;
+            case 519: jtt_micro_InvokeVirtual_01(); break;
+            case 520: jtt_micro_InvokeVirtual_02(); break;
+            case 521: jtt_micro_Matrix01(); break;
+            case 522: jtt_micro_ReferenceMap01(); break;
+            case 523: jtt_micro_StrangeFrames(); break;
+            case 524: jtt_micro_String_format01(); break;
+            case 525: jtt_micro_String_format02(); break;
+            case 526: jtt_micro_VarArgs_String01(); break;
+            case 527: jtt_micro_VarArgs_boolean01(); break;
+            case 528: jtt_micro_VarArgs_byte01(); break;
+            case 529: jtt_micro_VarArgs_char01(); break;
+            case 530: jtt_micro_VarArgs_double01(); break;
+            case 531: jtt_micro_VarArgs_float01(); break;
+            case 532: jtt_micro_VarArgs_int01(); break;
+            case 533: jtt_micro_VarArgs_long01(); break;
+            case 534: jtt_micro_VarArgs_short01(); break;
+            case 535: jtt_optimize_ABCE_01(); break;
+            case 536: jtt_optimize_ABCE_02(); break;
+            case 537: jtt_optimize_ABCE_03(); break;
+            case 538: jtt_optimize_ArrayCopy01(); break;
+            case 539: jtt_optimize_ArrayLength01(); break;
+            case 540: jtt_optimize_BC_idiv_16(); break;
+            case 541: jtt_optimize_BC_idiv_4(); break;
+            case 542: jtt_optimize_BC_imul_16(); break;
+            case 543: jtt_optimize_BC_imul_4(); break;
+            case 544: jtt_optimize_BC_ldiv_16(); break;
+            case 545: jtt_optimize_BC_ldiv_4(); break;
+            case 546: jtt_optimize_BC_lmul_16(); break;
+            case 547: jtt_optimize_BC_lmul_4(); break;
+            case 548: jtt_optimize_BC_lshr_C16(); break;
+            case 549: jtt_optimize_BC_lshr_C24(); break;
+            case 550: jtt_optimize_BC_lshr_C32(); break;
+            case 551: jtt_optimize_BlockSkip01(); break;
+            case 552: jtt_optimize_Cmov01(); break;
+            case 553: jtt_optimize_Cmov02(); break;
+            case 554: jtt_optimize_Conditional01(); break;
+            case 555: jtt_optimize_DeadCode01(); break;
+            case 556: jtt_optimize_DeadCode02(); break;
+            case 557: jtt_optimize_Fold_Cast01(); break;
+            case 558: jtt_optimize_Fold_Convert01(); break;
+            case 559: jtt_optimize_Fold_Convert02(); break;
+            case 560: jtt_optimize_Fold_Convert03(); break;
+            case 561: jtt_optimize_Fold_Convert04(); break;
+            case 562: jtt_optimize_Fold_Double01(); break;
+            case 563: jtt_optimize_Fold_Double02(); break;
+            case 564: jtt_optimize_Fold_Double03(); break;
+            case 565: jtt_optimize_Fold_Float01(); break;
+            case 566: jtt_optimize_Fold_Float02(); break;
+            case 567: jtt_optimize_Fold_InstanceOf01(); break;
+            case 568: jtt_optimize_Fold_Int01(); break;
+            case 569: jtt_optimize_Fold_Int02(); break;
+            case 570: jtt_optimize_Fold_Long01(); break;
+            case 571: jtt_optimize_Fold_Long02(); break;
+            case 572: jtt_optimize_Fold_Math01(); break;
+            case 573: jtt_optimize_Inline01(); break;
+            case 574: jtt_optimize_Inline02(); break;
+            case 575: jtt_optimize_LICM_01(); break;
+            case 576: jtt_optimize_LICM_02(); break;
+            case 577: jtt_optimize_LICM_03(); break;
+            case 578: jtt_optimize_LLE_01(); break;
+            case 579: jtt_optimize_LinearScan_huge01(); break;
+            case 580: jtt_optimize_List_reorder_bug(); break;
+            case 581: jtt_optimize_NCE_01(); break;
+            case 582: jtt_optimize_NCE_02(); break;
+            case 583: jtt_optimize_NCE_03(); break;
+            case 584: jtt_optimize_NCE_04(); break;
+            case 585: jtt_optimize_NCE_FlowSensitive01(); break;
+            case 586: jtt_optimize_NCE_FlowSensitive02(); break;
+            case 587: jtt_optimize_NCE_FlowSensitive03(); break;
+            case 588: jtt_optimize_NCE_FlowSensitive04(); break;
+            case 589: jtt_optimize_NCE_FlowSensitive05(); break;
+            case 590: jtt_optimize_Narrow_byte01(); break;
+            case 591: jtt_optimize_Narrow_byte02(); break;
+            case 592: jtt_optimize_Narrow_byte03(); break;
+            case 593: jtt_optimize_Narrow_char01(); break;
+            case 594: jtt_optimize_Narrow_char02(); break;
+            case 595: jtt_optimize_Narrow_char03(); break;
+            case 596: jtt_optimize_Narrow_short01(); break;
+            case 597: jtt_optimize_Narrow_short02(); break;
+            case 598: jtt_optimize_Narrow_short03(); break;
+            case 599: jtt_optimize_Phi01(); break;
+            case 600: jtt_optimize_Phi02(); break;
+            case 601: jtt_optimize_Phi03(); break;
+            case 602: jtt_optimize_RCE_01(); break;
+            case 603: jtt_optimize_RCE_02(); break;
+            case 604: jtt_optimize_RCE_03(); break;
+            case 605: jtt_optimize_RCE_04(); break;
+            case 606: jtt_optimize_RCE_05(); break;
+            case 607: jtt_optimize_Reduce_Convert01(); break;
+            case 608: jtt_optimize_Reduce_Double01(); break;
+            case 609: jtt_optimize_Reduce_Float01(); break;
+            case 610: jtt_optimize_Reduce_Int01(); break;
+            case 611: jtt_optimize_Reduce_Int02(); break;
+            case 612: jtt_optimize_Reduce_Int03(); break;
+            case 613: jtt_optimize_Reduce_Int04(); break;
+            case 614: jtt_optimize_Reduce_IntShift01(); break;
+            case 615: jtt_optimize_Reduce_IntShift02(); break;
+            case 616: jtt_optimize_Reduce_Long01(); break;
+            case 617: jtt_optimize_Reduce_Long02(); break;
+            case 618: jtt_optimize_Reduce_Long03(); break;
+            case 619: jtt_optimize_Reduce_Long04(); break;
+            case 620: jtt_optimize_Reduce_LongShift01(); break;
+            case 621: jtt_optimize_Reduce_LongShift02(); break;
+            case 622: jtt_optimize_Switch01(); break;
+            case 623: jtt_optimize_Switch02(); break;
+            case 624: jtt_optimize_TOS_01(); break;
+            case 625: jtt_optimize_TOS_02(); break;
+            case 626: jtt_optimize_TOS_03(); break;
+            case 627: jtt_optimize_TypeCastElem(); break;
+            case 628: jtt_optimize_TypeGuard_01(); break;
+            case 629: jtt_optimize_VN_Cast01(); break;
+            case 630: jtt_optimize_VN_Cast02(); break;
+            case 631: jtt_optimize_VN_Convert01(); break;
+            case 632: jtt_optimize_VN_Convert02(); break;
+            case 633: jtt_optimize_VN_Double01(); break;
+            case 634: jtt_optimize_VN_Double02(); break;
+            case 635: jtt_optimize_VN_Field01(); break;
+            case 636: jtt_optimize_VN_Field02(); break;
+            case 637: jtt_optimize_VN_Float01(); break;
+            case 638: jtt_optimize_VN_Float02(); break;
+            case 639: jtt_optimize_VN_InstanceOf01(); break;
+            case 640: jtt_optimize_VN_InstanceOf02(); break;
+            case 641: jtt_optimize_VN_InstanceOf03(); break;
+            case 642: jtt_optimize_VN_Int01(); break;
+            case 643: jtt_optimize_VN_Int02(); break;
+            case 644: jtt_optimize_VN_Int03(); break;
+            case 645: jtt_optimize_VN_Long01(); break;
+            case 646: jtt_optimize_VN_Long02(); break;
+            case 647: jtt_optimize_VN_Long03(); break;
+            case 648: jtt_optimize_VN_Loop01(); break;
+            case 649: jtt_reflect_Array_get01(); break;
+            case 650: jtt_reflect_Array_get02(); break;
+            case 651: jtt_reflect_Array_get03(); break;
+            case 652: jtt_reflect_Array_getBoolean01(); break;
+            case 653: jtt_reflect_Array_getByte01(); break;
+            case 654: jtt_reflect_Array_getChar01(); break;
+            case 655: jtt_reflect_Array_getDouble01(); break;
+            case 656: jtt_reflect_Array_getFloat01(); break;
+            case 657: jtt_reflect_Array_getInt01(); break;
+            case 658: jtt_reflect_Array_getLength01(); break;
+            case 659: jtt_reflect_Array_getLong01(); break;
+            case 660: jtt_reflect_Array_getShort01(); break;
+            case 661: jtt_reflect_Array_newInstance01(); break;
+            case 662: jtt_reflect_Array_newInstance02(); break;
+            case 663: jtt_reflect_Array_newInstance03(); break;
+            case 664: jtt_reflect_Array_newInstance04(); break;
+            case 665: jtt_reflect_Array_newInstance05(); break;
+            case 666: jtt_reflect_Array_newInstance06(); break;
+            case 667: jtt_reflect_Array_set01(); break;
+            case 668: jtt_reflect_Array_set02(); break;
+            case 669: jtt_reflect_Array_set03(); break;
+            case 670: jtt_reflect_Array_setBoolean01(); break;
+            case 671: jtt_reflect_Array_setByte01(); break;
+            case 672: jtt_reflect_Array_setChar01(); break;
+            case 673: jtt_reflect_Array_setDouble01(); break;
+            case 674: jtt_reflect_Array_setFloat01(); break;
+            case 675: jtt_reflect_Array_setInt01(); break;
+            case 676: jtt_reflect_Array_setLong01(); break;
+            case 677: jtt_reflect_Array_setShort01(); break;
+            case 678: jtt_reflect_Class_getDeclaredField01(); break;
+            case 679: jtt_reflect_Class_getDeclaredMethod01(); break;
+            case 680: jtt_reflect_Class_getField01(); break;
+            case 681: jtt_reflect_Class_getField02(); break;
+            case 682: jtt_reflect_Class_getMethod01(); break;
+            case 683: jtt_reflect_Class_getMethod02(); break;
+            case 684: jtt_reflect_Class_newInstance01(); break;
+            case 685: jtt_reflect_Class_newInstance02(); break;
+            case 686: jtt_reflect_Class_newInstance03(); break;
+            case 687: jtt_reflect_Class_newInstance06(); break;
+            case 688: jtt_reflect_Class_newInstance07(); break;
+            case 689: jtt_reflect_Field_get01(); break;
+            case 690: jtt_reflect_Field_get02(); break;
+            case 691: jtt_reflect_Field_get03(); break;
+            case 692: jtt_reflect_Field_get04(); break;
+            case 693: jtt_reflect_Field_getType01(); break;
+            case 694: jtt_reflect_Field_set01(); break;
+            case 695: jtt_reflect_Field_set02(); break;
+            case 696: jtt_reflect_Field_set03(); break;
+            case 697: jtt_reflect_Invoke_except01(); break;
+            case 698: jtt_reflect_Invoke_main01(); break;
+            case 699: jtt_reflect_Invoke_main02(); break;
+            case 700: jtt_reflect_Invoke_main03(); break;
+            case 701: jtt_reflect_Invoke_shared01(); break;
+            case 702: jtt_reflect_Invoke_unbox01(); break;
+            case 703: jtt_reflect_Invoke_virtual01(); break;
+            case 704: jtt_reflect_Method_getParameterTypes01(); break;
+            case 705: jtt_reflect_Method_getReturnType01(); break;
+            case 706: jtt_reflect_Reflection_getCallerClass01(); break;
+            case 707: jtt_threads_Monitor_contended01(); break;
+            case 708: jtt_threads_Monitor_contended02(); break;
+            case 709: jtt_threads_Monitor_notowner01(); break;
+            case 710: jtt_threads_Monitorenter01(); break;
+            case 711: jtt_threads_Monitorenter02(); break;
+            case 712: jtt_threads_Object_wait01(); break;
+            case 713: jtt_threads_Object_wait02(); break;
+            case 714: jtt_threads_Object_wait03(); break;
+            case 715: jtt_threads_Object_wait04(); break;
+            case 716: jtt_threads_ThreadLocal01(); break;
+            case 717: jtt_threads_ThreadLocal02(); break;
+            case 718: jtt_threads_ThreadLocal03(); break;
+            case 719: jtt_threads_Thread_currentThread01(); break;
+            case 720: jtt_threads_Thread_forName01(); break;
+            case 721: jtt_threads_Thread_getState01(); break;
+            case 722: jtt_threads_Thread_getState02(); break;
+            case 723: jtt_threads_Thread_holdsLock01(); break;
+            case 724: jtt_threads_Thread_isAlive01(); break;
+            case 725: jtt_threads_Thread_isInterrupted01(); break;
+            case 726: jtt_threads_Thread_isInterrupted02(); break;
+            case 727: jtt_threads_Thread_isInterrupted03(); break;
+            case 728: jtt_threads_Thread_isInterrupted04(); break;
+            case 729: jtt_threads_Thread_isInterrupted05(); break;
+            case 730: jtt_threads_Thread_join01(); break;
+            case 731: jtt_threads_Thread_join02(); break;
+            case 732: jtt_threads_Thread_join03(); break;
+            case 733: jtt_threads_Thread_new01(); break;
+            case 734: jtt_threads_Thread_new02(); break;
+            case 735: jtt_threads_Thread_setPriority01(); break;
+            case 736: jtt_threads_Thread_sleep01(); break;
+            case 737: jtt_threads_Thread_yield01(); break;
+            case 738: jtt_exbytecode_EBC_movd2l_01(); break;
+            case 739: jtt_exbytecode_EBC_movd2l_02(); break;
+            case 740: jtt_exbytecode_EBC_movd2l_03(); break;
+            case 741: jtt_exbytecode_EBC_movd2l_04(); break;
+            case 742: jtt_exbytecode_EBC_movf2i_01(); break;
+            case 743: jtt_exbytecode_EBC_movf2i_02(); break;
+            case 744: jtt_exbytecode_EBC_movf2i_03(); break;
+            case 745: jtt_exbytecode_EBC_movf2i_04(); break;
+            case 746: jtt_exbytecode_EBC_movi2f_01(); break;
+            case 747: jtt_exbytecode_EBC_movi2f_02(); break;
+            case 748: jtt_exbytecode_EBC_movi2f_03(); break;
+            case 749: jtt_exbytecode_EBC_movi2f_04(); break;
+            case 750: jtt_exbytecode_EBC_movl2d_01(); break;
+            case 751: jtt_exbytecode_EBC_movl2d_02(); break;
+            case 752: jtt_exbytecode_EBC_movl2d_03(); break;
+            case 753: jtt_exbytecode_EBC_movl2d_04(); break;
+            case 754: jtt_exbytecode_EBC_ucmp_ae_01(); break;
+            case 755: jtt_exbytecode_EBC_ucmp_at_01(); break;
+            case 756: jtt_exbytecode_EBC_ucmp_be_01(); break;
+            case 757: jtt_exbytecode_EBC_ucmp_bt_01(); break;
+            case 758: jtt_exbytecode_EBC_uwgt_01(); break;
+            case 759: jtt_exbytecode_EBC_uwgteq_01(); break;
+            case 760: jtt_exbytecode_EBC_uwlt_01(); break;
+            case 761: jtt_exbytecode_EBC_uwlteq_01(); break;
+            case 762: jtt_max_CodePointer01(); break;
+            case 763: jtt_max_CodePointer02(); break;
+            case 764: jtt_max_CodeRegion_sweep01(); break;
+            case 765: jtt_max_Fold01(); break;
+            case 766: jtt_max_Fold02(); break;
+            case 767: jtt_max_Fold03(); break;
+            case 768: jtt_max_Heap_pin01(); break;
+            case 769: jtt_max_Hub_Subtype01(); break;
+            case 770: jtt_max_Hub_Subtype02(); break;
+            case 771: jtt_max_ImmortalHeap_allocation(); break;
+            case 772: jtt_max_ImmortalHeap_gc(); break;
+            case 773: jtt_max_ImmortalHeap_switching(); break;
+            case 774: jtt_max_Inline01(); break;
+            case 775: jtt_max_Invoke_except01(); break;
+            case 776: jtt_max_LeastSignificantBit(); break;
+            case 777: jtt_max_Memory_copyBytes01(); break;
+            case 778: jtt_max_MostSignificantBit(); break;
+            case 779: jtt_max_Prototyping01(); break;
+            case 780: jtt_max_Unsigned_idiv01(); break;
+            case 781: jtt_max_Unsigned_irem01(); break;
+            case 782: jtt_max_Unsigned_ldiv01(); break;
+            case 783: jtt_max_Unsigned_lrem01(); break;
         }
         return true;
     }
@@ -12335,6 +12372,314 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_jdk_Arrays_equals01() {
+            begin("jtt.jdk.Arrays_equals01");
+            String runString = null;
+            try {
+            // (-1) == true
+                runString = "(-1)";
+                if (true != jtt.jdk.Arrays_equals01.test(-1)) {
+                    fail(runString);
+                    return;
+                }
+            // (0) == false
+                runString = "(0)";
+                if (false != jtt.jdk.Arrays_equals01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == false
+                runString = "(1)";
+                if (false != jtt.jdk.Arrays_equals01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (7) == false
+                runString = "(7)";
+                if (false != jtt.jdk.Arrays_equals01.test(7)) {
+                    fail(runString);
+                    return;
+                }
+            // (8) == false
+                runString = "(8)";
+                if (false != jtt.jdk.Arrays_equals01.test(8)) {
+                    fail(runString);
+                    return;
+                }
+            // (15) == false
+                runString = "(15)";
+                if (false != jtt.jdk.Arrays_equals01.test(15)) {
+                    fail(runString);
+                    return;
+                }
+            // (16) == false
+                runString = "(16)";
+                if (false != jtt.jdk.Arrays_equals01.test(16)) {
+                    fail(runString);
+                    return;
+                }
+            // (31) == false
+                runString = "(31)";
+                if (false != jtt.jdk.Arrays_equals01.test(31)) {
+                    fail(runString);
+                    return;
+                }
+            // (32) == false
+                runString = "(32)";
+                if (false != jtt.jdk.Arrays_equals01.test(32)) {
+                    fail(runString);
+                    return;
+                }
+            // (34) == false
+                runString = "(34)";
+                if (false != jtt.jdk.Arrays_equals01.test(34)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_Arrays_fill01() {
+            begin("jtt.jdk.Arrays_fill01");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.jdk.Arrays_fill01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == true
+                runString = "(1)";
+                if (true != jtt.jdk.Arrays_fill01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (7) == true
+                runString = "(7)";
+                if (true != jtt.jdk.Arrays_fill01.test(7)) {
+                    fail(runString);
+                    return;
+                }
+            // (8) == true
+                runString = "(8)";
+                if (true != jtt.jdk.Arrays_fill01.test(8)) {
+                    fail(runString);
+                    return;
+                }
+            // (15) == true
+                runString = "(15)";
+                if (true != jtt.jdk.Arrays_fill01.test(15)) {
+                    fail(runString);
+                    return;
+                }
+            // (16) == true
+                runString = "(16)";
+                if (true != jtt.jdk.Arrays_fill01.test(16)) {
+                    fail(runString);
+                    return;
+                }
+            // (17) == true
+                runString = "(17)";
+                if (true != jtt.jdk.Arrays_fill01.test(17)) {
+                    fail(runString);
+                    return;
+                }
+            // (33) == true
+                runString = "(33)";
+                if (true != jtt.jdk.Arrays_fill01.test(33)) {
+                    fail(runString);
+                    return;
+                }
+            // (100) == true
+                runString = "(100)";
+                if (true != jtt.jdk.Arrays_fill01.test(100)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_Arrays_fill02() {
+            begin("jtt.jdk.Arrays_fill02");
+            String runString = null;
+            try {
+            // (0,0) == 0
+                runString = "(0,0)";
+                if (0 != jtt.jdk.Arrays_fill02.test(0, 0)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,40) == 40
+                runString = "(0,40)";
+                if (40 != jtt.jdk.Arrays_fill02.test(0, 40)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,2) == 1
+                runString = "(1,2)";
+                if (1 != jtt.jdk.Arrays_fill02.test(1, 2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,20) == 17
+                runString = "(3,20)";
+                if (17 != jtt.jdk.Arrays_fill02.test(3, 20)) {
+                    fail(runString);
+                    return;
+                }
+            // (5,38) == 33
+                runString = "(5,38)";
+                if (33 != jtt.jdk.Arrays_fill02.test(5, 38)) {
+                    fail(runString);
+                    return;
+                }
+            // (39,40) == 1
+                runString = "(39,40)";
+                if (1 != jtt.jdk.Arrays_fill02.test(39, 40)) {
+                    fail(runString);
+                    return;
+                }
+            // (5,4) == !java.lang.IllegalArgumentException
+                try {
+                    runString = "(5,4)";
+                    jtt.jdk.Arrays_fill02.test(5, 4);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.IllegalArgumentException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            // (-1,4) == !java.lang.ArrayIndexOutOfBoundsException
+                try {
+                    runString = "(-1,4)";
+                    jtt.jdk.Arrays_fill02.test(-1, 4);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayIndexOutOfBoundsException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            // (0,41) == !java.lang.ArrayIndexOutOfBoundsException
+                try {
+                    runString = "(0,41)";
+                    jtt.jdk.Arrays_fill02.test(0, 41);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayIndexOutOfBoundsException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_CRC32_update01() {
+            begin("jtt.jdk.CRC32_update01");
+            String runString = null;
+            try {
+            // (0,0) == true
+                runString = "(0,0)";
+                if (true != jtt.jdk.CRC32_update01.test(0, 0)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,15) == true
+                runString = "(0,15)";
+                if (true != jtt.jdk.CRC32_update01.test(0, 15)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,16) == true
+                runString = "(1,16)";
+                if (true != jtt.jdk.CRC32_update01.test(1, 16)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,63) == true
+                runString = "(3,63)";
+                if (true != jtt.jdk.CRC32_update01.test(3, 63)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,64) == true
+                runString = "(0,64)";
+                if (true != jtt.jdk.CRC32_update01.test(0, 64)) {
+                    fail(runString);
+                    return;
+                }
+            // (5,65) == true
+                runString = "(5,65)";
+                if (true != jtt.jdk.CRC32_update01.test(5, 65)) {
+                    fail(runString);
+                    return;
+                }
+            // (7,128) == true
+                runString = "(7,128)";
+                if (true != jtt.jdk.CRC32_update01.test(7, 128)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,1000) == true
+                runString = "(1,1000)";
+                if (true != jtt.jdk.CRC32_update01.test(1, 1000)) {
+                    fail(runString);
+                    return;
+                }
+            // (13,4097) == true
+                runString = "(13,4097)";
+                if (true != jtt.jdk.CRC32_update01.test(13, 4097)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_Cipher_AES01() {
+            begin("jtt.jdk.Cipher_AES01");
+            String runString = null;
+            try {
+            // (16) == "69c4e0d86a7b0430d8cdb78070b4c55a"
+                runString = "(16)";
+                if (!"69c4e0d86a7b0430d8cdb78070b4c55a".equals(jtt.jdk.Cipher_AES01.test(16))) {
+                    fail(runString);
+                    return;
+                }
+            // (24) == "dda97ca4864cdfe06eaf70a0ec0d7191"
+                runString = "(24)";
+                if (!"dda97ca4864cdfe06eaf70a0ec0d7191".equals(jtt.jdk.Cipher_AES01.test(24))) {
+                    fail(runString);
+                    return;
+                }
+            // (32) == "8ea2b7ca516745bfeafc49904b496089"
+                runString = "(32)";
+                if (!"8ea2b7ca516745bfeafc49904b496089".equals(jtt.jdk.Cipher_AES01.test(32))) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_jdk_Class_getName() {
             begin("jtt.jdk.Class_getName");
             String runString = null;
@@ -12407,6 +12752,208 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_jdk_MessageDigest_SHA01() {
+            begin("jtt.jdk.MessageDigest_SHA01");
+            String runString = null;
+            try {
+            // (0,0) == "a9993e364706816aba3e25717850c26c9cd0d89d"
+                runString = "(0,0)";
+                if (!"a9993e364706816aba3e25717850c26c9cd0d89d".equals(jtt.jdk.MessageDigest_SHA01.test(0, 0))) {
+                    fail(runString);
+                    return;
+                }
+            // (0,1) == "84983e441c3bd26ebaae4aa1f95129e5e54670f1"
+                runString = "(0,1)";
+                if (!"84983e441c3bd26ebaae4aa1f95129e5e54670f1".equals(jtt.jdk.MessageDigest_SHA01.test(0, 1))) {
+                    fail(runString);
+                    return;
+                }
+            // (0,2) == "34aa973cd4c4daa4f61eeb2bdbad27316534016f"
+                runString = "(0,2)";
+                if (!"34aa973cd4c4daa4f61eeb2bdbad27316534016f".equals(jtt.jdk.MessageDigest_SHA01.test(0, 2))) {
+                    fail(runString);
+                    return;
+                }
+            // (1,0) == "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"
+                runString = "(1,0)";
+                if (!"ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad".equals(jtt.jdk.MessageDigest_SHA01.test(1, 0))) {
+                    fail(runString);
+                    return;
+                }
+            // (1,1) == "248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1"
+                runString = "(1,1)";
+                if (!"248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1".equals(jtt.jdk.MessageDigest_SHA01.test(1, 1))) {
+                    fail(runString);
+                    return;
+                }
+            // (1,2) == "cdc76e5c9914fb9281a1c7e284d73e67f1809a48a497200e046d39ccc7112cd0"
+                runString = "(1,2)";
+                if (!"cdc76e5c9914fb9281a1c7e284d73e67f1809a48a497200e046d39ccc7112cd0".equals(jtt.jdk.MessageDigest_SHA01.test(1, 2))) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_System_arraycopy01() {
+            begin("jtt.jdk.System_arraycopy01");
+            String runString = null;
+            try {
+            // (0,1,0) == true
+                runString = "(0,1,0)";
+                if (true != jtt.jdk.System_arraycopy01.test(0, 1, 0)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,1,1) == true
+                runString = "(0,1,1)";
+                if (true != jtt.jdk.System_arraycopy01.test(0, 1, 1)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,0,7) == true
+                runString = "(1,0,7)";
+                if (true != jtt.jdk.System_arraycopy01.test(1, 0, 7)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,1,7) == true
+                runString = "(0,1,7)";
+                if (true != jtt.jdk.System_arraycopy01.test(0, 1, 7)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,0,8) == true
+                runString = "(3,0,8)";
+                if (true != jtt.jdk.System_arraycopy01.test(3, 0, 8)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,3,8) == true
+                runString = "(0,3,8)";
+                if (true != jtt.jdk.System_arraycopy01.test(0, 3, 8)) {
+                    fail(runString);
+                    return;
+                }
+            // (2,9,17) == true
+                runString = "(2,9,17)";
+                if (true != jtt.jdk.System_arraycopy01.test(2, 9, 17)) {
+                    fail(runString);
+                    return;
+                }
+            // (9,2,17) == true
+                runString = "(9,2,17)";
+                if (true != jtt.jdk.System_arraycopy01.test(9, 2, 17)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,32,32) == true
+                runString = "(0,32,32)";
+                if (true != jtt.jdk.System_arraycopy01.test(0, 32, 32)) {
+                    fail(runString);
+                    return;
+                }
+            // (5,5,20) == true
+                runString = "(5,5,20)";
+                if (true != jtt.jdk.System_arraycopy01.test(5, 5, 20)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,2,61) == true
+                runString = "(1,2,61)";
+                if (true != jtt.jdk.System_arraycopy01.test(1, 2, 61)) {
+                    fail(runString);
+                    return;
+                }
+            // (2,1,61) == true
+                runString = "(2,1,61)";
+                if (true != jtt.jdk.System_arraycopy01.test(2, 1, 61)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_System_arraycopy02() {
+            begin("jtt.jdk.System_arraycopy02");
+            String runString = null;
+            try {
+            // (0) == 0
+                runString = "(0)";
+                if (0 != jtt.jdk.System_arraycopy02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 0
+                runString = "(1)";
+                if (0 != jtt.jdk.System_arraycopy02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 0
+                runString = "(2)";
+                if (0 != jtt.jdk.System_arraycopy02.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 2
+                runString = "(3)";
+                if (2 != jtt.jdk.System_arraycopy02.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == !java.lang.ArrayStoreException
+                try {
+                    runString = "(4)";
+                    jtt.jdk.System_arraycopy02.test(4);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayStoreException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_System_arraycopy03() {
+            begin("jtt.jdk.System_arraycopy03");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.jdk.System_arraycopy03.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (100) == true
+                runString = "(100)";
+                if (true != jtt.jdk.System_arraycopy03.test(100)) {
+                    fail(runString);
+                    return;
+                }
+            // (1000) == true
+                runString = "(1000)";
+                if (true != jtt.jdk.System_arraycopy03.test(1000)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_jdk_System_currentTimeMillis01() {
             begin("jtt.jdk.System_currentTimeMillis01");
             String runString = null;
@@ -12519,6 +13066,86 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_jdk_Unsafe_copyMemory01() {
+            begin("jtt.jdk.Unsafe_copyMemory01");
+            String runString = null;
+            try {
+            // (0,8,0) == true
+                runString = "(0,8,0)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(0, 8, 0)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,8,5) == true
+                runString = "(0,8,5)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(0, 8, 5)) {
+                    fail(runString);
+                    return;
+                }
+            // (8,0,5) == true
+                runString = "(8,0,5)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(8, 0, 5)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,2,37) == true
+                runString = "(1,2,37)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(1, 2, 37)) {
+                    fail(runString);
+                    return;
+                }
+            // (2,1,37) == true
+                runString = "(2,1,37)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(2, 1, 37)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,64,64) == true
+                runString = "(0,64,64)";
+                if (true != jtt.jdk.Unsafe_copyMemory01.test(0, 64, 64)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_jdk_Unsafe_copyMemory02() {
+            begin("jtt.jdk.Unsafe_copyMemory02");
+            String runString = null;
+            try {
+            // (0,3,3500000) == true
+                runString = "(0,3,3500000)";
+                if (true != jtt.jdk.Unsafe_copyMemory02.test(0, 3, 3500000)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,0,3500000) == true
+                runString = "(3,0,3500000)";
+                if (true != jtt.jdk.Unsafe_copyMemory02.test(3, 0, 3500000)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,1048576,2097153) == true
+                runString = "(0,1048576,2097153)";
+                if (true != jtt.jdk.Unsafe_copyMemory02.test(0, 1048576, 2097153)) {
+                    fail(runString);
+                    return;
+                }
+            // (1048577,1,2097152) == true
+                runString = "(1048577,1,2097152)";
+                if (true != jtt.jdk.Unsafe_copyMemory02.test(1048577, 1, 2097152)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_jni_JNI_FieldBoolean() {
             begin("jtt.jni.JNI_FieldBoolean");
             String runString = null;
@@ -13117,6 +13744,56 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_lang_ClassLoader_defineClass01() {
+            begin("jtt.lang.ClassLoader_defineClass01");
+            String runString = null;
+            try {
+            // (0) == 1
+                runString = "(0)";
+                if (1 != jtt.lang.ClassLoader_defineClass01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == !java.lang.VerifyError
+                try {
+                    runString = "(1)";
+                    jtt.lang.ClassLoader_defineClass01.test(1);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.VerifyError.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_lang_ClassLoader_defineClass02() {
+            begin("jtt.lang.ClassLoader_defineClass02");
+            String runString = null;
+            try {
+            // (1) == 1
+                runString = "(1)";
+                if (1 != jtt.lang.ClassLoader_defineClass02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 3
+                runString = "(3)";
+                if (3 != jtt.lang.ClassLoader_defineClass02.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_lang_ClassLoader_loadClass01() {
             begin("jtt.lang.ClassLoader_loadClass01");
             String runString = null;
@@ -16977,6 +17654,70 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_lang_String_indexOf01() {
+            begin("jtt.lang.String_indexOf01");
+            String runString = null;
+            try {
+            // (0) == 0
+                runString = "(0)";
+                if (0 != jtt.lang.String_indexOf01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 1
+                runString = "(1)";
+                if (1 != jtt.lang.String_indexOf01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (15) == 15
+                runString = "(15)";
+                if (15 != jtt.lang.String_indexOf01.test(15)) {
+                    fail(runString);
+                    return;
+                }
+            // (16) == 16
+                runString = "(16)";
+                if (16 != jtt.lang.String_indexOf01.test(16)) {
+                    fail(runString);
+                    return;
+                }
+            // (17) == 17
+                runString = "(17)";
+                if (17 != jtt.lang.String_indexOf01.test(17)) {
+                    fail(runString);
+                    return;
+                }
+            // (40) == 40
+                runString = "(40)";
+                if (40 != jtt.lang.String_indexOf01.test(40)) {
+                    fail(runString);
+                    return;
+                }
+            // (76) == 76
+                runString = "(76)";
+                if (76 != jtt.lang.String_indexOf01.test(76)) {
+                    fail(runString);
+                    return;
+                }
+            // (77) == -1
+                runString = "(77)";
+                if (-1 != jtt.lang.String_indexOf01.test(77)) {
+                    fail(runString);
+                    return;
+                }
+            // (-1) == -1
+                runString = "(-1)";
+                if (-1 != jtt.lang.String_indexOf01.test(-1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_lang_String_intern01() {
             begin("jtt.lang.String_intern01");
             String runString = null;
@@ -17049,6 +17790,66 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_lang_String_intern04() {
+            begin("jtt.lang.String_intern04");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.lang.String_intern04.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == true
+                runString = "(1)";
+                if (true != jtt.lang.String_intern04.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_lang_String_intern05() {
+            begin("jtt.lang.String_intern05");
+            String runString = null;
+            try {
+            // (2) == true
+                runString = "(2)";
+                if (true != jtt.lang.String_intern05.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == true
+                runString = "(4)";
+                if (true != jtt.lang.String_intern05.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_lang_String_intern06() {
+            begin("jtt.lang.String_intern06");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.lang.String_intern06.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_lang_String_valueOf01() {
             begin("jtt.lang.String_valueOf01");
             String runString = null;
@@ -20783,9 +21584,93 @@ public class JTRuns {
                     fail(runString);
                     return;
                 }
-            // (12) == 42.0
-                runString = "(12)";
-                if (42.0 != jtt.optimize.Fold_Math01.test(12)) {
+            // (12) == 42.0
+                runString = "(12)";
+                if (42.0 != jtt.optimize.Fold_Math01.test(12)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Inline01() {
+            begin("jtt.optimize.Inline01");
+            String runString = null;
+            try {
+            // (0) == 2
+                runString = "(0)";
+                if (2 != jtt.optimize.Inline01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 3
+                runString = "(1)";
+                if (3 != jtt.optimize.Inline01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Inline02() {
+            begin("jtt.optimize.Inline02");
+            String runString = null;
+            try {
+            // (0) == 2
+                runString = "(0)";
+                if (2 != jtt.optimize.Inline02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 5
+                runString = "(1)";
+                if (5 != jtt.optimize.Inline02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 8
+                runString = "(2)";
+                if (8 != jtt.optimize.Inline02.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_LICM_01() {
+            begin("jtt.optimize.LICM_01");
+            String runString = null;
+            try {
+            // (0,0) == 45
+                runString = "(0,0)";
+                if (45 != jtt.optimize.LICM_01.test(0, 0)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,4) == 101
+                runString = "(3,4)";
+                if (101 != jtt.optimize.LICM_01.test(3, 4)) {
+                    fail(runString);
+                    return;
+                }
+            // (-7,5) == -383
+                runString = "(-7,5)";
+                if (-383 != jtt.optimize.LICM_01.test(-7, 5)) {
+                    fail(runString);
+                    return;
+                }
+            // (2147483647,2) == 1073741765
+                runString = "(2147483647,2)";
+                if (1073741765 != jtt.optimize.LICM_01.test(2147483647, 2)) {
                     fail(runString);
                     return;
                 }
@@ -20795,21 +21680,39 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Inline01() {
-            begin("jtt.optimize.Inline01");
+        static void jtt_optimize_LICM_02() {
+            begin("jtt.optimize.LICM_02");
             String runString = null;
             try {
-            // (0) == 2
+            // (0) == 0
                 runString = "(0)";
-                if (2 != jtt.optimize.Inline01.test(0)) {
+                if (0 != jtt.optimize.LICM_02.test(0)) {
                     fail(runString);
                     return;
                 }
             // (1) == 3
                 runString = "(1)";
-                if (3 != jtt.optimize.Inline01.test(1)) {
+                if (3 != jtt.optimize.LICM_02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 12
+                runString = "(4)";
+                if (12 != jtt.optimize.LICM_02.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            // (-1) == !java.lang.NullPointerException
+                try {
+                    runString = "(-1)";
+                    jtt.optimize.LICM_02.test(-1);
                     fail(runString);
                     return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.NullPointerException.class) {
+                        fail(runString, e);
+                        return;
+                    }
                 }
             } catch (Throwable t) {
                 fail(runString, t);
@@ -20817,27 +21720,33 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Inline02() {
-            begin("jtt.optimize.Inline02");
+        static void jtt_optimize_LICM_03() {
+            begin("jtt.optimize.LICM_03");
             String runString = null;
             try {
-            // (0) == 2
-                runString = "(0)";
-                if (2 != jtt.optimize.Inline02.test(0)) {
+            // (0,0) == 0
+                runString = "(0,0)";
+                if (0 != jtt.optimize.LICM_03.test(0, 0)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 5
-                runString = "(1)";
-                if (5 != jtt.optimize.Inline02.test(1)) {
+            // (3,2) == 15
+                runString = "(3,2)";
+                if (15 != jtt.optimize.LICM_03.test(3, 2)) {
                     fail(runString);
                     return;
                 }
-            // (2) == 8
-                runString = "(2)";
-                if (8 != jtt.optimize.Inline02.test(2)) {
+            // (3,0) == !java.lang.ArithmeticException
+                try {
+                    runString = "(3,0)";
+                    jtt.optimize.LICM_03.test(3, 0);
                     fail(runString);
                     return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArithmeticException.class) {
+                        fail(runString, e);
+                        return;
+                    }
                 }
             } catch (Throwable t) {
                 fail(runString, t);
@@ -20861,6 +21770,28 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_optimize_LinearScan_huge01() {
+            begin("jtt.optimize.LinearScan_huge01");
+            String runString = null;
+            try {
+            // (1) == -1057067146
+                runString = "(1)";
+                if (-1057067146 != jtt.optimize.LinearScan_huge01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (10000) == -1889199636
+                runString = "(10000)";
+                if (-1889199636 != jtt.optimize.LinearScan_huge01.test(10000)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_optimize_List_reorder_bug() {
             begin("jtt.optimize.List_reorder_bug");
             String runString = null;
@@ -21363,15 +22294,221 @@ public class JTRuns {
                     fail(runString);
                     return;
                 }
-            // (-1) == -1
-                runString = "(-1)";
-                if ((short) -1 != jtt.optimize.Narrow_short03.test((short) -1)) {
+            // (-1) == -1
+                runString = "(-1)";
+                if ((short) -1 != jtt.optimize.Narrow_short03.test((short) -1)) {
+                    fail(runString);
+                    return;
+                }
+            // (23110) == 23110
+                runString = "(23110)";
+                if ((short) 23110 != jtt.optimize.Narrow_short03.test((short) 23110)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Phi01() {
+            begin("jtt.optimize.Phi01");
+            String runString = null;
+            try {
+            // (0) == 8
+                runString = "(0)";
+                if (8 != jtt.optimize.Phi01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 10
+                runString = "(1)";
+                if (10 != jtt.optimize.Phi01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 12
+                runString = "(2)";
+                if (12 != jtt.optimize.Phi01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 8
+                runString = "(3)";
+                if (8 != jtt.optimize.Phi01.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 10
+                runString = "(4)";
+                if (10 != jtt.optimize.Phi01.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            // (6) == 14
+                runString = "(6)";
+                if (14 != jtt.optimize.Phi01.test(6)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Phi02() {
+            begin("jtt.optimize.Phi02");
+            String runString = null;
+            try {
+            // (0) == 8
+                runString = "(0)";
+                if (8 != jtt.optimize.Phi02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 10
+                runString = "(1)";
+                if (10 != jtt.optimize.Phi02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 12
+                runString = "(2)";
+                if (12 != jtt.optimize.Phi02.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 8
+                runString = "(3)";
+                if (8 != jtt.optimize.Phi02.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 10
+                runString = "(4)";
+                if (10 != jtt.optimize.Phi02.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            // (6) == 14
+                runString = "(6)";
+                if (14 != jtt.optimize.Phi02.test(6)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Phi03() {
+            begin("jtt.optimize.Phi03");
+            String runString = null;
+            try {
+            // (0) == 4
+                runString = "(0)";
+                if (4 != jtt.optimize.Phi03.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 5
+                runString = "(1)";
+                if (5 != jtt.optimize.Phi03.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 6
+                runString = "(2)";
+                if (6 != jtt.optimize.Phi03.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 4
+                runString = "(3)";
+                if (4 != jtt.optimize.Phi03.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 5
+                runString = "(4)";
+                if (5 != jtt.optimize.Phi03.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            // (6) == 7
+                runString = "(6)";
+                if (7 != jtt.optimize.Phi03.test(6)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_RCE_01() {
+            begin("jtt.optimize.RCE_01");
+            String runString = null;
+            try {
+            // (0) == 55
+                runString = "(0)";
+                if (55 != jtt.optimize.RCE_01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 0
+                runString = "(1)";
+                if (0 != jtt.optimize.RCE_01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 1
+                runString = "(2)";
+                if (1 != jtt.optimize.RCE_01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_RCE_02() {
+            begin("jtt.optimize.RCE_02");
+            String runString = null;
+            try {
+            // (0) == 0
+                runString = "(0)";
+                if (0 != jtt.optimize.RCE_02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (5) == 5
+                runString = "(5)";
+                if (5 != jtt.optimize.RCE_02.test(5)) {
+                    fail(runString);
+                    return;
+                }
+            // (10) == 10
+                runString = "(10)";
+                if (10 != jtt.optimize.RCE_02.test(10)) {
+                    fail(runString);
+                    return;
+                }
+            // (11) == -11
+                runString = "(11)";
+                if (-11 != jtt.optimize.RCE_02.test(11)) {
                     fail(runString);
                     return;
                 }
-            // (23110) == 23110
-                runString = "(23110)";
-                if ((short) 23110 != jtt.optimize.Narrow_short03.test((short) 23110)) {
+            // (100) == -11
+                runString = "(100)";
+                if (-11 != jtt.optimize.RCE_02.test(100)) {
                     fail(runString);
                     return;
                 }
@@ -21381,45 +22518,45 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Phi01() {
-            begin("jtt.optimize.Phi01");
+        static void jtt_optimize_RCE_03() {
+            begin("jtt.optimize.RCE_03");
             String runString = null;
             try {
-            // (0) == 8
+            // (0) == 45
                 runString = "(0)";
-                if (8 != jtt.optimize.Phi01.test(0)) {
-                    fail(runString);
-                    return;
-                }
-            // (1) == 10
-                runString = "(1)";
-                if (10 != jtt.optimize.Phi01.test(1)) {
+                if (45 != jtt.optimize.RCE_03.test(0)) {
                     fail(runString);
                     return;
                 }
-            // (2) == 12
-                runString = "(2)";
-                if (12 != jtt.optimize.Phi01.test(2)) {
+            // (5) == 35
+                runString = "(5)";
+                if (35 != jtt.optimize.RCE_03.test(5)) {
                     fail(runString);
                     return;
                 }
-            // (3) == 8
-                runString = "(3)";
-                if (8 != jtt.optimize.Phi01.test(3)) {
+            // (9) == 9
+                runString = "(9)";
+                if (9 != jtt.optimize.RCE_03.test(9)) {
                     fail(runString);
                     return;
                 }
-            // (4) == 10
-                runString = "(4)";
-                if (10 != jtt.optimize.Phi01.test(4)) {
+            // (10) == 0
+                runString = "(10)";
+                if (0 != jtt.optimize.RCE_03.test(10)) {
                     fail(runString);
                     return;
                 }
-            // (6) == 14
-                runString = "(6)";
-                if (14 != jtt.optimize.Phi01.test(6)) {
+            // (-1) == !java.lang.ArrayIndexOutOfBoundsException
+                try {
+                    runString = "(-1)";
+                    jtt.optimize.RCE_03.test(-1);
                     fail(runString);
                     return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayIndexOutOfBoundsException.class) {
+                        fail(runString, e);
+                        return;
+                    }
                 }
             } catch (Throwable t) {
                 fail(runString, t);
@@ -21427,43 +22564,31 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Phi02() {
-            begin("jtt.optimize.Phi02");
+        static void jtt_optimize_RCE_04() {
+            begin("jtt.optimize.RCE_04");
             String runString = null;
             try {
-            // (0) == 8
+            // (0) == 0
                 runString = "(0)";
-                if (8 != jtt.optimize.Phi02.test(0)) {
+                if (0 != jtt.optimize.RCE_04.test(0)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 10
+            // (1) == 1
                 runString = "(1)";
-                if (10 != jtt.optimize.Phi02.test(1)) {
-                    fail(runString);
-                    return;
-                }
-            // (2) == 12
-                runString = "(2)";
-                if (12 != jtt.optimize.Phi02.test(2)) {
+                if (1 != jtt.optimize.RCE_04.test(1)) {
                     fail(runString);
                     return;
                 }
-            // (3) == 8
+            // (3) == 27
                 runString = "(3)";
-                if (8 != jtt.optimize.Phi02.test(3)) {
+                if (27 != jtt.optimize.RCE_04.test(3)) {
                     fail(runString);
                     return;
                 }
-            // (4) == 10
+            // (4) == 64
                 runString = "(4)";
-                if (10 != jtt.optimize.Phi02.test(4)) {
-                    fail(runString);
-                    return;
-                }
-            // (6) == 14
-                runString = "(6)";
-                if (14 != jtt.optimize.Phi02.test(6)) {
+                if (64 != jtt.optimize.RCE_04.test(4)) {
                     fail(runString);
                     return;
                 }
@@ -21473,45 +22598,63 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Phi03() {
-            begin("jtt.optimize.Phi03");
+        static void jtt_optimize_RCE_05() {
+            begin("jtt.optimize.RCE_05");
             String runString = null;
             try {
-            // (0) == 4
-                runString = "(0)";
-                if (4 != jtt.optimize.Phi03.test(0)) {
+            // (20,15) == 0
+                runString = "(20,15)";
+                if (0 != jtt.optimize.RCE_05.test(20, 15)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 5
-                runString = "(1)";
-                if (5 != jtt.optimize.Phi03.test(1)) {
+            // (11,11) == 0
+                runString = "(11,11)";
+                if (0 != jtt.optimize.RCE_05.test(11, 11)) {
                     fail(runString);
                     return;
                 }
-            // (2) == 6
-                runString = "(2)";
-                if (6 != jtt.optimize.Phi03.test(2)) {
+            // (-5,-5) == 0
+                runString = "(-5,-5)";
+                if (0 != jtt.optimize.RCE_05.test(-5, -5)) {
                     fail(runString);
                     return;
                 }
-            // (3) == 4
-                runString = "(3)";
-                if (4 != jtt.optimize.Phi03.test(3)) {
+            // (-3,-7) == 0
+                runString = "(-3,-7)";
+                if (0 != jtt.optimize.RCE_05.test(-3, -7)) {
                     fail(runString);
                     return;
                 }
-            // (4) == 5
-                runString = "(4)";
-                if (5 != jtt.optimize.Phi03.test(4)) {
+            // (0,10) == 45
+                runString = "(0,10)";
+                if (45 != jtt.optimize.RCE_05.test(0, 10)) {
                     fail(runString);
                     return;
                 }
-            // (6) == 7
-                runString = "(6)";
-                if (7 != jtt.optimize.Phi03.test(6)) {
+            // (5,20) == !java.lang.ArrayIndexOutOfBoundsException
+                try {
+                    runString = "(5,20)";
+                    jtt.optimize.RCE_05.test(5, 20);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayIndexOutOfBoundsException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            // (-1,3) == !java.lang.ArrayIndexOutOfBoundsException
+                try {
+                    runString = "(-1,3)";
+                    jtt.optimize.RCE_05.test(-1, 3);
                     fail(runString);
                     return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.ArrayIndexOutOfBoundsException.class) {
+                        fail(runString, e);
+                        return;
+                    }
                 }
             } catch (Throwable t) {
                 fail(runString, t);
@@ -22087,9 +23230,173 @@ public class JTRuns {
                     fail(runString);
                     return;
                 }
-            // (1) == 85899345920
-                runString = "(1)";
-                if (85899345920L != jtt.optimize.Reduce_Long04.test(1)) {
+            // (1) == 85899345920
+                runString = "(1)";
+                if (85899345920L != jtt.optimize.Reduce_Long04.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Reduce_LongShift01() {
+            begin("jtt.optimize.Reduce_LongShift01");
+            String runString = null;
+            try {
+            // (0) == 10
+                runString = "(0)";
+                if (10L != jtt.optimize.Reduce_LongShift01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 11
+                runString = "(1)";
+                if (11L != jtt.optimize.Reduce_LongShift01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 12
+                runString = "(2)";
+                if (12L != jtt.optimize.Reduce_LongShift01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 13
+                runString = "(3)";
+                if (13L != jtt.optimize.Reduce_LongShift01.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 14
+                runString = "(4)";
+                if (14L != jtt.optimize.Reduce_LongShift01.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            // (5) == 15
+                runString = "(5)";
+                if (15L != jtt.optimize.Reduce_LongShift01.test(5)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Reduce_LongShift02() {
+            begin("jtt.optimize.Reduce_LongShift02");
+            String runString = null;
+            try {
+            // (0) == 80
+                runString = "(0)";
+                if (80L != jtt.optimize.Reduce_LongShift02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 11
+                runString = "(1)";
+                if (11L != jtt.optimize.Reduce_LongShift02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 12
+                runString = "(2)";
+                if (12L != jtt.optimize.Reduce_LongShift02.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == 13
+                runString = "(3)";
+                if (13L != jtt.optimize.Reduce_LongShift02.test(3)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == 64
+                runString = "(4)";
+                if (64L != jtt.optimize.Reduce_LongShift02.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Switch01() {
+            begin("jtt.optimize.Switch01");
+            String runString = null;
+            try {
+            // (0) == 1
+                runString = "(0)";
+                if (1 != jtt.optimize.Switch01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_Switch02() {
+            begin("jtt.optimize.Switch02");
+            String runString = null;
+            try {
+            // (0) == 1
+                runString = "(0)";
+                if (1 != jtt.optimize.Switch02.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 2
+                runString = "(1)";
+                if (2 != jtt.optimize.Switch02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_optimize_TOS_01() {
+            begin("jtt.optimize.TOS_01");
+            String runString = null;
+            try {
+            // (0) == 7
+                runString = "(0)";
+                if (7 != jtt.optimize.TOS_01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == -5
+                runString = "(1)";
+                if (-5 != jtt.optimize.TOS_01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 139
+                runString = "(2)";
+                if (139 != jtt.optimize.TOS_01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (10) == 4658
+                runString = "(10)";
+                if (4658 != jtt.optimize.TOS_01.test(10)) {
+                    fail(runString);
+                    return;
+                }
+            // (-5) == 21
+                runString = "(-5)";
+                if (21 != jtt.optimize.TOS_01.test(-5)) {
                     fail(runString);
                     return;
                 }
@@ -22099,43 +23406,31 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Reduce_LongShift01() {
-            begin("jtt.optimize.Reduce_LongShift01");
+        static void jtt_optimize_TOS_02() {
+            begin("jtt.optimize.TOS_02");
             String runString = null;
             try {
-            // (0) == 10
+            // (0) == 0.5
                 runString = "(0)";
-                if (10L != jtt.optimize.Reduce_LongShift01.test(0)) {
+                if (0.5 != jtt.optimize.TOS_02.test(0)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 11
+            // (1) == 78.75
                 runString = "(1)";
-                if (11L != jtt.optimize.Reduce_LongShift01.test(1)) {
-                    fail(runString);
-                    return;
-                }
-            // (2) == 12
-                runString = "(2)";
-                if (12L != jtt.optimize.Reduce_LongShift01.test(2)) {
+                if (78.75 != jtt.optimize.TOS_02.test(1)) {
                     fail(runString);
                     return;
                 }
-            // (3) == 13
+            // (3) == -58.375
                 runString = "(3)";
-                if (13L != jtt.optimize.Reduce_LongShift01.test(3)) {
-                    fail(runString);
-                    return;
-                }
-            // (4) == 14
-                runString = "(4)";
-                if (14L != jtt.optimize.Reduce_LongShift01.test(4)) {
+                if (-58.375 != jtt.optimize.TOS_02.test(3)) {
                     fail(runString);
                     return;
                 }
-            // (5) == 15
-                runString = "(5)";
-                if (15L != jtt.optimize.Reduce_LongShift01.test(5)) {
+            // (-2) == 97.0
+                runString = "(-2)";
+                if (97.0 != jtt.optimize.TOS_02.test(-2)) {
                     fail(runString);
                     return;
                 }
@@ -22145,37 +23440,31 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Reduce_LongShift02() {
-            begin("jtt.optimize.Reduce_LongShift02");
+        static void jtt_optimize_TOS_03() {
+            begin("jtt.optimize.TOS_03");
             String runString = null;
             try {
-            // (0) == 80
+            // (0) == -1
                 runString = "(0)";
-                if (80L != jtt.optimize.Reduce_LongShift02.test(0)) {
+                if (-1 != jtt.optimize.TOS_03.test(0)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 11
+            // (1) == -9
                 runString = "(1)";
-                if (11L != jtt.optimize.Reduce_LongShift02.test(1)) {
+                if (-9 != jtt.optimize.TOS_03.test(1)) {
                     fail(runString);
                     return;
                 }
-            // (2) == 12
+            // (2) == -2
                 runString = "(2)";
-                if (12L != jtt.optimize.Reduce_LongShift02.test(2)) {
+                if (-2 != jtt.optimize.TOS_03.test(2)) {
                     fail(runString);
                     return;
                 }
-            // (3) == 13
+            // (3) == 8
                 runString = "(3)";
-                if (13L != jtt.optimize.Reduce_LongShift02.test(3)) {
-                    fail(runString);
-                    return;
-                }
-            // (4) == 64
-                runString = "(4)";
-                if (64L != jtt.optimize.Reduce_LongShift02.test(4)) {
+                if (8 != jtt.optimize.TOS_03.test(3)) {
                     fail(runString);
                     return;
                 }
@@ -22185,13 +23474,13 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Switch01() {
-            begin("jtt.optimize.Switch01");
+        static void jtt_optimize_TypeCastElem() {
+            begin("jtt.optimize.TypeCastElem");
             String runString = null;
             try {
-            // (0) == 1
-                runString = "(0)";
-                if (1 != jtt.optimize.Switch01.test(0)) {
+            // (10,13,25) == 27183
+                runString = "(10,13,25)";
+                if (27183 != jtt.optimize.TypeCastElem.test(10, 13, 25)) {
                     fail(runString);
                     return;
                 }
@@ -22201,35 +23490,25 @@ public class JTRuns {
             }
             pass();
         }
-        static void jtt_optimize_Switch02() {
-            begin("jtt.optimize.Switch02");
+        static void jtt_optimize_TypeGuard_01() {
+            begin("jtt.optimize.TypeGuard_01");
             String runString = null;
             try {
-            // (0) == 1
+            // (0) == 0
                 runString = "(0)";
-                if (1 != jtt.optimize.Switch02.test(0)) {
+                if (0 != jtt.optimize.TypeGuard_01.test(0)) {
                     fail(runString);
                     return;
                 }
-            // (1) == 2
+            // (1) == 20002
                 runString = "(1)";
-                if (2 != jtt.optimize.Switch02.test(1)) {
+                if (20002 != jtt.optimize.TypeGuard_01.test(1)) {
                     fail(runString);
                     return;
                 }
-            } catch (Throwable t) {
-                fail(runString, t);
-                return;
-            }
-            pass();
-        }
-        static void jtt_optimize_TypeCastElem() {
-            begin("jtt.optimize.TypeCastElem");
-            String runString = null;
-            try {
-            // (10,13,25) == 27183
-                runString = "(10,13,25)";
-                if (27183 != jtt.optimize.TypeCastElem.test(10, 13, 25)) {
+            // (10) == 200020
+                runString = "(10)";
+                if (200020 != jtt.optimize.TypeGuard_01.test(10)) {
                     fail(runString);
                     return;
                 }
@@ -25221,6 +26500,92 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_reflect_Invoke_shared01() {
+            begin("jtt.reflect.Invoke_shared01");
+            String runString = null;
+            try {
+            // (1) == true
+                runString = "(1)";
+                if (true != jtt.reflect.Invoke_shared01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == true
+                runString = "(4)";
+                if (true != jtt.reflect.Invoke_shared01.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
+        static void jtt_reflect_Invoke_unbox01() {
+            begin("jtt.reflect.Invoke_unbox01");
+            String runString = null;
+            try {
+            // (0) == 1234567
+                runString = "(0)";
+                if (1234567L != jtt.reflect.Invoke_unbox01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == 1234567
+                runString = "(1)";
+                if (1234567L != jtt.reflect.Invoke_unbox01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == 1234567
+                runString = "(2)";
+                if (1234567L != jtt.reflect.Invoke_unbox01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (3) == !java.lang.IllegalArgumentException
+                try {
+                    runString = "(3)";
+                    jtt.reflect.Invoke_unbox01.test(3);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.IllegalArgumentException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            // (4) == !java.lang.IllegalArgumentException
+                try {
+                    runString = "(4)";
+                    jtt.reflect.Invoke_unbox01.test(4);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.IllegalArgumentException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            // (5) == !java.lang.IllegalArgumentException
+                try {
+                    runString = "(5)";
+                    jtt.reflect.Invoke_unbox01.test(5);
+                    fail(runString);
+                    return;
+                } catch (Throwable e) {
+                    if (e.getClass() != java.lang.IllegalArgumentException.class) {
+                        fail(runString, e);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_reflect_Invoke_virtual01() {
             begin("jtt.reflect.Invoke_virtual01");
             String runString = null;
@@ -25349,6 +26714,34 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_threads_Monitor_contended02() {
+            begin("jtt.threads.Monitor_contended02");
+            String runString = null;
+            try {
+            // (1) == true
+                runString = "(1)";
+                if (true != jtt.threads.Monitor_contended02.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            // (2) == true
+                runString = "(2)";
+                if (true != jtt.threads.Monitor_contended02.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == true
+                runString = "(4)";
+                if (true != jtt.threads.Monitor_contended02.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_threads_Monitor_notowner01() {
             begin("jtt.threads.Monitor_notowner01");
             String runString = null;
@@ -25639,6 +27032,28 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_threads_Thread_forName01() {
+            begin("jtt.threads.Thread_forName01");
+            String runString = null;
+            try {
+            // (2) == true
+                runString = "(2)";
+                if (true != jtt.threads.Thread_forName01.test(2)) {
+                    fail(runString);
+                    return;
+                }
+            // (4) == true
+                runString = "(4)";
+                if (true != jtt.threads.Thread_forName01.test(4)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_threads_Thread_getState01() {
             begin("jtt.threads.Thread_getState01");
             String runString = null;
@@ -26873,6 +28288,22 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_max_CodeRegion_sweep01() {
+            begin("jtt.max.CodeRegion_sweep01");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.max.CodeRegion_sweep01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_max_Fold01() {
             begin("jtt.max.Fold01");
             String runString = null;
@@ -26921,6 +28352,28 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_max_Heap_pin01() {
+            begin("jtt.max.Heap_pin01");
+            String runString = null;
+            try {
+            // (0) == true
+                runString = "(0)";
+                if (true != jtt.max.Heap_pin01.test(0)) {
+                    fail(runString);
+                    return;
+                }
+            // (1) == true
+                runString = "(1)";
+                if (true != jtt.max.Heap_pin01.test(1)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_max_Hub_Subtype01() {
             begin("jtt.max.Hub_Subtype01");
             String runString = null;
@@ -27223,6 +28676,64 @@ public class JTRuns {
             }
             pass();
         }
+        static void jtt_max_Memory_copyBytes01() {
+            begin("jtt.max.Memory_copyBytes01");
+            String runString = null;
+            try {
+            // (0,10,50,8) == true
+                runString = "(0,10,50,8)";
+                if (true != jtt.max.Memory_copyBytes01.test(0, 10, 50, 8)) {
+                    fail(runString);
+                    return;
+                }
+            // (10,0,50,8) == true
+                runString = "(10,0,50,8)";
+                if (true != jtt.max.Memory_copyBytes01.test(10, 0, 50, 8)) {
+                    fail(runString);
+                    return;
+                }
+            // (3,4,57,5) == true
+                runString = "(3,4,57,5)";
+                if (true != jtt.max.Memory_copyBytes01.test(3, 4, 57, 5)) {
+                    fail(runString);
+                    return;
+                }
+            // (4,3,57,5) == true
+                runString = "(4,3,57,5)";
+                if (true != jtt.max.Memory_copyBytes01.test(4, 3, 57, 5)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,1,60,1) == true
+                runString = "(0,1,60,1)";
+                if (true != jtt.max.Memory_copyBytes01.test(0, 1, 60, 1)) {
+                    fail(runString);
+                    return;
+                }
+            // (1,0,60,1) == true
+                runString = "(1,0,60,1)";
+                if (true != jtt.max.Memory_copyBytes01.test(1, 0, 60, 1)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,20,40,64) == true
+                runString = "(0,20,40,64)";
+                if (true != jtt.max.Memory_copyBytes01.test(0, 20, 40, 64)) {
+                    fail(runString);
+                    return;
+                }
+            // (0,32,32,7) == true
+                runString = "(0,32,32,7)";
+                if (true != jtt.max.Memory_copyBytes01.test(0, 32, 32, 7)) {
+                    fail(runString);
+                    return;
+                }
+            } catch (Throwable t) {
+                fail(runString, t);
+                return;
+            }
+            pass();
+        }
         static void jtt_max_MostSignificantBit() {
             begin("jtt.max.MostSignificantBit");
             String runString = null;
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.max.vm.log;
+
+import java.io.*;
+import java.util.*;
+
+import com.sun.max.ide.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.log.hosted.*;
+import com.sun.max.vm.log.hosted.VMLogHosted.HostedLogRecord;
+
+/**
+ * Tests that files written with {@link VMLogBinaryFlusher} are decoded by {@link VMLogBinaryDecoder},
+ * including files that end within a record.
+ */
+public class VMLogBinaryDecoderTest extends MaxTestCase {
+
+    public VMLogBinaryDecoderTest(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(VMLogBinaryDecoderTest.class);
+    }
+
+    private static final String[] OPERATIONS = {"Alpha", "Beta", "Gamma"};
+
+    private static final class TestLogger extends VMLogger {
+        TestLogger() {
+            super("Test", OPERATIONS.length, (int[]) null);
+        }
+
+        @Override
+        public String operationName(int op) {
+            return OPERATIONS[op];
+        }
+    }
+
+    private static final long[][] ARGS = {{}, {0x1234L}, {-1L, 0L, 0xcafebabeL}, {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L}};
+
+    private static Record record(VMLogger logger, int thread, int op, long[] args) {
+        final HostedLogRecord r = new HostedLogRecord();
+        r.setHeader((thread << Record.THREAD_SHIFT) | (op << Record.OPERATION_SHIFT) | (logger.loggerId << Record.LOGGER_ID_SHIFT) | args.length);
+        switch (args.length) {
+            case 0: break;
+            case 1: r.setArgs(Address.fromLong(args[0])); break;
+            case 3: r.setArgs(Address.fromLong(args[0]), Address.fromLong(args[1]), Address.fromLong(args[2])); break;
+            case 8: r.setArgs(Address.fromLong(args[0]), Address.fromLong(args[1]), Address.fromLong(args[2]), Address.fromLong(args[3]),
+                              Address.fromLong(args[4]), Address.fromLong(args[5]), Address.fromLong(args[6]), Address.fromLong(args[7])); break;
+            default: fail();
+        }
+        return r;
+    }
+
+    private static String line(int uuid, int thread, int op, long[] args) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(uuid).append(' ').append(thread).append(" Test.").append(OPERATIONS[op]);
+        for (long arg : args) {
+            sb.append(" 0x").append(Long.toHexString(arg));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes a file with one record per element of {@link #ARGS}, with decreasing uuids.
+     *
+     * @param ends receives the length of the file after the header and after each record
+     */
+    private static byte[] write(boolean trailer, int dropped, List<Integer> ends) throws IOException {
+        final VMLogger logger = new TestLogger();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        VMLogBinaryFlusher.writeHeader(out, new VMLogger[] {null, logger});
+        ends.add(out.size());
+        for (int i = 0; i < ARGS.length; i++) {
+            VMLogBinaryFlusher.writeRecord(out, record(logger, i + 1, i % OPERATIONS.length, ARGS[i]), ARGS.length - i);
+            ends.add(out.size());
+        }
+        if (trailer) {
+            out.writeInt(VMLogBinaryFlusher.END_MARKER);
+            out.writeInt(dropped);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static List<String> decode(byte[] file, int length, boolean sort) throws IOException {
+        final VMLogBinaryDecoder decoder = new VMLogBinaryDecoder(new DataInputStream(new ByteArrayInputStream(file, 0, length)));
+        if (sort) {
+            decoder.sort();
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final PrintStream out = new PrintStream(bytes);
+        decoder.print(out);
+        out.flush();
+        final BufferedReader reader = new BufferedReader(new StringReader(bytes.toString()));
+        final List<String> lines = new ArrayList<String>();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    public void test_roundTrip() throws IOException {
+        final byte[] file = write(true, 0, new ArrayList<Integer>());
+        final List<String> lines = decode(file, file.length, false);
+        assertEquals(ARGS.length, lines.size());
+        for (int i = 0; i < ARGS.length; i++) {
+            assertEquals(line(ARGS.length - i, i + 1, i % OPERATIONS.length, ARGS[i]), lines.get(i));
+        }
+    }
+
+    public void test_sortAndDropped() throws IOException {
+        final byte[] file = write(true, 7, new ArrayList<Integer>());
+        final List<String> lines = decode(file, file.length, true);
+        assertEquals(ARGS.length + 1, lines.size());
+        for (int i = 0; i < ARGS.length; i++) {
+            final int j = ARGS.length - 1 - i;
+            assertEquals(line(i + 1, j + 1, j % OPERATIONS.length, ARGS[j]), lines.get(i));
+        }
+        assertEquals("# 7 records dropped", lines.get(ARGS.length));
+    }
+
+    public void test_truncated() throws IOException {
+        final List<Integer> ends = new ArrayList<Integer>();
+        final byte[] file = write(false, 0, ends);
+        final int headerLength = ends.get(0);
+        for (int length = headerLength; length <= file.length; length++) {
+            int complete = 0;
+            while (complete < ARGS.length && ends.get(complete + 1) <= length) {
+                complete++;
+            }
+            final List<String> lines = decode(file, length, false);
+            assertEquals(complete + 1, lines.size());
+            for (int i = 0; i < complete; i++) {
+                assertEquals(line(ARGS.length - i, i + 1, i % OPERATIONS.length, ARGS[i]), lines.get(i));
+            }
+            assertTrue(lines.get(complete).startsWith("# log is truncated"));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.max.vm.profile;
+
+import com.sun.max.ide.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.profile.*;
+
+/**
+ * Tests that the receiver method profile of a call site tells apart entrypoints that differ only in
+ * their high 32 bits.
+ */
+public class MethodProfileTest extends MaxTestCase {
+
+    public MethodProfileTest(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(MethodProfileTest.class);
+    }
+
+    private static final int BCI = 7;
+    private static final int ENTRIES = MethodInstrumentation.DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES;
+
+    private static final long A = 0x0000000100001000L;
+    private static final long B = 0x0000000200001000L;
+    private static final long C = 0x0000000100002000L;
+    private static final long D = 0x0000000300003000L;
+
+    private MethodProfile mpo;
+    private int methodProfileIndex;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        MethodProfile.Builder builder = new MethodProfile.Builder();
+        builder.addBranchProfile(3);
+        int index = builder.addReceiverProfile(BCI, ENTRIES);
+        builder.addBranchProfile(11);
+        mpo = builder.finish(null);
+        methodProfileIndex = index + MethodInstrumentation.receiverMethodProfileOffset(ENTRIES);
+    }
+
+    private void record(long entryPoint) {
+        MethodInstrumentation.recordReceiver(mpo, Address.fromLong(entryPoint), methodProfileIndex, ENTRIES);
+    }
+
+    private void assertMethodProfile(long... expected) {
+        long[] actual = mpo.getMethodProfile(BCI);
+        assertNotNull(actual);
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("element " + i, expected[i], actual[i]);
+        }
+    }
+
+    public void test_empty() {
+        assertMethodProfile(-1, 0, -1, 0, -1, 0, -1, 0);
+        assertNull(mpo.getMethodProfile(BCI + 1));
+    }
+
+    public void test_fullAddress() {
+        record(A);
+        record(B);
+        record(A);
+        assertMethodProfile(A, 2, B, 1, -1, 0, -1, 0);
+    }
+
+    public void test_overflow() {
+        record(A);
+        record(B);
+        record(C);
+        record(D);
+        record(D);
+        record(C);
+        assertMethodProfile(A, 1, B, 1, C, 2, -1, 2);
+    }
+
+    public void test_typeProfileUnaffected() {
+        record(A);
+        Integer[] typeProfile = mpo.getTypeProfile(BCI);
+        assertNull(typeProfile);
+        assertEquals(0, mpo.getBranchCounts(3)[0].intValue());
+        assertEquals(0, mpo.getBranchCounts(11)[1].intValue());
+    }
+}
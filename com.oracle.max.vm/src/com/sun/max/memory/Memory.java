@@ -225,6 +225,38 @@ public final class Memory {
         assert i.equals(numberOfBytes);
     }
 
+    /**
+     * Copies bytes between two possibly overlapping ranges with the {@linkplain Intrinsics#copyArray array copy intrinsic}.
+     * A copy of more than {@code chunkSize} bytes is split into chunks, which are copied starting from the end if the
+     * destination starts within the source range.
+     *
+     * @param fromBase the source object, or null if {@code fromOffset} is an absolute address
+     * @param fromOffset the offset of the source range from the origin of {@code fromBase}
+     * @param toBase the destination object, or null if {@code toOffset} is an absolute address
+     * @param toOffset the offset of the destination range from the origin of {@code toBase}
+     * @param numberOfBytes the number of bytes to copy
+     * @param chunkSize the maximum number of bytes copied by one use of the intrinsic
+     */
+    public static void copyBytes(Object fromBase, long fromOffset, Object toBase, long toOffset, long numberOfBytes, int chunkSize) {
+        if (numberOfBytes <= chunkSize) {
+            Intrinsics.copyArray(fromBase, fromOffset, toBase, toOffset, (int) numberOfBytes, 0, false);
+        } else if (fromBase == toBase && toOffset > fromOffset) {
+            long remaining = numberOfBytes;
+            while (remaining > 0) {
+                final int chunk = (int) Math.min(remaining, chunkSize);
+                remaining -= chunk;
+                Intrinsics.copyArray(fromBase, fromOffset + remaining, toBase, toOffset + remaining, chunk, 0, false);
+            }
+        } else {
+            long done = 0;
+            while (done < numberOfBytes) {
+                final int chunk = (int) Math.min(numberOfBytes - done, chunkSize);
+                Intrinsics.copyArray(fromBase, fromOffset + done, toBase, toOffset + done, chunk, 0, false);
+                done += chunk;
+            }
+        }
+    }
+
     @NO_SAFEPOINT_POLLS("speed")
     public static void readBytes(Pointer fromPointer, int numberOfBytes, byte[] toArray, int startIndex) {
         for (int i = 0; i < numberOfBytes; i++) {
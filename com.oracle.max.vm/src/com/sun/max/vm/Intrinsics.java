@@ -27,6 +27,7 @@ import static com.sun.max.vm.intrinsics.MaxineIntrinsicIDs.*;
 import com.sun.max.annotate.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.intrinsics.*;
+import com.sun.max.vm.reference.*;
 
 /**
  * A set of methods {@linkplain INTRINSIC intrinsified} via extended bytecodes.
@@ -85,4 +86,91 @@ public class Intrinsics {
     @INTRINSIC(IFLATCHBITREAD)
     public static native boolean readLatchBit(@INTRINSIC.Constant int offset, @INTRINSIC.Constant int bit);
 
+    /**
+     * @see MaxineIntrinsicIDs#ARRAY_FILL
+     */
+    @INTRINSIC(ARRAY_FILL)
+    public static void fillArray(Object array, int offset, int count, @INTRINSIC.Constant int log2ElementSize, long pattern) {
+        final Reference ref = Reference.fromJava(array);
+        final long end = offset + ((long) count << log2ElementSize);
+        long i = offset;
+        while (i + 8 <= end) {
+            ref.writeLong(Offset.fromLong(i), pattern);
+            i += 8;
+        }
+        while (i < end) {
+            ref.writeByte(Offset.fromLong(i), (byte) (pattern >>> ((i - offset) << 3)));
+            i++;
+        }
+    }
+
+    /**
+     * @see MaxineIntrinsicIDs#ARRAY_MISMATCH
+     */
+    @INTRINSIC(ARRAY_MISMATCH)
+    public static int mismatchArrays(Object a, Object b, int offset, int count, @INTRINSIC.Constant int log2ElementSize) {
+        final Reference refA = Reference.fromJava(a);
+        final Reference refB = Reference.fromJava(b);
+        final long end = offset + ((long) count << log2ElementSize);
+        long i = offset;
+        while (i + 8 <= end && refA.readLong(Offset.fromLong(i)) == refB.readLong(Offset.fromLong(i))) {
+            i += 8;
+        }
+        while (i < end) {
+            if (refA.readByte(Offset.fromLong(i)) != refB.readByte(Offset.fromLong(i))) {
+                return (int) ((i - offset) >> log2ElementSize);
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @see MaxineIntrinsicIDs#ARRAY_INDEX_OF_CHAR
+     */
+    @INTRINSIC(ARRAY_INDEX_OF_CHAR)
+    public static int indexOfChar(Object array, int offset, int count, int value) {
+        final Reference ref = Reference.fromJava(array);
+        final char c = (char) value;
+        for (int i = 0; i < count; i++) {
+            if (ref.readChar(Offset.fromLong(offset + ((long) i << 1))) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @see MaxineIntrinsicIDs#ARRAY_COPY
+     */
+    @INTRINSIC(ARRAY_COPY)
+    @NO_SAFEPOINT_POLLS("a copy of references must be followed by its write barriers before the next safepoint")
+    public static void copyArray(Object from, long fromOffset, Object to, long toOffset, int count, @INTRINSIC.Constant int log2ElementSize, boolean disjoint) {
+        final Reference fromRef = Reference.fromJava(from);
+        final Reference toRef = Reference.fromJava(to);
+        final long length = (long) count << log2ElementSize;
+        final long distance = toRef.toOrigin().plus(toOffset).minus(fromRef.toOrigin().plus(fromOffset)).toLong();
+        if (!disjoint && distance > 0 && distance < length) {
+            // the destination starts within the source range
+            long i = length;
+            while (i >= 8) {
+                i -= 8;
+                toRef.writeLong(Offset.fromLong(toOffset + i), fromRef.readLong(Offset.fromLong(fromOffset + i)));
+            }
+            while (i > 0) {
+                i--;
+                toRef.writeByte(Offset.fromLong(toOffset + i), fromRef.readByte(Offset.fromLong(fromOffset + i)));
+            }
+        } else {
+            long i = 0;
+            while (i + 8 <= length) {
+                toRef.writeLong(Offset.fromLong(toOffset + i), fromRef.readLong(Offset.fromLong(fromOffset + i)));
+                i += 8;
+            }
+            while (i < length) {
+                toRef.writeByte(Offset.fromLong(toOffset + i), fromRef.readByte(Offset.fromLong(fromOffset + i)));
+                i++;
+            }
+        }
+    }
 }
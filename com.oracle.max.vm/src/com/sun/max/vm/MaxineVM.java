@@ -48,6 +48,7 @@ import com.sun.max.vm.jdk.*;
 import com.sun.max.vm.jni.*;
 import com.sun.max.vm.log.*;
 import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.runtime.amd64.*;
 import com.sun.max.vm.thread.*;
 import com.sun.max.vm.ti.*;
 import com.sun.max.vm.type.*;
@@ -495,6 +496,10 @@ public final class MaxineVM {
 
         VMOptions.parsePristine(argc, argv);
 
+        if (platform().isa == ISA.AMD64) {
+            AMD64CPUFeatures.initialize();
+        }
+
         return exitCode;
     }
 
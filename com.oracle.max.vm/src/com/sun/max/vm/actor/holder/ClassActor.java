@@ -1525,6 +1525,35 @@ public abstract class ClassActor extends Actor implements RiResolvedType {
         }
     }
 
+    /**
+     * Verifies this class ahead of its initialization, typically on a thread other than the one that initializes it.
+     * Unlike the verification performed as part of initialization, no lock on this class actor is held while verifying.
+     * If verification fails, this class is left unverified so that the error is raised by the initializing thread.
+     * <p>
+     * Only classes defined by the {@linkplain BootClassLoader boot} or {@linkplain VMClassLoader VM} class loader
+     * can be verified ahead. Verifying a class may load the classes it refers to, and for any other class loader
+     * this would run application code on the verifying thread.
+     *
+     * @return {@code true} if this call verified this class
+     */
+    public boolean verifyAhead() {
+        if (!isPrepared(initializationState) || !(classLoader == BootClassLoader.BOOT_CLASS_LOADER || isVM())) {
+            return false;
+        }
+        try {
+            verify();
+        } catch (LinkageError e) {
+            return false;
+        }
+        synchronized (this) {
+            if (isPrepared(initializationState)) {
+                initializationState = VERIFIED_;
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Constant denoting that a class is initialized. This value is {@code null} so that
      * the {@linkplain ClassActor#isInitialized() initialization test} for a class
@@ -42,6 +42,7 @@ import com.sun.max.vm.compiler.target.*;
 import com.sun.max.vm.compiler.RuntimeCompiler.Nature;
 import com.sun.max.vm.jni.*;
 import com.sun.max.vm.object.ObjectAccess;
+import com.sun.max.vm.profile.*;
 import com.sun.max.vm.runtime.FatalError;
 import com.sun.max.vm.type.*;
 import com.sun.max.vm.verifier.*;
@@ -80,6 +81,13 @@ public abstract class ClassMethodActor extends MethodActor {
 
     private CiExceptionHandler[] exceptionHandlers;
 
+    /**
+     * The bytecode indexes of this method at which optimized code has trapped, each followed by the number of traps.
+     *
+     * @see #recordTrap(int)
+     */
+    private volatile int[] traps;
+
     public ClassMethodActor(Utf8Constant name, SignatureDescriptor descriptor, int flags, CodeAttribute codeAttribute, String intrinsic) {
         super(name, descriptor, flags, intrinsic);
         this.codeAttribute = codeAttribute;
@@ -405,6 +413,63 @@ public abstract class ClassMethodActor extends MethodActor {
         return Compilations.currentTargetMethod(compiledState, null);
     }
 
+    /**
+     * Gets the profile gathered by the current baseline code of this method.
+     *
+     * @return {@code null} if there is no baseline code for this method or it is not instrumented
+     */
+    public final MethodProfile baselineProfile() {
+        TargetMethod tm = Compilations.currentTargetMethod(compiledState, Nature.BASELINE);
+        if (tm == null || tm.profile() == null || tm.profile().rawData() == null) {
+            return null;
+        }
+        return tm.profile();
+    }
+
+    @Override
+    public RiTypeProfile typeProfile(int bci) {
+        MethodProfile mpo = baselineProfile();
+        return mpo == null ? null : MethodInstrumentation.computeTypeProfile(mpo, bci);
+    }
+
+    /**
+     * Records that optimized code deoptimized at a given bytecode index of this method because a speculation it made
+     * there failed. The record survives the code and profile of this method. Traps recorded concurrently may be lost,
+     * which only delays the point at which the compiler stops speculating at {@code bci}.
+     */
+    public final void recordTrap(int bci) {
+        int[] traps = this.traps;
+        int length = traps == null ? 0 : traps.length;
+        for (int i = 0; i < length; i += 2) {
+            if (traps[i] == bci) {
+                if (traps[i + 1] != Integer.MAX_VALUE) {
+                    traps[i + 1]++;
+                }
+                return;
+            }
+        }
+        int[] newTraps = new int[length + 2];
+        for (int i = 0; i < length; i++) {
+            newTraps[i] = traps[i];
+        }
+        newTraps[length] = bci;
+        newTraps[length + 1] = 1;
+        this.traps = newTraps;
+    }
+
+    @Override
+    public int trapCount(int bci) {
+        int[] traps = this.traps;
+        if (traps != null) {
+            for (int i = 0; i < traps.length; i += 2) {
+                if (traps[i] == bci) {
+                    return traps[i + 1];
+                }
+            }
+        }
+        return 0;
+    }
+
     /**
      * Records if this object returned {@code true} for a call to {@link #canBePermanentlyLinked()} during
      * boot image building.
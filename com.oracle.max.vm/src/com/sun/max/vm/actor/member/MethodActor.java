@@ -589,6 +589,10 @@ public abstract class MethodActor extends MemberActor implements RiResolvedMetho
         return null;
     }
 
+    public int trapCount(int bci) {
+        return -1;
+    }
+
     public double branchProbability(int bci) {
         return -1;
     }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.classfile;
+
+import static com.sun.max.vm.MaxineVM.*;
+
+import java.io.*;
+import java.util.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.program.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.type.*;
+
+/**
+ * A snapshot of the application classes loaded by a training run of the VM, built into the boot image.
+ * <p>
+ * When {@code -XX:DumpClassDataSnapshot=<file>} is specified, every class defined at runtime by a class loader other
+ * than the {@linkplain BootClassLoader boot} or {@linkplain VMClassLoader VM} class loader is recorded by name
+ * together with the symbols in its constant pool. The records are written to the file at VM exit. Symbols too long to
+ * be written in modified UTF-8 are left out.
+ * <p>
+ * The boot image generator {@linkplain #load(File) reads} such a file when given the {@code -class-data-snapshot}
+ * option. The symbols are entered into the {@linkplain SymbolTable symbol table} of the boot image so that parsing the
+ * constant pools of the recorded classes only looks them up. Nothing else from the snapshot is kept in the boot image.
+ * <p>
+ * The recorded classes are verified as usual: whether a class passes verification also depends on the classes it
+ * refers to, which the defining class loader may resolve differently than in the training run.
+ * <p>
+ * The snapshot does not contain pre-parsed {@link ClassActor}s: these are bound to the defining class loader
+ * instance, which does not exist until the application creates it.
+ */
+public final class ClassDataSnapshot {
+
+    @RESET
+    static String DumpClassDataSnapshot;
+    static boolean TraceClassDataSnapshot;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "DumpClassDataSnapshot", ClassDataSnapshot.class,
+            "Record the application classes loaded by this run in the given file at VM exit, for use by the boot image generator.");
+        VMOptions.addFieldOption("-XX:", "TraceClassDataSnapshot", ClassDataSnapshot.class,
+            "Trace the use and recording of the class data snapshot.");
+    }
+
+    /**
+     * Identifies a class data snapshot file.
+     */
+    private static final int MAGIC = 0x4d584344;
+
+    /**
+     * The version of the file format. Increment this whenever the format changes.
+     */
+    private static final int FORMAT_VERSION = 3;
+
+    private ClassDataSnapshot() {
+    }
+
+    /**
+     * The number of classes in the snapshot built into the boot image.
+     */
+    private static int snapshotClasses;
+
+    /**
+     * The constant pool symbols of the application classes defined in this run, keyed by type descriptor, if recording.
+     * The classes are recorded by name so that recording does not keep them or their class loaders alive.
+     */
+    private static LinkedHashMap<String, String[]> recorded;
+
+    /**
+     * Reads a class data snapshot written by a training run into the boot image being built.
+     *
+     * @return the number of classes in the snapshot
+     */
+    @HOSTED_ONLY
+    public static int load(File file) {
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw ProgramError.unexpected("not a class data snapshot: " + file);
+            }
+            final String version = in.readUTF();
+            if (!version.equals(MaxineVM.VERSION_STRING)) {
+                ProgramWarning.message("class data snapshot " + file + " was recorded by VM version " + version);
+            }
+            final int count = in.readInt();
+            int symbols = 0;
+            for (int i = 0; i < count; i++) {
+                in.readUTF();
+                final int symbolCount = in.readInt();
+                for (int j = 0; j < symbolCount; j++) {
+                    SymbolTable.makeSymbol(in.readUTF());
+                }
+                symbols += symbolCount;
+            }
+            snapshotClasses = count;
+            Trace.line(1, "class data snapshot: loaded " + count + " classes and " + symbols + " symbols from " + file);
+            return count;
+        } catch (IOException e) {
+            throw ProgramError.unexpected("could not read class data snapshot " + file, e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    private static boolean isApplicationClassLoader(ClassLoader classLoader) {
+        return classLoader != null && classLoader != BootClassLoader.BOOT_CLASS_LOADER && classLoader != VMClassLoader.VM_CLASS_LOADER;
+    }
+
+    /**
+     * Gets the number of bytes needed to encode a string in the modified UTF-8 format of {@link DataOutput#writeUTF}.
+     */
+    private static int utfLength(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                length++;
+            } else if (c <= 0x07FF) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Notifies the snapshot that a class has been defined from some class file bytes, so that it can be recorded.
+     */
+    public static void classDefined(ClassActor classActor, byte[] bytes, int offset, int length) {
+        if (DumpClassDataSnapshot == null || isHosted() || !isApplicationClassLoader(classActor.classLoader)) {
+            return;
+        }
+        final String typeDescriptor = classActor.typeDescriptor.string;
+        if (utfLength(typeDescriptor) > 0xFFFF) {
+            return;
+        }
+        final ConstantPool constantPool = classActor.constantPool();
+        final ArrayList<String> symbols = new ArrayList<String>();
+        for (int i = 1; i < constantPool.numberOfConstants(); i++) {
+            if (constantPool.tagAt(i) == ConstantPool.Tag.UTF8) {
+                final String symbol = constantPool.utf8At(i).string;
+                if (utfLength(symbol) <= 0xFFFF) {
+                    symbols.add(symbol);
+                }
+            }
+        }
+        synchronized (ClassDataSnapshot.class) {
+            if (recorded == null) {
+                recorded = new LinkedHashMap<String, String[]>();
+            }
+            recorded.put(typeDescriptor, symbols.toArray(new String[symbols.size()]));
+        }
+    }
+
+    /**
+     * Writes the classes recorded in this run to the file given by {@code -XX:DumpClassDataSnapshot} and reports
+     * on the use of the snapshot built into the boot image. Called when the VM terminates.
+     */
+    public static synchronized void dump() {
+        if (TraceClassDataSnapshot && snapshotClasses != 0) {
+            Log.println("ClassDataSnapshot: the boot image contains the symbols of " + snapshotClasses + " recorded classes");
+        }
+        if (DumpClassDataSnapshot == null || recorded == null) {
+            return;
+        }
+        final File file = new File(DumpClassDataSnapshot);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(MaxineVM.VERSION_STRING);
+            out.writeInt(recorded.size());
+            for (Map.Entry<String, String[]> e : recorded.entrySet()) {
+                out.writeUTF(e.getKey());
+                final String[] symbols = e.getValue();
+                out.writeInt(symbols.length);
+                for (String symbol : symbols) {
+                    out.writeUTF(symbol);
+                }
+            }
+            if (TraceClassDataSnapshot) {
+                Log.println("ClassDataSnapshot: recorded " + recorded.size() + " classes in " + file);
+            }
+        } catch (IOException e) {
+            Log.println("ClassDataSnapshot: error writing " + file + ": " + e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+}
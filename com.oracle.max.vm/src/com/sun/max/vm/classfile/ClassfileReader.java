@@ -51,6 +51,7 @@ import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
 import com.sun.max.vm.classfile.ClassfileWriter.MaxineFlags;
 import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.compiler.*;
 import com.sun.max.vm.hosted.*;
 import com.sun.max.vm.instrument.*;
 import com.sun.max.vm.intrinsics.*;
@@ -1628,6 +1629,12 @@ public final class ClassfileReader {
         final ClassActor definedClassActor = ClassRegistry.define(classActor);
 
         if (!MaxineVM.isHosted()) {
+            WarmStartCache.classDefined(definedClassActor, bytes, offset, length);
+            ClassDataSnapshot.classDefined(definedClassActor, bytes, offset, length);
+            if (definedClassActor == classActor) {
+                ParallelClassLoading.classDefined(definedClassActor, isRemote);
+            }
+
             // Maxine is unable to usefully distinguish CLASS_LOAD and CLASS_PREPARE events which, for example, JVMTI distinguishes,
             // as we need a ClassActor in order to create a Class object, so we just have the one event.
             VMTI.handler().classLoad(definedClassActor);
@@ -23,6 +23,8 @@
 package com.sun.max.vm.classfile.constant;
 
 import java.io.*;
+import java.lang.ref.*;
+import java.util.*;
 
 import com.sun.max.collect.*;
 import com.sun.max.collect.ChainedHashMapping.Entry;
@@ -30,7 +32,9 @@ import com.sun.max.vm.*;
 
 /**
  * Implementation of symbol and String interning, the latter of which is a Java language requirement.
- *
+ * <p>
+ * The table is split into lock-striped {@linkplain Stripe stripes}. Symbols are never removed. Strings that are
+ * interned at runtime without being symbols are held weakly, so they can be reclaimed by the GC.
  */
 public final class SymbolTable {
 
@@ -77,38 +81,166 @@ public final class SymbolTable {
     }
 
     /**
-     * Searching and adding entries to this map is only performed by {@linkplain #makeSymbol(String) one method} which
-     * is synchronized.
+     * The number of stripes of the table. Must be a power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * A stripe of the table. All accesses to a stripe are synchronized on the stripe.
      */
-    private static final ChainingValueChainedHashMapping<String, Utf8ConstantEntry> symbolTable = new ChainingValueChainedHashMapping<String, Utf8ConstantEntry>(40000);
+    static final class Stripe {
+
+        /**
+         * The symbols whose value hashes to this stripe.
+         */
+        final ChainingValueChainedHashMapping<String, Utf8ConstantEntry> symbols;
+
+        /**
+         * The strings whose value hashes to this stripe that were {@linkplain SymbolTable#intern(String) interned} at
+         * runtime and are not symbols. The table only holds weak references to them so that they can be reclaimed
+         * once they are no longer referenced elsewhere. It is created on demand at runtime.
+         */
+        WeakHashMap<String, WeakReference<String>> strings;
+
+        /**
+         * Number of calls to {@link SymbolTable#intern(String)} that hit this stripe.
+         */
+        long internRequests;
+
+        Stripe(int initialCapacity) {
+            symbols = new ChainingValueChainedHashMapping<String, Utf8ConstantEntry>(initialCapacity);
+        }
+
+        /**
+         * Removes and returns the interned (non-symbol) string equal to {@code value}, if any.
+         */
+        String removeString(String value) {
+            if (strings != null) {
+                final WeakReference<String> ref = strings.remove(value);
+                if (ref != null) {
+                    return ref.get();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The symbol and intern table, striped by the hash of the value so that lookups and insertions of different
+     * values mostly do not contend. Each stripe grows independently.
+     */
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(40000 / STRIPES);
+        }
+    }
+
+    private static Stripe stripeFor(String value) {
+        final int h = value.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
 
     public static final Utf8Constant INIT = makeSymbol("<init>");
     public static final Utf8Constant CLINIT = makeSymbol("<clinit>");
     public static final Utf8Constant FINALIZE = makeSymbol("finalize");
 
+    /**
+     * Gets the number of symbols in the table.
+     */
     public static int length() {
-        return symbolTable.length();
+        int length = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                length += stripe.symbols.length();
+            }
+        }
+        return length;
     }
 
-    public static synchronized Utf8Constant lookupSymbol(String value) {
-        return symbolTable.get(value);
+    /**
+     * Gets the number of strings interned at runtime that are not symbols and have not been reclaimed yet.
+     */
+    public static int internedStrings() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.strings != null) {
+                    count += stripe.strings.size();
+                }
+            }
+        }
+        return count;
     }
 
-    public static synchronized Utf8Constant makeSymbol(String value) {
-        Utf8ConstantEntry utf8 = symbolTable.get(value);
-        if (utf8 == null) {
-            if (MaxineVM.isHosted()) {
-                // String interning is implemented with another data structure when running hosted
-                utf8 = new Utf8ConstantEntry(value.intern());
-            } else {
-                utf8 = new Utf8ConstantEntry(value);
+    /**
+     * Gets the number of times a string has been {@linkplain #intern(String) interned}.
+     */
+    public static long internRequests() {
+        long count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.internRequests;
+            }
+        }
+        return count;
+    }
+
+    public static Utf8Constant lookupSymbol(String value) {
+        final Stripe stripe = stripeFor(value);
+        synchronized (stripe) {
+            return stripe.symbols.get(value);
+        }
+    }
+
+    public static Utf8Constant makeSymbol(String value) {
+        final Stripe stripe = stripeFor(value);
+        synchronized (stripe) {
+            Utf8ConstantEntry utf8 = stripe.symbols.get(value);
+            if (utf8 == null) {
+                if (MaxineVM.isHosted()) {
+                    // String interning is implemented with another data structure when running hosted
+                    utf8 = new Utf8ConstantEntry(value.intern());
+                } else {
+                    // If the value was interned before, the symbol must adopt the interned string so that
+                    // string literals with this value are identical to it.
+                    final String interned = stripe.removeString(value);
+                    utf8 = new Utf8ConstantEntry(interned != null ? interned : value);
+                }
+                stripe.symbols.put(value, utf8);
             }
-            symbolTable.put(value, utf8);
+            return utf8;
         }
-        return utf8;
     }
 
+    /**
+     * Gets the canonical representation of a string. This is the value of the symbol for the string if it exists.
+     * Otherwise, it is the string from the table of interned strings, which is only weakly referenced by the table.
+     */
     public static String intern(String value) {
-        return makeSymbol(value).toString();
+        if (MaxineVM.isHosted()) {
+            return makeSymbol(value).toString();
+        }
+        final Stripe stripe = stripeFor(value);
+        synchronized (stripe) {
+            stripe.internRequests++;
+            final Utf8ConstantEntry utf8 = stripe.symbols.get(value);
+            if (utf8 != null) {
+                return utf8.toString();
+            }
+            if (stripe.strings == null) {
+                stripe.strings = new WeakHashMap<String, WeakReference<String>>();
+            } else {
+                final WeakReference<String> ref = stripe.strings.get(value);
+                if (ref != null) {
+                    final String interned = ref.get();
+                    if (interned != null) {
+                        return interned;
+                    }
+                }
+            }
+            stripe.strings.put(value, new WeakReference<String>(value));
+            return value;
+        }
     }
 }
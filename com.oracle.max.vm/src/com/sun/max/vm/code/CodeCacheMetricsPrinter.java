@@ -155,6 +155,32 @@ public final class CodeCacheMetricsPrinter {
             table.addRow(e.getKey(), pct(m.n, t.n), pct(m.bc, t.bc), pct(m.mc, t.mc));
         }
         out.println(CiUtil.tabulate(table.cells.toArray(), table.cols, 1, 1));
+
+        printOccupancyTo(cr, out);
+    }
+
+    void printOccupancyTo(CodeRegion cr, PrintStream out) {
+        out.println();
+        out.println("========== Occupancy ==========");
+        final long size = cr.size().toLong();
+        final long allocated = cr.getAllocationMark().minus(cr.start()).toLong();
+        Table table = new Table("Metric", "Value");
+        table.addRow("------");
+        table.addRow("Reserved", size);
+        table.addRow("Allocated", allocated + "(" + (size == 0 ? 0 : (allocated * 100) / size) + "%)");
+        table.addRow("Methods", cr.numTargetMethods());
+        if (cr instanceof FreeListCodeRegion) {
+            final FreeListCodeRegion fcr = (FreeListCodeRegion) cr;
+            final long used = fcr.used().toLong();
+            table.addRow("Occupied", used + "(" + (size == 0 ? 0 : (used * 100) / size) + "%)");
+            table.addRow("FreeList", fcr.freeListBytes().toLong() + " in " + fcr.freeListChunks() + " chunks");
+            table.addRow("Sweeps", OptCodeEviction.evictionCount());
+            table.addRow("FreedMethods", fcr.freedTargetMethods());
+            table.addRow("FreedBytes", fcr.freedBytes());
+        } else if (cr instanceof SemiSpaceCodeRegion) {
+            table.addRow("Evictions", CodeEviction.evictionCount());
+        }
+        out.println(CiUtil.tabulate(table.cells.toArray(), table.cols, 1, 1));
     }
 
     private static String pct(int a, int b) {
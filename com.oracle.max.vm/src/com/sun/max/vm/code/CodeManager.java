@@ -63,6 +63,7 @@ public abstract class CodeManager {
     /**
      * VM option for specifying the amount of memory to be reserved for the runtime opt code region cache.
      * Experiments have shown that very little such code is generated, so this region is rather small.
+     * Space occupied by invalidated methods is reclaimed by {@link OptCodeEviction}.
      */
     public static final VMSizeOption runtimeOptCodeRegionSize =
         register(new VMSizeOption("-XX:ReservedOptCodeCacheSize=", Size.M.times(16),
@@ -129,7 +130,7 @@ public abstract class CodeManager {
      * The opt code region contains machine code generated by the optimising compiler as well as adapters and trampolines.
      */
     @INSPECTED
-    protected static final CodeRegion runtimeOptCodeRegion = new CodeRegion("Code-Runtime-Opt");
+    protected static final FreeListCodeRegion runtimeOptCodeRegion = new FreeListCodeRegion("Code-Runtime-Opt");
 
     /**
      * Get the runtime baseline code region.
@@ -141,9 +142,9 @@ public abstract class CodeManager {
 
     /**
      * Get the runtime opt code region.
-     * @return the runtime baseline code region
+     * @return the runtime opt code region
      */
-    public CodeRegion getRuntimeOptCodeRegion() {
+    public FreeListCodeRegion getRuntimeOptCodeRegion() {
         return runtimeOptCodeRegion;
     }
 
@@ -248,6 +249,13 @@ public abstract class CodeManager {
                     CodeEviction.codeEvictionLogger.logStats_Surviving(lastSurvivorSize, largestSurvivorSize);
                 }
             }
+
+            // Allocation in the opt code region may take another attempt after invalidated methods have been swept.
+            if (start.isZero() && currentCodeRegion == runtimeOptCodeRegion) {
+                OptCodeEviction.run();
+                assert validateCodeCache();
+                start = currentCodeRegion.allocate(allocationSize, false);
+            }
         }
 
         traceChunkAllocation(allocationTraceDescription, allocationSize, start, inHeap);
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.code;
+
+import java.lang.management.*;
+import java.util.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.compiler.target.*;
+import com.sun.max.vm.heap.*;
+import com.sun.max.vm.layout.*;
+import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.type.*;
+
+/**
+ * A code region whose space can be reclaimed in place by {@linkplain OptCodeEviction sweeping}.
+ * <p>
+ * Allocation is linear until the end of the region is reached. After that, space is taken from a first-fit
+ * list of free chunks that is rebuilt by {@link #sweep()} from the gaps between the remaining target methods.
+ * Each free chunk is formatted as a {@code byte[]} so that the region can still be traversed as a sequence
+ * of contiguous, well-formed cells. The first two payload words of a free chunk hold the address of the next
+ * chunk in the list and the size of the chunk.
+ */
+public final class FreeListCodeRegion extends CodeRegion {
+
+    public FreeListCodeRegion(String description) {
+        super(description);
+    }
+
+    /**
+     * Head of the address-ordered list of free chunks.
+     */
+    @INSPECTED
+    private Address freeListHead = Address.zero();
+
+    /**
+     * Total number of bytes in the free list.
+     */
+    @INSPECTED
+    private Size freeBytes = Size.zero();
+
+    /**
+     * Number of chunks in the free list.
+     */
+    private int freeChunks;
+
+    /**
+     * Number of target methods that have been freed by sweeping this region.
+     */
+    private int freedTargetMethods;
+
+    /**
+     * Number of bytes that have been freed by sweeping this region.
+     */
+    private long freedBytes;
+
+    /**
+     * The number of pages at the start of the {@linkplain #findIndex find index} that are covered by target
+     * methods. The entries after these refer to the last method in this region.
+     */
+    private int indexedPages = Integer.MAX_VALUE;
+
+    @FOLD
+    private static int chunkHeaderSize() {
+        return Layout.byteArrayLayout().headerSize();
+    }
+
+    @FOLD
+    private static Size minChunkSize() {
+        return Size.fromInt(chunkHeaderSize() + 2 * Word.size());
+    }
+
+    private static Address nextChunk(Address chunk) {
+        return chunk.asPointer().readWord(chunkHeaderSize()).asAddress();
+    }
+
+    private static Size chunkSize(Address chunk) {
+        return chunk.asPointer().readWord(chunkHeaderSize() + Word.size()).asSize();
+    }
+
+    private static void setNextChunk(Address chunk, Address next) {
+        chunk.asPointer().writeWord(chunkHeaderSize(), next);
+    }
+
+    /**
+     * Formats a range of this region as a free chunk.
+     */
+    private static void formatChunk(Address chunk, Size size, Address next) {
+        FatalError.check(size.greaterEqual(minChunkSize()), "free code chunk too small");
+        Cell.plantArray(chunk.asPointer(), ClassRegistry.BYTE_ARRAY.dynamicHub(), size.toInt() - chunkHeaderSize());
+        chunk.asPointer().writeWord(chunkHeaderSize(), next);
+        chunk.asPointer().writeWord(chunkHeaderSize() + Word.size(), size);
+    }
+
+    /**
+     * Allocates some memory from this region. Space beyond the allocation mark is used first,
+     * then the free list is searched for the first chunk large enough. A chunk is only split
+     * if the remainder is large enough to form a chunk itself.
+     */
+    @Override
+    public Pointer allocate(Size size, boolean adjustForDebugTag) {
+        Pointer cell = super.allocate(size, adjustForDebugTag);
+        if (!cell.isZero() || freeListHead.isZero() || adjustForDebugTag) {
+            return cell;
+        }
+        Address prev = Address.zero();
+        Address chunk = freeListHead;
+        while (!chunk.isZero()) {
+            final Size chunkSize = chunkSize(chunk);
+            final Address next = nextChunk(chunk);
+            final Size remainder = chunkSize.minus(size);
+            if (remainder.isZero() || (chunkSize.greaterThan(size) && remainder.greaterEqual(minChunkSize()))) {
+                Address replacement = next;
+                if (!remainder.isZero()) {
+                    replacement = chunk.plus(size);
+                    formatChunk(replacement, remainder, next);
+                    freeChunks++;
+                }
+                if (prev.isZero()) {
+                    freeListHead = replacement;
+                } else {
+                    setNextChunk(prev, replacement);
+                }
+                freeChunks--;
+                freeBytes = freeBytes.minus(size);
+                return chunk.asPointer();
+            }
+            prev = chunk;
+            chunk = next;
+        }
+        return Pointer.zero();
+    }
+
+    /**
+     * Adds a target method to this region. Methods allocated from the free list are generally not
+     * appended, which shifts the position of subsequent methods; the {@linkplain #findIndex find index}
+     * is recomputed in that case.
+     */
+    @Override
+    public void add(TargetMethod targetMethod) {
+        final boolean appended = length == 0 || COMPARATOR.compare(targetMethods[length - 1], targetMethod) < 0;
+        // the superclass expects the pages of an added method to be unindexed
+        if (appended) {
+            if (indexedPages < findIndex.length) {
+                Arrays.fill(findIndex, indexedPages, findIndex.length, 0);
+                indexedPages = findIndex.length;
+            }
+        } else {
+            // the method is in a reused free chunk, whose pages have been indexed by the last sweep
+            int startIdx = targetMethod.start().plus(FIND_INDEX_ALIGN - 1).minus(start()).unsignedShiftedRight(FIND_INDEX_ALIGN_SHIFT).toInt();
+            int endIdx = targetMethod.end().minus(1).minus(start()).unsignedShiftedRight(FIND_INDEX_ALIGN_SHIFT).toInt();
+            if (startIdx <= endIdx && startIdx < findIndex.length) {
+                Arrays.fill(findIndex, startIdx, Math.min(endIdx + 1, findIndex.length), 0);
+            }
+        }
+        super.add(targetMethod);
+        if (!appended) {
+            rebuildFindIndex();
+        }
+    }
+
+    /**
+     * Recomputes the {@linkplain #findIndex find index} from scratch. Each page is mapped to the first
+     * method that ends after the beginning of the page. For a page beginning in a free chunk, this is the
+     * method following the chunk, so a lookup never has to scan from the start of the region.
+     */
+    private void rebuildFindIndex() {
+        int page = 0;
+        for (int i = 0; i < length; i++) {
+            final TargetMethod tm = targetMethods[i];
+            int endIdx = tm.end().minus(1).minus(start()).unsignedShiftedRight(FIND_INDEX_ALIGN_SHIFT).toInt();
+            while (page <= endIdx) {
+                findIndex[page++] = i;
+            }
+        }
+        Arrays.fill(findIndex, page, findIndex.length, Math.max(length - 1, 0));
+        indexedPages = page;
+    }
+
+    /**
+     * Looks up the target method containing a particular address. Since this region may contain free chunks,
+     * the method found by the index is only returned if it actually starts at or before {@code cp}.
+     */
+    @Override
+    public TargetMethod find(Address cp) {
+        final TargetMethod tm = super.find(cp);
+        if (tm != null && tm.start().greaterThan(cp)) {
+            // cp is in a free chunk
+            return null;
+        }
+        return tm;
+    }
+
+    @Override
+    protected boolean validMethodStart(TargetMethod tm, Address address) {
+        // the method following a free chunk starts after the addresses in the chunk
+        return true;
+    }
+
+    /**
+     * Removes all {@linkplain TargetMethod#isWiped() wiped} target methods from this region and
+     * rebuilds the free list from the gaps left between the remaining methods. Adjacent gaps are
+     * coalesced, and a gap that extends to the allocation mark is returned to the linear allocation area.
+     * <p>
+     * This must only be called while all mutator threads are stopped.
+     *
+     * @return the number of target methods removed
+     */
+    public int sweep() {
+        assert VmOperation.atSafepoint() || MaxineVM.isHosted();
+        int removed = 0;
+        long removedBytes = 0;
+        int live = 0;
+        for (int i = 0; i < length; i++) {
+            final TargetMethod tm = targetMethods[i];
+            if (tm.isWiped()) {
+                removed++;
+                removedBytes += tm.size().toLong();
+            } else {
+                targetMethods[live++] = tm;
+            }
+        }
+        if (removed == 0) {
+            return 0;
+        }
+        Arrays.fill(targetMethods, live, length, null);
+        length = live;
+
+        freeListHead = Address.zero();
+        freeBytes = Size.zero();
+        freeChunks = 0;
+        Address tail = Address.zero();
+        Address cursor = start();
+        for (int i = 0; i < length; i++) {
+            final TargetMethod tm = targetMethods[i];
+            if (tm.start().greaterThan(cursor)) {
+                final Size gap = tm.start().minus(cursor).asSize();
+                formatChunk(cursor, gap, Address.zero());
+                if (tail.isZero()) {
+                    freeListHead = cursor;
+                } else {
+                    setNextChunk(tail, cursor);
+                }
+                tail = cursor;
+                freeBytes = freeBytes.plus(gap);
+                freeChunks++;
+            }
+            cursor = tm.end();
+        }
+        if (cursor.lessThan(getAllocationMark())) {
+            setMark(cursor);
+        }
+        rebuildFindIndex();
+        freedTargetMethods += removed;
+        freedBytes += removedBytes;
+        return removed;
+    }
+
+    /**
+     * Gets the number of bytes currently in the free list.
+     */
+    public Size freeListBytes() {
+        return freeBytes;
+    }
+
+    /**
+     * Gets the number of chunks currently in the free list.
+     */
+    public int freeListChunks() {
+        return freeChunks;
+    }
+
+    /**
+     * Gets the number of bytes occupied by target methods, i.e. the allocated space minus the free list.
+     */
+    @Override
+    public Size used() {
+        return super.used().minus(freeBytes);
+    }
+
+    @Override
+    public MemoryUsage getUsage() {
+        final long sizeAsLong = size().toLong();
+        return new MemoryUsage(sizeAsLong, used().toLong(), sizeAsLong, sizeAsLong);
+    }
+
+    /**
+     * Gets the number of target methods freed by all sweeps of this region so far.
+     */
+    public int freedTargetMethods() {
+        return freedTargetMethods;
+    }
+
+    /**
+     * Gets the number of bytes freed by all sweeps of this region so far.
+     */
+    public long freedBytes() {
+        return freedBytes;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.code;
+
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.compiler.target.*;
+import com.sun.max.vm.compiler.target.amd64.*;
+import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.stack.*;
+import com.sun.max.vm.thread.*;
+import com.sun.max.vm.ti.*;
+
+/**
+ * Mark-and-sweep collection of the {@linkplain CodeManager#runtimeOptCodeRegion opt code region}.
+ * <p>
+ * Only {@linkplain TargetMethod#invalidated() invalidated} methods are candidates for removal. When such a method
+ * has been invalidated by {@linkplain com.sun.max.vm.compiler.deopt.Deoptimization deoptimization}, its dispatch table
+ * entries have already been reverted to trampolines and its entry points redirected to the static trampoline. What
+ * may still refer to it are activation frames and direct call sites in other methods. The collection proceeds as follows:
+ * <ol>
+ * <li>All invalidated methods that still have an activation on some thread's stack are marked as live.</li>
+ * <li>Direct call sites in the baseline, opt and boot code regions that target an unmarked invalidated method are
+ * reset to the static trampoline.</li>
+ * <li>Unmarked invalidated methods are {@linkplain TargetMethod#wipe() wiped}, and the opt code region is
+ * {@linkplain FreeListCodeRegion#sweep() swept}, turning their space into free chunks.</li>
+ * </ol>
+ * The collection is triggered when an allocation in the opt code region fails.
+ */
+public final class OptCodeEviction extends VmOperation {
+
+    static boolean TraceOptCodeEviction;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "TraceOptCodeEviction", OptCodeEviction.class,
+            "Trace sweeping of invalidated methods from the opt code region.");
+    }
+
+    /**
+     * Marks invalidated methods in the opt code region that are on a thread's stack.
+     */
+    final class LiveMethodsMarker extends RawStackFrameVisitor {
+        @Override
+        public boolean visitFrame(StackFrameCursor current, StackFrameCursor callee) {
+            TargetMethod tm = current.targetMethod();
+            if (tm != null && isCandidate(tm) && !tm.isMarked()) {
+                tm.mark();
+                nOnStack++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Resets all direct calls in a method that target an unreferenced invalidated method.
+     */
+    final class ResetDirectCalls implements TargetMethod.Closure {
+        @Override
+        public boolean doTargetMethod(TargetMethod targetMethod) {
+            if (targetMethod.isWiped() || (isCandidate(targetMethod) && !targetMethod.isMarked())) {
+                // no need to patch code that is about to be freed
+                return true;
+            }
+            final Safepoints safepoints = targetMethod.safepoints();
+            int dcIndex = 0;
+            for (int spi = safepoints.nextDirectCall(0); spi >= 0; spi = safepoints.nextDirectCall(spi + 1)) {
+                final CodePointer target = AMD64TargetMethodUtil.readCall32Target(targetMethod, safepoints.causePosAt(spi));
+                final TargetMethod callee = CodeManager.runtimeOptCodeRegion.contains(target.toAddress()) ? target.toTargetMethod() : null;
+                if (callee != null && isCandidate(callee) && !callee.isMarked()) {
+                    if (targetMethod.resetDirectCall(spi, dcIndex)) {
+                        nCallsReset++;
+                    }
+                }
+                dcIndex++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Wipes unmarked invalidated methods and unmarks the survivors.
+     */
+    final class WipeDeadMethods implements TargetMethod.Closure {
+        @Override
+        public boolean doTargetMethod(TargetMethod targetMethod) {
+            if (isCandidate(targetMethod)) {
+                if (targetMethod.isMarked()) {
+                    targetMethod.unmark();
+                } else {
+                    if (TraceOptCodeEviction) {
+                        final boolean lockDisabledSafepoints = Log.lock();
+                        Log.print("OptCodeEviction: freeing ");
+                        Log.printMethod(targetMethod, false);
+                        Log.print(" at ");
+                        Log.print(targetMethod.start());
+                        Log.print(" [size ");
+                        Log.print(targetMethod.size().toInt());
+                        Log.println(']');
+                        Log.unlock(lockDisabledSafepoints);
+                    }
+                    VMTI.handler().methodUnloaded(targetMethod.classMethodActor, targetMethod.codeStart().toPointer());
+                    assert CodeEviction.invalidateCode(targetMethod.code());
+                    targetMethod.wipe();
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final OptCodeEviction optCodeEviction = new OptCodeEviction();
+
+    private static int evictionCount;
+
+    private final VmStackFrameWalker walker = new VmStackFrameWalker(Pointer.zero());
+    private final LiveMethodsMarker liveMethodsMarker = new LiveMethodsMarker();
+    private final ResetDirectCalls resetDirectCalls = new ResetDirectCalls();
+    private final WipeDeadMethods wipeDeadMethods = new WipeDeadMethods();
+
+    private int nOnStack;
+    private int nCallsReset;
+
+    private OptCodeEviction() {
+        super("opt code cache sweeper", null, Mode.Safepoint);
+    }
+
+    /**
+     * Gets the number of times the opt code region has been swept.
+     */
+    public static int evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Runs a collection of the opt code region.
+     */
+    public static void run() {
+        optCodeEviction.submit();
+    }
+
+    /**
+     * Determines if a given method may be freed by this collector, i.e. it lives in the opt code region and has been invalidated.
+     */
+    private static boolean isCandidate(TargetMethod tm) {
+        return tm.invalidated() != null && CodeManager.runtimeOptCodeRegion.contains(tm.start());
+    }
+
+    @Override
+    protected void doIt() {
+        ++evictionCount;
+        nOnStack = 0;
+        nCallsReset = 0;
+        final FreeListCodeRegion cr = CodeManager.runtimeOptCodeRegion;
+        final long start = System.nanoTime();
+
+        CodeManager.Inspect.notifyEvictionStarted(cr);
+
+        // mark
+        doAllThreads();
+
+        // unlink
+        CodeManager.runtimeBaselineCodeRegion.doNewTargetMethods(resetDirectCalls);
+        cr.doAllTargetMethods(resetDirectCalls);
+        Code.bootCodeRegion().doAllTargetMethods(resetDirectCalls);
+
+        // sweep
+        cr.doAllTargetMethods(wipeDeadMethods);
+        final int freed = cr.sweep();
+
+        CodeManager.Inspect.notifyEvictionCompleted(cr);
+
+        if (TraceOptCodeEviction) {
+            final boolean lockDisabledSafepoints = Log.lock();
+            Log.print("OptCodeEviction #");
+            Log.print(evictionCount);
+            Log.print(": freed ");
+            Log.print(freed);
+            Log.print(" methods, kept ");
+            Log.print(nOnStack);
+            Log.print(" on stack, reset ");
+            Log.print(nCallsReset);
+            Log.print(" direct calls; free list now ");
+            Log.print(cr.freeListBytes().toLong());
+            Log.print(" bytes in ");
+            Log.print(cr.freeListChunks());
+            Log.print(" chunks, took ");
+            Log.print((System.nanoTime() - start) / 1000);
+            Log.println(" us");
+            Log.unlock(lockDisabledSafepoints);
+        }
+    }
+
+    @Override
+    protected void doThread(VmThread vmThread, Pointer ip, Pointer sp, Pointer fp) {
+        // bail out if the thread was stopped in native code before invoking any Java method
+        if (ip.isZero() && sp.isZero() && fp.isZero()) {
+            return;
+        }
+        walker.setTLA(vmThread.tla());
+        walker.inspect(ip, sp, fp, liveMethodsMarker);
+    }
+}
@@ -103,6 +103,15 @@
  * methods.</li>
  * </ol>
  * <p>
+ * <h2>Opt Code Region Sweeping</h2>
+ * The opt code region is not compacted, as optimized code is expected to stay. Methods invalidated by deoptimization
+ * are however reclaimed by a simpler mark-and-sweep collector, {@link com.sun.max.vm.code.OptCodeEviction}, which is
+ * triggered when an allocation in the opt code region fails. Invalidated methods that are not on any stack have their
+ * remaining direct call sites reset to the static trampoline and are then removed from the
+ * {@linkplain com.sun.max.vm.code.FreeListCodeRegion free-list code region}. Subsequent allocations in the region
+ * are satisfied from the resulting free chunks once the end of the region has been reached.
+ * Sweeping is traced with {@code -XX:+TraceOptCodeEviction}.
+ * <p>
  * <h2>Tracing and Logging</h2>
  * The eviction algorithm contains copious logging capability using the {@link com.sun.max.vm.log.VMLogger} mechanism.
  * There are two distinct capabilities; <i>logging</i> the flow of the algorithm and <i>dumping</i> pertinent state
@@ -329,6 +329,7 @@ public class CompilationBroker {
                 compilationThread.start();
             }
         } else if (phase == Phase.RUNNING) {
+            WarmStartCache.initialize();
             if (PrintCodeCacheMetrics != 0) {
                 Runtime.getRuntime().addShutdownHook(new Thread("CodeCacheMetricsPrinter") {
                     @Override
@@ -372,6 +373,7 @@ public class CompilationBroker {
         }
         baselineCompiler.deoptimize(cma);
         optimizingCompiler.deoptimize(cma);
+        WarmStartCache.recordDeoptimization(cma);
     }
 
     /**
@@ -447,6 +449,9 @@ public class CompilationBroker {
                 if (doCompile) {
                     TargetMethod tm = compilation.compile();
                     VMTI.handler().methodCompiled(cma);
+                    if (!isHosted() && compilation.compiler == optimizingCompiler && WarmStartCache.isEnabled()) {
+                        WarmStartCache.recordCompilation(cma);
+                    }
                     return tm;
                 } else {
                     // return result from other thread (which will have send the VMTI event)
@@ -533,6 +538,10 @@ public class CompilationBroker {
                             // compile VM extensions with the opt compiler (cf isHosted)
                             reason = "vm";
                             compiler = optimizingCompiler;
+                        } else if (!isDeopt && WarmStartCache.isEnabled() && WarmStartCache.isWarm(cma)) {
+                            // optimized in a previous run, skip the baseline compiler and profiling
+                            reason = "warm start";
+                            compiler = optimizingCompiler;
                         } else {
                             compiler = defaultCompiler;
                         }
@@ -630,6 +639,15 @@ public class CompilationBroker {
                     // the next counter overflow (due to integer wrapping) will be a while away.
                     return;
                 }
+                if (newMethod != null && newMethod.isBaseline()) {
+                    // The optimizing compiler failed (e.g. it bailed out) and the compilation was retried with the
+                    // baseline compiler. It would fail again, so don't let the new baseline code trigger recompilation.
+                    logCounterOverflow(mpo, "Disabled recompilation because the optimizing compiler failed");
+                    mpo.compilationDisabled = true;
+                    if (newMethod.profile() != null) {
+                        newMethod.profile().compilationDisabled = true;
+                    }
+                }
             }
         }
 
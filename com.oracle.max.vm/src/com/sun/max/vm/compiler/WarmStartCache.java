@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.compiler;
+
+import static com.sun.max.vm.MaxineVM.*;
+
+import java.io.*;
+import java.util.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.atomic.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.heap.*;
+
+/**
+ * A persistent record of the methods that were compiled by the optimizing compiler in a previous run of the VM.
+ * <p>
+ * When {@code -XX:WarmStartCacheFile=<file>} is specified, every optimizing compilation performed at runtime is
+ * recorded together with a hash of the class file bytes of the method's holder. At VM exit, the records of all
+ * methods that have not been {@linkplain #recordDeoptimization(ClassMethodActor) deoptimized} are written to the
+ * file. On the next run, the file is read and, as soon as a class whose class file bytes hash to the recorded value
+ * is defined, its recorded methods are compiled directly by the optimizing compiler when first invoked instead of
+ * passing through the baseline compiler and the profiling phase. Classes from the boot image are recorded with a hash
+ * of {@code 0} and are validated by the VM version stored in the file header instead.
+ * <p>
+ * The cache holds compilation decisions, not machine code: optimized code embeds absolute references to heap
+ * objects and hubs that are only valid within one VM instance.
+ */
+public final class WarmStartCache {
+
+    @RESET
+    static String WarmStartCacheFile;
+    static boolean TraceWarmStartCache;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "WarmStartCacheFile", WarmStartCache.class,
+            "Record optimized methods in the given file at VM exit and compile them with the optimizing compiler " +
+            "on first invocation in subsequent runs.");
+        VMOptions.addFieldOption("-XX:", "TraceWarmStartCache", WarmStartCache.class,
+            "Trace loading, validation and saving of the warm start cache.");
+    }
+
+    /**
+     * Identifies a warm start cache file.
+     */
+    private static final int MAGIC = 0x4d585743;
+
+    /**
+     * The version of the file format. Increment this whenever the format changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private WarmStartCache() {
+    }
+
+    /**
+     * A recorded optimized method.
+     */
+    static final class Entry {
+        final String holder;
+        final long classHash;
+        final String method;
+
+        Entry(String holder, long classHash, String method) {
+            this.holder = holder;
+            this.classHash = classHash;
+            this.method = method;
+        }
+
+        String key() {
+            return holder + "." + method;
+        }
+    }
+
+    /**
+     * Entries read from the cache file that are awaiting the definition of their holder class, keyed by holder type descriptor.
+     */
+    private static HashMap<String, ArrayList<Entry>> pending;
+
+    /**
+     * Keys of the methods whose entries have been validated against the class file of their holder.
+     */
+    private static HashSet<String> warm;
+
+    /**
+     * Hashes of the class files of all classes defined at runtime, keyed by type descriptor.
+     */
+    private static HashMap<String, Long> classHashes;
+
+    /**
+     * Methods optimized in this run, keyed by method key.
+     */
+    private static LinkedHashMap<String, Entry> recorded;
+
+    /**
+     * A method whose deoptimization has not yet been applied to {@link #recorded} and {@link #warm}.
+     */
+    static final class Deoptimized {
+        final ClassMethodActor cma;
+        final Deoptimized next;
+
+        Deoptimized(ClassMethodActor cma, Deoptimized next) {
+            this.cma = cma;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Lock-free stack of deoptimized methods. Deoptimization is recorded while all mutators are frozen, at which
+     * point one of them may hold the lock on this class, so the records are only applied under the lock later on.
+     */
+    private static final AtomicReference deoptimized = new AtomicReference();
+
+    /**
+     * Number of entries read from the cache file and number of those that were validated.
+     */
+    private static int loadedEntries;
+    private static int validatedEntries;
+
+    /**
+     * Determines if the warm start cache has been enabled on the command line.
+     */
+    public static boolean isEnabled() {
+        return WarmStartCacheFile != null;
+    }
+
+    private static String vmVersion() {
+        return MaxineVM.VERSION_STRING + ":" + vm().compilationBroker.optimizingCompiler.getClass().getName();
+    }
+
+    private static String key(ClassMethodActor cma) {
+        return cma.holder().typeDescriptor.string + "." + cma.name + cma.descriptor().string;
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of a range of class file bytes.
+     */
+    public static long hash(byte[] bytes, int offset, int length) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h ^= bytes[i] & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * Initializes the cache from the file given by {@code -XX:WarmStartCacheFile} (if it exists) and arranges
+     * for the file to be rewritten at VM exit.
+     */
+    static synchronized void initialize() {
+        if (!isEnabled() || isHosted()) {
+            return;
+        }
+        pending = new HashMap<String, ArrayList<Entry>>();
+        warm = new HashSet<String>();
+        if (classHashes == null) {
+            classHashes = new HashMap<String, Long>();
+        }
+        recorded = new LinkedHashMap<String, Entry>();
+        load(new File(WarmStartCacheFile));
+        Runtime.getRuntime().addShutdownHook(new Thread("WarmStartCache") {
+            @Override
+            public void run() {
+                save(new File(WarmStartCacheFile));
+            }
+        });
+    }
+
+    private static void load(File file) {
+        if (!file.exists()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(vmVersion())) {
+                trace("ignoring stale or foreign cache file " + file);
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final Entry entry = new Entry(in.readUTF(), in.readLong(), in.readUTF());
+                loadedEntries++;
+                final Long classHash = classHashes.get(entry.holder);
+                if (entry.classHash == 0) {
+                    // a boot image class: valid for as long as the VM version matches
+                    warm.add(entry.key());
+                    validatedEntries++;
+                } else if (classHash != null) {
+                    // the holder was defined before the cache was initialized
+                    if (classHash == entry.classHash) {
+                        warm.add(entry.key());
+                        validatedEntries++;
+                    }
+                } else {
+                    ArrayList<Entry> entries = pending.get(entry.holder);
+                    if (entries == null) {
+                        entries = new ArrayList<Entry>();
+                        pending.put(entry.holder, entries);
+                    }
+                    entries.add(entry);
+                }
+            }
+            trace("loaded " + loadedEntries + " entries from " + file);
+        } catch (IOException e) {
+            trace("error reading " + file + ": " + e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    private static synchronized void save(File file) {
+        applyDeoptimizations();
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(vmVersion());
+            out.writeInt(recorded.size());
+            for (Entry entry : recorded.values()) {
+                out.writeUTF(entry.holder);
+                out.writeLong(entry.classHash);
+                out.writeUTF(entry.method);
+            }
+            trace("saved " + recorded.size() + " entries to " + file + " (" + validatedEntries + " of " + loadedEntries + " loaded entries were validated)");
+        } catch (IOException e) {
+            trace("error writing " + file + ": " + e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies the cache that a class has been defined from some class file bytes. Any entries for the class
+     * whose hash matches the class file become warm; all others are discarded. The hash of a class defined before
+     * the cache is {@linkplain #initialize() initialized} is retained so that its entries are validated when the cache
+     * is loaded and its methods can still be recorded.
+     */
+    public static void classDefined(ClassActor classActor, byte[] bytes, int offset, int length) {
+        if (!isEnabled() || isHosted()) {
+            return;
+        }
+        final long classHash = hash(bytes, offset, length);
+        synchronized (WarmStartCache.class) {
+            if (classHashes == null) {
+                classHashes = new HashMap<String, Long>();
+            }
+            final String holder = classActor.typeDescriptor.string;
+            classHashes.put(holder, classHash);
+            if (pending == null) {
+                return;
+            }
+            final ArrayList<Entry> entries = pending.remove(holder);
+            if (entries != null) {
+                for (Entry entry : entries) {
+                    if (entry.classHash == classHash) {
+                        warm.add(entry.key());
+                        validatedEntries++;
+                    }
+                }
+                trace("validated entries of " + classActor.name);
+            }
+        }
+    }
+
+    /**
+     * Determines if a method was optimized in a previous run and its holder class is unchanged since.
+     */
+    public static synchronized boolean isWarm(ClassMethodActor cma) {
+        if (warm == null || warm.isEmpty()) {
+            return false;
+        }
+        applyDeoptimizations();
+        return warm.contains(key(cma));
+    }
+
+    /**
+     * Records that a method has been compiled by the optimizing compiler.
+     */
+    static synchronized void recordCompilation(ClassMethodActor cma) {
+        if (recorded == null) {
+            return;
+        }
+        applyDeoptimizations();
+        final String holder = cma.holder().typeDescriptor.string;
+        final Long classHash = classHashes.get(holder);
+        if (classHash == null && !Heap.isInBootImage(cma.holder())) {
+            // the class file of the holder was never seen, so the entry could not be validated in a later run
+            return;
+        }
+        final Entry entry = new Entry(holder, classHash == null ? 0 : classHash, cma.name + cma.descriptor().string);
+        recorded.put(entry.key(), entry);
+    }
+
+    /**
+     * Records that the optimized code of a method has been deoptimized, i.e. one of the assumptions it was compiled
+     * under no longer holds. Its entry is dropped, both for the remainder of this run and from the saved cache.
+     * <p>
+     * This is called during a VM operation and so must not acquire the lock on this class. The method is pushed
+     * on the {@link #deoptimized} stack and removed from the cache by the next synchronized operation.
+     */
+    static void recordDeoptimization(ClassMethodActor cma) {
+        if (recorded == null) {
+            return;
+        }
+        while (true) {
+            final Deoptimized head = (Deoptimized) deoptimized.get();
+            if (deoptimized.compareAndSet(head, new Deoptimized(cma, head))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the methods recorded by {@link #recordDeoptimization(ClassMethodActor)} from the cache.
+     */
+    private static void applyDeoptimizations() {
+        assert Thread.holdsLock(WarmStartCache.class);
+        for (Deoptimized d = (Deoptimized) deoptimized.getAndSet(null); d != null; d = d.next) {
+            final String key = key(d.cma);
+            recorded.remove(key);
+            warm.remove(key);
+        }
+    }
+
+    private static void trace(String message) {
+        if (TraceWarmStartCache) {
+            Log.println("WarmStartCache: " + message);
+        }
+    }
+}
@@ -46,6 +46,7 @@ import com.sun.max.vm.compiler.target.*;
 import com.sun.max.vm.compiler.target.TargetMethod.FrameAccess;
 import com.sun.max.vm.compiler.target.amd64.AMD64TargetMethodUtil;
 import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.log.hosted.*;
 import com.sun.max.vm.object.*;
 import com.sun.max.vm.profile.MethodProfile;
@@ -726,6 +727,7 @@ public class Deoptimization extends VmOperation {
         if (deoptLogger.enabled()) {
             deoptLogger.logStart(tm);
         }
+        FlightRecorder.deoptimization(tm);
 
         if (StackReferenceMapPreparer.VerifyRefMaps || deoptLogger.enabled() || DeoptimizeALot != 0) {
             StackReferenceMapPreparer.verifyReferenceMapsForThisThread();
@@ -917,9 +919,37 @@ public class Deoptimization extends VmOperation {
      */
     public static void uncommonTrap(Pointer csa, Pointer ip, Pointer sp, Pointer fp) {
         FatalError.check(!csa.isZero(), "callee save area expected for uncommon trap");
+        recordTrap(CodePointer.from(ip));
         deoptimize(CodePointer.from(ip), sp, fp, csa, vm().registerConfigs.uncommonTrapStub.getCalleeSaveLayout(), null);
     }
 
+    /**
+     * Records an uncommon trap against the bytecode index at which the failed speculation was made and
+     * invalidates the optimized method containing the trap. Without invalidation, the method would trap
+     * every time the speculation fails. When it is recompiled, the compiler sees the {@linkplain ClassMethodActor#trapCount(int)
+     * trap count} and stops speculating at a bytecode index that has trapped too often, which bounds the
+     * number of such recompilations. Methods in the boot code region are not invalidated, as they may be
+     * needed to recompile themselves.
+     *
+     * @param ip the address of the uncommon trap
+     */
+    private static void recordTrap(CodePointer ip) {
+        TargetMethod tm = ip.toTargetMethod();
+        int safepointIndex = tm.findSafepointIndex(ip);
+        if (safepointIndex < 0) {
+            return;
+        }
+        CiFrame frame = tm.debugInfoAt(safepointIndex, null).frame();
+        if (frame != null) {
+            ((ClassMethodActor) frame.method).recordTrap(frame.bci);
+        }
+        if (!tm.isBaseline() && !tm.isInBootCodeRegion() && tm.invalidated() == null) {
+            ArrayList<TargetMethod> methods = new ArrayList<TargetMethod>(1);
+            methods.add(tm);
+            new Deoptimization(methods).go();
+        }
+    }
+
     @NEVER_INLINE // makes inspecting easier
     static void logPatchITable(ClassActor classActor, int iIndex) {
         if (deoptLogger.enabled()) {
@@ -35,7 +35,6 @@ import com.sun.cri.ri.*;
 import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
-import com.sun.max.vm.compiler.deopt.*;
 import com.sun.max.vm.compiler.deps.ContextDependents.*;
 import com.sun.max.vm.compiler.deps.Dependencies.*;
 import com.sun.max.vm.compiler.target.*;
@@ -262,14 +261,17 @@ public class ConcreteTypeDependencyProcessor extends DependencyProcessor {
     }
 
     /**
-     * Processes a list of invalidated dependencies, triggering deopt as necessary.
+     * Processes a list of invalidated dependencies, collecting the target methods that must be deoptimized.
+     * The deoptimization itself is performed by {@link DependenciesManager#deoptimize(ArrayList)} once the
+     * class hierarchy lock has been released.
      *
      * @param invalidated the head of a {@link Dependencies} list (which may contain duplicates)
      * @param classActor the class to be added to the global class hierarchy
+     * @return the target methods to be deoptimized, or {@code null} if there are none
      */
-    static void invalidateDependencies(ArrayList<Dependencies> invalidated, ClassActor classActor) {
+    static ArrayList<TargetMethod> invalidateDependencies(ArrayList<Dependencies> invalidated, ClassActor classActor) {
         if (invalidated == null) {
-            return;
+            return null;
         }
         if (dependenciesLogger.enabled()) {
             dependenciesLogger.logInvalidateDeps(classActor);
@@ -278,23 +280,22 @@ public class ConcreteTypeDependencyProcessor extends DependencyProcessor {
             }
         }
 
-        ArrayList<TargetMethod> methods = new ArrayList<TargetMethod>(invalidated.size());
+        ArrayList<TargetMethod> methods = null;
         for (Dependencies deps : invalidated) {
             if (deps.invalidate() && deps.targetMethod != null) {
                 if (MaxineVM.isHosted()) {
                     CompiledPrototype.invalidateTargetMethod(deps.targetMethod);
+                } else {
+                    if (methods == null) {
+                        methods = new ArrayList<TargetMethod>(invalidated.size());
+                    }
+                    methods.add(deps.targetMethod);
                 }
-                methods.add(deps.targetMethod);
             }
         }
-        if (MaxineVM.isHosted()) {
-            return;
-        } else if (!methods.isEmpty()) {
-            new Deoptimization(methods).go();
-        }
+        return methods;
     }
 
-
     /**
      * Verifies dependencies on a given type when a concrete sub-type is added to the descendants of the type.
      */
@@ -32,10 +32,12 @@ import com.sun.max.program.*;
 import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.compiler.deopt.*;
 import com.sun.max.vm.compiler.target.*;
 import com.sun.max.vm.hosted.*;
 import com.sun.max.vm.log.VMLog.*;
 import com.sun.max.vm.log.hosted.*;
+import com.sun.max.vm.runtime.*;
 
 /**
  * The {@linkplain DependenciesManager} is the central point of control for the
@@ -84,6 +86,8 @@ public final class DependenciesManager {
      * class hierarchy information by concurrent class definition. This allows
      * multiple validation to be performed concurrently. Installation of dependencies in the dependency table
      * requires additional synchronization as it updates both the table and per class type dependency information.
+     * The target methods invalidated by a class definition are deoptimized after the lock is released
+     * (see {@link #deoptimize(ArrayList)}).
      */
     public static final ReentrantReadWriteLock classHierarchyLock = new ReentrantReadWriteLock();
 
@@ -140,22 +144,66 @@ public final class DependenciesManager {
      */
     public static void addToHierarchy(ClassActor classActor) {
         boolean refreshTables = false;
+        ArrayList<TargetMethod> invalidatedMethods = null;
         classHierarchyLock.writeLock().lock();
         try {
             classActor.prependToSiblingList();
             ArrayList<Dependencies> invalidated = ConcreteTypeDependencyProcessor.recordUniqueConcreteSubtype(classActor);
-            ConcreteTypeDependencyProcessor.invalidateDependencies(invalidated, classActor);
+            invalidatedMethods = ConcreteTypeDependencyProcessor.invalidateDependencies(invalidated, classActor);
             refreshTables = true;
         } finally {
             classHierarchyLock.writeLock().unlock();
             if (!MaxineVM.isHosted() && refreshTables) {
                 // Don't need to be under the class hierarchy lock to do this.
+                if (invalidatedMethods != null) {
+                    deoptimize(invalidatedMethods);
+                }
                 classActor.dynamicHub().refreshVTable();
                 classActor.dynamicHub().refreshITable();
             }
         }
     }
 
+    /**
+     * Target methods invalidated by class definitions that have not yet been deoptimized.
+     */
+    private static final ArrayList<TargetMethod> pendingDeoptimizations = new ArrayList<TargetMethod>();
+
+    /**
+     * Serializes the deoptimization operations submitted by {@link #deoptimize(ArrayList)}.
+     */
+    private static final Object deoptimizationLock = new Object();
+
+    /**
+     * Deoptimizes a set of target methods invalidated by a class definition. This is called once the class
+     * hierarchy lock has been released so that neither compilations nor other class definitions wait for the
+     * deoptimization {@linkplain VmOperation VM operation}.
+     * <p>
+     * The methods are queued and the queue is drained by a single {@link Deoptimization} operation. A thread
+     * that finds another thread's operation in progress waits for it to complete and then drains the methods
+     * queued in the meantime by all such threads. The invalidations of classes defined concurrently are thus
+     * coalesced into one operation. A thread only returns once the methods it queued have been deoptimized.
+     *
+     * @param methods the target methods to deoptimize
+     */
+    static void deoptimize(ArrayList<TargetMethod> methods) {
+        synchronized (pendingDeoptimizations) {
+            pendingDeoptimizations.addAll(methods);
+        }
+        synchronized (deoptimizationLock) {
+            ArrayList<TargetMethod> batch;
+            synchronized (pendingDeoptimizations) {
+                if (pendingDeoptimizations.isEmpty()) {
+                    // deoptimized by the operation of another thread
+                    return;
+                }
+                batch = new ArrayList<TargetMethod>(pendingDeoptimizations);
+                pendingDeoptimizations.clear();
+            }
+            new Deoptimization(batch).go();
+        }
+    }
+
     // Logging
 
     @HOSTED_ONLY
@@ -32,6 +32,7 @@ import com.sun.max.vm.actor.member.*;
 import com.sun.max.vm.compiler.*;
 import com.sun.max.vm.compiler.RuntimeCompiler.Nature;
 import com.sun.max.vm.heap.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.runtime.*;
 import com.sun.max.vm.stack.*;
 import com.sun.max.vm.tele.*;
@@ -292,6 +293,7 @@ public class Compilation {
             gcIfRequested(classMethodActor, methodString);
 
             startCompilationMetricsCollection();
+            final long flightStart = FlightRecorder.startTime();
 
             result = compiler.compile(classMethodActor, isDeopt, true, null);
             if (result == null) {
@@ -303,6 +305,7 @@ public class Compilation {
             stopCompilationMetricsCollection();
 
             logAfterCompilation();
+            FlightRecorder.compilation(flightStart, result);
         } catch (RuntimeException t) {
             error = t;
         } catch (Error t) {
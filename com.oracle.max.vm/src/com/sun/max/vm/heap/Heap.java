@@ -523,10 +523,11 @@ public final class Heap {
     private static boolean gcWaitForDisablingThreads = false;
 
     /**
-     * Disable GC. Must be paired with a subsequent call to {@link Heap#enableGC()}
+     * Disable GC. Must be paired with a subsequent call to {@link Heap#enableGC()}.
+     * This may be used by heap schemes to pin objects they would otherwise move.
      */
     @INLINE
-    private static void disableGC() {
+    public static void disableGC() {
         final Pointer etla = ETLA.load(currentTLA());
         Pointer count = GC_DISABLING_COUNT.load(etla);
         if (count.isZero()) {
@@ -538,10 +539,10 @@ public final class Heap {
     }
 
     /**
-     * Enable GC. Must be paired with a previous call to {@link Heap#disableGC()}
+     * Enable GC. Must be paired with a previous call to {@link Heap#disableGC()}.
      */
     @INLINE
-    private static void enableGC() {
+    public static void enableGC() {
         final Pointer etla = ETLA.load(currentTLA());
         Pointer count = GC_DISABLING_COUNT.load(etla);
         assert count.greaterThan(Pointer.zero()) :  "thread has not issued a GC disabling request";
@@ -323,6 +323,17 @@ public interface HeapScheme extends VMScheme {
 
     void postWriteBarrier(Reference ref,  int displacement, int index, Reference value);
 
+    /**
+     * Post write barrier for a bulk update of a contiguous range of reference slots, such as an array copy.
+     * The slots must have been updated without a safepoint since, and the barrier must not itself
+     * contain a safepoint before it has recorded all the updated slots.
+     *
+     * @param ref the object whose reference slots were updated
+     * @param offset the offset of the first updated slot from the origin of {@code ref}
+     * @param length the size in bytes of the updated range
+     */
+    void postBulkWriteBarrier(Reference ref, Offset offset, Size length);
+
     enum PIN_SUPPORT_FLAG {
         /**
          * Just to indicate that the pin support flag has been initialized (makes the pinningSupportFlags treated as constant when not zero).
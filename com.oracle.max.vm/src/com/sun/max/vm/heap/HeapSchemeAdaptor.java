@@ -320,6 +320,10 @@ public abstract class HeapSchemeAdaptor extends AbstractVMScheme implements Heap
     public void postWriteBarrier(Reference ref,  int displacement, int index, Reference value) {
         // do nothing
     }
+    @INLINE
+    public void postBulkWriteBarrier(Reference ref, Offset offset, Size length) {
+        // do nothing
+    }
 
     public boolean isPinned(Object object) {
         FatalError.check(supportsPinning(PIN_SUPPORT_FLAG.IS_QUERYABLE), "Object pinning support doesn't support querying");
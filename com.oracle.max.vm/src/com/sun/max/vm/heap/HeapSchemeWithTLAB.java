@@ -37,6 +37,7 @@ import com.sun.max.vm.heap.debug.*;
 import com.sun.max.vm.intrinsics.*;
 import com.sun.max.vm.layout.*;
 import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.log.hosted.*;
 import com.sun.max.vm.object.*;
 import com.sun.max.vm.reference.*;
@@ -503,6 +504,7 @@ public abstract class HeapSchemeWithTLAB extends HeapSchemeAdaptor {
             return customAllocate(customAllocator, size);
         }
         globalTlabStats.tlabOverflowCount++;
+        FlightRecorder.allocationSample(size, oldAllocationMark, tlabEnd);
         // This path will always be taken if TLAB allocation is not enabled.
         return handleTLABOverflow(size, etla, oldAllocationMark, tlabEnd);
     }
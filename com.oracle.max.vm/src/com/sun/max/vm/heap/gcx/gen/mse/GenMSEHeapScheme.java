@@ -137,6 +137,7 @@ final public class GenMSEHeapScheme extends HeapSchemeWithTLABAdaptor  implement
         noYoungReferencesVerifier = new NoEvacuatedSpaceReferenceVerifier(cardTableRSet, youngSpace);
         fotVerifier = new FOTVerifier(cardTableRSet);
         genCollection = new GenCollection();
+        pinningSupportFlags = PIN_SUPPORT_FLAG.makePinSupportFlags(true, false, true);
     }
 
     @Override
@@ -387,14 +388,31 @@ final public class GenMSEHeapScheme extends HeapSchemeWithTLABAdaptor  implement
         return oldSpace.usedSpace().plus(youngSpace.usedSpace());
     }
 
+    /**
+     * Pins an object. Objects outside the nursery are never moved, so pinning them is free. Objects in
+     * the nursery are moved by the next minor collection: pinning one disables GC until it is unpinned.
+     * <p>
+     * GC is disabled before testing where the object is: otherwise a collection between the test and
+     * disabling GC could promote the object, and {@link #unpin(Object)} would not re-enable GC. Once GC
+     * is disabled, a pinned nursery object remains in the nursery until it is unpinned, so
+     * {@link #unpin(Object)} can tell how the object was pinned.
+     */
+    @INLINE
     @Override
     public boolean pin(Object object) {
-        return false;
+        Heap.disableGC();
+        if (!youngSpace.contains(Reference.fromJava(object).toOrigin())) {
+            Heap.enableGC();
+        }
+        return true;
     }
 
+    @INLINE
     @Override
     public void unpin(Object object) {
-        throw new UnsupportedOperationException();
+        if (youngSpace.contains(Reference.fromJava(object).toOrigin())) {
+            Heap.enableGC();
+        }
     }
 
     @INLINE
@@ -415,6 +433,12 @@ final public class GenMSEHeapScheme extends HeapSchemeWithTLABAdaptor  implement
         cardTableRSet.record(ref, displacement, index);
     }
 
+    @INLINE
+    @Override
+    public void postBulkWriteBarrier(Reference ref, Offset offset, Size length) {
+        cardTableRSet.record(ref, offset, length);
+    }
+
     /**
      * Allocate a chunk of memory of the specified size and refill a thread's TLAB with it.
      * @param etla the thread whose TLAB will be refilled
@@ -24,6 +24,7 @@ package com.sun.max.vm.heap.gcx.rset.ctbl;
 
 import static com.sun.max.vm.heap.gcx.rset.ctbl.CardState.*;
 
+import com.sun.max.annotate.*;
 import com.sun.max.unsafe.*;
 /**
  * Card table implementation, when cards can have two states only: clean and dirty (@see {@link CardState}).
@@ -96,6 +97,21 @@ public final class CardTable extends  Log2RegionToByteMapTable {
         unsafeSet(coveredAddress, DIRTY_CARD.value());
     }
 
+    /**
+     * Dirty the entries in the card table corresponding to the cards overlapping a range of covered heap addresses.
+     * @param start the first address of the range (inclusive)
+     * @param end the end of the range (exclusive)
+     */
+    @NO_SAFEPOINT_POLLS("the cards of a bulk reference update must be dirty before the next safepoint")
+    void dirtyCovered(Address start, Address end) {
+        if (end.greaterThan(start)) {
+            final int lastIndex = tableEntryIndex(end.minus(1));
+            for (int i = tableEntryIndex(start); i <= lastIndex; i++) {
+                unsafeSet(i, DIRTY_CARD.value());
+            }
+        }
+    }
+
     /**
      * Find the first card set to the specified card state in the specified range of entries in the table .
      * @param start index of the first card in the range (inclusive)
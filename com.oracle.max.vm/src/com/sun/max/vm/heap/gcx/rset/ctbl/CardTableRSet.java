@@ -291,6 +291,17 @@ public final class CardTableRSet extends DeadSpaceListener implements HeapManage
         cardTable.dirtyCovered(ref.toOrigin().plus(Address.fromInt(index).shiftedLeft(Word.widthValue().log2numberOfBytes).plus(displacement)));
     }
 
+    /**
+     * Record an update to a contiguous range of reference slots of a cell.
+     * @param ref the cell whose references are updated
+     * @param offset the offset from the origin of the cell to the first updated reference
+     * @param length the size in bytes of the updated range
+     */
+    public void record(Reference ref, Offset offset, Size length) {
+        final Pointer start = ref.toOrigin().plus(offset);
+        cardTable.dirtyCovered(start, start.plus(length));
+    }
+
     /**
      * Visit the cells that overlap a card.
      *
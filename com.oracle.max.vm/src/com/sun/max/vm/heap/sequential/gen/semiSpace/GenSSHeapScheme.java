@@ -894,6 +894,12 @@ public final class GenSSHeapScheme extends HeapSchemeWithTLABAdaptor implements
         cardTableRSet.record(ref, displacement, index);
     }
 
+    @INLINE
+    @Override
+    public void postBulkWriteBarrier(Reference ref, Offset offset, Size length) {
+        cardTableRSet.record(ref, offset, length);
+    }
+
     @Override
     public long maxObjectInspectionAge() {
         return System.currentTimeMillis() - lastFullGCTime;
@@ -84,7 +84,7 @@ public class BootImage {
     /**
      * A version number of the boot image file layout, checked against IMAGE_FORMAT_VERSION in Native/substrate/image.c .
      */
-    public static final int BOOT_IMAGE_FORMAT_VERSION = 2;
+    public static final int BOOT_IMAGE_FORMAT_VERSION = 3;
 
     /**
      * A field section in a boot image is described by the {@code public final} and {@code final}
@@ -236,6 +236,21 @@ public class BootImage {
          */
         public final int bootRegionMappingConstraint;
 
+        /**
+         * The low 32 bits of the address at which the pointers in the heap and code are linked. If this address
+         * is 0, the pointers are canonicalized to a heap and code starting at address 0. If the boot image loader
+         * manages to map the heap and code at this address, it does not relocate them. Otherwise, the pointers are
+         * relocated by the difference between the actual and the linked address.
+         */
+        public final int linkedHeapAddressLow;
+
+        /**
+         * The high 32 bits of the address at which the pointers in the heap and code are linked.
+         *
+         * @see #linkedHeapAddressLow
+         */
+        public final int linkedHeapAddressHigh;
+
         /**
          * @see VmThreadMap#ACTIVE
          */
@@ -308,6 +323,8 @@ public class BootImage {
             reservedVirtualSpaceSize = endian.readInt(dataInputStream);
             reservedVirtualSpaceFieldOffset = endian.readInt(dataInputStream);
             bootRegionMappingConstraint = endian.readInt(dataInputStream);
+            linkedHeapAddressLow = endian.readInt(dataInputStream);
+            linkedHeapAddressHigh = endian.readInt(dataInputStream);
             tlaListHeadOffset = endian.readInt(dataInputStream);
             exitCodeOffset = endian.readInt(dataInputStream);
 
@@ -337,7 +354,7 @@ public class BootImage {
             return staticTupleOrigin.toInt() + fieldActor.offset();
         }
 
-        private Header(DataPrototype dataPrototype, int stringInfoSize) {
+        private Header(DataPrototype dataPrototype, int stringInfoSize, long linkedHeapAddress) {
             super(platform().endianness(), 0);
             final VMConfiguration vmConfiguration = vmConfig();
             isBigEndian = endianness() == Endianness.LITTLE ? 0 : 0xffffffff;
@@ -365,6 +382,8 @@ public class BootImage {
             reservedVirtualSpaceSize = vmConfiguration.heapScheme().reservedVirtualSpaceKB();
             reservedVirtualSpaceFieldOffset = staticFieldPointerOffset(dataPrototype, Heap.class, "reservedVirtualSpace");
             bootRegionMappingConstraint = vmConfiguration.heapScheme().bootRegionMappingConstraint().ordinal();
+            linkedHeapAddressLow = (int) linkedHeapAddress;
+            linkedHeapAddressHigh = (int) (linkedHeapAddress >>> 32);
             tlaListHeadOffset = dataPrototype.objectToOrigin(VmThreadMap.ACTIVE).toInt() + ClassActor.fromJava(VmThreadMap.class).findLocalInstanceFieldActor("tlaListHead").offset();
             exitCodeOffset = staticFieldPointerOffset(dataPrototype, MaxineVM.class, "exitCode");
 
@@ -395,6 +414,15 @@ public class BootImage {
             BootImageException.check(cacheAlignment > 4 && Ints.isPowerOfTwoOrZero(cacheAlignment), "implausible alignment size: " + cacheAlignment);
             BootImageException.check(pageSize >= Longs.K && pageSize % Longs.K == 0, "implausible page size: " + pageSize);
             BootImageException.check(!(bootRegionMappingConstraint > 0 && reservedVirtualSpaceSize == 0), "invalid boot region mapping constraint");
+            BootImageException.check(linkedHeapAddress() % pageSize == 0, "linked heap address is not page aligned: 0x" + Long.toHexString(linkedHeapAddress()));
+            BootImageException.check(wordSize == 8 || linkedHeapAddressHigh == 0, "linked heap address does not fit in a word: 0x" + Long.toHexString(linkedHeapAddress()));
+        }
+
+        /**
+         * Gets the address at which the pointers in the heap and code are linked.
+         */
+        public long linkedHeapAddress() {
+            return ((long) linkedHeapAddressHigh << 32) | (linkedHeapAddressLow & 0xffffffffL);
         }
 
         @Override
@@ -702,15 +730,34 @@ public class BootImage {
      * Used when constructing a boot image to be written to a file.
      */
     public BootImage(DataPrototype dataPrototype) throws BootImageException {
+        this(dataPrototype, 0L);
+    }
+
+    /**
+     * Used when constructing a boot image to be written to a file.
+     *
+     * @param linkedHeapAddress the address at which the pointers in the heap and code are linked. If the boot image
+     *            loader maps the heap and code at this address, it need not relocate them which leaves the pages of
+     *            the mapped image file clean and thus shareable between VM processes. If 0, the pointers are
+     *            canonicalized to a heap and code starting at address 0.
+     */
+    public BootImage(DataPrototype dataPrototype, long linkedHeapAddress) throws BootImageException {
         this.vmConfiguration = vmConfig();
-        this.stringInfo = new StringInfo(vmConfiguration, new Header(dataPrototype, 0).size());
+        this.stringInfo = new StringInfo(vmConfiguration, new Header(dataPrototype, 0, linkedHeapAddress).size());
         this.stringInfo.check();
-        this.header = new Header(dataPrototype, stringInfo.size());
+        this.header = new Header(dataPrototype, stringInfo.size(), linkedHeapAddress);
         this.header.check();
         this.relocationData = dataPrototype.relocationData();
         this.padding = new byte[deltaToPageAlign(header.size() + stringInfo.size() + relocationData.length)];
-        this.heap = ByteBuffer.wrap(dataPrototype.heapData());
-        this.code = ByteBuffer.wrap(dataPrototype.codeData());
+        byte[] heapData = dataPrototype.heapData();
+        byte[] codeData = dataPrototype.codeData();
+        if (linkedHeapAddress != 0L) {
+            heapData = heapData.clone();
+            codeData = codeData.clone();
+            link(heapData, codeData, linkedHeapAddress);
+        }
+        this.heap = ByteBuffer.wrap(heapData);
+        this.code = ByteBuffer.wrap(codeData);
         int trailerOffset = codeOffset() + header.codeSize;
         this.trailer = new Trailer(header, trailerOffset);
         this.imageFile = null;
@@ -823,16 +870,57 @@ public class BootImage {
         }
     }
 
+    /**
+     * Adds a given address to all the non-null pointers in the heap and code denoted by the relocation data.
+     * The heap and code are treated as one contiguous region, the code following the heap.
+     */
+    private void link(byte[] heapData, byte[] codeData, long linkedHeapAddress) {
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(heapData).order(header.endianness().asByteOrder());
+        final ByteBuffer codeBuffer = ByteBuffer.wrap(codeData).order(header.endianness().asByteOrder());
+        final int wordSize = header.wordSize;
+        for (int byteIndex = 0; byteIndex < relocationData.length; byteIndex++) {
+            final int bits = relocationData[byteIndex] & 0xff;
+            if (bits == 0) {
+                continue;
+            }
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                if ((bits & (1 << bitIndex)) != 0) {
+                    int offset = ((byteIndex * 8) + bitIndex) * wordSize;
+                    ByteBuffer buffer = heapBuffer;
+                    if (offset >= heapData.length) {
+                        offset -= heapData.length;
+                        buffer = codeBuffer;
+                    }
+                    if (wordSize == 8) {
+                        final long value = buffer.getLong(offset);
+                        if (value != 0L) {
+                            buffer.putLong(offset, value + linkedHeapAddress);
+                        }
+                    } else {
+                        final int value = buffer.getInt(offset);
+                        if (value != 0) {
+                            buffer.putInt(offset, value + (int) linkedHeapAddress);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private static native void nativeRelocate(long heap, long relocatedHeap, byte[] relocationDataPointer, int relocationDataSize, int isBigEndian, int wordSize);
 
     /**
-     * Relocates the pointers in the heap and code. All the pointers are assumed to be
-     * canonicalized; their current values assume that the heap and code start address 0.
+     * Relocates the pointers in the heap and code. The current values of the pointers assume that
+     * the heap and code start at the {@linkplain Header#linkedHeapAddress() linked address}.
      *
      * @param heap the physical address at which the (contiguous) heap and code reside
      * @param relocatedHeap the logical address to which the heap and code is being relocated
      */
     public void relocate(long heap, Address relocatedHeap) {
-        nativeRelocate(heap, relocatedHeap.toLong(), relocationData, relocationData.length, header.isBigEndian, header.wordSize);
+        final long delta = relocatedHeap.toLong() - header.linkedHeapAddress();
+        if (delta == 0L) {
+            return;
+        }
+        nativeRelocate(heap, delta, relocationData, relocationData.length, header.isBigEndian, header.wordSize);
     }
 }
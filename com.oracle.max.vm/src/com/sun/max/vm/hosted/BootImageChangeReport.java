@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.hosted;
+
+import static com.sun.max.vm.MaxineVM.*;
+import static com.sun.max.vm.VMConfiguration.*;
+
+import java.io.*;
+import java.util.*;
+
+import com.sun.max.program.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.classfile.*;
+import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.compiler.*;
+
+/**
+ * A record of the methods compiled into the previous boot image, used to report what changed between two builds.
+ * <p>
+ * Each compiled method is recorded with a fingerprint of its bytecode, signature and flags, of the constant pool
+ * of its holder and of the class hierarchy above its holder, together with the fingerprints of the methods inlined
+ * into it. The record as a whole is only valid for the VM configuration (schemes and compilers) and VM version it
+ * was written by. As methods are compiled, they are classified as unchanged, changed or new with respect to the
+ * previous build.
+ * <p>
+ * The report does not influence which methods are compiled, and nothing is reused from the previous build, so
+ * the image is the same as that of a clean build and takes as long to build. The machine code itself is not
+ * reused: a target method refers to hubs, actors and other objects of the host VM by identity through its
+ * reference literals and debug info, and these objects are recreated by every run of the generator.
+ */
+public final class BootImageChangeReport {
+
+    /**
+     * Identifies a change report file.
+     */
+    private static final int MAGIC = 0x4d584243;
+
+    /**
+     * The version of the file format. Increment this whenever the format changes.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * A compiled method and the fingerprints it was compiled from.
+     */
+    static final class Entry {
+        final String method;
+        final long fingerprint;
+        final String[] inlined;
+        final long[] inlinedFingerprints;
+
+        Entry(String method, long fingerprint, String[] inlined, long[] inlinedFingerprints) {
+            this.method = method;
+            this.fingerprint = fingerprint;
+            this.inlined = inlined;
+            this.inlinedFingerprints = inlinedFingerprints;
+        }
+    }
+
+    private final File file;
+    private final String configuration;
+
+    /**
+     * The entries of the previous build, or an empty map if there was none or it is stale.
+     */
+    private final HashMap<String, Entry> previous = new HashMap<String, Entry>();
+
+    /**
+     * The entries of this build.
+     */
+    private final LinkedHashMap<String, Entry> current = new LinkedHashMap<String, Entry>();
+
+    private final HashMap<MethodActor, Long> fingerprints = new HashMap<MethodActor, Long>();
+
+    private final HashMap<ConstantPool, Long> poolFingerprints = new HashMap<ConstantPool, Long>();
+
+    private int unchanged;
+    private int changed;
+    private int added;
+
+    /**
+     * Creates a change report backed by a given file and loads the entries of the previous build from it.
+     * This must be called after the VM configuration has been created.
+     */
+    public BootImageChangeReport(File file) {
+        this.file = file;
+        this.configuration = configuration();
+        load();
+    }
+
+    /**
+     * Describes the VM version, schemes and compilers that the compiled code of the boot image depends on.
+     */
+    private static String configuration() {
+        final StringBuilder sb = new StringBuilder(MaxineVM.VERSION_STRING);
+        sb.append(' ').append(vmConfig().buildLevel);
+        for (VMScheme vmScheme : vmConfig().vmSchemes()) {
+            sb.append(' ').append(vmScheme.getClass().getName());
+        }
+        sb.append(' ').append(compilerName(vm().compilationBroker.optimizingCompiler));
+        sb.append(' ').append(compilerName(vm().compilationBroker.baselineCompiler));
+        return sb.toString();
+    }
+
+    private static String compilerName(RuntimeCompiler compiler) {
+        return compiler == null ? "none" : compiler.getClass().getName();
+    }
+
+    static String key(MethodActor methodActor) {
+        return methodActor.holder().typeDescriptor.string + "." + methodActor.name.string + methodActor.descriptor().string;
+    }
+
+    private static long hash(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h = hash(h, s.charAt(i));
+        }
+        return hash(h, 0);
+    }
+
+    private static long hash(long h, int value) {
+        return (h ^ value) * 0x100000001b3L;
+    }
+
+    /**
+     * Computes a fingerprint of everything a compilation of a given method depends on that can change between
+     * two builds, other than the methods it inlines.
+     */
+    synchronized long fingerprint(MethodActor methodActor) {
+        Long result = fingerprints.get(methodActor);
+        if (result == null) {
+            long h = 0xcbf29ce484222325L;
+            for (ClassActor holder = methodActor.holder(); holder != null; holder = holder.superClassActor) {
+                h = hash(h, holder.typeDescriptor.string);
+            }
+            h = hash(h, methodActor.name.string);
+            h = hash(h, methodActor.descriptor().string);
+            h = hash(h, methodActor.flags());
+            if (methodActor instanceof ClassMethodActor) {
+                final CodeAttribute codeAttribute = ((ClassMethodActor) methodActor).codeAttribute();
+                if (codeAttribute != null) {
+                    for (byte b : codeAttribute.code()) {
+                        h = hash(h, b & 0xff);
+                    }
+                    h = hash(h, (int) fingerprint(codeAttribute.cp));
+                    h = hash(h, (int) (fingerprint(codeAttribute.cp) >>> 32));
+                }
+            }
+            result = h;
+            fingerprints.put(methodActor, result);
+        }
+        return result;
+    }
+
+    /**
+     * Computes a fingerprint of the symbolic contents of a constant pool. Member and class references are
+     * hashed by name so that the fingerprint does not depend on whether they have been resolved.
+     */
+    private long fingerprint(ConstantPool pool) {
+        Long result = poolFingerprints.get(pool);
+        if (result == null) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 1; i < pool.numberOfConstants(); i++) {
+                final ConstantPool.Tag tag = pool.tagAt(i);
+                h = hash(h, tag.ordinal());
+                final PoolConstant constant = pool.at(i);
+                if (constant instanceof MemberRefConstant) {
+                    final MemberRefConstant member = (MemberRefConstant) constant;
+                    h = hash(h, member.holder(pool).string);
+                    h = hash(h, member.name(pool).string);
+                    h = hash(h, member.descriptor(pool).string);
+                } else if (!(constant instanceof ObjectConstant)) {
+                    h = hash(h, constant.valueString(pool));
+                }
+            }
+            result = h;
+            poolFingerprints.put(pool, result);
+        }
+        return result;
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(configuration)) {
+                Trace.line(1, "change report " + file + " was written for a different VM configuration, ignoring it");
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String method = in.readUTF();
+                final long fingerprint = in.readLong();
+                final int inlinedCount = in.readInt();
+                final String[] inlined = new String[inlinedCount];
+                final long[] inlinedFingerprints = new long[inlinedCount];
+                for (int j = 0; j < inlinedCount; j++) {
+                    inlined[j] = in.readUTF();
+                    inlinedFingerprints[j] = in.readLong();
+                }
+                previous.put(method, new Entry(method, fingerprint, inlined, inlinedFingerprints));
+            }
+            Trace.line(1, "change report: loaded " + previous.size() + " entries from " + file);
+        } catch (IOException e) {
+            ProgramWarning.message("could not read change report " + file + ": " + e);
+            previous.clear();
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the entries recorded during this build to the report file.
+     */
+    public void save() {
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(configuration);
+            out.writeInt(current.size());
+            for (Entry entry : current.values()) {
+                out.writeUTF(entry.method);
+                out.writeLong(entry.fingerprint);
+                out.writeInt(entry.inlined.length);
+                for (int j = 0; j < entry.inlined.length; j++) {
+                    out.writeUTF(entry.inlined[j]);
+                    out.writeLong(entry.inlinedFingerprints[j]);
+                }
+            }
+        } catch (IOException e) {
+            ProgramWarning.message("could not write change report " + file + ": " + e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the compilation of a method in this build.
+     *
+     * @param methodActor the compiled method
+     * @param inlinedMethods the methods inlined into the compiled code of {@code methodActor}
+     */
+    public synchronized void record(MethodActor methodActor, Set<MethodActor> inlinedMethods) {
+        final TreeMap<String, Long> sorted = new TreeMap<String, Long>();
+        for (MethodActor m : inlinedMethods) {
+            if (m != null && m != methodActor) {
+                sorted.put(key(m), fingerprint(m));
+            }
+        }
+        final String[] inlined = new String[sorted.size()];
+        final long[] inlinedFingerprints = new long[inlined.length];
+        int i = 0;
+        for (Map.Entry<String, Long> e : sorted.entrySet()) {
+            inlined[i] = e.getKey();
+            inlinedFingerprints[i] = e.getValue();
+            i++;
+        }
+        final Entry entry = new Entry(key(methodActor), fingerprint(methodActor), inlined, inlinedFingerprints);
+        current.put(entry.method, entry);
+
+        final Entry old = previous.get(entry.method);
+        if (old == null) {
+            added++;
+        } else if (old.fingerprint == entry.fingerprint && Arrays.equals(old.inlined, inlined) && Arrays.equals(old.inlinedFingerprints, inlinedFingerprints)) {
+            unchanged++;
+        } else {
+            changed++;
+        }
+    }
+
+    /**
+     * Prints a summary of how the methods compiled in this build relate to those of the previous build.
+     */
+    public void printStatistics(PrintStream out) {
+        out.println("change report: " + current.size() + " methods compiled, " + unchanged + " unchanged, " + changed + " changed, " + added + " new, " +
+                    (previous.size() - unchanged - changed) + " no longer compiled");
+    }
+}
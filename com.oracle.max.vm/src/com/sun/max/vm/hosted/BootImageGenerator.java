@@ -62,6 +62,7 @@ public final class BootImageGenerator {
     public static final String IMAGE_FILE_NAME = "maxine.vm";
     public static final String STATS_FILE_NAME = "maxine.stats";
     public static final String DEPS_FILE_NAME = "maxine.deps";
+    public static final String CHANGE_REPORT_FILE_NAME = "maxine.changes";
 
     public static final String DEFAULT_VM_DIRECTORY = Prototype.TARGET_GENERATED_ROOT;
 
@@ -85,6 +86,20 @@ public final class BootImageGenerator {
     private static final Option<String> compilationBrokerClassOption = options.newStringOption("compilationBrokerClass", null,
             "The CompilationBroker subclass to use.");
 
+    private static final Option<Boolean> changeReportOption = options.newBooleanOption("change-report", false,
+            "Record the methods compiled by this build in " + CHANGE_REPORT_FILE_NAME + " and report which of them changed " +
+            "since the previous build. This is only a report: nothing is reused, so the build takes as long as a clean build.");
+
+    private static final Option<String> linkAddressOption = options.newStringOption("link-address", null,
+            "Link the heap and code of the boot image at the given (page aligned) address. If the boot image loader can map " +
+            "them at this address, it does not need to relocate them and the pages of the image file stay shared between VM processes.");
+
+    private static final Option<File> classDataSnapshotOption = options.newFileOption("class-data-snapshot", (File) null,
+            "Build the application class data snapshot recorded by a training run with -XX:DumpClassDataSnapshot into the image.");
+
+    private static final Option<Boolean> phaseTimesOption = options.newBooleanOption("phase-times", false,
+            "Print the time spent in each phase of boot image generation.");
+
     private static final Option<Boolean> debugClassIDOption = options.newBooleanOption("debug-classid", false,
             "Trace array class id creation and prints reserved class id without array class actors.");
 
@@ -197,6 +212,33 @@ public final class BootImageGenerator {
         return new File(vmdir, IMAGE_METHOD_TREE_FILE_NAME);
     }
 
+    /**
+     * The accumulated time spent in each phase of boot image generation, in milliseconds.
+     */
+    private static final LinkedHashMap<String, Long> phaseTimes = new LinkedHashMap<String, Long>();
+
+    /**
+     * Adds the time elapsed since a given start time to the time spent in a given phase.
+     *
+     * @param phase the name of the phase
+     * @param start the time at which the phase (or this part of it) started
+     * @return the current time, for use as the start time of the next phase
+     */
+    static synchronized long recordPhaseTime(String phase, long start) {
+        final long now = System.currentTimeMillis();
+        final Long time = phaseTimes.get(phase);
+        phaseTimes.put(phase, (time == null ? 0L : time) + now - start);
+        return now;
+    }
+
+    private static synchronized void printPhaseTimes(PrintStream out, long totalTimeInMilliseconds) {
+        out.println("Boot image generation phases:");
+        for (Map.Entry<String, Long> entry : phaseTimes.entrySet()) {
+            final long time = entry.getValue();
+            out.println(String.format("    %-20s %9.2f seconds %6.1f%%", entry.getKey(), time / 1000.0f, totalTimeInMilliseconds == 0 ? 0.0f : time * 100.0f / totalTimeInMilliseconds));
+        }
+    }
+
     /**
      * Creates and runs the binary image generator with the specified command line arguments.
      *
@@ -238,15 +280,28 @@ public final class BootImageGenerator {
             vmDirectory.mkdirs();
 
             // Create and installs the VM
+            long phaseStart = System.currentTimeMillis();
             configurator.create();
+            phaseStart = recordPhaseTime("configure", phaseStart);
 
             // Initialize the Java prototype
             JavaPrototype.initialize(prototypeGenerator.threadsOption.getValue(),  checkGeneratedCodeOption.getValue());
+            phaseStart = recordPhaseTime("java prototype", phaseStart);
+
+            if (classDataSnapshotOption.getValue() != null) {
+                ClassDataSnapshot.load(classDataSnapshotOption.getValue());
+                recordPhaseTime("class data snapshot", phaseStart);
+            }
 
             Heap.genInlinedTLAB = inlinedTLABOption.getValue(); // TODO: cleanup. Just for evaluating impact on performance of inlined tlab alloc.
             Heap.useOutOfLineStubs = useOutOfLineStubs.getValue(); // TODO: cleanup.
 
-            DataPrototype dataPrototype = prototypeGenerator.createDataPrototype(treeOption.getValue());
+            final BootImageChangeReport changeReport = changeReportOption.getValue() ? new BootImageChangeReport(new File(vmDirectory, CHANGE_REPORT_FILE_NAME)) : null;
+            DataPrototype dataPrototype = prototypeGenerator.createDataPrototype(treeOption.getValue(), changeReport);
+            if (changeReport != null) {
+                changeReport.save();
+                changeReport.printStatistics(Trace.stream());
+            }
 
             final GraphPrototype graphPrototype = dataPrototype.graphPrototype();
 
@@ -264,9 +319,12 @@ public final class BootImageGenerator {
             // ClassID debugging
             ClassIDManager.validateUsedClassIds();
 
+            phaseStart = System.currentTimeMillis();
             writeJar(new File(vmDirectory, IMAGE_JAR_FILE_NAME));
             writeImage(dataPrototype, new File(vmDirectory, IMAGE_FILE_NAME));
+            phaseStart = recordPhaseTime("write", phaseStart);
             verifyBootClasses();
+            recordPhaseTime("verify", phaseStart);
             if (treeOption.getValue()) {
                 // write the tree file only if specified by the user.
                 writeObjectTree(dataPrototype, graphPrototype, new File(vmDirectory, IMAGE_OBJECT_TREE_FILE_NAME));
@@ -280,6 +338,9 @@ public final class BootImageGenerator {
         } finally {
             final long timeInMilliseconds = System.currentTimeMillis() - start;
             Trace.line(1, "Total time: " + (timeInMilliseconds / 1000.0f) + " seconds");
+            if (phaseTimesOption.getValue()) {
+                printPhaseTimes(Trace.stream(), timeInMilliseconds);
+            }
             System.out.flush();
         }
     }
@@ -362,7 +423,8 @@ public final class BootImageGenerator {
     private void writeImage(DataPrototype dataPrototype, File file) {
         try {
             final FileOutputStream outputStream = new FileOutputStream(file);
-            final BootImage bootImage = new BootImage(dataPrototype);
+            final String linkAddress = linkAddressOption.getValue();
+            final BootImage bootImage = new BootImage(dataPrototype, linkAddress == null ? 0L : Long.decode(linkAddress));
             try {
                 Trace.begin(1, "writing boot image file: " + file);
                 bootImage.write(outputStream);
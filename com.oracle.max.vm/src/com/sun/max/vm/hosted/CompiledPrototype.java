@@ -318,6 +318,10 @@ public class CompiledPrototype extends Prototype {
         checkInliningCorrect(interfaceCalls, null, false, true);
         checkInliningCorrect(inlinedMethods, classMethodActor, true, false);
 
+        if (changeReport != null && classMethodActor != null) {
+            changeReport.record(classMethodActor, inlinedMethods);
+        }
+
         // if this method (or any that it inlines) contains anonymous classes, add them:
         if (classMethodActor != null) {
             inlinedMethods.add(classMethodActor);
@@ -378,6 +382,11 @@ public class CompiledPrototype extends Prototype {
      */
     public HashSet<TargetMethod> invalidatedTargetMethods = new HashSet<TargetMethod>();
 
+    /**
+     * The report recording the methods compiled by this build, or {@code null} if it is not enabled.
+     */
+    private BootImageChangeReport changeReport;
+
     CompiledPrototype(int numberCompilerThreads) {
         assert instance == null;
         instance = this;
@@ -386,6 +395,13 @@ public class CompiledPrototype extends Prototype {
         Trace.line(1, "# compiler threads:" + numberOfCompilerThreads);
     }
 
+    /**
+     * Records all subsequent compilations in a given change report.
+     */
+    void setChangeReport(BootImageChangeReport report) {
+        changeReport = report;
+    }
+
     private boolean isIndirectCall(Relationship relationship) {
         return relationship == Relationship.VIRTUAL_CALL || relationship == Relationship.INTERFACE_CALL;
     }
@@ -59,9 +59,10 @@ public final class PrototypeGenerator {
      * both the {@code CompiledPrototype} and the {@code GraphPrototype} iteratively
      * until it reaches a fixpoint.
      *
+     * @param changeReport the report recording the methods compiled by this build, or {@code null}
      * @return the final graph prototype of the VM
      */
-    public GraphPrototype createGraphPrototype() {
+    public GraphPrototype createGraphPrototype(BootImageChangeReport changeReport) {
         // This initial graph prototype ensures that ClassActors are created for
         // all objects hanging off static fields.
         GraphPrototype graphPrototype = new GraphPrototype(null);
@@ -71,21 +72,30 @@ public final class PrototypeGenerator {
         final CompiledPrototype compiledPrototype = new CompiledPrototype(numberOfCompilationThreads);
         compiledPrototype.addEntrypoints();
         compiledPrototype.addJavaLangObject();
+        if (changeReport != null) {
+            compiledPrototype.setChangeReport(changeReport);
+        }
+        long phaseStart = System.currentTimeMillis();
         do {
             for (MethodActor methodActor : vmConfig().runScheme().gatherNativeInitializationMethods()) {
                 compiledPrototype.add(methodActor, null, null);
             }
             numberOfClassActors = currentNumberOfClasses();
-            if (compiledPrototype.compile()) {
+            final boolean compiledAny = compiledPrototype.compile();
+            phaseStart = BootImageGenerator.recordPhaseTime("compile", phaseStart);
+            if (compiledAny) {
                 graphPrototype = new GraphPrototype(compiledPrototype);
+                phaseStart = BootImageGenerator.recordPhaseTime("graph", phaseStart);
             }
             compiledPrototype.compileFoldableMethods();
+            phaseStart = BootImageGenerator.recordPhaseTime("compile", phaseStart);
         } while (currentNumberOfClasses() != numberOfClassActors);
 
         compiledPrototype.resolveAlias();
         assert compiledPrototype.invalidatedTargetMethods.isEmpty();
 
         compiledPrototype.link();
+        phaseStart = BootImageGenerator.recordPhaseTime("link", phaseStart);
 
         // From now on, no code will be added to the boot regions.
         vmConfig().initializeSchemes(Phase.SERIALIZING_IMAGE);
@@ -93,6 +103,7 @@ public final class PrototypeGenerator {
         graphPrototype = new GraphPrototype(compiledPrototype);
 
         Code.bootCodeRegion().trim();
+        BootImageGenerator.recordPhaseTime("graph", phaseStart);
         return graphPrototype;
     }
 
@@ -101,16 +112,19 @@ public final class PrototypeGenerator {
      * eventually encoding the entire graph prototype into a binary form.
      *
      * @param tree a boolean indicating whether to produce an object tree
+     * @param changeReport the report recording the methods compiled by this build, or {@code null}
      * @return a completed data prototype
      */
-    DataPrototype createDataPrototype(boolean tree) {
+    DataPrototype createDataPrototype(boolean tree, BootImageChangeReport changeReport) {
         if (tree && threadsOption.getValue() != 1) {
             ProgramWarning.message("Overriding value of -" + threadsOption + " with 1 since -tree option is enabled");
             threadsOption.setValue(1);
         }
 
-        final GraphPrototype graphPrototype = createGraphPrototype();
+        final GraphPrototype graphPrototype = createGraphPrototype(changeReport);
+        final long phaseStart = System.currentTimeMillis();
         final DataPrototype dataPrototype = new DataPrototype(graphPrototype, null, threadsOption.getValue());
+        BootImageGenerator.recordPhaseTime("data", phaseStart);
         return dataPrototype;
     }
 
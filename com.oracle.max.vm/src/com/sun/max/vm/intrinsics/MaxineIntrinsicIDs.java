@@ -316,6 +316,88 @@ public class MaxineIntrinsicIDs {
      */
     public static final String CMP_BYTECODE = p + "CMP_BYTECODE";
 
+    /**
+     * Fills a range of array elements with a repeated 64-bit pattern. Byte {@code i} of the range is set to
+     * byte {@code i % 8} of the pattern in little-endian order, i.e. to {@code (byte) (pattern >>> ((i % 8) * 8))}.
+     * <p>
+     * The method definition must have the following form:
+     * <pre>
+     * static void m(Object array, int offset, int count, @INTRINSIC.Constant int log2ElementSize, long pattern);
+     * array: The array containing the range. This must not be null.
+     * offset: The offset in bytes of the first element of the range from the origin of the array.
+     * count: The number of elements in the range. The range must lie within the array.
+     * log2ElementSize: The base-2 logarithm of the size in bytes of an element.
+     *     This parameter must be a compile-time constant.
+     * pattern: The bytes to be stored.
+     * </pre>
+     */
+    public static final String ARRAY_FILL = p + "ARRAY_FILL";
+
+    /**
+     * Compares the same range of elements in two arrays and returns the index of the first element that differs,
+     * or -1 if all elements of the range are bitwise equal. The returned index is relative to the start of the range.
+     * <p>
+     * The method definition must have the following form:
+     * <pre>
+     * static int m(Object a, Object b, int offset, int count, @INTRINSIC.Constant int log2ElementSize);
+     * a, b: The arrays to compare. Neither must be null.
+     * offset: The offset in bytes of the first element of the range from the origin of each array.
+     * count: The number of elements in the range. The range must lie within both arrays.
+     * log2ElementSize: The base-2 logarithm of the size in bytes of an element.
+     *     This parameter must be a compile-time constant.
+     * </pre>
+     */
+    public static final String ARRAY_MISMATCH = p + "ARRAY_MISMATCH";
+
+    /**
+     * Searches a range of a {@code char} array for a given character and returns the index of its first occurrence,
+     * or -1 if the range does not contain it. The returned index is relative to the start of the range.
+     * <p>
+     * The method definition must have the following form:
+     * <pre>
+     * static int m(Object array, int offset, int count, int value);
+     * array: The array to search. This must not be null.
+     * offset: The offset in bytes of the first element of the range from the origin of the array.
+     * count: The number of elements in the range. The range must lie within the array.
+     * value: The character to search for. Only the low 16 bits are significant.
+     * </pre>
+     */
+    public static final String ARRAY_INDEX_OF_CHAR = p + "ARRAY_INDEX_OF_CHAR";
+
+    /**
+     * Copies a range of elements from one array to another. The ranges may overlap, in which case the elements are
+     * copied as if through a temporary array. No write barriers are applied, so a caller copying references must
+     * apply them itself.
+     * <p>
+     * The method definition must have the following form:
+     * <pre>
+     * static void m(Object from, long fromOffset, Object to, long toOffset, int count, @INTRINSIC.Constant int log2ElementSize, boolean disjoint);
+     * from: The source array, or null if fromOffset is an absolute address.
+     * fromOffset: The offset in bytes of the first source element from the origin of the source array.
+     * to: The destination array, or null if toOffset is an absolute address.
+     * toOffset: The offset in bytes of the first destination element from the origin of the destination array.
+     * count: The number of elements to copy. This must not be negative and both ranges must lie within their arrays.
+     * log2ElementSize: The base-2 logarithm of the size in bytes of an element.
+     * disjoint: Specifies if the ranges are known not to overlap. If this is not a constant, the ranges may overlap.
+     * </pre>
+     */
+    public static final String ARRAY_COPY = p + "ARRAY_COPY";
+
+    /**
+     * Updates the CRC-32 of {@link java.util.zip.CRC32} with a range of bytes. As the compiled code uses the PCLMULQDQ
+     * instruction set extension, a method using this intrinsic must ensure that the extension is available.
+     * <p>
+     * The method definition must have the following form:
+     * <pre>
+     * static int m(int crc, byte[] buf, int offset, int count);
+     * crc: The CRC to update.
+     * buf: The array containing the bytes. This must not be null.
+     * offset: The index of the first byte in the array.
+     * count: The number of bytes. This must be a positive multiple of 16 and the range must lie within the array.
+     * </pre>
+     */
+    public static final String CRC32_UPDATE = p + "CRC32_UPDATE";
+
     /**
      * A vehicle for testing snippets.
      * TODO remove when debugged
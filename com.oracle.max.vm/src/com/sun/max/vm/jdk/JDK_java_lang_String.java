@@ -25,7 +25,9 @@ package com.sun.max.vm.jdk;
 import static com.sun.max.vm.intrinsics.MaxineIntrinsicIDs.*;
 
 import com.sun.max.annotate.*;
+import com.sun.max.vm.*;
 import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.layout.*;
 
 /**
  * Method substitutions for {@link java.lang.String java.lang.String}.
@@ -40,6 +42,45 @@ public final class JDK_java_lang_String {
     @INTRINSIC(UNSAFE_CAST)
     private native String thisString();
 
+    @INTRINSIC(UNSAFE_CAST)
+    private static native JDK_java_lang_String asThis(String string);
+
+    @ALIAS(declaringClass = String.class)
+    private char[] value;
+
+    @ALIAS(declaringClass = String.class, optional = true)
+    private int offset;
+
+    /**
+     * Starting with JDK 7 update 6, the String class no longer has the offset field.
+     */
+    @FOLD
+    private static boolean hasOffset() {
+        try {
+            String.class.getDeclaredField("offset");
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the array holding the characters of a given string. The characters of the string
+     * start at index {@link #charsOffset(String)} in this array.
+     */
+    @INLINE
+    public static char[] chars(String string) {
+        return asThis(string).value;
+    }
+
+    /**
+     * Gets the index of the first character of a given string in the array returned by {@link #chars(String)}.
+     */
+    @INLINE
+    public static int charsOffset(String string) {
+        return hasOffset() ? asThis(string).offset : 0;
+    }
+
     /**
      * Intern this string, returning a canonicalized version.
      * @see java.lang.String#intern()
@@ -50,4 +91,61 @@ public final class JDK_java_lang_String {
     public String intern() {
         return SymbolTable.intern(thisString());
     }
+
+    @FOLD
+    private static int charArrayOffset() {
+        return Layout.charArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    /**
+     * Searches for a character sequence in another one, using the {@linkplain Intrinsics#indexOfChar vectorized}
+     * search for occurrences of its first character.
+     * This is the inner loop of {@link String#indexOf(String)} and related methods.
+     */
+    @SUBSTITUTE(optional = true)
+    static int indexOf(char[] source, int sourceOffset, int sourceCount, char[] target, int targetOffset, int targetCount, int fromIndex) {
+        if (fromIndex >= sourceCount) {
+            return targetCount == 0 ? sourceCount : -1;
+        }
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if (targetCount == 0) {
+            return fromIndex;
+        }
+
+        final char first = target[targetOffset];
+        final int max = sourceOffset + (sourceCount - targetCount);
+        // the part of [sourceOffset + fromIndex .. max] that can be scanned without bounds checks
+        final int limit = Math.min(max, source.length - 1);
+        // the largest index whose byte offset can be passed to the intrinsic
+        final int maxScanStart = (Integer.MAX_VALUE - charArrayOffset()) >> 1;
+
+        int i = sourceOffset + fromIndex;
+        while (i <= max) {
+            if (i >= 0 && i <= limit && i <= maxScanStart) {
+                final int n = Intrinsics.indexOfChar(source, charArrayOffset() + (i << 1), limit - i + 1, first);
+                if (n < 0) {
+                    i = limit + 1;
+                    continue;
+                }
+                i += n;
+            } else if (source[i] != first) {
+                // throws the same exception as the original method if i is out of bounds
+                i++;
+                continue;
+            }
+
+            // found the first character, now look at the rest
+            int j = i + 1;
+            final int end = j + targetCount - 1;
+            for (int k = targetOffset + 1; j < end && source[j] == target[k]; j++, k++) {
+            }
+            if (j == end) {
+                return i - sourceOffset;
+            }
+            i++;
+        }
+        return -1;
+    }
 }
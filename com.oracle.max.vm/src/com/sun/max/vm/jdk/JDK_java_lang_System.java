@@ -45,7 +45,9 @@ import com.sun.max.util.*;
 import com.sun.max.vm.*;
 import com.sun.max.vm.MaxineVM.NativeProperty;
 import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.layout.*;
 import com.sun.max.vm.object.*;
+import com.sun.max.vm.reference.*;
 import com.sun.max.vm.runtime.*;
 import com.sun.max.vm.type.*;
 
@@ -124,8 +126,15 @@ public final class JDK_java_lang_System {
         return MaxineVM.native_nanoTime();
     }
 
+    @FOLD
+    private static int log2WordSize() {
+        return Word.widthValue().log2numberOfBytes;
+    }
+
     /**
-     * Performs an array copy in the forward direction.
+     * Copies elements between two arrays of the same kind with the {@linkplain Intrinsics#copyArray array copy intrinsic},
+     * which is specialized for the element size and, if {@code disjoint} is a constant, for the overlap of the ranges.
+     * The caller must have performed all the checks of {@link System#arraycopy}, including the store checks.
      *
      * @param kind the element kind
      * @param fromArray the source array
@@ -133,72 +142,59 @@ public final class JDK_java_lang_System {
      * @param toArray the destination array
      * @param toIndex the start index in the destination array
      * @param length the number of elements to copy
-     * @param toComponentClassActor the class actor representing the component type of the destination array
+     * @param disjoint specifies if the source and destination ranges cannot overlap
      */
-    private static void arrayCopyForward(final Kind kind, Object fromArray, int fromIndex, Object toArray, int toIndex, int length, ClassActor toComponentClassActor) {
+    @INLINE
+    private static void arrayCopy(final Kind kind, Object fromArray, int fromIndex, Object toArray, int toIndex, int length, boolean disjoint) {
         switch (kind.asEnum) {
             case BYTE: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setByte(toArray, toIndex + i, ArrayAccess.getByte(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.byteArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 0, disjoint);
                 break;
             }
             case BOOLEAN: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setBoolean(toArray, toIndex + i, ArrayAccess.getBoolean(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.booleanArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 0, disjoint);
                 break;
             }
             case SHORT: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setShort(toArray, toIndex + i, ArrayAccess.getShort(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.shortArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 1, disjoint);
                 break;
             }
             case CHAR: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setChar(toArray, toIndex + i, ArrayAccess.getChar(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.charArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 1, disjoint);
                 break;
             }
             case INT: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setInt(toArray, toIndex + i, ArrayAccess.getInt(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.intArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 2, disjoint);
                 break;
             }
             case FLOAT: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setFloat(toArray, toIndex + i, ArrayAccess.getFloat(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.floatArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 2, disjoint);
                 break;
             }
             case LONG: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setLong(toArray, toIndex + i, ArrayAccess.getLong(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.longArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 3, disjoint);
                 break;
             }
             case DOUBLE: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setDouble(toArray, toIndex + i, ArrayAccess.getDouble(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.doubleArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, 3, disjoint);
                 break;
             }
             case WORD: {
-                for (int i = 0; i < length; i++) {
-                    ArrayAccess.setWord(toArray, toIndex + i, ArrayAccess.getWord(fromArray, fromIndex + i));
-                }
+                final ArrayLayout layout = Layout.wordArrayLayout();
+                Intrinsics.copyArray(fromArray, layout.getElementOffsetFromOrigin(fromIndex).toLong(), toArray, layout.getElementOffsetFromOrigin(toIndex).toLong(), length, log2WordSize(), disjoint);
                 break;
             }
             case REFERENCE: {
-                for (int i = 0; i < length; i++) {
-                    final Object object = ArrayAccess.getObject(fromArray, fromIndex + i);
-                    if (toComponentClassActor != null && !toComponentClassActor.isNullOrInstance(object)) {
-                        throw new ArrayStoreException();
-                    }
-                    ArrayAccess.setObject(toArray, toIndex + i, object);
-                }
+                final ArrayLayout layout = Layout.referenceArrayLayout();
+                copyReferences(fromArray, layout.getElementOffsetFromOrigin(fromIndex), toArray, layout.getElementOffsetFromOrigin(toIndex), length, disjoint);
                 break;
             }
             default: {
@@ -208,83 +204,57 @@ public final class JDK_java_lang_System {
     }
 
     /**
-     * Performs an array copy in the backward direction.
+     * Copies references between two arrays with the {@linkplain Intrinsics#copyArray array copy intrinsic} and
+     * applies the write barrier to the destination range as a whole. There must be no safepoint between the
+     * copy and the barrier recording it, so both are performed in a scope without safepoint polls.
+     *
+     * @param fromArray the source array
+     * @param fromOffset the offset of the first source element from the origin of {@code fromArray}
+     * @param toArray the destination array
+     * @param toOffset the offset of the first destination element from the origin of {@code toArray}
+     * @param length the number of references to copy
+     * @param disjoint specifies if the source and destination ranges cannot overlap
+     */
+    @INLINE
+    @NO_SAFEPOINT_POLLS("a copy of references must be followed by its write barrier before the next safepoint")
+    private static void copyReferences(Object fromArray, Offset fromOffset, Object toArray, Offset toOffset, int length, boolean disjoint) {
+        Intrinsics.copyArray(fromArray, fromOffset.toLong(), toArray, toOffset.toLong(), length, log2WordSize(), disjoint);
+        vmConfig().heapScheme().postBulkWriteBarrier(Reference.fromJava(toArray), toOffset, Size.fromLong((long) length << log2WordSize()));
+    }
+
+    /**
+     * Performs a copy of references from one array to another, checking that each reference can be stored
+     * in the destination array.
      *
-     * @param kind the element kind
      * @param fromArray the source array
      * @param fromIndex the start index in the source array
      * @param toArray the destination array
      * @param toIndex the start index in the destination array
      * @param length the number of elements to copy
+     * @param toComponentClassActor the class actor representing the component type of the destination array
      */
-    private static void arrayCopyBackward(final Kind kind, Object fromArray, int fromIndex, Object toArray, int toIndex, int length) {
-        switch (kind.asEnum) {
-            case BYTE: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setByte(toArray, toIndex + i, ArrayAccess.getByte(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case BOOLEAN: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setBoolean(toArray, toIndex + i, ArrayAccess.getBoolean(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case SHORT: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setShort(toArray, toIndex + i, ArrayAccess.getShort(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case CHAR: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setChar(toArray, toIndex + i, ArrayAccess.getChar(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case INT: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setInt(toArray, toIndex + i, ArrayAccess.getInt(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case FLOAT: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setFloat(toArray, toIndex + i, ArrayAccess.getFloat(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case LONG: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setLong(toArray, toIndex + i, ArrayAccess.getLong(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case DOUBLE: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setDouble(toArray, toIndex + i, ArrayAccess.getDouble(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case WORD: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setWord(toArray, toIndex + i, ArrayAccess.getWord(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            case REFERENCE: {
-                for (int i = length - 1; i >= 0; i--) {
-                    ArrayAccess.setObject(toArray, toIndex + i, ArrayAccess.getObject(fromArray, fromIndex + i));
-                }
-                break;
-            }
-            default: {
-                throw ProgramError.unknownCase();
+    private static void arrayCopyChecked(Object fromArray, int fromIndex, Object toArray, int toIndex, int length, ClassActor toComponentClassActor) {
+        for (int i = 0; i < length; i++) {
+            final Object object = ArrayAccess.getObject(fromArray, fromIndex + i);
+            if (!toComponentClassActor.isNullOrInstance(object)) {
+                throw new ArrayStoreException();
             }
+            ArrayAccess.setObject(toArray, toIndex + i, object);
         }
     }
 
+    /**
+     * Determines if a range of elements is not within the bounds of an array.
+     *
+     * @param array an array
+     * @param index the start index of the range
+     * @param length the number of elements in the range, which must not be negative
+     */
+    @INLINE
+    private static boolean isOutOfBounds(Object array, int index, int length) {
+        return index < 0 || index > ArrayAccess.readArrayLength(array) - length;
+    }
+
     /**
      * Copies a portion of an array from one array to another (possibly the same) array.
      *
@@ -307,27 +277,20 @@ public final class JDK_java_lang_System {
         }
         final Kind kind = fromArrayClassActor.componentClassActor().kind;
         if (fromArray == toArray) {
-            if (fromIndex < toIndex) {
-                if (fromIndex < 0 || length < 0 || toIndex + length > ArrayAccess.readArrayLength(fromArray)) {
-                    throw new IndexOutOfBoundsException();
-                }
-                arrayCopyBackward(kind, fromArray, fromIndex, fromArray, toIndex, length);
-            } else if (fromIndex != toIndex) {
-                if (toIndex < 0 || length < 0 || fromIndex + length > ArrayAccess.readArrayLength(fromArray)) {
-                    throw new IndexOutOfBoundsException();
-                }
-                arrayCopyForward(kind, fromArray, fromIndex, fromArray, toIndex, length, null);
+            if (length < 0 || isOutOfBounds(fromArray, fromIndex, length) || isOutOfBounds(fromArray, toIndex, length)) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (fromIndex != toIndex) {
+                arrayCopy(kind, fromArray, fromIndex, fromArray, toIndex, length, false);
             }
             return;
         }
         final Hub toHub = ObjectAccess.readHub(toArray);
         if (toHub == fromHub) {
-            if (fromIndex < 0 || toIndex < 0 || length < 0 ||
-                    fromIndex + length > ArrayAccess.readArrayLength(fromArray) ||
-                    toIndex + length > ArrayAccess.readArrayLength(toArray)) {
+            if (length < 0 || isOutOfBounds(fromArray, fromIndex, length) || isOutOfBounds(toArray, toIndex, length)) {
                 throw new IndexOutOfBoundsException();
             }
-            arrayCopyForward(kind, fromArray, fromIndex, toArray, toIndex, length, null);
+            arrayCopy(kind, fromArray, fromIndex, toArray, toIndex, length, true);
         } else {
             final ClassActor toArrayClassActor = toHub.classActor;
             if (!toArrayClassActor.isArrayClass()) {
@@ -337,12 +300,15 @@ public final class JDK_java_lang_System {
             if (kind != Kind.REFERENCE || toComponentClassActor.kind != Kind.REFERENCE) {
                 throw new ArrayStoreException();
             }
-            if (fromIndex < 0 || toIndex < 0 || length < 0 ||
-                    fromIndex + length > ArrayAccess.readArrayLength(fromArray) ||
-                    toIndex + length > ArrayAccess.readArrayLength(toArray)) {
+            if (length < 0 || isOutOfBounds(fromArray, fromIndex, length) || isOutOfBounds(toArray, toIndex, length)) {
                 throw new IndexOutOfBoundsException();
             }
-            arrayCopyForward(kind, fromArray, fromIndex, toArray, toIndex, length, toComponentClassActor);
+            if (toComponentClassActor.isAssignableFrom(fromArrayClassActor.componentClassActor())) {
+                // every element of the source array can be stored in the destination array
+                arrayCopy(Kind.REFERENCE, fromArray, fromIndex, toArray, toIndex, length, true);
+            } else {
+                arrayCopyChecked(fromArray, fromIndex, toArray, toIndex, length, toComponentClassActor);
+            }
         }
     }
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.jdk;
+
+import java.util.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.layout.*;
+
+/**
+ * Method substitutions for {@link java.util.Arrays} that replace the element-by-element loops of
+ * {@code fill} and {@code equals} with the {@linkplain Intrinsics#fillArray vectorized} {@linkplain Intrinsics#mismatchArrays intrinsics}.
+ * <p>
+ * {@code equals} is not substituted for {@code float[]} and {@code double[]} as it compares elements after
+ * canonicalizing NaN values, which a bitwise comparison does not do.
+ */
+@METHOD_SUBSTITUTIONS(Arrays.class)
+final class JDK_java_util_Arrays {
+
+    private JDK_java_util_Arrays() {
+    }
+
+    @FOLD
+    private static int byteArrayOffset() {
+        return Layout.byteArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int shortArrayOffset() {
+        return Layout.shortArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int charArrayOffset() {
+        return Layout.charArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int intArrayOffset() {
+        return Layout.intArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int floatArrayOffset() {
+        return Layout.floatArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int longArrayOffset() {
+        return Layout.longArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    @FOLD
+    private static int doubleArrayOffset() {
+        return Layout.doubleArrayLayout().getElementOffsetFromOrigin(0).toInt();
+    }
+
+    /**
+     * Replicates the low 8 bits of a value into all bytes of a 64-bit pattern.
+     */
+    private static long replicate8(long value) {
+        return (value & 0xFFL) * 0x0101010101010101L;
+    }
+
+    /**
+     * Replicates the low 16 bits of a value into all 16-bit halves of a 64-bit pattern.
+     */
+    private static long replicate16(long value) {
+        return (value & 0xFFFFL) * 0x0001000100010001L;
+    }
+
+    /**
+     * Replicates the low 32 bits of a value into both halves of a 64-bit pattern.
+     */
+    private static long replicate32(long value) {
+        return (value & 0xFFFFFFFFL) * 0x0000000100000001L;
+    }
+
+    @SUBSTITUTE
+    public static void fill(byte[] a, byte val) {
+        Intrinsics.fillArray(a, byteArrayOffset(), a.length, 0, replicate8(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(short[] a, short val) {
+        Intrinsics.fillArray(a, shortArrayOffset(), a.length, 1, replicate16(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(char[] a, char val) {
+        Intrinsics.fillArray(a, charArrayOffset(), a.length, 1, replicate16(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(int[] a, int val) {
+        Intrinsics.fillArray(a, intArrayOffset(), a.length, 2, replicate32(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(float[] a, float val) {
+        Intrinsics.fillArray(a, floatArrayOffset(), a.length, 2, replicate32(Float.floatToRawIntBits(val)));
+    }
+
+    @SUBSTITUTE
+    public static void fill(long[] a, long val) {
+        Intrinsics.fillArray(a, longArrayOffset(), a.length, 3, val);
+    }
+
+    @SUBSTITUTE
+    public static void fill(double[] a, double val) {
+        Intrinsics.fillArray(a, doubleArrayOffset(), a.length, 3, Double.doubleToRawLongBits(val));
+    }
+
+    /**
+     * Checks that {@code fromIndex} and {@code toIndex} are in range, as done by the private {@code Arrays.rangeCheck}.
+     */
+    private static void rangeCheck(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    @SUBSTITUTE
+    public static void fill(byte[] a, int fromIndex, int toIndex, byte val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, byteArrayOffset() + fromIndex, toIndex - fromIndex, 0, replicate8(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(short[] a, int fromIndex, int toIndex, short val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, shortArrayOffset() + (fromIndex << 1), toIndex - fromIndex, 1, replicate16(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(char[] a, int fromIndex, int toIndex, char val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, charArrayOffset() + (fromIndex << 1), toIndex - fromIndex, 1, replicate16(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(int[] a, int fromIndex, int toIndex, int val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, intArrayOffset() + (fromIndex << 2), toIndex - fromIndex, 2, replicate32(val));
+    }
+
+    @SUBSTITUTE
+    public static void fill(float[] a, int fromIndex, int toIndex, float val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, floatArrayOffset() + (fromIndex << 2), toIndex - fromIndex, 2, replicate32(Float.floatToRawIntBits(val)));
+    }
+
+    @SUBSTITUTE
+    public static void fill(long[] a, int fromIndex, int toIndex, long val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, longArrayOffset() + (fromIndex << 3), toIndex - fromIndex, 3, val);
+    }
+
+    @SUBSTITUTE
+    public static void fill(double[] a, int fromIndex, int toIndex, double val) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Intrinsics.fillArray(a, doubleArrayOffset() + (fromIndex << 3), toIndex - fromIndex, 3, Double.doubleToRawLongBits(val));
+    }
+
+    @SUBSTITUTE
+    public static boolean equals(byte[] a, byte[] a2) {
+        if (a == a2) {
+            return true;
+        }
+        if (a == null || a2 == null || a.length != a2.length) {
+            return false;
+        }
+        return Intrinsics.mismatchArrays(a, a2, byteArrayOffset(), a.length, 0) < 0;
+    }
+
+    @SUBSTITUTE
+    public static boolean equals(short[] a, short[] a2) {
+        if (a == a2) {
+            return true;
+        }
+        if (a == null || a2 == null || a.length != a2.length) {
+            return false;
+        }
+        return Intrinsics.mismatchArrays(a, a2, shortArrayOffset(), a.length, 1) < 0;
+    }
+
+    @SUBSTITUTE
+    public static boolean equals(char[] a, char[] a2) {
+        if (a == a2) {
+            return true;
+        }
+        if (a == null || a2 == null || a.length != a2.length) {
+            return false;
+        }
+        return Intrinsics.mismatchArrays(a, a2, charArrayOffset(), a.length, 1) < 0;
+    }
+
+    @SUBSTITUTE
+    public static boolean equals(int[] a, int[] a2) {
+        if (a == a2) {
+            return true;
+        }
+        if (a == null || a2 == null || a.length != a2.length) {
+            return false;
+        }
+        return Intrinsics.mismatchArrays(a, a2, intArrayOffset(), a.length, 2) < 0;
+    }
+
+    @SUBSTITUTE
+    public static boolean equals(long[] a, long[] a2) {
+        if (a == a2) {
+            return true;
+        }
+        if (a == null || a2 == null || a.length != a2.length) {
+            return false;
+        }
+        return Intrinsics.mismatchArrays(a, a2, longArrayOffset(), a.length, 3) < 0;
+    }
+}
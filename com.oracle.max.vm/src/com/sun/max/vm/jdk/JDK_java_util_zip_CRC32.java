@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.jdk;
+
+import static com.sun.max.platform.Platform.*;
+import static com.sun.max.vm.intrinsics.MaxineIntrinsicIDs.*;
+
+import java.util.zip.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.lang.*;
+import com.sun.max.vm.intrinsics.*;
+import com.sun.max.vm.runtime.amd64.*;
+
+/**
+ * Method substitutions for {@link java.util.zip.CRC32} that update the checksum of large arrays with carry-less
+ * multiplication if the processor supports it. Other updates are done by the native implementation of the JDK.
+ */
+@METHOD_SUBSTITUTIONS(CRC32.class)
+final class JDK_java_util_zip_CRC32 {
+
+    /**
+     * The minimum number of bytes for which the {@linkplain #updateCRC32 intrinsic} pays off.
+     */
+    private static final int CLMUL_THRESHOLD = 64;
+
+    private JDK_java_util_zip_CRC32() {
+    }
+
+    @ALIAS(declaringClass = CRC32.class)
+    private int crc;
+
+    @ALIAS(declaringClass = CRC32.class)
+    private static native int updateBytes(int crc, byte[] b, int off, int len);
+
+    @INTRINSIC(UNSAFE_CAST)
+    private static native JDK_java_util_zip_CRC32 asThis(Object crc32);
+
+    /**
+     * Code that is not compiled by C1X calls the native implementation instead.
+     *
+     * @see MaxineIntrinsicIDs#CRC32_UPDATE
+     */
+    @INTRINSIC(CRC32_UPDATE)
+    private static int updateCRC32(int crc, byte[] buf, int offset, int count) {
+        return updateBytes(crc, buf, offset, count);
+    }
+
+    private static int update(int crc, byte[] b, int off, int len) {
+        if (len >= CLMUL_THRESHOLD && platform().isa == ISA.AMD64 && AMD64CPUFeatures.useCLMUL()) {
+            final int n = len & ~15;
+            crc = updateCRC32(crc, b, off, n);
+            if (n == len) {
+                return crc;
+            }
+            off += n;
+            len -= n;
+        }
+        return updateBytes(crc, b, off, len);
+    }
+
+    @SUBSTITUTE
+    public void update(byte[] b, int off, int len) {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        final JDK_java_util_zip_CRC32 thisCRC32 = asThis(this);
+        thisCRC32.crc = update(thisCRC32.crc, b, off, len);
+    }
+
+    @SUBSTITUTE
+    public void update(byte[] b) {
+        final JDK_java_util_zip_CRC32 thisCRC32 = asThis(this);
+        thisCRC32.crc = update(thisCRC32.crc, b, 0, b.length);
+    }
+}
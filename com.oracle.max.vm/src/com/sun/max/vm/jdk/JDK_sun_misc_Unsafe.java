@@ -35,6 +35,7 @@ import com.oracle.max.cri.intrinsics.*;
 import com.sun.max.annotate.*;
 import com.sun.max.memory.*;
 import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
 import com.sun.max.vm.classfile.*;
@@ -556,6 +557,29 @@ final class JDK_sun_misc_Unsafe {
         Memory.setBytes(Pointer.fromLong(address), Size.fromLong(bytes), value);
     }
 
+    /**
+     * The maximum number of bytes copied by a single {@linkplain Intrinsics#copyArray array copy}, which has no
+     * safepoint poll. A large copy polls between chunks, which bounds the time to reach a safepoint.
+     */
+    private static final int COPY_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Copies bytes in chunks of at most {@link #COPY_CHUNK_SIZE} bytes.
+     *
+     * @see Memory#copyBytes(Object, long, Object, long, long, int)
+     * @param srcBase the source object, or null if {@code srcOffset} is an absolute address
+     * @param srcOffset the offset of the source range from the origin of {@code srcBase}
+     * @param destBase the destination object, or null if {@code destOffset} is an absolute address
+     * @param destOffset the offset of the destination range from the origin of {@code destBase}
+     * @param bytes the number of bytes to copy
+     */
+    private static void copyBytes(Object srcBase, long srcOffset, Object destBase, long destOffset, long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException();
+        }
+        Memory.copyBytes(srcBase, srcOffset, destBase, destOffset, bytes, COPY_CHUNK_SIZE);
+    }
+
     /**
      * Copies a range memory to another range of memory.
      * @see Unsafe#copyMemory(long, long, long)
@@ -565,7 +589,7 @@ final class JDK_sun_misc_Unsafe {
      */
     @SUBSTITUTE
     public void copyMemory(long srcAddress, long destAddress, long bytes) {
-        Memory.copyBytes(Pointer.fromLong(srcAddress), Pointer.fromLong(destAddress), Size.fromLong(bytes));
+        copyBytes(null, srcAddress, null, destAddress, bytes);
     }
 
     /**
@@ -589,29 +613,7 @@ final class JDK_sun_misc_Unsafe {
     public void copyMemory(Object srcBase, long srcOffset,
                            Object destBase, long destOffset,
                            long bytes) {
-        Pointer srcB;
-        Offset srcO;
-        Pointer destB;
-        Offset destO;
-        if (srcBase == null) {
-            srcB = Pointer.fromLong(srcOffset);
-            srcO = Offset.zero();
-        } else {
-            srcB = Reference.fromJava(srcBase).toOrigin();
-            srcO = Offset.fromLong(srcOffset);
-        }
-        if (destBase == null) {
-            destB = Pointer.fromLong(destOffset);
-            destO = Offset.zero();
-        } else {
-            destB = Reference.fromJava(destBase).toOrigin();
-            destO = Offset.fromLong(destOffset);
-        }
-        if (srcO.isZero() && destO.isZero()) {
-            Memory.copyBytes(srcB, destB, Size.fromLong(bytes));
-        } else {
-            Memory.copyBytes(srcB, srcO, destB, destO, Size.fromLong(bytes));
-        }
+        copyBytes(srcBase, srcOffset, destBase, destOffset, bytes);
     }
 
     /**
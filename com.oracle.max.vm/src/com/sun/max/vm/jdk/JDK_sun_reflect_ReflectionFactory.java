@@ -24,6 +24,7 @@ package com.sun.max.vm.jdk;
 
 import static com.sun.max.vm.intrinsics.MaxineIntrinsicIDs.*;
 import static com.sun.max.vm.reflection.InvocationStub.*;
+import static com.sun.max.vm.type.ClassRegistry.Property.*;
 
 import java.lang.reflect.*;
 import java.util.*;
@@ -35,6 +36,7 @@ import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
 import com.sun.max.vm.reflection.*;
+import com.sun.max.vm.type.*;
 
 /**
  * Method substitutions for {@link sun.reflect.ReflectionFactory} that implement
@@ -107,7 +109,12 @@ public final class JDK_sun_reflect_ReflectionFactory {
     public MethodAccessor newMethodAccessor(Method method) {
         MethodAccessor result = prePopulatedMethodStubs.get(MethodActor.fromJava(method));
         if (result == null) {
-            result = newMethodStub(method, Boxing.JAVA);
+            final MethodActor methodActor = MethodActor.fromJava(method);
+            final ClassRegistry classRegistry = methodActor.holder().classRegistry();
+            result = classRegistry.get(REFLECTION_ACCESSOR, methodActor);
+            if (result == null) {
+                result = classRegistry.setIfAbsent(REFLECTION_ACCESSOR, methodActor, newMethodStub(method, Boxing.JAVA, true));
+            }
         }
         return result;
     }
@@ -137,7 +144,12 @@ public final class JDK_sun_reflect_ReflectionFactory {
                     }
                 };
             }
-            result = newConstructorStub(constructor, null, Boxing.JAVA);
+            final MethodActor methodActor = MethodActor.fromJavaConstructor(constructor);
+            final ClassRegistry classRegistry = methodActor.holder().classRegistry();
+            result = classRegistry.get(REFLECTION_ACCESSOR, methodActor);
+            if (result == null) {
+                result = classRegistry.setIfAbsent(REFLECTION_ACCESSOR, methodActor, newConstructorStub(constructor, null, Boxing.JAVA, true));
+            }
         }
         return result;
     }
@@ -362,7 +362,7 @@ public final class JmmFunctions {
         }
 
         try {
-            return 0;
+            return RuntimeManagement.getLongAttribute(att);
         } catch (Throwable t) {
             VmThread.fromJniEnv(env).setJniException(t);
             return JNI_ERR;
@@ -113,7 +113,7 @@ public final class JmmFunctionsSource {
 
     @VM_ENTRY_POINT
     private static long GetLongAttribute(Pointer env, JniHandle obj, int att) {
-        return 0;
+        return RuntimeManagement.getLongAttribute(att);
     }
 
     @VM_ENTRY_POINT
@@ -1708,9 +1708,14 @@ public final class JniFunctionsSource {
 
     @VM_ENTRY_POINT
     private static Pointer GetStringCritical(Pointer env, JniHandle string, Pointer isCopy) {
-        // TODO(cwi): Implement optimized version for OptimizeJNICritical if a benchmark uses it frequently
+        final String s = (String) string.unhand();
+        final char[] chars = JDK_java_lang_String.chars(s);
+        if (Heap.useDirectPointer(chars)) {
+            setCopyPointer(isCopy, false);
+            return Reference.fromJava(chars).toOrigin().plus(Layout.charArrayLayout().getElementOffsetFromOrigin(JDK_java_lang_String.charsOffset(s)));
+        }
         setCopyPointer(isCopy, true);
-        return copyString((String) string.unhand());
+        return copyString(s);
     }
 
     private static Pointer copyString(String string) {
@@ -1723,6 +1728,9 @@ public final class JniFunctionsSource {
 
     @VM_ENTRY_POINT
     private static void ReleaseStringCritical(Pointer env, JniHandle string, Pointer chars) {
+        if (Heap.releasedDirectPointer(JDK_java_lang_String.chars((String) string.unhand()))) {
+            return;
+        }
         Memory.deallocate(chars);
     }
 
@@ -26,8 +26,11 @@ import java.lang.ref.*;
 
 import com.sun.cri.ci.*;
 import com.sun.max.annotate.*;
+import com.sun.max.atomic.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.*;
+import com.sun.max.vm.layout.*;
+import com.sun.max.vm.reference.Reference;
 import com.sun.max.vm.runtime.*;
 import com.sun.max.vm.thread.*;
 import com.sun.max.vm.type.*;
@@ -76,6 +79,9 @@ import com.sun.max.vm.type.*;
  *
  * Given the above trade offs between 1 and 2 (and the current non-existence of 3!), we
  * have decided to go with choice 2 until it proves too complex and/or inefficient.
+ *
+ * The global and weak global pools are {@linkplain SharedHandles shared} by all threads and
+ * are allocated from and freed to without taking a lock.
  */
 public final class JniHandles {
 
@@ -100,8 +106,108 @@ public final class JniHandles {
 
     public static final int INITIAL_NUMBER_OF_HANDLES = 32;
 
-    private static final JniHandles globalHandles = new JniHandles();
-    private static final JniHandles weakGlobalHandles = new JniHandles();
+    /**
+     * A pool of handles shared by all threads. The handles live in fixed size chunks that are never
+     * moved once published so that they can be read without synchronization. New handles are bumped
+     * off {@link #top} and freed handles are kept on a stack whose head is {@linkplain #freeList stamped}
+     * to avoid the ABA problem.
+     */
+    static final class SharedHandles {
+
+        static final int CHUNK_BITS = 10;
+        static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+        static final int CHUNK_MASK = CHUNK_SIZE - 1;
+        static final int MAX_CHUNKS = 1 << 13;
+
+        static final class Chunk {
+            final Object[] handles = new Object[CHUNK_SIZE];
+
+            /**
+             * Links the freed handles: {@code next[i]} is 1 + the index of the handle freed
+             * before handle {@code i} or 0 if there is none.
+             */
+            final int[] next = new int[CHUNK_SIZE];
+        }
+
+        private final Chunk[] chunks = new Chunk[MAX_CHUNKS];
+
+        /**
+         * The index of the next handle never allocated.
+         */
+        private final AtomicInteger top = new AtomicInteger();
+
+        /**
+         * The head of the free list. The low 32 bits are 1 + the index of the most recently freed handle
+         * (or 0 if the list is empty) and the high 32 bits are a count of the updates to the list.
+         */
+        private final AtomicWord freeList = new AtomicWord(Address.zero());
+
+        @INLINE
+        Object get(int index) {
+            return chunks[index >> CHUNK_BITS].handles[index & CHUNK_MASK];
+        }
+
+        private Chunk chunk(int chunkIndex) {
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk == null) {
+                final Chunk newChunk = new Chunk();
+                if (MaxineVM.isHosted()) {
+                    synchronized (this) {
+                        if (chunks[chunkIndex] == null) {
+                            chunks[chunkIndex] = newChunk;
+                        }
+                    }
+                } else {
+                    final Offset offset = Layout.referenceArrayLayout().getElementOffsetFromOrigin(chunkIndex);
+                    Reference.fromJava(chunks).compareAndSwapReference(offset, null, Reference.fromJava(newChunk));
+                }
+                chunk = chunks[chunkIndex];
+            }
+            return chunk;
+        }
+
+        int allocate(Object object) {
+            assert object != null;
+            while (true) {
+                final long head = freeList.get().asAddress().toLong();
+                final int link = (int) head;
+                if (link == 0) {
+                    break;
+                }
+                final int index = link - 1;
+                final Chunk chunk = chunks[index >> CHUNK_BITS];
+                final long newHead = (((head >>> 32) + 1) << 32) | (chunk.next[index & CHUNK_MASK] & 0xFFFFFFFFL);
+                if (freeList.compareAndSet(Address.fromLong(head), Address.fromLong(newHead))) {
+                    chunk.handles[index & CHUNK_MASK] = object;
+                    return index;
+                }
+            }
+
+            final int index = top.getAndAdd(1);
+            if (index >= MAX_CHUNKS * CHUNK_SIZE) {
+                top.getAndAdd(-1);
+                throw new OutOfMemoryError("JNI global handles exhausted");
+            }
+            chunk(index >> CHUNK_BITS).handles[index & CHUNK_MASK] = object;
+            return index;
+        }
+
+        void free(int index) {
+            final Chunk chunk = chunks[index >> CHUNK_BITS];
+            chunk.handles[index & CHUNK_MASK] = null;
+            while (true) {
+                final long head = freeList.get().asAddress().toLong();
+                chunk.next[index & CHUNK_MASK] = (int) head;
+                final long newHead = (((head >>> 32) + 1) << 32) | (index + 1);
+                if (freeList.compareAndSet(Address.fromLong(head), Address.fromLong(newHead))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final SharedHandles globalHandles = new SharedHandles();
+    private static final SharedHandles weakGlobalHandles = new SharedHandles();
 
     /**
      * The objects exposed to native code via handles.
@@ -341,18 +447,14 @@ public final class JniHandles {
         if (object == null) {
             return JniHandle.zero();
         }
-        synchronized (globalHandles) {
-            return globalHandles.allocateHandle(object, Tag.GLOBAL);
-        }
+        return indexToJniHandle(globalHandles.allocate(object), Tag.GLOBAL);
     }
 
     public static JniHandle createWeakGlobalHandle(Object object) {
         if (object == null) {
             return JniHandle.zero();
         }
-        synchronized (weakGlobalHandles) {
-            return weakGlobalHandles.allocateHandle(new WeakReference<Object>(object), Tag.WEAK_GLOBAL);
-        }
+        return indexToJniHandle(weakGlobalHandles.allocate(new WeakReference<Object>(object)), Tag.WEAK_GLOBAL);
     }
 
     public static void destroyLocalHandle(JniHandle jniHandle) {
@@ -375,18 +477,14 @@ public final class JniHandles {
     public static void destroyGlobalHandle(JniHandle jniHandle) {
         if (!jniHandle.isZero()) {
             assert tag(jniHandle) == Tag.GLOBAL;
-            synchronized (globalHandles) {
-                globalHandles.freeHandle(jniHandleToIndex(jniHandle));
-            }
+            globalHandles.free(jniHandleToIndex(jniHandle));
         }
     }
 
     public static void destroyWeakGlobalHandle(JniHandle jniHandle) {
         if (!jniHandle.isZero()) {
             assert tag(jniHandle) == Tag.WEAK_GLOBAL;
-            synchronized (weakGlobalHandles) {
-                weakGlobalHandles.freeHandle(jniHandleToIndex(jniHandle));
-            }
+            weakGlobalHandles.free(jniHandleToIndex(jniHandle));
         }
     }
 
@@ -44,6 +44,7 @@ import com.sun.max.vm.jni.JniFunctionsGenerator.Customizer;
 import com.sun.max.vm.jni.JniFunctionsGenerator.JniCustomizer;
 import com.sun.max.vm.runtime.*;
 import com.sun.max.vm.ti.*;
+import com.sun.max.vm.type.*;
 
 /**
  * This class encapsulates the Java side of the native interfaces such as JNI, JVMTI and JMM supported by the VM.
@@ -57,6 +58,85 @@ public final class NativeInterfaces {
         return VMTI.handler().nativeCallNeedsPrologueAndEpilogue(ma) && ma != Snippets.blockOnThreadLockMethod();
     }
 
+    /**
+     * The native methods known to be <i>leaves</i>. A leaf takes and returns only primitive values, never blocks and
+     * never calls back into the VM through the JNI function table (so it cannot create local references or raise
+     * exceptions). An entry is either a fully qualified method name or a class name followed by {@code ".*"}.
+     */
+    private static final String[] LEAF_NATIVES = {
+        "java.lang.StrictMath.*",
+        "java.lang.Float.floatToRawIntBits",
+        "java.lang.Float.intBitsToFloat",
+        "java.lang.Double.doubleToRawLongBits",
+        "java.lang.Double.longBitsToDouble",
+        "java.util.zip.CRC32.update",
+        "java.util.zip.Adler32.update",
+        "sun.nio.ch.IOUtil.iovMax",
+        "sun.nio.ch.Net.isIPv6Available0"
+    };
+
+    /**
+     * Additional leaf natives, in the format of {@link #LEAF_NATIVES}. Only applies to stubs generated at runtime.
+     */
+    public static String LeafNatives;
+
+    /**
+     * Determines if the stub for a leaf native skips the mutator state transition and the Java frame anchor.
+     * The calling thread then stays in Java state for the duration of the call, so a safepoint or GC request
+     * waits for the native to return.
+     */
+    public static boolean ElideLeafNativeTransitions;
+
+    static {
+        addFieldOption("-XX:", "LeafNatives", NativeInterfaces.class,
+            "Comma separated list of additional leaf natives (e.g. 'pkg.Class.method' or 'pkg.Class.*').");
+        addFieldOption("-XX:", "ElideLeafNativeTransitions", NativeInterfaces.class,
+            "Do not transition to native state nor record a Java frame anchor when calling a leaf native.");
+    }
+
+    /**
+     * Determines if a given native method is a leaf for which a {@linkplain NativeStubGenerator stub} without
+     * a JNI handle frame, tracing or pending exception check can be used.
+     */
+    public static boolean isLeafNative(ClassMethodActor ma) {
+        if (!ma.isStatic() || ma.isCFunction()) {
+            return false;
+        }
+        final SignatureDescriptor sig = ma.descriptor();
+        if (sig.resultKind().isReference) {
+            return false;
+        }
+        for (int i = 0; i < sig.numberOfParameters(); i++) {
+            if (sig.parameterDescriptorAt(i).toKind().isReference) {
+                return false;
+            }
+        }
+        final String holder = ma.holder().name.toString();
+        final String name = ma.name.toString();
+        for (String leaf : LEAF_NATIVES) {
+            if (matchesLeaf(leaf, holder, name)) {
+                return true;
+            }
+        }
+        if (LeafNatives != null) {
+            for (String leaf : LeafNatives.split(",")) {
+                if (matchesLeaf(leaf.trim(), holder, name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesLeaf(String leaf, String holder, String name) {
+        final int dot = leaf.lastIndexOf('.');
+        if (dot != holder.length() || !leaf.startsWith(holder)) {
+            return false;
+        }
+        final String method = leaf.substring(dot + 1);
+        return method.equals("*") || method.equals(name);
+    }
+
     private NativeInterfaces() {
     }
 
@@ -63,6 +63,8 @@ import com.sun.max.vm.jni.JniFunctions.JxxFunctionsLogger;
  *   <li>Return the result to the caller.</li>
  * </ol>
  * <p>
+ * The stub for a {@linkplain NativeInterfaces#isLeafNative(ClassMethodActor) leaf native} only performs steps 2 to 7
+ * and 11. Steps 5 and 7 are also omitted if {@link NativeInterfaces#ElideLeafNativeTransitions} is set.
  */
 public final class NativeStubGenerator extends BytecodeAssembler {
 
@@ -70,11 +72,13 @@ public final class NativeStubGenerator extends BytecodeAssembler {
         super(constantPoolEditor);
         this.classMethodActor = classMethodActor;
         allocateParameters(classMethodActor.isStatic(), classMethodActor.descriptor());
+        isLeaf = NativeInterfaces.isLeafNative(classMethodActor);
         generateCode(classMethodActor.isCFunction(), classMethodActor.isStatic(), classMethodActor.holder(), classMethodActor.descriptor());
     }
 
     private final SeekableByteArrayOutputStream codeStream = new SeekableByteArrayOutputStream();
     private final ClassMethodActor classMethodActor;
+    private final boolean isLeaf;
 
     @Override
     public void writeByte(byte b) {
@@ -126,6 +130,7 @@ public final class NativeStubGenerator extends BytecodeAssembler {
     private static final ClassMethodRefConstant nativeCallPrologueForC = createClassMethodConstant(Snippets.class, makeSymbol("nativeCallPrologueForC"), NativeFunction.class);
     private static final ClassMethodRefConstant nativeCallEpilogue = createClassMethodConstant(Snippets.class, makeSymbol("nativeCallEpilogue"));
     private static final ClassMethodRefConstant nativeCallEpilogueForC = createClassMethodConstant(Snippets.class, makeSymbol("nativeCallEpilogueForC"));
+    private static final FieldRefConstant elideLeafNativeTransitions = createFieldConstant(NativeInterfaces.class, makeSymbol("ElideLeafNativeTransitions"));
 
     private static final ClassMethodRefConstant writeObject = createClassMethodConstant(Pointer.class, makeSymbol("writeObject"), int.class, Object.class);
 
@@ -202,19 +207,21 @@ public final class NativeStubGenerator extends BytecodeAssembler {
         if (!isCFunction) {
             handles = initializeHandles(sig, isStatic);
 
-            // Cache current thread in a local variable
-            invokestatic(NativeStubGenerator.currentThread, 0, 1);
-            currentThread = allocateLocal(Kind.REFERENCE);
-            astore(currentThread);
+            if (!isLeaf) {
+                // Cache current thread in a local variable
+                invokestatic(NativeStubGenerator.currentThread, 0, 1);
+                currentThread = allocateLocal(Kind.REFERENCE);
+                astore(currentThread);
 
-            methodIDAsInt = MethodID.fromMethodActor(classMethodActor).asAddress().toInt();
-            logJniEntry();
+                methodIDAsInt = MethodID.fromMethodActor(classMethodActor).asAddress().toInt();
+                logJniEntry();
 
-            // Save current JNI frame.
-            top = allocateLocal(Kind.INT);
-            aload(currentThread);
-            invokevirtual(handlesTop, 1, 1);
-            istore(top);
+                // Save current JNI frame.
+                top = allocateLocal(Kind.INT);
+                aload(currentThread);
+                invokevirtual(handlesTop, 1, 1);
+                istore(top);
+            }
 
             // Push the JNI environment variable
             invokestatic(jniEnv, 0, 1);
@@ -294,19 +301,28 @@ public final class NativeStubGenerator extends BytecodeAssembler {
         ldc(nf);
         invokevirtual(link, 1, 1);
 
-        if (NativeInterfaces.needsPrologueAndEpilogue(classMethodActor)) {
+        final boolean needsPrologueAndEpilogue = NativeInterfaces.needsPrologueAndEpilogue(classMethodActor);
+        if (needsPrologueAndEpilogue) {
+            final Label noPrologue = skipIfElidingTransition();
             ldc(nf);
             invokestatic(!isCFunction ? nativeCallPrologue : nativeCallPrologueForC, 1, 0);
+            if (noPrologue != null) {
+                noPrologue.bind();
+            }
         }
 
         // Invoke the native function
         callnative(SignatureDescriptor.create(nativeFunctionDescriptor.append(')').append(nativeResultDescriptor).toString()), nativeFunctionArgSlots, nativeResultDescriptor.toKind().stackSlots);
 
-        if (NativeInterfaces.needsPrologueAndEpilogue(classMethodActor)) {
+        if (needsPrologueAndEpilogue) {
+            final Label noEpilogue = skipIfElidingTransition();
             invokestatic(!isCFunction ? nativeCallEpilogue : nativeCallEpilogueForC, 0, 0);
+            if (noEpilogue != null) {
+                noEpilogue.bind();
+            }
         }
 
-        if (!isCFunction) {
+        if (!isCFunction && !isLeaf) {
             // Unwrap a reference result from its enclosing JNI handle. This must be done
             // *before* the JNI frame is restored.
             if (resultKind.isReference) {
@@ -338,6 +354,22 @@ public final class NativeStubGenerator extends BytecodeAssembler {
         return_(resultKind);
     }
 
+    /**
+     * Emits a branch over the code that follows if this is the stub for a leaf native and
+     * {@link NativeInterfaces#ElideLeafNativeTransitions} is set.
+     *
+     * @return the label to bind after the code to be skipped or {@code null} if no branch was emitted
+     */
+    private Label skipIfElidingTransition() {
+        if (!isLeaf) {
+            return null;
+        }
+        getstatic(elideLeafNativeTransitions);
+        final Label skip = newLabel();
+        ifne(skip);
+        return skip;
+    }
+
     private void logJni(FieldRefConstant callType) {
         getstatic(jniLogger);
         invokevirtual(enabled, 1, 1);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.log;
+
+import com.sun.max.annotate.*;
+import com.sun.max.memory.*;
+import com.sun.max.unsafe.*;
+
+/**
+ * A file that a binary log is written to with raw native writes from a buffer in native memory.
+ * All allocation happens in the constructor: {@link #open()}, the write methods and {@link #close()} neither allocate
+ * on the heap nor take any lock, so a file can be written on a crash. Values are written in the big-endian
+ * order of {@link java.io.DataOutputStream}. A file must only be written by one thread at a time.
+ */
+public final class BinaryLogFile {
+
+    @C_FUNCTION
+    private static native int log_file_open(Pointer path);
+
+    @C_FUNCTION
+    private static native int log_file_write(int fd, Pointer buffer, int length);
+
+    @C_FUNCTION
+    private static native void log_file_close(int fd);
+
+    private final Pointer path;
+    private final Pointer buffer;
+    private final int capacity;
+    private int position;
+    private int fd = -1;
+    private boolean failed;
+
+    /**
+     * Creates an unopened file.
+     *
+     * @param capacity the size of the buffer that is written out once full
+     */
+    public BinaryLogFile(String path, int capacity) {
+        this.path = CString.utf8FromJava(path);
+        this.capacity = capacity;
+        this.buffer = Memory.mustAllocate(capacity);
+    }
+
+    /**
+     * Opens (creating or truncating) the file.
+     *
+     * @return {@code false} if the file could not be opened
+     */
+    public boolean open() {
+        position = 0;
+        fd = log_file_open(path);
+        failed = fd < 0;
+        return !failed;
+    }
+
+    /**
+     * Determines if opening or writing the file failed. Writes to a failed file are discarded.
+     */
+    public boolean failed() {
+        return failed;
+    }
+
+    private void ensure(int size) {
+        if (position + size > capacity) {
+            flush();
+        }
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer.writeByte(position++, (byte) value);
+    }
+
+    public void writeInt(int value) {
+        ensure(4);
+        buffer.writeByte(position, (byte) (value >>> 24));
+        buffer.writeByte(position + 1, (byte) (value >>> 16));
+        buffer.writeByte(position + 2, (byte) (value >>> 8));
+        buffer.writeByte(position + 3, (byte) value);
+        position += 4;
+    }
+
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    public void write(byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            writeByte(bytes[i]);
+        }
+    }
+
+    /**
+     * Writes out the buffered bytes.
+     */
+    public void flush() {
+        if (position != 0 && !failed) {
+            failed = log_file_write(fd, buffer, position) != 0;
+        }
+        position = 0;
+    }
+
+    /**
+     * Writes out the buffered bytes and closes the file.
+     */
+    public void close() {
+        flush();
+        if (fd >= 0) {
+            log_file_close(fd);
+            fd = -1;
+        }
+    }
+}
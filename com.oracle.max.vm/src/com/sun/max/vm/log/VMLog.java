@@ -345,7 +345,7 @@ public abstract class VMLog implements Heap.GCCallback {
 
     /**
      * Phase specific initialization.
-     * Only called for BOOTSTRAPPING, PRIMORDIAL, TERMINATING.
+     * Only called for BOOTSTRAPPING, PRIMORDIAL, RUNNING, TERMINATING.
      * @param phase the phase
      */
     public void initialize(MaxineVM.Phase phase) {
@@ -367,8 +367,15 @@ public abstract class VMLog implements Heap.GCCallback {
                     logger.setDefaultState();
                 }
             }
+        } else if (phase == MaxineVM.Phase.RUNNING) {
+            if (flusher != null && flushMode != 0) {
+                flusher.initialize(phase);
+            }
         } else if (phase == MaxineVM.Phase.TERMINATING) {
             flush(FLUSHMODE_EXIT);
+            if (flusher != null) {
+                flusher.finish(FLUSHMODE_EXIT);
+            }
         }
     }
 
@@ -379,11 +386,19 @@ public abstract class VMLog implements Heap.GCCallback {
      * @param flusher
      */
     public void registerCustom(VMLogger logger, Flusher flusher) {
+        registerCustom(logger, flusher, FLUSHMODE_FULL);
+    }
+
+    /**
+     * Variant of {@link #registerCustom(VMLogger, Flusher)} with an explicit {@link #flushMode}.
+     * A log whose mode does not include {@link #FLUSHMODE_FULL} overwrites its oldest records when full.
+     */
+    public void registerCustom(VMLogger logger, Flusher flusher, int flushMode) {
         loggers = new VMLogger[1];
         loggers[0] = logger;
         operationRefMaps = new int[2][];
         operationRefMaps[logger.loggerId] = logger.operationRefMaps;
-        flushMode = FLUSHMODE_FULL;
+        this.flushMode = flushMode;
         logger.setVMLog(this);
         this.flusher = flusher;
         if (customLogs == null) {
@@ -419,6 +434,10 @@ public abstract class VMLog implements Heap.GCCallback {
         return loggers[id - 1];
     }
 
+    VMLogger[] loggers() {
+        return loggers;
+    }
+
     /**
      * Called when a new thread is started so any thread-specific log state can be setup.
      */
@@ -605,13 +624,14 @@ public abstract class VMLog implements Heap.GCCallback {
      *
      * The default output is "raw", which means no interpretation of the bits, which is left to an offline tool. This is
      * the most robust approach. The alternative is "trace" which invokes the trace method on the logger, which
-     * may crash, particularly if the log is being flushed on a VM crash.
+     * may crash, particularly if the log is being flushed on a VM crash. Finally, "binary" hands the records to
+     * a {@link VMLogBinaryFlusher background writer} without taking any locks on the logging thread.
      */
     private static class VMLogFlushOption extends VMStringOption {
 
         @HOSTED_ONLY
         public VMLogFlushOption() {
-            super("-XX:VMLogFlush=", false, null, "flush VMLog: mode,output. mode=crash|exit|full, output=raw|trace");
+            super("-XX:VMLogFlush=", false, null, "flush VMLog: mode,output. mode=crash|exit|full, output=raw|trace|binary");
         }
 
         @Override
@@ -625,6 +645,8 @@ public abstract class VMLog implements Heap.GCCallback {
                         vmLog.flusher = rawDumpFlusher;
                     } else if (param.equals("trace")) {
                         vmLog.flusher = traceDumpFlusher;
+                    } else if (param.equals("binary")) {
+                        vmLog.flusher = VMLogBinaryFlusher.create();
                     } else if (param.equals("exit")) {
                         vmLog.flushMode |= FLUSHMODE_EXIT;
                     } else if (param.equals("crash")) {
@@ -678,6 +700,9 @@ public abstract class VMLog implements Heap.GCCallback {
                 flusher.end(null);
             }
         }
+        if (mode == FLUSHMODE_CRASH) {
+            flusher.finish(mode);
+        }
     }
 
     /**
@@ -701,6 +726,13 @@ public abstract class VMLog implements Heap.GCCallback {
      */
     protected Flusher flusher;
 
+    /**
+     * Determines if the log should be flushed, rather than overwritten, when it is full.
+     */
+    protected final boolean flushesWhenFull() {
+        return flusher != null && (flushMode & FLUSHMODE_FULL) != 0;
+    }
+
     /**
      * Support for log flushing to an external agent.
      * If a log has an associated {@linkplain Flusher}, it will be called in two situations:
@@ -744,6 +776,20 @@ public abstract class VMLog implements Heap.GCCallback {
          */
         public void end(VmThread vmThread) {
         }
+
+        /**
+         * Called when the VM reaches the {@link MaxineVM.Phase#RUNNING} phase if the log has a flush mode,
+         * allowing a flusher to start any helper threads.
+         */
+        public void initialize(MaxineVM.Phase phase) {
+        }
+
+        /**
+         * Called once no further records are expected, i.e. on VM exit ({@link #FLUSHMODE_EXIT})
+         * or after the log has been flushed on a crash ({@link #FLUSHMODE_CRASH}).
+         */
+        public void finish(int mode) {
+        }
     }
 
     public static final RawDumpFlusher rawDumpFlusher = new RawDumpFlusher();
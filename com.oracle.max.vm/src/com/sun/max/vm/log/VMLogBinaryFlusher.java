@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.log;
+
+import java.io.*;
+
+import com.oracle.max.cri.intrinsics.*;
+import com.sun.max.atomic.*;
+import com.sun.max.memory.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.MaxineVM.Phase;
+import com.sun.max.vm.log.VMLog.Flusher;
+import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.thread.*;
+
+/**
+ * A {@link Flusher} that hands records off to a background thread which writes them to a compact binary file,
+ * selected with {@code -XX:VMLogFlush=...,binary}. Unlike {@link VMLog.RawDumpFlusher} it never takes {@link Log#lock()}
+ * and never performs I/O on the logging thread: {@link #flushRecord} copies the record into a bounded, multi-producer,
+ * single-consumer ring of fixed size slots allocated in native memory. Slots are claimed with a CAS on {@link #tail} and
+ * published by writing a per-slot sequence number, so a full ring never blocks a logging thread; the record is instead
+ * counted as {@linkplain #dropped dropped}.
+ * <p>
+ * If a flush mode is given, the ring is drained by the "VMLogWriter" daemon thread started in the {@link Phase#RUNNING}
+ * phase, and finally by {@link #finish} on exit or on a crash. Records are written to a {@link BinaryLogFile}, so neither
+ * the writer thread nor a crashing thread allocates or takes a lock while writing. The file, named by
+ * {@code -XX:VMLogFile}, has the following (big-endian) format:
+ * <pre>
+ *     int MAGIC, int VERSION
+ *     int loggerCount, { int loggerId, UTF name, int opCount, { UTF opName } }
+ *     { int header, int uuid, { long arg } (argCount from header) }
+ *     int END_MARKER, int dropped
+ * </pre>
+ * Arguments are always written as longs, whatever the word size of the VM. The trailer is missing if the VM died
+ * before it could be written. The file is decoded by {@link com.sun.max.vm.log.hosted.VMLogBinaryDecoder}.
+ */
+public final class VMLogBinaryFlusher extends Flusher {
+
+    public static final int MAGIC = 0x564D4C42; // "VMLB"
+    public static final int VERSION = 2;
+    /**
+     * Never a valid header as it has {@link Record#FREE} set.
+     */
+    public static final int END_MARKER = 0xFFFFFFFF;
+
+    /**
+     * Name of the binary log file.
+     */
+    static String VMLogFile = "maxine.vmlog";
+
+    /**
+     * Number of slots in the hand-off ring, rounded up to a power of two.
+     */
+    static int VMLogBinaryRingSize = 16 * 1024;
+
+    /**
+     * Time in milliseconds the writer thread sleeps when it finds the ring empty.
+     */
+    static int VMLogBinaryFlushInterval = 10;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "VMLogFile", VMLogBinaryFlusher.class, "File written by -XX:VMLogFlush=...,binary", Phase.PRISTINE);
+        VMOptions.addFieldOption("-XX:", "VMLogBinaryRingSize", VMLogBinaryFlusher.class, "Number of records buffered for the binary VMLog writer", Phase.PRISTINE);
+        VMOptions.addFieldOption("-XX:", "VMLogBinaryFlushInterval", VMLogBinaryFlusher.class, "Idle poll interval (ms) of the binary VMLog writer", Phase.PRISTINE);
+    }
+
+    private static final int SEQ_OFFSET = 0;
+    private static final int HEADER_OFFSET = 4;
+    private static final int UUID_OFFSET = 8;
+    private static final int ARGS_OFFSET = 16;
+
+    private final int slotSize;
+    private final int capacity;
+    private final Pointer ring;
+
+    /**
+     * Next slot position to be claimed by a producer.
+     */
+    private final AtomicInteger tail = new AtomicInteger();
+
+    /**
+     * Next slot position to be drained. Only accessed by the thread that holds {@link #draining}.
+     */
+    private int head;
+
+    /**
+     * Ensures there is only ever one consumer of the ring.
+     */
+    private final AtomicInteger draining = new AtomicInteger();
+
+    /**
+     * Number of records lost because the ring was full.
+     */
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    /**
+     * Size of the buffer of {@link #file}.
+     */
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private BinaryLogFile file;
+    private boolean finished;
+
+    private VMLogBinaryFlusher(int capacity) {
+        this.capacity = capacity;
+        this.slotSize = ARGS_OFFSET + Record.MAX_ARGS * Word.size();
+        this.ring = Memory.allocate(Size.fromInt(capacity * slotSize));
+        for (int i = 0; i < capacity; i++) {
+            slot(i).writeInt(SEQ_OFFSET, i);
+        }
+    }
+
+    /**
+     * Creates the flusher when {@code -XX:VMLogFlush} is parsed at runtime.
+     */
+    static VMLogBinaryFlusher create() {
+        int capacity = 1;
+        while (capacity < VMLogBinaryRingSize) {
+            capacity <<= 1;
+        }
+        return new VMLogBinaryFlusher(capacity);
+    }
+
+    private Pointer slot(int pos) {
+        return ring.plus((pos & (capacity - 1)) * slotSize);
+    }
+
+    @Override
+    public void flushRecord(VmThread vmThread, Record r, int uuid) {
+        while (true) {
+            final int pos = tail.get();
+            final Pointer slot = slot(pos);
+            final int seq = slot.readInt(SEQ_OFFSET);
+            if (seq == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    final int argCount = r.getArgCount();
+                    slot.writeInt(HEADER_OFFSET, r.getHeader());
+                    slot.writeInt(UUID_OFFSET, uuid);
+                    for (int i = 1; i <= argCount; i++) {
+                        slot.setWord(ARGS_OFFSET, i - 1, r.getArg(i));
+                    }
+                    MemoryBarriers.barrier(MemoryBarriers.STORE_STORE);
+                    slot.writeInt(SEQ_OFFSET, pos + 1);
+                    return;
+                }
+            } else if (seq - pos < 0) {
+                // ring is full: the writer has not yet drained the record from the previous lap
+                dropped.getAndAdd(1);
+                return;
+            }
+            // another producer claimed the slot, retry
+        }
+    }
+
+    /**
+     * Writes all published records to {@link #file}. Must only be called by the thread holding {@link #draining}.
+     *
+     * @return the number of records written
+     */
+    private int drain() {
+        int count = 0;
+        int pos = head;
+        while (true) {
+            final Pointer slot = slot(pos);
+            if (slot.readInt(SEQ_OFFSET) != pos + 1) {
+                break;
+            }
+            MemoryBarriers.barrier(MemoryBarriers.LOAD_LOAD);
+            final int header = slot.readInt(HEADER_OFFSET);
+            file.writeInt(header);
+            file.writeInt(slot.readInt(UUID_OFFSET));
+            final int argCount = Record.getArgCount(header);
+            for (int i = 0; i < argCount; i++) {
+                file.writeLong(slot.getWord(ARGS_OFFSET, i).asAddress().toLong());
+            }
+            MemoryBarriers.barrier(MemoryBarriers.LOAD_STORE);
+            slot.writeInt(SEQ_OFFSET, pos + capacity);
+            pos++;
+            count++;
+        }
+        head = pos;
+        return count;
+    }
+
+    /**
+     * Opens the output file and starts the writer thread. Only called if the log has a flush mode.
+     */
+    @Override
+    public void initialize(MaxineVM.Phase phase) {
+        if (phase == MaxineVM.Phase.RUNNING) {
+            final BinaryLogFile file = new BinaryLogFile(VMLogFile, FILE_BUFFER_SIZE);
+            if (!file.open()) {
+                Log.println("VMLog: could not open " + VMLogFile);
+                return;
+            }
+            file.write(header(VMLog.vmLog().loggers()));
+            this.file = file;
+            new Writer().start();
+        }
+    }
+
+    /**
+     * Encodes the file header describing {@code loggers}.
+     */
+    public static byte[] header(VMLogger[] loggers) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeHeader(new DataOutputStream(bytes), loggers);
+        } catch (IOException ex) {
+            throw FatalError.unexpected("I/O error writing to a byte array", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the file header describing {@code loggers}.
+     */
+    public static void writeHeader(DataOutputStream out, VMLogger[] loggers) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        int loggerCount = 0;
+        for (VMLogger logger : loggers) {
+            if (logger != null) {
+                loggerCount++;
+            }
+        }
+        out.writeInt(loggerCount);
+        for (VMLogger logger : loggers) {
+            if (logger != null) {
+                out.writeInt(logger.loggerId);
+                out.writeUTF(logger.name);
+                final int numOps = logger.numOps();
+                out.writeInt(numOps);
+                for (int op = 0; op < numOps; op++) {
+                    out.writeUTF(logger.operationName(op));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a single record in the format of the file body.
+     */
+    public static void writeRecord(DataOutputStream out, Record r, int uuid) throws IOException {
+        final int argCount = r.getArgCount();
+        out.writeInt(r.getHeader());
+        out.writeInt(uuid);
+        for (int i = 1; i <= argCount; i++) {
+            out.writeLong(r.getArg(i).asAddress().toLong());
+        }
+    }
+
+    /**
+     * Writes the trailer that marks a complete file.
+     */
+    public static void writeTrailer(BinaryLogFile file, int dropped) {
+        file.writeInt(END_MARKER);
+        file.writeInt(dropped);
+    }
+
+    private static void reportError() {
+        Log.print("VMLog: error writing ");
+        Log.println(VMLogFile);
+    }
+
+    /**
+     * Drains what is left in the ring and completes the file. On a crash the writer thread may be the
+     * crashing thread, so only a single attempt is made to become the consumer. Nothing is allocated.
+     */
+    @Override
+    public void finish(int mode) {
+        while (!draining.compareAndSet(0, 1)) {
+            if (mode == VMLog.FLUSHMODE_CRASH) {
+                return;
+            }
+            Thread.yield();
+        }
+        try {
+            if (file != null && !finished) {
+                finished = true;
+                drain();
+                writeTrailer(file, dropped.get());
+                file.close();
+                if (file.failed()) {
+                    reportError();
+                }
+            }
+        } finally {
+            draining.set(0);
+        }
+    }
+
+    /**
+     * The background consumer of the ring.
+     */
+    private final class Writer extends Thread {
+        Writer() {
+            super("VMLogWriter");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            // the writer must not feed its own log records back into the ring
+            VMLog.vmLog().setThreadState(false);
+            while (true) {
+                int count = 0;
+                if (draining.compareAndSet(0, 1)) {
+                    try {
+                        if (finished) {
+                            return;
+                        }
+                        count = drain();
+                        if (count == 0) {
+                            file.flush();
+                        }
+                        if (file.failed()) {
+                            reportError();
+                            return;
+                        }
+                    } finally {
+                        draining.set(0);
+                    }
+                }
+                if (count == 0) {
+                    try {
+                        Thread.sleep(VMLogBinaryFlushInterval);
+                    } catch (InterruptedException ex) {
+                    }
+                }
+            }
+        }
+    }
+}
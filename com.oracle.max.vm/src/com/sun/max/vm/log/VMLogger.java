@@ -200,6 +200,10 @@ public class VMLogger {
         this.vmLog = vmLog;
     }
 
+    int numOps() {
+        return numOps;
+    }
+
     /**
      * Provides a mnemonic name for the given operation.
      * Default is {@code OpN}.
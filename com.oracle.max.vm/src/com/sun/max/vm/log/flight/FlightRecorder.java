@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.log.flight;
+
+import static com.sun.max.vm.log.VMLogger.*;
+
+import java.io.*;
+import java.util.*;
+
+import sun.misc.*;
+
+import com.sun.max.annotate.*;
+import com.sun.max.memory.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.compiler.target.*;
+import com.sun.max.vm.heap.*;
+import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.VMLog.Flusher;
+import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.log.nat.thread.var.flight.*;
+import com.sun.max.vm.object.*;
+import com.sun.max.vm.runtime.*;
+import com.sun.max.vm.thread.*;
+
+/**
+ * An always-on, low overhead recorder of significant VM events, enabled with {@code -XX:+FlightRecorder}.
+ * <p>
+ * Events are logged by a hidden {@link VMLogger} into a dedicated per-thread {@link VMLogNativeThreadVariableFlight log},
+ * which is a bounded ring that overwrites the oldest events of a thread. No locks are taken and nothing is
+ * allocated when recording, and the hooks in the VM cost a single test of {@link #enabled} when the recorder is off.
+ * Every event carries a {@link System#nanoTime()} timestamp as its first argument; the remaining arguments
+ * are described by {@link Event}. Methods are recorded as {@link com.sun.max.vm.jni.MethodID}s and classes by their
+ * {@link com.sun.max.vm.actor.holder.ClassActor#id}.
+ * <p>
+ * The buffer of a thread is encoded into a retained <i>chunk</i> when the thread terminates or the recorder takes a
+ * dump, and at most {@code -XX:FlightRecorderMaxChunks} chunks are retained. A dump writes all retained chunks to
+ * {@code -XX:FlightRecorderFile} in the format of {@link VMLogBinaryFlusher}, so it can be rendered with
+ * {@link com.sun.max.vm.log.hosted.VMLogBinaryDecoder}. A dump is taken on {@code SIGUSR2}, by calling {@link #dump},
+ * on exit if {@code -XX:+FlightRecorderDumpOnExit} is set, and on a crash.
+ * <p>
+ * A {@linkplain #dump dump} only copies the raw buffers while the threads are stopped and encodes the copies once they
+ * are running again. A {@linkplain #crashDump crash dump} neither allocates nor takes a lock, so it only writes the
+ * chunks retained so far; the events still in the buffers of live threads are lost.
+ */
+public final class FlightRecorder {
+
+    /**
+     * The recorded events and their arguments (after the timestamp).
+     */
+    public enum Event {
+        /** Heap used bytes. */
+        GCBegin,
+        /** Heap used bytes. */
+        GCEnd,
+        /** Duration, method, code size, whether the result is baseline code. */
+        Compilation,
+        /** Method. */
+        Deoptimization,
+        /** Class of the object. */
+        MonitorInflation,
+        /** Time blocked, class of the object. */
+        MonitorContended,
+        /** Duration, time to freeze, class of the operation. */
+        Safepoint,
+        /** Thread id. */
+        ThreadStart,
+        /** Thread id. */
+        ThreadEnd,
+        /** Requested size, space left in the TLAB. */
+        AllocationSample;
+
+        public static final Event[] VALUES = values();
+    }
+
+    static boolean FlightRecorder;
+    static String FlightRecorderFile = "flight.vmlog";
+    static boolean FlightRecorderDumpOnExit;
+    static int FlightRecorderMaxChunks = 256;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "FlightRecorder", FlightRecorder.class, "Continuously record VM events in per-thread buffers");
+        VMOptions.addFieldOption("-XX:", "FlightRecorderFile", FlightRecorder.class, "File written by a flight recorder dump");
+        VMOptions.addFieldOption("-XX:", "FlightRecorderDumpOnExit", FlightRecorder.class, "Dump the flight recorder when the VM exits");
+        VMOptions.addFieldOption("-XX:", "FlightRecorderMaxChunks", FlightRecorder.class, "Maximum number of per-thread event chunks retained by the flight recorder");
+    }
+
+    private static final class FlightRecorderLogger extends VMLogger {
+        FlightRecorderLogger() {
+            super("FlightRecorder", Event.VALUES.length, (int[]) null);
+        }
+
+        @Override
+        public String operationName(int op) {
+            return Event.VALUES[op].name();
+        }
+    }
+
+    /**
+     * Collects each flushed thread buffer as a chunk of encoded records.
+     */
+    private static final class ChunkFlusher extends Flusher {
+        ArrayList<byte[]> chunks;
+        private ByteArrayOutputStream bytes;
+        private DataOutputStream out;
+
+        @Override
+        public void start(VmThread vmThread) {
+            bytes = new ByteArrayOutputStream();
+            out = new DataOutputStream(bytes);
+        }
+
+        @Override
+        public void flushRecord(VmThread vmThread, Record r, int uuid) {
+            try {
+                VMLogBinaryFlusher.writeRecord(out, r, uuid);
+            } catch (IOException ex) {
+                throw FatalError.unexpected("I/O error writing to a byte array", ex);
+            }
+        }
+
+        @Override
+        public void end(VmThread vmThread) {
+            if (bytes.size() != 0) {
+                chunks.add(bytes.toByteArray());
+            }
+            bytes = null;
+            out = null;
+        }
+    }
+
+    @CONSTANT_WHEN_NOT_ZERO
+    private static VMLogNativeThreadVariableFlight flightLog;
+    private static final FlightRecorderLogger logger = new FlightRecorderLogger();
+    private static final ChunkFlusher chunkFlusher = new ChunkFlusher();
+
+    /**
+     * Number of buffers a dump makes room for beyond the live threads, for threads started before the safepoint.
+     */
+    private static final int DUMP_SLACK = 8;
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Circular array of the chunks retained from terminated threads and previous dumps, allocated when the recorder is
+     * enabled. The oldest chunk is at {@link #retainedStart}. Guarded by the class lock, except when dumping on a crash.
+     */
+    private static byte[][] retained;
+    private static int retainedStart;
+    private static int retainedCount;
+
+    /**
+     * The encoded header of a dump.
+     */
+    private static byte[] header;
+
+    /**
+     * The file written by a crash dump, created up front so that a crash dump does not allocate.
+     */
+    private static BinaryLogFile crashFile;
+
+    private static boolean enabled;
+
+    static {
+        // the recorder needs per-thread native buffers
+        if (VMLog.Factory.contains("VMLogNativeThreadVariable")) {
+            flightLog = new VMLogNativeThreadVariableFlight();
+            flightLog.initialize(MaxineVM.Phase.BOOTSTRAPPING);
+            flightLog.registerCustom(logger, chunkFlusher, VMLog.FLUSHMODE_EXIT);
+            Heap.registerGCCallback(new Heap.GCCallback() {
+                public void gcCallback(Heap.GCCallbackPhase gcCallbackPhase) {
+                    if (gcCallbackPhase != Heap.GCCallbackPhase.INIT) {
+                        gc(gcCallbackPhase);
+                    }
+                }
+            });
+        }
+    }
+
+    private FlightRecorder() {
+    }
+
+    /**
+     * Determines if events are being recorded.
+     */
+    @INLINE
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts recording if {@code -XX:+FlightRecorder} is set. Called once the {@link MaxineVM.Phase#STARTING}
+     * options have been parsed.
+     */
+    public static void initialize() {
+        if (!FlightRecorder) {
+            return;
+        }
+        if (flightLog == null) {
+            Log.println("The flight recorder is not supported by the configured VMLog");
+            return;
+        }
+        // threads started so far have no record to log into
+        new VmOperation("FlightRecorderPrepare", null, VmOperation.Mode.Safepoint) {
+            @Override
+            protected void doIt() {
+                super.doIt();
+                flightLog.prepareThread(VmThread.currentTLA());
+            }
+
+            @Override
+            protected void doThread(VmThread vmThread, Pointer ip, Pointer sp, Pointer fp) {
+                flightLog.prepareThread(vmThread.tla());
+            }
+        }.submit();
+        retained = new byte[Math.max(FlightRecorderMaxChunks, 1)][];
+        header = VMLogBinaryFlusher.header(new VMLogger[] {logger});
+        crashFile = new BinaryLogFile(FlightRecorderFile, FILE_BUFFER_SIZE);
+        logger.enable(true);
+        enabled = true;
+        Signal.handle(new Signal("USR2"), new SignalHandler() {
+            public void handle(Signal sig) {
+                dump(FlightRecorderFile);
+            }
+        });
+    }
+
+    /**
+     * Dumps the recorder on VM exit, if requested.
+     */
+    public static void terminate() {
+        if (enabled && FlightRecorderDumpOnExit) {
+            dump(FlightRecorderFile);
+        }
+    }
+
+    @INLINE
+    private static boolean isReady() {
+        return enabled && flightLog.isReady(VmThread.currentTLA());
+    }
+
+    @INLINE
+    private static Word now() {
+        return longArg(System.nanoTime());
+    }
+
+    /**
+     * Returns a start timestamp for an event that records a duration, or 0 if the recorder is off.
+     */
+    @INLINE
+    public static long startTime() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    private static Word duration(long start) {
+        return longArg(System.nanoTime() - start);
+    }
+
+    public static void gc(Heap.GCCallbackPhase phase) {
+        if (isReady()) {
+            Event event = phase == Heap.GCCallbackPhase.BEFORE ? Event.GCBegin : Event.GCEnd;
+            logger.log(event.ordinal(), now(), longArg(Heap.reportUsedSpace()));
+        }
+    }
+
+    public static void compilation(long start, TargetMethod targetMethod) {
+        if (isReady() && start != 0L) {
+            logger.log(Event.Compilation.ordinal(), now(), duration(start), methodActorArg(targetMethod.classMethodActor),
+                            intArg(targetMethod.codeLength()), booleanArg(targetMethod.isBaseline()));
+        }
+    }
+
+    public static void deoptimization(TargetMethod targetMethod) {
+        if (isReady() && targetMethod.classMethodActor != null) {
+            logger.log(Event.Deoptimization.ordinal(), now(), methodActorArg(targetMethod.classMethodActor));
+        }
+    }
+
+    public static void monitorInflation(Object object) {
+        if (isReady()) {
+            logger.log(Event.MonitorInflation.ordinal(), now(), classActorArg(ObjectAccess.readClassActor(object)));
+        }
+    }
+
+    public static void monitorContended(long start, Object object) {
+        if (isReady() && start != 0L && object != null) {
+            logger.log(Event.MonitorContended.ordinal(), now(), duration(start), classActorArg(ObjectAccess.readClassActor(object)));
+        }
+    }
+
+    public static void safepoint(VmOperation operation, long start, long frozen, long end) {
+        if (isReady()) {
+            logger.log(Event.Safepoint.ordinal(), longArg(end), longArg(end - start), longArg(frozen - start),
+                            classActorArg(ObjectAccess.readClassActor(operation)));
+        }
+    }
+
+    public static void threadStart(VmThread vmThread) {
+        if (enabled) {
+            flightLog.threadStart();
+            logger.log(Event.ThreadStart.ordinal(), now(), vmThreadArg(vmThread));
+        }
+    }
+
+    /**
+     * Records the end of the current thread and retains its events.
+     */
+    public static void threadEnd(VmThread vmThread) {
+        if (isReady()) {
+            logger.log(Event.ThreadEnd.ordinal(), now(), vmThreadArg(vmThread));
+            synchronized (FlightRecorder.class) {
+                ArrayList<byte[]> chunks = new ArrayList<byte[]>(1);
+                flushThread(vmThread, chunks);
+                retain(chunks);
+            }
+        }
+    }
+
+    /**
+     * Records a slow path allocation, i.e. a TLAB refill or an allocation outside a TLAB. Must not allocate.
+     */
+    @INLINE
+    public static void allocationSample(Size size, Pointer allocationMark, Pointer tlabEnd) {
+        if (isReady()) {
+            logger.log(Event.AllocationSample.ordinal(), now(), size, tlabEnd.minus(allocationMark));
+        }
+    }
+
+    /**
+     * Flushes the buffer of {@code vmThread}, which is either the current thread or a stopped one.
+     */
+    private static void flushThread(VmThread vmThread, ArrayList<byte[]> chunks) {
+        // the flusher allocates, which must not add allocation events to the buffer being flushed
+        boolean state = flightLog.setThreadState(false);
+        try {
+            chunkFlusher.chunks = chunks;
+            flightLog.flush(VMLog.FLUSHMODE_EXIT, vmThread);
+        } finally {
+            flightLog.setThreadState(state);
+        }
+    }
+
+    private static void retain(ArrayList<byte[]> chunks) {
+        for (byte[] chunk : chunks) {
+            if (retainedCount == retained.length) {
+                // drop the oldest chunk
+                retained[retainedStart] = chunk;
+                retainedStart = (retainedStart + 1) % retained.length;
+            } else {
+                retained[(retainedStart + retainedCount) % retained.length] = chunk;
+                retainedCount++;
+            }
+        }
+    }
+
+    /**
+     * Moves the events of every thread into retained chunks and writes all retained chunks to {@code path}.
+     * The buffers are copied at a safepoint, and encoded once the threads have been resumed.
+     */
+    public static synchronized void dump(String path) {
+        if (!enabled) {
+            return;
+        }
+        final int bufferSize = flightLog.bufferSize();
+        final int slots = VmThreadMap.getLiveTheadCount() + DUMP_SLACK;
+        final Pointer copies = Memory.allocate(Size.fromLong((long) slots * bufferSize));
+        if (copies.isZero()) {
+            Log.println("Flight recorder: not enough memory to dump the thread buffers");
+            write(path);
+            return;
+        }
+        // filled in at the safepoint, so allocated here
+        final long[] offsets = new long[slots];
+        final int[] copied = new int[1];
+        new VmOperation("FlightRecorderDump", null, VmOperation.Mode.Safepoint) {
+            @Override
+            protected void doIt() {
+                super.doIt();
+                copyThread(VmThread.currentTLA());
+            }
+
+            @Override
+            protected void doThread(VmThread vmThread, Pointer ip, Pointer sp, Pointer fp) {
+                copyThread(vmThread.tla());
+            }
+
+            private void copyThread(Pointer tla) {
+                // the buffers of threads beyond the slots are left for the next dump
+                int slot = copied[0];
+                if (slot < slots) {
+                    offsets[slot] = flightLog.copyBuffer(tla, copies.plus((long) slot * bufferSize));
+                    if (offsets[slot] != 0L) {
+                        copied[0] = slot + 1;
+                    }
+                }
+            }
+        }.submit();
+        final ArrayList<byte[]> chunks = new ArrayList<byte[]>(copied[0]);
+        chunkFlusher.chunks = chunks;
+        for (int slot = 0; slot < copied[0]; slot++) {
+            flightLog.flushCopy(copies.plus((long) slot * bufferSize), offsets[slot], chunkFlusher);
+        }
+        Memory.deallocate(copies);
+        retain(chunks);
+        write(path);
+    }
+
+    private static void write(String path) {
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+            try {
+                out.write(header);
+                for (int i = 0; i < retainedCount; i++) {
+                    out.write(retained[(retainedStart + i) % retained.length]);
+                }
+                out.writeInt(VMLogBinaryFlusher.END_MARKER);
+                out.writeInt(0);
+            } finally {
+                out.close();
+            }
+        } catch (IOException ex) {
+            Log.println("Flight recorder: error writing " + path + ": " + ex);
+        }
+    }
+
+    /**
+     * Best effort dump on a VM crash of the chunks retained so far to {@code -XX:FlightRecorderFile}.
+     * Nothing is allocated and no locks are taken, as the crashing thread may hold them or the heap may be broken.
+     */
+    public static void crashDump() {
+        if (!enabled) {
+            return;
+        }
+        enabled = false;
+        if (!crashFile.open()) {
+            Log.print("Flight recorder: could not open ");
+            Log.println(FlightRecorderFile);
+            return;
+        }
+        crashFile.write(header);
+        for (int i = 0; i < retainedCount; i++) {
+            crashFile.write(retained[(retainedStart + i) % retained.length]);
+        }
+        VMLogBinaryFlusher.writeTrailer(crashFile, 0);
+        crashFile.close();
+        if (crashFile.failed()) {
+            Log.print("Flight recorder: error writing ");
+            Log.println(FlightRecorderFile);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.log.hosted;
+
+import java.io.*;
+import java.util.*;
+
+import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.VMLog.Record;
+
+/**
+ * Offline decoder for the files written by {@link VMLogBinaryFlusher}. Prints one line per record:
+ * <pre>
+ *     uuid thread loggerName.operationName arg1 ... argN
+ * </pre>
+ * with the arguments in hex. Records are flushed per-thread and so are not in global order in the file;
+ * {@code -sort} orders them by uuid. A file without a trailer, as written by a VM that died, is decoded up to its last
+ * complete record. Usage:
+ * <pre>
+ *     java com.sun.max.vm.log.hosted.VMLogBinaryDecoder [-sort] [-o output] file
+ * </pre>
+ */
+public class VMLogBinaryDecoder {
+
+    private static class DecodedRecord {
+        final int header;
+        final int uuid;
+        final long[] args;
+
+        DecodedRecord(int header, int uuid, long[] args) {
+            this.header = header;
+            this.uuid = uuid;
+            this.args = args;
+        }
+    }
+
+    private final Map<Integer, String> loggerNames = new HashMap<Integer, String>();
+    private final Map<Integer, String[]> operationNames = new HashMap<Integer, String[]>();
+    private final ArrayList<DecodedRecord> records = new ArrayList<DecodedRecord>();
+    private int dropped = -1;
+
+    public VMLogBinaryDecoder(DataInputStream in) throws IOException {
+        if (in.readInt() != VMLogBinaryFlusher.MAGIC) {
+            throw new IOException("not a binary VMLog file");
+        }
+        int version = in.readInt();
+        if (version != VMLogBinaryFlusher.VERSION) {
+            throw new IOException("unsupported binary VMLog version " + version);
+        }
+        int loggerCount = in.readInt();
+        for (int i = 0; i < loggerCount; i++) {
+            int loggerId = in.readInt();
+            loggerNames.put(loggerId, in.readUTF());
+            String[] ops = new String[in.readInt()];
+            for (int op = 0; op < ops.length; op++) {
+                ops[op] = in.readUTF();
+            }
+            operationNames.put(loggerId, ops);
+        }
+        try {
+            while (true) {
+                int header = in.readInt();
+                if (header == VMLogBinaryFlusher.END_MARKER) {
+                    dropped = in.readInt();
+                    break;
+                }
+                int uuid = in.readInt();
+                long[] args = new long[Record.getArgCount(header)];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = in.readLong();
+                }
+                records.add(new DecodedRecord(header, uuid, args));
+            }
+        } catch (EOFException ex) {
+            // the VM did not exit cleanly, and the file may end within a record, which is dropped
+        }
+    }
+
+    public void sort() {
+        Collections.sort(records, new Comparator<DecodedRecord>() {
+            public int compare(DecodedRecord a, DecodedRecord b) {
+                return a.uuid < b.uuid ? -1 : (a.uuid == b.uuid ? 0 : 1);
+            }
+        });
+    }
+
+    public void print(PrintStream out) {
+        for (DecodedRecord r : records) {
+            int loggerId = Record.getLoggerId(r.header);
+            int op = Record.getOperation(r.header);
+            String loggerName = loggerNames.get(loggerId);
+            String[] ops = operationNames.get(loggerId);
+            out.print(r.uuid);
+            out.print(' ');
+            out.print(Record.getThreadId(r.header));
+            out.print(' ');
+            out.print(loggerName == null ? "Logger " + loggerId : loggerName);
+            out.print('.');
+            out.print(ops != null && op < ops.length ? ops[op] : "Op " + op);
+            for (long arg : r.args) {
+                out.print(" 0x");
+                out.print(Long.toHexString(arg));
+            }
+            out.println();
+        }
+        if (dropped < 0) {
+            out.println("# log is truncated, an incomplete last record is dropped");
+        } else if (dropped > 0) {
+            out.println("# " + dropped + " records dropped");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean sort = false;
+        String output = null;
+        String input = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-sort")) {
+                sort = true;
+            } else if (args[i].equals("-o")) {
+                output = args[++i];
+            } else {
+                input = args[i];
+            }
+        }
+        if (input == null) {
+            System.err.println("usage: VMLogBinaryDecoder [-sort] [-o output] file");
+            System.exit(1);
+        }
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(input)));
+        VMLogBinaryDecoder decoder;
+        try {
+            decoder = new VMLogBinaryDecoder(in);
+        } finally {
+            in.close();
+        }
+        if (sort) {
+            decoder.sort();
+        }
+        PrintStream out = output == null ? System.out : new PrintStream(new FileOutputStream(output));
+        decoder.print(out);
+        out.flush();
+    }
+}
@@ -248,6 +248,24 @@ public abstract class VMLogNative extends VMLog {
         return record;
     }
 
+    /**
+     * Determines if the thread denoted by {@code tla} has its {@link NativeRecord}.
+     */
+    @INLINE
+    protected final boolean hasNativeRecord(Pointer tla) {
+        return !vmLogNativeRecordTL.loadRef(tla).isZero();
+    }
+
+    /**
+     * Allocates the {@link NativeRecord} on behalf of the thread denoted by {@code tla}, e.g., for a
+     * log that is enabled after the thread started. The thread must not be logging concurrently.
+     */
+    protected final void installNativeRecord(Pointer tla) {
+        if (!hasNativeRecord(tla)) {
+            vmLogNativeRecordTL.store3(tla, Reference.fromJava(new NativeRecord(getArgsOffset())));
+        }
+    }
+
     /**
      * The offset (in bytes) to the start of the arguments in the native record.
      */
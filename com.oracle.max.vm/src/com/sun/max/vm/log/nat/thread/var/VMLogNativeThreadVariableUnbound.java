@@ -95,7 +95,7 @@ public abstract class VMLogNativeThreadVariableUnbound extends VMLogNativeThread
             int firstOffset = (int) ((firstOffsetAndWrap >> FIRST_OFFSET_SHIFT) & SHIFTED_FIRST_OFFSET_MASK);
             if (firstOffset < newNextOffset) {
                 // may need to flush the log, as are just about to step on a live record
-                if (flusher != null) {
+                if (flushesWhenFull()) {
                     flush(FLUSHMODE_FULL, VmThread.fromTLA(tla));
                     // reset, but not forgetting the reservation for this record
                     wrap = 0;
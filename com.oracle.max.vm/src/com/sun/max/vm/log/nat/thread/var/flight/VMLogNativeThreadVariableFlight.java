@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.log.nat.thread.var.flight;
+
+import com.sun.max.memory.*;
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.heap.*;
+import com.sun.max.vm.log.VMLog.Flusher;
+import com.sun.max.vm.log.VMLog.Record;
+import com.sun.max.vm.log.nat.thread.var.*;
+import com.sun.max.vm.thread.*;
+
+/**
+ * The per-thread log used by the {@link com.sun.max.vm.log.flight.FlightRecorder}. It is a bounded ring per thread
+ * that overwrites its oldest records when full, and is only flushed when the recorder takes a dump.
+ * The records hold no references, so there is nothing to scan during a GC.
+ * <p>
+ * A dump {@linkplain #copyBuffer copies} the raw buffers while the threads are stopped, without allocating, and
+ * {@linkplain #flushCopy flushes} the copies once they are running again.
+ */
+public class VMLogNativeThreadVariableFlight extends VMLogNativeThreadVariableUnbound {
+    public static final String FLIGHT_RECORD_NAME = "FLIGHT_RECORD";
+    public static final String FLIGHT_BUFFER_NAME = "FLIGHT_BUFFER";
+    public static final String FLIGHT_BUFFER_OFFSETS_NAME = "FLIGHT_BUFFER_OFFSETS";
+    public static final VmThreadLocal FLIGHT_RECORD = new VmThreadLocal(FLIGHT_RECORD_NAME, true, "Flight recorder record");
+    public static final VmThreadLocal FLIGHT_BUFFER = new VmThreadLocal(FLIGHT_BUFFER_NAME, false, "Flight recorder buffer");
+    public static final VmThreadLocal FLIGHT_BUFFER_OFFSETS = new VmThreadLocal(FLIGHT_BUFFER_OFFSETS_NAME, false, "Flight recorder buffer first/next offsets");
+
+    /**
+     * Property that sets the (average) number of records retained per thread.
+     */
+    public static final String FLIGHT_ENTRIES_PROPERTY = "max.flightrecorder.entries";
+    private static final int DEFAULT_FLIGHT_ENTRIES = 2048;
+
+    /**
+     * Accesses the records of a copied buffer.
+     */
+    private final NativeRecord copyRecord = new NativeRecord(ARGS_OFFSET) { };
+
+    @Override
+    public void initialize(MaxineVM.Phase phase) {
+        super.initialize(phase);
+        if (MaxineVM.isHosted() && phase == MaxineVM.Phase.BOOTSTRAPPING) {
+            setNativeRecordThreadLocal(FLIGHT_RECORD);
+            setBufferThreadLocals(FLIGHT_BUFFER, FLIGHT_BUFFER_OFFSETS);
+        }
+    }
+
+    @Override
+    protected void setLogEntries() {
+        String entriesProperty = System.getProperty(FLIGHT_ENTRIES_PROPERTY);
+        logEntries = entriesProperty != null ? Integer.parseInt(entriesProperty) : DEFAULT_FLIGHT_ENTRIES;
+    }
+
+    /**
+     * Determines if the thread denoted by {@code tla} can record events without allocating.
+     */
+    public boolean isReady(Pointer tla) {
+        return hasNativeRecord(tla);
+    }
+
+    /**
+     * Prepares a thread that was started before the recorder was enabled.
+     */
+    public void prepareThread(Pointer tla) {
+        installNativeRecord(tla);
+    }
+
+    /**
+     * The size in bytes of the buffer of a thread.
+     */
+    public int bufferSize() {
+        return logSize;
+    }
+
+    /**
+     * Copies the buffer of the thread denoted by {@code tla}, which is either the current thread or a stopped one,
+     * to {@code copy} and empties the buffer. Does not allocate.
+     *
+     * @param copy where to copy the buffer, which must have room for {@link #bufferSize()} bytes
+     * @return the offsets of the records in the copy, or 0 if the buffer was empty and nothing was copied
+     */
+    public long copyBuffer(Pointer tla, Pointer copy) {
+        long offsets = vmLogBufferOffsetsTL.load(tla).toLong();
+        if (nextOffset(offsets) == 0 && !isWrapped(offsets)) {
+            return 0L;
+        }
+        Memory.copyBytes(getBuffer(tla), copy, Size.fromInt(logSize));
+        // reset the log, retaining the state of the thread
+        vmLogBufferOffsetsTL.store3(tla, Address.fromLong(offsets & DISABLED));
+        return offsets & DISABLED_MASK;
+    }
+
+    /**
+     * Passes the records of a buffer copied by {@link #copyBuffer} to {@code flusher}, oldest first.
+     *
+     * @param offsets the value returned by {@link #copyBuffer}
+     */
+    public void flushCopy(Pointer copy, long offsets, Flusher flusher) {
+        if (offsets == 0L) {
+            return;
+        }
+        NativeRecord r = copyRecord;
+        int nextOffset = nextOffset(offsets);
+        int offset = firstOffset(offsets);
+        try {
+            flusher.start(null);
+            do {
+                r.address = copy.plus(offset);
+                // variable length records can cause holes
+                if (!Record.isFree(r.getHeader())) {
+                    flusher.flushRecord(null, r, r.address.readInt(ID_OFFSET));
+                }
+                offset = modLogSize(offset + ARGS_OFFSET + r.getArgCount() * Word.size());
+            } while (offset != nextOffset);
+        } finally {
+            flusher.end(null);
+        }
+    }
+
+    @Override
+    public void scanLog(Pointer tla, PointerIndexVisitor visitor) {
+        // flight records never hold references
+    }
+}
@@ -296,6 +296,8 @@
  * <li>full: flush the log whenever it becomes full (i.e., is about to overwrite old records)</li>
  * <li>raw: output the log records as uninterpreted, raw, bits.</li>
  * <li>trace: output the log records using the {@link com.oracle.max.vm.log.VMLogger#trace} method</li>
+ * <li>binary: hand the records to a background thread that writes them to the file named by {@code -XX:VMLogFile}
+ * (see {@link com.sun.max.vm.log.VMLogBinaryFlusher}). No lock is taken on the logging thread.</li>
  * </ul>
  * The default output mode is raw, which is robust, but requires off-line interpretation. Trace mode
  * may be unstable after a VM crash as it may provoke a recursive crash.
@@ -304,6 +306,10 @@
  * the associated trace options, <i>except</i> that the data might be "stale" by delaying the
  * interpretation until the log is flushed.
  * <p>
+ * A binary log file can be rendered as text with {@link com.sun.max.vm.log.hosted.VMLogBinaryDecoder}.
+ * The same format is used for the dumps of the {@link com.sun.max.vm.log.flight.FlightRecorder}, which is
+ * a custom per-thread log of significant VM events enabled with {@code -XX:+FlightRecorder}.
+ * <p>
  * The Maxine Inspector can interpret a file of {@link VMLog} records using {@code mx view -vmlog=file}.
  * The simplest way to create the file is to redirect the log output to a file by setting
  * {@code export MAXINE_LOG_FILE=maxine.log} before running the VM, and then copying the file.
@@ -22,7 +22,11 @@
  */
 package com.sun.max.vm.management;
 
+import static com.sun.max.vm.jni.JmmFunctions.*;
+
 import com.sun.max.vm.*;
+import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.runtime.*;
 
 /**
  * This class provides the entry point to all the runtime management functions in Maxine.
@@ -41,4 +45,53 @@ public class RuntimeManagement {
     public static long getUptime() {
         return System.currentTimeMillis() - MaxineVM.getStartupTime();
     }
+
+    /**
+     * Gets the value of a JMM long attribute.
+     *
+     * @param att one of the {@code JMM_*} attribute constants in {@link com.sun.max.vm.jni.JmmFunctions}
+     * @return the value of the attribute or 0 if it is not supported
+     */
+    public static long getLongAttribute(int att) {
+        switch (att) {
+            case JMM_SAFEPOINT_COUNT:
+                return SafepointStatistics.count();
+            case JMM_TOTAL_SAFEPOINTSYNC_TIME_MS:
+                return SafepointStatistics.totalSyncTimeMillis();
+            case JMM_TOTAL_STOPPED_TIME_MS:
+                return SafepointStatistics.totalStoppedTimeMillis();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Gets the histogram of the times taken by VM operations to freeze threads.
+     *
+     * @see SafepointStatistics#syncTimeHistogram()
+     */
+    public static long[] getSafepointSyncTimeHistogram() {
+        return SafepointStatistics.syncTimeHistogram();
+    }
+
+    /**
+     * Gets the number of symbols in the symbol table.
+     */
+    public static int getSymbolTableSize() {
+        return SymbolTable.length();
+    }
+
+    /**
+     * Gets the number of live strings interned at runtime that are not symbols.
+     */
+    public static int getInternedStringCount() {
+        return SymbolTable.internedStrings();
+    }
+
+    /**
+     * Gets the number of calls to {@link String#intern()}.
+     */
+    public static long getInternRequestCount() {
+        return SymbolTable.internRequests();
+    }
 }
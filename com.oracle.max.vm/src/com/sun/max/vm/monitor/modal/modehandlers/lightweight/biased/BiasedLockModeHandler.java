@@ -98,37 +98,49 @@ public abstract class BiasedLockModeHandler extends AbstractModeHandler implemen
         }
     }
 
+    /**
+     * Revokes the bias of an object by means of a {@linkplain VmOperation.Mode#Handshake handshake} with the
+     * bias owner. That is, the owner revokes the bias itself at its next safepoint, where it cannot be in the
+     * middle of updating the lockword, while all other threads keep running.
+     */
     class RevokeBiasOperation extends VmOperation {
         final Object object;
         ModalLockword64 newLockword;
+        boolean revoked;
         RevokeBiasOperation(VmThread thread, Object object) {
-            super("RevokeBias", thread, Mode.Safepoint, false);
+            super("RevokeBias", thread, Mode.Handshake, false);
             this.object = object;
         }
         @Override
-        protected void doIt() {
+        protected void doThread(VmThread vmThread, Pointer ip, Pointer sp, Pointer fp) {
             newLockword = revokeBias(object);
+            revoked = true;
         }
     }
 
     protected ModalLockword64 revokeWithOwnerSafepointed(final Object object, int vmThreadMapThreadID, BiasedLockword64 biasedLockword) {
+        final VmThread biasOwnerThread;
         synchronized (VmThreadMap.THREAD_LOCK) {
-            final VmThread biasOwnerThread = VmThreadMap.ACTIVE.getVmThreadForID(vmThreadMapThreadID);
+            biasOwnerThread = VmThreadMap.ACTIVE.getVmThreadForID(vmThreadMapThreadID);
             if (biasOwnerThread == null) {
                 // The bias owner is terminated. No need to safepoint.
                 // Lets try to reset the bias to anon.
                 return ModalLockword64.from(ObjectAccess.compareAndSwapMisc(object, biasedLockword, biasedLockword.asAnonBiased()));
             }
-            final Pointer tla = biasOwnerThread.tla();
-            if (tla.isZero()) {
+            if (biasOwnerThread.tla().isZero()) {
                 // The bias holding thread is still starting up, so how can it own biases??
                 FatalError.unexpected("Attempted to revoke bias for still initializing thread.");
             }
+        }
 
-            RevokeBiasOperation operation = new RevokeBiasOperation(VmThread.fromTLA(tla), object);
-            operation.submit();
-            return operation.newLockword;
+        // The thread lock must not be held when submitting a VM operation
+        RevokeBiasOperation operation = new RevokeBiasOperation(biasOwnerThread, object);
+        operation.submit();
+        if (!operation.revoked) {
+            // The bias owner terminated before the operation was run.
+            return ModalLockword64.from(ObjectAccess.compareAndSwapMisc(object, biasedLockword, biasedLockword.asAnonBiased()));
         }
+        return operation.newLockword;
     }
 
     public Word createMisc(Object object) {
@@ -25,6 +25,7 @@ package com.sun.max.vm.monitor.modal.modehandlers.lightweight.thin;
 import com.sun.max.annotate.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.monitor.*;
 import com.sun.max.vm.monitor.modal.modehandlers.*;
 import com.sun.max.vm.monitor.modal.modehandlers.AbstractModeHandler.ModeDelegate.DelegatedThreadHoldsMonitorResult;
@@ -72,6 +73,7 @@ public abstract class ThinLockModeHandler extends AbstractModeHandler {
         while (true) {
             final ModalLockword64 answer = ModalLockword64.from(ObjectAccess.compareAndSwapMisc(object, thinLockword, inflatedLockword));
             if (answer.equals(thinLockword)) {
+                FlightRecorder.monitorInflation(object);
                 break;
             } else if (answer.isInflated()) {
                 delegate().cancelPreparedModalLockword(inflatedLockword);
@@ -30,6 +30,7 @@ import com.sun.max.annotate.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.heap.*;
 import com.sun.max.vm.monitor.*;
 import com.sun.max.vm.monitor.modal.sync.JavaMonitorManager.ManagedMonitor.BindingProtection;
 import com.sun.max.vm.monitor.modal.sync.nat.*;
@@ -42,11 +43,15 @@ import com.sun.max.vm.thread.*;
  * <p>
  * Binding can be performed at bootstrapping or runtime. If binding is performed while bootstrapping then either a default
  * or specialized monitor can be used. If binding is performed at runtime then an unbound monitor is taken from
- * a free list.
+ * the {@linkplain VmThread#monitorCache cache} of the current thread. The cache is refilled in batches from
+ * a global free list, so that the lock guarding the free list is only taken once every few bindings.
  * <p>
  * Unbinding is performed at global safepoints. All unowned, unbindable, bound monitors are unbound. Writing of unbound
  * lockwords is delegated to an {@link UnboundMiscWordWriter} object (most likely the inflated mode handler of the ModalMonitorScheme).
- * This allows unbinding to be a transition to any other locking mode.
+ * This allows unbinding to be a transition to any other locking mode. Unbinding is done before each garbage collection
+ * and, when the free list runs low, by a {@linkplain DeflateMonitors deflation} operation that is submitted
+ * asynchronously and does not wait for (or cause) a garbage collection. The free list is only expanded if
+ * deflation cannot keep up with the rate of binding.
  * <p>
  * GC considerations:
  * <p>
@@ -114,6 +119,73 @@ public class JavaMonitorManager {
 
     private static boolean inGlobalSafepoint = false;
 
+    /**
+     * The maximum number of unbound monitors in the cache of a thread.
+     */
+    private static final int THREAD_CACHE_MAX_QTY = 8;
+
+    /**
+     * The number of monitors moved between the cache of a thread and the free list at a time.
+     */
+    private static final int THREAD_CACHE_BATCH_QTY = 4;
+
+    static boolean PrintMonitorStatistics;
+    static {
+        VMOptions.addFieldOption("-XX:", "PrintMonitorStatistics", JavaMonitorManager.class,
+            "Print statistics about the binding (inflation) and unbinding (deflation) of monitors and about " +
+            "spinning on contended monitors when the VM exits.");
+    }
+
+    /**
+     * The number of monitors bound at runtime. This counter is not synchronized and may be slightly inaccurate.
+     */
+    private static long inflations;
+
+    /**
+     * The number of monitors unbound before garbage collections.
+     */
+    private static long gcDeflations;
+
+    /**
+     * The number of monitors unbound by {@link DeflateMonitors} operations.
+     */
+    private static long asyncDeflations;
+
+    /**
+     * The number of {@link DeflateMonitors} operations performed.
+     */
+    private static int deflationOperations;
+
+    /**
+     * The number of times the free list was {@linkplain #expandUnboundList() expanded} once the VM is
+     * {@linkplain MaxineVM#isRunning() running}. Expansions while the VM is starting are not counted.
+     */
+    private static int expansions;
+
+    /**
+     * Unbinds unowned monitors at a global safepoint without a garbage collection. A new instance is submitted for
+     * each request, as an instance may still be running when the next request is made.
+     */
+    static final class DeflateMonitors extends VmOperation {
+        DeflateMonitors() {
+            super("DeflateMonitors", null, Mode.AsyncSafepoint);
+        }
+
+        @Override
+        protected void doIt() {
+            inGlobalSafepoint = true;
+            asyncDeflations += unbindUnownedMonitors(false);
+            deflationOperations++;
+            inGlobalSafepoint = false;
+            deflationRequested = false;
+        }
+    }
+
+    /**
+     * Denotes that a {@link DeflateMonitors} operation has been submitted and not yet performed.
+     */
+    private static volatile boolean deflationRequested;
+
     /**
      * Lockword rewriting for objects in the process of being unbound is delegated to an UnboundMiscWordWriter.
      * This allows unbinding to transition a lock from 'inflated' to any other mode.
@@ -166,6 +238,7 @@ public class JavaMonitorManager {
             }
         } else if (phase == MaxineVM.Phase.STARTING) {
             assert numberOfBindableMonitors <= bindableMonitors.length;
+            StandardJavaMonitor.spinning = StandardJavaMonitor.MonitorSpinLimit > 0 && Runtime.getRuntime().availableProcessors() > 1;
             if (Monitor.TraceMonitors && stickyMonitors.length > 0) {
                 final boolean lockDisabledSafepoints = Log.lock();
                 Log.println("Sticky monitors:");
@@ -179,9 +252,42 @@ public class JavaMonitorManager {
                 }
                 Log.unlock(lockDisabledSafepoints);
             }
+        } else if (phase == MaxineVM.Phase.TERMINATING) {
+            if (PrintMonitorStatistics) {
+                printStatistics();
+            }
         }
     }
 
+    private static void printRate(long count, long uptime) {
+        Log.print(count);
+        Log.print(" (");
+        Log.print(uptime == 0 ? 0 : count * 1000 / uptime);
+        Log.println("/s)");
+    }
+
+    private static void printStatistics() {
+        final long uptime = System.currentTimeMillis() - MaxineVM.getStartupTime();
+        final boolean lockDisabledSafepoints = Log.lock();
+        Log.println("Monitor statistics:");
+        Log.print("  inflations:              ");
+        printRate(inflations, uptime);
+        Log.print("  deflations before GC:    ");
+        printRate(gcDeflations, uptime);
+        Log.print("  asynchronous deflations: ");
+        printRate(asyncDeflations, uptime);
+        Log.print("  deflation operations:    ");
+        Log.println(deflationOperations);
+        Log.print("  free list expansions:    ");
+        Log.println(expansions);
+        Log.print("  bindable monitors:       ");
+        Log.println(numberOfBindableMonitors);
+        Log.print("  unbound monitors:        ");
+        Log.println(numberOfUnboundMonitors);
+        StandardJavaMonitor.printSpinStatistics();
+        Log.unlock(lockDisabledSafepoints);
+    }
+
     /**
      * Notifies the JavaMonitorManager that the current MonitorScheme requires
      * all JavaMonitors to be proxy acquirable (i.e. they may be acquired by
@@ -325,17 +431,28 @@ public class JavaMonitorManager {
         if (inGlobalSafepoint) {
             monitor = takeFromUnboundList();
         } else {
-            synchronized (LOCK) {
-                if (numberOfUnboundMonitors < UNBOUNDLIST_MIN_QTY) {
-                    System.gc();
+            final VmThread current = VmThread.current();
+            monitor = takeFromThreadCache(current);
+            if (monitor == null) {
+                boolean deflate = false;
+                synchronized (LOCK) {
+                    // Deflate once we are below midway between min and hwm
+                    if (numberOfUnboundMonitors < (unboundMonitorsHwm + UNBOUNDLIST_MIN_QTY) >> 1) {
+                        deflate = true;
+                    }
+                    // Only expand if deflation has not kept up
+                    if (numberOfUnboundMonitors < UNBOUNDLIST_MIN_QTY + THREAD_CACHE_BATCH_QTY) {
+                        expandUnboundList();
+                    }
+                    monitor = takeFromUnboundList();
+                    refillThreadCache(current);
                 }
-                // If we didn't free up enough such that we are at least midway between min and hwm, expand
-                if (numberOfUnboundMonitors < (unboundMonitorsHwm + UNBOUNDLIST_MIN_QTY) >> 1) {
-                    expandUnboundList();
+                if (deflate) {
+                    requestDeflation(current);
                 }
-                monitor = takeFromUnboundList();
             }
         }
+        inflations++;
         monitor.setBoundObject(object);
         if (Monitor.TraceMonitors) {
             final boolean lockDisabledSafepoints = Log.lock();
@@ -359,15 +476,84 @@ public class JavaMonitorManager {
     public static void unbindMonitor(JavaMonitor monitor) {
         final ManagedMonitor bindableMonitor = (ManagedMonitor) monitor;
         bindableMonitor.reset();
+        inflations--;
         if (inGlobalSafepoint) {
             addToUnboundList(bindableMonitor);
         } else {
-            synchronized (LOCK) {
-                addToUnboundList(bindableMonitor);
+            final VmThread current = VmThread.current();
+            if (current.monitorCacheSize == THREAD_CACHE_MAX_QTY) {
+                synchronized (LOCK) {
+                    spillThreadCache(current);
+                }
+            }
+            addToThreadCache(current, bindableMonitor);
+        }
+    }
+
+    private static ManagedMonitor takeFromThreadCache(VmThread thread) {
+        final ManagedMonitor monitor = (ManagedMonitor) thread.monitorCache;
+        if (monitor != null) {
+            thread.monitorCache = monitor.next();
+            thread.monitorCacheSize--;
+            monitor.setNext(null);
+        }
+        return monitor;
+    }
+
+    private static void addToThreadCache(VmThread thread, ManagedMonitor monitor) {
+        monitor.setNext((ManagedMonitor) thread.monitorCache);
+        thread.monitorCache = monitor;
+        thread.monitorCacheSize++;
+    }
+
+    /**
+     * Moves up to {@link #THREAD_CACHE_BATCH_QTY} monitors from the free list to the cache of a given thread.
+     * The caller must hold {@link #LOCK}.
+     */
+    @NO_SAFEPOINT_POLLS("free list access must be atomic with respect to unbinding")
+    private static void refillThreadCache(VmThread thread) {
+        for (int i = 0; i < THREAD_CACHE_BATCH_QTY && numberOfUnboundMonitors > UNBOUNDLIST_MIN_QTY; i++) {
+            addToThreadCache(thread, takeFromUnboundList());
+        }
+    }
+
+    /**
+     * Moves {@link #THREAD_CACHE_BATCH_QTY} monitors from the cache of a given thread to the free list.
+     * The caller must hold {@link #LOCK}.
+     */
+    @NO_SAFEPOINT_POLLS("free list access must be atomic with respect to unbinding")
+    private static void spillThreadCache(VmThread thread) {
+        for (int i = 0; i < THREAD_CACHE_BATCH_QTY && thread.monitorCache != null; i++) {
+            addToUnboundList(takeFromThreadCache(thread));
+        }
+    }
+
+    /**
+     * Returns all the monitors in the cache of a terminating thread to the free list.
+     *
+     * @param thread a thread that will not bind any more monitors
+     */
+    public static void releaseMonitorCache(VmThread thread) {
+        synchronized (LOCK) {
+            while (thread.monitorCache != null) {
+                spillThreadCache(thread);
             }
         }
     }
 
+    /**
+     * Submits a {@link DeflateMonitors} operation unless one is already pending or cannot be submitted
+     * by the current thread. The current thread does not wait for the operation to complete.
+     */
+    private static void requestDeflation(VmThread current) {
+        if (deflationRequested || current.isVmOperationThread() || Thread.holdsLock(VmThreadMap.THREAD_LOCK) || Log.lockOwner() == current ||
+                        Heap.isAllocationDisabledForCurrentThread()) {
+            return;
+        }
+        deflationRequested = true;
+        new DeflateMonitors().submit();
+    }
+
     @NO_SAFEPOINT_POLLS("verification requires mutual exclusion with GC")
     private static int verifyBindableMonitors() {
         int errors = 0;
@@ -403,6 +589,9 @@ public class JavaMonitorManager {
         // This is the only place where we need to synchronize monitor list access
         // between a mutator thread and a GC thread which is performing unbinding.
         SafepointPoll.disable();
+        if (MaxineVM.isRunning()) {
+            expansions++;
+        }
         for (int i = 0; i < bindableMonitors.length; i++) {
             newAllBindable[i] = bindableMonitors[i];
         }
@@ -449,7 +638,7 @@ public class JavaMonitorManager {
      */
     public static void beforeGarbageCollection() {
         inGlobalSafepoint = true;
-        unbindUnownedMonitors();
+        gcDeflations += unbindUnownedMonitors(true);
     }
 
     /**
@@ -478,8 +667,13 @@ public class JavaMonitorManager {
 
     /**
      * Must only be called on a global safepoint.
+     *
+     * @param beforeGC specifies if a garbage collection follows, in which case the monitors that stay bound
+     *            are {@linkplain ManagedMonitor#preGCPrepare() prepared} for it
+     * @return the number of monitors unbound
      */
-    private static void unbindUnownedMonitors() {
+    private static int unbindUnownedMonitors(boolean beforeGC) {
+        int unbound = 0;
         // Mark all protected monitors
         VmThreadMap.ACTIVE.forAllThreadLocals(null, protectedMonitorGatherer);
         // Deflate all non-protected and non-sticky monitors with no owner
@@ -503,10 +697,12 @@ public class JavaMonitorManager {
                 // This is thread-safe as mutator thread access to the free-list is
                 // atomic with respect to safepointing.
                 addToUnboundList(monitor);
-            } else if (monitor.isBound()) {
+                unbound++;
+            } else if (beforeGC && monitor.isBound()) {
                 monitor.preGCPrepare();
             }
         }
+        return unbound;
     }
 
     /**
@@ -50,6 +50,13 @@ public abstract class Mutex {
       */
     public abstract boolean lock();
 
+    /**
+     * Causes the current thread to lock the mutex if it is not locked, without blocking.
+     *
+     * @return true if the mutex was locked by the current thread; false if it is locked by another thread
+     */
+    public abstract boolean tryLock();
+
      /**
       * Causes the current thread to perform an unlock on the mutex.
       *
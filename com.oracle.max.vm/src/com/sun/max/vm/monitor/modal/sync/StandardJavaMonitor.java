@@ -25,6 +25,7 @@ package com.sun.max.vm.monitor.modal.sync;
 import com.sun.cri.bytecode.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.runtime.*;
 import com.sun.max.vm.thread.*;
 
@@ -74,10 +75,93 @@ public class StandardJavaMonitor extends AbstractJavaMonitor {
 
     private int notifiedThreads;
 
+    static int MonitorSpinLimit = 100;
+    static {
+        VMOptions.addFieldOption("-XX:", "MonitorSpinLimit", StandardJavaMonitor.class,
+            "Maximum number of attempts a thread makes to acquire a contended monitor by spinning before blocking (0 disables spinning).");
+    }
+
+    /**
+     * Determines if threads spin on contended monitors. This is only the case on a multiprocessor.
+     */
+    static boolean spinning;
+
+    /**
+     * The minimum value of {@link #spinLimit}. Spinning never stops entirely so that a monitor whose
+     * critical sections become short again is detected.
+     */
+    private static final int MIN_SPIN_LIMIT = 4;
+
+    /**
+     * The maximum number of {@linkplain Intrinsics#pause() pauses} between two attempts to acquire a monitor while spinning.
+     */
+    private static final int MAX_SPIN_PAUSES = 64;
+
+    /**
+     * The number of attempts a thread currently makes to acquire this monitor by spinning before blocking.
+     * This is doubled after a successful spin and halved after an unsuccessful one.
+     */
+    private int spinLimit = MIN_SPIN_LIMIT;
+
+    /**
+     * Spin statistics. These counters are not synchronized and may be slightly inaccurate.
+     */
+    private static long spinSuccesses;
+    private static long spinFailures;
+    private static long spinSkips;
+
     public StandardJavaMonitor() {
         mutex = MutexFactory.create();
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        spinLimit = MIN_SPIN_LIMIT;
+    }
+
+    /**
+     * Tries to acquire the mutex of this monitor by spinning, backing off exponentially between attempts.
+     * Spinning is abandoned as soon as the owner of the monitor is not running as it will then not release
+     * the monitor soon.
+     *
+     * @return true if the mutex was acquired; false if the current thread must block on it
+     */
+    private boolean spinLock() {
+        final int limit = Math.min(spinLimit, MonitorSpinLimit);
+        int pauses = 1;
+        for (int i = 0; i < limit; i++) {
+            final VmThread owner = ownerThread;
+            if (owner != null && owner.state() != Thread.State.RUNNABLE) {
+                spinSkips++;
+                return false;
+            }
+            if (mutex.tryLock()) {
+                spinLimit = Math.min(limit << 1, MonitorSpinLimit);
+                spinSuccesses++;
+                return true;
+            }
+            for (int j = 0; j < pauses; j++) {
+                Intrinsics.pause();
+            }
+            if (pauses < MAX_SPIN_PAUSES) {
+                pauses <<= 1;
+            }
+        }
+        spinLimit = Math.max(limit >> 1, MIN_SPIN_LIMIT);
+        spinFailures++;
+        return false;
+    }
+
+    static void printSpinStatistics() {
+        Log.print("  spin successes:          ");
+        Log.println(spinSuccesses);
+        Log.print("  spin failures:           ");
+        Log.println(spinFailures);
+        Log.print("  spins skipped:           ");
+        Log.println(spinSkips);
+    }
+
     private static void raiseIllegalMonitorStateException(VmThread owner) {
         if (owner == null) {
             throw new IllegalMonitorStateException();
@@ -94,9 +178,13 @@ public class StandardJavaMonitor extends AbstractJavaMonitor {
             traceEndMonitorEnter(currentThread);
             return;
         }
-        currentThread.setState(Thread.State.BLOCKED);
-        mutex.lock();
-        currentThread.setState(Thread.State.RUNNABLE);
+        if (!spinning || !spinLock()) {
+            final long flightStart = FlightRecorder.startTime();
+            currentThread.setState(Thread.State.BLOCKED);
+            mutex.lock();
+            currentThread.setState(Thread.State.RUNNABLE);
+            FlightRecorder.monitorContended(flightStart, boundObject());
+        }
         ownerThread = currentThread;
         setBindingProtection(BindingProtection.PROTECTED);
         recursionCount = 1;
@@ -22,11 +22,19 @@
  */
 package com.sun.max.vm.profile;
 
+import java.util.*;
+
+import com.sun.cri.bytecode.*;
+import com.sun.cri.ri.*;
 import com.sun.max.annotate.*;
+import com.sun.max.unsafe.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.classfile.*;
+import com.sun.max.vm.classfile.constant.*;
 import com.sun.max.vm.code.*;
 import com.sun.max.vm.compiler.*;
+import com.sun.max.vm.compiler.target.*;
 import com.sun.max.vm.object.ArrayAccess;
 import com.sun.max.vm.object.ObjectAccess;
 
@@ -71,9 +79,53 @@ public class MethodInstrumentation {
         }
     }
 
+    /**
+     * Records a method entrypoint in a profile created by {@link MethodProfile.Builder#addMethodProfile(int, int)}.
+     * Both halves of the address are compared, so different methods are never counted as one.
+     */
     @NEVER_INLINE
-    public static void recordReceiver(MethodProfile mpo, int methodId, int mpoIndex, int entries) {
-        findAndIncrement(mpo, mpoIndex, entries, methodId, MethodProfile.UNDEFINED_METHOD_ID);
+    public static void recordReceiver(MethodProfile mpo, Address entryPoint, int mpoIndex, int entries) {
+        int low = (int) entryPoint.toLong();
+        int high = (int) (entryPoint.toLong() >>> 32);
+        int[] data = mpo.rawData();
+        int max = mpoIndex + entries * 3;
+        for (int i = mpoIndex; i < max; i += 3) {
+            int id = ArrayAccess.getInt(data, i);
+            if (id == low && ArrayAccess.getInt(data, i + 1) == high) {
+                // this entry matches
+                incrementProfileCounterAtIndex(mpo, i + 2);
+                return;
+            } else if (id == MethodProfile.UNDEFINED_METHOD_ID) {
+                // this entry is empty
+                ArrayAccess.setInt(data, i, low);
+                ArrayAccess.setInt(data, i + 1, high);
+                ArrayAccess.setInt(data, i + 2, 1);
+                return;
+            }
+        }
+        // failed to find matching entry, increment default
+        incrementProfileCounterAtIndex(mpo, max + 1);
+    }
+
+    /**
+     * Gets the distance between the type profile and the method profile of a call site profile
+     * created by {@link MethodProfile.Builder#addReceiverProfile(int, int)}.
+     */
+    @INLINE
+    public static int receiverMethodProfileOffset(int entries) {
+        return entries * 2 + 2;
+    }
+
+    /**
+     * Records the receiver type and the selected target of a virtual or interface call. The target is
+     * identified by its entry point.
+     *
+     * @param mpoIndex the index of a call site profile created by {@link MethodProfile.Builder#addReceiverProfile(int, int)}
+     */
+    @INLINE
+    public static void recordCallSite(MethodProfile mpo, Object receiver, Address entryPoint, int mpoIndex) {
+        recordType(mpo, receiver, mpoIndex, DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
+        recordReceiver(mpo, entryPoint, mpoIndex + receiverMethodProfileOffset(DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES), DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
     }
 
     @INLINE
@@ -168,6 +220,185 @@ public class MethodInstrumentation {
         return null;
     }
 
+    /**
+     * Converts the type profile recorded for a given bytecode index to the compiler interface representation.
+     *
+     * @return {@code null} if there is no type profile for {@code bci} or it is empty
+     */
+    public static RiTypeProfile computeTypeProfile(MethodProfile mpo, int bci) {
+        Integer[] typeProfile = mpo.getTypeProfile(bci);
+        if (typeProfile == null) {
+            return null;
+        }
+        long total = 0;
+        int recorded = 0;
+        for (int i = 0; i < typeProfile.length; i += 2) {
+            total += typeProfile[i + 1];
+            if (typeProfile[i] != MethodProfile.UNDEFINED_TYPE_ID) {
+                recorded++;
+            }
+        }
+        if (total <= 0) {
+            return null;
+        }
+        RiTypeProfile result = new RiTypeProfile();
+        result.count = (int) Math.min(total, Integer.MAX_VALUE);
+        // the anonymous entry stands for at least one other type
+        result.morphism = typeProfile.length / 2;
+        result.types = new RiResolvedType[recorded];
+        result.probabilities = new float[recorded];
+        int j = 0;
+        for (int i = 0; i < typeProfile.length; i += 2) {
+            if (typeProfile[i] != MethodProfile.UNDEFINED_TYPE_ID) {
+                result.types[j] = ClassIDManager.toClassActor(typeProfile[i]);
+                result.probabilities[j] = (float) (typeProfile[i + 1] / (double) total);
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The targets selected at a virtual or interface call site, as recorded by {@link #recordCallSite}.
+     */
+    public static final class ReceiverMethodProfile {
+        /**
+         * The targets that could be identified, most frequent first.
+         */
+        public final ClassMethodActor[] methods;
+
+        /**
+         * The number of times each of {@link #methods} was selected.
+         */
+        public final int[] counts;
+
+        /**
+         * The number of times the call site was executed, including the selection of targets
+         * that were not recorded or could not be identified.
+         */
+        public final long total;
+
+        ReceiverMethodProfile(ClassMethodActor[] methods, int[] counts, long total) {
+            this.methods = methods;
+            this.counts = counts;
+            this.total = total;
+        }
+    }
+
+    /**
+     * Maps the entry points recorded in the method profile of a call site back to the methods they belong to.
+     * The candidates are the method named by the invoke instruction and its implementations in the receiver types
+     * recorded at the same call site. An entry point is matched against the baseline and optimized code of each
+     * candidate. Entry points of trampolines or of code that has since been replaced cannot be matched and are
+     * only accounted for in {@link ReceiverMethodProfile#total}.
+     *
+     * @param caller the method containing the call site
+     * @param mpo the profile of {@code caller}
+     * @param bci the bytecode index of an {@code invokevirtual} or {@code invokeinterface} instruction
+     * @return {@code null} if there is no method profile for {@code bci} or it is empty
+     */
+    public static ReceiverMethodProfile computeReceiverMethodProfile(ClassMethodActor caller, MethodProfile mpo, int bci) {
+        long[] methodProfile = mpo.getMethodProfile(bci);
+        if (methodProfile == null) {
+            return null;
+        }
+        MethodActor declared = invokedMethod(caller.compilee(), bci);
+        if (declared == null) {
+            return null;
+        }
+        List<ClassMethodActor> candidates = new ArrayList<ClassMethodActor>();
+        if (declared instanceof ClassMethodActor && !declared.isAbstract()) {
+            candidates.add((ClassMethodActor) declared);
+        }
+        Integer[] typeProfile = mpo.getTypeProfile(bci);
+        if (typeProfile != null) {
+            for (int i = 0; i < typeProfile.length; i += 2) {
+                if (typeProfile[i] != MethodProfile.UNDEFINED_TYPE_ID) {
+                    RiResolvedMethod impl = ClassIDManager.toClassActor(typeProfile[i]).resolveMethodImpl(declared);
+                    if (impl instanceof ClassMethodActor && !candidates.contains(impl)) {
+                        candidates.add((ClassMethodActor) impl);
+                    }
+                }
+            }
+        }
+
+        // the last pair holds the count of targets that did not fit in the profile
+        long total = 0;
+        final Map<ClassMethodActor, Integer> counts = new HashMap<ClassMethodActor, Integer>();
+        for (int i = 0; i < methodProfile.length; i += 2) {
+            int count = (int) methodProfile[i + 1];
+            total += count;
+            if (i + 2 < methodProfile.length && methodProfile[i] != MethodProfile.UNDEFINED_METHOD_ID && count > 0) {
+                for (ClassMethodActor candidate : candidates) {
+                    if (isEntryPointOf(candidate, methodProfile[i])) {
+                        Integer c = counts.get(candidate);
+                        counts.put(candidate, c == null ? count : c + count);
+                        break;
+                    }
+                }
+            }
+        }
+        if (total <= 0) {
+            return null;
+        }
+        ClassMethodActor[] methods = counts.keySet().toArray(new ClassMethodActor[counts.size()]);
+        Arrays.sort(methods, new Comparator<ClassMethodActor>() {
+            public int compare(ClassMethodActor o1, ClassMethodActor o2) {
+                return counts.get(o2).compareTo(counts.get(o1));
+            }
+        });
+        int[] methodCounts = new int[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            methodCounts[i] = counts.get(methods[i]);
+        }
+        return new ReceiverMethodProfile(methods, methodCounts, total);
+    }
+
+    /**
+     * Gets the method named by the {@code invokevirtual} or {@code invokeinterface} instruction at a given
+     * bytecode index, provided it can be resolved without loading classes.
+     */
+    private static MethodActor invokedMethod(ClassMethodActor method, int bci) {
+        CodeAttribute codeAttribute = method.codeAttribute();
+        if (codeAttribute == null) {
+            return null;
+        }
+        byte[] code = codeAttribute.code();
+        if (bci < 0 || bci + 2 >= code.length) {
+            return null;
+        }
+        int opcode = code[bci] & 0xff;
+        if (opcode != Bytecodes.INVOKEVIRTUAL && opcode != Bytecodes.INVOKEINTERFACE) {
+            return null;
+        }
+        ConstantPool cp = codeAttribute.cp;
+        int cpi = Bytes.beU2(code, bci + 1);
+        try {
+            MethodRefConstant methodRef = cp.methodAt(cpi);
+            if (!methodRef.isResolvableWithoutClassLoading(cp)) {
+                return null;
+            }
+            return methodRef.resolve(cp, cpi);
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isEntryPointOf(ClassMethodActor method, long methodId) {
+        Object compiledState = method.compiledState;
+        Compilations compilations = null;
+        if (compiledState instanceof Compilation) {
+            compilations = ((Compilation) compiledState).prevCompilations;
+        } else if (compiledState instanceof Compilations) {
+            compilations = (Compilations) compiledState;
+        }
+        return compilations != null && (hasEntryPoint(compilations.baseline, methodId) || hasEntryPoint(compilations.optimized, methodId));
+    }
+
+    private static boolean hasEntryPoint(TargetMethod targetMethod, long methodId) {
+        return targetMethod != null && targetMethod.getEntryPoint(CallEntryPoint.VTABLE_ENTRY_POINT).toLong() == methodId;
+    }
+
     private static Hub typeIdToHub(Integer typeId) {
         if (typeId != MethodProfile.UNDEFINED_TYPE_ID) {
             ClassActor classActor = ClassIDManager.toClassActor(typeId);
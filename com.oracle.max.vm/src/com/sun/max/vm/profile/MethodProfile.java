@@ -40,9 +40,8 @@ import com.sun.max.vm.compiler.target.*;
  * branch taken + branch not taken != count of entry of block).
  *
  * This class only stores primitive profiling information in the form of ints--i.e. no Objects.
- * Therefore profiling receiver method types and method implementations can use approximations
- * (e.g. the low order bits of the code entrypoint address) or the ID of a type instead
- * of the type itself.
+ * Therefore receiver type profiles record the ID of a type instead of the type itself, and
+ * receiver method profiles record the code entrypoint address of a method in two ints.
  *
  * This class maintains the data sorted by bytecode index and therefore most operations to
  * receive information for a particular BCI take logarithmic time.
@@ -64,6 +63,7 @@ public class MethodProfile {
     private static final byte SWITCH_CASE_COUNT                  = 8;
     private static final byte SWITCH_DEFAULT_COUNT               = 9;
     private static final byte EXCEPTION_SEEN_COUNT               = 10;
+    private static final byte METHOD_ID_HIGH_BITS                = 11;
 
     private static final byte BR_TAKEN_INDEX                     = 0;
     private static final byte BR_NOT_TAKEN_INDEX                 = 1;
@@ -107,7 +107,8 @@ public class MethodProfile {
     /**
      * When {@code true} re-compilation is disabled.
      * This is used by JVMTI to prevent methods with JVMTI instrumentation from
-     * being recompiled with the optimizing compiler (and so removing the instrumentation).
+     * being recompiled with the optimizing compiler (and so removing the instrumentation),
+     * and by the compilation broker once the optimizing compiler has failed to compile the method.
      */
     public boolean compilationDisabled;
 
@@ -310,15 +311,42 @@ public class MethodProfile {
 
     /**
      * Gets the receiver method profile of the specified bytecode index, if it is available.
-     * The data is formatted as an array of integers, in pairs. The first integer in
-     * a pair represents the low 32 bits of the method entrypoint, and the second integer
-     * represents the number of times that entrypoint was seen.
+     * The data is formatted as an array of longs, in pairs. The first long in a pair
+     * represents the method entrypoint, and the second long represents the number of
+     * times that entrypoint was seen. The entrypoint of an unused pair and of the last
+     * pair, which counts the entrypoints that did not fit in the profile, is
+     * {@link #UNDEFINED_METHOD_ID}.
      * @param bci the bytecode index for which to get the information
      * @return an array of entrypoint / count pairs;
      * {@code null} if this profile info does not have such an entry
      */
-    public Integer[] getMethodProfile(int bci) {
-        return extractOrderedPairs(bci, METHOD_ID, METHOD_COUNT, METHOD_UNUSED_COUNT);
+    public long[] getMethodProfile(int bci) {
+        int index = search(bci, METHOD_ID);
+        if (index < 0) {
+            return null;
+        }
+        int minfo = encodeInfo(bci, METHOD_ID);
+        int hinfo = encodeInfo(bci, METHOD_ID_HIGH_BITS);
+        int cinfo = encodeInfo(bci, METHOD_COUNT);
+        int einfo = encodeInfo(bci, METHOD_UNUSED_COUNT);
+        List<Long> list = new ArrayList<Long>();
+        for (; index < dataLength() - 1; index += 3) {
+            if (infoAt(index) == einfo) {
+                assert infoAt(index + 1) == cinfo;
+                list.add((long) UNDEFINED_METHOD_ID);
+                list.add((long) dataAt(index + 1));
+                break;
+            }
+            assert infoAt(index) == minfo && infoAt(index + 1) == hinfo && infoAt(index + 2) == cinfo;
+            int low = dataAt(index);
+            list.add(low == UNDEFINED_METHOD_ID ? UNDEFINED_METHOD_ID : ((long) dataAt(index + 1) << 32) | (low & 0xFFFFFFFFL));
+            list.add((long) dataAt(index + 2));
+        }
+        long[] methodProfile = new long[list.size()];
+        for (int i = 0; i < methodProfile.length; i++) {
+            methodProfile[i] = list.get(i);
+        }
+        return methodProfile;
     }
 
     /**
@@ -625,10 +653,28 @@ public class MethodProfile {
             return index;
         }
 
+        /**
+         * Adds the profile of a virtual or interface call site, consisting of a type profile of the receiver
+         * immediately followed by a method profile of the selected target. The method profile starts
+         * {@link MethodInstrumentation#receiverMethodProfileOffset(int)} entries after the returned index.
+         *
+         * @return the index of the type profile
+         */
+        public int addReceiverProfile(int bci, int entries) {
+            int index = addTypeProfile(bci, entries);
+            addMethodProfile(bci, entries);
+            return index;
+        }
+
+        /**
+         * Adds a receiver method profile. Each entry consists of the low and high 32 bits of a method entrypoint,
+         * followed by its count. The entries are followed by the count of the entrypoints that did not fit.
+         */
         public int addMethodProfile(int bci, int entries) {
             int index = infoList.size();
             for (int i = 0; i < entries; i++) {
                 add(bci, METHOD_ID, MethodProfile.UNDEFINED_METHOD_ID);
+                add(bci, METHOD_ID_HIGH_BITS, 0);
                 add(bci, METHOD_COUNT, 0);
             }
             add(bci, METHOD_UNUSED_COUNT, 0);
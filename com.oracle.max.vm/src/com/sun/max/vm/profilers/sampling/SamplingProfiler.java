@@ -44,10 +44,12 @@ import com.sun.max.unsafe.*;
  * Field {@link #workingStackInfo}, of {@link StackInfo} is used to gather the stack for a thread,
  * and an exact-length copy is entered into the map when a new stack is discovered.
  *
- * Note that due to the way the {@link VmOperation} works, all threads will be stopped in a
- * native method at the time the stack is gathered. Some threads may indeed be blocked
- * on a native method called by the thread. Others will be in the monitor code after
- * taking the trap that starts the thread stopping machinery. These stack frames should not
+ * Stacks are gathered by a {@linkplain VmOperation.Mode#Handshake handshake} with each sampled thread
+ * in turn, so no thread is stopped while another one is being sampled. A thread executing Java code
+ * gathers its own stack when it traps at its next safepoint, starting at the trapped frame.
+ * A thread in native code is frozen and its stack is gathered by the {@link VmOperation} thread.
+ * Some of these threads may indeed be blocked on a native method called by the thread. Others
+ * will be in VM code that blocks in native code (e.g. the monitor code). These stack frames should not
  * be presented to the user. This is handled by {@link SamplingStackTraceVisitor#clear()}.
  * Unfortunately this does mean that the stack depth control can't be honored trivially
  * as the stack is being gathered. This is optimized with {@link #workingStackClearSeen}.
@@ -331,12 +333,12 @@ public abstract class SamplingProfiler extends Thread {
     public abstract void run();
 
     /**
-     * Encapsulates the basic logic of handling one thread after all threads are frozen at a safepoint.
+     * Encapsulates the basic logic of handling one thread when it is handshaked.
      */
     protected abstract class StackTraceGatherer extends VmOperation {
 
         StackTraceGatherer(String name) {
-            super(name, null, Mode.Safepoint);
+            super(name, null, Mode.Handshake);
         }
 
         @Override
@@ -87,6 +87,15 @@ public abstract class InvocationStub {
      * Generates a stub for invoking a given method reflectively.
      */
     public static MethodInvocationStub newMethodStub(Method method, Boxing boxing) {
+        return newMethodStub(method, boxing, false);
+    }
+
+    /**
+     * Generates a stub for invoking a given method reflectively.
+     *
+     * @param isSpecialized specifies if primitive arguments boxed in their exact box class are unboxed inline
+     */
+    public static MethodInvocationStub newMethodStub(Method method, Boxing boxing, boolean isSpecialized) {
 
         final MethodInvocationStub stub = new InvocationStubGenerator<MethodInvocationStub>(
                         method,
@@ -98,7 +107,8 @@ public abstract class InvocationStub {
                         Modifier.isStatic(method.getModifiers()),
                         Modifier.isPrivate(method.getModifiers()),
                         null,
-                        boxing).stub();
+                        boxing,
+                        isSpecialized).stub();
         stub.setTarget(method);
         return stub;
     }
@@ -109,6 +119,15 @@ public abstract class InvocationStub {
      * @param classToInstantiate only non-null in the serialization context where it may differ from constructor.getDeclaringClass()
      */
     public static ConstructorInvocationStub newConstructorStub(Constructor constructor, Class classToInstantiate, Boxing boxing) {
+        return newConstructorStub(constructor, classToInstantiate, boxing, false);
+    }
+
+    /**
+     * Generates a stub for invoking a given constructor reflectively.
+     *
+     * @param isSpecialized specifies if primitive arguments boxed in their exact box class are unboxed inline
+     */
+    public static ConstructorInvocationStub newConstructorStub(Constructor constructor, Class classToInstantiate, Boxing boxing, boolean isSpecialized) {
         final ConstructorInvocationStub stub = new InvocationStubGenerator<ConstructorInvocationStub>(
                         constructor,
                         ConstructorInvocationStub.class,
@@ -119,7 +138,8 @@ public abstract class InvocationStub {
                         false,
                         Modifier.isPrivate(constructor.getModifiers()),
                         classToInstantiate,
-                        boxing).stub();
+                        boxing,
+                        isSpecialized).stub();
         stub.setTarget(constructor);
         return stub;
     }
@@ -89,6 +89,7 @@ public class InvocationStubGenerator<T> {
     private final boolean isPrivate;
     private final boolean isInterface;
     private final boolean isConstructor;
+    private final boolean isSpecialized;
 
     // These are constant pool indexes (CPIs) for the non-shared constants used by the generated code
     private final int targetCPI;
@@ -132,6 +133,8 @@ public class InvocationStubGenerator<T> {
      * @param isPrivate specifies if the target is {@code private}
      * @param classToInstantiate the class instantiated by the target (ignored if target is not a constructor and only non-null for serialization stubs)
      * @param boxing enum value encapsulating the semantics of how values are to be boxed and unboxed by the stub
+     * @param isSpecialized specifies if {@link Boxing#JAVA} boxed primitive arguments of the exact parameter type are
+     *            to be unboxed inline instead of by the generic {@link Kind} unboxing methods
      */
     InvocationStubGenerator(AccessibleObject target,
                     Class<T> superClass,
@@ -142,9 +145,11 @@ public class InvocationStubGenerator<T> {
                     boolean isStatic,
                     boolean isPrivate,
                     Class classToInstantiate,
-                    Boxing boxing) {
+                    Boxing boxing,
+                    boolean isSpecialized) {
         try {
             this.boxing = boxing;
+            this.isSpecialized = isSpecialized && boxing == Boxing.JAVA;
             this.isStatic = isStatic;
             this.isPrivate = isPrivate;
             this.isInterface = declaringClass.isInterface();
@@ -426,7 +431,11 @@ public class InvocationStubGenerator<T> {
             asm.aload(argsParameter);
             asm.iconst(i);
             asm.aaload();
-            boxing.unbox(asm, parameterType, runtimeParameterTypesPoolCPIs[i]);
+            if (isSpecialized && !parameterKind.isReference && !parameterKind.isWord) {
+                unboxExact(asm, parameterKind);
+            } else {
+                boxing.unbox(asm, parameterType, runtimeParameterTypesPoolCPIs[i]);
+            }
             if (parameterKind.isWord) {
                 isUnsafe = true;
             }
@@ -537,6 +546,36 @@ public class InvocationStubGenerator<T> {
         return virtualMethodActor;
     }
 
+    /**
+     * Unboxes the {@link Boxing#JAVA} boxed argument on the top of the stack, inline if it is boxed in
+     * the exact box class of {@code kind} and by the generic unboxing method (which handles widening
+     * conversions and raises the appropriate exceptions) otherwise.
+     */
+    private static void unboxExact(BytecodeAssembler asm, Kind kind) {
+        // dup
+        // instanceof <box class>
+        // ifeq <generic label>
+        // checkcast <box class>
+        // invokevirtual <box class>.<kind>Value()
+        // goto <done label>
+        // <generic label:>
+        // invokestatic Kind.unbox<Kind>(Object)
+        // <done label:>
+        final int boxClass = JAVA_BOX_CLASS.get(kind.asEnum);
+        final Label generic = asm.newLabel();
+        final Label done = asm.newLabel();
+        asm.dup();
+        asm.instanceof_(boxClass);
+        asm.ifeq(generic);
+        asm.checkcast(boxClass);
+        asm.invokevirtual(JAVA_BOX_VALUE.get(kind.asEnum), 1, kind.stackSlots);
+        asm.goto_(done);
+        generic.bind();
+        asm.adjustStack(1 - kind.stackSlots);
+        asm.invokestatic(JAVA_UNBOX_PRIMITIVE.get(kind.asEnum), 1, kind.stackSlots);
+        done.bind();
+    }
+
     private void traceStubAsJavaSource(Class superClass,
                     Utf8Constant name,
                     Class declaringClass,
@@ -682,6 +721,8 @@ public class InvocationStubGenerator<T> {
 
     static final Map<KindEnum, Integer> JAVA_BOX_PRIMITIVE;
     static final Map<KindEnum, Integer> JAVA_UNBOX_PRIMITIVE;
+    static final Map<KindEnum, Integer> JAVA_BOX_CLASS;
+    static final Map<KindEnum, Integer> JAVA_BOX_VALUE;
 
     static final Map<KindEnum, Integer> VALUE_BOX;
     static final Map<KindEnum, Integer> VALUE_UNBOX;
@@ -717,6 +758,8 @@ public class InvocationStubGenerator<T> {
         final EnumMap<KindEnum, Integer> prototype = new EnumMap<KindEnum, Integer>(KindEnum.class);
         final Map<KindEnum, Integer> javaBoxPrimitive = prototype.clone();
         final Map<KindEnum, Integer> javaUnboxPrimitive = prototype.clone();
+        final Map<KindEnum, Integer> javaBoxClass = prototype.clone();
+        final Map<KindEnum, Integer> javaBoxValue = prototype.clone();
         final Map<KindEnum, Integer> valueBox = prototype.clone();
         final Map<KindEnum, Integer> valueUnbox = prototype.clone();
 
@@ -725,6 +768,8 @@ public class InvocationStubGenerator<T> {
             final String kindName = kind.name.toString();
             javaBoxPrimitive.put(kind.asEnum, register(createClassMethodConstant(boxClass, SymbolTable.makeSymbol("valueOf"), kind.javaClass)));
             javaUnboxPrimitive.put(kind.asEnum, register(createClassMethodConstant(Kind.class, SymbolTable.makeSymbol("unbox" + Strings.capitalizeFirst(kindName, true)), Object.class)));
+            javaBoxClass.put(kind.asEnum, register(createClassConstant(boxClass)));
+            javaBoxValue.put(kind.asEnum, register(createClassMethodConstant(boxClass, SymbolTable.makeSymbol(kindName + "Value"))));
         }
 
         valueBox.put(Kind.REFERENCE.asEnum, register(createClassMethodConstant(ReferenceValue.class, SymbolTable.makeSymbol("from"), Object.class)));
@@ -747,6 +792,8 @@ public class InvocationStubGenerator<T> {
         VALUE_UNBOX = Collections.unmodifiableMap(valueUnbox);
         JAVA_BOX_PRIMITIVE = Collections.unmodifiableMap(javaBoxPrimitive);
         JAVA_UNBOX_PRIMITIVE = Collections.unmodifiableMap(javaUnboxPrimitive);
+        JAVA_BOX_CLASS = Collections.unmodifiableMap(javaBoxClass);
+        JAVA_BOX_VALUE = Collections.unmodifiableMap(javaBoxValue);
 
         Map<Class<? extends Word>, Integer> castWord = new HashMap<Class<? extends Word>, Integer>();
         castWord.put(Offset.class, Word_asOffset);
@@ -43,12 +43,14 @@ import com.sun.max.vm.*;
 import com.sun.max.vm.MaxineVM.Phase;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.actor.member.*;
+import com.sun.max.vm.classfile.*;
 import com.sun.max.vm.compiler.deopt.*;
 import com.sun.max.vm.heap.*;
 import com.sun.max.vm.hosted.*;
 import com.sun.max.vm.instrument.*;
 import com.sun.max.vm.jni.*;
 import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.profilers.sampling.*;
 import com.sun.max.vm.run.*;
 import com.sun.max.vm.runtime.*;
@@ -232,12 +234,17 @@ public class JavaRunScheme extends AbstractVMScheme implements RunScheme {
                     final String heapProfOptionPrefix = hprofOption.toString();
                     heapSamplingProfiler = new HeapSamplingProfiler(heapProfOptionPrefix, heapProfOptionValue);
                 }
+                ParallelClassLoading.initialize();
+                VMLog.vmLog().initialize(MaxineVM.Phase.RUNNING);
                 break;
             }
 
             case TERMINATING: {
                 JniFunctions.printJniFunctionTimers();
+                SafepointStatistics.print();
+                ClassDataSnapshot.dump();
                 terminateProfilers();
+                FlightRecorder.terminate();
                 break;
             }
             default: {
@@ -271,6 +278,8 @@ public class JavaRunScheme extends AbstractVMScheme implements RunScheme {
 
             // Install the signal handler for dumping threads when SIGHUP is received
             Signal.handle(new Signal("QUIT"), new PrintThreads(false));
+
+            FlightRecorder.initialize();
         }
     }
 
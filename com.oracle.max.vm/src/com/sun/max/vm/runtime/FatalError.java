@@ -34,6 +34,7 @@ import com.sun.max.program.ProgramError.Handler;
 import com.sun.max.unsafe.*;
 import com.sun.max.vm.*;
 import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.thread.*;
 
 /**
@@ -239,6 +240,7 @@ public final class FatalError extends Error {
             Intrinsics.breakpointTrap();
         }
         VMLog.vmLog().flush(VMLog.FLUSHMODE_CRASH);
+        FlightRecorder.crashDump();
         if (doTrapExit) {
             MaxineVM.native_trap_exit(11, instructionPointer);
         }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.runtime;
+
+import static com.sun.max.vm.thread.VmThreadLocal.*;
+
+import com.sun.max.unsafe.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.code.*;
+import com.sun.max.vm.compiler.target.*;
+import com.sun.max.vm.stack.*;
+import com.sun.max.vm.thread.*;
+
+/**
+ * Time-to-safepoint statistics for {@link VmOperation}s that freeze threads.
+ * <p>
+ * For each such operation, the time taken to freeze all its targeted threads (the <i>sync time</i>) and the
+ * time between starting to freeze the threads and thawing them (the <i>stopped time</i>) are accumulated.
+ * The sync times are also recorded in a histogram with decimal buckets. The thread that froze last is the
+ * one that delayed the operation the most, and the method it was executing when it froze is attributed the
+ * delay. Methods that are frequently attributed long delays typically contain a long running loop or native
+ * transition without a safepoint poll.
+ * <p>
+ * The totals are exported through the {@linkplain com.sun.max.vm.management.RuntimeManagement management interface}.
+ * All updates are made by the VM operation thread, so no synchronization is required.
+ */
+public final class SafepointStatistics {
+
+    private SafepointStatistics() {
+    }
+
+    static boolean PrintSafepointStatistics;
+    static int SafepointSyncTimeLogThreshold;
+    static {
+        VMOptions.addFieldOption("-XX:", "PrintSafepointStatistics", SafepointStatistics.class,
+            "Print time-to-safepoint statistics for VM operations when the VM exits.");
+        VMOptions.addFieldOption("-XX:", "SafepointSyncTimeLogThreshold", SafepointStatistics.class,
+            "Log the VM operations that take at least this many milliseconds to freeze their threads (0 disables).");
+    }
+
+    /**
+     * The upper bounds (in microseconds) of the histogram buckets. The last bucket is unbounded.
+     */
+    private static final long[] BUCKET_LIMITS = {10, 100, 1000, 10000, 100000, 1000000};
+
+    private static final String[] BUCKET_NAMES = {"< 10us", "< 100us", "< 1ms", "< 10ms", "< 100ms", "< 1s", ">= 1s"};
+
+    private static final long[] histogram = new long[BUCKET_LIMITS.length + 1];
+
+    /**
+     * The maximum number of methods that are attributed safepoint delays. Delays of any further methods are counted
+     * in {@link #unattributedDelays}.
+     */
+    private static final int MAX_DELAYING_METHODS = 32;
+
+    private static final TargetMethod[] delayingMethods = new TargetMethod[MAX_DELAYING_METHODS];
+    private static final long[] delayingMethodCounts = new long[MAX_DELAYING_METHODS];
+    private static final long[] delayingMethodNanos = new long[MAX_DELAYING_METHODS];
+    private static long unattributedDelays;
+
+    private static long count;
+    private static long totalSyncNanos;
+    private static long totalStoppedNanos;
+    private static long maxSyncNanos;
+
+    /**
+     * Records the timing of an operation that froze threads.
+     *
+     * @param operation the operation
+     * @param start the {@linkplain System#nanoTime() time} at which threads started to be frozen
+     * @param frozen the time at which all threads were frozen
+     * @param end the time at which all threads were thawed
+     * @param lastToFreeze the thread that froze last or {@code null} if no thread had to be waited for
+     * @param ip the instruction pointer of {@code lastToFreeze} when it froze
+     */
+    static void record(VmOperation operation, long start, long frozen, long end, VmThread lastToFreeze, Pointer ip) {
+        final long syncNanos = frozen - start;
+        count++;
+        totalSyncNanos += syncNanos;
+        totalStoppedNanos += end - start;
+        if (syncNanos > maxSyncNanos) {
+            maxSyncNanos = syncNanos;
+        }
+
+        final long syncMicros = syncNanos / 1000;
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && syncMicros >= BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket]++;
+
+        TargetMethod targetMethod = null;
+        if (lastToFreeze != null && !ip.isZero()) {
+            targetMethod = Code.codePointerToTargetMethod(ip);
+            attribute(targetMethod, syncNanos);
+        }
+
+        if (SafepointSyncTimeLogThreshold > 0 && syncNanos >= SafepointSyncTimeLogThreshold * 1000000L) {
+            boolean lockDisabledSafepoints = Log.lock();
+            Log.print("VmOperation[");
+            Log.print(operation.name);
+            Log.print("]: took ");
+            Log.print(syncMicros);
+            Log.print(" us to freeze threads");
+            if (lastToFreeze != null) {
+                Log.print(", last thread to freeze was ");
+                Log.printThread(lastToFreeze, false);
+                Log.print(" at ");
+                if (targetMethod != null) {
+                    Log.printLocation(targetMethod, CodePointer.from(ip), false);
+                } else {
+                    Log.print(ip);
+                }
+            }
+            Log.println();
+            Log.unlock(lockDisabledSafepoints);
+        }
+    }
+
+    private static void attribute(TargetMethod targetMethod, long syncNanos) {
+        if (targetMethod == null) {
+            unattributedDelays++;
+            return;
+        }
+        for (int i = 0; i < MAX_DELAYING_METHODS; i++) {
+            if (delayingMethods[i] == null) {
+                delayingMethods[i] = targetMethod;
+            }
+            if (delayingMethods[i] == targetMethod) {
+                delayingMethodCounts[i]++;
+                delayingMethodNanos[i] += syncNanos;
+                return;
+            }
+        }
+        unattributedDelays++;
+    }
+
+    /**
+     * Gets the instruction pointer at which a frozen thread will resume, or zero if it is not known.
+     *
+     * @param tla the thread locals of a frozen thread
+     */
+    static Pointer frozenIP(Pointer tla) {
+        final Pointer trapIP = TRAP_INSTRUCTION_POINTER.load(tla);
+        if (!trapIP.isZero()) {
+            return trapIP;
+        }
+        final Pointer anchor = LAST_JAVA_FRAME_ANCHOR.load(ETLA.load(tla));
+        if (anchor.isZero()) {
+            return Pointer.zero();
+        }
+        return JavaFrameAnchor.PC.get(anchor);
+    }
+
+    /**
+     * Gets the number of operations that froze threads.
+     */
+    public static long count() {
+        return count;
+    }
+
+    /**
+     * Gets the accumulated time (in milliseconds) spent freezing threads.
+     */
+    public static long totalSyncTimeMillis() {
+        return totalSyncNanos / 1000000;
+    }
+
+    /**
+     * Gets the accumulated time (in milliseconds) during which threads were frozen by operations.
+     */
+    public static long totalStoppedTimeMillis() {
+        return totalStoppedNanos / 1000000;
+    }
+
+    /**
+     * Gets a copy of the histogram of sync times. Entry {@code i} of the returned array is the number of operations
+     * whose sync time was less than {@code 10^(i+1)} microseconds and not less than {@code 10^i} microseconds,
+     * except for the first and last entries which are unbounded below and above respectively.
+     */
+    public static long[] syncTimeHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Prints the statistics to the {@linkplain Log log} if {@code -XX:+PrintSafepointStatistics} is enabled.
+     */
+    public static void print() {
+        if (!PrintSafepointStatistics) {
+            return;
+        }
+        Log.println("Safepoint statistics:");
+        Log.print("  operations: ");
+        Log.print(count);
+        Log.print(", total sync time: ");
+        Log.print(totalSyncNanos / 1000);
+        Log.print(" us, max sync time: ");
+        Log.print(maxSyncNanos / 1000);
+        Log.print(" us, total stopped time: ");
+        Log.print(totalStoppedNanos / 1000);
+        Log.println(" us");
+        Log.println("  sync time histogram:");
+        for (int i = 0; i < histogram.length; i++) {
+            Log.print("    ");
+            Log.print(BUCKET_NAMES[i], 10);
+            Log.println(histogram[i]);
+        }
+        Log.println("  methods executed by the last thread to freeze (count, total sync time):");
+        for (int i = 0; i < MAX_DELAYING_METHODS && delayingMethods[i] != null; i++) {
+            Log.print("    ");
+            Log.print(delayingMethodCounts[i]);
+            Log.print(", ");
+            Log.print(delayingMethodNanos[i] / 1000);
+            Log.print(" us: ");
+            Log.printMethod(delayingMethods[i], true);
+        }
+        if (unattributedDelays != 0) {
+            Log.print("    ");
+            Log.print(unattributedDelays);
+            Log.println(": <unknown or not recorded>");
+        }
+    }
+}
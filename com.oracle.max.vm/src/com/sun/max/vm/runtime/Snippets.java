@@ -145,7 +145,7 @@ public class Snippets {
     @INLINE
     public static Address selectInterfaceMethod(Object receiver, InterfaceMethodActor interfaceMethodActor, MethodProfile mpo, int mpoIndex) {
         Address entryPoint = selectInterfaceMethod(receiver, interfaceMethodActor).asAddress();
-        MethodInstrumentation.recordType(mpo, receiver, mpoIndex, MethodInstrumentation.DEFAULT_RECEIVER_METHOD_PROFILE_ENTRIES);
+        MethodInstrumentation.recordCallSite(mpo, receiver, entryPoint, mpoIndex);
         return entryPoint;
     }
 
@@ -22,18 +22,21 @@
  */
 package com.sun.max.vm.runtime;
 
+import static com.sun.max.vm.MaxineVM.*;
 import static com.sun.max.vm.runtime.VmOperationThread.*;
 import static com.sun.max.vm.thread.VmThreadLocal.*;
 
 import java.util.*;
 
 import com.oracle.max.cri.intrinsics.*;
+import com.sun.max.atomic.*;
 import com.sun.max.unsafe.*;
 import com.sun.max.unsafe.Pointer.Predicate;
 import com.sun.max.unsafe.Pointer.Procedure;
 import com.sun.max.vm.*;
 import com.sun.max.vm.actor.holder.*;
 import com.sun.max.vm.heap.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.object.*;
 import com.sun.max.vm.reference.*;
 import com.sun.max.vm.stack.*;
@@ -102,6 +105,12 @@ import com.sun.max.vm.thread.*;
  * except that {@link VmOperation}s can freeze a partial set of the running threads as Maxine implements
  * per-thread safepoints (HotSpot doesn't).</li>
  * <p>
+ * An operation whose {@link #mode} is {@link Mode#Handshake} does not freeze its targeted threads together.
+ * Instead, each targeted thread is {@linkplain #handshake(VmThread) handshaked} in turn: its safepoint latch is
+ * triggered and the thread performs {@link #doThread} on itself when it traps at its next safepoint, after which it
+ * continues executing. If the thread is in native code, it is frozen and the VM operation thread performs
+ * {@link #doThread} on its behalf. All other threads keep running throughout.
+ * <p>
  *
  * Implementation note:
  * It is simplest for a mutator thread to be blocked this way. Only under this condition can the
@@ -207,7 +216,15 @@ public class VmOperation {
          * and that the thread {@linkplain VmOperation#submit() submitting} the operation is
          * not blocked until the operation completes.
          */
-        AsyncSafepoint;
+        AsyncSafepoint,
+
+        /**
+         * Denotes that an operation is performed on each of its targeted threads in turn by means of a
+         * {@linkplain VmOperation#handshake(VmThread) handshake} without stopping any other thread
+         * and that the thread {@linkplain VmOperation#submit() submitting} the operation is
+         * blocked until the operation completes.
+         */
+        Handshake;
 
         /**
          * Determines if this mode denotes that an operation requires its targeted threads to be synchronized at a safepoint.
@@ -221,7 +238,7 @@ public class VmOperation {
          * blocked until the operation completes.
          */
         public boolean isBlocking() {
-            return this == Safepoint;
+            return this == Safepoint || this == Handshake;
         }
     }
 
@@ -270,6 +287,11 @@ public class VmOperation {
             FatalError.unexpected("Freezing thread trapped while in native code");
         }
 
+        if (mode == Mode.Handshake) {
+            doHandshakeAtSafepoint(tla, trapFrame);
+            return;
+        }
+
         // This thread must only transition to native code as a result of
         // the synchronization below.
         // Such a transition will be interpreted by the VM operation thread to
@@ -297,6 +319,54 @@ public class VmOperation {
         }
     }
 
+    /**
+     * Values of {@link #handshakeState}.
+     */
+    private static final int HANDSHAKE_ARMED = 1;
+    private static final int HANDSHAKE_RUNNING = 2;
+    private static final int HANDSHAKE_DONE = 3;
+
+    /**
+     * The state of the {@linkplain #handshake(VmThread) handshake} currently being performed by this operation.
+     * The thread that moves it from {@link #HANDSHAKE_ARMED} to {@link #HANDSHAKE_RUNNING} (i.e. either the handshaked
+     * thread or the VM operation thread) is the one that performs {@link #doThread} for the handshaked thread.
+     */
+    private final AtomicInteger handshakeState = new AtomicInteger();
+
+    /**
+     * Performs the handshake for this operation on the current thread, which just hit a safepoint.
+     *
+     * @param tla the thread locals of the current thread
+     * @param trapFrame a pointer to the trap frame
+     */
+    private void doHandshakeAtSafepoint(Pointer tla, Pointer trapFrame) {
+        if (!handshakeState.compareAndSet(HANDSHAKE_ARMED, HANDSHAKE_RUNNING)) {
+            // Either a stale trap for a handshake that has already been performed, or the VM operation
+            // thread is about to perform it on behalf of this thread. In the latter case the latch is still
+            // triggered and this thread traps again until it is thawed or the claim is undone.
+            return;
+        }
+
+        // Disarm the safepoint before doing the operation so that the current thread
+        // can be frozen by a nested operation it may trigger (e.g. a garbage collection).
+        final Pointer etla = ETLA.load(tla);
+        SAFEPOINT_LATCH.store(etla, etla);
+        VM_OPERATION.store(etla, Reference.zero());
+
+        final TrapFrameAccess tfa = vm().trapFrameAccess;
+        doThread(VmThread.current(), tfa.getPC(trapFrame), tfa.getSP(trapFrame), tfa.getFP(trapFrame));
+
+        handshakeState.set(HANDSHAKE_DONE);
+
+        if (TraceVmOperations) {
+            boolean lockDisabledSafepoints = Log.lock();
+            Log.printCurrentThread(false);
+            Log.print(": Performed handshake for ");
+            Log.println(name);
+            Log.unlock(lockDisabledSafepoints);
+        }
+    }
+
     /**
      * Called on the current thread (which just hit a safepoint) before it is frozen.
      *
@@ -428,9 +498,28 @@ public class VmOperation {
 
     /**
      * Traverses over all frozen threads, applying {@link #doThread(VmThread, Pointer, Pointer, Pointer)} to each one.
+     * If this is a {@link Mode#Handshake} operation, each targeted thread is {@linkplain #handshake(VmThread) handshaked}
+     * in turn instead.
      */
     protected final void doAllThreads() {
-        if (singleThread == null) {
+        if (mode == Mode.Handshake) {
+            if (singleThread == null) {
+                // Handshakes do not hold the thread lock, so take a snapshot of the targeted threads
+                final ArrayList<VmThread> threads = new ArrayList<VmThread>();
+                synchronized (VmThreadMap.THREAD_LOCK) {
+                    VmThreadMap.ACTIVE.forAllThreadLocals(threadPredicate, new Pointer.Procedure() {
+                        public void run(Pointer tla) {
+                            threads.add(VmThread.fromTLA(tla));
+                        }
+                    });
+                }
+                for (VmThread thread : threads) {
+                    handshake(thread);
+                }
+            } else {
+                handshake(singleThread);
+            }
+        } else if (singleThread == null) {
             VmThreadMap.ACTIVE.forAllThreadLocals(threadPredicate, doThreadAdapter);
         } else {
             Pointer tla = singleThread.tla();
@@ -438,6 +527,105 @@ public class VmOperation {
         }
     }
 
+    /**
+     * Applies {@link #doThread(VmThread, Pointer, Pointer, Pointer)} to a given thread without stopping
+     * any other thread. The safepoint latch of the thread is triggered and the thread applies the operation to
+     * itself when it traps at its next safepoint. If it is in native code, it is instead frozen while the
+     * operation is applied by the VM operation thread. The current thread (i.e. the VM operation thread)
+     * is blocked until the operation has been applied or the thread has terminated.
+     * <p>
+     * While the handshaked thread is applying the operation, any VM operation it {@linkplain #submit() submits}
+     * is run as a nested operation of this one. {@link VmThreadMap#THREAD_LOCK} is only held while the thread is
+     * armed or frozen, as a nested operation must be able to take it.
+     *
+     * @param thread the thread to handshake
+     */
+    final void handshake(VmThread thread) {
+        FatalError.check(UseCASBasedThreadFreezing, "Handshakes require CAS based thread freezing");
+        if (frozenByEnclosing(thread)) {
+            callDoThread(thread.tla());
+            return;
+        }
+
+        final int id;
+        synchronized (VmThreadMap.THREAD_LOCK) {
+            id = thread.tla().isZero() ? -1 : thread.id();
+            if (id < 0 || VmThreadMap.ACTIVE.getVmThreadForID(id) != thread) {
+                tracePhase("Skipping handshake with non-running thread");
+                return;
+            }
+            handshakeState.set(HANDSHAKE_ARMED);
+            freezeThread(thread);
+        }
+
+        // Ensures updates to safepoint-related control variables are visible to the
+        // handshaked thread before the VM operation thread reads its state
+        MemoryBarriers.barrier(MemoryBarriers.STORE_LOAD);
+
+        int steps = 0;
+        while (true) {
+            int state = handshakeState.get();
+            if (state == HANDSHAKE_DONE) {
+                break;
+            }
+            if (state == HANDSHAKE_RUNNING) {
+                VmOperationThread.instance().runOperationsSubmittedBy(thread);
+            } else if (handshakeInNative(thread, id)) {
+                break;
+            }
+            waitForThreadFreezePause(thread, steps);
+            steps++;
+        }
+        handshakeState.set(0);
+    }
+
+    /**
+     * Performs the {@linkplain #handshake(VmThread) handshake} on behalf of an armed thread if it is in native code.
+     * The handshake is claimed before the thread is frozen so that the thread cannot start performing it at a
+     * safepoint in between. The claim is undone if the thread returned to Java code before it could be frozen.
+     *
+     * @param thread the handshaked thread
+     * @param id the ID of {@code thread} when it was armed
+     * @return {@code true} if the handshake has been performed or the thread has terminated
+     */
+    private boolean handshakeInNative(VmThread thread, int id) {
+        final Pointer tla;
+        synchronized (VmThreadMap.THREAD_LOCK) {
+            if (VmThreadMap.ACTIVE.getVmThreadForID(id) != thread) {
+                // The thread terminated without reaching a safepoint
+                return true;
+            }
+            tla = thread.tla();
+            final Pointer etla = ETLA.load(tla);
+            if (!MUTATOR_STATE.load(etla).equals(THREAD_IN_NATIVE) || !handshakeState.compareAndSet(HANDSHAKE_ARMED, HANDSHAKE_RUNNING)) {
+                return false;
+            }
+            if (!etla.compareAndSwapWord(MUTATOR_STATE.offset, THREAD_IN_NATIVE, THREAD_IS_FROZEN).equals(THREAD_IN_NATIVE)) {
+                // The thread returned to Java code and will perform the handshake at its next safepoint
+                handshakeState.set(HANDSHAKE_ARMED);
+                return false;
+            }
+        }
+
+        if (TraceVmOperations) {
+            boolean lockDisabledSafepoints = Log.lock();
+            Log.print("VmOperation[");
+            Log.print(name);
+            Log.print("]: Handshaking ");
+            Log.printThread(thread, false);
+            Log.println(" in native code");
+            Log.unlock(lockDisabledSafepoints);
+        }
+        // The frozen thread cannot terminate, so its thread locals remain valid
+        try {
+            callDoThread(tla);
+        } finally {
+            thawThread(thread);
+            handshakeState.set(HANDSHAKE_DONE);
+        }
+        return true;
+    }
+
     /**
      * Performs an operation on a frozen thread. If the thread was stopped in native code
      * before the call to {@link VmThread#run} then the {@code ip}, {@code sp} and
@@ -552,6 +740,7 @@ public class VmOperation {
 
                 tracePhase("-- Begin --");
 
+                final long start = System.nanoTime();
                 freeze();
 
                 // Ensures updates to safepoint-related control variables are visible to all threads
@@ -559,6 +748,7 @@ public class VmOperation {
                 MemoryBarriers.barrier(MemoryBarriers.STORE_LOAD);
 
                 waitUntilFrozen();
+                final long frozen = System.nanoTime();
 
                 boolean oldAtSafepoint = atSafepoint;
                 try {
@@ -583,6 +773,9 @@ public class VmOperation {
 
                 thaw();
 
+                final long end = System.nanoTime();
+                SafepointStatistics.record(this, start, frozen, end, lastToFreeze, lastToFreezeIP);
+                FlightRecorder.safepoint(this, start, frozen, end);
                 tracePhase("-- End --");
             }
 
@@ -595,6 +788,12 @@ public class VmOperation {
                     throw (InternalError) new InternalError().initCause(error);
                 }
             }
+        } else if (mode == Mode.Handshake) {
+            // The thread lock is not held here: a handshaked thread may need it while performing the
+            // handshake, e.g. to be frozen by a nested operation. Each handshake takes it as needed.
+            tracePhase("-- Begin --");
+            run0();
+            tracePhase("-- End --");
         } else {
             run0();
         }
@@ -614,6 +813,8 @@ public class VmOperation {
 
     private void freeze() {
         tracePhase("Freezing thread(s)");
+        lastToFreeze = null;
+        lastToFreezeIP = Pointer.zero();
 
         if (singleThread == null) {
             VmThreadMap.ACTIVE.forAllThreadLocals(threadPredicate, freezeThreadProcedure);
@@ -687,6 +888,17 @@ public class VmOperation {
         return countThreadProcedure.count();
     }
 
+    /**
+     * The last thread that the VM operation thread had to wait for in {@link #waitForThreadFreeze(VmThread)}
+     * during the current execution of this operation, i.e. the thread that delayed the freezing of all threads.
+     */
+    private VmThread lastToFreeze;
+
+    /**
+     * The instruction pointer of {@link #lastToFreeze} when it froze.
+     */
+    private Pointer lastToFreezeIP;
+
     private void waitUntilFrozen() {
         tracePhase("Waiting for thread(s) to freeze");
 
@@ -721,6 +933,10 @@ public class VmOperation {
     private boolean frozenByEnclosing(VmThread thread) {
         if (enclosing != null && enclosing.operateOnThread(thread)) {
             Pointer etla = ETLA.load(thread.tla());
+            if (enclosing.mode == Mode.Handshake) {
+                // A handshake only freezes the thread it is handshaking in native code
+                return VM_OPERATION.loadRef(etla).toJava() == enclosing && MUTATOR_STATE.load(etla).equals(THREAD_IS_FROZEN);
+            }
             // This is a nested operation that operates on 'thread' -> the enclosing operation must have 'thread'
             if (UseCASBasedThreadFreezing) {
                 FatalError.check(MUTATOR_STATE.load(etla).equals(THREAD_IS_FROZEN), "Parent operation did not freeze thread");
@@ -793,6 +1009,11 @@ public class VmOperation {
             }
         }
 
+        if (steps != 0) {
+            lastToFreeze = thread;
+            lastToFreezeIP = SafepointStatistics.frozenIP(tla);
+        }
+
         doAfterFrozen(thread);
 
         if (TraceVmOperations) {
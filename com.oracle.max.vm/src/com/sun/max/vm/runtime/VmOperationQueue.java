@@ -22,6 +22,8 @@
  */
 package com.sun.max.vm.runtime;
 
+import com.sun.max.vm.thread.*;
+
 /**
  * Queue used by the {@link VmOperationThread} to process {@linkplain VmOperationThread#submit(VmOperation) submitted} operations.
  */
@@ -85,6 +87,21 @@ public class VmOperationQueue {
         addLast(node);
     }
 
+    /**
+     * Retrieves and removes the first operation in this queue submitted by a given thread,
+     * or returns {@code null} if there is none.
+     */
+    public VmOperation pollSubmittedBy(VmThread thread) {
+        for (VmOperation node = head.next; node != head; node = node.next) {
+            if (node.callingThread() == thread) {
+                unlink(node);
+                length--;
+                return node;
+            }
+        }
+        return null;
+    }
+
     /**
      * Retrieves and removes the head of this queue,
      * or returns {@code null} if it's empty.
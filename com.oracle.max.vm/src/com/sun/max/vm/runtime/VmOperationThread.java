@@ -340,6 +340,50 @@ public class VmOperationThread extends Thread implements UncaughtExceptionHandle
         }
     }
 
+    /**
+     * Runs the queued operations submitted by a thread that is performing a {@linkplain VmOperation#handshake(VmThread)
+     * handshake} for the current operation. These are run as nested operations as the handshake cannot complete until
+     * they do. This must only be called on the VM operation thread.
+     *
+     * @param thread the handshaked thread
+     */
+    void runOperationsSubmittedBy(VmThread thread) {
+        while (true) {
+            VmOperation operation;
+            synchronized (QUEUE_LOCK) {
+                operation = queue.pollSubmittedBy(thread);
+            }
+            if (operation == null) {
+                return;
+            }
+
+            VmOperation enclosingOperation = currentOperation;
+            if (enclosingOperation.disAllowsNestedOperations) {
+                FatalError.unexpected("Nested VM operation requested when current operation doesn't allow it");
+            }
+            operation.enclosing = enclosingOperation;
+            currentOperation = operation;
+            if (operation.disablesHeapAllocation()) {
+                Heap.disableAllocationForCurrentThread();
+            }
+            try {
+                operation.run();
+            } finally {
+                if (operation.disablesHeapAllocation()) {
+                    Heap.enableAllocationForCurrentThread();
+                }
+                currentOperation = enclosingOperation;
+                operation.enclosing = null;
+                if (operation.mode.isBlocking()) {
+                    synchronized (REQUEST_LOCK) {
+                        operation.callingThread().decrementPendingOperations();
+                        REQUEST_LOCK.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Notifies the VM operation thread that it should stop. The current thread
      * is blocked until the VM thread stops.
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.runtime.amd64;
+
+import com.sun.max.annotate.*;
+import com.sun.max.vm.*;
+import com.sun.max.vm.MaxineVM.Phase;
+
+/**
+ * The instruction set extensions of the AMD64 processor the VM is running on that are used by the
+ * hardware-accelerated intrinsics for CRC-32, AES and SHA. The extensions are detected with the
+ * {@code CPUID} instruction as the VM starts. Code compiled into the boot image must therefore test
+ * for an extension at run time before using the corresponding intrinsic.
+ */
+public final class AMD64CPUFeatures {
+
+    // Bits of the feature flags of CPUID leaf 1 in ECX
+    private static final long PCLMULQDQ = 1L << 1;
+    private static final long SSSE3 = 1L << 9;
+    private static final long SSE4_1 = 1L << 19;
+    private static final long AES = 1L << 25;
+
+    // Bits of the extended feature flags of CPUID leaf 7 in EBX, shifted to the high half
+    private static final long SHA = 1L << (32 + 29);
+
+    private static boolean UseHardwareIntrinsics = true;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "UseHardwareIntrinsics", AMD64CPUFeatures.class,
+            "Use the PCLMULQDQ, AES-NI and SHA instruction set extensions, if available, for CRC-32, AES and SHA.", Phase.PRISTINE);
+    }
+
+    /**
+     * The features of the processor, or 0 while bootstrapping.
+     */
+    private static long features;
+
+    private AMD64CPUFeatures() {
+    }
+
+    /**
+     * Detects the features of the processor. This is called once the native functions of the VM can be called.
+     */
+    public static void initialize() {
+        if (UseHardwareIntrinsics) {
+            features = native_cpuFeatures();
+        }
+    }
+
+    @C_FUNCTION
+    private static native long native_cpuFeatures();
+
+    @INLINE
+    private static boolean has(long mask) {
+        return (features & mask) == mask;
+    }
+
+    /**
+     * Determines if the CRC-32 intrinsic, which needs PCLMULQDQ, can be used.
+     */
+    @INLINE
+    public static boolean useCLMUL() {
+        return has(PCLMULQDQ);
+    }
+
+    /**
+     * Determines if the AES intrinsics, which need AES-NI and SSSE3, can be used.
+     */
+    @INLINE
+    public static boolean useAES() {
+        return has(AES | SSSE3);
+    }
+
+    /**
+     * Determines if the SHA-1 and SHA-256 intrinsics, which need the SHA extensions and SSE4.1, can be used.
+     */
+    @INLINE
+    public static boolean useSHA() {
+        return has(SHA | SSE4_1);
+    }
+}
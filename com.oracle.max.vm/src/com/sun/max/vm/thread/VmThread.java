@@ -52,6 +52,7 @@ import com.sun.max.vm.hosted.*;
 import com.sun.max.vm.jdk.*;
 import com.sun.max.vm.jni.*;
 import com.sun.max.vm.log.*;
+import com.sun.max.vm.log.flight.*;
 import com.sun.max.vm.monitor.modal.sync.*;
 import com.sun.max.vm.object.*;
 import com.sun.max.vm.reference.*;
@@ -284,6 +285,18 @@ public class VmThread {
 
     public JavaMonitor protectedMonitor;
 
+    /**
+     * The head of the list of unbound monitors cached by this thread.
+     *
+     * @see JavaMonitorManager#bindMonitor(Object)
+     */
+    public JavaMonitor monitorCache;
+
+    /**
+     * The number of monitors in {@link #monitorCache}.
+     */
+    public int monitorCacheSize;
+
     private ConditionVariable waitingCondition = ConditionVariableFactory.create();
 
     public final HeapScheme.GCRequest gcRequest = VMConfiguration.vmConfig().heapScheme().createThreadLocalGCRequest(this);
@@ -642,6 +655,7 @@ public class VmThread {
         final VmThread thread = VmThread.current();
 
         VMLog.vmLog().threadStart();
+        FlightRecorder.threadStart(thread);
 
         thread.initializationComplete();
 
@@ -700,6 +714,7 @@ public class VmThread {
         VMTI.handler().threadEnd(thread);
         // possibly flush the log
         VMLog.vmLog().flush(VMLog.FLUSHMODE_EXIT, thread);
+        FlightRecorder.threadEnd(thread);
 
         // If this is the main thread terminating, initiate shutdown hooks after waiting for other non-daemons to terminate
         if (thread == mainThread) {
@@ -812,6 +827,8 @@ public class VmThread {
 
         thread.traceThreadAfterTermination();
 
+        JavaMonitorManager.releaseMonitorCache(thread);
+
         // GC may now reclaim or prepare any of its resources before the thread vanishes forever.
         vmConfig().heapScheme().notifyCurrentThreadDetach();
 
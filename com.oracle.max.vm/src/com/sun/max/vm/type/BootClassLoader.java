@@ -56,6 +56,11 @@ public final class BootClassLoader extends ClassLoader {
      */
     public static final BootClassLoader BOOT_CLASS_LOADER = new BootClassLoader();
 
+    /**
+     * The boot class path. This is not carried over from the boot image generator into the boot image
+     * as its entries may hold open files and memory mappings.
+     */
+    @RESET
     private Classpath classpath;
 
     /**
@@ -63,7 +68,7 @@ public final class BootClassLoader extends ClassLoader {
      */
     private final HashMap<String, String> packages = new HashMap<String, String>();
 
-    public Classpath classpath() {
+    public synchronized Classpath classpath() {
         if (classpath == null) {
             String extraPath = null;
             if (!MaxineVM.isHosted()) {
@@ -116,7 +121,12 @@ public final class BootClassLoader extends ClassLoader {
         return classActor.toJava();
     }
 
-    public synchronized Class<?> findBootstrapClass(String name) {
+    /**
+     * Finds a class on the boot class path. This may be called concurrently by multiple threads, including
+     * the {@linkplain ParallelClassLoading parallel class loading} threads. If several threads define the same
+     * class, {@link ClassRegistry#define(ClassActor)} ensures that they all get the same class.
+     */
+    public Class<?> findBootstrapClass(String name) {
         final Class c = findLoadedClass(name);
         if (c != null) {
             return c;
@@ -379,6 +379,7 @@ public final class ClassRegistry {
         ANNOTATION_DEFAULT_BYTES(MethodActor.class, byte[].class, MethodActor.NO_ANNOTATION_DEFAULT_BYTES),
         ACCESSOR(MethodActor.class, Class.class, null),
         INVOCATION_STUB(false, MethodActor.class, InvocationStub.class, null),
+        REFLECTION_ACCESSOR(MethodActor.class, InvocationStub.class, null),
         RUNTIME_VISIBLE_PARAMETER_ANNOTATION_BYTES(MethodActor.class, byte[].class, MethodActor.NO_RUNTIME_VISIBLE_PARAMETER_ANNOTATION_BYTES);
 
         public static final List<Property> VALUES = java.util.Arrays.asList(values());
@@ -436,6 +437,21 @@ public final class ClassRegistry {
             }
         }
 
+        /**
+         * Sets the value of this property for a given key if it is not already set.
+         *
+         * @param map the mapping from keys to values for this property
+         * @param object the object for which the value of this property is to be set
+         * @param value the value to be set
+         * @return the value of this property for {@code object} after this call
+         */
+        Object setIfAbsent(ConcurrentHashMap<Object, Object> map, Object object, Object value) {
+            assert keyType.isInstance(object);
+            assert value != null && valueType.isInstance(value);
+            final Object oldValue = map.putIfAbsent(object, value);
+            return oldValue != null ? oldValue : value;
+        }
+
         /**
          * Gets the value of this property for a given key.
          *
@@ -463,6 +479,20 @@ public final class ClassRegistry {
         property.set(propertyMaps[property.ordinal()], object, value);
     }
 
+    /**
+     * Sets the value of a given property for a given object if it is not already set. Of several threads racing to
+     * set the property for the same object, all get the value set by the winner.
+     *
+     * @param property the property to set
+     * @param object the object for which the property is to be set
+     * @param value the value of the property
+     * @return the value of the property for {@code object} after this call
+     */
+    public <Key_Type, Value_Type> Value_Type setIfAbsent(Property property, Key_Type object, Value_Type value) {
+        final Class<Value_Type> type = null;
+        return Utils.cast(type, property.setIfAbsent(propertyMaps[property.ordinal()], object, value));
+    }
+
     /**
      * Gets the value of a given property for a given object.
      */
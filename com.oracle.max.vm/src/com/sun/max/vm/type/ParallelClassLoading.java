@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2012, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.max.vm.type;
+
+import static com.sun.max.vm.MaxineVM.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.sun.max.vm.*;
+import com.sun.max.vm.actor.holder.*;
+import com.sun.max.vm.classfile.constant.*;
+import com.sun.max.vm.verifier.*;
+
+/**
+ * A pool of daemon threads that overlap class loading work with the execution of the threads that request it.
+ * <p>
+ * When {@code -XX:ParallelClassLoadingThreads=<n>} is greater than 0, every class defined once the VM is
+ * {@linkplain MaxineVM#isRunning() running} is handed to the pool:
+ * <ul>
+ * <li>If it is to be verified and was defined by the {@linkplain BootClassLoader boot} or {@linkplain VMClassLoader VM}
+ * class loader, it is {@linkplain ClassActor#verifyAhead() verified ahead} of its initialization. Classes of other class
+ * loaders are not handed to the pool, as verifying them may call back into their class loader.</li>
+ * <li>If it was defined by the {@linkplain BootClassLoader boot class loader}, the classes named by the class constants in
+ * its constant pool are loaded (i.e. read from the class path, parsed and defined) by the boot class loader. Most of these
+ * are going to be requested soon after by the thread that loaded the class. The classes loaded this way are themselves
+ * scanned for class constants, up to a depth of {@code -XX:ParallelClassLoadingDepth} so that the pool does not load
+ * the transitive closure of the class library.</li>
+ * </ul>
+ * Loading and verifying ahead is allowed as any errors are discarded by the pool: the classes concerned remain unloaded or
+ * unverified and the error is raised again when (and if) the class is requested or initialized by the application.
+ * Races between a pool thread and an application thread defining the same class are resolved by
+ * {@link ClassRegistry#define(ClassActor)}.
+ */
+public final class ParallelClassLoading {
+
+    static int ParallelClassLoadingThreads;
+    static int ParallelClassLoadingDepth = 1;
+    static boolean TraceParallelClassLoading;
+
+    static {
+        VMOptions.addFieldOption("-XX:", "ParallelClassLoadingThreads", ParallelClassLoading.class,
+            "Number of threads used to load and verify classes ahead of their use (0 disables parallel class loading).");
+        VMOptions.addFieldOption("-XX:", "ParallelClassLoadingDepth", ParallelClassLoading.class,
+            "Maximum number of levels of class constants followed when loading classes ahead of their use.");
+        VMOptions.addFieldOption("-XX:", "TraceParallelClassLoading", ParallelClassLoading.class,
+            "Trace the classes loaded and verified ahead of their use.");
+    }
+
+    private ParallelClassLoading() {
+    }
+
+    /**
+     * The queue of pending tasks, each of which is either a {@link ClassActor} to verify or a {@link LoadTask}.
+     */
+    private static final LinkedList<Object> pending = new LinkedList<Object>();
+
+    /**
+     * Names of the classes that have already been submitted for loading.
+     */
+    private static final ConcurrentHashMap<String, String> submitted = new ConcurrentHashMap<String, String>();
+
+    private static volatile boolean enabled;
+
+    /**
+     * A class to be loaded by the boot class loader.
+     */
+    static final class LoadTask {
+        final String name;
+
+        /**
+         * Number of class constant references followed from a class requested by the application to this class.
+         */
+        final int depth;
+
+        LoadTask(String name, int depth) {
+            this.name = name;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * A daemon thread that loads and verifies classes submitted to the pool.
+     */
+    static final class ClassLoadingThread extends Thread {
+
+        /**
+         * The depth of the {@link LoadTask} being run by this thread, which is the depth of the classes it defines.
+         */
+        int depth;
+
+        ClassLoadingThread(int id) {
+            super("class-loading-" + id);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Object task;
+                synchronized (pending) {
+                    while (pending.isEmpty()) {
+                        try {
+                            pending.wait();
+                        } catch (InterruptedException e) {
+                        }
+                    }
+                    task = pending.removeFirst();
+                }
+                try {
+                    if (task instanceof ClassActor) {
+                        final ClassActor classActor = (ClassActor) task;
+                        if (classActor.verifyAhead()) {
+                            trace("verified ", classActor.name.string);
+                        }
+                    } else {
+                        final LoadTask loadTask = (LoadTask) task;
+                        depth = loadTask.depth;
+                        BootClassLoader.BOOT_CLASS_LOADER.findBootstrapClass(loadTask.name);
+                        trace("loaded ", loadTask.name);
+                    }
+                } catch (Throwable t) {
+                    // Errors are raised again when the class is requested by the application.
+                } finally {
+                    depth = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the pool threads if parallel class loading is enabled. Called once the VM is running.
+     */
+    public static void initialize() {
+        if (ParallelClassLoadingThreads <= 0) {
+            return;
+        }
+        for (int i = 0; i < ParallelClassLoadingThreads; i++) {
+            new ClassLoadingThread(i).start();
+        }
+        enabled = true;
+    }
+
+    private static void submit(Object task) {
+        synchronized (pending) {
+            pending.add(task);
+            pending.notify();
+        }
+    }
+
+    /**
+     * Notifies the pool that a class has been defined.
+     *
+     * @param isRemote specifies if the class was loaded from a remote/untrusted source
+     */
+    public static void classDefined(ClassActor classActor, boolean isRemote) {
+        if (!enabled || isHosted()) {
+            return;
+        }
+        final boolean isBoot = classActor.classLoader == BootClassLoader.BOOT_CLASS_LOADER;
+        if ((isBoot || classActor.isVM()) && !classActor.isReflectionStub() && Verifier.shouldBeVerified(classActor.classLoader, isRemote)) {
+            submit(classActor);
+        }
+        final Thread thread = Thread.currentThread();
+        final int depth = thread instanceof ClassLoadingThread ? ((ClassLoadingThread) thread).depth : 0;
+        if (isBoot && depth < ParallelClassLoadingDepth) {
+            final ConstantPool constantPool = classActor.constantPool();
+            for (int i = 1; i < constantPool.numberOfConstants(); i++) {
+                if (constantPool.tagAt(i) == ConstantPool.Tag.CLASS) {
+                    final TypeDescriptor typeDescriptor = constantPool.classAt(i).typeDescriptor();
+                    if (typeDescriptor.isResolvableWithoutClassLoading(BootClassLoader.BOOT_CLASS_LOADER)) {
+                        continue;
+                    }
+                    final TypeDescriptor elementDescriptor = typeDescriptor.elementTypeDescriptor();
+                    if (JavaTypeDescriptor.isPrimitive(elementDescriptor)) {
+                        continue;
+                    }
+                    final String name = elementDescriptor.toJavaString();
+                    if (submitted.putIfAbsent(name, name) == null) {
+                        submit(new LoadTask(name, depth + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void trace(String action, String name) {
+        if (TraceParallelClassLoading) {
+            final boolean lockDisabledSafepoints = Log.lock();
+            Log.printCurrentThread(false);
+            Log.print(": ");
+            Log.print(action);
+            Log.println(name);
+            Log.unlock(lockDisabledSafepoints);
+        }
+    }
+}